@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+# Measure time-to-ready: from JVM launch until /actuator/health/readiness reports UP.
+# Usage: scripts/startup-benchmark.sh [jar|fast-boot] [runs]
+#   jar        target/nutriconsultas-web-*.jar, started the way the systemd unit starts it
+#   fast-boot  target/fast-boot with the AppCDS archive and the AOT context
+#              (build first with: mvn -Pfast-boot package)
+# Needs the database running and the app environment (.env is loaded like dev-start.sh).
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
+cd "$ROOT"
+
+MODE="${1:-jar}"
+RUNS="${2:-5}"
+PORT="${BENCHMARK_PORT:-3099}"
+TIMEOUT_SECONDS="${BENCHMARK_TIMEOUT_SECONDS:-300}"
+LOG="$(mktemp -t startup-benchmark.XXXXXX.log)"
+
+if [ -f .env ]; then
+  set -a
+  # shellcheck disable=SC1091
+  source .env
+  set +a
+fi
+
+JAR="$(find target -maxdepth 1 -name 'nutriconsultas-web-*.jar' | head -1)"
+if [ -z "$JAR" ]; then
+  echo "No jar in target/; run mvn package (or mvn -Pfast-boot package) first" >&2
+  exit 1
+fi
+# Same heap and GC as infrastructure/scripts/nutriconsultas-app.service
+JAVA_OPTS=(-Xms256m -Xmx512m -XX:+UseG1GC -Djava.net.preferIPv4Stack=true)
+case "$MODE" in
+  jar) ;;
+  fast-boot)
+    JAR="target/fast-boot/$(basename "$JAR")"
+    if [ ! -f "$JAR" ] || [ ! -f target/fast-boot/application.jsa ]; then
+      echo "target/fast-boot is incomplete; run mvn -Pfast-boot package first" >&2
+      exit 1
+    fi
+    JAVA_OPTS+=(-XX:SharedArchiveFile=target/fast-boot/application.jsa -Dspring.aot.enabled=true)
+    ;;
+  *)
+    echo "Unknown mode: $MODE (expected jar or fast-boot)" >&2
+    exit 1
+    ;;
+esac
+
+now_ms() {
+  date +%s%3N
+}
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+  start="$(now_ms)"
+  java "${JAVA_OPTS[@]}" -Dserver.port="$PORT" -jar "$JAR" > "$LOG" 2>&1 &
+  pid=$!
+  until curl -fs "http://localhost:$PORT/actuator/health/readiness" > /dev/null 2>&1; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "Application exited before becoming ready; log: $LOG" >&2
+      exit 1
+    fi
+    if [ $(( $(now_ms) - start )) -gt $(( TIMEOUT_SECONDS * 1000 )) ]; then
+      kill "$pid" 2> /dev/null || true
+      echo "Not ready after ${TIMEOUT_SECONDS}s; log: $LOG" >&2
+      exit 1
+    fi
+    sleep 0.1
+  done
+  elapsed=$(( $(now_ms) - start ))
+  results+=("$elapsed")
+  echo "run $run/$RUNS: ready in ${elapsed} ms"
+  kill "$pid" 2> /dev/null || true
+  wait "$pid" 2> /dev/null || true
+done
+
+sorted=($(printf '%s\n' "${results[@]}" | sort -n))
+count=${#sorted[@]}
+echo "mode=$MODE runs=$count min=${sorted[0]} ms median=${sorted[$((count / 2))]} ms max=${sorted[$((count - 1))]} ms"
+rm -f "$LOG"
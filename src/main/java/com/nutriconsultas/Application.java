@@ -2,13 +2,21 @@ package com.nutriconsultas;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 @SuppressWarnings({ "checkstyle:FinalClass", "checkstyle:HideUtilityClassConstructor" })
 public class Application {
 
+	/**
+	 * Startup steps kept for {@code /rest/platform/startup}; later steps are dropped.
+	 */
+	private static final int STARTUP_STEP_CAPACITY = 10_000;
+
 	public static void main(final String[] args) {
-		SpringApplication.run(Application.class, args);
+		final SpringApplication application = new SpringApplication(Application.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		application.run(args);
 	}
 
 }
@@ -2,6 +2,7 @@ package com.nutriconsultas.admin;
 
 import java.util.Optional;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
@@ -15,12 +16,18 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.nutriconsultas.controller.AbstractPlatformAdminController;
+import com.nutriconsultas.jobs.ClusterJobRunner;
 import com.nutriconsultas.platform.PlatformAdminAuthorization;
+import com.nutriconsultas.subscription.maintenance.MaintenanceBackupRestorer.RestoreSummary;
 import com.nutriconsultas.subscription.maintenance.MaintenanceRetentionProperties;
 import com.nutriconsultas.subscription.maintenance.MaintenanceRetentionService;
 import com.nutriconsultas.subscription.maintenance.MaintenanceRun;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Lazy
 @Controller
+@Slf4j
 @RequestMapping("/admin/platform/maintenance")
 public class MaintenanceAdminController extends AbstractPlatformAdminController {
 
@@ -30,12 +37,16 @@ public class MaintenanceAdminController extends AbstractPlatformAdminController
 
 	private final MaintenanceRetentionProperties maintenanceRetentionProperties;
 
+	private final ClusterJobRunner clusterJobRunner;
+
 	public MaintenanceAdminController(final PlatformAdminAuthorization platformAdminAuthorization,
 			final MaintenanceRetentionService maintenanceRetentionService,
-			final MaintenanceRetentionProperties maintenanceRetentionProperties) {
+			final MaintenanceRetentionProperties maintenanceRetentionProperties,
+			final ClusterJobRunner clusterJobRunner) {
 		super(platformAdminAuthorization);
 		this.maintenanceRetentionService = maintenanceRetentionService;
 		this.maintenanceRetentionProperties = maintenanceRetentionProperties;
+		this.clusterJobRunner = clusterJobRunner;
 	}
 
 	@GetMapping
@@ -49,9 +60,30 @@ public class MaintenanceAdminController extends AbstractPlatformAdminController
 		model.addAttribute("runs", runs);
 		model.addAttribute("retentionDays", maintenanceRetentionProperties.getRetentionDays());
 		model.addAttribute("currentPage", page);
+		model.addAttribute("clusterJobs", clusterJobRunner.jobNames());
+		model.addAttribute("clusterJobRuns", clusterJobRunner.findRecentRuns());
 		return "sbadmin/platform/maintenance/list";
 	}
 
+	/**
+	 * Queues a manual run of a cluster job. If another instance holds the job's lease the
+	 * run is skipped, so a double click never executes the job twice.
+	 */
+	@PostMapping("/jobs/{jobName}/run")
+	public String runClusterJob(@AuthenticationPrincipal final OidcUser principal, @PathVariable final String jobName,
+			final RedirectAttributes redirectAttributes) {
+		requirePlatformAdmin(principal, "maintenance.run-job");
+		final String actorUserId = principal != null ? principal.getSubject() : null;
+		if (clusterJobRunner.triggerAsync(jobName, actorUserId)) {
+			redirectAttributes.addFlashAttribute("successMessage", "Tarea " + jobName
+					+ " solicitada. Si otra instancia ya la está ejecutando, esta solicitud se omite.");
+		}
+		else {
+			redirectAttributes.addFlashAttribute("errorMessage", "No se pudo solicitar la tarea " + jobName + ".");
+		}
+		return "redirect:/admin/platform/maintenance";
+	}
+
 	@PostMapping("/execute")
 	public String execute(@AuthenticationPrincipal final OidcUser principal,
 			final RedirectAttributes redirectAttributes) {
@@ -64,7 +96,8 @@ public class MaintenanceAdminController extends AbstractPlatformAdminController
 		}
 		catch (RuntimeException ex) {
 			redirectAttributes.addFlashAttribute("errorMessage",
-					"La limpieza falló. No se eliminaron datos. Revise el historial de ejecuciones.");
+					"La limpieza falló. La siguiente ejecución reanuda la purga desde el último punto de control; "
+							+ "revise el historial de ejecuciones.");
 		}
 		return "redirect:/admin/platform/maintenance";
 	}
@@ -91,4 +124,27 @@ public class MaintenanceAdminController extends AbstractPlatformAdminController
 		return "redirect:/admin/platform/maintenance";
 	}
 
+	@PostMapping("/runs/{runId}/restore")
+	public String restoreBackup(@AuthenticationPrincipal final OidcUser principal, @PathVariable final String runId,
+			@RequestParam(required = false) final String userId, final RedirectAttributes redirectAttributes) {
+		requirePlatformAdmin(principal, "maintenance.restore");
+		final String actorUserId = principal != null ? principal.getSubject() : null;
+		try {
+			final RestoreSummary summary = maintenanceRetentionService.restoreBackup(runId, userId, actorUserId);
+			redirectAttributes.addFlashAttribute("successMessage", "Respaldo restaurado. Nutriólogos: "
+					+ summary.getTenants().size() + ", registros: " + summary.getRows() + ".");
+			if (!summary.getFailedTenants().isEmpty()) {
+				redirectAttributes.addFlashAttribute("errorMessage",
+						summary.getFailedTenants().size() + " nutriólogo(s) no se restauraron porque ya tienen datos; "
+								+ "los nutriólogos con datos existentes no se sobrescriben.");
+			}
+		}
+		catch (RuntimeException ex) {
+			log.error("Maintenance backup restore failed: runId={}", runId, ex);
+			redirectAttributes.addFlashAttribute("errorMessage",
+					"No se pudo restaurar el respaldo. Los nutriólogos ya restaurados se conservan.");
+		}
+		return "redirect:/admin/platform/maintenance";
+	}
+
 }
@@ -0,0 +1,39 @@
+package com.nutriconsultas.admin;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nutriconsultas.config.StartupBreakdownService;
+import com.nutriconsultas.config.StartupBreakdownService.StartupBreakdown;
+import com.nutriconsultas.platform.PlatformAdminAuthorization;
+
+/**
+ * Where this instance's boot time went: Liquibase, Hibernate, bean creation and startup
+ * listeners. Platform admins only.
+ */
+@RestController
+@RequestMapping("/rest/platform/startup")
+public class StartupBreakdownRestController {
+
+	private final StartupBreakdownService startupBreakdownService;
+
+	private final PlatformAdminAuthorization platformAdminAuthorization;
+
+	public StartupBreakdownRestController(final StartupBreakdownService startupBreakdownService,
+			final PlatformAdminAuthorization platformAdminAuthorization) {
+		this.startupBreakdownService = startupBreakdownService;
+		this.platformAdminAuthorization = platformAdminAuthorization;
+	}
+
+	@GetMapping
+	public ResponseEntity<StartupBreakdown> breakdown(@AuthenticationPrincipal final OidcUser principal) {
+		platformAdminAuthorization.requirePlatformAdmin(principal, "startup.breakdown");
+		final StartupBreakdown breakdown = startupBreakdownService.breakdown();
+		return breakdown != null ? ResponseEntity.ok(breakdown) : ResponseEntity.noContent().build();
+	}
+
+}
@@ -53,10 +53,11 @@ public final class AiAuditLogger {
 			final String tools = formatToolNames(toolNames);
 			final Integer promptTokens = tokenUsage != null ? tokenUsage.promptTokens() : null;
 			final Integer completionTokens = tokenUsage != null ? tokenUsage.completionTokens() : null;
+			final Integer cachedPromptTokens = tokenUsage != null ? tokenUsage.cachedPromptTokens() : null;
 			log.info(
-					"AI audit event=orchestration_complete threadId={} nutritionist={} toolCalls={} tools={} promptTokens={} completionTokens={}",
+					"AI audit event=orchestration_complete threadId={} nutritionist={} toolCalls={} tools={} promptTokens={} completionTokens={} cachedPromptTokens={}",
 					threadId, LogRedaction.redactUserId(nutritionistId), toolCallCount, tools, promptTokens,
-					completionTokens);
+					completionTokens, cachedPromptTokens);
 		}
 	}
 
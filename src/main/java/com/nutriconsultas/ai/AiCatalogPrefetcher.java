@@ -0,0 +1,111 @@
+package com.nutriconsultas.ai;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.nutriconsultas.alimentos.Alimento;
+import com.nutriconsultas.alimentos.AlimentosRepository;
+import com.nutriconsultas.platillos.Platillo;
+import com.nutriconsultas.platillos.PlatilloRepository;
+
+/**
+ * Loads every catalog alimento and platillo referenced by an AI plan up front: one
+ * {@code IN} query for alimentos and one entity-graph query for platillos (with
+ * ingredientes), instead of a lookup per item. Shared by nutrient computation, constraint
+ * evaluation and draft materialization.
+ */
+@Component
+public class AiCatalogPrefetcher {
+
+	private final AlimentosRepository alimentosRepository;
+
+	private final PlatilloRepository platilloRepository;
+
+	public AiCatalogPrefetcher(final AlimentosRepository alimentosRepository,
+			final PlatilloRepository platilloRepository) {
+		this.alimentosRepository = alimentosRepository;
+		this.platilloRepository = platilloRepository;
+	}
+
+	public AiCatalogSnapshot prefetch(@Nullable final Collection<IngestaSlotInput> ingestas) {
+		return prefetchItems(collectItems(ingestas));
+	}
+
+	public AiCatalogSnapshot prefetchItems(@Nullable final Collection<IngestaSlotItemInput> items) {
+		if (items == null || items.isEmpty()) {
+			return AiCatalogSnapshot.empty();
+		}
+		final Set<Long> alimentoIds = new HashSet<>();
+		final Set<Long> platilloIds = new HashSet<>();
+		for (final IngestaSlotItemInput item : items) {
+			final String type = item.type() != null ? item.type().trim().toUpperCase(Locale.ROOT) : "";
+			switch (type) {
+				case "PLATILLO" -> addPositive(platilloIds, item.platilloId());
+				case "ALIMENTO" -> addPositive(alimentoIds, item.alimentoId());
+				case "RECIPE" -> {
+					if (item.ingredients() != null) {
+						item.ingredients().forEach(ingredient -> addPositive(alimentoIds, ingredient.alimentoId()));
+					}
+				}
+				default -> {
+					// invalid types are reported by the caller
+				}
+			}
+		}
+		return new AiCatalogSnapshot(loadAlimentos(alimentoIds), loadPlatillos(platilloIds));
+	}
+
+	public AiCatalogSnapshot prefetchAlimentos(@Nullable final Collection<Long> alimentoIds) {
+		if (alimentoIds == null || alimentoIds.isEmpty()) {
+			return AiCatalogSnapshot.empty();
+		}
+		return new AiCatalogSnapshot(loadAlimentos(alimentoIds), Map.of());
+	}
+
+	private Map<Long, Alimento> loadAlimentos(final Collection<Long> alimentoIds) {
+		if (alimentoIds.isEmpty()) {
+			return Map.of();
+		}
+		final Map<Long, Alimento> byId = new HashMap<>();
+		for (final Alimento alimento : alimentosRepository.findAllById(alimentoIds)) {
+			byId.put(alimento.getId(), alimento);
+		}
+		return byId;
+	}
+
+	private Map<Long, Platillo> loadPlatillos(final Collection<Long> platilloIds) {
+		if (platilloIds.isEmpty()) {
+			return Map.of();
+		}
+		final Map<Long, Platillo> byId = new HashMap<>();
+		for (final Platillo platillo : platilloRepository.findWithIngredientesByIdIn(platilloIds)) {
+			byId.put(platillo.getId(), platillo);
+		}
+		return byId;
+	}
+
+	private static List<IngestaSlotItemInput> collectItems(@Nullable final Collection<IngestaSlotInput> ingestas) {
+		if (ingestas == null) {
+			return List.of();
+		}
+		return ingestas.stream()
+			.filter(ingesta -> ingesta.items() != null)
+			.flatMap(ingesta -> ingesta.items().stream())
+			.toList();
+	}
+
+	private static void addPositive(final Set<Long> ids, @Nullable final Long id) {
+		if (id != null && id > 0) {
+			ids.add(id);
+		}
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.nutriconsultas.ai;
+
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import com.nutriconsultas.alimentos.Alimento;
+import com.nutriconsultas.platillos.Platillo;
+
+/**
+ * Immutable id lookup of catalog alimentos and platillos prefetched for one AI plan.
+ * Platillos carry their ingredientes and ingredient alimentos already loaded.
+ */
+public record AiCatalogSnapshot(Map<Long, Alimento> alimentos, Map<Long, Platillo> platillos) {
+
+	private static final AiCatalogSnapshot EMPTY = new AiCatalogSnapshot(Map.of(), Map.of());
+
+	public AiCatalogSnapshot {
+		alimentos = alimentos == null ? Map.of() : Map.copyOf(alimentos);
+		platillos = platillos == null ? Map.of() : Map.copyOf(platillos);
+	}
+
+	public static AiCatalogSnapshot empty() {
+		return EMPTY;
+	}
+
+	@Nullable
+	public Alimento alimento(@Nullable final Long alimentoId) {
+		return alimentoId == null ? null : alimentos.get(alimentoId);
+	}
+
+	@Nullable
+	public Platillo platillo(@Nullable final Long platilloId) {
+		return platilloId == null ? null : platillos.get(platilloId);
+	}
+
+}
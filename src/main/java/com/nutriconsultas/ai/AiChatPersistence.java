@@ -15,11 +15,14 @@ public class AiChatPersistence {
 
 	private final TransactionTemplate transactions;
 
+	private final AiTokenBudgetService tokenBudget;
+
 	public AiChatPersistence(final AiChatThreadRepository threads, final AiChatMessageRepository messages,
-			final TransactionTemplate transactions) {
+			final TransactionTemplate transactions, final AiTokenBudgetService tokenBudget) {
 		this.threads = threads;
 		this.messages = messages;
 		this.transactions = transactions;
+		this.tokenBudget = tokenBudget;
 	}
 
 	public AiChatThreadRepository getThreadRepository() {
@@ -34,4 +37,12 @@ public class AiChatPersistence {
 		return transactions;
 	}
 
+	/**
+	 * Per-clinic monthly token ledger checked before each turn and fed after each
+	 * completion.
+	 */
+	public AiTokenBudgetService getTokenBudgetService() {
+		return tokenBudget;
+	}
+
 }
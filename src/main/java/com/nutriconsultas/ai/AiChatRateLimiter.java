@@ -4,9 +4,7 @@ import java.util.concurrent.Callable;
 
 import org.springframework.stereotype.Component;
 
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import com.nutriconsultas.ratelimit.ClientRateLimiter;
 
 /**
  * Per-nutritionist rate limiting for AI chat message orchestration (#386).
@@ -18,29 +16,14 @@ public final class AiChatRateLimiter {
 
 	public static final String RATE_LIMIT_USER_MESSAGE = AiErrorMessages.RATE_LIMIT;
 
-	private final RateLimiterRegistry rateLimiterRegistry;
+	private final ClientRateLimiter clientRateLimiter;
 
-	public AiChatRateLimiter(final RateLimiterRegistry rateLimiterRegistry) {
-		this.rateLimiterRegistry = rateLimiterRegistry;
+	public AiChatRateLimiter(final ClientRateLimiter clientRateLimiter) {
+		this.clientRateLimiter = clientRateLimiter;
 	}
 
 	public <T> T executeMessage(final String nutritionistId, final Callable<T> callable) {
-		return execute(AI_CHAT_MESSAGE, nutritionistId, callable);
-	}
-
-	private <T> T execute(final String instanceName, final String nutritionistId, final Callable<T> callable) {
-		final RateLimiter templateLimiter = rateLimiterRegistry.rateLimiter(instanceName);
-		final RateLimiterConfig config = templateLimiter.getRateLimiterConfig();
-		final RateLimiter limiter = rateLimiterRegistry.rateLimiter(instanceName + ":" + nutritionistId, config);
-		try {
-			return RateLimiter.decorateCallable(limiter, callable).call();
-		}
-		catch (RuntimeException ex) {
-			throw ex;
-		}
-		catch (Exception ex) {
-			throw new IllegalStateException("Rate-limited AI chat call failed", ex);
-		}
+		return clientRateLimiter.execute(AI_CHAT_MESSAGE, nutritionistId, callable);
 	}
 
 }
@@ -217,6 +217,29 @@ public class AiChatRestController {
 		AiChatSseSupport.completeQuietly(emitter);
 	}
 
+	@GetMapping("/budget")
+	public ResponseEntity<Map<String, Object>> getTokenBudget(@AuthenticationPrincipal final OidcUser principal) {
+		final String nutritionistId = nutritionistId(principal);
+		if (nutritionistId == null) {
+			return unauthorized();
+		}
+		try {
+			final AiTokenBudgetStatus budget = chatService.getTokenBudget(nutritionistId);
+			final Map<String, Object> response = successBody();
+			response.put("planTier", budget.planTier() != null ? budget.planTier().name() : null);
+			response.put("enforced", budget.enforced());
+			response.put("monthlyLimit", budget.monthlyLimit());
+			response.put("usedTokens", budget.usedTokens());
+			response.put("remainingTokens", budget.remainingTokens());
+			response.put("exhausted", budget.exhausted());
+			response.put("resetsAt", budget.resetsAt());
+			return ResponseEntity.ok(response);
+		}
+		catch (final AiChatException ex) {
+			return errorResponse(ex);
+		}
+	}
+
 	@GetMapping("/{threadId}")
 	public ResponseEntity<Map<String, Object>> getThread(@PathVariable @NonNull final Long threadId,
 			@AuthenticationPrincipal final OidcUser principal) {
@@ -23,6 +23,11 @@ public interface AiChatService {
 	 */
 	List<AiChatDraftSummary> listPendingDrafts(String nutritionistId);
 
+	/**
+	 * Monthly token budget of the nutritionist's clinic for the chat UI.
+	 */
+	AiTokenBudgetStatus getTokenBudget(String nutritionistId);
+
 	AiOrchestrationResult sendMessage(String nutritionistId, long threadId, String message,
 			AiChatPromptContext promptContext);
 
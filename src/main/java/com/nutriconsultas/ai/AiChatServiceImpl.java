@@ -103,6 +103,12 @@ public class AiChatServiceImpl implements AiChatService {
 		return List.copyOf(drafts);
 	}
 
+	@Override
+	public AiTokenBudgetStatus getTokenBudget(@NonNull final String nutritionistId) {
+		assertNutritionistAccess(nutritionistId);
+		return chatPersistence.getTokenBudgetService().getBudget(nutritionistId);
+	}
+
 	@Override
 	@Transactional
 	public AiOrchestrationResult sendMessage(@NonNull final String nutritionistId, final long threadId,
@@ -1,6 +1,7 @@
 package com.nutriconsultas.ai;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -9,7 +10,6 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 import com.nutriconsultas.alimentos.Alimento;
-import com.nutriconsultas.alimentos.AlimentosRepository;
 import com.nutriconsultas.dieta.AlimentoIngesta;
 import com.nutriconsultas.dieta.AlimentoIngestaComparators;
 import com.nutriconsultas.dieta.DietaService;
@@ -20,45 +20,46 @@ import com.nutriconsultas.dieta.PlatilloIngestaMapping;
 import com.nutriconsultas.platillos.Ingrediente;
 import com.nutriconsultas.platillos.Platillo;
 import com.nutriconsultas.platillos.PlatilloCatalogConstants;
-import com.nutriconsultas.platillos.PlatilloRepository;
 
 /**
- * Maps AI draft ingesta slot items into persisted dieta structures.
+ * Maps AI draft ingesta slot items into persisted dieta structures. Catalog rows come
+ * from an {@link AiCatalogSnapshot} prefetched once per draft.
  */
 @Component
 public class AiDraftIngestaMaterializer {
 
-	private final AlimentosRepository alimentosRepository;
-
-	private final PlatilloRepository platilloRepository;
+	private final AiCatalogPrefetcher catalogPrefetcher;
 
 	private final DietaService dietaService;
 
-	public AiDraftIngestaMaterializer(final AlimentosRepository alimentosRepository,
-			final PlatilloRepository platilloRepository, final DietaService dietaService) {
-		this.alimentosRepository = alimentosRepository;
-		this.platilloRepository = platilloRepository;
+	public AiDraftIngestaMaterializer(final AiCatalogPrefetcher catalogPrefetcher, final DietaService dietaService) {
+		this.catalogPrefetcher = catalogPrefetcher;
 		this.dietaService = dietaService;
 	}
 
+	public AiCatalogSnapshot prefetchCatalog(@NonNull final Collection<IngestaSlotInput> ingestas) {
+		return catalogPrefetcher.prefetch(ingestas);
+	}
+
 	public void addItemsToIngesta(@NonNull final Ingesta ingesta, @NonNull final List<IngestaSlotItemInput> items,
-			@NonNull final String nutritionistId) {
+			@NonNull final String nutritionistId, @NonNull final AiCatalogSnapshot catalog) {
 		for (final IngestaSlotItemInput item : items) {
 			final String type = item.type() != null ? item.type().trim().toUpperCase(Locale.ROOT) : "";
 			switch (type) {
-				case "PLATILLO" -> addPlatilloItem(ingesta, item, nutritionistId);
-				case "ALIMENTO" -> addAlimentoItem(ingesta, item);
-				case "RECIPE" -> addRecipeItem(ingesta, item);
+				case "PLATILLO" -> addPlatilloItem(ingesta, item, nutritionistId, catalog);
+				case "ALIMENTO" -> addAlimentoItem(ingesta, item, catalog);
+				case "RECIPE" -> addRecipeItem(ingesta, item, catalog);
 				default -> throw new AiDraftLifecycleException("Tipo de ítem de ingesta no válido.");
 			}
 		}
 	}
 
-	private void addPlatilloItem(final Ingesta ingesta, final IngestaSlotItemInput item, final String nutritionistId) {
+	private void addPlatilloItem(final Ingesta ingesta, final IngestaSlotItemInput item, final String nutritionistId,
+			final AiCatalogSnapshot catalog) {
 		if (item.platilloId() == null || item.platilloId() <= 0) {
 			throw new AiDraftLifecycleException("El platillo no es válido.");
 		}
-		final Platillo platillo = platilloRepository.findById(item.platilloId()).orElse(null);
+		final Platillo platillo = catalog.platillo(item.platilloId());
 		if (platillo == null || !isAuthorizedPlatillo(platillo, nutritionistId)) {
 			throw new AiDraftLifecycleException("No se encontró el platillo solicitado.");
 		}
@@ -80,11 +81,12 @@ public class AiDraftIngestaMaterializer {
 		ingesta.getPlatillos().add(platilloIngesta);
 	}
 
-	private void addAlimentoItem(final Ingesta ingesta, final IngestaSlotItemInput item) {
+	private static void addAlimentoItem(final Ingesta ingesta, final IngestaSlotItemInput item,
+			final AiCatalogSnapshot catalog) {
 		if (item.alimentoId() == null || item.alimentoId() <= 0) {
 			throw new AiDraftLifecycleException("El alimento no es válido.");
 		}
-		final Alimento alimento = alimentosRepository.findById(item.alimentoId()).orElse(null);
+		final Alimento alimento = catalog.alimento(item.alimentoId());
 		if (alimento == null) {
 			throw new AiDraftLifecycleException("No se encontró el alimento solicitado.");
 		}
@@ -94,7 +96,8 @@ public class AiDraftIngestaMaterializer {
 		ingesta.getAlimentos().add(alimentoIngesta);
 	}
 
-	private void addRecipeItem(final Ingesta ingesta, final IngestaSlotItemInput item) {
+	private void addRecipeItem(final Ingesta ingesta, final IngestaSlotItemInput item,
+			final AiCatalogSnapshot catalog) {
 		if (item.ingredients() == null || item.ingredients().isEmpty()) {
 			throw new AiDraftLifecycleException("La receta inline debe incluir ingredientes.");
 		}
@@ -103,7 +106,7 @@ public class AiDraftIngestaMaterializer {
 		platilloIngesta.setIngesta(ingesta);
 		platilloIngesta.setPortions(resolvePortions(item.portions()));
 		for (final RecipeIngredientInput ingredientInput : item.ingredients()) {
-			final Ingrediente calculated = buildCatalogIngrediente(ingredientInput);
+			final Ingrediente calculated = buildCatalogIngrediente(ingredientInput, catalog);
 			final IngredientePlatilloIngesta mapped = PlatilloIngestaMapping
 				.mapFromIngredienteToIngredientePlatilloIngesta(calculated);
 			mapped.setPlatillo(platilloIngesta);
@@ -113,8 +116,9 @@ public class AiDraftIngestaMaterializer {
 		ingesta.getPlatillos().add(platilloIngesta);
 	}
 
-	private Ingrediente buildCatalogIngrediente(final RecipeIngredientInput ingredientInput) {
-		final Alimento alimento = alimentosRepository.findById(ingredientInput.alimentoId()).orElse(null);
+	private static Ingrediente buildCatalogIngrediente(final RecipeIngredientInput ingredientInput,
+			final AiCatalogSnapshot catalog) {
+		final Alimento alimento = catalog.alimento(ingredientInput.alimentoId());
 		if (alimento == null) {
 			throw new AiDraftLifecycleException("No se encontró el alimento solicitado.");
 		}
@@ -82,7 +82,8 @@ public class AiDraftMaterializationServiceImpl implements AiDraftMaterialization
 	public Dieta materializeMenu(@NonNull final MenuDraftPayload payload, @NonNull final String nutritionistId,
 			@NonNull final OidcUser principal) {
 		final Dieta dieta = newDieta(resolveMenuName(payload), nutritionistId, principal);
-		dieta.setIngestas(buildIngestasFromSlots(payload.ingestas(), nutritionistId, 1, 1));
+		final AiCatalogSnapshot catalog = ingestaMaterializer.prefetchCatalog(payload.ingestas());
+		dieta.setIngestas(buildIngestasFromSlots(payload.ingestas(), nutritionistId, 1, 1, catalog));
 		return saveCatalogDieta(dieta, principal, "ai.drafts.accept.menu");
 	}
 
@@ -97,8 +98,10 @@ public class AiDraftMaterializationServiceImpl implements AiDraftMaterialization
 			.stream()
 			.sorted(Comparator.comparingInt(DietPlanDayPayload::dayIndex))
 			.toList();
+		final AiCatalogSnapshot catalog = ingestaMaterializer
+			.prefetchCatalog(sortedDays.stream().flatMap(day -> day.ingestas().stream()).toList());
 		for (final DietPlanDayPayload day : sortedDays) {
-			orden = appendDayIngestas(ingestas, day, nutritionistId, payload.days().size(), orden);
+			orden = appendDayIngestas(ingestas, day, nutritionistId, payload.days().size(), orden, catalog);
 		}
 		dieta.setIngestas(ingestas);
 		return saveCatalogDieta(dieta, principal, "ai.drafts.accept.diet_plan");
@@ -118,11 +121,11 @@ public class AiDraftMaterializationServiceImpl implements AiDraftMaterialization
 	}
 
 	private List<Ingesta> buildIngestasFromSlots(final List<IngestaSlotInput> slots, final String nutritionistId,
-			final int dayIndex, final int totalDays) {
+			final int dayIndex, final int totalDays, final AiCatalogSnapshot catalog) {
 		final List<Ingesta> ingestas = new ArrayList<>();
 		int orden = 1;
 		for (final IngestaSlotInput slot : slots) {
-			final Ingesta ingesta = buildIngestaFromSlot(slot, nutritionistId, dayIndex, totalDays, orden);
+			final Ingesta ingesta = buildIngestaFromSlot(slot, nutritionistId, dayIndex, totalDays, orden, catalog);
 			orden++;
 			ingestas.add(ingesta);
 		}
@@ -130,21 +133,21 @@ public class AiDraftMaterializationServiceImpl implements AiDraftMaterialization
 	}
 
 	private int appendDayIngestas(final List<Ingesta> ingestas, final DietPlanDayPayload day,
-			final String nutritionistId, final int totalDays, final int startOrden) {
+			final String nutritionistId, final int totalDays, final int startOrden, final AiCatalogSnapshot catalog) {
 		int orden = startOrden;
 		for (final IngestaSlotInput slot : day.ingestas()) {
-			ingestas.add(buildIngestaFromSlot(slot, nutritionistId, day.dayIndex(), totalDays, orden));
+			ingestas.add(buildIngestaFromSlot(slot, nutritionistId, day.dayIndex(), totalDays, orden, catalog));
 			orden++;
 		}
 		return orden;
 	}
 
 	private Ingesta buildIngestaFromSlot(final IngestaSlotInput slot, final String nutritionistId, final int dayIndex,
-			final int totalDays, final int orden) {
+			final int totalDays, final int orden, final AiCatalogSnapshot catalog) {
 		final String nombre = resolveIngestaName(slot, dayIndex, totalDays);
 		final Ingesta ingesta = AiDraftIngestaMaterializer.buildIngesta(nombre, orden);
 		if (slot.items() != null && !slot.items().isEmpty()) {
-			ingestaMaterializer.addItemsToIngesta(ingesta, slot.items(), nutritionistId);
+			ingestaMaterializer.addItemsToIngesta(ingesta, slot.items(), nutritionistId, catalog);
 		}
 		return ingesta;
 	}
@@ -1,33 +1,73 @@
 package com.nutriconsultas.ai;
 
+import java.io.IOException;
+
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 /**
- * Deserializes persisted AI draft JSON payloads.
+ * Deserializes persisted AI draft JSON payloads. Readers are built once per payload type;
+ * {@link #topLevelText} streams just one top-level field for callers that only need a
+ * title.
  */
 public final class AiDraftPayloadDeserializer {
 
 	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+	private static final ObjectReader DISH_READER = OBJECT_MAPPER.readerFor(DishDraftPayload.class);
+
+	private static final ObjectReader MENU_READER = OBJECT_MAPPER.readerFor(MenuDraftPayload.class);
+
+	private static final ObjectReader DIET_PLAN_READER = OBJECT_MAPPER.readerFor(DietPlanDraftPayload.class);
+
 	private AiDraftPayloadDeserializer() {
 	}
 
 	public static DishDraftPayload dish(final String jsonPayload) {
-		return read(jsonPayload, DishDraftPayload.class);
+		return read(jsonPayload, DISH_READER);
 	}
 
 	public static MenuDraftPayload menu(final String jsonPayload) {
-		return read(jsonPayload, MenuDraftPayload.class);
+		return read(jsonPayload, MENU_READER);
 	}
 
 	public static DietPlanDraftPayload dietPlan(final String jsonPayload) {
-		return read(jsonPayload, DietPlanDraftPayload.class);
+		return read(jsonPayload, DIET_PLAN_READER);
+	}
+
+	/**
+	 * Returns the text value of a top-level field, skipping every other value without
+	 * binding it; {@code null} when the field is absent or not a string.
+	 */
+	@Nullable
+	public static String topLevelText(final String jsonPayload, final String field) {
+		try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(jsonPayload)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new AiDraftLifecycleException("No se pudo leer el borrador.");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				final String name = parser.currentName();
+				final JsonToken value = parser.nextToken();
+				if (field.equals(name)) {
+					return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+				}
+				parser.skipChildren();
+			}
+			return null;
+		}
+		catch (IOException ex) {
+			throw new AiDraftLifecycleException("No se pudo leer el borrador.", ex);
+		}
 	}
 
-	private static <T> T read(final String jsonPayload, final Class<T> type) {
+	private static <T> T read(final String jsonPayload, final ObjectReader reader) {
 		try {
-			return OBJECT_MAPPER.readValue(jsonPayload, type);
+			return reader.readValue(jsonPayload);
 		}
 		catch (JsonProcessingException ex) {
 			throw new AiDraftLifecycleException("No se pudo leer el borrador.", ex);
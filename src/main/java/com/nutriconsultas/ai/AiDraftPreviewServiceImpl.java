@@ -33,16 +33,16 @@ public class AiDraftPreviewServiceImpl implements AiDraftPreviewService {
 	}
 
 	private AiDraftPreviewView toPreviewView(final AiGeneratedDraft draft) {
-		final String summary = AiDraftSummaryExtractor.summarize(draft);
 		return switch (draft.getDraftType()) {
-			case DISH -> fromDish(draft, summary);
-			case MENU -> fromMenu(draft, summary);
-			case DIET_PLAN -> fromDietPlan(draft, summary);
+			case DISH -> fromDish(draft);
+			case MENU -> fromMenu(draft);
+			case DIET_PLAN -> fromDietPlan(draft);
 		};
 	}
 
-	private AiDraftPreviewView fromDish(final AiGeneratedDraft draft, final String summary) {
+	private AiDraftPreviewView fromDish(final AiGeneratedDraft draft) {
 		final DishDraftPayload payload = AiDraftPayloadDeserializer.dish(draft.getJsonPayload());
+		final String summary = AiDraftSummaryExtractor.withTitle(payload.name());
 		final String reviewLabel = StringUtils.hasText(payload.label()) ? payload.label()
 				: AiDraftSummaryExtractor.REVIEW_LABEL;
 		return new AiDraftPreviewView(draft.getId(), draft.getThread().getId(), draft.getDraftType(), draft.getStatus(),
@@ -53,8 +53,9 @@ public class AiDraftPreviewServiceImpl implements AiDraftPreviewService {
 				createdEntityPath(draft), draft.getPacienteId(), assignsToPatientOnAccept(draft));
 	}
 
-	private AiDraftPreviewView fromMenu(final AiGeneratedDraft draft, final String summary) {
+	private AiDraftPreviewView fromMenu(final AiGeneratedDraft draft) {
 		final MenuDraftPayload payload = AiDraftPayloadDeserializer.menu(draft.getJsonPayload());
+		final String summary = AiDraftSummaryExtractor.withTitle(payload.title());
 		final String reviewLabel = StringUtils.hasText(payload.label()) ? payload.label()
 				: AiDraftSummaryExtractor.REVIEW_LABEL;
 		return new AiDraftPreviewView(draft.getId(), draft.getThread().getId(), draft.getDraftType(), draft.getStatus(),
@@ -65,8 +66,9 @@ public class AiDraftPreviewServiceImpl implements AiDraftPreviewService {
 				draft.getPacienteId(), assignsToPatientOnAccept(draft));
 	}
 
-	private AiDraftPreviewView fromDietPlan(final AiGeneratedDraft draft, final String summary) {
+	private AiDraftPreviewView fromDietPlan(final AiGeneratedDraft draft) {
 		final DietPlanDraftPayload payload = AiDraftPayloadDeserializer.dietPlan(draft.getJsonPayload());
+		final String summary = AiDraftSummaryExtractor.withTitle(payload.title());
 		final String reviewLabel = StringUtils.hasText(payload.label()) ? payload.label()
 				: AiDraftSummaryExtractor.REVIEW_LABEL;
 		final List<Map<String, Object>> mealSlots = new ArrayList<>();
@@ -1,5 +1,6 @@
 package com.nutriconsultas.ai;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 /**
@@ -14,42 +15,29 @@ public final class AiDraftSummaryExtractor {
 	private AiDraftSummaryExtractor() {
 	}
 
+	/**
+	 * Summary for draft lists: streams only the top-level name/title from the persisted
+	 * JSON instead of binding the whole payload.
+	 */
 	public static String summarize(final AiGeneratedDraft draft) {
 		if (draft == null || draft.getDraftType() == null) {
 			return DEFAULT_LABEL;
 		}
+		final String field = draft.getDraftType() == AiDraftType.DISH ? "name" : "title";
 		try {
-			return switch (draft.getDraftType()) {
-				case DISH -> summarizeDish(draft);
-				case MENU -> summarizeMenu(draft);
-				case DIET_PLAN -> summarizeDietPlan(draft);
-			};
+			return withTitle(AiDraftPayloadDeserializer.topLevelText(draft.getJsonPayload(), field));
 		}
 		catch (final AiDraftLifecycleException ex) {
 			return DEFAULT_LABEL;
 		}
 	}
 
-	private static String summarizeDish(final AiGeneratedDraft draft) {
-		final DishDraftPayload payload = AiDraftPayloadDeserializer.dish(draft.getJsonPayload());
-		if (StringUtils.hasText(payload.name())) {
-			return DEFAULT_LABEL + ": " + payload.name().trim();
-		}
-		return DEFAULT_LABEL;
-	}
-
-	private static String summarizeMenu(final AiGeneratedDraft draft) {
-		final MenuDraftPayload payload = AiDraftPayloadDeserializer.menu(draft.getJsonPayload());
-		if (StringUtils.hasText(payload.title())) {
-			return DEFAULT_LABEL + ": " + payload.title().trim();
-		}
-		return DEFAULT_LABEL;
-	}
-
-	private static String summarizeDietPlan(final AiGeneratedDraft draft) {
-		final DietPlanDraftPayload payload = AiDraftPayloadDeserializer.dietPlan(draft.getJsonPayload());
-		if (StringUtils.hasText(payload.title())) {
-			return DEFAULT_LABEL + ": " + payload.title().trim();
+	/**
+	 * Summary from an already parsed payload's name or title.
+	 */
+	public static String withTitle(@Nullable final String title) {
+		if (StringUtils.hasText(title)) {
+			return DEFAULT_LABEL + ": " + title.trim();
 		}
 		return DEFAULT_LABEL;
 	}
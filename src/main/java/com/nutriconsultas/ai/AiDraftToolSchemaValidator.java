@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -23,6 +24,10 @@ import lombok.extern.slf4j.Slf4j;
  * Validates OpenAI draft-tool arguments against JSON Schema before deserialization
  * (#402). Schemas mirror {@code docs/ai/TOOL-CONTRACT.md} and
  * {@code src/main/resources/ai/schemas/draft-tool-input-schemas.json}.
+ * <p>
+ * The schemas are compiled once per JVM with their validators initialized eagerly, and
+ * the {@code bind*} methods parse the arguments a single time: the same tree is validated
+ * and then bound to the typed input record.
  */
 @Component
 @Slf4j
@@ -38,43 +43,38 @@ public final class AiDraftToolSchemaValidator {
 
 	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-	private final JsonSchema dishDraftSchema;
-
-	private final JsonSchema menuDraftSchema;
-
-	private final JsonSchema dietPlanDraftSchema;
-
 	public AiDraftToolSchemaValidator() {
-		final String schemaContent = loadSchemaContent();
-		final JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012,
-				builder -> builder
-					.schemaLoaders(schemaLoaders -> schemaLoaders.schemas(Map.of(SCHEMA_DOCUMENT_ID, schemaContent))));
-		dishDraftSchema = factory.getSchema(SchemaLocation.of(SCHEMA_DOCUMENT_ID + "#/definitions/DishDraftInput"));
-		menuDraftSchema = factory.getSchema(SchemaLocation.of(SCHEMA_DOCUMENT_ID + "#/definitions/MenuDraftInput"));
-		dietPlanDraftSchema = factory
-			.getSchema(SchemaLocation.of(SCHEMA_DOCUMENT_ID + "#/definitions/DietPlanDraftInput"));
+		// Compile at bean creation so a broken schema fails startup, not the first tool
+		// call.
+		Objects.requireNonNull(CompiledSchemas.DISH_DRAFT);
 	}
 
-	public Optional<String> validateDishDraftArguments(final String argumentsJson) {
-		return validate(dishDraftSchema, argumentsJson);
+	public AiToolResult<DishDraftInput> bindDishDraftArguments(final String argumentsJson) {
+		return bind(CompiledSchemas.DISH_DRAFT, argumentsJson, DishDraftInput.class);
 	}
 
-	public Optional<String> validateMenuDraftArguments(final String argumentsJson) {
-		return validate(menuDraftSchema, argumentsJson);
+	public AiToolResult<MenuDraftInput> bindMenuDraftArguments(final String argumentsJson) {
+		return bind(CompiledSchemas.MENU_DRAFT, argumentsJson, MenuDraftInput.class);
 	}
 
-	public Optional<String> validateDietPlanDraftArguments(final String argumentsJson) {
-		return validate(dietPlanDraftSchema, argumentsJson);
+	public AiToolResult<DietPlanDraftInput> bindDietPlanDraftArguments(final String argumentsJson) {
+		return bind(CompiledSchemas.DIET_PLAN_DRAFT, argumentsJson, DietPlanDraftInput.class);
 	}
 
-	private static Optional<String> validate(final JsonSchema schema, final String argumentsJson) {
-		final JsonNode payload;
-		try {
-			payload = OBJECT_MAPPER.readTree(argumentsJson);
+	private static <T> AiToolResult<T> bind(final JsonSchema schema, final String argumentsJson,
+			final Class<T> inputType) {
+		final JsonNode payload = readTree(argumentsJson);
+		if (payload == null) {
+			return AiToolResult.error(AiToolErrorCode.VALIDATION, INVALID_JSON_MESSAGE);
 		}
-		catch (IOException ex) {
-			return Optional.of(INVALID_JSON_MESSAGE);
+		final Optional<String> violation = validate(schema, payload);
+		if (violation.isPresent()) {
+			return AiToolResult.error(AiToolErrorCode.VALIDATION, violation.get());
 		}
+		return AiToolResult.success(AiToolJsonSerializer.convert(payload, inputType));
+	}
+
+	private static Optional<String> validate(final JsonSchema schema, final JsonNode payload) {
 		final Set<ValidationMessage> violations = schema.validate(payload);
 		if (violations.isEmpty()) {
 			return Optional.empty();
@@ -86,6 +86,19 @@ public final class AiDraftToolSchemaValidator {
 		return Optional.of(toSpanishMessage(violations));
 	}
 
+	private static JsonNode readTree(final String argumentsJson) {
+		if (argumentsJson == null) {
+			return null;
+		}
+		try {
+			final JsonNode payload = OBJECT_MAPPER.readTree(argumentsJson);
+			return payload == null || payload.isMissingNode() ? null : payload;
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
 	private static String sampleViolationPaths(final Set<ValidationMessage> violations) {
 		return violations.stream().limit(5).map(message -> {
 			final String path = formatPath(message.getInstanceLocation().toString());
@@ -123,6 +136,40 @@ public final class AiDraftToolSchemaValidator {
 		return " (" + instanceLocation.replace("$.", "").replace('/', '.') + ")";
 	}
 
+	/**
+	 * Holder for the shared draft-tool schemas; compiled on first use and reused by every
+	 * validator instance.
+	 */
+	private static final class CompiledSchemas {
+
+		static final JsonSchema DISH_DRAFT;
+
+		static final JsonSchema MENU_DRAFT;
+
+		static final JsonSchema DIET_PLAN_DRAFT;
+
+		static {
+			final String schemaContent = loadSchemaContent();
+			final JsonSchemaFactory factory = JsonSchemaFactory
+				.getInstance(SpecVersion.VersionFlag.V202012, builder -> builder
+					.schemaLoaders(schemaLoaders -> schemaLoaders.schemas(Map.of(SCHEMA_DOCUMENT_ID, schemaContent))));
+			DISH_DRAFT = compile(factory, "DishDraftInput");
+			MENU_DRAFT = compile(factory, "MenuDraftInput");
+			DIET_PLAN_DRAFT = compile(factory, "DietPlanDraftInput");
+		}
+
+		private CompiledSchemas() {
+		}
+
+		private static JsonSchema compile(final JsonSchemaFactory factory, final String definition) {
+			final JsonSchema schema = factory
+				.getSchema(SchemaLocation.of(SCHEMA_DOCUMENT_ID + "#/definitions/" + definition));
+			schema.initializeValidators();
+			return schema;
+		}
+
+	}
+
 	private static String loadSchemaContent() {
 		try (InputStream inputStream = Thread.currentThread()
 			.getContextClassLoader()
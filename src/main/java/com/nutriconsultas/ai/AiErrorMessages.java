@@ -32,6 +32,9 @@ public final class AiErrorMessages {
 	public static final String RATE_LIMIT = "Has alcanzado el límite de mensajes del asistente de IA. "
 			+ "Intenta de nuevo en unos minutos.";
 
+	public static final String TOKEN_BUDGET_EXCEEDED = "Tu consultorio alcanzó el presupuesto mensual del asistente "
+			+ "de IA. Se restablece el primer día del próximo mes.";
+
 	public static final String EMPTY_MESSAGE = "El mensaje no puede estar vacío.";
 
 	public static final String INVALID_REQUEST = "Solicitud no válida.";
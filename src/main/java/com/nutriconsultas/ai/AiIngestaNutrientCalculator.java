@@ -1,6 +1,7 @@
 package com.nutriconsultas.ai;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -13,31 +14,30 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import com.nutriconsultas.alimentos.Alimento;
-import com.nutriconsultas.alimentos.AlimentosRepository;
 import com.nutriconsultas.platillos.Platillo;
 import com.nutriconsultas.platillos.PlatilloCatalogConstants;
-import com.nutriconsultas.platillos.PlatilloRepository;
 
 /**
- * Computes nutrient totals from AI plan draft structures.
+ * Computes nutrient totals from AI plan draft structures. Catalog rows come from an
+ * {@link AiCatalogSnapshot}; multi-day callers prefetch it once for the whole plan.
  */
 @Component
 public class AiIngestaNutrientCalculator {
 
-	private final AlimentosRepository alimentosRepository;
-
-	private final PlatilloRepository platilloRepository;
+	private final AiCatalogPrefetcher catalogPrefetcher;
 
 	private final CalculateRecipeNutrientsToolService recipeNutrientsToolService;
 
-	public AiIngestaNutrientCalculator(final AlimentosRepository alimentosRepository,
-			final PlatilloRepository platilloRepository,
+	public AiIngestaNutrientCalculator(final AiCatalogPrefetcher catalogPrefetcher,
 			final CalculateRecipeNutrientsToolService recipeNutrientsToolService) {
-		this.alimentosRepository = alimentosRepository;
-		this.platilloRepository = platilloRepository;
+		this.catalogPrefetcher = catalogPrefetcher;
 		this.recipeNutrientsToolService = recipeNutrientsToolService;
 	}
 
+	public AiCatalogSnapshot prefetchCatalog(@Nullable final Collection<IngestaSlotInput> ingestas) {
+		return catalogPrefetcher.prefetch(ingestas);
+	}
+
 	public AiToolResult<IngestaNutrientComputation> computeDish(@NonNull final String nutritionistId,
 			@NonNull final DishPlanInput dish) {
 		if (dish.ingredients() == null || dish.ingredients().isEmpty()) {
@@ -68,6 +68,14 @@ public class AiIngestaNutrientCalculator {
 		if (ingestas == null || ingestas.isEmpty()) {
 			return AiToolResult.error(AiToolErrorCode.VALIDATION, "El plan debe incluir al menos una ingesta.");
 		}
+		return computeIngestas(nutritionistId, ingestas, catalogPrefetcher.prefetch(ingestas));
+	}
+
+	public AiToolResult<IngestaNutrientComputation> computeIngestas(@NonNull final String nutritionistId,
+			@Nullable final List<IngestaSlotInput> ingestas, @NonNull final AiCatalogSnapshot catalog) {
+		if (ingestas == null || ingestas.isEmpty()) {
+			return AiToolResult.error(AiToolErrorCode.VALIDATION, "El plan debe incluir al menos una ingesta.");
+		}
 		NutrientSummary totals = AiNutrientToolSupport.emptyNutrientSummary();
 		final List<PlanConstraintWarning> warnings = new ArrayList<>();
 		final Set<Long> alimentoIds = new HashSet<>();
@@ -76,7 +84,7 @@ public class AiIngestaNutrientCalculator {
 				continue;
 			}
 			for (final IngestaSlotItemInput item : ingesta.items()) {
-				final AiToolResult<ItemNutrientContribution> itemResult = computeItem(nutritionistId, item);
+				final AiToolResult<ItemNutrientContribution> itemResult = computeItem(nutritionistId, item, catalog);
 				if (!itemResult.success()) {
 					return AiToolResult.error(Objects.requireNonNull(itemResult.errorCode()),
 							Objects.requireNonNull(itemResult.message()));
@@ -91,22 +99,22 @@ public class AiIngestaNutrientCalculator {
 	}
 
 	private AiToolResult<ItemNutrientContribution> computeItem(final String nutritionistId,
-			final IngestaSlotItemInput item) {
+			final IngestaSlotItemInput item, final AiCatalogSnapshot catalog) {
 		final String type = item.type() != null ? item.type().trim().toUpperCase(Locale.ROOT) : "";
 		return switch (type) {
-			case "PLATILLO" -> computePlatilloItem(nutritionistId, item);
-			case "ALIMENTO" -> computeAlimentoItem(item);
+			case "PLATILLO" -> computePlatilloItem(nutritionistId, item, catalog);
+			case "ALIMENTO" -> computeAlimentoItem(item, catalog);
 			case "RECIPE" -> computeRecipeItem(nutritionistId, item);
 			default -> AiToolResult.error(AiToolErrorCode.VALIDATION, "Tipo de ítem de ingesta no válido.");
 		};
 	}
 
-	private AiToolResult<ItemNutrientContribution> computePlatilloItem(final String nutritionistId,
-			final IngestaSlotItemInput item) {
+	private static AiToolResult<ItemNutrientContribution> computePlatilloItem(final String nutritionistId,
+			final IngestaSlotItemInput item, final AiCatalogSnapshot catalog) {
 		if (item.platilloId() == null || item.platilloId() <= 0) {
 			return AiToolResult.error(AiToolErrorCode.VALIDATION, "El platillo no es válido.");
 		}
-		final Platillo platillo = platilloRepository.findById(item.platilloId()).orElse(null);
+		final Platillo platillo = catalog.platillo(item.platilloId());
 		if (platillo == null || !isAuthorizedPlatillo(platillo, nutritionistId)) {
 			return AiToolResult.error(AiToolErrorCode.NOT_FOUND, "No se encontró el platillo solicitado.");
 		}
@@ -122,11 +130,12 @@ public class AiIngestaNutrientCalculator {
 		return AiToolResult.success(new ItemNutrientContribution(nutrients, List.of(), alimentoIds));
 	}
 
-	private AiToolResult<ItemNutrientContribution> computeAlimentoItem(final IngestaSlotItemInput item) {
+	private static AiToolResult<ItemNutrientContribution> computeAlimentoItem(final IngestaSlotItemInput item,
+			final AiCatalogSnapshot catalog) {
 		if (item.alimentoId() == null || item.alimentoId() <= 0) {
 			return AiToolResult.error(AiToolErrorCode.VALIDATION, "El alimento no es válido.");
 		}
-		final Alimento alimento = alimentosRepository.findById(item.alimentoId()).orElse(null);
+		final Alimento alimento = catalog.alimento(item.alimentoId());
 		if (alimento == null) {
 			return AiToolResult.error(AiToolErrorCode.NOT_FOUND, "No se encontró el alimento solicitado.");
 		}
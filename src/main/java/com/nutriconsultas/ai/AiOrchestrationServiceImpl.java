@@ -58,6 +58,7 @@ public class AiOrchestrationServiceImpl implements AiOrchestrationService {
 	@Transactional
 	public AiOrchestrationResult processUserMessage(final AiOrchestrationContext context, final String userMessage) {
 		assertOperational();
+		chatPersistence.getTokenBudgetService().assertWithinBudget(context.nutritionistId());
 		final String sanitizedMessage = validateUserMessage(userMessage);
 		final AiChatThread thread = loadThread(context);
 		persistUserMessage(thread, sanitizedMessage);
@@ -85,6 +86,7 @@ public class AiOrchestrationServiceImpl implements AiOrchestrationService {
 	public void processUserMessageStreaming(final AiOrchestrationContext context, final String userMessage,
 			final AiStreamEventConsumer streamConsumer) {
 		assertOperational();
+		chatPersistence.getTokenBudgetService().assertWithinBudget(context.nutritionistId());
 		final String sanitizedMessage = validateUserMessage(userMessage);
 		final AiChatThread thread = chatPersistence.getTransactionTemplate().execute(status -> {
 			final AiChatThread loaded = loadThread(context);
@@ -151,6 +153,9 @@ public class AiOrchestrationServiceImpl implements AiOrchestrationService {
 			throw new AiOrchestrationException("El asistente de IA no está habilitado.");
 		}
 		if (!openAiClientService.isAvailable()) {
+			if (properties.isOpenAiCircuitOpen()) {
+				throw new AiOrchestrationException(AiErrorMessages.OPENAI_UNAVAILABLE);
+			}
 			throw new AiOrchestrationException(properties.getMisconfigurationUserMessage());
 		}
 	}
@@ -248,7 +253,8 @@ public class AiOrchestrationServiceImpl implements AiOrchestrationService {
 			}
 			final OpenAiChatCompletionResponse response = openAiClientService
 				.chatCompletion(new OpenAiChatCompletionRequest(List.copyOf(conversation), sessionTools));
-			accumulatedUsage = mergeUsage(accumulatedUsage, response.usage());
+			chatPersistence.getTokenBudgetService().recordUsage(context.nutritionistId(), response.usage());
+			accumulatedUsage = OpenAiTokenUsage.merge(accumulatedUsage, response.usage());
 			assistantContent = response.content();
 
 			if (!response.hasToolCalls()) {
@@ -280,7 +286,8 @@ public class AiOrchestrationServiceImpl implements AiOrchestrationService {
 			if (budgetExhaustedInBatch) {
 				orchestrationTools.getAuditLogger().logMaxToolCallsReached(context.threadId(), maxToolCalls);
 				final FinalAnswerOutcome finalAnswer = requestFinalAnswerAfterToolLimit(conversation, streamConsumer);
-				accumulatedUsage = mergeUsage(accumulatedUsage, finalAnswer.usage());
+				chatPersistence.getTokenBudgetService().recordUsage(context.nutritionistId(), finalAnswer.usage());
+				accumulatedUsage = OpenAiTokenUsage.merge(accumulatedUsage, finalAnswer.usage());
 				assistantContent = finalAnswer.content();
 				break;
 			}
@@ -371,18 +378,6 @@ public class AiOrchestrationServiceImpl implements AiOrchestrationService {
 		return entries.stream().map(ToolAuditEntry::toolName).toList();
 	}
 
-	private static OpenAiTokenUsage mergeUsage(final OpenAiTokenUsage accumulated, final OpenAiTokenUsage latest) {
-		if (latest == null) {
-			return accumulated;
-		}
-		if (accumulated == null) {
-			return latest;
-		}
-		return new OpenAiTokenUsage(accumulated.promptTokens() + latest.promptTokens(),
-				accumulated.completionTokens() + latest.completionTokens(),
-				accumulated.totalTokens() + latest.totalTokens());
-	}
-
 	private record ToolAuditEntry(String toolName, String resultJson) {
 	}
 
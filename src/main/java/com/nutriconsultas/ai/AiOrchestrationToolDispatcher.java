@@ -1,7 +1,7 @@
 package com.nutriconsultas.ai;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
 
 import org.springframework.stereotype.Service;
 
@@ -138,32 +138,36 @@ public class AiOrchestrationToolDispatcher {
 
 	private AiToolResult<AiDraftCreationData> createDishDraft(final AiOrchestrationContext context,
 			final String argumentsJson) {
-		final Optional<String> schemaViolation = draftToolSchemaValidator.validateDishDraftArguments(argumentsJson);
-		if (schemaViolation.isPresent()) {
-			return AiToolResult.error(AiToolErrorCode.VALIDATION, schemaViolation.get());
+		final AiToolResult<DishDraftInput> binding = draftToolSchemaValidator.bindDishDraftArguments(argumentsJson);
+		if (!binding.success()) {
+			return AiToolResult.error(Objects.requireNonNull(binding.errorCode()),
+					Objects.requireNonNull(binding.message()));
 		}
-		final DishDraftInput input = AiToolJsonSerializer.fromJson(argumentsJson, DishDraftInput.class);
-		return createDishDraftToolService.createDraft(context.nutritionistId(), context.threadId(), input);
+		return createDishDraftToolService.createDraft(context.nutritionistId(), context.threadId(),
+				Objects.requireNonNull(binding.data()));
 	}
 
 	private AiToolResult<AiDraftCreationData> createMenuDraft(final AiOrchestrationContext context,
 			final String argumentsJson) {
-		final Optional<String> schemaViolation = draftToolSchemaValidator.validateMenuDraftArguments(argumentsJson);
-		if (schemaViolation.isPresent()) {
-			return AiToolResult.error(AiToolErrorCode.VALIDATION, schemaViolation.get());
+		final AiToolResult<MenuDraftInput> binding = draftToolSchemaValidator.bindMenuDraftArguments(argumentsJson);
+		if (!binding.success()) {
+			return AiToolResult.error(Objects.requireNonNull(binding.errorCode()),
+					Objects.requireNonNull(binding.message()));
 		}
-		final MenuDraftInput input = AiToolJsonSerializer.fromJson(argumentsJson, MenuDraftInput.class);
-		return createMenuDraftToolService.createDraft(context.nutritionistId(), context.threadId(), input);
+		return createMenuDraftToolService.createDraft(context.nutritionistId(), context.threadId(),
+				Objects.requireNonNull(binding.data()));
 	}
 
 	private AiToolResult<AiDraftCreationData> createDietPlanDraft(final AiOrchestrationContext context,
 			final String argumentsJson) {
-		final Optional<String> schemaViolation = draftToolSchemaValidator.validateDietPlanDraftArguments(argumentsJson);
-		if (schemaViolation.isPresent()) {
-			return AiToolResult.error(AiToolErrorCode.VALIDATION, schemaViolation.get());
-		}
-		final DietPlanDraftInput input = AiToolJsonSerializer.fromJson(argumentsJson, DietPlanDraftInput.class);
-		return createDietPlanDraftToolService.createDraft(context.nutritionistId(), context.threadId(), input);
+		final AiToolResult<DietPlanDraftInput> binding = draftToolSchemaValidator
+			.bindDietPlanDraftArguments(argumentsJson);
+		if (!binding.success()) {
+			return AiToolResult.error(Objects.requireNonNull(binding.errorCode()),
+					Objects.requireNonNull(binding.message()));
+		}
+		return createDietPlanDraftToolService.createDraft(context.nutritionistId(), context.threadId(),
+				Objects.requireNonNull(binding.data()));
 	}
 
 	private AiToolResult<PatientAppointmentsData> getPatientAppointments(final AiOrchestrationContext context,
@@ -1,6 +1,7 @@
 package com.nutriconsultas.ai;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -10,7 +11,6 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 import com.nutriconsultas.alimentos.Alimento;
-import com.nutriconsultas.alimentos.AlimentosRepository;
 
 /**
  * Evaluates computed nutrients against plan constraints and patient context.
@@ -22,17 +22,34 @@ public final class AiPlanConstraintEvaluator {
 	private AiPlanConstraintEvaluator() {
 	}
 
+	/**
+	 * Alimento ids whose catalog names {@link #evaluate} needs: plan alimentos when the
+	 * patient has allergies, plus excluded alimentos present in the plan. Callers load
+	 * them in one query and pass the result as the evaluation catalog.
+	 */
+	public static Set<Long> catalogIdsToResolve(final ValidatePlanConstraintsRequest request,
+			@Nullable final AiPatientPromptContext patientContext, final Set<Long> alimentoIds) {
+		final Set<Long> ids = new HashSet<>();
+		if (patientContext != null && StringUtils.hasText(patientContext.alergias())) {
+			ids.addAll(alimentoIds);
+		}
+		if (request.excludedAlimentoIds() != null) {
+			request.excludedAlimentoIds().stream().filter(alimentoIds::contains).forEach(ids::add);
+		}
+		return ids;
+	}
+
 	public static List<PlanConstraintWarning> evaluate(final NutrientSummary computed,
 			final ValidatePlanConstraintsRequest request, @Nullable final AiPatientPromptContext patientContext,
-			final Set<Long> alimentoIds, final AlimentosRepository alimentosRepository) {
+			final Set<Long> alimentoIds, final AiCatalogSnapshot catalog) {
 		final List<PlanConstraintWarning> warnings = new ArrayList<>();
 		final Double targetKcal = resolveTargetKcal(request, patientContext);
 		final double tolerance = request.toleranceKcal() != null ? request.toleranceKcal() : DEFAULT_TOLERANCE_KCAL;
 		evaluateKcal(computed, targetKcal, tolerance, warnings);
 		evaluateProtein(computed, request.targetProteinaG(), warnings);
 		evaluateSodium(computed, request.maxSodioMg(), warnings);
-		evaluateExclusions(alimentoIds, request.excludedAlimentoIds(), alimentosRepository, warnings);
-		evaluateAllergies(alimentoIds, patientContext, alimentosRepository, warnings);
+		evaluateExclusions(alimentoIds, request.excludedAlimentoIds(), catalog, warnings);
+		evaluateAllergies(alimentoIds, patientContext, catalog, warnings);
 		evaluatePathologyNotes(patientContext, warnings);
 		return warnings;
 	}
@@ -116,15 +133,14 @@ public final class AiPlanConstraintEvaluator {
 	}
 
 	private static void evaluateExclusions(final Set<Long> alimentoIds, @Nullable final List<Long> excludedAlimentoIds,
-			final AlimentosRepository alimentosRepository, final List<PlanConstraintWarning> warnings) {
+			final AiCatalogSnapshot catalog, final List<PlanConstraintWarning> warnings) {
 		if (excludedAlimentoIds == null || excludedAlimentoIds.isEmpty()) {
 			return;
 		}
 		for (final Long excludedId : excludedAlimentoIds) {
 			if (alimentoIds.contains(excludedId)) {
-				final String name = alimentosRepository.findById(excludedId)
-					.map(Alimento::getNombreAlimento)
-					.orElse("ID " + excludedId);
+				final Alimento excluded = catalog.alimento(excludedId);
+				final String name = excluded != null ? excluded.getNombreAlimento() : "ID " + excludedId;
 				warnings.add(new PlanConstraintWarning(PlanConstraintWarningCode.ALLERGY_RISK,
 						"El plan incluye un alimento excluido: " + name + ".", PlanConstraintWarningSeverity.ERROR));
 			}
@@ -132,19 +148,18 @@ public final class AiPlanConstraintEvaluator {
 	}
 
 	private static void evaluateAllergies(final Set<Long> alimentoIds,
-			@Nullable final AiPatientPromptContext patientContext, final AlimentosRepository alimentosRepository,
+			@Nullable final AiPatientPromptContext patientContext, final AiCatalogSnapshot catalog,
 			final List<PlanConstraintWarning> warnings) {
 		if (patientContext == null || !StringUtils.hasText(patientContext.alergias())) {
 			return;
 		}
 		for (final Long alimentoId : alimentoIds) {
-			alimentosRepository.findById(alimentoId).ifPresent(alimento -> {
-				if (matchesAllergy(alimento.getNombreAlimento(), patientContext.alergias())) {
-					warnings.add(new PlanConstraintWarning(PlanConstraintWarningCode.ALLERGY_RISK,
-							"Posible alérgeno en el plan: " + alimento.getNombreAlimento() + ".",
-							PlanConstraintWarningSeverity.ERROR));
-				}
-			});
+			final Alimento alimento = catalog.alimento(alimentoId);
+			if (alimento != null && matchesAllergy(alimento.getNombreAlimento(), patientContext.alergias())) {
+				warnings.add(new PlanConstraintWarning(PlanConstraintWarningCode.ALLERGY_RISK,
+						"Posible alérgeno en el plan: " + alimento.getNombreAlimento() + ".",
+						PlanConstraintWarningSeverity.ERROR));
+			}
 		}
 	}
 
@@ -22,6 +22,8 @@ public class AiProperties {
 
 	private OpenAi openai = new OpenAi();
 
+	private TokenBudget tokenBudget = new TokenBudget();
+
 	private int maxToolCalls = DEFAULT_MAX_TOOL_CALLS;
 
 	private int maxUserMessageLength = DEFAULT_MAX_USER_MESSAGE_LENGTH;
@@ -36,6 +38,12 @@ public class AiProperties {
 
 	private int scopeClassifierMaxTokens = 200;
 
+	/**
+	 * Runtime state fed by the OpenAI transport circuit breaker; not bound from
+	 * configuration.
+	 */
+	private volatile boolean openAiCircuitOpen;
+
 	public boolean isEnabled() {
 		return enabled;
 	}
@@ -52,6 +60,14 @@ public class AiProperties {
 		this.openai = openai != null ? openai : new OpenAi();
 	}
 
+	public TokenBudget getTokenBudget() {
+		return tokenBudget;
+	}
+
+	public void setTokenBudget(final TokenBudget tokenBudget) {
+		this.tokenBudget = tokenBudget != null ? tokenBudget : new TokenBudget();
+	}
+
 	public int getMaxToolCalls() {
 		return maxToolCalls;
 	}
@@ -137,6 +153,18 @@ public class AiProperties {
 		return enabled && isOpenAiConfigured();
 	}
 
+	/**
+	 * {@code true} while the OpenAI circuit breaker is open; chat requests fail fast with
+	 * {@link AiErrorMessages#OPENAI_UNAVAILABLE} until it half-opens again.
+	 */
+	public boolean isOpenAiCircuitOpen() {
+		return openAiCircuitOpen;
+	}
+
+	void markOpenAiCircuitOpen(final boolean open) {
+		this.openAiCircuitOpen = open;
+	}
+
 	public boolean isEnabledButMisconfigured() {
 		return enabled && !isOpenAiConfigured();
 	}
@@ -162,6 +190,22 @@ public class AiProperties {
 
 		private int readTimeoutMs = 120_000;
 
+		private int maxRetries = 2;
+
+		private int retryBaseDelayMs = 500;
+
+		private int retryMaxDelayMs = 10_000;
+
+		private int maxConcurrentCalls = 32;
+
+		private int bulkheadMaxWaitMs = 2_000;
+
+		private int circuitBreakerFailureRateThreshold = 50;
+
+		private int circuitBreakerMinimumCalls = 10;
+
+		private int circuitBreakerOpenStateMs = 30_000;
+
 		public String getApiKey() {
 			return apiKey;
 		}
@@ -225,6 +269,114 @@ public class AiProperties {
 			this.readTimeoutMs = Math.max(readTimeoutMs, 5_000);
 		}
 
+		public int getMaxRetries() {
+			return maxRetries;
+		}
+
+		public void setMaxRetries(final int maxRetries) {
+			this.maxRetries = clampScopeLimit(maxRetries, 0, 5);
+		}
+
+		public int getRetryBaseDelayMs() {
+			return retryBaseDelayMs;
+		}
+
+		public void setRetryBaseDelayMs(final int retryBaseDelayMs) {
+			this.retryBaseDelayMs = clampScopeLimit(retryBaseDelayMs, 10, 10_000);
+		}
+
+		public int getRetryMaxDelayMs() {
+			return Math.max(retryMaxDelayMs, retryBaseDelayMs);
+		}
+
+		public void setRetryMaxDelayMs(final int retryMaxDelayMs) {
+			this.retryMaxDelayMs = clampScopeLimit(retryMaxDelayMs, 10, 60_000);
+		}
+
+		public int getMaxConcurrentCalls() {
+			return maxConcurrentCalls;
+		}
+
+		public void setMaxConcurrentCalls(final int maxConcurrentCalls) {
+			this.maxConcurrentCalls = clampScopeLimit(maxConcurrentCalls, 1, 256);
+		}
+
+		public int getBulkheadMaxWaitMs() {
+			return bulkheadMaxWaitMs;
+		}
+
+		public void setBulkheadMaxWaitMs(final int bulkheadMaxWaitMs) {
+			this.bulkheadMaxWaitMs = clampScopeLimit(bulkheadMaxWaitMs, 0, 30_000);
+		}
+
+		public int getCircuitBreakerFailureRateThreshold() {
+			return circuitBreakerFailureRateThreshold;
+		}
+
+		public void setCircuitBreakerFailureRateThreshold(final int circuitBreakerFailureRateThreshold) {
+			this.circuitBreakerFailureRateThreshold = clampScopeLimit(circuitBreakerFailureRateThreshold, 1, 100);
+		}
+
+		public int getCircuitBreakerMinimumCalls() {
+			return circuitBreakerMinimumCalls;
+		}
+
+		public void setCircuitBreakerMinimumCalls(final int circuitBreakerMinimumCalls) {
+			this.circuitBreakerMinimumCalls = clampScopeLimit(circuitBreakerMinimumCalls, 2, 100);
+		}
+
+		public int getCircuitBreakerOpenStateMs() {
+			return circuitBreakerOpenStateMs;
+		}
+
+		public void setCircuitBreakerOpenStateMs(final int circuitBreakerOpenStateMs) {
+			this.circuitBreakerOpenStateMs = clampScopeLimit(circuitBreakerOpenStateMs, 1_000, 600_000);
+		}
+
+	}
+
+	/**
+	 * Monthly token budget enforcement (limits come from
+	 * {@link com.nutriconsultas.subscription.PlanEntitlements#getAiMonthlyTokenBudget()}).
+	 * The flush interval ({@code nutriconsultas.ai.token-budget.flush-interval-ms}) is
+	 * read directly by the scheduler.
+	 */
+	public static class TokenBudget {
+
+		private boolean enabled = true;
+
+		private int flushBatchSize = 200;
+
+		private int cacheTtlMs = 60_000;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getFlushBatchSize() {
+			return flushBatchSize;
+		}
+
+		public void setFlushBatchSize(final int flushBatchSize) {
+			this.flushBatchSize = clampScopeLimit(flushBatchSize, 1, 1_000);
+		}
+
+		/**
+		 * How long resolved plans and persisted monthly totals are reused before the next
+		 * admission check reloads them.
+		 */
+		public int getCacheTtlMs() {
+			return cacheTtlMs;
+		}
+
+		public void setCacheTtlMs(final int cacheTtlMs) {
+			this.cacheTtlMs = clampScopeLimit(cacheTtlMs, 0, 600_000);
+		}
+
 	}
 
 }
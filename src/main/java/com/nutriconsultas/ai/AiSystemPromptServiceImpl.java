@@ -3,8 +3,11 @@ package com.nutriconsultas.ai;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.springframework.core.io.ClassPathResource;
@@ -35,21 +38,63 @@ public class AiSystemPromptServiceImpl implements AiSystemPromptService {
 
 	private static final String TEMPLATE_PATH = "ai/system-prompt-base.txt";
 
-	private final String baseTemplate;
+	private static final String FIRST_CONTEXT_PLACEHOLDER = "{{NUTRITIONIST_CONTEXT}}";
+
+	/**
+	 * Bound on memoized prompts. Contexts are records, so equal inputs (same patient,
+	 * dieta and platillo snapshot) hit the same entry on every turn of a conversation.
+	 */
+	static final int MAX_CACHED_PROMPTS = 256;
+
+	/**
+	 * Template text before the first per-session section. Everything up to here only
+	 * depends on the locale, so it is the stable prefix the provider can cache.
+	 */
+	private final String staticTemplate;
+
+	private final String contextTemplate;
+
+	private final Map<String, String> staticPrefixByLocale = new ConcurrentHashMap<>();
+
+	private final Map<AiSystemPromptContext, String> promptsByContext = Collections
+		.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<AiSystemPromptContext, String> eldest) {
+				return size() > MAX_CACHED_PROMPTS;
+			}
+
+		});
 
 	public AiSystemPromptServiceImpl() {
-		this.baseTemplate = loadBaseTemplate();
+		final String baseTemplate = loadBaseTemplate();
+		final int contextStart = baseTemplate.indexOf(FIRST_CONTEXT_PLACEHOLDER);
+		this.staticTemplate = contextStart < 0 ? baseTemplate : baseTemplate.substring(0, contextStart);
+		this.contextTemplate = contextStart < 0 ? "" : baseTemplate.substring(contextStart);
 	}
 
 	@Override
 	public String buildSystemPrompt(final AiSystemPromptContext context) {
 		final AiSystemPromptContext resolved = context != null ? context : AiSystemPromptContext.defaultNutritionist();
-		final String localeTag = resolved.locale().toLanguageTag();
-		return baseTemplate.replace("{{LOCALE}}", localeTag)
-			.replace("{{NUTRITIONIST_CONTEXT}}", formatNutritionistContext(resolved))
-			.replace("{{PATIENT_CONTEXT}}", formatPatientContext(resolved.patientContext()))
-			.replace("{{DIETA_CONTEXT}}", formatDietaContext(resolved.dietaContext()))
-			.replace("{{PLATILLO_CONTEXT}}", formatPlatilloContext(resolved.platilloContext()));
+		final String cached = promptsByContext.get(resolved);
+		if (cached != null) {
+			return cached;
+		}
+		final String prompt = render(resolved);
+		promptsByContext.put(resolved, prompt);
+		return prompt;
+	}
+
+	private String render(final AiSystemPromptContext context) {
+		final String staticPrefix = staticPrefixByLocale.computeIfAbsent(context.locale().toLanguageTag(),
+				localeTag -> staticTemplate.replace("{{LOCALE}}", localeTag));
+		return staticPrefix + contextTemplate.replace("{{LOCALE}}", context.locale().toLanguageTag())
+			.replace(FIRST_CONTEXT_PLACEHOLDER, formatNutritionistContext(context))
+			.replace("{{PATIENT_CONTEXT}}", formatPatientContext(context.patientContext()))
+			.replace("{{DIETA_CONTEXT}}", formatDietaContext(context.dietaContext()))
+			.replace("{{PLATILLO_CONTEXT}}", formatPlatilloContext(context.platilloContext()));
 	}
 
 	private String formatNutritionistContext(final AiSystemPromptContext context) {
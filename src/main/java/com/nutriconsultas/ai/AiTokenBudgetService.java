@@ -0,0 +1,33 @@
+package com.nutriconsultas.ai;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Monthly OpenAI token accounting per nutritionist and clinic, with admission control
+ * against the plan budget in
+ * {@link com.nutriconsultas.subscription.PlanEntitlements#getAiMonthlyTokenBudget()}.
+ */
+public interface AiTokenBudgetService {
+
+	/**
+	 * Rejects the turn before any completion starts when the clinic already spent its
+	 * monthly budget.
+	 * @throws AiChatException 429 with {@link AiToolErrorCode#RATE_LIMIT} when exhausted
+	 */
+	void assertWithinBudget(@NonNull String nutritionistId);
+
+	/**
+	 * Buffers the usage of one completion; it is persisted by the next {@link #flush()}.
+	 */
+	void recordUsage(@NonNull String nutritionistId, @Nullable OpenAiTokenUsage usage);
+
+	AiTokenBudgetStatus getBudget(@NonNull String nutritionistId);
+
+	/**
+	 * Writes buffered usage to {@code ai_token_usage}.
+	 * @return usage rows written
+	 */
+	int flush();
+
+}
@@ -0,0 +1,275 @@
+package com.nutriconsultas.ai;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.nutriconsultas.subscription.EffectivePlan;
+import com.nutriconsultas.subscription.SubscriptionEntitlementService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Buffers completion usage in a {@link ConcurrentHashMap} keyed by nutritionist, clinic
+ * and month — {@code merge} only locks the key's bin, so concurrent chats from different
+ * nutritionists never contend — and flushes the deltas in batched transactions. Admission
+ * compares the plan budget with persisted usage (cached for
+ * {@link AiProperties.TokenBudget#getCacheTtlMs()}) plus the unflushed buffer. Each
+ * instance only sees its own buffer, so across instances the budget is soft by at most
+ * one flush interval of usage.
+ */
+@Service
+@Slf4j
+public class AiTokenBudgetServiceImpl implements AiTokenBudgetService {
+
+	static final int MAX_CACHED_ENTRIES = 10_000;
+
+	private final AiProperties properties;
+
+	private final SubscriptionEntitlementService entitlementService;
+
+	private final AiTokenUsageRepository usageRepository;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final AiUsageMetrics usageMetrics;
+
+	private final Clock clock;
+
+	private final Map<UsageKey, UsageDelta> pending = new ConcurrentHashMap<>();
+
+	private final Map<String, Cached<Optional<EffectivePlan>>> plans = lru();
+
+	private final Map<BudgetScope, Cached<Long>> persistedTotals = lru();
+
+	public AiTokenBudgetServiceImpl(final AiProperties properties,
+			final SubscriptionEntitlementService entitlementService, final AiTokenUsageRepository usageRepository,
+			final TransactionTemplate transactionTemplate, final AiUsageMetrics usageMetrics,
+			@Autowired(required = false) final Clock clock) {
+		this.properties = properties;
+		this.entitlementService = entitlementService;
+		this.usageRepository = usageRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.usageMetrics = usageMetrics;
+		this.clock = clock != null ? clock : Clock.systemUTC();
+	}
+
+	@Override
+	public void assertWithinBudget(@NonNull final String nutritionistId) {
+		if (!properties.getTokenBudget().isEnabled()) {
+			return;
+		}
+		final AiTokenBudgetStatus status = getBudget(nutritionistId);
+		if (status.exhausted()) {
+			usageMetrics.recordTokenBudgetExceeded();
+			if (log.isInfoEnabled()) {
+				log.info("AI token budget exhausted for plan {} ({} of {} tokens)", status.planTier(),
+						status.usedTokens(), status.monthlyLimit());
+			}
+			throw new AiChatException(HttpStatus.TOO_MANY_REQUESTS, AiToolErrorCode.RATE_LIMIT,
+					AiErrorMessages.TOKEN_BUDGET_EXCEEDED);
+		}
+	}
+
+	@Override
+	public void recordUsage(@NonNull final String nutritionistId, @Nullable final OpenAiTokenUsage usage) {
+		if (usage == null || !StringUtils.hasText(nutritionistId)
+				|| usage.promptTokens() + usage.completionTokens() <= 0) {
+			return;
+		}
+		final Long clinicId = resolvePlan(nutritionistId).map(EffectivePlan::clinicId).orElse(null);
+		final UsageDelta delta = new UsageDelta(Math.max(0, usage.promptTokens()),
+				Math.max(0, usage.completionTokens()), usage.cachedPromptTokens(), 1);
+		pending.merge(new UsageKey(nutritionistId, clinicId, currentMonth()), delta, UsageDelta::plus);
+	}
+
+	@Override
+	public AiTokenBudgetStatus getBudget(@NonNull final String nutritionistId) {
+		final LocalDate month = currentMonth();
+		final Instant resetsAt = month.plusMonths(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+		final Optional<EffectivePlan> plan = resolvePlan(nutritionistId);
+		if (!properties.getTokenBudget().isEnabled() || plan.isEmpty()) {
+			return new AiTokenBudgetStatus(plan.map(EffectivePlan::planTier).orElse(null), 0L, 0L, resetsAt, false);
+		}
+		final BudgetScope scope = BudgetScope.of(nutritionistId, plan.get().clinicId(), month);
+		final long used = persistedTotal(scope) + pendingTotal(scope);
+		return new AiTokenBudgetStatus(plan.get().planTier(), plan.get().entitlements().getAiMonthlyTokenBudget(), used,
+				resetsAt, true);
+	}
+
+	@Override
+	@Scheduled(fixedDelayString = "${nutriconsultas.ai.token-budget.flush-interval-ms:15000}")
+	public int flush() {
+		final List<Map.Entry<UsageKey, UsageDelta>> drained = new ArrayList<>();
+		for (final UsageKey key : pending.keySet()) {
+			final UsageDelta delta = pending.remove(key);
+			if (delta != null) {
+				drained.add(Map.entry(key, delta));
+			}
+		}
+		if (drained.isEmpty()) {
+			return 0;
+		}
+		final int batchSize = properties.getTokenBudget().getFlushBatchSize();
+		int written = 0;
+		for (int start = 0; start < drained.size(); start += batchSize) {
+			final List<Map.Entry<UsageKey, UsageDelta>> batch = drained.subList(start,
+					Math.min(start + batchSize, drained.size()));
+			try {
+				transactionTemplate.executeWithoutResult(status -> batch.forEach(this::writeUsage));
+				batch.forEach(entry -> persistedTotals.remove(BudgetScope.of(entry.getKey())));
+				written += batch.size();
+			}
+			catch (final RuntimeException ex) {
+				batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), UsageDelta::plus));
+				usageMetrics.recordTokenBudgetFlush("failure", batch.size());
+				if (log.isWarnEnabled()) {
+					log.warn("AI token usage flush failed; {} rows kept for the next flush", batch.size(), ex);
+				}
+			}
+		}
+		if (written > 0) {
+			usageMetrics.recordTokenBudgetFlush("success", written);
+		}
+		return written;
+	}
+
+	@PreDestroy
+	void flushOnShutdown() {
+		flush();
+	}
+
+	private void writeUsage(final Map.Entry<UsageKey, UsageDelta> entry) {
+		final UsageKey key = entry.getKey();
+		final UsageDelta delta = entry.getValue();
+		final int updated = usageRepository.addUsage(key.nutritionistId(), key.clinicId(), key.month(),
+				delta.promptTokens(), delta.completionTokens(), delta.cachedPromptTokens(), delta.requests(),
+				clock.instant());
+		if (updated == 0) {
+			final AiTokenUsage usage = new AiTokenUsage();
+			usage.setNutritionistId(key.nutritionistId());
+			usage.setClinicId(key.clinicId());
+			usage.setUsageMonth(key.month());
+			usage.setPromptTokens(delta.promptTokens());
+			usage.setCompletionTokens(delta.completionTokens());
+			usage.setCachedPromptTokens(delta.cachedPromptTokens());
+			usage.setRequestCount(delta.requests());
+			usageRepository.save(usage);
+		}
+	}
+
+	private Optional<EffectivePlan> resolvePlan(final String nutritionistId) {
+		final long now = clock.millis();
+		final Cached<Optional<EffectivePlan>> cached = plans.get(nutritionistId);
+		if (cached != null && cached.isFresh(now)) {
+			return cached.value();
+		}
+		final Optional<EffectivePlan> plan = entitlementService.getEffectivePlan(nutritionistId);
+		plans.put(nutritionistId, new Cached<>(plan, now + properties.getTokenBudget().getCacheTtlMs()));
+		return plan;
+	}
+
+	private long persistedTotal(final BudgetScope scope) {
+		final long now = clock.millis();
+		final Cached<Long> cached = persistedTotals.get(scope);
+		if (cached != null && cached.isFresh(now)) {
+			return cached.value();
+		}
+		final long total = scope.clinicId() != null
+				? usageRepository.sumTotalTokensByClinic(scope.clinicId(), scope.month())
+				: usageRepository.sumTotalTokensByNutritionist(scope.nutritionistId(), scope.month());
+		persistedTotals.put(scope, new Cached<>(total, now + properties.getTokenBudget().getCacheTtlMs()));
+		return total;
+	}
+
+	private long pendingTotal(final BudgetScope scope) {
+		long total = 0L;
+		for (final Map.Entry<UsageKey, UsageDelta> entry : pending.entrySet()) {
+			if (scope.equals(BudgetScope.of(entry.getKey()))) {
+				total += entry.getValue().totalTokens();
+			}
+		}
+		return total;
+	}
+
+	private LocalDate currentMonth() {
+		return LocalDate.now(clock.withZone(ZoneOffset.UTC)).withDayOfMonth(1);
+	}
+
+	/**
+	 * Access-ordered and bounded: a full cache drops its least recently used entry
+	 * instead of missing on every key at once.
+	 */
+	private static <K, V> Map<K, V> lru() {
+		return Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+				return size() > MAX_CACHED_ENTRIES;
+			}
+
+		});
+	}
+
+	record UsageKey(String nutritionistId, @Nullable Long clinicId, LocalDate month) {
+	}
+
+	record UsageDelta(long promptTokens, long completionTokens, long cachedPromptTokens, long requests) {
+
+		UsageDelta plus(final UsageDelta other) {
+			return new UsageDelta(promptTokens + other.promptTokens, completionTokens + other.completionTokens,
+					cachedPromptTokens + other.cachedPromptTokens, requests + other.requests);
+		}
+
+		long totalTokens() {
+			return promptTokens + completionTokens;
+		}
+
+	}
+
+	/**
+	 * Budget is shared per clinic; the nutritionist id is only used when no clinic is
+	 * known.
+	 */
+	private record BudgetScope(@Nullable Long clinicId, @Nullable String nutritionistId, LocalDate month) {
+
+		static BudgetScope of(final String nutritionistId, @Nullable final Long clinicId, final LocalDate month) {
+			return clinicId != null ? new BudgetScope(clinicId, null, month)
+					: new BudgetScope(null, nutritionistId, month);
+		}
+
+		static BudgetScope of(final UsageKey key) {
+			return of(key.nutritionistId(), key.clinicId(), key.month());
+		}
+
+	}
+
+	private record Cached<T>(T value, long expiresAtMillis) {
+
+		boolean isFresh(final long nowMillis) {
+			return nowMillis < expiresAtMillis;
+		}
+
+	}
+
+}
@@ -0,0 +1,24 @@
+package com.nutriconsultas.ai;
+
+import java.time.Instant;
+
+import org.springframework.lang.Nullable;
+
+import com.nutriconsultas.subscription.PlanTier;
+
+/**
+ * Budget state shown in the chat UI. {@code enforced} is {@code false} when budgets are
+ * disabled or the nutritionist has no granting subscription; limits are then zero.
+ */
+public record AiTokenBudgetStatus(@Nullable PlanTier planTier, long monthlyLimit, long usedTokens, Instant resetsAt,
+		boolean enforced) {
+
+	public long remainingTokens() {
+		return Math.max(0L, monthlyLimit - usedTokens);
+	}
+
+	public boolean exhausted() {
+		return enforced && usedTokens >= monthlyLimit;
+	}
+
+}
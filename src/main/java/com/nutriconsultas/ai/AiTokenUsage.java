@@ -0,0 +1,64 @@
+package com.nutriconsultas.ai;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Monthly OpenAI token totals for one nutritionist. {@code usageMonth} is always the
+ * first day of the UTC month; rows are written in batches by
+ * {@link AiTokenBudgetServiceImpl#flush()}.
+ */
+@Entity
+@Table(name = "ai_token_usage")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiTokenUsage {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "nutritionist_id", nullable = false, length = 255)
+	private String nutritionistId;
+
+	@Column(name = "clinic_id")
+	private Long clinicId;
+
+	@Column(name = "usage_month", nullable = false)
+	private LocalDate usageMonth;
+
+	@Column(name = "prompt_tokens", nullable = false)
+	private long promptTokens;
+
+	@Column(name = "completion_tokens", nullable = false)
+	private long completionTokens;
+
+	@Column(name = "cached_prompt_tokens", nullable = false)
+	private long cachedPromptTokens;
+
+	@Column(name = "request_count", nullable = false)
+	private long requestCount;
+
+	@Column(name = "updated_at", nullable = false)
+	private Instant updatedAt;
+
+	@PrePersist
+	@PreUpdate
+	void onWrite() {
+		updatedAt = Instant.now();
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.nutriconsultas.ai;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AiTokenUsageRepository extends JpaRepository<AiTokenUsage, Long> {
+
+	/**
+	 * Adds a flushed delta to an existing monthly row in place.
+	 * @return rows updated; {@code 0} when the nutritionist has no row for the month yet
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE AiTokenUsage u SET u.promptTokens = u.promptTokens + :promptTokens, "
+			+ "u.completionTokens = u.completionTokens + :completionTokens, "
+			+ "u.cachedPromptTokens = u.cachedPromptTokens + :cachedPromptTokens, "
+			+ "u.requestCount = u.requestCount + :requestCount, u.clinicId = :clinicId, u.updatedAt = :updatedAt "
+			+ "WHERE u.nutritionistId = :nutritionistId AND u.usageMonth = :usageMonth")
+	int addUsage(@Param("nutritionistId") String nutritionistId, @Param("clinicId") Long clinicId,
+			@Param("usageMonth") LocalDate usageMonth, @Param("promptTokens") long promptTokens,
+			@Param("completionTokens") long completionTokens, @Param("cachedPromptTokens") long cachedPromptTokens,
+			@Param("requestCount") long requestCount, @Param("updatedAt") Instant updatedAt);
+
+	@Query("SELECT COALESCE(SUM(u.promptTokens + u.completionTokens), 0) FROM AiTokenUsage u "
+			+ "WHERE u.clinicId = :clinicId AND u.usageMonth = :usageMonth")
+	long sumTotalTokensByClinic(@Param("clinicId") Long clinicId, @Param("usageMonth") LocalDate usageMonth);
+
+	@Query("SELECT COALESCE(SUM(u.promptTokens + u.completionTokens), 0) FROM AiTokenUsage u "
+			+ "WHERE u.nutritionistId = :nutritionistId AND u.usageMonth = :usageMonth")
+	long sumTotalTokensByNutritionist(@Param("nutritionistId") String nutritionistId,
+			@Param("usageMonth") LocalDate usageMonth);
+
+}
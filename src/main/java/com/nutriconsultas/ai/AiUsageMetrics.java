@@ -1,11 +1,14 @@
 package com.nutriconsultas.ai;
 
+import java.time.Duration;
+
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 /**
  * Micrometer counters for AI assistant usage (#398). Tags are low-cardinality only —
@@ -30,6 +33,10 @@ public final class AiUsageMetrics {
 
 	static final String TOOL_CALLS = "ai.tool.calls";
 
+	static final String OPENAI_LATENCY = "ai.openai.latency";
+
+	static final String TOKEN_BUDGET_FLUSHED_ROWS = "ai.token_budget.flushed_rows";
+
 	private static final String TAG_MODE = "mode";
 
 	private static final String TAG_TYPE = "type";
@@ -40,10 +47,16 @@ public final class AiUsageMetrics {
 
 	private static final String TAG_TOOL = "tool";
 
+	private static final String TAG_MODEL = "model";
+
+	private static final String TAG_OUTCOME = "outcome";
+
 	private static final String SOURCE_CHAT = "chat";
 
 	private static final String SOURCE_OPENAI = "openai";
 
+	private static final String SOURCE_TOKEN_BUDGET = "token_budget";
+
 	private final MeterRegistry meterRegistry;
 
 	public AiUsageMetrics(final MeterRegistry meterRegistry) {
@@ -78,6 +91,17 @@ public final class AiUsageMetrics {
 		counter(RATE_LIMITED, TAG_SOURCE, SOURCE_OPENAI).increment();
 	}
 
+	public void recordTokenBudgetExceeded() {
+		counter(RATE_LIMITED, TAG_SOURCE, SOURCE_TOKEN_BUDGET).increment();
+	}
+
+	/**
+	 * Usage rows written by a flush ({@code success}) or re-buffered after a failed one.
+	 */
+	public void recordTokenBudgetFlush(final String outcome, final int rows) {
+		counter(TOKEN_BUDGET_FLUSHED_ROWS, TAG_OUTCOME, safeTagValue(outcome)).increment(rows);
+	}
+
 	public void recordTokenUsage(@Nullable final OpenAiTokenUsage tokenUsage) {
 		if (tokenUsage == null) {
 			return;
@@ -88,6 +112,9 @@ public final class AiUsageMetrics {
 		if (tokenUsage.completionTokens() > 0) {
 			counter(OPENAI_TOKENS, TAG_KIND, "completion").increment(tokenUsage.completionTokens());
 		}
+		if (tokenUsage.cachedPromptTokens() > 0) {
+			counter(OPENAI_TOKENS, TAG_KIND, "cached_prompt").increment(tokenUsage.cachedPromptTokens());
+		}
 	}
 
 	public void recordToolCalls(final java.util.List<String> toolNames) {
@@ -101,6 +128,20 @@ public final class AiUsageMetrics {
 		}
 	}
 
+	/**
+	 * Per-attempt OpenAI latency with a percentile histogram. The model tag is the single
+	 * configured model name, so cardinality stays bounded.
+	 */
+	public void recordOpenAiLatency(@Nullable final String model, @Nullable final String outcome,
+			final Duration duration) {
+		Timer.builder(OPENAI_LATENCY)
+			.tag(TAG_MODEL, safeTagValue(model))
+			.tag(TAG_OUTCOME, safeTagValue(outcome))
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(duration);
+	}
+
 	private Counter counter(final String name, final String... tags) {
 		return meterRegistry.counter(name, tags);
 	}
@@ -99,9 +99,11 @@ public class CreateDietPlanDraftToolServiceImpl implements CreateDietPlanDraftTo
 			final List<DietPlanDayInput> days) {
 		final List<DietPlanDayPayload> dayPayloads = new ArrayList<>();
 		NutrientSummary weeklySum = AiNutrientToolSupport.emptyNutrientSummary();
+		final AiCatalogSnapshot catalog = ingestaNutrientCalculator.prefetchCatalog(
+				days.stream().filter(day -> day.ingestas() != null).flatMap(day -> day.ingestas().stream()).toList());
 		for (final DietPlanDayInput day : days) {
 			final AiToolResult<AiIngestaNutrientCalculator.IngestaNutrientComputation> dayResult = ingestaNutrientCalculator
-				.computeIngestas(nutritionistId, day.ingestas());
+				.computeIngestas(nutritionistId, day.ingestas(), catalog);
 			if (!dayResult.success()) {
 				return AiToolResult.error(Objects.requireNonNull(dayResult.errorCode()),
 						Objects.requireNonNull(dayResult.message()));
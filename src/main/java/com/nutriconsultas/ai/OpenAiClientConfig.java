@@ -1,21 +1,38 @@
 package com.nutriconsultas.ai;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+/**
+ * OpenAI HTTP transport (#366). Uses the JDK {@link HttpClient}, which keeps a keep-alive
+ * connection pool and negotiates HTTP/2 so concurrent chat turns multiplex over a few
+ * connections instead of opening one socket per request.
+ */
 @Configuration
 public class OpenAiClientConfig {
 
 	@Bean
 	RestClient openAiRestClient(final AiProperties properties) {
-		final SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-		requestFactory.setConnectTimeout(Duration.ofMillis(properties.getOpenai().getConnectTimeoutMs()));
+		return RestClient.builder()
+			.baseUrl(properties.getOpenai().getBaseUrl())
+			.requestFactory(openAiRequestFactory(properties))
+			.build();
+	}
+
+	static JdkClientHttpRequestFactory openAiRequestFactory(final AiProperties properties) {
+		final HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.connectTimeout(Duration.ofMillis(properties.getOpenai().getConnectTimeoutMs()))
+			.followRedirects(HttpClient.Redirect.NEVER)
+			.build();
+		final JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
 		requestFactory.setReadTimeout(Duration.ofMillis(properties.getOpenai().getReadTimeoutMs()));
-		return RestClient.builder().baseUrl(properties.getOpenai().getBaseUrl()).requestFactory(requestFactory).build();
+		return requestFactory;
 	}
 
 }
@@ -47,6 +47,16 @@ final class OpenAiClientErrorMapper {
 				AiErrorMessages.OPENAI_TIMEOUT, "OpenAI request timed out", ex);
 	}
 
+	static OpenAiClientException circuitOpen(final Exception ex) {
+		return new OpenAiClientException(OpenAiClientException.ErrorKind.UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE,
+				AiErrorMessages.OPENAI_UNAVAILABLE, "OpenAI circuit breaker open", ex);
+	}
+
+	static OpenAiClientException saturated(final Exception ex) {
+		return new OpenAiClientException(OpenAiClientException.ErrorKind.RATE_LIMIT, HttpStatus.TOO_MANY_REQUESTS,
+				AiErrorMessages.OPENAI_RATE_LIMIT, "OpenAI bulkhead full", ex);
+	}
+
 	static OpenAiClientException notConfigured() {
 		return new OpenAiClientException(OpenAiClientException.ErrorKind.NOT_CONFIGURED, HttpStatus.SERVICE_UNAVAILABLE,
 				AiErrorMessages.NOT_CONFIGURED, "OpenAI client not configured", null);
@@ -1,43 +1,56 @@
 package com.nutriconsultas.ai;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientResponseException;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 
 @Component
 public class OpenAiClientServiceImpl implements OpenAiClientService {
 
 	private static final String CHAT_COMPLETIONS_PATH = "/v1/chat/completions";
 
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	/**
+	 * Upper bound on distinct tool lists kept pre-serialized. The catalog only exposes a
+	 * couple of session shapes; the cap protects against callers building ad-hoc lists.
+	 */
+	static final int MAX_CACHED_TOOL_BLOCKS = 16;
+
 	private final AiProperties properties;
 
-	private final RestClient restClient;
+	private final OpenAiTransport transport;
 
 	private final AiAuditLogger auditLogger;
 
-	public OpenAiClientServiceImpl(final AiProperties properties,
-			@Qualifier("openAiRestClient") final RestClient openAiRestClient, final AiAuditLogger auditLogger) {
+	private final Map<List<OpenAiToolDefinition>, String> serializedToolBlocks = new ConcurrentHashMap<>();
+
+	public OpenAiClientServiceImpl(final AiProperties properties, final OpenAiTransport transport,
+			final AiAuditLogger auditLogger) {
 		this.properties = properties;
-		this.restClient = openAiRestClient;
+		this.transport = transport;
 		this.auditLogger = auditLogger;
 	}
 
 	@Override
 	public boolean isAvailable() {
-		return properties.isOperational();
+		return properties.isOperational() && !properties.isOpenAiCircuitOpen();
 	}
 
 	@Override
@@ -45,13 +58,8 @@ public class OpenAiClientServiceImpl implements OpenAiClientService {
 		assertOperational();
 		final OpenAiApiRequest apiRequest = toApiRequest(request);
 		try {
-			final OpenAiApiResponse response = restClient.post()
-				.uri(CHAT_COMPLETIONS_PATH)
-				.header(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getOpenai().getApiKey())
-				.contentType(MediaType.APPLICATION_JSON)
-				.body(apiRequest)
-				.retrieve()
-				.body(OpenAiApiResponse.class);
+			final OpenAiApiResponse response = transport.postJson(CHAT_COMPLETIONS_PATH, apiRequest,
+					OpenAiApiResponse.class);
 			return toCompletionResponse(response);
 		}
 		catch (final RestClientResponseException ex) {
@@ -64,6 +72,16 @@ public class OpenAiClientServiceImpl implements OpenAiClientService {
 			auditLogger.logOpenAiError(null, OpenAiClientException.ErrorKind.TIMEOUT.name(), 0);
 			throw OpenAiClientErrorMapper.timeout(ex);
 		}
+		catch (final CallNotPermittedException ex) {
+			final OpenAiClientException mapped = OpenAiClientErrorMapper.circuitOpen(ex);
+			auditLogger.logOpenAiError(null, mapped.getKind().name(), 0, mapped.getMessage());
+			throw mapped;
+		}
+		catch (final BulkheadFullException ex) {
+			final OpenAiClientException mapped = OpenAiClientErrorMapper.saturated(ex);
+			auditLogger.logOpenAiError(null, mapped.getKind().name(), 0, mapped.getMessage());
+			throw mapped;
+		}
 	}
 
 	private void assertOperational() {
@@ -86,22 +104,50 @@ public class OpenAiClientServiceImpl implements OpenAiClientService {
 			messages.add(new OpenAiApiMessage(message.role(), message.content(), message.toolCallId(), message.name(),
 					apiToolCalls));
 		}
-		final List<OpenAiApiTool> tools = new ArrayList<>();
-		for (final OpenAiToolDefinition tool : request.tools()) {
-			final Map<String, Object> function = new HashMap<>();
-			function.put("name", tool.name());
-			function.put("description", tool.description());
-			function.put("parameters", tool.parameters());
-			tools.add(new OpenAiApiTool("function", function));
-		}
 		final String model = properties.getOpenai().getModel();
 		final boolean reasoningStyle = OpenAiModelCapabilities.isReasoningStyleModel(model);
 		final Integer maxTokens = request.parameters().maxTokens();
-		return new OpenAiApiRequest(model, messages, tools.isEmpty() ? null : tools, properties.getOpenai().isStore(),
+		return new OpenAiApiRequest(model, messages, serializedTools(request.tools()), properties.getOpenai().isStore(),
 				reasoningStyle ? null : request.parameters().temperature(), reasoningStyle ? null : maxTokens,
 				reasoningStyle ? maxTokens : null, responseFormat(request.parameters().responseFormatType()));
 	}
 
+	/**
+	 * Tools are sent ahead of the messages, so they form the start of the provider prompt
+	 * prefix. The JSON for a given tool list is produced once and reused verbatim.
+	 */
+	String serializedTools(final List<OpenAiToolDefinition> tools) {
+		if (tools.isEmpty()) {
+			return null;
+		}
+		final String cached = serializedToolBlocks.get(tools);
+		if (cached != null) {
+			return cached;
+		}
+		final String serialized = serializeTools(tools);
+		if (serializedToolBlocks.size() < MAX_CACHED_TOOL_BLOCKS) {
+			serializedToolBlocks.putIfAbsent(List.copyOf(tools), serialized);
+		}
+		return serialized;
+	}
+
+	private static String serializeTools(final List<OpenAiToolDefinition> tools) {
+		final List<OpenAiApiTool> apiTools = new ArrayList<>(tools.size());
+		for (final OpenAiToolDefinition tool : tools) {
+			final Map<String, Object> function = new LinkedHashMap<>();
+			function.put("name", tool.name());
+			function.put("description", tool.description());
+			function.put("parameters", tool.parameters());
+			apiTools.add(new OpenAiApiTool("function", function));
+		}
+		try {
+			return OBJECT_MAPPER.writeValueAsString(apiTools);
+		}
+		catch (final JsonProcessingException ex) {
+			throw new IllegalStateException("Unable to serialize OpenAI tool definitions", ex);
+		}
+	}
+
 	private static Map<String, String> responseFormat(final String type) {
 		if (!org.springframework.util.StringUtils.hasText(type)) {
 			return null;
@@ -127,8 +173,9 @@ public class OpenAiClientServiceImpl implements OpenAiClientService {
 		}
 		OpenAiTokenUsage usage = null;
 		if (response.usage() != null) {
+			final OpenAiApiResponse.PromptTokensDetails details = response.usage().promptTokensDetails();
 			usage = new OpenAiTokenUsage(response.usage().promptTokens(), response.usage().completionTokens(),
-					response.usage().totalTokens());
+					response.usage().totalTokens(), details != null ? details.cachedTokens() : 0);
 		}
 		return new OpenAiChatCompletionResponse(response.id(), message.role(), message.content(), toolCalls,
 				choice.finishReason(), usage);
@@ -141,7 +188,7 @@ public class OpenAiClientServiceImpl implements OpenAiClientService {
 	}
 
 	@JsonInclude(JsonInclude.Include.NON_NULL)
-	private record OpenAiApiRequest(String model, List<OpenAiApiMessage> messages, List<OpenAiApiTool> tools,
+	private record OpenAiApiRequest(String model, List<OpenAiApiMessage> messages, @JsonRawValue String tools,
 			boolean store, Double temperature, @JsonProperty("max_tokens") Integer maxTokens,
 			@JsonProperty("max_completion_tokens") Integer maxCompletionTokens,
 			@JsonProperty("response_format") Map<String, String> responseFormat) {
@@ -185,8 +232,12 @@ public class OpenAiClientServiceImpl implements OpenAiClientService {
 
 		@JsonIgnoreProperties(ignoreUnknown = true)
 		private record Usage(@JsonProperty("prompt_tokens") int promptTokens,
-				@JsonProperty("completion_tokens") int completionTokens,
-				@JsonProperty("total_tokens") int totalTokens) {
+				@JsonProperty("completion_tokens") int completionTokens, @JsonProperty("total_tokens") int totalTokens,
+				@JsonProperty("prompt_tokens_details") PromptTokensDetails promptTokensDetails) {
+		}
+
+		@JsonIgnoreProperties(ignoreUnknown = true)
+		private record PromptTokensDetails(@JsonProperty("cached_tokens") int cachedTokens) {
 		}
 
 	}
@@ -1,8 +1,35 @@
 package com.nutriconsultas.ai;
 
 /**
- * Token usage from an OpenAI completion (#366).
+ * Token usage from an OpenAI completion (#366). {@code cachedPromptTokens} is the part of
+ * {@code promptTokens} served from the provider prompt-prefix cache.
  */
-public record OpenAiTokenUsage(int promptTokens, int completionTokens, int totalTokens) {
+public record OpenAiTokenUsage(int promptTokens, int completionTokens, int totalTokens, int cachedPromptTokens) {
+
+	public OpenAiTokenUsage(final int promptTokens, final int completionTokens, final int totalTokens) {
+		this(promptTokens, completionTokens, totalTokens, 0);
+	}
+
+	public OpenAiTokenUsage {
+		if (cachedPromptTokens < 0) {
+			cachedPromptTokens = 0;
+		}
+	}
+
+	/**
+	 * @return sum of both usages; {@code null} operands are treated as zero usage
+	 */
+	public static OpenAiTokenUsage merge(final OpenAiTokenUsage accumulated, final OpenAiTokenUsage latest) {
+		if (latest == null) {
+			return accumulated;
+		}
+		if (accumulated == null) {
+			return latest;
+		}
+		return new OpenAiTokenUsage(accumulated.promptTokens() + latest.promptTokens(),
+				accumulated.completionTokens() + latest.completionTokens(),
+				accumulated.totalTokens() + latest.totalTokens(),
+				accumulated.cachedPromptTokens() + latest.cachedPromptTokens());
+	}
 
 }
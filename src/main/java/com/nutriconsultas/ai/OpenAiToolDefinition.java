@@ -1,9 +1,19 @@
 package com.nutriconsultas.ai;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
  * Function tool definition for OpenAI tool calling (#363, #366).
+ * <p>
+ * {@code parameters} is frozen into a deeply immutable tree with keys sorted at every
+ * level. {@code Map.of} iteration order changes between JVM runs, so without this the
+ * same tools block would serialize differently per node and miss the provider
+ * prompt-prefix cache.
  */
 public record OpenAiToolDefinition(String name, String description, Map<String, Object> parameters) {
 
@@ -14,6 +24,27 @@ public record OpenAiToolDefinition(String name, String description, Map<String,
 		if (description == null || description.isBlank()) {
 			throw new IllegalArgumentException("description is required");
 		}
+		parameters = parameters == null ? Map.of() : freezeMap(parameters);
+	}
+
+	private static Map<String, Object> freezeMap(final Map<?, ?> source) {
+		final SortedMap<String, Object> frozen = new TreeMap<>();
+		source.forEach((key, value) -> frozen.put(String.valueOf(key), freezeValue(value)));
+		return Collections.unmodifiableSortedMap(frozen);
+	}
+
+	private static Object freezeValue(final Object value) {
+		if (value instanceof Map<?, ?> map) {
+			return freezeMap(map);
+		}
+		if (value instanceof List<?> list) {
+			final List<Object> frozen = new ArrayList<>(list.size());
+			for (final Object item : list) {
+				frozen.add(freezeValue(item));
+			}
+			return Collections.unmodifiableList(frozen);
+		}
+		return value;
 	}
 
 }
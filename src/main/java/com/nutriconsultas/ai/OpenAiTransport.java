@@ -0,0 +1,225 @@
+package com.nutriconsultas.ai;
+
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.functions.Either;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resilient POST transport for OpenAI calls (#366). Each call runs as
+ * {@code Retry(CircuitBreaker(Bulkhead(http)))}: retries back off with full jitter and
+ * honor {@code Retry-After}, the breaker only counts provider-side failures (5xx,
+ * connection errors) and mirrors its state into
+ * {@link AiProperties#isOpenAiCircuitOpen()}, and the bulkhead caps in-flight requests so
+ * a slow provider cannot pin every servlet thread. Latency per attempt is recorded per
+ * model.
+ */
+@Component
+@Slf4j
+public class OpenAiTransport {
+
+	static final String INSTANCE_NAME = "openai";
+
+	private final AiProperties properties;
+
+	private final RestClient restClient;
+
+	private final AiUsageMetrics usageMetrics;
+
+	private final Retry retry;
+
+	private final CircuitBreaker circuitBreaker;
+
+	private final Bulkhead bulkhead;
+
+	public OpenAiTransport(final AiProperties properties,
+			@Qualifier("openAiRestClient") final RestClient openAiRestClient,
+			final CircuitBreakerRegistry circuitBreakerRegistry, final RetryRegistry retryRegistry,
+			final BulkheadRegistry bulkheadRegistry, final AiUsageMetrics usageMetrics) {
+		this.properties = properties;
+		this.restClient = openAiRestClient;
+		this.usageMetrics = usageMetrics;
+		final AiProperties.OpenAi openai = properties.getOpenai();
+		this.retry = retryRegistry.retry(INSTANCE_NAME, retryConfig(openai));
+		this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_NAME, circuitBreakerConfig(openai));
+		this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE_NAME, bulkheadConfig(openai));
+		this.circuitBreaker.getEventPublisher().onStateTransition(event -> {
+			final CircuitBreaker.State state = event.getStateTransition().getToState();
+			properties.markOpenAiCircuitOpen(isOpenState(state));
+			if (log.isWarnEnabled()) {
+				log.warn("OpenAI circuit breaker transition {}", event.getStateTransition());
+			}
+		});
+		properties.markOpenAiCircuitOpen(isOpenState(circuitBreaker.getState()));
+	}
+
+	/**
+	 * POSTs {@code body} as JSON to {@code path} and binds the response. Provider errors
+	 * surface as {@link RestClientResponseException} / {@link ResourceAccessException}
+	 * after retries; rejected calls surface as resilience4j
+	 * {@code CallNotPermittedException} or {@code BulkheadFullException}.
+	 */
+	public <T> T postJson(final String path, final Object body, final Class<T> responseType) {
+		final String model = properties.getOpenai().getModel();
+		final Supplier<T> attempt = () -> timedAttempt(model,
+				() -> restClient.post()
+					.uri(path)
+					.header(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getOpenai().getApiKey())
+					.contentType(MediaType.APPLICATION_JSON)
+					.body(body)
+					.retrieve()
+					.body(responseType));
+		final Supplier<T> guarded = Bulkhead.decorateSupplier(bulkhead, attempt);
+		return Retry.decorateSupplier(retry, CircuitBreaker.decorateSupplier(circuitBreaker, guarded)).get();
+	}
+
+	CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	private <T> T timedAttempt(final String model, final Supplier<T> call) {
+		final long started = System.nanoTime();
+		String outcome = "success";
+		try {
+			return call.get();
+		}
+		catch (final RestClientResponseException ex) {
+			outcome = String.valueOf(ex.getStatusCode().value());
+			throw ex;
+		}
+		catch (final RuntimeException ex) {
+			outcome = "io_error";
+			throw ex;
+		}
+		finally {
+			usageMetrics.recordOpenAiLatency(model, outcome, Duration.ofNanos(System.nanoTime() - started));
+		}
+	}
+
+	private static RetryConfig retryConfig(final AiProperties.OpenAi openai) {
+		final long baseDelayMs = openai.getRetryBaseDelayMs();
+		final long maxDelayMs = openai.getRetryMaxDelayMs();
+		return RetryConfig.<Object>custom()
+			.maxAttempts(openai.getMaxRetries() + 1)
+			.retryOnException(OpenAiTransport::isRetryable)
+			.intervalBiFunction((Integer attempt, Either<Throwable, Object> result) -> {
+				final Throwable failure = result.isLeft() ? result.getLeft() : null;
+				return retryDelayMillis(attempt, failure, baseDelayMs, maxDelayMs);
+			})
+			.build();
+	}
+
+	private static CircuitBreakerConfig circuitBreakerConfig(final AiProperties.OpenAi openai) {
+		final int minimumCalls = openai.getCircuitBreakerMinimumCalls();
+		return CircuitBreakerConfig.custom()
+			.failureRateThreshold(openai.getCircuitBreakerFailureRateThreshold())
+			.minimumNumberOfCalls(minimumCalls)
+			.slidingWindowSize(Math.max(minimumCalls, 20))
+			.waitDurationInOpenState(Duration.ofMillis(openai.getCircuitBreakerOpenStateMs()))
+			.automaticTransitionFromOpenToHalfOpenEnabled(true)
+			.permittedNumberOfCallsInHalfOpenState(2)
+			.recordException(OpenAiTransport::isProviderFailure)
+			.build();
+	}
+
+	private static BulkheadConfig bulkheadConfig(final AiProperties.OpenAi openai) {
+		return BulkheadConfig.custom()
+			.maxConcurrentCalls(openai.getMaxConcurrentCalls())
+			.maxWaitDuration(Duration.ofMillis(openai.getBulkheadMaxWaitMs()))
+			.build();
+	}
+
+	/**
+	 * Full-jitter exponential backoff, or the provider's {@code Retry-After} when
+	 * present; both capped at {@code maxDelayMs}.
+	 */
+	static long retryDelayMillis(final int attempt, final Throwable failure, final long baseDelayMs,
+			final long maxDelayMs) {
+		final Long retryAfterMs = retryAfterMillis(failure);
+		if (retryAfterMs != null) {
+			return Math.min(retryAfterMs, maxDelayMs);
+		}
+		final int exponent = Math.max(0, Math.min(attempt - 1, 16));
+		final long ceiling = Math.min(maxDelayMs, baseDelayMs << exponent);
+		return ThreadLocalRandom.current().nextLong(baseDelayMs, Math.max(baseDelayMs, ceiling) + 1);
+	}
+
+	static Long retryAfterMillis(final Throwable failure) {
+		if (!(failure instanceof RestClientResponseException responseException)
+				|| responseException.getResponseHeaders() == null) {
+			return null;
+		}
+		final String retryAfter = responseException.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+		if (!StringUtils.hasText(retryAfter)) {
+			return null;
+		}
+		final String value = retryAfter.trim();
+		try {
+			return Math.max(0L, Math.round(Double.parseDouble(value) * 1_000));
+		}
+		catch (final NumberFormatException ignored) {
+			// HTTP-date form
+		}
+		try {
+			final Instant at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+			return Math.max(0L, Duration.between(Instant.now(), at).toMillis());
+		}
+		catch (final DateTimeParseException ex) {
+			return null;
+		}
+	}
+
+	static boolean isRetryable(final Throwable failure) {
+		if (failure instanceof RestClientResponseException responseException) {
+			final int status = responseException.getStatusCode().value();
+			return status == HttpStatus.TOO_MANY_REQUESTS.value() || status == HttpStatus.INTERNAL_SERVER_ERROR.value()
+					|| status == HttpStatus.BAD_GATEWAY.value() || status == HttpStatus.SERVICE_UNAVAILABLE.value()
+					|| status == HttpStatus.GATEWAY_TIMEOUT.value();
+		}
+		if (failure instanceof ResourceAccessException) {
+			// Only connection failures: a read timeout already waited the full budget.
+			final Throwable cause = failure.getCause();
+			return cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException;
+		}
+		return false;
+	}
+
+	static boolean isProviderFailure(final Throwable failure) {
+		if (failure instanceof RestClientResponseException responseException) {
+			return responseException.getStatusCode().is5xxServerError();
+		}
+		return failure instanceof ResourceAccessException;
+	}
+
+	private static boolean isOpenState(final CircuitBreaker.State state) {
+		return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+	}
+
+}
@@ -12,8 +12,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import com.nutriconsultas.alimentos.AlimentosRepository;
-
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -28,12 +26,12 @@ public class ValidatePlanConstraintsToolServiceImpl implements ValidatePlanConst
 
 	private final AiIngestaNutrientCalculator ingestaNutrientCalculator;
 
-	private final AlimentosRepository alimentosRepository;
+	private final AiCatalogPrefetcher catalogPrefetcher;
 
 	public ValidatePlanConstraintsToolServiceImpl(final AiIngestaNutrientCalculator ingestaNutrientCalculator,
-			final AlimentosRepository alimentosRepository) {
+			final AiCatalogPrefetcher catalogPrefetcher) {
 		this.ingestaNutrientCalculator = ingestaNutrientCalculator;
-		this.alimentosRepository = alimentosRepository;
+		this.catalogPrefetcher = catalogPrefetcher;
 	}
 
 	@Override
@@ -60,8 +58,10 @@ public class ValidatePlanConstraintsToolServiceImpl implements ValidatePlanConst
 		}
 		final ComputationBundle bundle = Objects.requireNonNull(computation.data());
 		final List<PlanConstraintWarning> warnings = new ArrayList<>(bundle.computationWarnings());
+		final AiCatalogSnapshot catalog = catalogPrefetcher.prefetchAlimentos(
+				AiPlanConstraintEvaluator.catalogIdsToResolve(request, patientContext, bundle.alimentoIds()));
 		warnings.addAll(AiPlanConstraintEvaluator.evaluate(bundle.nutrients(), request, patientContext,
-				bundle.alimentoIds(), alimentosRepository));
+				bundle.alimentoIds(), catalog));
 		final boolean valid = AiPlanConstraintEvaluator.isValid(warnings);
 		final boolean patientContextApplied = AiPlanConstraintEvaluator.patientContextApplied(patientContext, request,
 				warnings);
@@ -114,9 +114,10 @@ public class ValidatePlanConstraintsToolServiceImpl implements ValidatePlanConst
 		NutrientSummary averageDaily = AiNutrientToolSupport.emptyNutrientSummary();
 		final List<PlanConstraintWarning> warnings = new ArrayList<>();
 		final Set<Long> alimentoIds = new HashSet<>();
+		final AiCatalogSnapshot catalog = ingestaNutrientCalculator.prefetchCatalog(allIngestas(dietPlan.days()));
 		for (final DietPlanDayInput day : dietPlan.days()) {
 			final AiToolResult<AiIngestaNutrientCalculator.IngestaNutrientComputation> dayResult = ingestaNutrientCalculator
-				.computeIngestas(nutritionistId, day.ingestas());
+				.computeIngestas(nutritionistId, day.ingestas(), catalog);
 			if (!dayResult.success()) {
 				return AiToolResult.error(Objects.requireNonNull(dayResult.errorCode()),
 						Objects.requireNonNull(dayResult.message()));
@@ -132,6 +133,10 @@ public class ValidatePlanConstraintsToolServiceImpl implements ValidatePlanConst
 		return AiToolResult.success(new ComputationBundle(dailyAverage, warnings, alimentoIds));
 	}
 
+	private static List<IngestaSlotInput> allIngestas(final List<DietPlanDayInput> days) {
+		return days.stream().filter(day -> day.ingestas() != null).flatMap(day -> day.ingestas().stream()).toList();
+	}
+
 	private static AiToolResult<ComputationBundle> mapComputation(
 			final AiToolResult<AiIngestaNutrientCalculator.IngestaNutrientComputation> result) {
 		if (!result.success()) {
@@ -2,6 +2,7 @@ package com.nutriconsultas.ai.mcp;
 
 import java.util.Map;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * MCP-compatible HTTP endpoint for nutrition tool dispatch (#394).
  */
+@Lazy
 @RestController
 @RequestMapping("/mcp/nutriconsultas")
 @Slf4j
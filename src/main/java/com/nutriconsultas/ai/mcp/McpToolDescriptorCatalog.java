@@ -7,6 +7,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
 import com.nutriconsultas.ai.AiOpenAiToolCatalog;
@@ -15,6 +16,7 @@ import com.nutriconsultas.ai.OpenAiToolDefinition;
 /**
  * MCP tool descriptors derived from {@link AiOpenAiToolCatalog} (#393).
  */
+@Lazy
 @Component
 public final class McpToolDescriptorCatalog {
 
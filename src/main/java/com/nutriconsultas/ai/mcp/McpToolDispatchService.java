@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
@@ -34,6 +35,7 @@ import com.nutriconsultas.subscription.SubscriptionLimitExceededException;
 /**
  * MCP JSON-RPC dispatch to {@link AiOrchestrationToolDispatcher} (#394).
  */
+@Lazy
 @Service
 public final class McpToolDispatchService {
 
@@ -10,6 +10,7 @@ import org.springframework.util.StringUtils;
 
 import com.nutriconsultas.auth0.Auth0ManagementApiException;
 import com.nutriconsultas.auth0.Auth0ManagementUserService;
+import com.nutriconsultas.mobile.PatientAuthViewCache;
 import com.nutriconsultas.paciente.ApplePacienteLifecycleStatus;
 import com.nutriconsultas.paciente.Paciente;
 import com.nutriconsultas.paciente.PacienteRepository;
@@ -25,10 +26,13 @@ public class AppleSignInAccountLifecycleServiceImpl implements AppleSignInAccoun
 
 	private final Auth0ManagementUserService auth0ManagementUserService;
 
+	private final PatientAuthViewCache authViewCache;
+
 	public AppleSignInAccountLifecycleServiceImpl(final PacienteRepository pacienteRepository,
-			final Auth0ManagementUserService auth0ManagementUserService) {
+			final Auth0ManagementUserService auth0ManagementUserService, final PatientAuthViewCache authViewCache) {
 		this.pacienteRepository = pacienteRepository;
 		this.auth0ManagementUserService = auth0ManagementUserService;
+		this.authViewCache = authViewCache;
 	}
 
 	@Override
@@ -55,6 +59,7 @@ public class AppleSignInAccountLifecycleServiceImpl implements AppleSignInAccoun
 			paciente.setStatus(PacienteStatus.REVOKED);
 		}
 		pacienteRepository.save(paciente);
+		authViewCache.invalidate(paciente.getPatientAuthSub());
 		try {
 			updateAuth0LifecycleMetadata(notification, eventType, targetStatus);
 		}
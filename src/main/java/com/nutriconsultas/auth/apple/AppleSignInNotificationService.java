@@ -2,12 +2,14 @@ package com.nutriconsultas.auth.apple;
 
 import java.time.Instant;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
+@Lazy
 @Service
 @Slf4j
 public class AppleSignInNotificationService {
@@ -5,6 +5,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -21,6 +22,7 @@ import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 
 import lombok.extern.slf4j.Slf4j;
 
+@Lazy
 @Service
 @Slf4j
 public class AppleSignInNotificationVerifierImpl implements AppleSignInNotificationVerifier {
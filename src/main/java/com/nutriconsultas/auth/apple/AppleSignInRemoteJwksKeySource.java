@@ -3,6 +3,7 @@ package com.nutriconsultas.auth.apple;
 import java.net.MalformedURLException;
 import java.net.URL;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
 import com.nimbusds.jose.jwk.source.JWKSource;
@@ -11,6 +12,7 @@ import com.nimbusds.jose.proc.SecurityContext;
 
 import lombok.extern.slf4j.Slf4j;
 
+@Lazy
 @Component
 @Slf4j
 public class AppleSignInRemoteJwksKeySource implements AppleSignInJwksKeySource {
@@ -1,5 +1,6 @@
 package com.nutriconsultas.auth.apple;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import lombok.extern.slf4j.Slf4j;
 
+@Lazy
 @RestController
 @RequestMapping("/rest/webhooks/apple")
 @Slf4j
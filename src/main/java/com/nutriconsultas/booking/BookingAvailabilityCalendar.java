@@ -0,0 +1,388 @@
+package com.nutriconsultas.booking;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nutriconsultas.calendar.CalendarEvent;
+import com.nutriconsultas.calendar.CalendarEventRepository;
+import com.nutriconsultas.calendar.EventStatus;
+import com.nutriconsultas.util.LogRedaction;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-nutritionist bitmap of free slots over a rolling horizon starting today in the
+ * nutritionist's time zone. Building a window costs one block query and one appointment
+ * query for the whole range; reads inside the horizon then only need the caller's
+ * schedule. New appointments and blocks clear their bits after commit; removals rebuild
+ * the window on the next read, a changed schedule is detected by comparison, and the TTL
+ * bounds staleness from writes on other instances. Dates outside the horizon get an
+ * uncached window.
+ */
+@Component
+@Slf4j
+public class BookingAvailabilityCalendar {
+
+	static final int MAX_CACHED_NUTRITIONISTS = 2_000;
+
+	static final int DEFAULT_EVENT_DURATION_MINUTES = 60;
+
+	private final NutritionistAvailabilityBlockRepository blockRepository;
+
+	private final CalendarEventRepository calendarEventRepository;
+
+	private final int horizonDays;
+
+	private final long ttlMillis;
+
+	private final Clock clock;
+
+	private final Map<String, Window> windows = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String, Window> eldest) {
+			return size() > MAX_CACHED_NUTRITIONISTS;
+		}
+
+	});
+
+	public BookingAvailabilityCalendar(final NutritionistAvailabilityBlockRepository blockRepository,
+			final CalendarEventRepository calendarEventRepository,
+			@Value("${nutriconsultas.booking.availability.horizon-days:90}") final int horizonDays,
+			@Value("${nutriconsultas.booking.availability.ttl-ms:60000}") final long ttlMillis,
+			@Autowired(required = false) final Clock clock) {
+		this.blockRepository = blockRepository;
+		this.calendarEventRepository = calendarEventRepository;
+		this.horizonDays = Math.max(horizonDays, 1);
+		this.ttlMillis = Math.max(ttlMillis, 0L);
+		this.clock = clock != null ? clock : Clock.systemUTC();
+	}
+
+	/**
+	 * Free slot starts per day for {@code from..to} inclusive, in date order. Ranges
+	 * inside the horizon are served from the cached window, which is rebuilt when the
+	 * schedule no longer matches the one it was built from; anything else is loaded
+	 * uncached.
+	 */
+	public Map<LocalDate, List<LocalTime>> slotStarts(@NonNull final String userId,
+			@NonNull final AvailabilityScheduleDto schedule, @NonNull final LocalDate from,
+			@NonNull final LocalDate to) {
+		return window(userId, schedule, from, to).slotStarts(from, to);
+	}
+
+	/**
+	 * The first {@code limit} free slot starts at or after {@code notBefore}, through the
+	 * end of {@code to}, in chronological order across days.
+	 */
+	public List<LocalDateTime> firstFree(@NonNull final String userId, @NonNull final AvailabilityScheduleDto schedule,
+			@NonNull final LocalDateTime notBefore, @NonNull final LocalDate to, final int limit) {
+		final LocalDate from = notBefore.toLocalDate();
+		if (limit <= 0 || to.isBefore(from)) {
+			return List.of();
+		}
+		return window(userId, schedule, from, to).firstFree(notBefore, to, limit);
+	}
+
+	private Window window(final String userId, final AvailabilityScheduleDto schedule, final LocalDate from,
+			final LocalDate to) {
+		final Window cached = windows.get(userId);
+		if (cached != null && isFresh(cached, schedule)) {
+			return cached.covers(from, to) ? cached : load(userId, schedule, from, to);
+		}
+		final LocalDate today = LocalDate.now(clock.withZone(ZoneId.of(schedule.getTimezone())));
+		final LocalDate lastDay = today.plusDays(horizonDays - 1L);
+		if (from.isBefore(today) || to.isAfter(lastDay)) {
+			return load(userId, schedule, from, to);
+		}
+		final Window window = load(userId, schedule, today, lastDay);
+		windows.put(userId, window);
+		return window;
+	}
+
+	/**
+	 * Reads the database for {@code from..to} without touching the cached window; used to
+	 * confirm a booking against committed state.
+	 */
+	public Map<LocalDate, List<LocalTime>> loadSlotStarts(@NonNull final String userId,
+			@NonNull final AvailabilityScheduleDto schedule, @NonNull final LocalDate from,
+			@NonNull final LocalDate to) {
+		return load(userId, schedule, from, to).slotStarts(from, to);
+	}
+
+	public void appointmentScheduled(@Nullable final String userId, @Nullable final Date eventDateTime,
+			@Nullable final Integer durationMinutes) {
+		final int minutes = durationMinutes != null ? durationMinutes : DEFAULT_EVENT_DURATION_MINUTES;
+		if (userId == null || eventDateTime == null || minutes <= 0) {
+			return;
+		}
+		afterCommit(() -> {
+			final Window window = windows.get(userId);
+			if (window != null) {
+				final LocalDateTime start = LocalDateTime.ofInstant(eventDateTime.toInstant(), window.zoneId());
+				window.markBusy(new BusyTimeInterval(start, start.plusMinutes(minutes)));
+			}
+		});
+	}
+
+	public void blockCreated(@Nullable final String userId, @Nullable final BusyTimeInterval interval) {
+		if (userId == null || interval == null) {
+			return;
+		}
+		afterCommit(() -> {
+			final Window window = windows.get(userId);
+			if (window != null) {
+				window.markBusy(interval);
+			}
+		});
+	}
+
+	/**
+	 * Drops the window now and again after commit, so a read racing the transaction
+	 * cannot cache the pre-commit state.
+	 */
+	public void invalidate(@Nullable final String userId) {
+		if (userId == null) {
+			return;
+		}
+		windows.remove(userId);
+		afterCommit(() -> windows.remove(userId));
+	}
+
+	/**
+	 * A window expires with its TTL, when working hours change, and once its first day is
+	 * no longer today, so the horizon rolls forward at midnight in the nutritionist's
+	 * zone.
+	 */
+	private boolean isFresh(final Window window, final AvailabilityScheduleDto schedule) {
+		return clock.millis() < window.expiresAtMillis() && window.schedule().equals(schedule)
+				&& window.firstDay().equals(LocalDate.now(clock.withZone(window.zoneId())));
+	}
+
+	private Window load(final String userId, final AvailabilityScheduleDto schedule, final LocalDate from,
+			final LocalDate to) {
+		final ZoneId zoneId = ZoneId.of(schedule.getTimezone());
+		final LocalDate end = to.isBefore(from) ? from : to;
+		final Window window = new Window(schedule, zoneId, from, (int) ChronoUnit.DAYS.between(from, end) + 1,
+				weekdayTemplates(schedule), clock.millis() + ttlMillis);
+		final LocalDateTime rangeStart = from.atStartOfDay();
+		final LocalDateTime rangeEnd = end.plusDays(1).atStartOfDay();
+		final List<BusyTimeInterval> busy = new ArrayList<>();
+		for (final NutritionistAvailabilityBlock block : blockRepository.findOverlappingRange(userId, rangeStart,
+				rangeEnd)) {
+			busy.add(new BusyTimeInterval(block.getStartDateTime(), block.getEndDateTime()));
+		}
+		final List<CalendarEvent> events = calendarEventRepository.findByUserIdAndDateRange(userId,
+				Date.from(rangeStart.atZone(zoneId).toInstant()), Date.from(rangeEnd.atZone(zoneId).toInstant()));
+		for (final CalendarEvent event : events) {
+			if (event.getStatus() != EventStatus.SCHEDULED || event.getEventDateTime() == null) {
+				continue;
+			}
+			final LocalDateTime eventStart = LocalDateTime.ofInstant(event.getEventDateTime().toInstant(), zoneId);
+			final int durationMinutes = event.getDurationMinutes() != null ? event.getDurationMinutes()
+					: DEFAULT_EVENT_DURATION_MINUTES;
+			busy.add(new BusyTimeInterval(eventStart, eventStart.plusMinutes(durationMinutes)));
+		}
+		window.sweepBusy(busy);
+		if (log.isDebugEnabled()) {
+			log.debug("Loaded {} day availability window for user {}", window.days(),
+					LogRedaction.redactUserId(userId));
+		}
+		return window;
+	}
+
+	private static Map<DayOfWeek, List<LocalTime>> weekdayTemplates(final AvailabilityScheduleDto schedule) {
+		final Map<DayOfWeek, List<LocalTime>> templates = new EnumMap<>(DayOfWeek.class);
+		for (final DayOfWeek dayOfWeek : DayOfWeek.values()) {
+			final List<WorkingHoursIntervalDto> intervals = schedule.getIntervals()
+				.stream()
+				.filter(interval -> interval.getDayOfWeek() == dayOfWeek.getValue())
+				.toList();
+			templates.put(dayOfWeek,
+					BookingSlotGenerator.generateSlotStarts(intervals, schedule.getSlotDurationMinutes()));
+		}
+		return templates;
+	}
+
+	private static void afterCommit(final Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	/**
+	 * Bit {@code day * stride + i} is set while the {@code i}-th slot of that weekday's
+	 * template is free. Mutations and reads synchronize on the window.
+	 */
+	private static final class Window {
+
+		private final AvailabilityScheduleDto schedule;
+
+		private final ZoneId zoneId;
+
+		private final int slotDurationMinutes;
+
+		private final LocalDate firstDay;
+
+		private final int days;
+
+		private final Map<DayOfWeek, List<LocalTime>> templates;
+
+		private final long expiresAtMillis;
+
+		private final int stride;
+
+		private final BitSet free;
+
+		Window(final AvailabilityScheduleDto schedule, final ZoneId zoneId, final LocalDate firstDay, final int days,
+				final Map<DayOfWeek, List<LocalTime>> templates, final long expiresAtMillis) {
+			this.schedule = schedule;
+			this.zoneId = zoneId;
+			this.slotDurationMinutes = schedule.getSlotDurationMinutes();
+			this.firstDay = firstDay;
+			this.days = days;
+			this.templates = templates;
+			this.expiresAtMillis = expiresAtMillis;
+			int widest = 1;
+			for (final List<LocalTime> template : templates.values()) {
+				widest = Math.max(widest, template.size());
+			}
+			this.stride = widest;
+			this.free = new BitSet(days * stride);
+			for (int day = 0; day < days; day++) {
+				final int size = template(day).size();
+				free.set(day * stride, day * stride + size);
+			}
+		}
+
+		AvailabilityScheduleDto schedule() {
+			return schedule;
+		}
+
+		ZoneId zoneId() {
+			return zoneId;
+		}
+
+		LocalDate firstDay() {
+			return firstDay;
+		}
+
+		int days() {
+			return days;
+		}
+
+		long expiresAtMillis() {
+			return expiresAtMillis;
+		}
+
+		boolean covers(final LocalDate from, final LocalDate to) {
+			return !from.isBefore(firstDay) && !to.isAfter(firstDay.plusDays(days - 1L));
+		}
+
+		synchronized void markBusy(final BusyTimeInterval busy) {
+			LocalDate date = busy.start().toLocalDate().isBefore(firstDay) ? firstDay : busy.start().toLocalDate();
+			final LocalDate lastDate = firstDay.plusDays(days - 1L);
+			while (!date.isAfter(lastDate) && date.atStartOfDay().isBefore(busy.end())) {
+				final int day = (int) ChronoUnit.DAYS.between(firstDay, date);
+				final List<LocalTime> template = template(day);
+				for (int index = 0; index < template.size(); index++) {
+					final LocalDateTime slotStart = date.atTime(template.get(index));
+					if (!slotStart.isBefore(busy.end())) {
+						break;
+					}
+					if (busy.overlaps(slotStart, slotStart.plusMinutes(slotDurationMinutes))) {
+						free.clear(day * stride + index);
+					}
+				}
+				date = date.plusDays(1);
+			}
+		}
+
+		/**
+		 * Clears every slot overlapped by {@code busy} in one chronological pass over the
+		 * window.
+		 */
+		synchronized void sweepBusy(final List<BusyTimeInterval> busy) {
+			final BookingSlotFilter.BusySweep sweep = new BookingSlotFilter.BusySweep(busy);
+			for (int day = 0; day < days; day++) {
+				final LocalDate date = firstDay.plusDays(day);
+				final List<LocalTime> template = template(day);
+				for (int index = 0; index < template.size(); index++) {
+					final LocalDateTime slotStart = date.atTime(template.get(index));
+					if (sweep.isBusy(slotStart, slotStart.plusMinutes(slotDurationMinutes))) {
+						free.clear(day * stride + index);
+					}
+				}
+			}
+		}
+
+		synchronized Map<LocalDate, List<LocalTime>> slotStarts(final LocalDate from, final LocalDate to) {
+			final Map<LocalDate, List<LocalTime>> result = new LinkedHashMap<>();
+			for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+				final int day = (int) ChronoUnit.DAYS.between(firstDay, date);
+				final List<LocalTime> template = template(day);
+				final List<LocalTime> starts = new ArrayList<>();
+				final int base = day * stride;
+				for (int bit = free.nextSetBit(base); bit >= 0
+						&& bit < base + template.size(); bit = free.nextSetBit(bit + 1)) {
+					starts.add(template.get(bit - base));
+				}
+				result.put(date, List.copyOf(starts));
+			}
+			return result;
+		}
+
+		synchronized List<LocalDateTime> firstFree(final LocalDateTime notBefore, final LocalDate to, final int limit) {
+			final List<LocalDateTime> result = new ArrayList<>(limit);
+			for (LocalDate date = notBefore.toLocalDate(); !date.isAfter(to)
+					&& result.size() < limit; date = date.plusDays(1)) {
+				final int day = (int) ChronoUnit.DAYS.between(firstDay, date);
+				final List<LocalTime> template = template(day);
+				final int base = day * stride;
+				for (int bit = free.nextSetBit(base); bit >= 0 && bit < base + template.size()
+						&& result.size() < limit; bit = free.nextSetBit(bit + 1)) {
+					final LocalDateTime start = date.atTime(template.get(bit - base));
+					if (!start.isBefore(notBefore)) {
+						result.add(start);
+					}
+				}
+			}
+			return List.copyOf(result);
+		}
+
+		private List<LocalTime> template(final int day) {
+			return templates.get(firstDay.plusDays(day).getDayOfWeek());
+		}
+
+	}
+
+}
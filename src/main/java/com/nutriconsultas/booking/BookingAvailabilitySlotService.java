@@ -6,11 +6,32 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 
 public interface BookingAvailabilitySlotService {
 
 	List<LocalTime> getAvailableSlotStarts(@NonNull String userId, @NonNull LocalDate date);
 
+	/**
+	 * Free slot starts for every day in {@code from..to} inclusive, keyed in date order.
+	 */
+	Map<LocalDate, List<LocalTime>> getAvailableSlotStarts(@NonNull String userId, @NonNull LocalDate from,
+			@NonNull LocalDate to);
+
+	/**
+	 * Checks the slot against committed blocks and appointments, bypassing the cached
+	 * availability window.
+	 */
+	boolean isSlotAvailable(@NonNull String userId, @NonNull LocalDateTime start);
+
+	/**
+	 * The first {@code limit} free slot starts at or after {@code notBefore} through the
+	 * end of {@code to}, across days in chronological order. Blocks and appointments for
+	 * the whole range are loaded at most once.
+	 */
+	List<LocalDateTime> findAvailableStarts(@NonNull String userId, @NonNull LocalDateTime notBefore,
+			@NonNull LocalDate to, int limit);
+
 	LocalDateTime findNextAvailableStart(@NonNull String userId, @NonNull LocalDate date,
 			@NonNull LocalDateTime notBefore);
 
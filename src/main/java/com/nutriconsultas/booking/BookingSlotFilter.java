@@ -4,10 +4,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
  * Removes slot starts that overlap busy intervals (absence blocks, appointments) (#247).
+ * Slots and intervals are swept in start order, so the cost is dominated by sorting the
+ * busy intervals rather than by comparing every slot with every interval. The sweep is
+ * shared with {@link BookingAvailabilityCalendar}, which runs it over a whole window.
  */
 public final class BookingSlotFilter {
 
@@ -22,25 +26,52 @@ public final class BookingSlotFilter {
 		if (busyIntervals == null || busyIntervals.isEmpty()) {
 			return List.copyOf(slotStarts);
 		}
+		final BusySweep sweep = new BusySweep(busyIntervals);
+		final List<LocalTime> sortedStarts = new ArrayList<>(slotStarts);
+		sortedStarts.sort(Comparator.naturalOrder());
 		final List<LocalTime> available = new ArrayList<>();
-		for (final LocalTime slotStart : slotStarts) {
+		for (final LocalTime slotStart : sortedStarts) {
 			final LocalDateTime start = date.atTime(slotStart);
-			final LocalDateTime end = start.plusMinutes(slotDurationMinutes);
-			if (!isBusy(start, end, busyIntervals)) {
+			if (!sweep.isBusy(start, start.plusMinutes(slotDurationMinutes))) {
 				available.add(slotStart);
 			}
 		}
 		return List.copyOf(available);
 	}
 
-	private static boolean isBusy(final LocalDateTime slotStart, final LocalDateTime slotEnd,
-			final List<BusyTimeInterval> busyIntervals) {
-		for (final BusyTimeInterval busy : busyIntervals) {
-			if (busy.overlaps(slotStart, slotEnd)) {
-				return true;
+	/**
+	 * Walks busy intervals in start order alongside slots visited in chronological order;
+	 * each interval is read once however many slots are checked.
+	 */
+	static final class BusySweep {
+
+		private final List<BusyTimeInterval> busy;
+
+		private int next;
+
+		private LocalDateTime latestEnd;
+
+		BusySweep(final List<BusyTimeInterval> busyIntervals) {
+			this.busy = new ArrayList<>(busyIntervals);
+			this.busy.sort(Comparator.comparing(BusyTimeInterval::start));
+		}
+
+		/**
+		 * Slots must be passed in start order.
+		 */
+		boolean isBusy(final LocalDateTime slotStart, final LocalDateTime slotEnd) {
+			// Every interval starting before this slot ends is folded into latestEnd,
+			// so the slot is busy exactly when one of them still runs at its start.
+			while (next < busy.size() && busy.get(next).start().isBefore(slotEnd)) {
+				final LocalDateTime busyEnd = busy.get(next).end();
+				if (latestEnd == null || busyEnd.isAfter(latestEnd)) {
+					latestEnd = busyEnd;
+				}
+				next++;
 			}
+			return latestEnd != null && latestEnd.isAfter(slotStart);
 		}
-		return false;
+
 	}
 
 }
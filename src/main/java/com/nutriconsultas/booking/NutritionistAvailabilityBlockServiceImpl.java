@@ -17,8 +17,12 @@ public class NutritionistAvailabilityBlockServiceImpl implements NutritionistAva
 
 	private final NutritionistAvailabilityBlockRepository blockRepository;
 
-	public NutritionistAvailabilityBlockServiceImpl(final NutritionistAvailabilityBlockRepository blockRepository) {
+	private final BookingAvailabilityCalendar availabilityCalendar;
+
+	public NutritionistAvailabilityBlockServiceImpl(final NutritionistAvailabilityBlockRepository blockRepository,
+			final BookingAvailabilityCalendar availabilityCalendar) {
 		this.blockRepository = blockRepository;
+		this.availabilityCalendar = availabilityCalendar;
 	}
 
 	@Override
@@ -39,6 +43,8 @@ public class NutritionistAvailabilityBlockServiceImpl implements NutritionistAva
 		entity.setStartDateTime(block.getStartDateTime());
 		entity.setEndDateTime(block.getEndDateTime());
 		final NutritionistAvailabilityBlock saved = blockRepository.save(entity);
+		availabilityCalendar.blockCreated(userId,
+				new BusyTimeInterval(saved.getStartDateTime(), saved.getEndDateTime()));
 		if (log.isInfoEnabled()) {
 			log.info("Created availability block id={} for user {}", saved.getId(), LogRedaction.redactUserId(userId));
 		}
@@ -51,6 +57,7 @@ public class NutritionistAvailabilityBlockServiceImpl implements NutritionistAva
 		final NutritionistAvailabilityBlock block = blockRepository.findByIdAndUserId(blockId, userId)
 			.orElseThrow(() -> new IllegalArgumentException("Bloqueo no encontrado"));
 		blockRepository.delete(block);
+		availabilityCalendar.invalidate(userId);
 		if (log.isInfoEnabled()) {
 			log.info("Deleted availability block id={} for user {}", blockId, LogRedaction.redactUserId(userId));
 		}
@@ -0,0 +1,9 @@
+package com.nutriconsultas.booking;
+
+import java.util.List;
+
+/**
+ * Bookable slot starts ({@code HH:mm}) for one day of a public slot range.
+ */
+public record PublicBookingDaySlots(String date, List<String> slots) {
+}
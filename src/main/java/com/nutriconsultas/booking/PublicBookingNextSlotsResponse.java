@@ -0,0 +1,11 @@
+package com.nutriconsultas.booking;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Earliest bookable slot starts from {@code minBookableDate} onward, across days.
+ */
+public record PublicBookingNextSlotsResponse(LocalDate minBookableDate, int minAdvanceDays,
+		List<PublicBookingSlotStart> slots) {
+}
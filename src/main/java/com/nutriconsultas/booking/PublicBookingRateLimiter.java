@@ -4,10 +4,7 @@ import java.util.concurrent.Callable;
 
 import org.springframework.stereotype.Component;
 
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
-import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import com.nutriconsultas.ratelimit.ClientRateLimiter;
 
 /**
  * Rate limits anonymous public booking submissions (#248).
@@ -17,25 +14,14 @@ public final class PublicBookingRateLimiter {
 
 	public static final String PUBLIC_BOOKING = "publicBooking";
 
-	private final RateLimiterRegistry rateLimiterRegistry;
+	private final ClientRateLimiter clientRateLimiter;
 
-	public PublicBookingRateLimiter(final RateLimiterRegistry rateLimiterRegistry) {
-		this.rateLimiterRegistry = rateLimiterRegistry;
+	public PublicBookingRateLimiter(final ClientRateLimiter clientRateLimiter) {
+		this.clientRateLimiter = clientRateLimiter;
 	}
 
 	public <T> T execute(final String clientKey, final Callable<T> callable) {
-		final RateLimiter templateLimiter = rateLimiterRegistry.rateLimiter(PUBLIC_BOOKING);
-		final RateLimiterConfig config = templateLimiter.getRateLimiterConfig();
-		final RateLimiter limiter = rateLimiterRegistry.rateLimiter(PUBLIC_BOOKING + ":" + clientKey, config);
-		try {
-			return RateLimiter.decorateCallable(limiter, callable).call();
-		}
-		catch (RequestNotPermitted ex) {
-			throw ex;
-		}
-		catch (Exception ex) {
-			throw new IllegalStateException("Rate-limited public booking call failed", ex);
-		}
+		return clientRateLimiter.execute(PUBLIC_BOOKING, clientKey, callable);
 	}
 
 }
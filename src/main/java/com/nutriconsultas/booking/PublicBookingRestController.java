@@ -50,6 +50,18 @@ public class PublicBookingRestController {
 		return publicBookingService.getPublicSlots(publicBookingId, date);
 	}
 
+	@GetMapping("/{publicBookingId}/slots/range")
+	public PublicBookingSlotRangeResponse getSlotRange(@PathVariable final String publicBookingId,
+			@RequestParam final String from, @RequestParam(defaultValue = "7") final int days) {
+		return publicBookingService.getPublicSlotRange(publicBookingId, from, days);
+	}
+
+	@GetMapping("/{publicBookingId}/slots/next")
+	public PublicBookingNextSlotsResponse getNextSlots(@PathVariable final String publicBookingId,
+			@RequestParam(defaultValue = "1") final int limit) {
+		return publicBookingService.getPublicNextSlots(publicBookingId, limit);
+	}
+
 	@PostMapping("/{publicBookingId}/book")
 	public ResponseEntity<Map<String, Object>> book(@PathVariable final String publicBookingId,
 			@Valid @RequestBody final PublicBookingRequestDto request, final BindingResult bindingResult,
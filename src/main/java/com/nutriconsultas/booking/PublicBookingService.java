@@ -8,6 +8,10 @@ public interface PublicBookingService {
 
 	PublicBookingSlotsResponse getPublicSlots(@NonNull String publicBookingId, @NonNull String date);
 
+	PublicBookingSlotRangeResponse getPublicSlotRange(@NonNull String publicBookingId, @NonNull String from, int days);
+
+	PublicBookingNextSlotsResponse getPublicNextSlots(@NonNull String publicBookingId, int limit);
+
 	PublicBookingConfirmation book(@NonNull String publicBookingId, @NonNull PublicBookingRequestDto request);
 
 }
@@ -5,8 +5,10 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -36,6 +38,12 @@ public class PublicBookingServiceImpl implements PublicBookingService {
 
 	private static final DateTimeFormatter APPOINTMENT_DATE_DISPLAY = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
+	static final int MAX_RANGE_DAYS = 31;
+
+	static final int MAX_NEXT_SLOTS = 20;
+
+	static final int NEXT_SLOTS_SEARCH_DAYS = 60;
+
 	private static final String DEFAULT_DISPLAY_NAME = "Consulta nutricional";
 
 	private static final String ADVANCE_NOTICE = "Las citas requieren al menos 2 días de anticipación.";
@@ -104,6 +112,49 @@ public class PublicBookingServiceImpl implements PublicBookingService {
 				BookingAvailabilityConstants.MIN_BOOKING_ADVANCE_DAYS, slots, null);
 	}
 
+	/**
+	 * Days before the earliest bookable date are skipped, so {@code from} is clamped
+	 * forward and the window always returns {@code days} bookable dates.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public PublicBookingSlotRangeResponse getPublicSlotRange(@NonNull final String publicBookingId,
+			@NonNull final String from, final int days) {
+		final NutritionistProfile profile = resolveActiveProfile(publicBookingId);
+		final AvailabilityScheduleDto schedule = availabilityService.getSchedule(profile.getUserId());
+		final ZoneId zoneId = ZoneId.of(schedule.getTimezone());
+		final LocalDate minBookableDate = PublicBookingAdvanceRules.earliestBookableDate(zoneId);
+		final LocalDate requested = LocalDate.parse(from);
+		final LocalDate start = requested.isBefore(minBookableDate) ? minBookableDate : requested;
+		final LocalDate end = start.plusDays(Math.min(Math.max(days, 1), MAX_RANGE_DAYS) - 1L);
+		final Map<LocalDate, List<LocalTime>> slotsByDate = bookingAvailabilitySlotService
+			.getAvailableSlotStarts(profile.getUserId(), start, end);
+		final List<PublicBookingDaySlots> daySlots = new ArrayList<>(slotsByDate.size());
+		slotsByDate.forEach((date, starts) -> daySlots.add(new PublicBookingDaySlots(date.toString(),
+				starts.stream().map(SLOT_TIME_FORMAT::format).collect(Collectors.toList()))));
+		return new PublicBookingSlotRangeResponse(start.toString(), end.toString(), minBookableDate,
+				BookingAvailabilityConstants.MIN_BOOKING_ADVANCE_DAYS, daySlots,
+				requested.isBefore(minBookableDate) ? ADVANCE_NOTICE : null);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public PublicBookingNextSlotsResponse getPublicNextSlots(@NonNull final String publicBookingId, final int limit) {
+		final NutritionistProfile profile = resolveActiveProfile(publicBookingId);
+		final AvailabilityScheduleDto schedule = availabilityService.getSchedule(profile.getUserId());
+		final LocalDate minBookableDate = PublicBookingAdvanceRules
+			.earliestBookableDate(ZoneId.of(schedule.getTimezone()));
+		final List<PublicBookingSlotStart> slots = bookingAvailabilitySlotService
+			.findAvailableStarts(profile.getUserId(), minBookableDate.atStartOfDay(),
+					minBookableDate.plusDays(NEXT_SLOTS_SEARCH_DAYS - 1L), Math.min(Math.max(limit, 1), MAX_NEXT_SLOTS))
+			.stream()
+			.map(start -> new PublicBookingSlotStart(start.toLocalDate().toString(),
+					SLOT_TIME_FORMAT.format(start.toLocalTime())))
+			.collect(Collectors.toList());
+		return new PublicBookingNextSlotsResponse(minBookableDate,
+				BookingAvailabilityConstants.MIN_BOOKING_ADVANCE_DAYS, slots);
+	}
+
 	@Override
 	@Transactional
 	public PublicBookingConfirmation book(@NonNull final String publicBookingId,
@@ -118,8 +169,7 @@ public class PublicBookingServiceImpl implements PublicBookingService {
 		if (!PublicBookingAdvanceRules.isSlotBookable(slotStart, zoneId)) {
 			throw new IllegalArgumentException(ADVANCE_NOTICE);
 		}
-		final List<LocalTime> available = bookingAvailabilitySlotService.getAvailableSlotStarts(userId, date);
-		if (!available.contains(time)) {
+		if (!bookingAvailabilitySlotService.isSlotAvailable(userId, slotStart)) {
 			throw new IllegalArgumentException("El horario seleccionado ya no está disponible");
 		}
 		final Paciente paciente = findOrCreatePatient(userId, request);
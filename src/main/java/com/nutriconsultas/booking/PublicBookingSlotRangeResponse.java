@@ -0,0 +1,12 @@
+package com.nutriconsultas.booking;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Public slots for consecutive days starting at {@code from}, so the booking page can
+ * page through dates with one request per window.
+ */
+public record PublicBookingSlotRangeResponse(String from, String to, LocalDate minBookableDate, int minAdvanceDays,
+		List<PublicBookingDaySlots> days, String notice) {
+}
@@ -0,0 +1,7 @@
+package com.nutriconsultas.booking;
+
+/**
+ * One bookable slot start: {@code yyyy-MM-dd} date and {@code HH:mm} time.
+ */
+public record PublicBookingSlotStart(String date, String time) {
+}
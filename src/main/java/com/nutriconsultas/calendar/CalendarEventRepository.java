@@ -11,6 +11,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.nutriconsultas.calendar.projection.CalendarEventRangeView;
+
 @Repository
 public interface CalendarEventRepository
 		extends JpaRepository<CalendarEvent, Long>, JpaSpecificationExecutor<CalendarEvent> {
@@ -66,4 +68,11 @@ public interface CalendarEventRepository
 	List<CalendarEvent> findPastByPacienteId(@Param("pacienteId") Long pacienteId, @Param("beforeDate") Date beforeDate,
 			@Param("status") EventStatus status, Pageable pageable);
 
+	@Query("SELECT e.id AS id, e.title AS title, e.eventDateTime AS eventDateTime, "
+			+ "e.durationMinutes AS durationMinutes, e.status AS status, p.id AS pacienteId, p.name AS pacienteName "
+			+ "FROM CalendarEvent e JOIN e.paciente p WHERE p.userId = :userId "
+			+ "AND e.eventDateTime >= :startDate AND e.eventDateTime < :endDate ORDER BY e.eventDateTime ASC, e.id ASC")
+	List<CalendarEventRangeView> findRangeViewsByUserId(@Param("userId") String userId,
+			@Param("startDate") Date startDate, @Param("endDate") Date endDate);
+
 }
@@ -14,12 +14,15 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
@@ -27,6 +30,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -34,6 +38,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.nutriconsultas.booking.BookingAvailabilitySlotService;
+import com.nutriconsultas.calendar.projection.CalendarEventRangeView;
 import com.nutriconsultas.controller.AbstractGridController;
 import com.nutriconsultas.dataTables.paging.Column;
 import com.nutriconsultas.dataTables.paging.Direction;
@@ -48,6 +53,7 @@ import com.nutriconsultas.paciente.calculation.PhysicalActivityLevel;
 import com.nutriconsultas.paciente.calculation.PhysiologicalStressType;
 import com.nutriconsultas.paciente.calculation.StressFormulaTable;
 import com.nutriconsultas.paciente.calculation.StressIncrementMode;
+import com.nutriconsultas.util.IfNoneMatch;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -56,6 +62,18 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CalendarEventRestController extends AbstractGridController<CalendarEvent> {
 
+	/** Days after a full date searched for the next open slot suggestion. */
+	static final int NEXT_AVAILABLE_SEARCH_DAYS = 30;
+
+	/** Longest range served by {@code /events/range}; a month view spans six weeks. */
+	static final int MAX_RANGE_DAYS = 62;
+
+	/**
+	 * Browsers must revalidate every time; an unchanged week or month comes back as 304
+	 * without a body.
+	 */
+	private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
 	@Autowired
 	private CalendarEventService service;
 
@@ -158,6 +176,61 @@ public class CalendarEventRestController extends AbstractGridController<Calendar
 		return filteredEvents.stream().map(this::toCalendarEventMap).collect(Collectors.toList());
 	}
 
+	/**
+	 * Month/week grid feed: slim rows for the nutritionist's events in
+	 * {@code [start, end)} with an ETag, so moving back to an already seen week costs one
+	 * indexed query and a 304. Ranges longer than {@link #MAX_RANGE_DAYS} are cut at that
+	 * length.
+	 */
+	@GetMapping("/events/range")
+	public ResponseEntity<List<Map<String, Object>>> getCalendarEventRange(
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Date start,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Date end,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+			@AuthenticationPrincipal final OidcUser principal) {
+		final String userId = getUserId(principal);
+		if (userId == null) {
+			log.error("Cannot get calendar event range: user ID is null");
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+		final Date rangeEnd = new Date(
+				Math.min(end.getTime(), start.getTime() + TimeUnit.DAYS.toMillis(MAX_RANGE_DAYS)));
+		final List<CalendarEventRangeView> rows = rangeEnd.after(start)
+				? service.findRangeViews(userId, start, rangeEnd) : List.of();
+		final String etag = CalendarRangeEtags.of(start, rangeEnd, rows);
+		if (IfNoneMatch.matches(ifNoneMatch, etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+		}
+		final List<Map<String, Object>> events = rows.stream().map(this::toCalendarRangeEventMap).toList();
+		return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(events);
+	}
+
+	private Map<String, Object> toCalendarRangeEventMap(final CalendarEventRangeView row) {
+		final Map<String, Object> eventMap = new HashMap<>();
+		eventMap.put("id", row.getId().toString());
+		eventMap.put("title", row.getTitle());
+		if (row.getEventDateTime() != null) {
+			eventMap.put("start", formatDateForCalendar(row.getEventDateTime()));
+			if (row.getDurationMinutes() != null && row.getDurationMinutes() > 0) {
+				eventMap.put("end", formatDateForCalendar(
+						new Date(row.getEventDateTime().getTime() + row.getDurationMinutes() * 60_000L)));
+			}
+		}
+		eventMap.put("allDay", false);
+		if (row.getStatus() != null) {
+			eventMap.put("backgroundColor", getEventColor(row.getStatus()));
+			eventMap.put("borderColor", getEventColor(row.getStatus()));
+		}
+		final Map<String, Object> extendedProps = new HashMap<>();
+		extendedProps.put("paciente", row.getPacienteName());
+		extendedProps.put("pacienteId", row.getPacienteId());
+		putEnumNameIfPresent(extendedProps, "status", row.getStatus());
+		extendedProps.put("durationMinutes", row.getDurationMinutes());
+		eventMap.put("extendedProps", extendedProps);
+		eventMap.put("url", "/admin/calendario/" + row.getId());
+		return eventMap;
+	}
+
 	private Map<String, Object> toCalendarEventMap(final CalendarEvent event) {
 		final Map<String, Object> eventMap = new HashMap<>();
 		eventMap.put("id", event.getId().toString());
@@ -356,6 +429,12 @@ public class CalendarEventRestController extends AbstractGridController<Calendar
 
 		final Map<String, Object> result = new HashMap<>();
 		result.put("available", false);
+		final List<LocalDateTime> later = bookingAvailabilitySlotService.findAvailableStarts(userId,
+				parsedLocalDate.plusDays(1).atStartOfDay(), parsedLocalDate.plusDays(NEXT_AVAILABLE_SEARCH_DAYS), 1);
+		if (!later.isEmpty()) {
+			result.put("nextAvailableDateTime",
+					formatDateForCalendar(Date.from(later.get(0).atZone(ZoneId.systemDefault()).toInstant())));
+		}
 		return result;
 	}
 
@@ -5,6 +5,8 @@ import java.util.List;
 
 import org.springframework.lang.NonNull;
 
+import com.nutriconsultas.calendar.projection.CalendarEventRangeView;
+
 public interface CalendarEventService {
 
 	CalendarEvent findById(@NonNull Long id);
@@ -17,6 +19,12 @@ public interface CalendarEventService {
 
 	List<CalendarEvent> findEventsBetweenDates(@NonNull Date startDate, @NonNull Date endDate);
 
+	/**
+	 * Grid rows for the nutritionist's events in {@code [startDate, endDate)}, ordered by
+	 * start.
+	 */
+	List<CalendarEventRangeView> findRangeViews(@NonNull String userId, @NonNull Date startDate, @NonNull Date endDate);
+
 	CalendarEvent save(@NonNull CalendarEvent event);
 
 	void delete(@NonNull Long id);
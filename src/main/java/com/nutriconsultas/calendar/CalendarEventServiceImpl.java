@@ -8,7 +8,12 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.nutriconsultas.booking.BookingAvailabilityCalendar;
+import com.nutriconsultas.calendar.projection.CalendarEventRangeView;
 import com.nutriconsultas.paciente.metrics.BodyMetricSource;
+import com.nutriconsultas.sync.PatientChangeLogService;
+import com.nutriconsultas.sync.PatientChangeOperation;
+import com.nutriconsultas.sync.PatientChangeType;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,6 +27,12 @@ public class CalendarEventServiceImpl implements CalendarEventService {
 	@Autowired
 	private com.nutriconsultas.paciente.metrics.BodyMetricRecordService bodyMetricRecordService;
 
+	@Autowired
+	private PatientChangeLogService changeLogService;
+
+	@Autowired
+	private BookingAvailabilityCalendar availabilityCalendar;
+
 	@Override
 	@Transactional(readOnly = true)
 	public CalendarEvent findById(@NonNull final Long id) {
@@ -59,12 +70,26 @@ public class CalendarEventServiceImpl implements CalendarEventService {
 		return repository.findEventsBetweenDates(startDate, endDate);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public List<CalendarEventRangeView> findRangeViews(@NonNull final String userId, @NonNull final Date startDate,
+			@NonNull final Date endDate) {
+		log.debug("finding CalendarEvent range views for user {} between {} and {}.", userId, startDate, endDate);
+		return repository.findRangeViewsByUserId(userId, startDate, endDate);
+	}
+
 	@Override
 	@Transactional
 	public CalendarEvent save(@NonNull final CalendarEvent event) {
 		log.info("saving CalendarEvent {}.", event);
+		final boolean created = event.getId() == null;
 		final CalendarEvent saved = repository.save(event);
 		bodyMetricRecordService.syncFromConsultation(saved);
+		if (saved.getPaciente() != null) {
+			changeLogService.record(saved.getPaciente().getId(), PatientChangeType.VISIT, saved.getId(),
+					PatientChangeOperation.UPSERT);
+			updateAvailability(saved, created);
+		}
 		log.info("CalendarEvent saved {}.", saved);
 		return saved;
 	}
@@ -77,7 +102,11 @@ public class CalendarEventServiceImpl implements CalendarEventService {
 		if (event != null) {
 			final Long pacienteId = event.getPaciente() != null ? event.getPaciente().getId() : null;
 			repository.deleteById(id);
+			if (event.getPaciente() != null && event.getStatus() == EventStatus.SCHEDULED) {
+				availabilityCalendar.invalidate(event.getPaciente().getUserId());
+			}
 			if (pacienteId != null) {
+				changeLogService.record(pacienteId, PatientChangeType.VISIT, id, PatientChangeOperation.DELETE);
 				bodyMetricRecordService.removeSourceAndRefreshPatient(BodyMetricSource.CONSULTATION, id, pacienteId);
 			}
 		}
@@ -87,4 +116,18 @@ public class CalendarEventServiceImpl implements CalendarEventService {
 		log.info("CalendarEvent {} deleted successfully.", id);
 	}
 
+	/**
+	 * A new appointment only removes slots, so it is applied to the cached availability
+	 * window in place; edits may free a slot and drop the window instead.
+	 */
+	private void updateAvailability(final CalendarEvent saved, final boolean created) {
+		final String userId = saved.getPaciente().getUserId();
+		if (!created) {
+			availabilityCalendar.invalidate(userId);
+		}
+		else if (saved.getStatus() == EventStatus.SCHEDULED) {
+			availabilityCalendar.appointmentScheduled(userId, saved.getEventDateTime(), saved.getDurationMinutes());
+		}
+	}
+
 }
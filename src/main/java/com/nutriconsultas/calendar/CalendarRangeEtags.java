@@ -0,0 +1,50 @@
+package com.nutriconsultas.calendar;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.util.DigestUtils;
+
+import com.nutriconsultas.calendar.projection.CalendarEventRangeView;
+
+/**
+ * Strong ETags for calendar range responses, hashed from the projected rows rather than
+ * the rendered JSON so the tag changes exactly when something the grid shows changes.
+ */
+final class CalendarRangeEtags {
+
+	/**
+	 * Bump when the event map layout changes so browsers drop ranges cached by an older
+	 * release.
+	 */
+	static final int PAYLOAD_FORMAT = 1;
+
+	private CalendarRangeEtags() {
+	}
+
+	static String of(final Date start, final Date end, final List<CalendarEventRangeView> rows) {
+		final StringBuilder source = new StringBuilder(64 + rows.size() * 64).append(start.getTime())
+			.append('|')
+			.append(end.getTime());
+		for (final CalendarEventRangeView row : rows) {
+			source.append('\n')
+				.append(row.getId())
+				.append('|')
+				.append(row.getTitle())
+				.append('|')
+				.append(row.getEventDateTime() != null ? row.getEventDateTime().getTime() : null)
+				.append('|')
+				.append(row.getDurationMinutes())
+				.append('|')
+				.append(row.getStatus())
+				.append('|')
+				.append(row.getPacienteId())
+				.append('|')
+				.append(row.getPacienteName());
+		}
+		return "\"cal-f" + PAYLOAD_FORMAT + "-"
+				+ DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.nutriconsultas.calendar.projection;
+
+import java.util.Date;
+
+import com.nutriconsultas.calendar.EventStatus;
+
+/**
+ * Read-only projection for the calendar month/week grid: only the columns the grid
+ * renders, with the patient name joined in the same query.
+ */
+public interface CalendarEventRangeView {
+
+	Long getId();
+
+	String getTitle();
+
+	Date getEventDateTime();
+
+	Integer getDurationMinutes();
+
+	EventStatus getStatus();
+
+	Long getPacienteId();
+
+	String getPacienteName();
+
+}
@@ -1,6 +1,7 @@
 package com.nutriconsultas.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,4 +26,51 @@ public class AsyncConfig {
 		return executor;
 	}
 
+	/**
+	 * Bulk MPX imports are long-running and database-heavy; a small pool with a short
+	 * queue keeps them from crowding out request threads and rejects floods early.
+	 */
+	@Bean(name = "mpxBulkImportExecutor")
+	public Executor mpxBulkImportExecutor() {
+		final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(2);
+		executor.setQueueCapacity(10);
+		executor.setThreadNamePrefix("mpx-bulk-import-");
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * Bounds how many lifecycle emails are in flight at once. When the queue is full the
+	 * lifecycle job sends on its own thread, which slows it down instead of failing.
+	 */
+	@Bean(name = "subscriptionNotificationExecutor")
+	public Executor subscriptionNotificationExecutor() {
+		final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(4);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("subscription-notify-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * Startup jobs and manual runs of cluster jobs from the maintenance screen. Two
+	 * threads, so a long startup migration does not hold back a manual run; further
+	 * requests are rejected while the queue is full.
+	 */
+	@Bean(name = "clusterJobExecutor")
+	public Executor clusterJobExecutor() {
+		final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.setMaxPoolSize(2);
+		executor.setQueueCapacity(5);
+		executor.setThreadNamePrefix("cluster-job-");
+		executor.initialize();
+		return executor;
+	}
+
 }
@@ -0,0 +1,135 @@
+package com.nutriconsultas.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Summarizes where boot time went from the steps recorded by the
+ * {@link BufferingApplicationStartup} installed in {@code Application#main}. Each step's
+ * own time (its duration minus its children's) is attributed to the nearest enclosing
+ * phase, so Liquibase running inside the entity manager factory's creation counts as
+ * Liquibase, not Hibernate.
+ */
+@Service
+public class StartupBreakdownService {
+
+	static final int SLOWEST_BEANS = 15;
+
+	private static final String BEAN_INSTANTIATE = "spring.beans.instantiate";
+
+	public enum Phase {
+
+		LIQUIBASE, HIBERNATE, BEANS, RUNNERS, OTHER
+
+	}
+
+	private final ApplicationStartup applicationStartup;
+
+	public StartupBreakdownService(final ApplicationStartup applicationStartup) {
+		this.applicationStartup = applicationStartup;
+	}
+
+	/**
+	 * @return the breakdown, or {@code null} when startup steps were not buffered (for
+	 * example in tests, which do not go through {@code main})
+	 */
+	@Nullable
+	public StartupBreakdown breakdown() {
+		if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+			return null;
+		}
+		return breakdown(buffering.getBufferedTimeline().getEvents());
+	}
+
+	static StartupBreakdown breakdown(final List<TimelineEvent> events) {
+		final Map<Long, StartupStep> steps = new HashMap<>();
+		final Map<Long, Long> childNanos = new HashMap<>();
+		for (final TimelineEvent event : events) {
+			final StartupStep step = event.getStartupStep();
+			steps.put(step.getId(), step);
+			if (step.getParentId() != null) {
+				childNanos.merge(step.getParentId(), event.getDuration().toNanos(), Long::sum);
+			}
+		}
+		final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+		for (final Phase phase : Phase.values()) {
+			phaseNanos.put(phase, 0L);
+		}
+		final List<BeanTiming> beans = new ArrayList<>();
+		long totalNanos = 0;
+		for (final TimelineEvent event : events) {
+			final StartupStep step = event.getStartupStep();
+			final long selfNanos = Math.max(0L,
+					event.getDuration().toNanos() - childNanos.getOrDefault(step.getId(), 0L));
+			phaseNanos.merge(phaseOf(step, steps), selfNanos, Long::sum);
+			totalNanos += selfNanos;
+			if (BEAN_INSTANTIATE.equals(step.getName())) {
+				beans.add(new BeanTiming(tag(step, "beanName"), Duration.ofNanos(selfNanos).toMillis()));
+			}
+		}
+		final Map<String, Long> phaseMillis = new LinkedHashMap<>();
+		phaseNanos.forEach((phase, nanos) -> phaseMillis.put(phase.name().toLowerCase(Locale.ROOT),
+				Duration.ofNanos(nanos).toMillis()));
+		beans.sort(Comparator.comparingLong(BeanTiming::millis).reversed());
+		return new StartupBreakdown(Duration.ofNanos(totalNanos).toMillis(), phaseMillis,
+				List.copyOf(beans.subList(0, Math.min(SLOWEST_BEANS, beans.size()))), events.size());
+	}
+
+	private static Phase phaseOf(final StartupStep step, final Map<Long, StartupStep> steps) {
+		boolean insideBean = false;
+		for (StartupStep current = step; current != null; current = current.getParentId() != null
+				? steps.get(current.getParentId()) : null) {
+			final String name = current.getName();
+			if (BEAN_INSTANTIATE.equals(name)) {
+				final String beanName = tag(current, "beanName");
+				if ("liquibase".equals(beanName)) {
+					return Phase.LIQUIBASE;
+				}
+				if ("entityManagerFactory".equals(beanName)) {
+					return Phase.HIBERNATE;
+				}
+				insideBean = true;
+			}
+			else if ("spring.boot.application.started".equals(name) || "spring.boot.application.ready".equals(name)) {
+				return Phase.RUNNERS;
+			}
+		}
+		return insideBean ? Phase.BEANS : Phase.OTHER;
+	}
+
+	@Nullable
+	private static String tag(final StartupStep step, final String key) {
+		for (final StartupStep.Tag tag : step.getTags()) {
+			if (key.equals(tag.getKey())) {
+				return tag.getValue();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Boot time per phase in milliseconds, the slowest beans by their own creation time,
+	 * and how many steps were recorded.
+	 */
+	public record StartupBreakdown(long totalMillis, Map<String, Long> phaseMillis, List<BeanTiming> slowestBeans,
+			int recordedSteps) {
+	}
+
+	public record BeanTiming(@Nullable String beanName, long millis) {
+	}
+
+}
@@ -11,6 +11,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -24,7 +25,9 @@ import lombok.NoArgsConstructor;
 public class AlimentoIngesta {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alimento_ingesta_id_seq")
+	@SequenceGenerator(name = "alimento_ingesta_id_seq", sequenceName = "alimento_ingesta_id_seq",
+			allocationSize = Dieta.ID_ALLOCATION_SIZE)
 	private Long id;
 
 	private Integer orden = 0;
@@ -0,0 +1,28 @@
+package com.nutriconsultas.dieta;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AlimentoIngestaRepository extends JpaRepository<AlimentoIngesta, Long> {
+
+	/**
+	 * Alimentos of several ingestas in one query; the catalog alimento is fetch-joined so
+	 * the eager association does not issue a select per row.
+	 */
+	@Query("SELECT ai FROM AlimentoIngesta ai LEFT JOIN FETCH ai.alimento WHERE ai.ingesta.id IN :ingestaIds")
+	List<AlimentoIngesta> findWithAlimentoByIngestaIdIn(@Param("ingestaIds") Collection<Long> ingestaIds);
+
+	/**
+	 * Alimentos of several diets with their ingesta and catalog alimento in one query.
+	 */
+	@Query("SELECT ai FROM AlimentoIngesta ai JOIN FETCH ai.ingesta i LEFT JOIN FETCH ai.alimento "
+			+ "WHERE i.dieta.id IN :dietaIds")
+	List<AlimentoIngesta> findWithAlimentoByDietaIdIn(@Param("dietaIds") Collection<Long> dietaIds);
+
+}
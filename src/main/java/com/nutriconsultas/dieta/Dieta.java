@@ -12,6 +12,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -25,8 +26,17 @@ import lombok.ToString;
 @EqualsAndHashCode(callSuper = false)
 public class Dieta extends AbstractMacroNutrible {
 
+	/**
+	 * Ids of the diet tree (diets, meals, dishes, ingredients and foods) come from pooled
+	 * sequences stepping by this much, so copying a diet needs one sequence call per 50
+	 * rows and Hibernate can batch the inserts. Must match the sequences' INCREMENT BY
+	 * (changeset 050).
+	 */
+	public static final int ID_ALLOCATION_SIZE = 50;
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dieta_id_seq")
+	@SequenceGenerator(name = "dieta_id_seq", sequenceName = "dieta_id_seq", allocationSize = ID_ALLOCATION_SIZE)
 	private Long id;
 
 	private String nombre;
@@ -40,6 +50,13 @@ public class Dieta extends AbstractMacroNutrible {
 	@Column(name = "paciente_id")
 	private Long pacienteId;
 
+	/**
+	 * Incremented in the database by {@link DietaService#saveDieta} and the other diet
+	 * edits, never written from entity state, so stale form-bound copies cannot reset it.
+	 */
+	@Column(name = "content_version", nullable = false, insertable = false, updatable = false)
+	private long contentVersion;
+
 	@OneToMany(mappedBy = "dieta", cascade = jakarta.persistence.CascadeType.ALL, orphanRemoval = true,
 			targetEntity = Ingesta.class, fetch = jakarta.persistence.FetchType.LAZY)
 	@ToString.Exclude
@@ -21,4 +21,12 @@ public interface DietaRepository extends JpaRepository<Dieta, Long> {
 
 	void deleteByPacienteId(Long pacienteId);
 
+	/**
+	 * Bumps {@link Dieta#getContentVersion()} after an edit; pending entity changes are
+	 * flushed first so the new version never precedes the content it describes.
+	 */
+	@org.springframework.data.jpa.repository.Modifying(flushAutomatically = true)
+	@org.springframework.data.jpa.repository.Query("UPDATE Dieta d SET d.contentVersion = d.contentVersion + 1 WHERE d.id = :id")
+	int incrementContentVersion(@org.springframework.data.repository.query.Param("id") Long id);
+
 }
@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.nutriconsultas.alimentos.Alimento;
 import com.nutriconsultas.alimentos.AlimentosRepository;
+import com.nutriconsultas.sync.PatientChangeLogService;
 import com.nutriconsultas.util.IngredienteFromAlimentoCalculator;
 import com.nutriconsultas.util.NutrientSummarizer;
 
@@ -32,6 +33,12 @@ public class DietaServiceImpl implements DietaService {
 	@Autowired
 	private AlimentosRepository alimentosRepository;
 
+	@Autowired
+	private PatientChangeLogService changeLogService;
+
+	@Autowired
+	private DietaTreeCopier dietaTreeCopier;
+
 	@Override
 	public Dieta getDieta(@NonNull final Long id) {
 		log.info("Getting dieta with id: " + id);
@@ -47,7 +54,7 @@ public class DietaServiceImpl implements DietaService {
 	@Override
 	public Dieta saveDieta(@NonNull final Dieta dieta) {
 		log.info("Saving dieta with id: " + dieta.getId());
-		return dietaRepository.save(dieta);
+		return saveEdit(dieta);
 	}
 
 	@Override
@@ -178,7 +185,7 @@ public class DietaServiceImpl implements DietaService {
 		ingesta.setOrden(nextIngestaOrden(dieta));
 		ingesta.setDieta(dieta);
 		dieta.getIngestas().add(ingesta);
-		dietaRepository.save(dieta);
+		saveEdit(dieta);
 	}
 
 	@Override
@@ -193,7 +200,7 @@ public class DietaServiceImpl implements DietaService {
 			.findFirst()
 			.orElseThrow(() -> new IllegalArgumentException("Ingesta no encontrada"));
 		ingesta.setNombre(nombreIngesta.trim());
-		dietaRepository.save(dieta);
+		saveEdit(dieta);
 	}
 
 	@Override
@@ -210,7 +217,7 @@ public class DietaServiceImpl implements DietaService {
 		for (int index = 0; index < orderedIngestaIds.size(); index++) {
 			ingestasById.get(orderedIngestaIds.get(index)).setOrden(index);
 		}
-		dietaRepository.save(dieta);
+		saveEdit(dieta);
 	}
 
 	@Override
@@ -234,7 +241,21 @@ public class DietaServiceImpl implements DietaService {
 		for (int index = 0; index < orderedAlimentoIngestaIds.size(); index++) {
 			alimentosById.get(orderedAlimentoIngestaIds.get(index)).setOrden(index);
 		}
-		dietaRepository.save(dieta);
+		saveEdit(dieta);
+	}
+
+	/**
+	 * Saves an edited diet and bumps its content version so cached mobile payloads for
+	 * assignments of this diet are revalidated, and logs the change for mobile delta
+	 * sync.
+	 */
+	private Dieta saveEdit(final Dieta dieta) {
+		final Dieta saved = dietaRepository.save(dieta);
+		if (saved != null && saved.getId() != null) {
+			dietaRepository.incrementContentVersion(saved.getId());
+			changeLogService.recordDietaChanged(saved.getId());
+		}
+		return saved;
 	}
 
 	private int nextIngestaOrden(final Dieta dieta) {
@@ -416,8 +437,7 @@ public class DietaServiceImpl implements DietaService {
 		}
 
 		final String originalNombre = originalDieta.getNombre() != null ? originalDieta.getNombre() : "Dieta";
-		final Dieta newDieta = buildDietaCopy(originalDieta, "Copia de " + originalNombre, userId, null);
-		final Dieta savedDieta = dietaRepository.save(newDieta);
+		final Dieta savedDieta = copyTree(id, "Copia de " + originalNombre, userId, null);
 		log.info("Successfully duplicated dieta with id {} to new dieta with id {}", id, savedDieta.getId());
 		return savedDieta;
 	}
@@ -432,8 +452,7 @@ public class DietaServiceImpl implements DietaService {
 			throw new IllegalArgumentException("No se puede asignar una copia de dieta de otro paciente");
 		}
 		final String nombre = source.getNombre() != null ? source.getNombre() : "Dieta";
-		final Dieta copy = buildDietaCopy(source, nombre, nutritionistUserId, pacienteId);
-		final Dieta saved = dietaRepository.save(copy);
+		final Dieta saved = copyTree(sourceDietaId, nombre, nutritionistUserId, pacienteId);
 		log.info("Created patient diet copy with id {} from source {}", saved.getId(), sourceDietaId);
 		return saved;
 	}
@@ -472,177 +491,15 @@ public class DietaServiceImpl implements DietaService {
 		return hasCustomName ? nombre.trim() : DEFAULT_EMPTY_PATIENT_DIET_NAME;
 	}
 
-	private Dieta buildDietaCopy(final Dieta originalDieta, final String nombre, final String userId,
-			final Long pacienteId) {
-		final Dieta newDieta = new Dieta();
-		newDieta.setNombre(nombre);
-		newDieta.setUserId(userId);
-		newDieta.setPacienteId(pacienteId);
-
-		newDieta.setEnergia(originalDieta.getEnergia());
-		newDieta.setProteina(originalDieta.getProteina());
-		newDieta.setLipidos(originalDieta.getLipidos());
-		newDieta.setHidratosDeCarbono(originalDieta.getHidratosDeCarbono());
-
-		final List<Ingesta> newIngestas = new ArrayList<>();
-		final List<Ingesta> sortedOriginalIngestas = originalDieta.getIngestas()
-			.stream()
-			.sorted(IngestaComparators.BY_DISPLAY_ORDER)
-			.toList();
-		for (final Ingesta originalIngesta : sortedOriginalIngestas) {
-			final Ingesta newIngesta = new Ingesta();
-			newIngesta.setNombre(originalIngesta.getNombre());
-			newIngesta.setOrden(originalIngesta.getOrden());
-			newIngesta.setDieta(newDieta);
-
-			newIngesta.setEnergia(originalIngesta.getEnergia());
-			newIngesta.setProteina(originalIngesta.getProteina());
-			newIngesta.setLipidos(originalIngesta.getLipidos());
-			newIngesta.setHidratosDeCarbono(originalIngesta.getHidratosDeCarbono());
-
-			final List<PlatilloIngesta> newPlatillos = new ArrayList<>();
-			for (final PlatilloIngesta originalPlatillo : originalIngesta.getPlatillos()) {
-				final PlatilloIngesta newPlatillo = copyPlatilloIngesta(originalPlatillo);
-				newPlatillo.setIngesta(newIngesta);
-				newPlatillos.add(newPlatillo);
-			}
-			newIngesta.setPlatillos(newPlatillos);
-
-			final List<AlimentoIngesta> newAlimentos = new ArrayList<>();
-			for (final AlimentoIngesta originalAlimento : originalIngesta.getAlimentos()) {
-				final AlimentoIngesta newAlimento = copyAlimentoIngesta(originalAlimento);
-				newAlimento.setIngesta(newIngesta);
-				newAlimentos.add(newAlimento);
-			}
-			newIngesta.setAlimentos(newAlimentos);
-
-			newIngestas.add(newIngesta);
-		}
-		newDieta.setIngestas(newIngestas);
-		return newDieta;
-	}
-
-	private PlatilloIngesta copyPlatilloIngesta(final PlatilloIngesta original) {
-		final PlatilloIngesta copy = new PlatilloIngesta();
-		copy.setName(original.getName());
-		copy.setPortions(original.getPortions());
-		copy.setRecommendations(original.getRecommendations());
-		copy.setImageUrl(original.getImageUrl());
-		copy.setVideoUrl(original.getVideoUrl());
-		copy.setPdfUrl(original.getPdfUrl());
-
-		// Copy nutritional values from AbstractNutrible
-		copy.setEnergia(original.getEnergia());
-		copy.setProteina(original.getProteina());
-		copy.setLipidos(original.getLipidos());
-		copy.setHidratosDeCarbono(original.getHidratosDeCarbono());
-		copy.setPesoBrutoRedondeado(original.getPesoBrutoRedondeado());
-		copy.setPesoNeto(original.getPesoNeto());
-		copy.setFibra(original.getFibra());
-		copy.setVitA(original.getVitA());
-		copy.setAcidoAscorbico(original.getAcidoAscorbico());
-		copy.setHierroNoHem(original.getHierroNoHem());
-		copy.setPotasio(original.getPotasio());
-		copy.setIndiceGlicemico(original.getIndiceGlicemico());
-		copy.setCargaGlicemica(original.getCargaGlicemica());
-		copy.setAcidoFolico(original.getAcidoFolico());
-		copy.setCalcio(original.getCalcio());
-		copy.setHierro(original.getHierro());
-		copy.setSodio(original.getSodio());
-		copy.setAzucarPorEquivalente(original.getAzucarPorEquivalente());
-		copy.setSelenio(original.getSelenio());
-		copy.setFosforo(original.getFosforo());
-		copy.setColesterol(original.getColesterol());
-		copy.setAgSaturados(original.getAgSaturados());
-		copy.setAgMonoinsaturados(original.getAgMonoinsaturados());
-		copy.setAgPoliinsaturados(original.getAgPoliinsaturados());
-		copy.setEtanol(original.getEtanol());
-
-		// Copy ingredientes
-		final List<IngredientePlatilloIngesta> newIngredientes = new ArrayList<>();
-		for (final IngredientePlatilloIngesta originalIngrediente : original.getIngredientes()) {
-			final IngredientePlatilloIngesta newIngrediente = copyIngredientePlatilloIngesta(originalIngrediente);
-			newIngrediente.setPlatillo(copy);
-			newIngredientes.add(newIngrediente);
-		}
-		copy.setIngredientes(newIngredientes);
-
-		return copy;
-	}
-
-	private IngredientePlatilloIngesta copyIngredientePlatilloIngesta(final IngredientePlatilloIngesta original) {
-		final IngredientePlatilloIngesta copy = new IngredientePlatilloIngesta();
-		copy.setDescription(original.getDescription());
-		copy.setCantSugerida(original.getCantSugerida());
-		copy.setAlimento(original.getAlimento());
-		copy.setUnidad(original.getUnidad());
-
-		// Copy nutritional values from AbstractFraccionable (extends AbstractNutrible)
-		copy.setEnergia(original.getEnergia());
-		copy.setProteina(original.getProteina());
-		copy.setLipidos(original.getLipidos());
-		copy.setHidratosDeCarbono(original.getHidratosDeCarbono());
-		copy.setPesoBrutoRedondeado(original.getPesoBrutoRedondeado());
-		copy.setPesoNeto(original.getPesoNeto());
-		copy.setFibra(original.getFibra());
-		copy.setVitA(original.getVitA());
-		copy.setAcidoAscorbico(original.getAcidoAscorbico());
-		copy.setHierroNoHem(original.getHierroNoHem());
-		copy.setPotasio(original.getPotasio());
-		copy.setIndiceGlicemico(original.getIndiceGlicemico());
-		copy.setCargaGlicemica(original.getCargaGlicemica());
-		copy.setAcidoFolico(original.getAcidoFolico());
-		copy.setCalcio(original.getCalcio());
-		copy.setHierro(original.getHierro());
-		copy.setSodio(original.getSodio());
-		copy.setAzucarPorEquivalente(original.getAzucarPorEquivalente());
-		copy.setSelenio(original.getSelenio());
-		copy.setFosforo(original.getFosforo());
-		copy.setColesterol(original.getColesterol());
-		copy.setAgSaturados(original.getAgSaturados());
-		copy.setAgMonoinsaturados(original.getAgMonoinsaturados());
-		copy.setAgPoliinsaturados(original.getAgPoliinsaturados());
-		copy.setEtanol(original.getEtanol());
-
-		return copy;
-	}
-
-	private AlimentoIngesta copyAlimentoIngesta(final AlimentoIngesta original) {
-		final AlimentoIngesta copy = new AlimentoIngesta();
-		copy.setName(original.getName());
-		copy.setPortions(original.getPortions());
-		copy.setAlimento(original.getAlimento());
-		copy.setUnidad(original.getUnidad());
-		copy.setOrden(original.getOrden());
-
-		// Copy all nutritional values
-		copy.setPesoBrutoRedondeado(original.getPesoBrutoRedondeado());
-		copy.setPesoNeto(original.getPesoNeto());
-		copy.setEnergia(original.getEnergia());
-		copy.setProteina(original.getProteina());
-		copy.setLipidos(original.getLipidos());
-		copy.setHidratosDeCarbono(original.getHidratosDeCarbono());
-		copy.setFibra(original.getFibra());
-		copy.setVitA(original.getVitA());
-		copy.setAcidoAscorbico(original.getAcidoAscorbico());
-		copy.setHierroNoHem(original.getHierroNoHem());
-		copy.setPotasio(original.getPotasio());
-		copy.setIndiceGlicemico(original.getIndiceGlicemico());
-		copy.setCargaGlicemica(original.getCargaGlicemica());
-		copy.setAcidoFolico(original.getAcidoFolico());
-		copy.setCalcio(original.getCalcio());
-		copy.setHierro(original.getHierro());
-		copy.setSodio(original.getSodio());
-		copy.setAzucarPorEquivalente(original.getAzucarPorEquivalente());
-		copy.setSelenio(original.getSelenio());
-		copy.setFosforo(original.getFosforo());
-		copy.setColesterol(original.getColesterol());
-		copy.setAgSaturados(original.getAgSaturados());
-		copy.setAgMonoinsaturados(original.getAgMonoinsaturados());
-		copy.setAgPoliinsaturados(original.getAgPoliinsaturados());
-		copy.setEtanol(original.getEtanol());
-
-		return copy;
+	/**
+	 * Copies the tree with {@link DietaTreeCopier} after flushing, so edits still pending
+	 * in this transaction are part of the copy, and loads the new diet.
+	 */
+	private Dieta copyTree(final Long sourceDietaId, final String nombre, final String userId, final Long pacienteId) {
+		dietaRepository.flush();
+		final Long copyId = dietaTreeCopier.copy(sourceDietaId, nombre, userId, pacienteId);
+		return dietaRepository.findById(copyId)
+			.orElseThrow(() -> new IllegalStateException("Copied dieta " + copyId + " not found"));
 	}
 
 }
@@ -0,0 +1,34 @@
+package com.nutriconsultas.dieta;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Read-only meal tree of one {@link Dieta}: ingestas in display order with their
+ * platillos and alimentos grouped per ingesta id. Built by {@link DietaTreeReader}
+ * without touching the lazy ingesta collections.
+ */
+public record DietaTree(@Nullable Dieta dieta, List<Ingesta> ingestas, Map<Long, List<PlatilloIngesta>> platillos,
+		Map<Long, List<AlimentoIngesta>> alimentos) {
+
+	public DietaTree {
+		ingestas = ingestas.stream().sorted(IngestaComparators.BY_DISPLAY_ORDER).toList();
+		platillos = Map.copyOf(platillos);
+		alimentos = Map.copyOf(alimentos);
+	}
+
+	public static DietaTree empty(@Nullable final Dieta dieta) {
+		return new DietaTree(dieta, List.of(), Map.of(), Map.of());
+	}
+
+	public List<PlatilloIngesta> platillosOf(final Ingesta ingesta) {
+		return platillos.getOrDefault(ingesta.getId(), List.of());
+	}
+
+	public List<AlimentoIngesta> alimentosOf(final Ingesta ingesta) {
+		return alimentos.getOrDefault(ingesta.getId(), List.of());
+	}
+
+}
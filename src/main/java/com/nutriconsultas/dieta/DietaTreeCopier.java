@@ -0,0 +1,173 @@
+package com.nutriconsultas.dieta;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Copies a diet and its whole meal tree inside the database with one
+ * {@code INSERT ... SELECT} per table, so nothing is loaded into the persistence context.
+ * New ids for the rows that have children (ingestas and platillos) are drawn first into
+ * {@code dieta_copy_id_map}, keyed by the new diet id, and the child inserts join through
+ * it; the mapping rows are removed before returning. Ids come from the pooled sequences a
+ * whole block at a time, with {@code ROW_NUMBER()} placing each copied row in its block,
+ * so a table only burns the unused tail of its last block and never overlaps the blocks
+ * Hibernate allocates.
+ *
+ * <p>
+ * Callers own the transaction and must flush pending entity changes to the source tree
+ * first. Copies the same columns as the former entity-graph copy: content versions start
+ * over and {@code source_platillo_id} is not carried to the copy.
+ */
+@Component
+public class DietaTreeCopier {
+
+	private static final List<String> MACRO_COLUMNS = List.of("energia", "proteina", "lipidos", "hidratos_de_carbono");
+
+	private static final List<String> NUTRIENT_COLUMNS = List.of("energia", "proteina", "lipidos",
+			"hidratos_de_carbono", "peso_bruto_redondeado", "peso_neto", "fibra", "vita", "acido_ascorbico",
+			"hierro_no_hem", "potasio", "indice_glicemico", "carga_glicemica", "acido_folico", "calcio", "hierro",
+			"sodio", "azucar_por_equivalente", "selenio", "fosforo", "colesterol", "ag_saturados", "ag_monoinsaturados",
+			"ag_poliinsaturados", "etanol");
+
+	private static final String INGESTA = "ingesta";
+
+	private static final String PLATILLO = "platillo_ingesta";
+
+	private static final String INGREDIENTE = "ingrediente_platillo_ingesta";
+
+	private static final String ALIMENTO = "alimento_ingesta";
+
+	/**
+	 * Id of row {@code s.rn} within its reserved block {@code b.hi}.
+	 */
+	private static final String NEW_ID = "b.hi - " + (Dieta.ID_ALLOCATION_SIZE - 1) + " + MOD(s.rn - 1, "
+			+ Dieta.ID_ALLOCATION_SIZE + ")";
+
+	private final NamedParameterJdbcTemplate jdbc;
+
+	public DietaTreeCopier(final NamedParameterJdbcTemplate jdbc) {
+		this.jdbc = jdbc;
+	}
+
+	/**
+	 * Copies {@code sourceDietaId} under a new name and owner and returns the new diet's
+	 * id.
+	 */
+	public Long copy(final Long sourceDietaId, final String nombre, final String userId,
+			@Nullable final Long pacienteId) {
+		final Long newDietaId = jdbc.getJdbcTemplate().queryForObject("SELECT nextval('dieta_id_seq')", Long.class);
+		final MapSqlParameterSource params = new MapSqlParameterSource().addValue("sourceId", sourceDietaId)
+			.addValue("copyId", newDietaId)
+			.addValue("nombre", nombre, Types.VARCHAR)
+			.addValue("userId", userId)
+			.addValue("pacienteId", pacienteId, Types.BIGINT);
+		final int dietas = jdbc.update("INSERT INTO dieta (id, nombre, user_id, paciente_id, "
+				+ columns("", MACRO_COLUMNS) + ") SELECT :copyId, :nombre, :userId, :pacienteId, "
+				+ columns("", MACRO_COLUMNS) + " FROM dieta WHERE id = :sourceId", params);
+		if (dietas == 0) {
+			throw new IllegalArgumentException("No se ha encontrado dieta con id " + sourceDietaId);
+		}
+
+		if (mapIds(INGESTA, "SELECT id FROM ingesta WHERE dieta_id = :sourceId", params) == 0) {
+			return newDietaId;
+		}
+		jdbc.update("INSERT INTO ingesta (id, dieta_id, nombre, orden, " + columns("", MACRO_COLUMNS)
+				+ ") SELECT m.new_id, :copyId, i.nombre, i.orden, " + columns("i.", MACRO_COLUMNS) + " FROM ingesta i "
+				+ joinMap("m", INGESTA, "i.id"), params);
+
+		mapIds(PLATILLO, "SELECT p.id FROM platillo_ingesta p " + joinMap("im", INGESTA, "p.ingesta_id"), params);
+		jdbc.update("INSERT INTO platillo_ingesta (id, ingesta_id, name, portions, recommendations, image_url, "
+				+ "video_url, pdf_url, " + columns("", NUTRIENT_COLUMNS)
+				+ ") SELECT pm.new_id, im.new_id, p.name, p.portions, p.recommendations, p.image_url, p.video_url, "
+				+ "p.pdf_url, " + columns("p.", NUTRIENT_COLUMNS) + " FROM platillo_ingesta p "
+				+ joinMap("pm", PLATILLO, "p.id") + " " + joinMap("im", INGESTA, "p.ingesta_id"), params);
+
+		insertNumbered(INGREDIENTE,
+				"platillo_id, description, cant_sugerida, alimento_id, unidad, " + columns("", NUTRIENT_COLUMNS),
+				"s.copy_parent_id, s.description, s.cant_sugerida, s.alimento_id, s.unidad, "
+						+ columns("s.", NUTRIENT_COLUMNS),
+				"SELECT g.*, pm.new_id AS copy_parent_id FROM ingrediente_platillo_ingesta g "
+						+ joinMap("pm", PLATILLO, "g.platillo_id"),
+				params);
+		insertNumbered(ALIMENTO,
+				"ingesta_id, name, portions, alimento_id, unidad, orden, " + columns("", NUTRIENT_COLUMNS),
+				"s.copy_parent_id, s.name, s.portions, s.alimento_id, s.unidad, s.orden, "
+						+ columns("s.", NUTRIENT_COLUMNS),
+				"SELECT a.*, im.new_id AS copy_parent_id FROM alimento_ingesta a "
+						+ joinMap("im", INGESTA, "a.ingesta_id"),
+				params);
+
+		jdbc.update("DELETE FROM dieta_copy_id_map WHERE copy_id = :copyId", params);
+		return newDietaId;
+	}
+
+	/**
+	 * Maps every row {@code sourceIdsSql} returns to a new id, numbered in source id
+	 * order so the copies keep the original relative order.
+	 * @return rows mapped
+	 */
+	private int mapIds(final String table, final String sourceIdsSql, final MapSqlParameterSource params) {
+		final String numbered = "SELECT x.id, ROW_NUMBER() OVER (ORDER BY x.id) AS rn FROM (" + sourceIdsSql + ") x";
+		final String blocks = reserveIds(table, numbered, params);
+		if (blocks == null) {
+			return 0;
+		}
+		return jdbc.update("INSERT INTO dieta_copy_id_map (copy_id, source_table, old_id, new_id) SELECT :copyId, '"
+				+ table + "', s.id, " + NEW_ID + " FROM (" + numbered + ") s " + blocks, params);
+	}
+
+	/**
+	 * Inserts the rows of {@code sourceSql}, a select over {@code table} that adds the
+	 * copied parent id, under new ids numbered in source id order.
+	 */
+	private void insertNumbered(final String table, final String targetColumns, final String sourceColumns,
+			final String sourceSql, final MapSqlParameterSource params) {
+		final String numbered = "SELECT c.*, ROW_NUMBER() OVER (ORDER BY c.id) AS rn FROM (" + sourceSql + ") c";
+		final String blocks = reserveIds(table, numbered, params);
+		if (blocks != null) {
+			jdbc.update("INSERT INTO " + table + " (id, " + targetColumns + ") SELECT " + NEW_ID + ", " + sourceColumns
+					+ " FROM (" + numbered + ") s " + blocks, params);
+		}
+	}
+
+	/**
+	 * Reserves ids for the rows of {@code numberedSql} with one {@code nextval} per
+	 * {@value Dieta#ID_ALLOCATION_SIZE} rows. Each value is the top of a pooled block, as
+	 * for Hibernate, so row {@code rn} takes its place in block {@code (rn - 1) / 50} and
+	 * no id is drawn that the copy does not use, apart from the tail of the last block.
+	 * @return a join on the reserved blocks for {@link #NEW_ID}, or {@code null} when
+	 * there are no rows
+	 */
+	@Nullable
+	private String reserveIds(final String table, final String numberedSql, final MapSqlParameterSource params) {
+		final Long rows = jdbc.queryForObject("SELECT COUNT(*) FROM (" + numberedSql + ") n", params, Long.class);
+		if (rows == null || rows == 0) {
+			return null;
+		}
+		final List<String> blocks = new ArrayList<>();
+		for (int block = 0; block * (long) Dieta.ID_ALLOCATION_SIZE < rows; block++) {
+			final String param = table + "_block_" + block;
+			params.addValue(param,
+					jdbc.getJdbcTemplate().queryForObject("SELECT nextval('" + table + "_id_seq')", Long.class));
+			blocks.add("(" + block + ", :" + param + ")");
+		}
+		return "JOIN (VALUES " + String.join(", ", blocks) + ") AS b (n, hi) ON b.n = (s.rn - 1) / "
+				+ Dieta.ID_ALLOCATION_SIZE;
+	}
+
+	private static String joinMap(final String alias, final String table, final String oldIdColumn) {
+		return "JOIN dieta_copy_id_map " + alias + " ON " + alias + ".copy_id = :copyId AND " + alias
+				+ ".source_table = '" + table + "' AND " + alias + ".old_id = " + oldIdColumn;
+	}
+
+	private static String columns(final String prefix, final List<String> names) {
+		return prefix + String.join(", " + prefix, names);
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.nutriconsultas.dieta;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads a diet's meal tree in a fixed number of queries — the ingestas, then all
+ * platillos and all alimentos of those ingestas by id — instead of initializing both
+ * collections per ingesta. Must run inside the caller's transaction.
+ */
+@Component
+public class DietaTreeReader {
+
+	private final PlatilloIngestaRepository platilloIngestaRepository;
+
+	private final AlimentoIngestaRepository alimentoIngestaRepository;
+
+	public DietaTreeReader(final PlatilloIngestaRepository platilloIngestaRepository,
+			final AlimentoIngestaRepository alimentoIngestaRepository) {
+		this.platilloIngestaRepository = platilloIngestaRepository;
+		this.alimentoIngestaRepository = alimentoIngestaRepository;
+	}
+
+	public DietaTree read(@Nullable final Dieta dieta) {
+		if (dieta == null || dieta.getIngestas() == null || dieta.getIngestas().isEmpty()) {
+			return DietaTree.empty(dieta);
+		}
+		final List<Ingesta> ingestas = List.copyOf(dieta.getIngestas());
+		final List<Long> ingestaIds = ingestas.stream().map(Ingesta::getId).toList();
+		final Map<Long, List<PlatilloIngesta>> platillos = new HashMap<>();
+		for (final PlatilloIngesta platillo : platilloIngestaRepository.findByIngestaIdIn(ingestaIds)) {
+			platillos.computeIfAbsent(platillo.getIngesta().getId(), id -> new ArrayList<>()).add(platillo);
+		}
+		final Map<Long, List<AlimentoIngesta>> alimentos = new HashMap<>();
+		for (final AlimentoIngesta alimento : alimentoIngestaRepository.findWithAlimentoByIngestaIdIn(ingestaIds)) {
+			alimentos.computeIfAbsent(alimento.getIngesta().getId(), id -> new ArrayList<>()).add(alimento);
+		}
+		return new DietaTree(dieta, ingestas, platillos, alimentos);
+	}
+
+}
@@ -16,6 +16,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -29,7 +30,9 @@ import lombok.NoArgsConstructor;
 public class Ingesta extends AbstractMacroNutrible {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ingesta_id_seq")
+	@SequenceGenerator(name = "ingesta_id_seq", sequenceName = "ingesta_id_seq",
+			allocationSize = Dieta.ID_ALLOCATION_SIZE)
 	private Long id;
 
 	private String nombre;
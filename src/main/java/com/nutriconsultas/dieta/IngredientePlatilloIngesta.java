@@ -9,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -23,7 +24,9 @@ import lombok.ToString;
 public class IngredientePlatilloIngesta extends AbstractFraccionable {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ingrediente_platillo_ingesta_id_seq")
+	@SequenceGenerator(name = "ingrediente_platillo_ingesta_id_seq",
+			sequenceName = "ingrediente_platillo_ingesta_id_seq", allocationSize = Dieta.ID_ALLOCATION_SIZE)
 	private Long id;
 
 	private String description;
@@ -16,6 +16,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -30,7 +31,9 @@ import lombok.ToString;
 public class PlatilloIngesta extends AbstractNutrible {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "platillo_ingesta_id_seq")
+	@SequenceGenerator(name = "platillo_ingesta_id_seq", sequenceName = "platillo_ingesta_id_seq",
+			allocationSize = Dieta.ID_ALLOCATION_SIZE)
 	private Long id;
 
 	private String name;
@@ -1,5 +1,6 @@
 package com.nutriconsultas.dieta;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,17 @@ public interface PlatilloIngestaRepository extends JpaRepository<PlatilloIngesta
 	List<PlatilloIngesta> findByPatientAssignment(@Param("assignmentId") Long assignmentId,
 			@Param("pacienteId") Long pacienteId);
 
+	@Query("SELECT pi FROM PlatilloIngesta pi WHERE pi.ingesta.id IN :ingestaIds ORDER BY pi.id ASC")
+	List<PlatilloIngesta> findByIngestaIdIn(@Param("ingestaIds") Collection<Long> ingestaIds);
+
+	/**
+	 * Platillos of several diets with their ingesta, ingredientes and catalog alimentos
+	 * fetch-joined, so a weekly grocery list loads in one query.
+	 */
+	@Query("SELECT DISTINCT pi FROM PlatilloIngesta pi JOIN FETCH pi.ingesta i LEFT JOIN FETCH pi.ingredientes g "
+			+ "LEFT JOIN FETCH g.alimento WHERE i.dieta.id IN :dietaIds")
+	List<PlatilloIngesta> findWithIngredientesByDietaIdIn(@Param("dietaIds") Collection<Long> dietaIds);
+
 	@Query("SELECT COUNT(pi) FROM PlatilloIngesta pi WHERE pi.sourcePlatilloId = :platilloId")
 	long countBySourcePlatilloId(@Param("platilloId") Long platilloId);
 
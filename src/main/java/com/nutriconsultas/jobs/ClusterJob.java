@@ -0,0 +1,23 @@
+package com.nutriconsultas.jobs;
+
+/**
+ * Batch work that must run on one instance at a time. {@link ClusterJobRunner} holds a
+ * lease on {@link #name()} while {@link #run(ClusterJobContext)} executes; long jobs
+ * should call {@link ClusterJobContext#checkpoint(long)} or
+ * {@link ClusterJobContext#heartbeat()} between chunks to keep the lease alive.
+ */
+public interface ClusterJob {
+
+	String name();
+
+	void run(ClusterJobContext context);
+
+	/**
+	 * Whether {@link StartupJobLauncher} should start this job in the background once the
+	 * application is ready.
+	 */
+	default boolean runsAtStartup() {
+		return false;
+	}
+
+}
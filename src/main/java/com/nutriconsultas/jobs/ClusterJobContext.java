@@ -0,0 +1,83 @@
+package com.nutriconsultas.jobs;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Handle a running {@link ClusterJob} uses to extend its lease and record progress. The
+ * checkpoint survives a failed or interrupted run and is handed to the next one; it is
+ * cleared when a run completes.
+ */
+public final class ClusterJobContext {
+
+	private final String jobName;
+
+	private final ClusterJobTrigger trigger;
+
+	private final Long resumeFrom;
+
+	private final LeaseCallbacks callbacks;
+
+	private Long checkpoint;
+
+	ClusterJobContext(final String jobName, final ClusterJobTrigger trigger, @Nullable final Long resumeFrom,
+			final LeaseCallbacks callbacks) {
+		this.jobName = jobName;
+		this.trigger = trigger;
+		this.resumeFrom = resumeFrom;
+		this.checkpoint = resumeFrom;
+		this.callbacks = callbacks;
+	}
+
+	public String getJobName() {
+		return jobName;
+	}
+
+	public ClusterJobTrigger getTrigger() {
+		return trigger;
+	}
+
+	/**
+	 * Cursor saved by the previous run that did not complete, or {@code null} for a fresh
+	 * start.
+	 */
+	@Nullable
+	public Long getResumeFrom() {
+		return resumeFrom;
+	}
+
+	@Nullable
+	public Long getCheckpoint() {
+		return checkpoint;
+	}
+
+	/**
+	 * Extends the lease.
+	 * @throws ClusterJobLeaseLostException when another instance now owns the job
+	 */
+	public void heartbeat() {
+		if (!callbacks.heartbeat()) {
+			throw new ClusterJobLeaseLostException(jobName);
+		}
+	}
+
+	/**
+	 * Saves {@code cursor} as the resume point and extends the lease in the same
+	 * statement.
+	 * @throws ClusterJobLeaseLostException when another instance now owns the job
+	 */
+	public void checkpoint(final long cursor) {
+		if (!callbacks.checkpoint(cursor)) {
+			throw new ClusterJobLeaseLostException(jobName);
+		}
+		checkpoint = cursor;
+	}
+
+	interface LeaseCallbacks {
+
+		boolean heartbeat();
+
+		boolean checkpoint(long cursor);
+
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.nutriconsultas.jobs;
+
+/**
+ * Thrown from a heartbeat when another instance has taken over the lease, so the job
+ * stops instead of duplicating work.
+ */
+public class ClusterJobLeaseLostException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ClusterJobLeaseLostException(final String jobName) {
+		super("Lease lost for job " + jobName);
+	}
+
+}
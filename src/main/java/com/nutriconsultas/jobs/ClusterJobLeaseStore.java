@@ -0,0 +1,122 @@
+package com.nutriconsultas.jobs;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Leases in {@code cluster_job_lease}, one row per job. Acquisition reads the row with
+ * {@code FOR UPDATE SKIP LOCKED}, so instances racing for the same job never wait on each
+ * other: the loser sees no row and skips. A lease whose {@code lease_until} has passed
+ * (its owner died without releasing) can be taken over, and the new owner inherits the
+ * checkpoint.
+ */
+@Component
+public class ClusterJobLeaseStore {
+
+	private static final String NAME = "name";
+
+	private static final String OWNER = "owner";
+
+	private final NamedParameterJdbcTemplate jdbc;
+
+	private final TransactionTemplate transactions;
+
+	public ClusterJobLeaseStore(final NamedParameterJdbcTemplate jdbc, final TransactionTemplate transactions) {
+		this.jdbc = jdbc;
+		this.transactions = transactions;
+	}
+
+	/**
+	 * Takes the lease on {@code jobName} until {@code leaseUntil} unless another owner
+	 * holds an unexpired one.
+	 * @return the acquired lease with the inherited checkpoint, or empty when the job is
+	 * running elsewhere
+	 */
+	public Optional<AcquiredLease> tryAcquire(final String jobName, final String ownerId, final Instant now,
+			final Instant leaseUntil) {
+		ensureRow(jobName);
+		return transactions.execute(status -> {
+			final List<Map<String, Object>> rows = jdbc.queryForList(
+					"SELECT checkpoint_cursor FROM cluster_job_lease WHERE job_name = :name "
+							+ "AND (lease_until IS NULL OR lease_until < :now) FOR UPDATE SKIP LOCKED",
+					new MapSqlParameterSource(NAME, jobName).addValue("now", Timestamp.from(now)));
+			if (rows.isEmpty()) {
+				return Optional.<AcquiredLease>empty();
+			}
+			jdbc.update(
+					"UPDATE cluster_job_lease SET owner_id = :owner, lease_until = :until, heartbeat_at = :now "
+							+ "WHERE job_name = :name",
+					new MapSqlParameterSource(NAME, jobName).addValue(OWNER, ownerId)
+						.addValue("until", Timestamp.from(leaseUntil))
+						.addValue("now", Timestamp.from(now)));
+			final Number checkpoint = (Number) rows.get(0).get("checkpoint_cursor");
+			return Optional.of(new AcquiredLease(checkpoint != null ? checkpoint.longValue() : null));
+		});
+	}
+
+	/**
+	 * @return {@code false} when {@code ownerId} no longer holds the lease
+	 */
+	public boolean extend(final String jobName, final String ownerId, final Instant now, final Instant leaseUntil) {
+		return jdbc.update(
+				"UPDATE cluster_job_lease SET lease_until = :until, heartbeat_at = :now "
+						+ "WHERE job_name = :name AND owner_id = :owner",
+				new MapSqlParameterSource(NAME, jobName).addValue(OWNER, ownerId)
+					.addValue("until", Timestamp.from(leaseUntil))
+					.addValue("now", Timestamp.from(now))) == 1;
+	}
+
+	/**
+	 * Saves the resume cursor and extends the lease.
+	 * @return {@code false} when {@code ownerId} no longer holds the lease
+	 */
+	public boolean checkpoint(final String jobName, final String ownerId, final long cursor, final Instant now,
+			final Instant leaseUntil) {
+		return jdbc.update(
+				"UPDATE cluster_job_lease SET checkpoint_cursor = :cursor, lease_until = :until, heartbeat_at = :now "
+						+ "WHERE job_name = :name AND owner_id = :owner",
+				new MapSqlParameterSource(NAME, jobName).addValue(OWNER, ownerId)
+					.addValue("cursor", cursor)
+					.addValue("until", Timestamp.from(leaseUntil))
+					.addValue("now", Timestamp.from(now))) == 1;
+	}
+
+	/**
+	 * Frees the lease; a completed run also clears the checkpoint so the next run starts
+	 * over.
+	 */
+	public void release(final String jobName, final String ownerId, final boolean completed) {
+		jdbc.update("UPDATE cluster_job_lease SET owner_id = NULL, lease_until = NULL"
+				+ (completed ? ", checkpoint_cursor = NULL" : "") + " WHERE job_name = :name AND owner_id = :owner",
+				new MapSqlParameterSource(NAME, jobName).addValue(OWNER, ownerId));
+	}
+
+	private void ensureRow(final String jobName) {
+		try {
+			jdbc.update(
+					"INSERT INTO cluster_job_lease (job_name) SELECT :name WHERE NOT EXISTS "
+							+ "(SELECT 1 FROM cluster_job_lease WHERE job_name = :name)",
+					new MapSqlParameterSource(NAME, jobName));
+		}
+		catch (final DuplicateKeyException ex) {
+			// Another instance created the row first.
+		}
+	}
+
+	/**
+	 * @param checkpoint cursor left by a run that did not complete, if any
+	 */
+	public record AcquiredLease(@Nullable Long checkpoint) {
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.nutriconsultas.jobs;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * History row for one execution of a {@link ClusterJob} on one instance.
+ */
+@Entity
+@Table(name = "cluster_job_run")
+@Data
+@NoArgsConstructor
+public class ClusterJobRun {
+
+	static final int ERROR_MESSAGE_LENGTH = 500;
+
+	@Id
+	@Column(name = "run_id", length = 36)
+	private String runId;
+
+	@Column(name = "job_name", nullable = false, length = 64)
+	private String jobName;
+
+	@Column(name = "owner_id", nullable = false)
+	private String ownerId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "job_trigger", nullable = false, length = 20)
+	private ClusterJobTrigger trigger;
+
+	@Column(name = "actor_user_id")
+	private String actorUserId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private ClusterJobRunStatus status = ClusterJobRunStatus.RUNNING;
+
+	@Column(name = "resumed_from_cursor")
+	private Long resumedFromCursor;
+
+	@Column(name = "checkpoint_cursor")
+	private Long checkpointCursor;
+
+	@Column(name = "started_at", nullable = false)
+	private Instant startedAt;
+
+	@Column(name = "finished_at")
+	private Instant finishedAt;
+
+	@Column(name = "duration_ms")
+	private Long durationMs;
+
+	@Column(name = "error_message", length = ERROR_MESSAGE_LENGTH)
+	private String errorMessage;
+
+	@PrePersist
+	void onCreate() {
+		if (runId == null) {
+			runId = UUID.randomUUID().toString();
+		}
+		if (startedAt == null) {
+			startedAt = Instant.now();
+		}
+	}
+
+}
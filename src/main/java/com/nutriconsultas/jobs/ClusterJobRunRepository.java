@@ -0,0 +1,11 @@
+package com.nutriconsultas.jobs;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ClusterJobRunRepository extends JpaRepository<ClusterJobRun, String> {
+
+	List<ClusterJobRun> findTop20ByOrderByStartedAtDesc();
+
+}
@@ -0,0 +1,7 @@
+package com.nutriconsultas.jobs;
+
+public enum ClusterJobRunStatus {
+
+	RUNNING, COMPLETED, FAILED
+
+}
@@ -0,0 +1,213 @@
+package com.nutriconsultas.jobs;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import com.nutriconsultas.jobs.ClusterJobLeaseStore.AcquiredLease;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs {@link ClusterJob}s so that each executes on at most one instance at a time. The
+ * lease lasts {@code nutriconsultas.jobs.lease-seconds} and is extended by the job's
+ * heartbeats and checkpoints; if an instance dies mid-run, another takes over once the
+ * lease expires and resumes from the last checkpoint. Every run that gets the lease is
+ * recorded in {@code cluster_job_run} and in the {@value #RUN_DURATION} histogram. Leases
+ * still held when the context shuts down are released, keeping their checkpoint, so a
+ * replacement instance can resume at once instead of waiting for them to expire.
+ */
+@Service
+@Slf4j
+public class ClusterJobRunner {
+
+	static final String RUN_DURATION = "jobs.run.duration";
+
+	static final String RUN_SKIPPED = "jobs.run.skipped";
+
+	private final ClusterJobLeaseStore leaseStore;
+
+	private final ClusterJobRunRepository runRepository;
+
+	private final ObjectProvider<ClusterJob> jobs;
+
+	private final Executor manualRunExecutor;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Duration leaseDuration;
+
+	private final Clock clock;
+
+	private final String ownerId;
+
+	private final Set<String> heldLeases = ConcurrentHashMap.newKeySet();
+
+	public ClusterJobRunner(final ClusterJobLeaseStore leaseStore, final ClusterJobRunRepository runRepository,
+			final ObjectProvider<ClusterJob> jobs, @Qualifier("clusterJobExecutor") final Executor manualRunExecutor,
+			final MeterRegistry meterRegistry,
+			@Value("${nutriconsultas.jobs.lease-seconds:300}") final long leaseSeconds,
+			@Autowired(required = false) final Clock clock) {
+		this.leaseStore = leaseStore;
+		this.runRepository = runRepository;
+		this.jobs = jobs;
+		this.manualRunExecutor = manualRunExecutor;
+		this.meterRegistry = meterRegistry;
+		this.leaseDuration = Duration.ofSeconds(Math.max(leaseSeconds, 1L));
+		this.clock = clock != null ? clock : Clock.systemUTC();
+		this.ownerId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+	}
+
+	/**
+	 * Runs {@code job} here if no other instance holds its lease.
+	 * @return the recorded run, or empty when the job was skipped
+	 */
+	public Optional<ClusterJobRun> run(final ClusterJob job, final ClusterJobTrigger trigger,
+			@Nullable final String actorUserId) {
+		final String jobName = job.name();
+		final Instant acquiredAt = clock.instant();
+		final Optional<AcquiredLease> lease = leaseStore.tryAcquire(jobName, ownerId, acquiredAt,
+				acquiredAt.plus(leaseDuration));
+		if (lease.isEmpty()) {
+			Counter.builder(RUN_SKIPPED).tag("job", jobName).register(meterRegistry).increment();
+			if (log.isDebugEnabled()) {
+				log.debug("Skipping job {}: lease held by another instance", jobName);
+			}
+			return Optional.empty();
+		}
+		heldLeases.add(jobName);
+		final ClusterJobRun run = new ClusterJobRun();
+		run.setJobName(jobName);
+		run.setOwnerId(ownerId);
+		run.setTrigger(trigger);
+		run.setActorUserId(actorUserId);
+		run.setResumedFromCursor(lease.get().checkpoint());
+		run.setStartedAt(acquiredAt);
+		runRepository.save(run);
+		final ClusterJobContext context = new ClusterJobContext(jobName, trigger, lease.get().checkpoint(),
+				new ClusterJobContext.LeaseCallbacks() {
+
+					@Override
+					public boolean heartbeat() {
+						final Instant now = clock.instant();
+						return leaseStore.extend(jobName, ownerId, now, now.plus(leaseDuration));
+					}
+
+					@Override
+					public boolean checkpoint(final long cursor) {
+						final Instant now = clock.instant();
+						return leaseStore.checkpoint(jobName, ownerId, cursor, now, now.plus(leaseDuration));
+					}
+
+				});
+		final long startedAt = System.nanoTime();
+		boolean completed = false;
+		try {
+			if (log.isInfoEnabled()) {
+				log.info("Job {} started (trigger={}, resumeFrom={})", jobName, trigger, context.getResumeFrom());
+			}
+			job.run(context);
+			completed = true;
+			run.setStatus(ClusterJobRunStatus.COMPLETED);
+		}
+		catch (final RuntimeException ex) {
+			log.error("Job {} failed", jobName, ex);
+			run.setStatus(ClusterJobRunStatus.FAILED);
+			run.setErrorMessage(truncate(ex.getClass().getSimpleName() + ": " + ex.getMessage()));
+		}
+		finally {
+			final long elapsedNanos = System.nanoTime() - startedAt;
+			// Owner-guarded, so a no-op when the lease was lost to another instance.
+			leaseStore.release(jobName, ownerId, completed);
+			heldLeases.remove(jobName);
+			run.setCheckpointCursor(context.getCheckpoint());
+			run.setFinishedAt(clock.instant());
+			run.setDurationMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+			runRepository.save(run);
+			Timer.builder(RUN_DURATION)
+				.description("Duration of cluster job runs")
+				.tag("job", jobName)
+				.tag("outcome", run.getStatus().name().toLowerCase(Locale.ROOT))
+				.publishPercentileHistogram()
+				.register(meterRegistry)
+				.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		}
+		if (log.isInfoEnabled()) {
+			log.info("Job {} finished with status={} in {} ms", jobName, run.getStatus(), run.getDurationMs());
+		}
+		return Optional.of(run);
+	}
+
+	/**
+	 * Frees the leases of runs interrupted by shutdown. Their checkpoints are kept, and a
+	 * run still finishing on its thread loses the lease at its next heartbeat or
+	 * checkpoint.
+	 */
+	@PreDestroy
+	void releaseHeldLeases() {
+		for (final String jobName : heldLeases) {
+			leaseStore.release(jobName, ownerId, false);
+			if (log.isInfoEnabled()) {
+				log.info("Released lease on job {} at shutdown", jobName);
+			}
+		}
+		heldLeases.clear();
+	}
+
+	/**
+	 * Queues a manual run of the named job on the job executor.
+	 * @return {@code false} when no such job exists or the executor is saturated
+	 */
+	public boolean triggerAsync(final String jobName, @Nullable final String actorUserId) {
+		final Optional<ClusterJob> job = findJob(jobName);
+		if (job.isEmpty()) {
+			return false;
+		}
+		try {
+			manualRunExecutor.execute(() -> run(job.get(), ClusterJobTrigger.MANUAL, actorUserId));
+			return true;
+		}
+		catch (final TaskRejectedException ex) {
+			return false;
+		}
+	}
+
+	public List<String> jobNames() {
+		return jobs.orderedStream().map(ClusterJob::name).sorted().toList();
+	}
+
+	public List<ClusterJobRun> findRecentRuns() {
+		return runRepository.findTop20ByOrderByStartedAtDesc();
+	}
+
+	private Optional<ClusterJob> findJob(final String jobName) {
+		return jobs.orderedStream().filter(job -> job.name().equals(jobName)).findFirst();
+	}
+
+	private static String truncate(final String message) {
+		return message.length() <= ClusterJobRun.ERROR_MESSAGE_LENGTH ? message
+				: message.substring(0, ClusterJobRun.ERROR_MESSAGE_LENGTH);
+	}
+
+}
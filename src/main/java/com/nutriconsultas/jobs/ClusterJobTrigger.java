@@ -0,0 +1,7 @@
+package com.nutriconsultas.jobs;
+
+public enum ClusterJobTrigger {
+
+	SCHEDULED, STARTUP, MANUAL
+
+}
@@ -0,0 +1,102 @@
+package com.nutriconsultas.jobs;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Starts every {@link ClusterJob#runsAtStartup() startup job} on the cluster job executor
+ * once the application is ready, so data migrations run off the startup path and never
+ * delay readiness. Jobs resume from their last checkpoint, so a deploy that interrupts
+ * one simply continues it. A job skipped here because a stopped instance still held its
+ * lease, or one that failed, is launched again every
+ * {@code nutriconsultas.jobs.startup-retry-ms} until it completes; the default matches
+ * the lease length. Progress on this instance is reported by
+ * {@link StartupJobsHealthIndicator}.
+ */
+@Component
+@Slf4j
+public class StartupJobLauncher {
+
+	public enum State {
+
+		PENDING, RUNNING, COMPLETED, SKIPPED, FAILED
+
+	}
+
+	private final ObjectProvider<ClusterJob> jobs;
+
+	private final ClusterJobRunner jobRunner;
+
+	private final Executor executor;
+
+	private final Map<String, State> states = new ConcurrentHashMap<>();
+
+	public StartupJobLauncher(final ObjectProvider<ClusterJob> jobs, final ClusterJobRunner jobRunner,
+			@Qualifier("clusterJobExecutor") final Executor executor) {
+		this.jobs = jobs;
+		this.jobRunner = jobRunner;
+		this.executor = executor;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void launchStartupJobs() {
+		jobs.orderedStream().filter(ClusterJob::runsAtStartup).forEach(this::launch);
+	}
+
+	@Scheduled(initialDelayString = "${nutriconsultas.jobs.startup-retry-ms:300000}",
+			fixedDelayString = "${nutriconsultas.jobs.startup-retry-ms:300000}")
+	public void retryUnfinishedStartupJobs() {
+		jobs.orderedStream().filter(ClusterJob::runsAtStartup).filter(job -> {
+			final State state = states.get(job.name());
+			return state == State.SKIPPED || state == State.FAILED;
+		}).forEach(this::launch);
+	}
+
+	/**
+	 * State of each startup job on this instance, by job name. A job another instance is
+	 * already running shows as {@link State#SKIPPED}.
+	 */
+	public Map<String, State> getStates() {
+		return new TreeMap<>(states);
+	}
+
+	private void launch(final ClusterJob job) {
+		states.put(job.name(), State.PENDING);
+		try {
+			executor.execute(() -> runStartupJob(job));
+		}
+		catch (final TaskRejectedException ex) {
+			states.put(job.name(), State.FAILED);
+			if (log.isWarnEnabled()) {
+				log.warn("Could not queue startup job {}; it will be retried", job.name());
+			}
+		}
+	}
+
+	private void runStartupJob(final ClusterJob job) {
+		states.put(job.name(), State.RUNNING);
+		try {
+			final State outcome = jobRunner.run(job, ClusterJobTrigger.STARTUP, null)
+				.map(run -> run.getStatus() == ClusterJobRunStatus.COMPLETED ? State.COMPLETED : State.FAILED)
+				.orElse(State.SKIPPED);
+			states.put(job.name(), outcome);
+		}
+		catch (final RuntimeException ex) {
+			log.error("Startup job {} could not be run", job.name(), ex);
+			states.put(job.name(), State.FAILED);
+		}
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.nutriconsultas.jobs;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the startup jobs launched by {@link StartupJobLauncher} under
+ * {@code /actuator/health/startupJobs}. Always {@code UP}: the application serves
+ * requests correctly while a migration is still running, so a pending or failed job must
+ * not take the instance out of rotation. The per-job state is in the details, shown to
+ * authenticated callers only.
+ */
+@Component
+public class StartupJobsHealthIndicator implements HealthIndicator {
+
+	private final StartupJobLauncher launcher;
+
+	public StartupJobsHealthIndicator(final StartupJobLauncher launcher) {
+		this.launcher = launcher;
+	}
+
+	@Override
+	public Health health() {
+		final Health.Builder health = Health.up();
+		for (final Map.Entry<String, StartupJobLauncher.State> job : launcher.getStates().entrySet()) {
+			health.withDetail(job.getKey(), job.getValue().name());
+		}
+		return health.build();
+	}
+
+}
@@ -45,6 +45,25 @@ public interface PatientMessageRepository extends JpaRepository<PatientMessage,
 			""")
 	long countUnreadFromPatientsByNutritionist(@Param("userId") String userId);
 
+	@Query("""
+			SELECT m.nutritionistUserId AS nutritionistUserId, m.paciente.id AS pacienteId, COUNT(m) AS unreadCount
+			FROM PatientMessage m
+			WHERE m.senderRole = com.nutriconsultas.message.MessageSenderRole.PATIENT
+			AND m.readByNutritionist = false
+			GROUP BY m.nutritionistUserId, m.paciente.id
+			""")
+	List<UnreadCount> countUnreadFromPatientsGrouped();
+
+	@Query("""
+			SELECT m.nutritionistUserId AS nutritionistUserId, m.paciente.id AS pacienteId, COUNT(m) AS unreadCount
+			FROM PatientMessage m
+			WHERE m.nutritionistUserId = :userId
+			AND m.senderRole = com.nutriconsultas.message.MessageSenderRole.PATIENT
+			AND m.readByNutritionist = false
+			GROUP BY m.nutritionistUserId, m.paciente.id
+			""")
+	List<UnreadCount> countUnreadFromPatientsGroupedByNutritionist(@Param("userId") String userId);
+
 	@Modifying
 	@Query("""
 			UPDATE PatientMessage m SET m.readByNutritionist = true
@@ -59,4 +78,14 @@ public interface PatientMessageRepository extends JpaRepository<PatientMessage,
 	@Query("DELETE FROM PatientMessage m WHERE m.paciente.id = :pacienteId")
 	void deleteByPacienteId(@Param("pacienteId") Long pacienteId);
 
+	interface UnreadCount {
+
+		String getNutritionistUserId();
+
+		Long getPacienteId();
+
+		Long getUnreadCount();
+
+	}
+
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.validation.annotation.Validated;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.nutriconsultas.message.dto.PatientMessageThreadItemDto;
 import com.nutriconsultas.message.dto.PatientUnreadMessageDto;
@@ -30,8 +32,18 @@ public class PatientMessageRestController {
 
 	private final PatientMessageService patientMessageService;
 
-	public PatientMessageRestController(final PatientMessageService patientMessageService) {
+	private final PatientMessageStreamService patientMessageStreamService;
+
+	public PatientMessageRestController(final PatientMessageService patientMessageService,
+			final PatientMessageStreamService patientMessageStreamService) {
 		this.patientMessageService = patientMessageService;
+		this.patientMessageStreamService = patientMessageStreamService;
+	}
+
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter stream(@AuthenticationPrincipal final OidcUser principal) {
+		final String userId = requireUserId(principal);
+		return patientMessageStreamService.subscribeNutritionist(userId);
 	}
 
 	@GetMapping("/unread")
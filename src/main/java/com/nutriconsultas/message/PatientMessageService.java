@@ -17,6 +17,9 @@ import com.nutriconsultas.message.dto.PatientMessageThreadItemDto;
 import com.nutriconsultas.message.dto.PatientUnreadMessageDto;
 import com.nutriconsultas.paciente.Paciente;
 import com.nutriconsultas.paciente.PacienteRepository;
+import com.nutriconsultas.sync.PatientChangeLogService;
+import com.nutriconsultas.sync.PatientChangeOperation;
+import com.nutriconsultas.sync.PatientChangeType;
 import com.nutriconsultas.util.LogRedaction;
 
 import lombok.extern.slf4j.Slf4j;
@@ -33,11 +36,22 @@ public class PatientMessageService {
 
 	private final PatientMessagePushNotifier patientMessagePushNotifier;
 
+	private final PatientChangeLogService changeLogService;
+
+	private final PatientMessageStreamService streamService;
+
+	private final PatientMessageUnreadCounters unreadCounters;
+
 	public PatientMessageService(final PatientMessageRepository patientMessageRepository,
-			final PacienteRepository pacienteRepository, final PatientMessagePushNotifier patientMessagePushNotifier) {
+			final PacienteRepository pacienteRepository, final PatientMessagePushNotifier patientMessagePushNotifier,
+			final PatientChangeLogService changeLogService, final PatientMessageStreamService streamService,
+			final PatientMessageUnreadCounters unreadCounters) {
 		this.patientMessageRepository = patientMessageRepository;
 		this.pacienteRepository = pacienteRepository;
 		this.patientMessagePushNotifier = patientMessagePushNotifier;
+		this.changeLogService = changeLogService;
+		this.streamService = streamService;
+		this.unreadCounters = unreadCounters;
 	}
 
 	@Transactional(readOnly = true)
@@ -49,8 +63,14 @@ public class PatientMessageService {
 			.toList();
 	}
 
+	/**
+	 * Skips the unread query when the in-memory counters report nothing unread.
+	 */
 	@Transactional(readOnly = true)
 	public List<PatientUnreadMessageDto> listUnreadSummaries(final String userId) {
+		if (unreadCounters.total(userId) == 0) {
+			return List.of();
+		}
 		final List<PatientMessage> unreadMessages = patientMessageRepository
 			.findUnreadFromPatientsByNutritionist(userId);
 		final Map<Long, PatientUnreadMessageDto> summaries = new LinkedHashMap<>();
@@ -67,9 +87,8 @@ public class PatientMessageService {
 		return new ArrayList<>(summaries.values());
 	}
 
-	@Transactional(readOnly = true)
 	public long countUnread(final String userId) {
-		return patientMessageRepository.countUnreadFromPatientsByNutritionist(userId);
+		return unreadCounters.total(userId);
 	}
 
 	@Transactional
@@ -86,7 +105,10 @@ public class PatientMessageService {
 		message.setReadByNutritionist(true);
 		final PatientMessage saved = patientMessageRepository.save(message);
 		log.info("Nutritionist sent patient message: {}", LogRedaction.redactPatientMessage(saved.getId()));
+		changeLogService.record(paciente.getId(), PatientChangeType.MESSAGE, saved.getId(),
+				PatientChangeOperation.UPSERT);
 		schedulePushAfterCommit(paciente.getId(), saved.getId());
+		streamService.nutritionistMessageSent(saved);
 		return PatientMessageThreadItemDto.fromEntity(saved);
 	}
 
@@ -94,6 +116,7 @@ public class PatientMessageService {
 	public void markThreadReadByNutritionist(final Long pacienteId, final String userId) {
 		requireOwnedPaciente(pacienteId, userId);
 		final int updated = patientMessageRepository.markReadByNutritionist(pacienteId, userId);
+		streamService.threadReadByNutritionist(userId, pacienteId);
 		if (updated > 0) {
 			log.info("Marked {} patient messages read for patient {}", updated,
 					LogRedaction.redactPaciente(pacienteId));
@@ -0,0 +1,208 @@
+package com.nutriconsultas.message;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.nutriconsultas.message.dto.PatientMessageEventDto;
+import com.nutriconsultas.message.dto.PatientUnreadCountDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Server-sent event streams for patient–nutritionist messaging. Nutritionists receive
+ * {@code message} events for patient messages plus {@code unread} badge updates; patients
+ * receive {@code message} events for nutritionist replies. Events are published after the
+ * write commits, and only to streams held by this instance; clients reconnect on timeout
+ * and fall back to the list endpoints for anything missed while disconnected.
+ */
+@Service
+@Slf4j
+public class PatientMessageStreamService {
+
+	static final String EVENT_MESSAGE = "message";
+
+	static final String EVENT_UNREAD = "unread";
+
+	private final PatientMessageUnreadCounters unreadCounters;
+
+	private final long timeoutMillis;
+
+	private final int maxStreamsPerSubscriber;
+
+	private final Map<String, List<SseEmitter>> nutritionistStreams = new ConcurrentHashMap<>();
+
+	private final Map<Long, List<SseEmitter>> patientStreams = new ConcurrentHashMap<>();
+
+	public PatientMessageStreamService(final PatientMessageUnreadCounters unreadCounters,
+			@Value("${nutriconsultas.messages.stream.timeout-ms:1800000}") final long timeoutMillis,
+			@Value("${nutriconsultas.messages.stream.max-per-subscriber:5}") final int maxStreamsPerSubscriber) {
+		this.unreadCounters = unreadCounters;
+		this.timeoutMillis = timeoutMillis;
+		this.maxStreamsPerSubscriber = Math.max(maxStreamsPerSubscriber, 1);
+	}
+
+	public SseEmitter subscribeNutritionist(final String userId) {
+		final SseEmitter emitter = register(nutritionistStreams, userId);
+		send(nutritionistStreams, userId, emitter, EVENT_UNREAD, unreadCount(userId));
+		return emitter;
+	}
+
+	public SseEmitter subscribePatient(final Long pacienteId) {
+		return register(patientStreams, pacienteId);
+	}
+
+	public void patientMessageSent(final PatientMessage message) {
+		final String userId = message.getNutritionistUserId();
+		final Long pacienteId = message.getPaciente().getId();
+		final PatientMessageEventDto event = PatientMessageEventDto.fromEntity(message);
+		afterCommit(() -> {
+			unreadCounters.increment(userId, pacienteId);
+			publish(nutritionistStreams, userId, EVENT_MESSAGE, event);
+			publish(nutritionistStreams, userId, EVENT_UNREAD, unreadCount(userId));
+		});
+	}
+
+	public void nutritionistMessageSent(final PatientMessage message) {
+		final PatientMessageEventDto event = PatientMessageEventDto.fromEntity(message);
+		afterCommit(() -> publish(patientStreams, event.pacienteId(), EVENT_MESSAGE, event));
+	}
+
+	public void threadReadByNutritionist(final String userId, final Long pacienteId) {
+		afterCommit(() -> {
+			unreadCounters.clear(userId, pacienteId);
+			publish(nutritionistStreams, userId, EVENT_UNREAD, unreadCount(userId));
+		});
+	}
+
+	/**
+	 * Comment frames keep idle connections open through proxies and surface dead clients,
+	 * whose emitters are dropped on the failed write.
+	 */
+	@Scheduled(fixedDelayString = "${nutriconsultas.messages.stream.heartbeat-interval-ms:25000}")
+	public void heartbeat() {
+		heartbeat(nutritionistStreams);
+		heartbeat(patientStreams);
+	}
+
+	int streamCount() {
+		int count = 0;
+		for (final List<SseEmitter> emitters : nutritionistStreams.values()) {
+			count += emitters.size();
+		}
+		for (final List<SseEmitter> emitters : patientStreams.values()) {
+			count += emitters.size();
+		}
+		return count;
+	}
+
+	SseEmitter newEmitter() {
+		return new SseEmitter(timeoutMillis);
+	}
+
+	private PatientUnreadCountDto unreadCount(final String userId) {
+		return new PatientUnreadCountDto(unreadCounters.total(userId), unreadCounters.byPatient(userId));
+	}
+
+	/**
+	 * Adds the emitter under the key atomically; past the per-subscriber cap the oldest
+	 * stream is completed so reconnect loops cannot accumulate connections.
+	 */
+	private <K> SseEmitter register(final Map<K, List<SseEmitter>> streams, final K key) {
+		final SseEmitter emitter = newEmitter();
+		final AtomicReference<SseEmitter> evicted = new AtomicReference<>();
+		streams.compute(key, (ignored, existing) -> {
+			final List<SseEmitter> emitters = existing != null ? existing : new CopyOnWriteArrayList<>();
+			if (emitters.size() >= maxStreamsPerSubscriber) {
+				evicted.set(emitters.remove(0));
+			}
+			emitters.add(emitter);
+			return emitters;
+		});
+		emitter.onCompletion(() -> unregister(streams, key, emitter));
+		emitter.onTimeout(emitter::complete);
+		emitter.onError(ex -> unregister(streams, key, emitter));
+		if (evicted.get() != null) {
+			evicted.get().complete();
+		}
+		return emitter;
+	}
+
+	private <K> void unregister(final Map<K, List<SseEmitter>> streams, final K key, final SseEmitter emitter) {
+		streams.computeIfPresent(key, (ignored, emitters) -> {
+			emitters.remove(emitter);
+			return emitters.isEmpty() ? null : emitters;
+		});
+	}
+
+	private <K> void publish(final Map<K, List<SseEmitter>> streams, final K key, final String eventName,
+			final Object payload) {
+		final List<SseEmitter> emitters = streams.get(key);
+		if (emitters == null) {
+			return;
+		}
+		for (final SseEmitter emitter : emitters) {
+			send(streams, key, emitter, eventName, payload);
+		}
+	}
+
+	private <K> void send(final Map<K, List<SseEmitter>> streams, final K key, final SseEmitter emitter,
+			final String eventName, final Object payload) {
+		try {
+			emitter.send(SseEmitter.event().name(eventName).data(payload, MediaType.APPLICATION_JSON));
+		}
+		catch (final IOException | IllegalStateException ex) {
+			dropFailed(streams, key, emitter, ex);
+		}
+	}
+
+	private <K> void heartbeat(final Map<K, List<SseEmitter>> streams) {
+		streams.forEach((key, emitters) -> {
+			for (final SseEmitter emitter : emitters) {
+				try {
+					emitter.send(SseEmitter.event().comment("keepalive"));
+				}
+				catch (final IOException | IllegalStateException ex) {
+					dropFailed(streams, key, emitter, ex);
+				}
+			}
+		});
+	}
+
+	/**
+	 * The container completes the emitter after a failed write; only the registration is
+	 * removed here.
+	 */
+	private <K> void dropFailed(final Map<K, List<SseEmitter>> streams, final K key, final SseEmitter emitter,
+			final Exception ex) {
+		unregister(streams, key, emitter);
+		if (log.isDebugEnabled()) {
+			log.debug("Dropped message stream after failed write: {}", ex.getMessage());
+		}
+	}
+
+	private static void afterCommit(final Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+}
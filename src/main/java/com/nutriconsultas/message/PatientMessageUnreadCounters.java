@@ -0,0 +1,134 @@
+package com.nutriconsultas.message;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Unread patient-message counts per nutritionist and patient, kept in memory so badge
+ * reads never query the database. Rebuilt from one grouped query on startup and adjusted
+ * by the local send and read paths; each nutritionist's counts are reloaded after
+ * {@code reconcile-interval-ms} so writes made on another instance (or a patient
+ * deletion) converge without coordination.
+ */
+@Component
+@Slf4j
+public class PatientMessageUnreadCounters {
+
+	private final PatientMessageRepository patientMessageRepository;
+
+	private final long reconcileIntervalMillis;
+
+	private final Clock clock;
+
+	private final Map<String, Tenant> tenants = new ConcurrentHashMap<>();
+
+	private volatile boolean rebuilt;
+
+	private volatile long rebuiltAtMillis;
+
+	public PatientMessageUnreadCounters(final PatientMessageRepository patientMessageRepository,
+			@Value("${nutriconsultas.messages.unread.reconcile-interval-ms:60000}") final long reconcileIntervalMillis,
+			@Autowired(required = false) final Clock clock) {
+		this.patientMessageRepository = patientMessageRepository;
+		this.reconcileIntervalMillis = Math.max(reconcileIntervalMillis, 0L);
+		this.clock = clock != null ? clock : Clock.systemUTC();
+	}
+
+	public long total(final String userId) {
+		long total = 0L;
+		for (final long count : tenant(userId).counts().values()) {
+			total += count;
+		}
+		return total;
+	}
+
+	public Map<Long, Long> byPatient(final String userId) {
+		return Map.copyOf(tenant(userId).counts());
+	}
+
+	/**
+	 * Runs after the message committed, so a missing or stale entry is reloaded as is:
+	 * the query already counts the new message.
+	 */
+	public void increment(final String userId, final Long pacienteId) {
+		final long now = clock.millis();
+		final Tenant current = tenants.get(userId);
+		if (isFresh(current, now) || startsEmpty(current, now)) {
+			tenant(userId).counts().merge(pacienteId, 1L, Long::sum);
+		}
+		else {
+			tenants.put(userId, load(userId, now));
+		}
+	}
+
+	public void clear(final String userId, final Long pacienteId) {
+		tenant(userId).counts().remove(pacienteId);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		final long now = clock.millis();
+		final Map<String, Map<Long, Long>> grouped = new HashMap<>();
+		for (final PatientMessageRepository.UnreadCount row : patientMessageRepository
+			.countUnreadFromPatientsGrouped()) {
+			grouped.computeIfAbsent(row.getNutritionistUserId(), key -> new ConcurrentHashMap<>())
+				.put(row.getPacienteId(), row.getUnreadCount());
+		}
+		tenants.clear();
+		grouped.forEach((userId, counts) -> tenants.put(userId, new Tenant(counts, now)));
+		rebuiltAtMillis = now;
+		rebuilt = true;
+		if (log.isInfoEnabled()) {
+			log.info("Rebuilt unread patient message counters for {} nutritionist(s)", grouped.size());
+		}
+	}
+
+	/**
+	 * A nutritionist missing right after a rebuild has no unread messages, so the empty
+	 * entry is created without a query.
+	 */
+	private Tenant tenant(final String userId) {
+		final long now = clock.millis();
+		final Tenant current = tenants.get(userId);
+		if (isFresh(current, now)) {
+			return current;
+		}
+		final Tenant loaded = startsEmpty(current, now) ? new Tenant(new ConcurrentHashMap<>(), rebuiltAtMillis)
+				: load(userId, now);
+		tenants.put(userId, loaded);
+		return loaded;
+	}
+
+	private boolean isFresh(final Tenant tenant, final long now) {
+		return tenant != null && now - tenant.loadedAtMillis() < reconcileIntervalMillis;
+	}
+
+	private boolean startsEmpty(final Tenant tenant, final long now) {
+		return tenant == null && rebuilt && now - rebuiltAtMillis < reconcileIntervalMillis;
+	}
+
+	private Tenant load(final String userId, final long now) {
+		final List<PatientMessageRepository.UnreadCount> rows = patientMessageRepository
+			.countUnreadFromPatientsGroupedByNutritionist(userId);
+		final Map<Long, Long> counts = new ConcurrentHashMap<>();
+		for (final PatientMessageRepository.UnreadCount row : rows) {
+			counts.put(row.getPacienteId(), row.getUnreadCount());
+		}
+		return new Tenant(counts, now);
+	}
+
+	private record Tenant(Map<Long, Long> counts, long loadedAtMillis) {
+	}
+
+}
@@ -0,0 +1,16 @@
+package com.nutriconsultas.message.dto;
+
+import java.time.Instant;
+
+import com.nutriconsultas.message.MessageSenderRole;
+import com.nutriconsultas.message.PatientMessage;
+
+public record PatientMessageEventDto(Long pacienteId, Long id, Instant sentAt, MessageSenderRole senderRole,
+		String body) {
+
+	public static PatientMessageEventDto fromEntity(final PatientMessage message) {
+		return new PatientMessageEventDto(message.getPaciente().getId(), message.getId(), message.getSentAt(),
+				message.getSenderRole(), message.getBody());
+	}
+
+}
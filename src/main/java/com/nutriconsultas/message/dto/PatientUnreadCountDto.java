@@ -0,0 +1,6 @@
+package com.nutriconsultas.message.dto;
+
+import java.util.Map;
+
+public record PatientUnreadCountDto(long count, Map<Long, Long> byPatient) {
+}
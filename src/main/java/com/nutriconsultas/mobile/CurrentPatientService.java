@@ -4,7 +4,6 @@ import java.util.Optional;
 
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.nutriconsultas.paciente.PacienteRepository;
 import com.nutriconsultas.paciente.projection.PacienteAuthView;
@@ -13,7 +12,8 @@ import com.nutriconsultas.util.LogRedaction;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Central {@code sub → Paciente} resolver for the mobile API (#137).
+ * Central {@code sub → Paciente} resolver for the mobile API (#137). Lookups go through
+ * {@link PatientAuthViewCache}, so a cache hit needs no transaction or connection.
  */
 @Service
 @Slf4j
@@ -21,32 +21,30 @@ public class CurrentPatientService {
 
 	private final PacienteRepository pacienteRepository;
 
-	public CurrentPatientService(final PacienteRepository pacienteRepository) {
+	private final PatientAuthViewCache authViewCache;
+
+	public CurrentPatientService(final PacienteRepository pacienteRepository,
+			final PatientAuthViewCache authViewCache) {
 		this.pacienteRepository = pacienteRepository;
+		this.authViewCache = authViewCache;
 	}
 
-	@Transactional(readOnly = true)
 	public Optional<CurrentPatient> findByJwt(final Jwt jwt) {
-		if (jwt == null || jwt.getSubject() == null) {
-			return Optional.empty();
-		}
-		return pacienteRepository.findAuthViewByPatientAuthSub(jwt.getSubject()).map(CurrentPatient::from);
+		return findAuthViewByJwt(jwt).map(CurrentPatient::from);
 	}
 
-	@Transactional(readOnly = true)
 	public CurrentPatient requireByJwt(final Jwt jwt) {
 		return findByJwt(jwt).orElseThrow(PatientNotLinkedException::new);
 	}
 
-	@Transactional(readOnly = true)
 	public Optional<PacienteAuthView> findAuthViewByJwt(final Jwt jwt) {
 		if (jwt == null || jwt.getSubject() == null) {
 			return Optional.empty();
 		}
-		return pacienteRepository.findAuthViewByPatientAuthSub(jwt.getSubject());
+		final String subject = jwt.getSubject();
+		return authViewCache.get(subject, () -> pacienteRepository.findAuthViewByPatientAuthSub(subject));
 	}
 
-	@Transactional(readOnly = true)
 	public PatientPrincipal resolvePrincipal(final Jwt jwt) {
 		final CurrentPatient currentPatient = requireByJwt(jwt);
 		if (log.isDebugEnabled()) {
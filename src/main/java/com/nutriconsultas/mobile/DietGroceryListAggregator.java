@@ -1,10 +1,16 @@
 package com.nutriconsultas.mobile;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
+import org.springframework.lang.Nullable;
+
 import com.nutriconsultas.alimentos.Alimento;
 import com.nutriconsultas.dieta.AlimentoIngesta;
 import com.nutriconsultas.dieta.Dieta;
@@ -12,13 +18,23 @@ import com.nutriconsultas.dieta.Ingesta;
 import com.nutriconsultas.dieta.IngredientePlatilloIngesta;
 import com.nutriconsultas.dieta.PlatilloIngesta;
 import com.nutriconsultas.mobile.dto.DietGroceryListItemDto;
+import com.nutriconsultas.model.AbstractFraccionable;
+import com.nutriconsultas.util.IngredientWeightCalculator;
+import com.nutriconsultas.util.UnitNormalizer;
 
 /**
  * Aggregates platillo ingredients and standalone ingesta alimentos into a deduplicated
- * grocery list (#353).
+ * grocery list. Rows are keyed by catalog alimento id (by name when there is none) and
+ * units are compared after {@link UnitNormalizer}; each line shows the first spelling
+ * entered for its unit. When one alimento is used in several units and every row has a
+ * known weight, its line is summed in grams; otherwise each unit gets its own line.
  */
 public final class DietGroceryListAggregator {
 
+	private static final Comparator<DietGroceryListItemDto> BY_NOMBRE_AND_UNIDAD = Comparator
+		.comparing(DietGroceryListItemDto::nombre, String.CASE_INSENSITIVE_ORDER)
+		.thenComparing(DietGroceryListItemDto::unidad, Comparator.nullsFirst(Comparator.naturalOrder()));
+
 	private DietGroceryListAggregator() {
 	}
 
@@ -33,114 +49,189 @@ public final class DietGroceryListAggregator {
 		if (diets == null || diets.isEmpty()) {
 			return List.of();
 		}
-		final Map<String, MutableGroceryItem> items = new LinkedHashMap<>();
+		final Map<GroceryKey, GroceryEntry> entries = new LinkedHashMap<>();
 		for (final Dieta dieta : diets) {
 			if (dieta == null || dieta.getIngestas() == null) {
 				continue;
 			}
 			for (final Ingesta ingesta : dieta.getIngestas()) {
-				aggregateIngesta(ingesta, items);
+				if (ingesta.getPlatillos() != null) {
+					for (final PlatilloIngesta platillo : ingesta.getPlatillos()) {
+						addPlatillo(entries, platillo, 1);
+					}
+				}
+				if (ingesta.getAlimentos() != null) {
+					for (final AlimentoIngesta alimento : ingesta.getAlimentos()) {
+						addStandaloneAlimento(entries, alimento, 1);
+					}
+				}
 			}
 		}
-		return items.values()
-			.stream()
-			.map(MutableGroceryItem::toDto)
-			.sorted(Comparator.comparing(DietGroceryListItemDto::nombre, String.CASE_INSENSITIVE_ORDER))
-			.toList();
+		return toItems(entries);
 	}
 
-	private static void aggregateIngesta(final Ingesta ingesta, final Map<String, MutableGroceryItem> items) {
-		if (ingesta.getPlatillos() != null) {
-			for (final PlatilloIngesta platillo : ingesta.getPlatillos()) {
-				aggregatePlatillo(platillo, items);
-			}
+	/**
+	 * Aggregates the platillos and alimentos of several diets loaded in bulk, with their
+	 * ingesta. {@code timesByDietaId} counts how often each diet is eaten, since a weekly
+	 * plan may repeat one diet on several days; rows of diets missing from it count once.
+	 */
+	public static List<DietGroceryListItemDto> aggregate(final Collection<PlatilloIngesta> platillos,
+			final Collection<AlimentoIngesta> alimentos, final Map<Long, Integer> timesByDietaId) {
+		final Map<GroceryKey, GroceryEntry> entries = new LinkedHashMap<>();
+		for (final PlatilloIngesta platillo : platillos) {
+			addPlatillo(entries, platillo, times(platillo.getIngesta(), timesByDietaId));
 		}
-		if (ingesta.getAlimentos() != null) {
-			for (final AlimentoIngesta alimento : ingesta.getAlimentos()) {
-				aggregateStandaloneAlimento(alimento, items);
-			}
+		for (final AlimentoIngesta alimento : alimentos) {
+			addStandaloneAlimento(entries, alimento, times(alimento.getIngesta(), timesByDietaId));
 		}
+		return toItems(entries);
 	}
 
-	private static void aggregatePlatillo(final PlatilloIngesta platillo, final Map<String, MutableGroceryItem> items) {
+	private static int times(@Nullable final Ingesta ingesta, final Map<Long, Integer> timesByDietaId) {
+		if (ingesta == null || ingesta.getDieta() == null) {
+			return 1;
+		}
+		return timesByDietaId.getOrDefault(ingesta.getDieta().getId(), 1);
+	}
+
+	private static void addPlatillo(final Map<GroceryKey, GroceryEntry> entries, final PlatilloIngesta platillo,
+			final int times) {
 		if (platillo.getIngredientes() == null) {
 			return;
 		}
 		final int portions = platillo.getPortions() != null ? platillo.getPortions() : 1;
 		for (final IngredientePlatilloIngesta ingrediente : platillo.getIngredientes()) {
-			addPlatilloIngredient(items, ingrediente, portions);
+			addIngrediente(entries, ingrediente, portions * times);
 		}
 	}
 
-	private static void addPlatilloIngredient(final Map<String, MutableGroceryItem> items,
-			final IngredientePlatilloIngesta ingrediente, final int portions) {
+	private static void addIngrediente(final Map<GroceryKey, GroceryEntry> entries,
+			final IngredientePlatilloIngesta ingrediente, final int multiplier) {
 		final Alimento alimento = ingrediente.getAlimento();
 		final String nombre = alimento != null ? alimento.getNombreAlimento() : ingrediente.getDescription();
 		if (nombre == null || nombre.isBlank()) {
 			return;
 		}
-		final String unidad = ingrediente.getUnidad();
-		final Long alimentoId = alimento != null ? alimento.getId() : null;
-		final String categoria = alimento != null ? alimento.getClasificacion() : null;
-		final String key = buildKey(alimentoId, nombre, unidad);
-		final MutableGroceryItem item = items.computeIfAbsent(key,
-				ignored -> new MutableGroceryItem(nombre, unidad, categoria));
-		item.mergeCategoria(categoria);
-		if (ingrediente.shouldDisplayWeightInGrams(unidad)) {
-			final Integer peso = ingrediente.getPesoBrutoRedondeado();
-			if (peso != null) {
-				item.addGramQuantity(peso * portions);
-			}
+		final GroceryEntry entry = entry(entries, alimento, nombre);
+		final String unidad = UnitNormalizer.normalize(ingrediente.getUnidad());
+		final Integer grams = ingredienteGrams(ingrediente, alimento, unidad);
+		final Double gramsTotal = grams != null ? (double) grams * multiplier : null;
+		if (gramsTotal != null && ingrediente.shouldDisplayWeightInGrams(unidad)) {
+			entry.add(UnitNormalizer.GRAMS, gramsSpelling(unidad, ingrediente.getUnidad()), gramsTotal, gramsTotal);
 		}
-		else if (ingrediente.getCantSugerida() != null) {
-			item.addFractionQuantity(ingrediente.getCantSugerida() * portions);
+		else {
+			final double cantidad = ingrediente.getCantSugerida() != null ? ingrediente.getCantSugerida() : 0.0;
+			entry.add(unidad, ingrediente.getUnidad(), cantidad * multiplier, gramsTotal);
 		}
 	}
 
-	private static void aggregateStandaloneAlimento(final AlimentoIngesta alimentoIngesta,
-			final Map<String, MutableGroceryItem> items) {
+	/**
+	 * Weight of one platillo portion of the ingredient: its stored gross weight, the
+	 * quantity itself for gram units, or the catalog weight scaled to the quantity when
+	 * both use the same unit.
+	 */
+	@Nullable
+	private static Integer ingredienteGrams(final IngredientePlatilloIngesta ingrediente,
+			@Nullable final Alimento alimento, @Nullable final String unidad) {
+		final Double cantidad = ingrediente.getCantSugerida();
+		Integer grams = ingrediente.getPesoBrutoRedondeado();
+		if (grams == null && cantidad != null && UnitNormalizer.GRAMS.equals(unidad)) {
+			grams = (int) Math.round(cantidad);
+		}
+		else if (grams == null && cantidad != null && alimento != null && alimento.getCantSugerida() != null
+				&& alimento.getCantSugerida() > 0 && alimento.getPesoBrutoRedondeado() != null && unidad != null
+				&& unidad.equals(UnitNormalizer.normalize(alimento.getUnidad()))) {
+			grams = IngredientWeightCalculator.recalculatePesoNeto(alimento.getCantSugerida(),
+					alimento.getPesoBrutoRedondeado(), cantidad);
+		}
+		return grams;
+	}
+
+	/**
+	 * A standalone alimento stands for {@code portions} catalog servings, matching
+	 * {@link AlimentoIngesta#getDisplayCantidad()}; its stored gross weight already
+	 * includes the portions.
+	 */
+	private static void addStandaloneAlimento(final Map<GroceryKey, GroceryEntry> entries,
+			final AlimentoIngesta alimentoIngesta, final int times) {
 		final Alimento alimento = alimentoIngesta.getAlimento();
 		final String nombre = alimento != null ? alimento.getNombreAlimento() : alimentoIngesta.getName();
 		if (nombre == null || nombre.isBlank()) {
 			return;
 		}
-		final String unidad = alimentoIngesta.getUnidad();
-		final Long alimentoId = alimento != null ? alimento.getId() : null;
-		final String categoria = alimento != null ? alimento.getClasificacion() : null;
-		final String key = buildKey(alimentoId, nombre, unidad);
-		final MutableGroceryItem item = items.computeIfAbsent(key,
-				ignored -> new MutableGroceryItem(nombre, unidad, categoria));
-		item.mergeCategoria(categoria);
-		final double portions = alimentoIngesta.getPortions() != null ? alimentoIngesta.getPortions() : 1.0;
-		item.addFractionQuantity(portions);
+		final GroceryEntry entry = entry(entries, alimento, nombre);
+		final String unidad = UnitNormalizer.normalize(alimentoIngesta.getUnidad());
+		final double portions = alimentoIngesta.getPortions() != null && alimentoIngesta.getPortions() > 0
+				? alimentoIngesta.getPortions() : 1.0;
+		final double servings = alimento != null && alimento.getCantSugerida() != null ? alimento.getCantSugerida()
+				: 1.0;
+		Double grams = null;
+		if (alimentoIngesta.getPesoBrutoRedondeado() != null) {
+			grams = (double) alimentoIngesta.getPesoBrutoRedondeado() * times;
+		}
+		else if (alimento != null && alimento.getPesoBrutoRedondeado() != null) {
+			grams = alimento.getPesoBrutoRedondeado() * portions * times;
+		}
+		if (UnitNormalizer.GRAMS.equals(unidad) && grams != null) {
+			entry.add(UnitNormalizer.GRAMS, alimentoIngesta.getUnidad(), grams, grams);
+		}
+		else {
+			entry.add(unidad, alimentoIngesta.getUnidad(), servings * portions * times, grams);
+		}
+	}
+
+	/**
+	 * The entered unit when it already means grams, otherwise {@code g} for a quantity
+	 * converted to its weight.
+	 */
+	private static String gramsSpelling(@Nullable final String unidad, @Nullable final String entered) {
+		return UnitNormalizer.GRAMS.equals(unidad) ? entered : UnitNormalizer.GRAMS;
+	}
+
+	private static GroceryEntry entry(final Map<GroceryKey, GroceryEntry> entries, @Nullable final Alimento alimento,
+			final String nombre) {
+		final GroceryKey key = alimento != null && alimento.getId() != null ? new GroceryKey(alimento.getId(), null)
+				: new GroceryKey(null, nombre.trim().toLowerCase(Locale.ROOT));
+		final GroceryEntry entry = entries.computeIfAbsent(key, ignored -> new GroceryEntry(nombre));
+		if (alimento != null) {
+			entry.mergeCategoria(alimento.getClasificacion());
+		}
+		return entry;
 	}
 
-	private static String buildKey(final Long alimentoId, final String nombre, final String unidad) {
-		final String unit = unidad != null ? unidad : "";
-		if (alimentoId != null) {
-			return "a:" + alimentoId + "|" + unit;
+	private static List<DietGroceryListItemDto> toItems(final Map<GroceryKey, GroceryEntry> entries) {
+		final List<DietGroceryListItemDto> items = new ArrayList<>();
+		for (final GroceryEntry entry : entries.values()) {
+			entry.addItems(items);
 		}
-		return "n:" + nombre + "|" + unit;
+		items.sort(BY_NOMBRE_AND_UNIDAD);
+		return List.copyOf(items);
 	}
 
-	private static final class MutableGroceryItem {
+	/**
+	 * Catalog alimento id, or the lower-cased name of rows without one.
+	 */
+	private record GroceryKey(@Nullable Long alimentoId, @Nullable String nombre) {
+	}
 
-		private final String nombre;
+	private static final class GroceryEntry {
 
-		private final String unidad;
+		private final String nombre;
 
 		private String categoria;
 
-		private double fractionQuantity;
+		/** Quantity per normalized unit; rows without a unit use the empty string. */
+		private final Map<String, Double> quantities = new LinkedHashMap<>();
 
-		private int gramQuantity;
+		/** First spelling entered for each normalized unit, as shown to the patient. */
+		private final Map<String, String> spellings = new HashMap<>();
 
-		private boolean usesGramQuantity;
+		private double grams;
 
-		private MutableGroceryItem(final String nombre, final String unidad, final String categoria) {
+		private boolean weighed = true;
+
+		private GroceryEntry(final String nombre) {
 			this.nombre = nombre;
-			this.unidad = unidad;
-			this.categoria = categoria;
 		}
 
 		private void mergeCategoria(final String nextCategoria) {
@@ -149,29 +240,39 @@ public final class DietGroceryListAggregator {
 			}
 		}
 
-		private void addFractionQuantity(final double amount) {
-			if (usesGramQuantity) {
-				return;
+		private void add(@Nullable final String unidad, @Nullable final String entered, final double quantity,
+				@Nullable final Double rowGrams) {
+			final String key = unidad != null ? unidad : "";
+			quantities.merge(key, quantity, Double::sum);
+			if (unidad != null) {
+				spellings.putIfAbsent(key, entered != null && !entered.isBlank() ? entered.trim() : unidad);
+			}
+			if (rowGrams != null) {
+				grams += rowGrams;
+			}
+			else {
+				weighed = false;
 			}
-			fractionQuantity += amount;
 		}
 
-		private void addGramQuantity(final int grams) {
-			usesGramQuantity = true;
-			gramQuantity += grams;
+		private void addItems(final List<DietGroceryListItemDto> items) {
+			if (quantities.size() > 1 && weighed) {
+				items.add(new DietGroceryListItemDto(nombre, format(UnitNormalizer.GRAMS, grams), UnitNormalizer.GRAMS,
+						categoria));
+				return;
+			}
+			for (final Map.Entry<String, Double> quantity : quantities.entrySet()) {
+				final String unidad = quantity.getKey().isEmpty() ? null : quantity.getKey();
+				items.add(new DietGroceryListItemDto(nombre, format(unidad, quantity.getValue()),
+						spellings.get(quantity.getKey()), categoria));
+			}
 		}
 
-		private DietGroceryListItemDto toDto() {
-			final String cantidad;
-			if (usesGramQuantity) {
-				cantidad = String.valueOf(gramQuantity);
-			}
-			else {
-				final IngredientePlatilloIngesta helper = new IngredientePlatilloIngesta();
-				helper.setCantSugerida(fractionQuantity);
-				cantidad = helper.getDisplayCantSugerida(unidad);
+		private static String format(@Nullable final String unidad, final double quantity) {
+			if (UnitNormalizer.GRAMS.equals(unidad)) {
+				return String.valueOf(Math.round(quantity));
 			}
-			return new DietGroceryListItemDto(nombre, cantidad, unidad, categoria);
+			return AbstractFraccionable.formatQuantity(quantity);
 		}
 
 	}
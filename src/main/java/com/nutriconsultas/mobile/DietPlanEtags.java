@@ -0,0 +1,41 @@
+package com.nutriconsultas.mobile;
+
+import java.util.Collection;
+
+import com.nutriconsultas.dieta.Dieta;
+import com.nutriconsultas.paciente.PacienteDieta;
+
+/**
+ * Strong ETags for mobile diet plan payloads, derived from the assignment and diet
+ * content versions instead of the rendered bytes, so a revalidation only needs the
+ * version lookup.
+ */
+final class DietPlanEtags {
+
+	/**
+	 * Bump when the DTO or PDF layout changes so clients drop payloads cached by an older
+	 * release.
+	 */
+	static final int PAYLOAD_FORMAT = 1;
+
+	private DietPlanEtags() {
+	}
+
+	static String of(final String kind, final PacienteDieta assignment, final Collection<Dieta> dietas) {
+		final StringBuilder tag = new StringBuilder(48).append('"')
+			.append(kind)
+			.append("-f")
+			.append(PAYLOAD_FORMAT)
+			.append("-a")
+			.append(assignment.getId())
+			.append('v')
+			.append(assignment.getContentVersion());
+		for (final Dieta dieta : dietas) {
+			if (dieta != null) {
+				tag.append("-d").append(dieta.getId()).append('v').append(dieta.getContentVersion());
+			}
+		}
+		return tag.append('"').toString();
+	}
+
+}
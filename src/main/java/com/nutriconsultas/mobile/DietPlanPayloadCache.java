@@ -0,0 +1,95 @@
+package com.nutriconsultas.mobile;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.nutriconsultas.dieta.Dieta;
+import com.nutriconsultas.mobile.dto.ApiResponse;
+import com.nutriconsultas.mobile.dto.DietGroceryListDto;
+import com.nutriconsultas.mobile.dto.DietGroceryListItemDto;
+import com.nutriconsultas.mobile.dto.DietPlanDetailDto;
+import com.nutriconsultas.mobile.dto.DietPlanPdfResult;
+import com.nutriconsultas.paciente.PacienteDieta;
+
+/**
+ * Built mobile diet plan payloads keyed by their {@link DietPlanEtags ETag}. Entries are
+ * immutable and never invalidated: an edit bumps the content version, which yields a new
+ * key, and the old entry ages out of the LRU. JSON responses keep the envelope built with
+ * the entry so every response for one ETag serializes to the same bytes. The aggregated
+ * grocery items behind them are kept under the same key for the admin grocery page and
+ * its PDF.
+ */
+@Component
+public class DietPlanPayloadCache {
+
+	static final int MAX_JSON_ENTRIES = 2_000;
+
+	static final int MAX_PDF_ENTRIES = 100;
+
+	private final Map<String, ApiResponse<DietPlanDetailDto>> details = lru(MAX_JSON_ENTRIES);
+
+	private final Map<String, ApiResponse<DietGroceryListDto>> groceryLists = lru(MAX_JSON_ENTRIES);
+
+	private final Map<String, DietPlanPdfResult> pdfs = lru(MAX_PDF_ENTRIES);
+
+	private final Map<String, List<DietGroceryListItemDto>> groceryItems = lru(MAX_JSON_ENTRIES);
+
+	public ApiResponse<DietPlanDetailDto> detail(final String etag,
+			final Supplier<ApiResponse<DietPlanDetailDto>> loader) {
+		return get(details, etag, loader);
+	}
+
+	public ApiResponse<DietGroceryListDto> groceryList(final String etag,
+			final Supplier<ApiResponse<DietGroceryListDto>> loader) {
+		return get(groceryLists, etag, loader);
+	}
+
+	/**
+	 * Grocery items of {@code assignment} built from {@code dietas}, keyed by the grocery
+	 * ETag. The loader must return an unmodifiable list.
+	 */
+	public List<DietGroceryListItemDto> groceryItems(final PacienteDieta assignment, final Collection<Dieta> dietas,
+			final Supplier<List<DietGroceryListItemDto>> loader) {
+		return get(groceryItems, DietPlanEtags.of("grocery", assignment, dietas), loader);
+	}
+
+	public DietPlanPdfResult pdf(final String etag, final Supplier<DietPlanPdfResult> loader) {
+		return get(pdfs, etag, loader);
+	}
+
+	/**
+	 * Loads outside the map lock; two concurrent misses for the same ETag both build the
+	 * payload from the same content version and the later one wins.
+	 */
+	private static <V> V get(final Map<String, V> cache, final String etag, final Supplier<V> loader) {
+		final V cached = cache.get(etag);
+		if (cached != null) {
+			return cached;
+		}
+		final V loaded = loader.get();
+		if (loaded != null) {
+			cache.put(etag, loaded);
+		}
+		return loaded;
+	}
+
+	private static <V> Map<String, V> lru(final int maxEntries) {
+		return Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, V> eldest) {
+				return size() > maxEntries;
+			}
+
+		});
+	}
+
+}
@@ -11,6 +11,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,6 +26,7 @@ import com.nutriconsultas.mobile.dto.DietPlanSummaryDto;
 import com.nutriconsultas.mobile.dto.DietPlatilloDetailDto;
 import com.nutriconsultas.mobile.dto.DietPlatilloImageResult;
 import com.nutriconsultas.mobile.dto.PagedResponse;
+import com.nutriconsultas.util.IfNoneMatch;
 import com.nutriconsultas.util.LogRedaction;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,12 +41,21 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class MobilePatientDietPlanController extends AbstractMobilePatientController {
 
+	/**
+	 * Clients must revalidate every time; unchanged plans come back as 304 without a
+	 * body.
+	 */
+	private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
 	private final MobilePatientDietPlanService mobilePatientDietPlanService;
 
+	private final DietPlanPayloadCache payloadCache;
+
 	public MobilePatientDietPlanController(final PatientAuthService patientAuthService,
-			final MobilePatientDietPlanService mobilePatientDietPlanService) {
+			final MobilePatientDietPlanService mobilePatientDietPlanService, final DietPlanPayloadCache payloadCache) {
 		super(patientAuthService);
 		this.mobilePatientDietPlanService = mobilePatientDietPlanService;
+		this.payloadCache = payloadCache;
 	}
 
 	@GetMapping
@@ -74,15 +85,24 @@ public class MobilePatientDietPlanController extends AbstractMobilePatientContro
 	@MobileOpenApiResponses.NotFoundWhenMissing
 	@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
 			description = "Diet plan detail with ingestas and platillos")
-	public ApiResponse<DietPlanDetailDto> getDietPlanDetail(@AuthenticationPrincipal final Jwt jwt,
-			@Parameter(description = "PacienteDieta assignment identifier") @PathVariable final Long assignmentId) {
+	@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304",
+			description = "Plan unchanged since the ETag sent in If-None-Match")
+	public ResponseEntity<ApiResponse<DietPlanDetailDto>> getDietPlanDetail(@AuthenticationPrincipal final Jwt jwt,
+			@Parameter(description = "PacienteDieta assignment identifier") @PathVariable final Long assignmentId,
+			@Parameter(description = "ETag of a previously returned detail") @RequestHeader(
+					value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
 		final Long pacienteId = getAuthenticatedPacienteId(jwt);
 		if (log.isDebugEnabled()) {
 			log.debug("Mobile get diet plan {} for patient {}", LogRedaction.redactPacienteDieta(assignmentId),
 					LogRedaction.redactPaciente(pacienteId));
 		}
-		final DietPlanDetailDto plan = mobilePatientDietPlanService.getDietPlanDetail(pacienteId, assignmentId);
-		return ApiResponse.ok(plan);
+		final String etag = mobilePatientDietPlanService.getDietPlanDetailEtag(pacienteId, assignmentId);
+		if (IfNoneMatch.matches(ifNoneMatch, etag)) {
+			return notModified(etag);
+		}
+		final ApiResponse<DietPlanDetailDto> plan = payloadCache.detail(etag,
+				() -> ApiResponse.ok(mobilePatientDietPlanService.getDietPlanDetail(pacienteId, assignmentId)));
+		return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(plan);
 	}
 
 	@GetMapping("/{assignmentId}/platillos/{platilloIngestaId}")
@@ -150,18 +170,26 @@ public class MobilePatientDietPlanController extends AbstractMobilePatientContro
 	@MobileOpenApiResponses.NotFoundWhenMissing
 	@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
 			description = "Grocery list items for the full plan")
-	public ApiResponse<DietGroceryListDto> getGroceryList(@AuthenticationPrincipal final Jwt jwt,
+	@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304",
+			description = "Grocery list unchanged since the ETag sent in If-None-Match")
+	public ResponseEntity<ApiResponse<DietGroceryListDto>> getGroceryList(@AuthenticationPrincipal final Jwt jwt,
 			@Parameter(description = "PacienteDieta assignment identifier") @PathVariable final Long assignmentId,
 			@Parameter(description = "Week scope; only current (full plan) is supported") @RequestParam(
-					defaultValue = "current") final String week) {
+					defaultValue = "current") final String week,
+			@Parameter(description = "ETag of a previously returned grocery list") @RequestHeader(
+					value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
 		final Long pacienteId = getAuthenticatedPacienteId(jwt);
 		if (log.isDebugEnabled()) {
 			log.debug("Mobile get grocery list assignment {} for patient {}",
 					LogRedaction.redactPacienteDieta(assignmentId), LogRedaction.redactPaciente(pacienteId));
 		}
-		final DietGroceryListDto groceryList = mobilePatientDietPlanService.getGroceryList(pacienteId, assignmentId,
-				week);
-		return ApiResponse.ok(groceryList);
+		final String etag = mobilePatientDietPlanService.getGroceryListEtag(pacienteId, assignmentId, week);
+		if (IfNoneMatch.matches(ifNoneMatch, etag)) {
+			return notModified(etag);
+		}
+		final ApiResponse<DietGroceryListDto> groceryList = payloadCache.groceryList(etag,
+				() -> ApiResponse.ok(mobilePatientDietPlanService.getGroceryList(pacienteId, assignmentId, week)));
+		return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(groceryList);
 	}
 
 	@GetMapping(value = "/{assignmentId}/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
@@ -171,18 +199,33 @@ public class MobilePatientDietPlanController extends AbstractMobilePatientContro
 	@MobileOpenApiResponses.NotFoundWhenMissing
 	@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "PDF bytes",
 			content = @Content(mediaType = MediaType.APPLICATION_PDF_VALUE))
+	@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304",
+			description = "PDF unchanged since the ETag sent in If-None-Match")
 	public ResponseEntity<byte[]> getDietPlanPdf(@AuthenticationPrincipal final Jwt jwt,
-			@Parameter(description = "PacienteDieta assignment identifier") @PathVariable final Long assignmentId) {
+			@Parameter(description = "PacienteDieta assignment identifier") @PathVariable final Long assignmentId,
+			@Parameter(description = "ETag of a previously downloaded PDF") @RequestHeader(
+					value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
 		final Long pacienteId = getAuthenticatedPacienteId(jwt);
 		if (log.isDebugEnabled()) {
 			log.debug("Mobile get diet plan PDF {} for patient {}", LogRedaction.redactPacienteDieta(assignmentId),
 					LogRedaction.redactPaciente(pacienteId));
 		}
-		final DietPlanPdfResult pdf = mobilePatientDietPlanService.generateDietPlanPdf(pacienteId, assignmentId);
+		final String etag = mobilePatientDietPlanService.getDietPlanPdfEtag(pacienteId, assignmentId);
+		if (IfNoneMatch.matches(ifNoneMatch, etag)) {
+			return notModified(etag);
+		}
+		final DietPlanPdfResult pdf = payloadCache.pdf(etag,
+				() -> mobilePatientDietPlanService.generateDietPlanPdf(pacienteId, assignmentId));
 		return ResponseEntity.ok()
+			.eTag(etag)
+			.cacheControl(REVALIDATE)
 			.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + pdf.filename() + "\"")
 			.contentType(MediaType.APPLICATION_PDF)
 			.body(pdf.content());
 	}
 
+	private static <T> ResponseEntity<T> notModified(final String etag) {
+		return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+	}
+
 }
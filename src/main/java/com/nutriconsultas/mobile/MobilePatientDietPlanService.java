@@ -2,6 +2,7 @@ package com.nutriconsultas.mobile;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,10 +16,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import com.nutriconsultas.dieta.AlimentoIngesta;
 import com.nutriconsultas.dieta.Dieta;
 import com.nutriconsultas.dieta.DietaPdfService;
-import com.nutriconsultas.dieta.Ingesta;
+import com.nutriconsultas.dieta.DietaTree;
+import com.nutriconsultas.dieta.DietaTreeReader;
 import com.nutriconsultas.dieta.IngredientePlatilloIngesta;
 import com.nutriconsultas.dieta.PlatilloIngesta;
 import com.nutriconsultas.dieta.PlatilloIngestaPictureSupport;
@@ -55,14 +56,18 @@ public class MobilePatientDietPlanService {
 
 	private final PlatilloService platilloService;
 
+	private final DietaTreeReader dietaTreeReader;
+
 	public MobilePatientDietPlanService(final PacienteDietaRepository pacienteDietaRepository,
 			final PacienteDietaService pacienteDietaService, final PlatilloIngestaRepository platilloIngestaRepository,
-			final DietaPdfService dietaPdfService, final PlatilloService platilloService) {
+			final DietaPdfService dietaPdfService, final PlatilloService platilloService,
+			final DietaTreeReader dietaTreeReader) {
 		this.pacienteDietaRepository = pacienteDietaRepository;
 		this.pacienteDietaService = pacienteDietaService;
 		this.platilloIngestaRepository = platilloIngestaRepository;
 		this.dietaPdfService = dietaPdfService;
 		this.platilloService = platilloService;
+		this.dietaTreeReader = dietaTreeReader;
 	}
 
 	@Transactional(readOnly = true)
@@ -82,17 +87,27 @@ public class MobilePatientDietPlanService {
 		return PagedResponse.of(summaries);
 	}
 
+	/**
+	 * ETag of {@link #getDietPlanDetail}; only loads the assignment and resolves which
+	 * diet applies today.
+	 */
+	@Transactional(readOnly = true)
+	public String getDietPlanDetailEtag(final Long pacienteId, final Long assignmentId) {
+		final PacienteDieta assignment = pacienteDietaRepository.findByIdAndPacienteId(assignmentId, pacienteId)
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+		return DietPlanEtags.of("detail", assignment, Collections.singletonList(resolveEffectiveDieta(assignment)));
+	}
+
 	@Transactional(readOnly = true)
 	public DietPlanDetailDto getDietPlanDetail(final Long pacienteId, final Long assignmentId) {
 		final PacienteDieta assignment = pacienteDietaRepository.findByIdAndPacienteId(assignmentId, pacienteId)
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-		final Dieta effectiveDieta = resolveEffectiveDieta(assignment);
-		initializeDietaTree(effectiveDieta);
+		final DietaTree tree = dietaTreeReader.read(resolveEffectiveDieta(assignment));
 		if (log.isDebugEnabled()) {
 			log.debug("Loaded mobile diet plan detail assignmentId={} for patient {}",
 					LogRedaction.redactPacienteDieta(assignmentId), LogRedaction.redactPaciente(pacienteId));
 		}
-		return DietPlanDetailDto.fromEntity(assignment, effectiveDieta);
+		return DietPlanDetailDto.fromTree(assignment, tree);
 	}
 
 	@Transactional(readOnly = true)
@@ -131,14 +146,21 @@ public class MobilePatientDietPlanService {
 	}
 
 	@Transactional(readOnly = true)
-	public DietGroceryListDto getGroceryList(final Long pacienteId, final Long assignmentId, final String week) {
+	public String getGroceryListEtag(final Long pacienteId, final Long assignmentId, final String week) {
 		final PacienteDieta assignment = pacienteDietaRepository.findByIdAndPacienteId(assignmentId, pacienteId)
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 		if (week != null && !week.isBlank() && !"current".equalsIgnoreCase(week)) {
 			throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
 		}
-		for (final Dieta dieta : pacienteDietaService.resolveDietsForGroceryList(assignment)) {
-			initializeGroceryTree(dieta);
+		return DietPlanEtags.of("grocery", assignment, pacienteDietaService.resolveDietsForGroceryList(assignment));
+	}
+
+	@Transactional(readOnly = true)
+	public DietGroceryListDto getGroceryList(final Long pacienteId, final Long assignmentId, final String week) {
+		final PacienteDieta assignment = pacienteDietaRepository.findByIdAndPacienteId(assignmentId, pacienteId)
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+		if (week != null && !week.isBlank() && !"current".equalsIgnoreCase(week)) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
 		}
 		if (log.isDebugEnabled()) {
 			log.debug("Loaded mobile grocery list assignmentId={} for patient {}",
@@ -147,6 +169,13 @@ public class MobilePatientDietPlanService {
 		return new DietGroceryListDto(pacienteDietaService.buildGroceryList(assignment));
 	}
 
+	@Transactional(readOnly = true)
+	public String getDietPlanPdfEtag(final Long pacienteId, final Long assignmentId) {
+		final PacienteDieta assignment = pacienteDietaRepository.findByIdAndPacienteId(assignmentId, pacienteId)
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+		return DietPlanEtags.of("pdf", assignment, Collections.singletonList(assignment.getDieta()));
+	}
+
 	@Transactional(readOnly = true)
 	public DietPlanPdfResult generateDietPlanPdf(final Long pacienteId, final Long assignmentId) {
 		final PacienteDieta assignment = pacienteDietaRepository.findByIdAndPacienteId(assignmentId, pacienteId)
@@ -198,28 +227,6 @@ public class MobilePatientDietPlanService {
 		return effectiveDieta;
 	}
 
-	private static void initializeGroceryTree(final Dieta dieta) {
-		if (dieta == null || dieta.getIngestas() == null) {
-			return;
-		}
-		for (final Ingesta ingesta : dieta.getIngestas()) {
-			if (ingesta.getPlatillos() != null) {
-				Hibernate.initialize(ingesta.getPlatillos());
-				for (final PlatilloIngesta platillo : ingesta.getPlatillos()) {
-					initializePlatilloDetail(platillo);
-				}
-			}
-			if (ingesta.getAlimentos() != null) {
-				Hibernate.initialize(ingesta.getAlimentos());
-				for (final AlimentoIngesta alimentoIngesta : ingesta.getAlimentos()) {
-					if (alimentoIngesta.getAlimento() != null) {
-						Hibernate.initialize(alimentoIngesta.getAlimento());
-					}
-				}
-			}
-		}
-	}
-
 	private static void initializePlatilloDetail(final PlatilloIngesta platillo) {
 		if (platillo.getIngredientes() != null) {
 			Hibernate.initialize(platillo.getIngredientes());
@@ -231,18 +238,4 @@ public class MobilePatientDietPlanService {
 		}
 	}
 
-	private static void initializeDietaTree(final Dieta dieta) {
-		if (dieta == null || dieta.getIngestas() == null) {
-			return;
-		}
-		for (final Ingesta ingesta : dieta.getIngestas()) {
-			if (ingesta.getPlatillos() != null) {
-				Hibernate.initialize(ingesta.getPlatillos());
-			}
-			if (ingesta.getAlimentos() != null) {
-				Hibernate.initialize(ingesta.getAlimentos());
-			}
-		}
-	}
-
 }
@@ -1,6 +1,7 @@
 package com.nutriconsultas.mobile;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,7 +11,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.nutriconsultas.message.PatientMessageStreamService;
 import com.nutriconsultas.mobile.config.MobileOpenApiResponses;
 import com.nutriconsultas.mobile.dto.ApiResponse;
 import com.nutriconsultas.mobile.dto.CursorPagedResponse;
@@ -33,10 +36,14 @@ public class MobilePatientMessageController extends AbstractMobilePatientControl
 
 	private final MobilePatientMessageService mobilePatientMessageService;
 
+	private final PatientMessageStreamService patientMessageStreamService;
+
 	public MobilePatientMessageController(final PatientAuthService patientAuthService,
-			final MobilePatientMessageService mobilePatientMessageService) {
+			final MobilePatientMessageService mobilePatientMessageService,
+			final PatientMessageStreamService patientMessageStreamService) {
 		super(patientAuthService);
 		this.mobilePatientMessageService = mobilePatientMessageService;
+		this.patientMessageStreamService = patientMessageStreamService;
 	}
 
 	@GetMapping
@@ -74,4 +81,18 @@ public class MobilePatientMessageController extends AbstractMobilePatientControl
 		return ApiResponse.ok(sent);
 	}
 
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "Stream messages",
+			description = "Server-sent events: a `message` event for each new nutritionist message. "
+					+ "Reconnect on close and page the list endpoint for anything missed.")
+	@MobileOpenApiResponses.AuthenticatedPatient
+	@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Event stream")
+	public SseEmitter streamMessages(@AuthenticationPrincipal final Jwt jwt) {
+		final Long pacienteId = getAuthenticatedPacienteId(jwt);
+		if (log.isDebugEnabled()) {
+			log.debug("Mobile message stream opened for patient {}", LogRedaction.redactPaciente(pacienteId));
+		}
+		return patientMessageStreamService.subscribePatient(pacienteId);
+	}
+
 }
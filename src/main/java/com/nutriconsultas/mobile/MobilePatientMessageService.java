@@ -14,6 +14,7 @@ import org.springframework.util.StringUtils;
 import com.nutriconsultas.message.MessageSenderRole;
 import com.nutriconsultas.message.PatientMessage;
 import com.nutriconsultas.message.PatientMessageRepository;
+import com.nutriconsultas.message.PatientMessageStreamService;
 import com.nutriconsultas.mobile.dto.CursorPagedResponse;
 import com.nutriconsultas.mobile.dto.PatientMessageSummaryDto;
 import com.nutriconsultas.paciente.Paciente;
@@ -21,6 +22,9 @@ import com.nutriconsultas.paciente.PacienteRepository;
 import com.nutriconsultas.paciente.projection.PacienteAuthView;
 import com.nutriconsultas.profile.NutritionistBrandingHelper;
 import com.nutriconsultas.profile.NutritionistProfileRepository;
+import com.nutriconsultas.sync.PatientChangeLogService;
+import com.nutriconsultas.sync.PatientChangeOperation;
+import com.nutriconsultas.sync.PatientChangeType;
 import com.nutriconsultas.util.LogRedaction;
 
 import lombok.extern.slf4j.Slf4j;
@@ -41,13 +45,21 @@ public class MobilePatientMessageService {
 
 	private final PatientWriteRateLimiter patientWriteRateLimiter;
 
+	private final PatientChangeLogService changeLogService;
+
+	private final PatientMessageStreamService patientMessageStreamService;
+
 	public MobilePatientMessageService(final PatientMessageRepository patientMessageRepository,
 			final NutritionistProfileRepository nutritionistProfileRepository,
-			final PacienteRepository pacienteRepository, final PatientWriteRateLimiter patientWriteRateLimiter) {
+			final PacienteRepository pacienteRepository, final PatientWriteRateLimiter patientWriteRateLimiter,
+			final PatientChangeLogService changeLogService,
+			final PatientMessageStreamService patientMessageStreamService) {
 		this.patientMessageRepository = patientMessageRepository;
 		this.nutritionistProfileRepository = nutritionistProfileRepository;
 		this.pacienteRepository = pacienteRepository;
 		this.patientWriteRateLimiter = patientWriteRateLimiter;
+		this.changeLogService = changeLogService;
+		this.patientMessageStreamService = patientMessageStreamService;
 	}
 
 	@Transactional(readOnly = true)
@@ -59,11 +71,7 @@ public class MobilePatientMessageService {
 				PageRequest.of(0, safeSize + 1));
 		final boolean hasMore = fetched.size() > safeSize;
 		final List<PatientMessage> page = hasMore ? fetched.subList(0, safeSize) : fetched;
-		final Map<String, String> nutritionistDisplayNames = resolveNutritionistDisplayNames(page);
-		final List<PatientMessageSummaryDto> summaries = page.stream()
-			.map(message -> PatientMessageSummaryDto.fromEntity(message,
-					nutritionistDisplayNames.get(message.getNutritionistUserId())))
-			.toList();
+		final List<PatientMessageSummaryDto> summaries = summarize(page);
 		final String nextCursor = hasMore && !page.isEmpty() ? String.valueOf(page.get(page.size() - 1).getId()) : null;
 		if (log.isDebugEnabled()) {
 			log.debug("Listed mobile messages count={} hasMore={} for patient {}", summaries.size(), hasMore,
@@ -89,9 +97,23 @@ public class MobilePatientMessageService {
 		if (log.isInfoEnabled()) {
 			log.info("Patient sent message: {}", LogRedaction.redactPatientMessage(saved.getId()));
 		}
+		changeLogService.record(authView.getId(), PatientChangeType.MESSAGE, saved.getId(),
+				PatientChangeOperation.UPSERT);
+		patientMessageStreamService.patientMessageSent(saved);
 		return PatientMessageSummaryDto.fromEntity(saved, null);
 	}
 
+	/**
+	 * Maps messages to summaries, resolving each nutritionist display name once.
+	 */
+	List<PatientMessageSummaryDto> summarize(final List<PatientMessage> messages) {
+		final Map<String, String> nutritionistDisplayNames = resolveNutritionistDisplayNames(messages);
+		return messages.stream()
+			.map(message -> PatientMessageSummaryDto.fromEntity(message,
+					nutritionistDisplayNames.get(message.getNutritionistUserId())))
+			.toList();
+	}
+
 	private Map<String, String> resolveNutritionistDisplayNames(final List<PatientMessage> messages) {
 		final Set<String> nutritionistUserIds = messages.stream()
 			.filter(message -> message.getSenderRole() == MessageSenderRole.NUTRITIONIST)
@@ -37,12 +37,16 @@ public class MobilePatientOnboardingService {
 
 	private final NutritionistProfileRepository nutritionistProfileRepository;
 
+	private final PatientAuthViewCache authViewCache;
+
 	public MobilePatientOnboardingService(final PacienteRepository pacienteRepository,
 			final PacienteDietaRepository pacienteDietaRepository,
-			final NutritionistProfileRepository nutritionistProfileRepository) {
+			final NutritionistProfileRepository nutritionistProfileRepository,
+			final PatientAuthViewCache authViewCache) {
 		this.pacienteRepository = pacienteRepository;
 		this.pacienteDietaRepository = pacienteDietaRepository;
 		this.nutritionistProfileRepository = nutritionistProfileRepository;
+		this.authViewCache = authViewCache;
 	}
 
 	@Transactional(readOnly = true)
@@ -64,8 +68,12 @@ public class MobilePatientOnboardingService {
 			final PatchPatientOnboardingProfileRequest request) {
 		final Paciente paciente = requireOnboardingEligiblePatient(pacienteId);
 		applyPatch(paciente, request);
+		final PacienteStatus previousStatus = paciente.getStatus();
 		maybeActivate(paciente);
 		final Paciente saved = pacienteRepository.save(paciente);
+		if (saved.getStatus() != previousStatus) {
+			authViewCache.invalidate(saved.getPatientAuthSub());
+		}
 		if (log.isInfoEnabled()) {
 			log.info("Updated mobile onboarding profile for patient {} status={}",
 					LogRedaction.redactPaciente(pacienteId), saved.getStatus());
@@ -27,7 +27,6 @@ import com.nutriconsultas.paciente.PacienteAvatarCatalog;
 import com.nutriconsultas.paciente.PacientePictureSupport;
 import com.nutriconsultas.paciente.PacienteRepository;
 import com.nutriconsultas.paciente.metrics.BodyMetricRecord;
-import com.nutriconsultas.paciente.metrics.BodyMetricRecordService;
 import com.nutriconsultas.paciente.metrics.BodyMetricSource;
 import com.nutriconsultas.util.ImcGaugeUtils;
 import com.nutriconsultas.util.LogRedaction;
@@ -42,19 +41,16 @@ public class MobilePatientProgressService {
 
 	private static final int MAX_ROWS_CAP = 365;
 
-	private final BodyMetricRecordService bodyMetricRecordService;
-
 	private final com.nutriconsultas.paciente.metrics.BodyMetricRecordRepository bodyMetricRecordRepository;
 
 	private final AnthropometricMeasurementRepository anthropometricMeasurementRepository;
 
 	private final PacienteRepository pacienteRepository;
 
-	public MobilePatientProgressService(final BodyMetricRecordService bodyMetricRecordService,
+	public MobilePatientProgressService(
 			final com.nutriconsultas.paciente.metrics.BodyMetricRecordRepository bodyMetricRecordRepository,
 			final AnthropometricMeasurementRepository anthropometricMeasurementRepository,
 			final PacienteRepository pacienteRepository) {
-		this.bodyMetricRecordService = bodyMetricRecordService;
 		this.bodyMetricRecordRepository = bodyMetricRecordRepository;
 		this.anthropometricMeasurementRepository = anthropometricMeasurementRepository;
 		this.pacienteRepository = pacienteRepository;
@@ -64,7 +60,6 @@ public class MobilePatientProgressService {
 	public PatientProgressSnapshotDto getSnapshot(final Long pacienteId) {
 		final Paciente paciente = pacienteRepository.findById(pacienteId)
 			.orElseThrow(() -> new IllegalArgumentException("Patient not found"));
-		bodyMetricRecordService.ensureBackfilled(pacienteId);
 		final List<BodyMetricRecord> recentRecords = bodyMetricRecordRepository
 			.findTop2ByPacienteIdOrderByRecordedAtDescIdDesc(pacienteId);
 		final Optional<BodyMetricRecord> latestRecord = recentRecords.stream().findFirst();
@@ -98,7 +93,6 @@ public class MobilePatientProgressService {
 	@Transactional(readOnly = true)
 	public ProgressMeasurementsDto listMeasurements(final Long pacienteId, final Instant from, final Instant to,
 			final Integer maxRows) {
-		bodyMetricRecordService.ensureBackfilled(pacienteId);
 		final Date fromDate = from != null ? Date.from(from) : null;
 		final Date toDate = to != null ? Date.from(to) : null;
 		if (fromDate != null && toDate != null && fromDate.after(toDate)) {
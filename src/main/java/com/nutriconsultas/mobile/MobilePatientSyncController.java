@@ -0,0 +1,53 @@
+package com.nutriconsultas.mobile;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nutriconsultas.mobile.config.MobileOpenApiResponses;
+import com.nutriconsultas.mobile.dto.ApiResponse;
+import com.nutriconsultas.mobile.dto.PatientSyncDto;
+import com.nutriconsultas.util.LogRedaction;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/rest/mobile/patient/sync")
+@Tag(name = "Mobile", description = "Patient mobile API")
+@Slf4j
+public class MobilePatientSyncController extends AbstractMobilePatientController {
+
+	private final MobilePatientSyncService mobilePatientSyncService;
+
+	public MobilePatientSyncController(final PatientAuthService patientAuthService,
+			final MobilePatientSyncService mobilePatientSyncService) {
+		super(patientAuthService);
+		this.mobilePatientSyncService = mobilePatientSyncService;
+	}
+
+	@GetMapping
+	@Operation(summary = "Sync patient changes",
+			description = "Returns diet plans, visits and messages created, updated or deleted since the cursor. "
+					+ "Call without a cursor after a full reload to obtain the starting cursor; when "
+					+ "resyncRequired is true, reload every resource and continue from the returned cursor.")
+	@MobileOpenApiResponses.AuthenticatedPatient
+	@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Changes since cursor")
+	public ApiResponse<PatientSyncDto> sync(@AuthenticationPrincipal final Jwt jwt,
+			@Parameter(description = "Opaque cursor from a previous sync") @RequestParam(
+					required = false) final String cursor,
+			@Parameter(description = "Maximum change log entries to apply (1-500)") @RequestParam(
+					defaultValue = "200") final int limit) {
+		final Long pacienteId = getAuthenticatedPacienteId(jwt);
+		if (log.isDebugEnabled()) {
+			log.debug("Mobile sync request for patient {}", LogRedaction.redactPaciente(pacienteId));
+		}
+		return ApiResponse.ok(mobilePatientSyncService.sync(pacienteId, cursor, limit));
+	}
+
+}
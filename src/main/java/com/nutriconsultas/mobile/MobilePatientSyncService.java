@@ -0,0 +1,227 @@
+package com.nutriconsultas.mobile;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import com.nutriconsultas.calendar.CalendarEvent;
+import com.nutriconsultas.calendar.CalendarEventRepository;
+import com.nutriconsultas.message.PatientMessage;
+import com.nutriconsultas.message.PatientMessageRepository;
+import com.nutriconsultas.mobile.dto.DietPlanSummaryDto;
+import com.nutriconsultas.mobile.dto.PatientMessageSummaryDto;
+import com.nutriconsultas.mobile.dto.PatientSyncDeletionDto;
+import com.nutriconsultas.mobile.dto.PatientSyncDto;
+import com.nutriconsultas.mobile.dto.VisitSummaryDto;
+import com.nutriconsultas.paciente.PacienteDieta;
+import com.nutriconsultas.paciente.PacienteDietaRepository;
+import com.nutriconsultas.sync.PatientChange;
+import com.nutriconsultas.sync.PatientChangeOperation;
+import com.nutriconsultas.sync.PatientChangeRepository;
+import com.nutriconsultas.sync.PatientChangeType;
+import com.nutriconsultas.util.LogRedaction;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds patient deltas from the change log. Changes are delivered as soon as they are
+ * visible, but the returned cursor only moves past rows older than the settle window:
+ * IDENTITY ids are handed out at insert time, so a slow transaction can commit a lower id
+ * after a higher one has been read. Rows inside the window are re-sent on the next call,
+ * which is safe because every delta entry is an idempotent upsert or delete.
+ */
+@Service
+@Slf4j
+public class MobilePatientSyncService {
+
+	static final int DEFAULT_LIMIT = 200;
+
+	static final int MAX_LIMIT = 500;
+
+	private final PatientChangeRepository changeRepository;
+
+	private final PacienteDietaRepository pacienteDietaRepository;
+
+	private final CalendarEventRepository calendarEventRepository;
+
+	private final PatientMessageRepository patientMessageRepository;
+
+	private final MobilePatientMessageService mobilePatientMessageService;
+
+	private final Duration settleWindow;
+
+	private final Clock clock;
+
+	public MobilePatientSyncService(final PatientChangeRepository changeRepository,
+			final PacienteDietaRepository pacienteDietaRepository,
+			final CalendarEventRepository calendarEventRepository,
+			final PatientMessageRepository patientMessageRepository,
+			final MobilePatientMessageService mobilePatientMessageService,
+			@Value("${nutriconsultas.mobile.sync.settle-seconds:30}") final long settleSeconds,
+			@Autowired(required = false) final Clock clock) {
+		this.changeRepository = changeRepository;
+		this.pacienteDietaRepository = pacienteDietaRepository;
+		this.calendarEventRepository = calendarEventRepository;
+		this.patientMessageRepository = patientMessageRepository;
+		this.mobilePatientMessageService = mobilePatientMessageService;
+		this.settleWindow = Duration.ofSeconds(Math.max(settleSeconds, 0));
+		this.clock = clock != null ? clock : Clock.systemUTC();
+	}
+
+	/**
+	 * Without a cursor only the current head cursor is returned; clients call this right
+	 * after a full reload and sync from there.
+	 */
+	@Transactional(readOnly = true)
+	public PatientSyncDto sync(final Long pacienteId, final String cursor, final int limit) {
+		final Instant settledBefore = clock.instant().minus(settleWindow);
+		final long floor = retainedFloor();
+		if (!StringUtils.hasText(cursor)) {
+			return new PatientSyncDto(headCursor(pacienteId, settledBefore, floor), false, false, List.of(), List.of(),
+					List.of(), false, List.of());
+		}
+		final Long cursorId = parseCursor(cursor);
+		if (cursorId == null || cursorId < floor) {
+			if (log.isInfoEnabled()) {
+				log.info("Mobile sync cursor expired; full resync required for patient {}",
+						LogRedaction.redactPaciente(pacienteId));
+			}
+			return PatientSyncDto.resync(headCursor(pacienteId, settledBefore, floor));
+		}
+		final int safeLimit = Math.min(Math.max(limit, 1), MAX_LIMIT);
+		final List<PatientChange> fetched = changeRepository.findByPacienteIdAndIdGreaterThanOrderByIdAsc(pacienteId,
+				cursorId, PageRequest.of(0, safeLimit + 1));
+		final boolean hasMore = fetched.size() > safeLimit;
+		final List<PatientChange> page = hasMore ? fetched.subList(0, safeLimit) : fetched;
+		final long next = Math.max(nextCursor(cursorId, page, hasMore, settledBefore), floor);
+		final PatientSyncDto delta = buildDelta(pacienteId, page, String.valueOf(next), hasMore);
+		if (log.isDebugEnabled()) {
+			log.debug("Mobile sync changes={} hasMore={} for patient {}", page.size(), hasMore,
+					LogRedaction.redactPaciente(pacienteId));
+		}
+		return delta;
+	}
+
+	private PatientSyncDto buildDelta(final Long pacienteId, final List<PatientChange> page, final String nextCursor,
+			final boolean hasMore) {
+		final Map<PatientChangeType, Map<Long, PatientChangeOperation>> latest = new EnumMap<>(PatientChangeType.class);
+		for (final PatientChange change : page) {
+			final Map<Long, PatientChangeOperation> byId = latest.computeIfAbsent(change.getEntityType(),
+					type -> new LinkedHashMap<>());
+			byId.remove(change.getEntityId());
+			byId.put(change.getEntityId(), change.getOperation());
+		}
+		final List<PatientSyncDeletionDto> deleted = new ArrayList<>();
+		final List<PacienteDieta> assignments = loadUpserted(latest, PatientChangeType.DIET_PLAN,
+				pacienteDietaRepository::findAllById, PacienteDieta::getId,
+				assignment -> assignment.getPaciente().getId(), pacienteId, deleted);
+		final List<CalendarEvent> visits = loadUpserted(latest, PatientChangeType.VISIT,
+				calendarEventRepository::findAllById, CalendarEvent::getId,
+				event -> event.getPaciente() != null ? event.getPaciente().getId() : null, pacienteId, deleted);
+		final List<PatientMessage> messages = loadUpserted(latest, PatientChangeType.MESSAGE,
+				patientMessageRepository::findAllById, PatientMessage::getId, message -> message.getPaciente().getId(),
+				pacienteId, deleted);
+		final List<DietPlanSummaryDto> dietPlanDtos = assignments.stream().map(DietPlanSummaryDto::fromEntity).toList();
+		final List<VisitSummaryDto> visitDtos = visits.stream().map(VisitSummaryDto::fromEntity).toList();
+		final List<PatientMessageSummaryDto> messageDtos = mobilePatientMessageService.summarize(messages);
+		return new PatientSyncDto(nextCursor, hasMore, false, dietPlanDtos, visitDtos, messageDtos,
+				latest.containsKey(PatientChangeType.PROGRESS), deleted);
+	}
+
+	/**
+	 * Loads the latest upserts of one type in a single query, keeping log order. Deletes,
+	 * missing rows and rows that now belong to another patient are reported as deleted.
+	 */
+	private static <T> List<T> loadUpserted(final Map<PatientChangeType, Map<Long, PatientChangeOperation>> latest,
+			final PatientChangeType type, final Function<Set<Long>, List<T>> loader, final Function<T, Long> idOf,
+			final Function<T, Long> ownerOf, final Long pacienteId, final List<PatientSyncDeletionDto> deleted) {
+		final Map<Long, PatientChangeOperation> changes = latest.getOrDefault(type, Map.of());
+		final Set<Long> upsertIds = new LinkedHashSet<>();
+		changes.forEach((id, operation) -> {
+			if (operation == PatientChangeOperation.UPSERT) {
+				upsertIds.add(id);
+			}
+		});
+		final Map<Long, T> found = new LinkedHashMap<>();
+		if (!upsertIds.isEmpty()) {
+			for (final T entity : loader.apply(upsertIds)) {
+				if (Objects.equals(ownerOf.apply(entity), pacienteId)) {
+					found.put(idOf.apply(entity), entity);
+				}
+			}
+		}
+		final List<T> upserted = new ArrayList<>(found.size());
+		for (final Long id : changes.keySet()) {
+			final T entity = found.get(id);
+			if (entity != null) {
+				upserted.add(entity);
+			}
+			else {
+				deleted.add(new PatientSyncDeletionDto(type, id));
+			}
+		}
+		return upserted;
+	}
+
+	/**
+	 * Advances through the settled prefix of the page, full or not. Only a full page with
+	 * no settled prefix is consumed entirely, so a burst of fresh changes cannot stall
+	 * the client on the same rows.
+	 */
+	private static long nextCursor(final long cursorId, final List<PatientChange> page, final boolean hasMore,
+			final Instant settledBefore) {
+		long next = cursorId;
+		for (final PatientChange change : page) {
+			if (!change.getChangedAt().isBefore(settledBefore)) {
+				break;
+			}
+			next = change.getId();
+		}
+		if (hasMore && next == cursorId) {
+			next = page.get(page.size() - 1).getId();
+		}
+		return next;
+	}
+
+	private String headCursor(final Long pacienteId, final Instant settledBefore, final long floor) {
+		return String
+			.valueOf(Math.max(changeRepository.findLatestIdByPacienteIdBefore(pacienteId, settledBefore), floor));
+	}
+
+	/**
+	 * Every retained row is above the oldest id, so cursors below it may have missed
+	 * purged rows and cursors are never handed out below it. Returning at least the floor
+	 * keeps a quiet patient's cursor moving with retention instead of expiring.
+	 */
+	private long retainedFloor() {
+		final Long oldestId = changeRepository.findOldestId();
+		return oldestId != null ? oldestId - 1 : 0L;
+	}
+
+	private static Long parseCursor(final String cursor) {
+		try {
+			final long value = Long.parseLong(cursor.trim());
+			return value >= 0 ? value : null;
+		}
+		catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+}
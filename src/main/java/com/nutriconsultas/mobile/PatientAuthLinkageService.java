@@ -19,10 +19,13 @@ public class PatientAuthLinkageService {
 
 	private final Auth0UserLookup auth0UserLookup;
 
-	public PatientAuthLinkageService(final PacienteRepository pacienteRepository,
-			final Auth0UserLookup auth0UserLookup) {
+	private final PatientAuthViewCache authViewCache;
+
+	public PatientAuthLinkageService(final PacienteRepository pacienteRepository, final Auth0UserLookup auth0UserLookup,
+			final PatientAuthViewCache authViewCache) {
 		this.pacienteRepository = pacienteRepository;
 		this.auth0UserLookup = auth0UserLookup;
+		this.authViewCache = authViewCache;
 	}
 
 	@Transactional(readOnly = true)
@@ -57,6 +60,7 @@ public class PatientAuthLinkageService {
 	@Transactional
 	public Paciente unlink(final Long pacienteId, final String nutritionistUserId) {
 		final Paciente paciente = requireOwnedPaciente(pacienteId, nutritionistUserId);
+		authViewCache.invalidate(paciente.getPatientAuthSub());
 		paciente.setPatientAuthSub(null);
 		final Paciente saved = pacienteRepository.save(paciente);
 		if (log.isInfoEnabled()) {
@@ -71,6 +75,7 @@ public class PatientAuthLinkageService {
 				throw new PatientAuthSubAlreadyLinkedException();
 			}
 		});
+		authViewCache.invalidate(paciente.getPatientAuthSub());
 		paciente.setPatientAuthSub(patientAuthSub);
 		final Paciente saved = pacienteRepository.save(paciente);
 		if (log.isInfoEnabled()) {
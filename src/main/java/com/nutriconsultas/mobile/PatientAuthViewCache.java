@@ -0,0 +1,156 @@
+package com.nutriconsultas.mobile;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.nutriconsultas.paciente.ApplePacienteLifecycleStatus;
+import com.nutriconsultas.paciente.PacienteStatus;
+import com.nutriconsultas.paciente.projection.PacienteAuthView;
+
+/**
+ * Short-lived {@code sub → PacienteAuthView} cache for mobile JWT resolution, memoized on
+ * the current request so the linkage filter and the controller share one lookup. Only
+ * linked subjects are cached, so a fresh linkage is visible on the next request; services
+ * that unlink, re-status or delete a patient call {@link #invalidate(String)}, and the
+ * TTL bounds staleness for any other writer.
+ */
+@Component
+public class PatientAuthViewCache {
+
+	static final int MAX_ENTRIES = 10_000;
+
+	private static final String REQUEST_ATTRIBUTE_PREFIX = PatientAuthViewCache.class.getName() + ".";
+
+	private final long ttlMillis;
+
+	private final Clock clock;
+
+	private final Map<String, Entry> entries = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+
+	});
+
+	public PatientAuthViewCache(@Value("${nutriconsultas.mobile.auth-view-cache.ttl-ms:30000}") final long ttlMillis,
+			@Autowired(required = false) final Clock clock) {
+		this.ttlMillis = Math.max(ttlMillis, 0L);
+		this.clock = clock != null ? clock : Clock.systemUTC();
+	}
+
+	public Optional<PacienteAuthView> get(final String patientAuthSub,
+			final Supplier<Optional<PacienteAuthView>> loader) {
+		final RequestAttributes request = RequestContextHolder.getRequestAttributes();
+		if (request != null && request.getAttribute(REQUEST_ATTRIBUTE_PREFIX + patientAuthSub,
+				RequestAttributes.SCOPE_REQUEST) instanceof PacienteAuthView memoized) {
+			return Optional.of(memoized);
+		}
+		final long now = clock.millis();
+		final Entry cached = entries.get(patientAuthSub);
+		final Optional<PacienteAuthView> resolved;
+		if (cached != null && now < cached.expiresAtMillis()) {
+			resolved = Optional.of(cached.view());
+		}
+		else {
+			resolved = loader.get().map(Snapshot::of);
+			if (resolved.isPresent() && ttlMillis > 0) {
+				entries.put(patientAuthSub, new Entry(resolved.get(), now + ttlMillis));
+			}
+			else if (cached != null) {
+				entries.remove(patientAuthSub);
+			}
+		}
+		if (request != null && resolved.isPresent()) {
+			request.setAttribute(REQUEST_ATTRIBUTE_PREFIX + patientAuthSub, resolved.get(),
+					RequestAttributes.SCOPE_REQUEST);
+		}
+		return resolved;
+	}
+
+	/**
+	 * Evicts now and again after the surrounding transaction commits, so a request that
+	 * reloads the old row before the commit cannot keep it cached.
+	 */
+	public void invalidate(@Nullable final String patientAuthSub) {
+		if (!StringUtils.hasText(patientAuthSub)) {
+			return;
+		}
+		entries.remove(patientAuthSub);
+		final RequestAttributes request = RequestContextHolder.getRequestAttributes();
+		if (request != null) {
+			request.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + patientAuthSub, RequestAttributes.SCOPE_REQUEST);
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(final int status) {
+					entries.remove(patientAuthSub);
+				}
+			});
+		}
+	}
+
+	private record Entry(PacienteAuthView view, long expiresAtMillis) {
+	}
+
+	/**
+	 * Detached copy of the projection so cached values never reference a closed
+	 * persistence context.
+	 */
+	private record Snapshot(Long id, String patientAuthSub, String userId, PacienteStatus status,
+			ApplePacienteLifecycleStatus appleLifecycleStatus) implements PacienteAuthView {
+
+		static PacienteAuthView of(final PacienteAuthView view) {
+			if (view instanceof Snapshot) {
+				return view;
+			}
+			return new Snapshot(view.getId(), view.getPatientAuthSub(), view.getUserId(), view.getStatus(),
+					view.getAppleLifecycleStatus());
+		}
+
+		@Override
+		public Long getId() {
+			return id;
+		}
+
+		@Override
+		public String getPatientAuthSub() {
+			return patientAuthSub;
+		}
+
+		@Override
+		public String getUserId() {
+			return userId;
+		}
+
+		@Override
+		public PacienteStatus getStatus() {
+			return status;
+		}
+
+		@Override
+		public ApplePacienteLifecycleStatus getAppleLifecycleStatus() {
+			return appleLifecycleStatus;
+		}
+
+	}
+
+}
@@ -4,15 +4,12 @@ import java.util.concurrent.Callable;
 
 import org.springframework.stereotype.Component;
 
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
-import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import com.nutriconsultas.ratelimit.ClientRateLimiter;
 
 /**
  * Per-patient rate limiting for mobile write endpoints (#113). Each patient
- * ({@code patientAuthSub}) gets an isolated limiter instance keyed off the configured
- * Resilience4j instance name.
+ * ({@code patientAuthSub}) gets an isolated limit keyed off the configured Resilience4j
+ * instance name.
  */
 @Component
 public final class PatientWriteRateLimiter {
@@ -21,25 +18,14 @@ public final class PatientWriteRateLimiter {
 
 	public static final String PATIENT_APPOINTMENT_QUESTIONS = "patientAppointmentQuestions";
 
-	private final RateLimiterRegistry rateLimiterRegistry;
+	private final ClientRateLimiter clientRateLimiter;
 
-	public PatientWriteRateLimiter(final RateLimiterRegistry rateLimiterRegistry) {
-		this.rateLimiterRegistry = rateLimiterRegistry;
+	public PatientWriteRateLimiter(final ClientRateLimiter clientRateLimiter) {
+		this.clientRateLimiter = clientRateLimiter;
 	}
 
 	public <T> T execute(final String instanceName, final String patientAuthSub, final Callable<T> callable) {
-		final RateLimiter templateLimiter = rateLimiterRegistry.rateLimiter(instanceName);
-		final RateLimiterConfig config = templateLimiter.getRateLimiterConfig();
-		final RateLimiter limiter = rateLimiterRegistry.rateLimiter(instanceName + ":" + patientAuthSub, config);
-		try {
-			return RateLimiter.decorateCallable(limiter, callable).call();
-		}
-		catch (RequestNotPermitted ex) {
-			throw ex;
-		}
-		catch (Exception ex) {
-			throw new IllegalStateException("Rate-limited call failed", ex);
-		}
+		return clientRateLimiter.execute(instanceName, patientAuthSub, callable);
 	}
 
 }
@@ -4,6 +4,7 @@ import java.util.Comparator;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.nutriconsultas.dieta.AlimentoIngesta;
 import com.nutriconsultas.dieta.AlimentoIngestaComparators;
 import com.nutriconsultas.dieta.Ingesta;
 import com.nutriconsultas.dieta.PlatilloIngesta;
@@ -19,13 +20,20 @@ public record DietIngestaDto(String tipo, Integer totalKcal, Double totalProtein
 		if (ingesta == null) {
 			return null;
 		}
-		final List<DietPlatilloDto> platillos = ingesta.getPlatillos()
-			.stream()
+		return fromRows(ingesta, ingesta.getPlatillos(), ingesta.getAlimentos(), assignmentId);
+	}
+
+	/**
+	 * Builds the slot from platillos and alimentos loaded separately from the ingesta
+	 * (see {@link com.nutriconsultas.dieta.DietaTreeReader}).
+	 */
+	public static DietIngestaDto fromRows(final Ingesta ingesta, final List<PlatilloIngesta> platilloRows,
+			final List<AlimentoIngesta> alimentoRows, final Long assignmentId) {
+		final List<DietPlatilloDto> platillos = platilloRows.stream()
 			.sorted(Comparator.comparingLong(PlatilloIngesta::getId))
 			.map((final PlatilloIngesta platillo) -> DietPlatilloDto.fromEntity(platillo, assignmentId))
 			.toList();
-		final List<DietAlimentoDto> alimentos = ingesta.getAlimentos()
-			.stream()
+		final List<DietAlimentoDto> alimentos = alimentoRows.stream()
 			.sorted(AlimentoIngestaComparators.BY_DISPLAY_ORDER)
 			.map(DietAlimentoDto::fromEntity)
 			.toList();
@@ -7,6 +7,7 @@ import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.nutriconsultas.dieta.Dieta;
+import com.nutriconsultas.dieta.DietaTree;
 import com.nutriconsultas.dieta.Ingesta;
 import com.nutriconsultas.dieta.IngestaComparators;
 import com.nutriconsultas.paciente.PacienteDieta;
@@ -29,13 +30,33 @@ public record DietPlanDetailDto(Long assignmentId, PacienteDietaStatus status, L
 		if (assignment == null) {
 			return null;
 		}
-		final String dietaName = assignment.isWeeklyAssignment() ? "Plan semanal"
-				: (dieta != null ? dieta.getNombre() : null);
 		final List<DietIngestaDto> ingestas = dieta != null && dieta.getIngestas() != null ? dieta.getIngestas()
 			.stream()
 			.sorted(IngestaComparators.BY_DISPLAY_ORDER)
 			.map((final Ingesta ingesta) -> DietIngestaDto.fromEntity(ingesta, assignment.getId()))
 			.toList() : List.of();
+		return of(assignment, dieta, ingestas);
+	}
+
+	/**
+	 * Assembles the detail in one pass over a preloaded {@link DietaTree}.
+	 */
+	public static DietPlanDetailDto fromTree(final PacienteDieta assignment, final DietaTree tree) {
+		if (assignment == null) {
+			return null;
+		}
+		final List<DietIngestaDto> ingestas = tree.ingestas()
+			.stream()
+			.map((final Ingesta ingesta) -> DietIngestaDto.fromRows(ingesta, tree.platillosOf(ingesta),
+					tree.alimentosOf(ingesta), assignment.getId()))
+			.toList();
+		return of(assignment, tree.dieta(), ingestas);
+	}
+
+	private static DietPlanDetailDto of(final PacienteDieta assignment, final Dieta dieta,
+			final List<DietIngestaDto> ingestas) {
+		final String dietaName = assignment.isWeeklyAssignment() ? "Plan semanal"
+				: (dieta != null ? dieta.getNombre() : null);
 		return new DietPlanDetailDto(assignment.getId(), assignment.getStatus(), toLocalDate(assignment.getStartDate()),
 				toLocalDate(assignment.getEndDate()), assignment.getNotes(), dietaName,
 				dieta != null ? dieta.getEnergia() : null, dieta != null ? dieta.getProteina() : null,
@@ -0,0 +1,10 @@
+package com.nutriconsultas.mobile.dto;
+
+import com.nutriconsultas.sync.PatientChangeType;
+
+/**
+ * Entity removed (or no longer visible to the patient) since the sync cursor.
+ */
+public record PatientSyncDeletionDto(PatientChangeType type, Long id) {
+
+}
@@ -0,0 +1,22 @@
+package com.nutriconsultas.mobile.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Delta for {@code GET /rest/mobile/patient/sync}: entities created or updated since the
+ * cursor, ids removed since the cursor, and the cursor for the next call. When
+ * {@code resyncRequired} is set the client must reload every resource before syncing from
+ * the returned cursor.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PatientSyncDto(String cursor, boolean hasMore, boolean resyncRequired, List<DietPlanSummaryDto> dietPlans,
+		List<VisitSummaryDto> visits, List<PatientMessageSummaryDto> messages, boolean progressChanged,
+		List<PatientSyncDeletionDto> deleted) {
+
+	public static PatientSyncDto resync(final String cursor) {
+		return new PatientSyncDto(cursor, false, true, List.of(), List.of(), List.of(), false, List.of());
+	}
+
+}
@@ -49,6 +49,10 @@ import com.nutriconsultas.subscription.SubscriptionLimitExceededException;
 import com.nutriconsultas.paciente.mpx.MpxExportResult;
 import com.nutriconsultas.paciente.mpx.MpxImportException;
 import com.nutriconsultas.paciente.mpx.MpxImportResult;
+import com.nutriconsultas.paciente.mpx.MpxBulkImportJob;
+import com.nutriconsultas.paciente.mpx.MpxBulkImportProgress;
+import com.nutriconsultas.paciente.mpx.PacienteMpxBulkExportService;
+import com.nutriconsultas.paciente.mpx.PacienteMpxBulkImportService;
 import com.nutriconsultas.paciente.mpx.PacienteMpxExportService;
 import com.nutriconsultas.paciente.mpx.PacienteMpxImportService;
 import com.nutriconsultas.mobile.dto.DietGroceryListItemDto;
@@ -57,6 +61,7 @@ import com.nutriconsultas.util.LogRedaction;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.Period;
@@ -124,6 +129,12 @@ public class PacienteController extends AbstractAuthorizedController {
 	@Autowired
 	private PacienteMpxImportService pacienteMpxImportService;
 
+	@Autowired
+	private PacienteMpxBulkImportService pacienteMpxBulkImportService;
+
+	@Autowired
+	private PacienteMpxBulkExportService pacienteMpxBulkExportService;
+
 	@Autowired
 	private PacientePhotoService pacientePhotoService;
 
@@ -219,6 +230,49 @@ public class PacienteController extends AbstractAuthorizedController {
 		}
 	}
 
+	/**
+	 * Queues a bulk import from a zip of {@code .mpx} files or an NDJSON file with one
+	 * MPX document per line. Progress is polled from
+	 * {@link #bulkImportProgress(String, OidcUser)}.
+	 */
+	@PostMapping(path = "/admin/pacientes/importar-lote", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public String importPacientesMpxBulk(@RequestParam("mpxBulkFile") final MultipartFile mpxBulkFile,
+			@AuthenticationPrincipal final OidcUser principal, final RedirectAttributes redirectAttributes) {
+		log.debug("Queueing bulk MPX import");
+		final String userId = getUserId(principal);
+		if (userId == null) {
+			redirectAttributes.addFlashAttribute("importError", "No se pudo identificar al usuario");
+			return "redirect:/admin/pacientes";
+		}
+		try {
+			final MpxBulkImportJob job = pacienteMpxBulkImportService.startImport(mpxBulkFile, userId);
+			redirectAttributes.addFlashAttribute("importSuccess",
+					"Importación en proceso; los pacientes aparecerán en la lista conforme se importen");
+			redirectAttributes.addFlashAttribute("bulkImportJobId", job.getJobId());
+		}
+		catch (final MpxImportException ex) {
+			log.warn("Bulk MPX import rejected: {}", ex.getMessage());
+			redirectAttributes.addFlashAttribute("importError", ex.getMessage());
+		}
+		return "redirect:/admin/pacientes";
+	}
+
+	/**
+	 * Progress of a bulk import owned by the authenticated nutritionist.
+	 */
+	@GetMapping(path = "/admin/pacientes/importar-lote/{jobId}")
+	public ResponseEntity<MpxBulkImportProgress> bulkImportProgress(@PathVariable("jobId") @NonNull final String jobId,
+			@AuthenticationPrincipal final OidcUser principal) {
+		final String userId = getUserId(principal);
+		if (userId == null) {
+			return ResponseEntity.status(org.springframework.http.HttpStatus.UNAUTHORIZED).build();
+		}
+		return pacienteMpxBulkImportService.findJob(jobId, userId)
+			.map(MpxBulkImportProgress::from)
+			.map(ResponseEntity::ok)
+			.orElseGet(() -> ResponseEntity.notFound().build());
+	}
+
 	@PostMapping(path = "/admin/pacientes/nuevo")
 	public String addPaciente(@Valid final Paciente paciente, final BindingResult result, final Model model,
 			@AuthenticationPrincipal final OidcUser principal) {
@@ -1192,6 +1246,26 @@ public class PacienteController extends AbstractAuthorizedController {
 		}
 	}
 
+	/**
+	 * Streams every patient of the authenticated nutritionist as a zip of {@code .mpx}
+	 * files, the same layout accepted by the bulk import.
+	 */
+	@GetMapping(path = "/admin/pacientes/export-lote.zip")
+	public ResponseEntity<StreamingResponseBody> exportPacientesMpxBulk(
+			@AuthenticationPrincipal final OidcUser principal) {
+		log.debug("Exporting MPX registrations in bulk");
+		final String userId = getUserId(principal);
+		if (userId == null) {
+			return ResponseEntity.status(org.springframework.http.HttpStatus.UNAUTHORIZED).build();
+		}
+		final StreamingResponseBody body = out -> pacienteMpxBulkExportService.exportAll(userId, out);
+		return ResponseEntity.ok()
+			.header(HttpHeaders.CONTENT_DISPOSITION,
+					"attachment; filename=\"" + pacienteMpxBulkExportService.buildArchiveFilename() + "\"")
+			.contentType(MediaType.parseMediaType("application/zip"))
+			.body(body);
+	}
+
 	/**
 	 * Generates and returns a PDF document for a dieta assigned to a patient.
 	 *
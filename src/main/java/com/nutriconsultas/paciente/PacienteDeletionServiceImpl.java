@@ -19,7 +19,9 @@ import com.nutriconsultas.dieta.Dieta;
 import com.nutriconsultas.dieta.DietaCatalogConstants;
 import com.nutriconsultas.dieta.DietaService;
 import com.nutriconsultas.message.PatientMessageRepository;
+import com.nutriconsultas.mobile.PatientAuthViewCache;
 import com.nutriconsultas.paciente.metrics.BodyMetricRecordRepository;
+import com.nutriconsultas.sync.PatientChangeRepository;
 import com.nutriconsultas.util.LogRedaction;
 
 import lombok.extern.slf4j.Slf4j;
@@ -54,6 +56,12 @@ public class PacienteDeletionServiceImpl implements PacienteDeletionService {
 	@Autowired
 	private AppointmentQuestionRepository appointmentQuestionRepository;
 
+	@Autowired
+	private PatientChangeRepository patientChangeRepository;
+
+	@Autowired
+	private PatientAuthViewCache authViewCache;
+
 	public PacienteDeletionServiceImpl(final PacienteRepository pacienteRepository,
 			final PatientMessageRepository patientMessageRepository,
 			final PatientInvitationRepository patientInvitationRepository,
@@ -83,6 +91,7 @@ public class PacienteDeletionServiceImpl implements PacienteDeletionService {
 		pacientePhotoService.deletePhotoFromStorage(pacienteId, paciente.getPhotoExtension());
 		deleteRelatedHistory(pacienteId);
 		pacienteRepository.delete(paciente);
+		authViewCache.invalidate(paciente.getPatientAuthSub());
 		if (log.isInfoEnabled()) {
 			log.info("Deleted patient {} and clinical history for nutritionist {}",
 					LogRedaction.redactPaciente(pacienteId), LogRedaction.redactUserId(userId));
@@ -127,6 +136,7 @@ public class PacienteDeletionServiceImpl implements PacienteDeletionService {
 			anthropometricMeasurementService.deleteById(measurement.getId());
 		}
 		bodyMetricRecordRepository.deleteByPacienteId(pacienteId);
+		patientChangeRepository.deleteByPacienteId(pacienteId);
 	}
 
 	private void deletePatientDietaCopy(final Dieta dieta) {
@@ -75,4 +75,11 @@ public class PacienteDieta {
 	@Column(columnDefinition = "TEXT")
 	private String notes;
 
+	/**
+	 * Incremented in the database whenever the assignment is updated; together with
+	 * {@link Dieta#getContentVersion()} it versions the mobile plan payloads.
+	 */
+	@Column(name = "content_version", nullable = false, insertable = false, updatable = false)
+	private long contentVersion;
+
 }
@@ -7,6 +7,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -28,6 +29,14 @@ public interface PacienteDietaRepository extends JpaRepository<PacienteDieta, Lo
 
 	List<PacienteDieta> findByDietaId(Long dietaId);
 
+	/**
+	 * Bumps {@link PacienteDieta#getContentVersion()} after the assignment (or its
+	 * weekday slots) changed.
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE PacienteDieta pd SET pd.contentVersion = pd.contentVersion + 1 WHERE pd.id = :id")
+	int incrementContentVersion(@Param("id") Long id);
+
 	@Query("SELECT pd FROM PacienteDieta pd WHERE pd.paciente.userId = :userId")
 	List<PacienteDieta> findByUserId(@Param("userId") String userId);
 
@@ -48,7 +57,8 @@ public interface PacienteDietaRepository extends JpaRepository<PacienteDieta, Lo
 	List<PacienteDieta> findByUserIdAndDateRange(@Param("userId") String userId, @Param("startDate") Date startDate,
 			@Param("endDate") Date endDate);
 
-	@Query("SELECT pd FROM PacienteDieta pd JOIN pd.dieta d WHERE d.pacienteId IS NULL")
-	List<PacienteDieta> findAssignmentsReferencingSharedDieta();
+	@Query("SELECT pd.id FROM PacienteDieta pd JOIN pd.dieta d WHERE d.pacienteId IS NULL AND pd.id > :afterId "
+			+ "ORDER BY pd.id")
+	List<Long> findAssignmentIdsReferencingSharedDietaAfter(@Param("afterId") Long afterId, Pageable pageable);
 
 }
@@ -13,12 +13,18 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.nutriconsultas.dieta.AlimentoIngestaRepository;
 import com.nutriconsultas.dieta.Dieta;
 import com.nutriconsultas.dieta.DietaCatalogConstants;
 import com.nutriconsultas.dieta.DietaRepository;
 import com.nutriconsultas.dieta.DietaService;
+import com.nutriconsultas.dieta.PlatilloIngestaRepository;
 import com.nutriconsultas.mobile.DietGroceryListAggregator;
+import com.nutriconsultas.mobile.DietPlanPayloadCache;
 import com.nutriconsultas.mobile.dto.DietGroceryListItemDto;
+import com.nutriconsultas.sync.PatientChangeLogService;
+import com.nutriconsultas.sync.PatientChangeOperation;
+import com.nutriconsultas.sync.PatientChangeType;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,15 +43,29 @@ public class PacienteDietaServiceImpl implements PacienteDietaService {
 
 	private final DietaService dietaService;
 
+	private final PatientChangeLogService changeLogService;
+
+	private final PlatilloIngestaRepository platilloIngestaRepository;
+
+	private final AlimentoIngestaRepository alimentoIngestaRepository;
+
+	private final DietPlanPayloadCache payloadCache;
+
 	public PacienteDietaServiceImpl(final PacienteDietaRepository pacienteDietaRepository,
 			final PacienteDietaWeekdayRepository pacienteDietaWeekdayRepository,
 			final PacienteRepository pacienteRepository, final DietaRepository dietaRepository,
-			final DietaService dietaService) {
+			final DietaService dietaService, final PatientChangeLogService changeLogService,
+			final PlatilloIngestaRepository platilloIngestaRepository,
+			final AlimentoIngestaRepository alimentoIngestaRepository, final DietPlanPayloadCache payloadCache) {
 		this.pacienteDietaRepository = pacienteDietaRepository;
 		this.pacienteDietaWeekdayRepository = pacienteDietaWeekdayRepository;
 		this.pacienteRepository = pacienteRepository;
 		this.dietaRepository = dietaRepository;
 		this.dietaService = dietaService;
+		this.changeLogService = changeLogService;
+		this.platilloIngestaRepository = platilloIngestaRepository;
+		this.alimentoIngestaRepository = alimentoIngestaRepository;
+		this.payloadCache = payloadCache;
 	}
 
 	@Override
@@ -64,7 +84,7 @@ public class PacienteDietaServiceImpl implements PacienteDietaService {
 		newAssignment.setAssignmentType(PacienteDietaAssignmentType.DATE_RANGE);
 		newAssignment.setDieta(patientCopy);
 
-		return pacienteDietaRepository.save(newAssignment);
+		return recordChanged(pacienteDietaRepository.save(newAssignment));
 	}
 
 	@Override
@@ -84,6 +104,7 @@ public class PacienteDietaServiceImpl implements PacienteDietaService {
 
 		final PacienteDieta saved = pacienteDietaRepository.save(newAssignment);
 		replaceWeekdaySlots(saved, weekdayCatalogDietaIds, pacienteId, userId);
+		recordChanged(saved);
 		return pacienteDietaRepository.findById(saved.getId())
 			.orElseThrow(() -> new IllegalArgumentException("No se ha encontrado asignación con id " + saved.getId()));
 	}
@@ -100,7 +121,7 @@ public class PacienteDietaServiceImpl implements PacienteDietaService {
 		newAssignment.setAssignmentType(PacienteDietaAssignmentType.DATE_RANGE);
 		newAssignment.setDieta(emptyDieta);
 
-		return pacienteDietaRepository.save(newAssignment);
+		return recordChanged(pacienteDietaRepository.save(newAssignment));
 	}
 
 	@Override
@@ -108,7 +129,9 @@ public class PacienteDietaServiceImpl implements PacienteDietaService {
 		log.info("Updating dieta assignment {}", id);
 		final PacienteDieta existing = loadAssignment(id);
 		applyMetadataUpdate(existing, pacienteDieta);
-		return Objects.requireNonNull(pacienteDietaRepository.save(existing));
+		final PacienteDieta saved = Objects.requireNonNull(pacienteDietaRepository.save(existing));
+		pacienteDietaRepository.incrementContentVersion(id);
+		return recordChanged(saved);
 	}
 
 	@Override
@@ -122,6 +145,8 @@ public class PacienteDietaServiceImpl implements PacienteDietaService {
 		applyMetadataUpdate(existing, pacienteDieta);
 		final PacienteDieta saved = pacienteDietaRepository.save(existing);
 		mergeWeekdaySlots(saved, weekdayCatalogDietaIds, saved.getPaciente().getId(), saved.getPaciente().getUserId());
+		pacienteDietaRepository.incrementContentVersion(saved.getId());
+		recordChanged(saved);
 		return pacienteDietaRepository.findById(saved.getId())
 			.orElseThrow(() -> new IllegalArgumentException("No se ha encontrado asignación con id " + saved.getId()));
 	}
@@ -134,6 +159,8 @@ public class PacienteDietaServiceImpl implements PacienteDietaService {
 
 		existing.setStatus(PacienteDietaStatus.CANCELLED);
 		pacienteDietaRepository.save(existing);
+		pacienteDietaRepository.incrementContentVersion(id);
+		recordChanged(existing);
 	}
 
 	@Override
@@ -190,10 +217,9 @@ public class PacienteDietaServiceImpl implements PacienteDietaService {
 	public List<Dieta> resolveDietsForGroceryList(@NonNull final PacienteDieta assignment) {
 		if (assignment.isWeeklyAssignment()) {
 			final List<Dieta> diets = new ArrayList<>();
-			for (final PacienteDietaWeekday slot : findWeekdaySlots(assignment.getId())) {
-				if (slot.getDieta() != null) {
-					diets.add(slot.getDieta());
-				}
+			for (final PacienteDietaWeekday slot : pacienteDietaWeekdayRepository
+				.findWithDietaByPacienteDietaId(assignment.getId())) {
+				diets.add(slot.getDieta());
 			}
 			return diets;
 		}
@@ -206,7 +232,30 @@ public class PacienteDietaServiceImpl implements PacienteDietaService {
 	@Override
 	@Transactional(readOnly = true)
 	public List<DietGroceryListItemDto> buildGroceryList(@NonNull final PacienteDieta assignment) {
-		return DietGroceryListAggregator.aggregate(resolveDietsForGroceryList(assignment));
+		final List<Dieta> diets = resolveDietsForGroceryList(assignment);
+		return payloadCache.groceryItems(assignment, diets, () -> aggregateGroceryList(diets));
+	}
+
+	/**
+	 * Loads the platillos and alimentos of every diet of the plan in two queries and
+	 * aggregates them in one pass; a diet assigned to several weekdays counts once per
+	 * day.
+	 */
+	private List<DietGroceryListItemDto> aggregateGroceryList(final List<Dieta> diets) {
+		final Map<Long, Integer> timesByDietaId = new LinkedHashMap<>();
+		for (final Dieta dieta : diets) {
+			timesByDietaId.merge(dieta.getId(), 1, Integer::sum);
+		}
+		if (timesByDietaId.isEmpty()) {
+			return List.of();
+		}
+		final List<DietGroceryListItemDto> items = DietGroceryListAggregator.aggregate(
+				platilloIngestaRepository.findWithIngredientesByDietaIdIn(timesByDietaId.keySet()),
+				alimentoIngestaRepository.findWithAlimentoByDietaIdIn(timesByDietaId.keySet()), timesByDietaId);
+		if (log.isDebugEnabled()) {
+			log.debug("Aggregated {} grocery items from {} diets", items.size(), timesByDietaId.size());
+		}
+		return items;
 	}
 
 	@Override
@@ -250,6 +299,14 @@ public class PacienteDietaServiceImpl implements PacienteDietaService {
 		}
 	}
 
+	private PacienteDieta recordChanged(final PacienteDieta assignment) {
+		if (assignment != null && assignment.getPaciente() != null) {
+			changeLogService.record(assignment.getPaciente().getId(), PatientChangeType.DIET_PLAN, assignment.getId(),
+					PatientChangeOperation.UPSERT);
+		}
+		return assignment;
+	}
+
 	private PacienteDieta loadAssignment(final Long id) {
 		return pacienteDietaRepository.findById(id)
 			.orElseThrow(() -> new IllegalArgumentException("No se ha encontrado asignación con id " + id));
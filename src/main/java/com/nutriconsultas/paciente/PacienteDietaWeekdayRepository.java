@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,6 +13,13 @@ public interface PacienteDietaWeekdayRepository extends JpaRepository<PacienteDi
 
 	List<PacienteDietaWeekday> findByPacienteDietaIdOrderByDayOfWeekAsc(Long pacienteDietaId);
 
+	/**
+	 * Weekday slots with their diets fetch-joined, instead of one select per slot diet.
+	 */
+	@Query("SELECT s FROM PacienteDietaWeekday s JOIN FETCH s.dieta WHERE s.pacienteDieta.id = :pacienteDietaId "
+			+ "ORDER BY s.dayOfWeek ASC")
+	List<PacienteDietaWeekday> findWithDietaByPacienteDietaId(@Param("pacienteDietaId") Long pacienteDietaId);
+
 	Optional<PacienteDietaWeekday> findFirstByDietaId(Long dietaId);
 
 }
@@ -7,6 +7,7 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -31,6 +32,12 @@ public interface PacienteRepository extends JpaRepository<Paciente, Long> {
 
 	Optional<Paciente> findByIdAndUserId(Long id, String userId);
 
+	/**
+	 * Keyset page of a tenant's patients with their satellites, for bulk MPX export.
+	 */
+	@EntityGraph(attributePaths = { "energyPreferences", "medicalHistory" })
+	List<Paciente> findByUserIdAndIdGreaterThanOrderByIdAsc(String userId, Long afterId, Pageable pageable);
+
 	@Query("SELECT p FROM Paciente p WHERE p.id IN :ids AND p.userId = :userId")
 	List<Paciente> findByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") String userId);
 
@@ -2,50 +2,82 @@ package com.nutriconsultas.paciente;
 
 import java.util.List;
 
-import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
-import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.nutriconsultas.dieta.Dieta;
 import com.nutriconsultas.dieta.DietaService;
+import com.nutriconsultas.jobs.ClusterJob;
+import com.nutriconsultas.jobs.ClusterJobContext;
+import com.nutriconsultas.jobs.ClusterJobRunner;
 import com.nutriconsultas.util.LogRedaction;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * One-time idempotent migration: existing {@link PacienteDieta} rows that still reference
- * shared catalog diets are repointed to patient-specific copies (#320).
+ * shared catalog diets are repointed to patient-specific copies (#320). Started in the
+ * background by {@link com.nutriconsultas.jobs.StartupJobLauncher} once the application
+ * is ready, under a {@link ClusterJobRunner} lease so only one instance migrates when
+ * several start together; each assignment commits on its own and the last handled id is
+ * checkpointed after every chunk.
  */
 @Component
 @Profile("!test")
 @Slf4j
-public class PatientAssignedDietaMigrationRunner {
+public class PatientAssignedDietaMigrationRunner implements ClusterJob {
+
+	static final String JOB_NAME = "patient-assigned-dieta-migration";
+
+	static final int CHUNK_SIZE = 50;
 
 	private final PacienteDietaRepository pacienteDietaRepository;
 
 	private final DietaService dietaService;
 
+	private final TransactionTemplate transactions;
+
 	public PatientAssignedDietaMigrationRunner(final PacienteDietaRepository pacienteDietaRepository,
-			final DietaService dietaService) {
+			final DietaService dietaService, final TransactionTemplate transactions) {
 		this.pacienteDietaRepository = pacienteDietaRepository;
 		this.dietaService = dietaService;
+		this.transactions = transactions;
 	}
 
-	@EventListener(ApplicationReadyEvent.class)
-	@Transactional
-	public void migrateSharedAssignmentsToPatientCopies() {
-		final List<PacienteDieta> assignments = pacienteDietaRepository.findAssignmentsReferencingSharedDieta();
-		if (assignments.isEmpty()) {
-			return;
-		}
-		if (log.isInfoEnabled()) {
-			log.info("Migrating {} patient diet assignment(s) to patient-specific copies", assignments.size());
+	@Override
+	public String name() {
+		return JOB_NAME;
+	}
+
+	@Override
+	public boolean runsAtStartup() {
+		return true;
+	}
+
+	@Override
+	public void run(final ClusterJobContext context) {
+		long cursor = context.getResumeFrom() != null ? context.getResumeFrom() : 0L;
+		int migrated = 0;
+		List<Long> assignmentIds;
+		do {
+			assignmentIds = pacienteDietaRepository.findAssignmentIdsReferencingSharedDietaAfter(cursor,
+					PageRequest.of(0, CHUNK_SIZE));
+			for (final Long assignmentId : assignmentIds) {
+				transactions.executeWithoutResult(
+						status -> pacienteDietaRepository.findById(assignmentId).ifPresent(this::migrateAssignment));
+				migrated++;
+			}
+			if (!assignmentIds.isEmpty()) {
+				cursor = assignmentIds.get(assignmentIds.size() - 1);
+				context.checkpoint(cursor);
+			}
 		}
-		for (final PacienteDieta assignment : assignments) {
-			migrateAssignment(assignment);
+		while (assignmentIds.size() == CHUNK_SIZE);
+		if (migrated > 0 && log.isInfoEnabled()) {
+			log.info("Migrated {} patient diet assignment(s) to patient-specific copies", migrated);
 		}
 	}
 
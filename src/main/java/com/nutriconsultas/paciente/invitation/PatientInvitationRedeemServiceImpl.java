@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import com.nutriconsultas.mobile.PatientAuthViewCache;
 import com.nutriconsultas.mobile.PatientInvitationInvalidTokenException;
 import com.nutriconsultas.mobile.PatientInvitationPatientStatusException;
 import com.nutriconsultas.mobile.PatientInvitationRedeemConflictException;
@@ -34,11 +35,15 @@ public class PatientInvitationRedeemServiceImpl implements PatientInvitationRede
 
 	private final PatientInvitationProperties invitationProperties;
 
+	private final PatientAuthViewCache authViewCache;
+
 	public PatientInvitationRedeemServiceImpl(final PatientInvitationRepository patientInvitationRepository,
-			final PacienteRepository pacienteRepository, final PatientInvitationProperties invitationProperties) {
+			final PacienteRepository pacienteRepository, final PatientInvitationProperties invitationProperties,
+			final PatientAuthViewCache authViewCache) {
 		this.patientInvitationRepository = patientInvitationRepository;
 		this.pacienteRepository = pacienteRepository;
 		this.invitationProperties = invitationProperties;
+		this.authViewCache = authViewCache;
 	}
 
 	@Override
@@ -181,6 +186,7 @@ public class PatientInvitationRedeemServiceImpl implements PatientInvitationRede
 		invitation.setRedeemedAt(redeemedAt);
 		pacienteRepository.save(paciente);
 		patientInvitationRepository.save(invitation);
+		authViewCache.invalidate(patientAuthSub);
 
 		if (log.isInfoEnabled()) {
 			log.info("Redeemed patient invitation: invitationId={}, pacienteId={}", invitation.getId(),
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import com.nutriconsultas.mobile.PatientAuthViewCache;
 import com.nutriconsultas.paciente.Paciente;
 import com.nutriconsultas.paciente.PacienteRepository;
 import com.nutriconsultas.paciente.PacienteStatus;
@@ -35,18 +36,22 @@ public class PatientMobileInvitationServiceImpl implements PatientMobileInvitati
 
 	private final PatientInvitationRevokeService patientInvitationRevokeService;
 
+	private final PatientAuthViewCache authViewCache;
+
 	public PatientMobileInvitationServiceImpl(final PacienteRepository pacienteRepository,
 			final PatientInvitationRepository patientInvitationRepository,
 			final PatientInvitationTokenService patientInvitationTokenService,
 			final PatientInvitationProperties invitationProperties,
 			final PatientInvitationEmailSender patientInvitationEmailSender,
-			final PatientInvitationRevokeService patientInvitationRevokeService) {
+			final PatientInvitationRevokeService patientInvitationRevokeService,
+			final PatientAuthViewCache authViewCache) {
 		this.pacienteRepository = pacienteRepository;
 		this.patientInvitationRepository = patientInvitationRepository;
 		this.patientInvitationTokenService = patientInvitationTokenService;
 		this.invitationProperties = invitationProperties;
 		this.patientInvitationEmailSender = patientInvitationEmailSender;
 		this.patientInvitationRevokeService = patientInvitationRevokeService;
+		this.authViewCache = authViewCache;
 	}
 
 	@Override
@@ -73,6 +78,7 @@ public class PatientMobileInvitationServiceImpl implements PatientMobileInvitati
 		ensureInviteMetadata(paciente);
 		if (paciente.getStatus() == PacienteStatus.ACTIVE) {
 			paciente.setStatus(PacienteStatus.INVITED);
+			authViewCache.invalidate(paciente.getPatientAuthSub());
 		}
 		pacienteRepository.save(paciente);
 
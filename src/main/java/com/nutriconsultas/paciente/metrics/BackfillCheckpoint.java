@@ -0,0 +1,45 @@
+package com.nutriconsultas.paciente.metrics;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a background backfill that walks rows by ascending id; {@code lastId} is
+ * the highest id already handled, so a restarted job resumes after it.
+ */
+@Entity
+@Table(name = "backfill_checkpoint")
+@Data
+@NoArgsConstructor
+public class BackfillCheckpoint {
+
+	@Id
+	@Column(name = "job_name", length = 64)
+	private String jobName;
+
+	@Column(name = "last_id", nullable = false)
+	private long lastId;
+
+	@Column(name = "processed_count", nullable = false)
+	private long processedCount;
+
+	@Column(name = "backfilled_count", nullable = false)
+	private long backfilledCount;
+
+	@Column(name = "updated_at")
+	private Instant updatedAt;
+
+	@Column(name = "completed_at")
+	private Instant completedAt;
+
+	public BackfillCheckpoint(final String jobName) {
+		this.jobName = jobName;
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.nutriconsultas.paciente.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.nutriconsultas.jobs.ClusterJob;
+import com.nutriconsultas.jobs.ClusterJobContext;
+import com.nutriconsultas.jobs.ClusterJobRunner;
+import com.nutriconsultas.jobs.ClusterJobTrigger;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports one body metric backfill batch per tick. Every instance fires the schedule; the
+ * {@link ClusterJobRunner} lease lets only one of them read and advance the checkpoint,
+ * so two instances never import the same patients. Once a run finds the walk complete the
+ * instance stops taking the lease, so idle ticks leave no run rows behind.
+ */
+@Component
+@Slf4j
+public class BodyMetricBackfillJob implements ClusterJob {
+
+	static final String JOB_NAME = BodyMetricBackfillService.JOB_NAME;
+
+	private final BodyMetricBackfillService backfillService;
+
+	private final ClusterJobRunner jobRunner;
+
+	private final boolean enabled;
+
+	private volatile boolean complete;
+
+	public BodyMetricBackfillJob(final BodyMetricBackfillService backfillService, final ClusterJobRunner jobRunner,
+			@Value("${nutriconsultas.body-metrics.backfill.enabled:true}") final boolean enabled) {
+		this.backfillService = backfillService;
+		this.jobRunner = jobRunner;
+		this.enabled = enabled;
+	}
+
+	@Override
+	public String name() {
+		return JOB_NAME;
+	}
+
+	@Override
+	public void run(final ClusterJobContext context) {
+		if (backfillService.runBatch() == 0) {
+			complete = true;
+		}
+	}
+
+	@Scheduled(initialDelayString = "${nutriconsultas.body-metrics.backfill.initial-delay-ms:120000}",
+			fixedDelayString = "${nutriconsultas.body-metrics.backfill.interval-ms:30000}")
+	public void runBatch() {
+		if (!enabled || complete) {
+			return;
+		}
+		try {
+			jobRunner.run(this, ClusterJobTrigger.SCHEDULED, null);
+		}
+		catch (RuntimeException ex) {
+			log.error("Body metric backfill batch failed", ex);
+		}
+	}
+
+}
@@ -0,0 +1,149 @@
+package com.nutriconsultas.paciente.metrics;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.nutriconsultas.util.LogRedaction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds body metric history for patients created before {@code body_metric_record}
+ * existed. Each batch takes the next patients without records after the checkpoint,
+ * imports each one in its own transaction, then moves the checkpoint; once a batch comes
+ * back short the walk is complete and later runs return immediately (new data is synced
+ * on write). A patient whose import fails is logged and skipped rather than retried
+ * forever; deleting the checkpoint row restarts the walk.
+ */
+@Service
+@Slf4j
+public class BodyMetricBackfillService {
+
+	static final String JOB_NAME = "body-metric-history";
+
+	static final String PATIENTS = "bodymetrics.backfill.patients";
+
+	static final String CURSOR = "bodymetrics.backfill.cursor";
+
+	private final BodyMetricRecordRepository recordRepository;
+
+	private final BodyMetricRecordService recordService;
+
+	private final BackfillCheckpointRepository checkpointRepository;
+
+	private final int batchSize;
+
+	private final long pauseMillis;
+
+	private final Clock clock;
+
+	private final Counter backfilled;
+
+	private final Counter empty;
+
+	private final Counter failed;
+
+	private final AtomicLong cursor = new AtomicLong();
+
+	public BodyMetricBackfillService(final BodyMetricRecordRepository recordRepository,
+			final BodyMetricRecordService recordService, final BackfillCheckpointRepository checkpointRepository,
+			final MeterRegistry meterRegistry,
+			@Value("${nutriconsultas.body-metrics.backfill.batch-size:50}") final int batchSize,
+			@Value("${nutriconsultas.body-metrics.backfill.pause-ms:50}") final long pauseMillis,
+			@Autowired(required = false) final Clock clock) {
+		this.recordRepository = recordRepository;
+		this.recordService = recordService;
+		this.checkpointRepository = checkpointRepository;
+		this.batchSize = Math.max(batchSize, 1);
+		this.pauseMillis = Math.max(pauseMillis, 0L);
+		this.clock = clock != null ? clock : Clock.systemUTC();
+		this.backfilled = meterRegistry.counter(PATIENTS, "outcome", "backfilled");
+		this.empty = meterRegistry.counter(PATIENTS, "outcome", "empty");
+		this.failed = meterRegistry.counter(PATIENTS, "outcome", "failed");
+		Gauge.builder(CURSOR, cursor, AtomicLong::get)
+			.description("Highest paciente id handled by the body metric backfill")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Handles up to one batch of patients.
+	 * @return patients handled; {@code 0} once the walk is complete
+	 */
+	public int runBatch() {
+		final BackfillCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+			.orElseGet(() -> new BackfillCheckpoint(JOB_NAME));
+		cursor.set(checkpoint.getLastId());
+		if (checkpoint.getCompletedAt() != null) {
+			return 0;
+		}
+		final List<Long> pacienteIds = recordRepository.findPacienteIdsWithoutRecordsAfter(checkpoint.getLastId(),
+				PageRequest.of(0, batchSize));
+		int handled = 0;
+		for (final Long pacienteId : pacienteIds) {
+			if (handled > 0 && !pause()) {
+				break;
+			}
+			backfill(checkpoint, pacienteId);
+			handled++;
+		}
+		final Instant now = clock.instant();
+		checkpoint.setUpdatedAt(now);
+		if (handled == pacienteIds.size() && pacienteIds.size() < batchSize) {
+			checkpoint.setCompletedAt(now);
+			log.info("Body metric backfill complete: {} patients checked, {} backfilled",
+					checkpoint.getProcessedCount(), checkpoint.getBackfilledCount());
+		}
+		checkpointRepository.save(checkpoint);
+		cursor.set(checkpoint.getLastId());
+		return handled;
+	}
+
+	private void backfill(final BackfillCheckpoint checkpoint, final Long pacienteId) {
+		try {
+			if (recordService.ensureBackfilled(pacienteId)) {
+				checkpoint.setBackfilledCount(checkpoint.getBackfilledCount() + 1);
+				backfilled.increment();
+			}
+			else {
+				empty.increment();
+			}
+		}
+		catch (final RuntimeException ex) {
+			failed.increment();
+			if (log.isWarnEnabled()) {
+				log.warn("Body metric backfill failed for paciente {}", LogRedaction.redactPaciente(pacienteId), ex);
+			}
+		}
+		checkpoint.setLastId(pacienteId);
+		checkpoint.setProcessedCount(checkpoint.getProcessedCount() + 1);
+	}
+
+	/**
+	 * Spaces imports out so the job never competes with request traffic for long.
+	 * @return {@code false} when interrupted
+	 */
+	private boolean pause() {
+		if (pauseMillis == 0L) {
+			return true;
+		}
+		try {
+			Thread.sleep(pauseMillis);
+			return true;
+		}
+		catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+}
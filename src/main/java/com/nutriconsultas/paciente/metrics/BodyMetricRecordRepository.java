@@ -6,6 +6,8 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -44,4 +46,12 @@ public interface BodyMetricRecordRepository extends JpaRepository<BodyMetricReco
 	List<BodyMetricRecord> findByPacienteIdAndRecordedAtBetweenOrderByRecordedAtAscIdAsc(Long pacienteId, Date from,
 			Date to, Pageable pageable);
 
+	/**
+	 * Patients after {@code afterId} that have no history rows yet, in id order; the
+	 * backfill job pages through this with its checkpoint.
+	 */
+	@Query("SELECT p.id FROM Paciente p WHERE p.id > :afterId AND NOT EXISTS "
+			+ "(SELECT r.id FROM BodyMetricRecord r WHERE r.paciente.id = p.id) ORDER BY p.id ASC")
+	List<Long> findPacienteIdsWithoutRecordsAfter(@Param("afterId") long afterId, Pageable pageable);
+
 }
@@ -17,7 +17,13 @@ public interface BodyMetricRecordService {
 
 	void syncFromClinicalExam(@NonNull ClinicalExam exam);
 
-	void ensureBackfilled(@NonNull Long pacienteId);
+	/**
+	 * Imports history from consultations, anthropometric measurements and clinical exams
+	 * when the patient has no records yet. Run by {@link BodyMetricBackfillService}; read
+	 * paths do not call it.
+	 * @return {@code true} when at least one record was imported
+	 */
+	boolean ensureBackfilled(@NonNull Long pacienteId);
 
 	void removeSourceAndRefreshPatient(@NonNull BodyMetricSource source, @NonNull Long sourceId,
 			@NonNull Long pacienteId);
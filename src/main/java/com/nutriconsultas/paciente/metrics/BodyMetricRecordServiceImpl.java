@@ -29,6 +29,9 @@ import com.nutriconsultas.paciente.calculation.BmrFormulaType;
 import com.nutriconsultas.paciente.calculation.EnergyExpenditureResolver;
 import com.nutriconsultas.paciente.calculation.PatientEnergyPreferences;
 import com.nutriconsultas.paciente.calculation.TdeeCalculationService;
+import com.nutriconsultas.sync.PatientChangeLogService;
+import com.nutriconsultas.sync.PatientChangeOperation;
+import com.nutriconsultas.sync.PatientChangeType;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,15 +49,19 @@ public class BodyMetricRecordServiceImpl implements BodyMetricRecordService {
 
 	private final PacienteRepository pacienteRepository;
 
+	private final PatientChangeLogService changeLogService;
+
 	public BodyMetricRecordServiceImpl(final BodyMetricRecordRepository repository,
 			final CalendarEventRepository calendarEventRepository,
 			final AnthropometricMeasurementRepository anthropometricMeasurementRepository,
-			final ClinicalExamRepository clinicalExamRepository, final PacienteRepository pacienteRepository) {
+			final ClinicalExamRepository clinicalExamRepository, final PacienteRepository pacienteRepository,
+			final PatientChangeLogService changeLogService) {
 		this.repository = repository;
 		this.calendarEventRepository = calendarEventRepository;
 		this.anthropometricMeasurementRepository = anthropometricMeasurementRepository;
 		this.clinicalExamRepository = clinicalExamRepository;
 		this.pacienteRepository = pacienteRepository;
+		this.changeLogService = changeLogService;
 	}
 
 	@Override
@@ -96,11 +103,11 @@ public class BodyMetricRecordServiceImpl implements BodyMetricRecordService {
 
 	@Override
 	@Transactional
-	public void ensureBackfilled(@NonNull final Long pacienteId) {
+	public boolean ensureBackfilled(@NonNull final Long pacienteId) {
 		if (repository.existsByPacienteId(pacienteId)) {
-			return;
+			return false;
 		}
-		log.info("Backfilling body metric history for paciente id {}", pacienteId);
+		log.debug("Backfilling body metric history for paciente id {}", pacienteId);
 		for (final CalendarEvent event : calendarEventRepository.findByPacienteId(pacienteId)) {
 			syncFromConsultation(event);
 		}
@@ -111,6 +118,7 @@ public class BodyMetricRecordServiceImpl implements BodyMetricRecordService {
 		for (final ClinicalExam exam : clinicalExamRepository.findByPacienteId(pacienteId)) {
 			syncFromClinicalExam(exam);
 		}
+		return repository.existsByPacienteId(pacienteId);
 	}
 
 	@Override
@@ -119,19 +127,18 @@ public class BodyMetricRecordServiceImpl implements BodyMetricRecordService {
 			@NonNull final Long pacienteId) {
 		repository.deleteBySourceAndSourceId(source, sourceId);
 		refreshPatientSnapshot(pacienteId);
+		recordProgressChanged(pacienteId);
 	}
 
 	@Override
-	@Transactional
+	@Transactional(readOnly = true)
 	public Optional<BodyMetricRecord> findLatestByPacienteId(@NonNull final Long pacienteId) {
-		ensureBackfilled(pacienteId);
 		return repository.findFirstByPacienteIdOrderByRecordedAtDescIdDesc(pacienteId);
 	}
 
 	@Override
-	@Transactional
+	@Transactional(readOnly = true)
 	public ChartResponse buildChartResponse(@NonNull final Long pacienteId) {
-		ensureBackfilled(pacienteId);
 		final List<BodyMetricRecord> records = repository.findByPacienteIdOrderByRecordedAtAsc(pacienteId);
 		final SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
 
@@ -180,6 +187,7 @@ public class BodyMetricRecordServiceImpl implements BodyMetricRecordService {
 		if (!hasBodyMetricData(data.weight(), data.height(), data.imc(), data.bodyFatIndex(), data.bodyFatPercentage(),
 				data.bmr(), data.getKcal())) {
 			repository.deleteBySourceAndSourceId(data.source(), data.sourceId());
+			recordProgressChanged(data.paciente().getId());
 			return;
 		}
 
@@ -201,6 +209,15 @@ public class BodyMetricRecordServiceImpl implements BodyMetricRecordService {
 		record.setTefKcal(data.tefKcal());
 		record.setTotalAdjustedKcal(data.totalAdjustedKcal());
 		repository.save(record);
+		recordProgressChanged(data.paciente().getId());
+	}
+
+	/**
+	 * The mobile progress view is one snapshot per patient, so the change is keyed by the
+	 * patient id rather than the record.
+	 */
+	private void recordProgressChanged(final Long pacienteId) {
+		changeLogService.record(pacienteId, PatientChangeType.PROGRESS, pacienteId, PatientChangeOperation.UPSERT);
 	}
 
 	private record BodyMetricUpsertData(Paciente paciente, java.util.Date recordedAt, BodyMetricSource source,
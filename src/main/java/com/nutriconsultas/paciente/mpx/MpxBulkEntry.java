@@ -0,0 +1,21 @@
+package com.nutriconsultas.paciente.mpx;
+
+/**
+ * One document read from a bulk MPX upload, or the reason it could not be parsed.
+ *
+ * @param index 1-based position in the upload
+ * @param source zip entry name or NDJSON line label, for error messages
+ * @param document parsed document, {@code null} when {@code error} is set
+ * @param error parse failure, {@code null} when the document was read
+ */
+record MpxBulkEntry(int index, String source, MpxDocument document, MpxImportException error) {
+
+	static MpxBulkEntry parsed(final int index, final String source, final MpxDocument document) {
+		return new MpxBulkEntry(index, source, document, null);
+	}
+
+	static MpxBulkEntry failed(final int index, final String source, final MpxImportException error) {
+		return new MpxBulkEntry(index, source, null, error);
+	}
+
+}
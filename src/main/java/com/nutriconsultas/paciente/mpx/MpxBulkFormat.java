@@ -0,0 +1,31 @@
+package com.nutriconsultas.paciente.mpx;
+
+import java.util.Locale;
+
+/**
+ * Container formats accepted by the bulk MPX import.
+ */
+public enum MpxBulkFormat {
+
+	/**
+	 * Zip archive with one MPX YAML document per {@code .mpx} entry.
+	 */
+	ZIP,
+
+	/**
+	 * Newline-delimited JSON, one MPX document per line.
+	 */
+	NDJSON;
+
+	public static MpxBulkFormat fromFilename(final String filename) {
+		final String lower = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+		if (lower.endsWith(".zip")) {
+			return ZIP;
+		}
+		if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+			return NDJSON;
+		}
+		throw new MpxImportException("El archivo debe tener extensión .zip o .ndjson");
+	}
+
+}
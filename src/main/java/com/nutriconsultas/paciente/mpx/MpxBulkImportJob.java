@@ -0,0 +1,84 @@
+package com.nutriconsultas.paciente.mpx;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of one bulk MPX import. Counters advance with each committed chunk, so they
+ * always match what is in the database. {@code updatedAt} moves with every save, so a
+ * running job whose instance stopped shows up as one that stopped advancing.
+ */
+@Entity
+@Table(name = "mpx_bulk_import_job")
+@Data
+@NoArgsConstructor
+public class MpxBulkImportJob {
+
+	static final int ERROR_SUMMARY_LENGTH = 2000;
+
+	@Id
+	@Column(name = "job_id", nullable = false, length = 36)
+	private String jobId;
+
+	@Column(name = "user_id", nullable = false, length = 255)
+	private String userId;
+
+	@Column(name = "filename", length = 255)
+	private String filename;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private MpxBulkImportStatus status = MpxBulkImportStatus.QUEUED;
+
+	@Column(name = "processed_count", nullable = false)
+	private int processedCount;
+
+	@Column(name = "imported_count", nullable = false)
+	private int importedCount;
+
+	@Column(name = "failed_count", nullable = false)
+	private int failedCount;
+
+	@Column(name = "duplicate_count", nullable = false)
+	private int duplicateCount;
+
+	@Column(name = "error_summary", length = ERROR_SUMMARY_LENGTH)
+	private String errorSummary;
+
+	@Column(name = "created_at", nullable = false)
+	private Instant createdAt;
+
+	@Column(name = "completed_at")
+	private Instant completedAt;
+
+	@Column(name = "updated_at")
+	private Instant updatedAt;
+
+	@PrePersist
+	void onCreate() {
+		if (jobId == null) {
+			jobId = UUID.randomUUID().toString();
+		}
+		if (createdAt == null) {
+			createdAt = Instant.now();
+		}
+		updatedAt = Instant.now();
+	}
+
+	@PreUpdate
+	void onUpdate() {
+		updatedAt = Instant.now();
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.nutriconsultas.paciente.mpx;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MpxBulkImportJobRepository extends JpaRepository<MpxBulkImportJob, String> {
+
+	Optional<MpxBulkImportJob> findByJobIdAndUserId(String jobId, String userId);
+
+	/**
+	 * Jobs in any of {@code statuses} last saved before {@code cutoff}; rows from before
+	 * {@code updated_at} existed fall back to their creation time.
+	 */
+	@Query("select j.jobId from MpxBulkImportJob j where j.status in :statuses"
+			+ " and coalesce(j.updatedAt, j.createdAt) < :cutoff order by j.createdAt")
+	List<String> findJobIdsByStatusInNotUpdatedSince(@Param("statuses") Collection<MpxBulkImportStatus> statuses,
+			@Param("cutoff") Instant cutoff);
+
+}
@@ -0,0 +1,14 @@
+package com.nutriconsultas.paciente.mpx;
+
+/**
+ * Progress snapshot of a bulk MPX import returned to the patient list while it polls.
+ */
+public record MpxBulkImportProgress(String jobId, MpxBulkImportStatus status, int processedCount, int importedCount,
+		int failedCount, int duplicateCount, String errorSummary) {
+
+	public static MpxBulkImportProgress from(final MpxBulkImportJob job) {
+		return new MpxBulkImportProgress(job.getJobId(), job.getStatus(), job.getProcessedCount(),
+				job.getImportedCount(), job.getFailedCount(), job.getDuplicateCount(), job.getErrorSummary());
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.nutriconsultas.paciente.mpx;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.nutriconsultas.jobs.ClusterJob;
+import com.nutriconsultas.jobs.ClusterJobContext;
+import com.nutriconsultas.jobs.ClusterJobRunner;
+import com.nutriconsultas.jobs.ClusterJobTrigger;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fails bulk MPX imports left QUEUED or RUNNING by an instance that stopped before
+ * finishing them. Runs at startup and then periodically under the
+ * {@link ClusterJobRunner} lease; a job only counts as interrupted once it has gone
+ * {@code stale-after-minutes} without being saved, so imports still running on a live
+ * instance are left alone.
+ */
+@Component
+@Slf4j
+public class MpxBulkImportRecoveryJob implements ClusterJob {
+
+	static final String JOB_NAME = "mpx-bulk-import-recovery";
+
+	private final MpxBulkImportWorker worker;
+
+	private final ClusterJobRunner jobRunner;
+
+	private final Duration staleAfter;
+
+	public MpxBulkImportRecoveryJob(final MpxBulkImportWorker worker, final ClusterJobRunner jobRunner,
+			@Value("${nutriconsultas.mpx.bulk-import.stale-after-minutes:30}") final long staleAfterMinutes) {
+		this.worker = worker;
+		this.jobRunner = jobRunner;
+		this.staleAfter = Duration.ofMinutes(staleAfterMinutes);
+	}
+
+	@Override
+	public String name() {
+		return JOB_NAME;
+	}
+
+	@Override
+	public boolean runsAtStartup() {
+		return true;
+	}
+
+	@Override
+	public void run(final ClusterJobContext context) {
+		worker.failInterrupted(Instant.now().minus(staleAfter));
+	}
+
+	@Scheduled(initialDelayString = "${nutriconsultas.mpx.bulk-import.recovery-interval-ms:900000}",
+			fixedDelayString = "${nutriconsultas.mpx.bulk-import.recovery-interval-ms:900000}")
+	public void failInterruptedImports() {
+		try {
+			jobRunner.run(this, ClusterJobTrigger.SCHEDULED, null);
+		}
+		catch (RuntimeException ex) {
+			log.error("Bulk MPX import recovery failed", ex);
+		}
+	}
+
+}
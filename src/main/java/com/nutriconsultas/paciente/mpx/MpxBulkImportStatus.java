@@ -0,0 +1,7 @@
+package com.nutriconsultas.paciente.mpx;
+
+public enum MpxBulkImportStatus {
+
+	QUEUED, RUNNING, COMPLETED, FAILED
+
+}
@@ -0,0 +1,228 @@
+package com.nutriconsultas.paciente.mpx;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nutriconsultas.paciente.Paciente;
+import com.nutriconsultas.paciente.PacienteService;
+import com.nutriconsultas.subscription.SubscriptionLimitExceededException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs bulk MPX imports in the background. Documents are read one at a time and saved in
+ * chunks, each chunk in its own transaction together with the job counters, so a failure
+ * part-way keeps every earlier chunk and the progress reported for it.
+ */
+@Service
+@Slf4j
+public class MpxBulkImportWorker {
+
+	/**
+	 * Per-document errors kept on the job; the rest are only counted.
+	 */
+	static final int MAX_REPORTED_ERRORS = 20;
+
+	private final PacienteMpxImportService importService;
+
+	private final PacienteService pacienteService;
+
+	private final MpxBulkImportJobRepository jobs;
+
+	private final TransactionTemplate transactions;
+
+	private final int chunkSize;
+
+	public MpxBulkImportWorker(final PacienteMpxImportService importService, final PacienteService pacienteService,
+			final MpxBulkImportJobRepository jobs, final TransactionTemplate transactions,
+			@Value("${nutriconsultas.mpx.bulk-import.chunk-size:100}") final int chunkSize) {
+		this.importService = importService;
+		this.pacienteService = pacienteService;
+		this.jobs = jobs;
+		this.transactions = transactions;
+		this.chunkSize = Math.max(1, chunkSize);
+	}
+
+	/**
+	 * Imports the uploaded file and deletes it afterwards.
+	 */
+	@Async("mpxBulkImportExecutor")
+	public void importAsync(final String jobId, final Path upload, final MpxBulkFormat format) {
+		try (InputStream in = Files.newInputStream(upload)) {
+			importDocuments(jobId, in, format);
+		}
+		catch (final IOException ex) {
+			fail(jobId, "No se pudo leer el archivo de importación", List.of());
+		}
+		finally {
+			deleteQuietly(upload);
+		}
+	}
+
+	void importDocuments(final String jobId, final InputStream in, final MpxBulkFormat format) {
+		final MpxBulkImportJob job = jobs.findById(jobId).orElseThrow();
+		if (job.getStatus() != MpxBulkImportStatus.QUEUED) {
+			// failed by recovery while it waited behind a long queue
+			if (log.isWarnEnabled()) {
+				log.warn("Bulk MPX import {} is {}, not starting it", jobId, job.getStatus());
+			}
+			return;
+		}
+		job.setStatus(MpxBulkImportStatus.RUNNING);
+		jobs.save(job);
+		final List<String> errors = new ArrayList<>();
+		try (MpxBulkReader reader = new MpxBulkReader(in, format)) {
+			final List<MpxBulkEntry> chunk = new ArrayList<>(chunkSize);
+			MpxBulkEntry entry;
+			while ((entry = reader.next()) != null) {
+				chunk.add(entry);
+				if (chunk.size() == chunkSize) {
+					importChunk(jobId, job.getUserId(), chunk, errors);
+					chunk.clear();
+				}
+			}
+			if (!chunk.isEmpty()) {
+				importChunk(jobId, job.getUserId(), chunk, errors);
+			}
+			finish(jobId, MpxBulkImportStatus.COMPLETED, errors);
+		}
+		catch (final SubscriptionLimitExceededException ex) {
+			fail(jobId, "Se alcanzó el límite de pacientes del plan; el resto del archivo no se importó", errors);
+		}
+		catch (final MpxImportException ex) {
+			fail(jobId, ex.getMessage(), errors);
+		}
+		catch (final IOException ex) {
+			fail(jobId, "No se pudo leer el archivo de importación", errors);
+		}
+		catch (final RuntimeException ex) {
+			if (log.isWarnEnabled()) {
+				log.warn("Bulk MPX import {} failed", jobId, ex);
+			}
+			fail(jobId, "La importación se detuvo por un error inesperado", errors);
+		}
+	}
+
+	/**
+	 * Fails every QUEUED or RUNNING job that has not been saved since {@code cutoff}.
+	 * Such a job lost its instance, and the upload it was waiting on or reading went with
+	 * it, so it cannot be resumed; the nutritionist sees what was imported and uploads
+	 * the rest again.
+	 * @return jobs failed
+	 */
+	int failInterrupted(final Instant cutoff) {
+		final List<String> jobIds = jobs.findJobIdsByStatusInNotUpdatedSince(
+				List.of(MpxBulkImportStatus.QUEUED, MpxBulkImportStatus.RUNNING), cutoff);
+		for (final String jobId : jobIds) {
+			final String errorSummary = jobs.findById(jobId).orElseThrow().getErrorSummary();
+			fail(jobId, "La importación se interrumpió; sube de nuevo los pacientes que faltan",
+					errorSummary != null ? List.of(errorSummary.split("\n")) : List.of());
+		}
+		if (!jobIds.isEmpty() && log.isWarnEnabled()) {
+			log.warn("Marked {} interrupted bulk MPX import(s) as failed", jobIds.size());
+		}
+		return jobIds.size();
+	}
+
+	private void importChunk(final String jobId, final String userId, final List<MpxBulkEntry> chunk,
+			final List<String> errors) {
+		final List<String> chunkErrors = new ArrayList<>();
+		transactions.executeWithoutResult(status -> {
+			int imported = 0;
+			int duplicates = 0;
+			for (final MpxBulkEntry entry : chunk) {
+				if (entry.error() != null) {
+					chunkErrors.add(describe(entry, entry.error()));
+					continue;
+				}
+				final Paciente paciente;
+				try {
+					paciente = importService.toValidatedPaciente(entry.document(), userId);
+				}
+				catch (final MpxImportException ex) {
+					chunkErrors.add(describe(entry, ex));
+					continue;
+				}
+				if (importService.detectDuplicateWarning(userId, paciente)) {
+					duplicates++;
+				}
+				pacienteService.save(paciente);
+				imported++;
+			}
+			final MpxBulkImportJob job = jobs.findById(jobId).orElseThrow();
+			job.setProcessedCount(job.getProcessedCount() + chunk.size());
+			job.setImportedCount(job.getImportedCount() + imported);
+			job.setDuplicateCount(job.getDuplicateCount() + duplicates);
+			job.setFailedCount(job.getFailedCount() + chunkErrors.size());
+			job.setErrorSummary(summarize(appendReported(errors, chunkErrors)));
+			jobs.save(job);
+		});
+		final List<String> reported = appendReported(errors, chunkErrors);
+		errors.clear();
+		errors.addAll(reported);
+		if (log.isInfoEnabled()) {
+			log.info("Bulk MPX import {} committed a chunk of {} documents", jobId, chunk.size());
+		}
+	}
+
+	private void finish(final String jobId, final MpxBulkImportStatus status, final List<String> errors) {
+		final MpxBulkImportJob job = jobs.findById(jobId).orElseThrow();
+		job.setStatus(status);
+		job.setErrorSummary(summarize(errors));
+		job.setCompletedAt(Instant.now());
+		jobs.save(job);
+	}
+
+	private void fail(final String jobId, final String reason, final List<String> errors) {
+		final List<String> reported = new ArrayList<>();
+		reported.add(reason);
+		reported.addAll(errors);
+		finish(jobId, MpxBulkImportStatus.FAILED, reported);
+	}
+
+	private static List<String> appendReported(final List<String> reported, final List<String> added) {
+		final List<String> merged = new ArrayList<>(reported);
+		for (final String error : added) {
+			if (merged.size() >= MAX_REPORTED_ERRORS) {
+				break;
+			}
+			merged.add(error);
+		}
+		return merged;
+	}
+
+	private static String describe(final MpxBulkEntry entry, final MpxImportException error) {
+		return "#" + entry.index() + " (" + entry.source() + "): " + error.getMessage();
+	}
+
+	private static String summarize(final List<String> errors) {
+		if (errors.isEmpty()) {
+			return null;
+		}
+		final String joined = String.join("\n", errors);
+		return joined.length() <= MpxBulkImportJob.ERROR_SUMMARY_LENGTH ? joined
+				: joined.substring(0, MpxBulkImportJob.ERROR_SUMMARY_LENGTH);
+	}
+
+	private static void deleteQuietly(final Path upload) {
+		try {
+			Files.deleteIfExists(upload);
+		}
+		catch (final IOException ex) {
+			if (log.isWarnEnabled()) {
+				log.warn("Could not delete bulk MPX upload {}", upload);
+			}
+		}
+	}
+
+}
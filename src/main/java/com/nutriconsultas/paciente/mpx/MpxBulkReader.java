@@ -0,0 +1,137 @@
+package com.nutriconsultas.paciente.mpx;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads MPX documents one at a time from a zip archive or an NDJSON stream, so only the
+ * current document is held in memory. Documents that cannot be parsed are returned as
+ * failed entries and reading continues with the next one.
+ */
+final class MpxBulkReader implements Closeable {
+
+	/**
+	 * Upper bound for a single document; registration profiles are a few kilobytes.
+	 */
+	static final int MAX_DOCUMENT_BYTES = 256 * 1024;
+
+	static final int MAX_DOCUMENTS = 10_000;
+
+	private static final ObjectMapper JSON = new ObjectMapper();
+
+	private final MpxBulkFormat format;
+
+	private final ZipInputStream zip;
+
+	private final BufferedReader lines;
+
+	private int index;
+
+	private int lineNumber;
+
+	MpxBulkReader(final InputStream in, final MpxBulkFormat format) {
+		this.format = format;
+		this.zip = format == MpxBulkFormat.ZIP ? new ZipInputStream(in, StandardCharsets.UTF_8) : null;
+		this.lines = format == MpxBulkFormat.NDJSON
+				? new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)) : null;
+	}
+
+	/**
+	 * Returns the next document, or {@code null} at the end of the upload.
+	 */
+	MpxBulkEntry next() throws IOException {
+		final MpxBulkEntry entry = format == MpxBulkFormat.ZIP ? nextZipEntry() : nextLine();
+		if (entry != null && entry.index() > MAX_DOCUMENTS) {
+			throw new MpxImportException("El archivo supera el máximo de " + MAX_DOCUMENTS + " pacientes");
+		}
+		return entry;
+	}
+
+	private MpxBulkEntry nextZipEntry() throws IOException {
+		ZipEntry entry = zip.getNextEntry();
+		while (entry != null && (entry.isDirectory() || !entry.getName().toLowerCase(Locale.ROOT).endsWith(".mpx"))) {
+			entry = zip.getNextEntry();
+		}
+		if (entry == null) {
+			return null;
+		}
+		index++;
+		final byte[] content = readBounded(zip);
+		if (content == null) {
+			return MpxBulkEntry.failed(index, entry.getName(), tooLarge());
+		}
+		try {
+			return MpxBulkEntry.parsed(index, entry.getName(), MpxYaml.parse(content));
+		}
+		catch (final MpxImportException ex) {
+			return MpxBulkEntry.failed(index, entry.getName(), ex);
+		}
+	}
+
+	private MpxBulkEntry nextLine() throws IOException {
+		String line = lines.readLine();
+		lineNumber++;
+		while (line != null && line.isBlank()) {
+			line = lines.readLine();
+			lineNumber++;
+		}
+		if (line == null) {
+			return null;
+		}
+		index++;
+		final String source = "línea " + lineNumber;
+		if (line.length() > MAX_DOCUMENT_BYTES) {
+			return MpxBulkEntry.failed(index, source, tooLarge());
+		}
+		try {
+			return MpxBulkEntry.parsed(index, source, JSON.readValue(line, MpxDocument.class));
+		}
+		catch (final JsonProcessingException ex) {
+			return MpxBulkEntry.failed(index, source, new MpxImportException("El documento no es un MPX válido", ex));
+		}
+	}
+
+	/**
+	 * Reads the current zip entry, or returns {@code null} once it exceeds
+	 * {@link #MAX_DOCUMENT_BYTES}; the rest of the entry is skipped by the next
+	 * {@code getNextEntry()}.
+	 */
+	private static byte[] readBounded(final InputStream in) throws IOException {
+		final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		final byte[] chunk = new byte[8192];
+		int read;
+		while ((read = in.read(chunk)) != -1) {
+			if (buffer.size() + read > MAX_DOCUMENT_BYTES) {
+				return null;
+			}
+			buffer.write(chunk, 0, read);
+		}
+		return buffer.toByteArray();
+	}
+
+	private static MpxImportException tooLarge() {
+		return new MpxImportException("El documento supera el tamaño máximo permitido");
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (zip != null) {
+			zip.close();
+		}
+		if (lines != null) {
+			lines.close();
+		}
+	}
+
+}
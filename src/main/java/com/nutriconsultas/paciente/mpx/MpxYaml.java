@@ -0,0 +1,50 @@
+package com.nutriconsultas.paciente.mpx;
+
+import java.nio.charset.StandardCharsets;
+
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.representer.Representer;
+
+/**
+ * YAML encoding of MPX v1 documents shared by single and bulk import/export.
+ */
+final class MpxYaml {
+
+	private MpxYaml() {
+	}
+
+	static MpxDocument parse(final byte[] content) {
+		try {
+			final Constructor constructor = new Constructor(MpxDocument.class, new LoaderOptions());
+			final Yaml yaml = new Yaml(constructor);
+			final Object loaded = yaml.load(new String(content, StandardCharsets.UTF_8));
+			if (!(loaded instanceof MpxDocument document)) {
+				throw new MpxImportException("El archivo no es un MPX válido");
+			}
+			return document;
+		}
+		catch (final YAMLException ex) {
+			throw new MpxImportException("El archivo no es un MPX válido", ex);
+		}
+	}
+
+	static byte[] dump(final MpxDocument document) {
+		final DumperOptions options = new DumperOptions();
+		options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+		options.setPrettyFlow(true);
+		final Representer representer = new Representer(options);
+		representer.addClassTag(MpxDocument.class, Tag.MAP);
+		representer.addClassTag(MpxPatientRegistration.class, Tag.MAP);
+		representer.addClassTag(MpxBodySnapshot.class, Tag.MAP);
+		representer.addClassTag(MpxEnergyPreferences.class, Tag.MAP);
+		representer.addClassTag(MpxMedicalHistory.class, Tag.MAP);
+		final Yaml yaml = new Yaml(representer, options);
+		return yaml.dump(document).getBytes(StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,98 @@
+package com.nutriconsultas.paciente.mpx;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+
+import com.nutriconsultas.paciente.Paciente;
+import com.nutriconsultas.paciente.PacienteRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams every patient of a nutritionist as a zip of MPX v1 files, the same layout the
+ * bulk import accepts. Patients are read in keyset pages, each in a short read-only
+ * transaction, so memory and connection time stay bounded regardless of tenant size.
+ */
+@Service
+@Slf4j
+public class PacienteMpxBulkExportService {
+
+	static final int PAGE_SIZE = 100;
+
+	private final PacienteRepository pacienteRepository;
+
+	private final TransactionTemplate readOnlyTransactions;
+
+	private final Clock clock;
+
+	public PacienteMpxBulkExportService(final PacienteRepository pacienteRepository,
+			final PlatformTransactionManager transactionManager, @Autowired(required = false) final Clock clock) {
+		this.pacienteRepository = pacienteRepository;
+		this.readOnlyTransactions = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactions.setReadOnly(true);
+		this.clock = clock != null ? clock : Clock.systemUTC();
+	}
+
+	public String buildArchiveFilename() {
+		return "pacientes-" + PacienteMpxExportService.FILENAME_TIMESTAMP.format(clock.instant()) + ".zip";
+	}
+
+	/**
+	 * Writes the archive to {@code out}, leaving the stream open.
+	 * @return number of patients exported
+	 */
+	public int exportAll(@NonNull final String userId, @NonNull final OutputStream out) throws IOException {
+		final Instant exportedAt = clock.instant();
+		int exported = 0;
+		long afterId = 0L;
+		try (ZipOutputStream zip = new ZipOutputStream(StreamUtils.nonClosing(out))) {
+			List<MpxArchiveEntry> page;
+			do {
+				page = readPage(userId, afterId, exportedAt);
+				for (final MpxArchiveEntry entry : page) {
+					zip.putNextEntry(new ZipEntry(entry.name()));
+					zip.write(entry.content());
+					zip.closeEntry();
+				}
+				if (!page.isEmpty()) {
+					afterId = page.get(page.size() - 1).pacienteId();
+					exported += page.size();
+				}
+			}
+			while (page.size() == PAGE_SIZE);
+		}
+		log.info("Exported {} MPX registrations in bulk", exported);
+		return exported;
+	}
+
+	private List<MpxArchiveEntry> readPage(final String userId, final long afterId, final Instant exportedAt) {
+		return readOnlyTransactions.execute(status -> pacienteRepository
+			.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, afterId, PageRequest.of(0, PAGE_SIZE))
+			.stream()
+			.map(paciente -> toEntry(paciente, exportedAt))
+			.toList());
+	}
+
+	private static MpxArchiveEntry toEntry(final Paciente paciente, final Instant exportedAt) {
+		final String name = paciente.getId() + "-" + PacienteMpxExportService.buildFilename(paciente, exportedAt);
+		return new MpxArchiveEntry(paciente.getId(), name,
+				MpxYaml.dump(PacienteMpxMapper.toDocument(paciente, exportedAt)));
+	}
+
+	private record MpxArchiveEntry(Long pacienteId, String name, byte[] content) {
+	}
+
+}
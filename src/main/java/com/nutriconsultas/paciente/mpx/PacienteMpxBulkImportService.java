@@ -0,0 +1,90 @@
+package com.nutriconsultas.paciente.mpx;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Starts bulk MPX imports (zip of {@code .mpx} files or NDJSON) as background jobs and
+ * reports their progress.
+ */
+@Service
+@Slf4j
+public class PacienteMpxBulkImportService {
+
+	private final MpxBulkImportJobRepository jobs;
+
+	private final MpxBulkImportWorker worker;
+
+	public PacienteMpxBulkImportService(final MpxBulkImportJobRepository jobs, final MpxBulkImportWorker worker) {
+		this.jobs = jobs;
+		this.worker = worker;
+	}
+
+	/**
+	 * Copies the upload to a temporary file, since the multipart file does not outlive
+	 * the request, and queues the import.
+	 */
+	public MpxBulkImportJob startImport(@NonNull final MultipartFile file, @NonNull final String userId) {
+		final MpxBulkFormat format = MpxBulkFormat.fromFilename(file.getOriginalFilename());
+		if (file.isEmpty()) {
+			throw new MpxImportException("El archivo está vacío");
+		}
+		final Path upload = copyToTempFile(file, format);
+		final MpxBulkImportJob job = new MpxBulkImportJob();
+		job.setUserId(userId);
+		job.setFilename(file.getOriginalFilename());
+		final MpxBulkImportJob saved = jobs.save(job);
+		try {
+			worker.importAsync(saved.getJobId(), upload, format);
+		}
+		catch (final TaskRejectedException ex) {
+			deleteQuietly(upload);
+			saved.setStatus(MpxBulkImportStatus.FAILED);
+			saved.setErrorSummary("Hay demasiadas importaciones en curso; intente más tarde");
+			saved.setCompletedAt(Instant.now());
+			jobs.save(saved);
+			throw new MpxImportException("Hay demasiadas importaciones en curso; intente más tarde", ex);
+		}
+		if (log.isInfoEnabled()) {
+			log.info("Queued bulk MPX import {}", saved.getJobId());
+		}
+		return saved;
+	}
+
+	public Optional<MpxBulkImportJob> findJob(@NonNull final String jobId, @NonNull final String userId) {
+		return jobs.findByJobIdAndUserId(jobId, userId);
+	}
+
+	private static Path copyToTempFile(final MultipartFile file, final MpxBulkFormat format) {
+		try {
+			final Path upload = Files.createTempFile("mpx-bulk-", "." + format.name().toLowerCase());
+			file.transferTo(upload);
+			return upload;
+		}
+		catch (final IOException ex) {
+			throw new MpxImportException("No se pudo leer el archivo de importación", ex);
+		}
+	}
+
+	private static void deleteQuietly(final Path upload) {
+		try {
+			Files.deleteIfExists(upload);
+		}
+		catch (final IOException ex) {
+			if (log.isWarnEnabled()) {
+				log.warn("Could not delete bulk MPX upload {}", upload);
+			}
+		}
+	}
+
+}
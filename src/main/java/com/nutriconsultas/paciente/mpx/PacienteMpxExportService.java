@@ -1,6 +1,5 @@
 package com.nutriconsultas.paciente.mpx;
 
-import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -10,10 +9,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.yaml.snakeyaml.DumperOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.nodes.Tag;
-import org.yaml.snakeyaml.representer.Representer;
 
 import com.nutriconsultas.paciente.Paciente;
 import com.nutriconsultas.paciente.PacienteRepository;
@@ -27,7 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PacienteMpxExportService {
 
-	private static final DateTimeFormatter FILENAME_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+	static final DateTimeFormatter FILENAME_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
 		.withZone(ZoneOffset.UTC);
 
 	private final PacienteRepository pacienteRepository;
@@ -47,7 +42,7 @@ public class PacienteMpxExportService {
 		initializeSatellites(paciente);
 		final Instant exportedAt = clock.instant();
 		final MpxDocument document = PacienteMpxMapper.toDocument(paciente, exportedAt);
-		final byte[] content = serialize(document);
+		final byte[] content = MpxYaml.dump(document);
 		final String filename = buildFilename(paciente, exportedAt);
 		log.info("Exported MPX registration for paciente id {}", pacienteId);
 		return new MpxExportResult(content, filename);
@@ -59,21 +54,7 @@ public class PacienteMpxExportService {
 		paciente.getMedicalHistory();
 	}
 
-	private byte[] serialize(final MpxDocument document) {
-		final DumperOptions options = new DumperOptions();
-		options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
-		options.setPrettyFlow(true);
-		final Representer representer = new Representer(options);
-		representer.addClassTag(MpxDocument.class, Tag.MAP);
-		representer.addClassTag(MpxPatientRegistration.class, Tag.MAP);
-		representer.addClassTag(MpxBodySnapshot.class, Tag.MAP);
-		representer.addClassTag(MpxEnergyPreferences.class, Tag.MAP);
-		representer.addClassTag(MpxMedicalHistory.class, Tag.MAP);
-		final Yaml yaml = new Yaml(representer, options);
-		return yaml.dump(document).getBytes(StandardCharsets.UTF_8);
-	}
-
-	private String buildFilename(final Paciente paciente, final Instant exportedAt) {
+	static String buildFilename(final Paciente paciente, final Instant exportedAt) {
 		final String slugSource = paciente.getAssignedId() != null && !paciente.getAssignedId().isBlank()
 				? paciente.getAssignedId() : paciente.getName();
 		final String slug = sanitizeFilename(slugSource);
@@ -81,7 +62,7 @@ public class PacienteMpxExportService {
 		return slug + "-" + timestamp + ".mpx";
 	}
 
-	private String sanitizeFilename(final String value) {
+	private static String sanitizeFilename(final String value) {
 		if (value == null || value.isBlank()) {
 			return "paciente";
 		}
@@ -1,17 +1,12 @@
 package com.nutriconsultas.paciente.mpx;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.stream.Collectors;
 
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
-import org.yaml.snakeyaml.error.YAMLException;
 
 import com.nutriconsultas.paciente.Paciente;
 import com.nutriconsultas.paciente.PacienteRepository;
@@ -44,9 +39,8 @@ public class PacienteMpxImportService {
 	@Transactional
 	public MpxImportResult importRegistration(@NonNull final MultipartFile file, @NonNull final String userId) {
 		validateFile(file);
-		final MpxDocument document = parseDocument(readContent(file));
-		final Paciente paciente = PacienteMpxMapper.toPaciente(document, userId);
-		validatePaciente(paciente);
+		final MpxDocument document = MpxYaml.parse(readContent(file));
+		final Paciente paciente = toValidatedPaciente(document, userId);
 		final boolean duplicateWarning = detectDuplicateWarning(userId, paciente);
 		final Paciente saved = pacienteService.save(paciente);
 		log.info("Imported MPX registration as new paciente id {}", saved.getId());
@@ -72,19 +66,13 @@ public class PacienteMpxImportService {
 		}
 	}
 
-	private MpxDocument parseDocument(final byte[] content) {
-		try {
-			final Constructor constructor = new Constructor(MpxDocument.class, new LoaderOptions());
-			final Yaml yaml = new Yaml(constructor);
-			final Object loaded = yaml.load(new String(content, StandardCharsets.UTF_8));
-			if (!(loaded instanceof MpxDocument document)) {
-				throw new MpxImportException("El archivo no es un MPX válido");
-			}
-			return document;
-		}
-		catch (final YAMLException ex) {
-			throw new MpxImportException("El archivo no es un MPX válido", ex);
-		}
+	/**
+	 * Maps and validates one document without saving it; shared with the bulk import.
+	 */
+	Paciente toValidatedPaciente(final MpxDocument document, final String userId) {
+		final Paciente paciente = PacienteMpxMapper.toPaciente(document, userId);
+		validatePaciente(paciente);
+		return paciente;
 	}
 
 	private void validatePaciente(final Paciente paciente) {
@@ -97,7 +85,7 @@ public class PacienteMpxImportService {
 		}
 	}
 
-	private boolean detectDuplicateWarning(final String userId, final Paciente paciente) {
+	boolean detectDuplicateWarning(final String userId, final Paciente paciente) {
 		if (paciente.getName() == null || paciente.getDob() == null) {
 			return false;
 		}
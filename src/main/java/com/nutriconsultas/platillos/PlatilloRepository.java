@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -25,6 +26,14 @@ public interface PlatilloRepository extends JpaRepository<Platillo, Long> {
 
 	List<Platillo> findByUserIdIn(Collection<String> userIds);
 
+	/**
+	 * Loads platillos with their ingredientes and ingredient alimentos in a single query,
+	 * for callers that walk every ingredient of a batch of platillos.
+	 */
+	@EntityGraph(attributePaths = { "ingredientes", "ingredientes.alimento" })
+	@Query("SELECT DISTINCT p FROM Platillo p WHERE p.id IN :ids")
+	List<Platillo> findWithIngredientesByIdIn(@Param("ids") Collection<Long> ids);
+
 	@Modifying
 	@Transactional
 	@Query("delete from Ingrediente i where i.id = ?1")
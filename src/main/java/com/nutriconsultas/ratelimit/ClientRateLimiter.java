@@ -0,0 +1,68 @@
+package com.nutriconsultas.ratelimit;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+
+/**
+ * Per-client rate limiting shared by the public, mobile and AI limiters. Limits come from
+ * the named Resilience4j instance; state lives in the configured {@link RateLimitStore}
+ * rather than one registry entry per client, so key storage stays bounded.
+ */
+@Component
+public class ClientRateLimiter {
+
+	private final RateLimiterRegistry rateLimiterRegistry;
+
+	private final RateLimitStore store;
+
+	private final RateLimitMetrics metrics;
+
+	public ClientRateLimiter(final RateLimiterRegistry rateLimiterRegistry, final RateLimitStore store,
+			final RateLimitMetrics metrics) {
+		this.rateLimiterRegistry = rateLimiterRegistry;
+		this.store = store;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Runs {@code callable} after taking a permit for {@code clientKey}. Runtime
+	 * exceptions from the callable propagate unchanged; checked ones are wrapped.
+	 * @throws RequestNotPermitted when the client has no permit left
+	 */
+	public <T> T execute(final String instanceName, final String clientKey, final Callable<T> callable) {
+		acquirePermission(instanceName, clientKey);
+		try {
+			return callable.call();
+		}
+		catch (final RuntimeException ex) {
+			throw ex;
+		}
+		catch (final Exception ex) {
+			throw new IllegalStateException("Rate-limited " + instanceName + " call failed", ex);
+		}
+	}
+
+	/**
+	 * Restores the full limit for {@code clientKey}.
+	 */
+	public void reset(final String instanceName, final String clientKey) {
+		store.reset(instanceName + ":" + clientKey);
+	}
+
+	public void acquirePermission(final String instanceName, final String clientKey) {
+		final RateLimiter template = rateLimiterRegistry.rateLimiter(instanceName);
+		final RateLimitPolicy policy = RateLimitPolicy.from(template.getRateLimiterConfig());
+		final long started = System.nanoTime();
+		final boolean permitted = store.tryAcquire(instanceName + ":" + clientKey, policy);
+		metrics.recordDecision(instanceName, store.backend(), permitted, System.nanoTime() - started);
+		if (!permitted) {
+			throw RequestNotPermitted.createRequestNotPermitted(template);
+		}
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.nutriconsultas.ratelimit;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Token buckets in a concurrent map, one per key. A bucket idle for a whole period is
+ * full again, so dropping it loses nothing; a scheduled sweep removes such buckets and a
+ * hard cap evicts the least recently used ones if a burst of new keys outpaces the sweep.
+ * State is per instance: with several nodes each enforces its own limit.
+ */
+@Component
+@ConditionalOnProperty(name = "nutriconsultas.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+	private final int maxKeys;
+
+	private final Clock clock;
+
+	private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+	public InMemoryRateLimitStore(@Value("${nutriconsultas.rate-limit.memory.max-keys:100000}") final int maxKeys,
+			@Autowired(required = false) final Clock clock) {
+		this.maxKeys = Math.max(maxKeys, 1);
+		this.clock = clock != null ? clock : Clock.systemUTC();
+	}
+
+	@Override
+	public boolean tryAcquire(final String key, final RateLimitPolicy policy) {
+		final long now = clock.millis();
+		final Bucket bucket = buckets.computeIfAbsent(key, ignored -> new Bucket(policy, now));
+		final boolean permitted = bucket.tryAcquire(policy, now);
+		if (buckets.size() > maxKeys) {
+			enforceCap(now);
+		}
+		return permitted;
+	}
+
+	@Override
+	public void reset(final String key) {
+		buckets.remove(key);
+	}
+
+	@Override
+	public long keyCount() {
+		return buckets.size();
+	}
+
+	@Override
+	public String backend() {
+		return "memory";
+	}
+
+	@Scheduled(fixedDelayString = "${nutriconsultas.rate-limit.purge-interval-ms:300000}")
+	public int purgeIdle() {
+		final long now = clock.millis();
+		final int before = buckets.size();
+		buckets.values().removeIf(bucket -> bucket.isIdle(now));
+		final int removed = before - buckets.size();
+		if (removed > 0 && log.isDebugEnabled()) {
+			log.debug("Purged {} idle rate limit buckets", removed);
+		}
+		return removed;
+	}
+
+	private synchronized void enforceCap(final long now) {
+		if (buckets.size() <= maxKeys) {
+			return;
+		}
+		buckets.values().removeIf(bucket -> bucket.isIdle(now));
+		final int excess = buckets.size() - maxKeys;
+		if (excess <= 0) {
+			return;
+		}
+		buckets.entrySet()
+			.stream()
+			.sorted(Comparator.comparingLong(entry -> entry.getValue().lastSeenMillis()))
+			.limit(excess + maxKeys / 10)
+			.map(Map.Entry::getKey)
+			.toList()
+			.forEach(buckets::remove);
+		if (log.isWarnEnabled()) {
+			log.warn("Rate limit store reached {} keys; evicted least recently used buckets", maxKeys);
+		}
+	}
+
+	/**
+	 * Holds up to {@code limitForPeriod} tokens and refills continuously at
+	 * {@code limitForPeriod / period}.
+	 */
+	private static final class Bucket {
+
+		private double tokens;
+
+		private long refilledAtMillis;
+
+		private volatile long periodMillis;
+
+		private volatile long lastSeenMillis;
+
+		Bucket(final RateLimitPolicy policy, final long now) {
+			this.tokens = policy.limitForPeriod();
+			this.refilledAtMillis = now;
+			this.periodMillis = policy.period().toMillis();
+			this.lastSeenMillis = now;
+		}
+
+		synchronized boolean tryAcquire(final RateLimitPolicy policy, final long now) {
+			periodMillis = policy.period().toMillis();
+			final double ratePerMilli = (double) policy.limitForPeriod() / periodMillis;
+			final long elapsed = Math.max(now - refilledAtMillis, 0L);
+			tokens = Math.min(policy.limitForPeriod(), tokens + elapsed * ratePerMilli);
+			refilledAtMillis = now;
+			lastSeenMillis = now;
+			if (tokens >= 1.0d) {
+				tokens -= 1.0d;
+				return true;
+			}
+			return false;
+		}
+
+		boolean isIdle(final long now) {
+			return now - lastSeenMillis >= periodMillis;
+		}
+
+		long lastSeenMillis() {
+			return lastSeenMillis;
+		}
+
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.nutriconsultas.ratelimit;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fixed-window counters in {@code rate_limit_bucket}, shared by every application
+ * instance. A permit is one conditional {@code UPDATE}; the first hit of a window inserts
+ * the row, and an insert that loses a race with another node retries the update. Expired
+ * windows are purged on a schedule.
+ */
+@Component
+@ConditionalOnProperty(name = "nutriconsultas.rate-limit.store", havingValue = "jdbc")
+@Slf4j
+public class JdbcRateLimitStore implements RateLimitStore {
+
+	static final int MAX_KEY_LENGTH = 255;
+
+	private final RateLimitBucketRepository bucketRepository;
+
+	private final Clock clock;
+
+	private volatile long keyCount;
+
+	public JdbcRateLimitStore(final RateLimitBucketRepository bucketRepository,
+			@Autowired(required = false) final Clock clock) {
+		this.bucketRepository = bucketRepository;
+		this.clock = clock != null ? clock : Clock.systemUTC();
+	}
+
+	@Override
+	public boolean tryAcquire(final String key, final RateLimitPolicy policy) {
+		final long periodMillis = policy.period().toMillis();
+		final long windowStart = clock.millis() / periodMillis * periodMillis;
+		final String bucketKey = bucketKey(key, windowStart);
+		if (bucketRepository.incrementBelow(bucketKey, policy.limitForPeriod()) > 0) {
+			return true;
+		}
+		if (bucketRepository.existsById(bucketKey)) {
+			return false;
+		}
+		try {
+			bucketRepository.insertFirstHit(bucketKey, Instant.ofEpochMilli(windowStart + periodMillis));
+			return true;
+		}
+		catch (final DataIntegrityViolationException ex) {
+			return bucketRepository.incrementBelow(bucketKey, policy.limitForPeriod()) > 0;
+		}
+	}
+
+	@Override
+	public void reset(final String key) {
+		bucketRepository
+			.deleteByKeyPrefix(bucketKeyPrefix(key).replace("!", "!!").replace("%", "!%").replace("_", "!_"));
+	}
+
+	@Override
+	public long keyCount() {
+		return keyCount;
+	}
+
+	@Override
+	public String backend() {
+		return "jdbc";
+	}
+
+	@Scheduled(fixedDelayString = "${nutriconsultas.rate-limit.purge-interval-ms:300000}")
+	public int purgeExpired() {
+		try {
+			final Instant now = clock.instant();
+			final int purged = bucketRepository.deleteExpired(now);
+			keyCount = bucketRepository.countByExpiresAtAfter(now);
+			if (purged > 0 && log.isDebugEnabled()) {
+				log.debug("Purged {} expired rate limit buckets", purged);
+			}
+			return purged;
+		}
+		catch (final RuntimeException ex) {
+			log.error("Rate limit bucket purge failed", ex);
+			return 0;
+		}
+	}
+
+	/**
+	 * Keys that would not fit the column (long OAuth subjects behind a long instance
+	 * name) are replaced by their SHA-256.
+	 */
+	static String bucketKey(final String key, final long windowStart) {
+		return bucketKeyPrefix(key) + windowStart;
+	}
+
+	static String bucketKeyPrefix(final String key) {
+		// window start in epoch millis needs at most 13 digits
+		if (key.length() + 14 <= MAX_KEY_LENGTH) {
+			return key + "@";
+		}
+		try {
+			final byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+			return "sha256:" + HexFormat.of().formatHex(digest) + "@";
+		}
+		catch (final NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not available", ex);
+		}
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.nutriconsultas.ratelimit;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hit counter for one key in one fixed window; the window start is part of
+ * {@code bucketKey}, so a new window starts a new row and expired rows are purged.
+ */
+@Entity
+@Table(name = "rate_limit_bucket")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitBucket {
+
+	@Id
+	@Column(name = "bucket_key", length = 255)
+	private String bucketKey;
+
+	@Column(nullable = false)
+	private int hits;
+
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+
+}
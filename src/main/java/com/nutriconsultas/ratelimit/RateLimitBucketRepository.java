@@ -0,0 +1,48 @@
+package com.nutriconsultas.ratelimit;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes run in their own transaction so a rate limit decision commits independently of
+ * the caller and a duplicate-key insert cannot poison an outer transaction.
+ */
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, String> {
+
+	/**
+	 * Consumes a permit only while the window has one left; returns the number of rows
+	 * updated (0 when the row is missing or exhausted).
+	 */
+	@Modifying
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@Query("UPDATE RateLimitBucket b SET b.hits = b.hits + 1 WHERE b.bucketKey = :key AND b.hits < :limit")
+	int incrementBelow(@Param("key") String key, @Param("limit") int limit);
+
+	@Modifying
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@Query(value = "INSERT INTO rate_limit_bucket (bucket_key, hits, expires_at) VALUES (:key, 1, :expiresAt)",
+			nativeQuery = true)
+	int insertFirstHit(@Param("key") String key, @Param("expiresAt") Instant expiresAt);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM RateLimitBucket b WHERE b.expiresAt <= :now")
+	int deleteExpired(@Param("now") Instant now);
+
+	/**
+	 * {@code prefix} must already have LIKE wildcards escaped with {@code !}.
+	 */
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM RateLimitBucket b WHERE b.bucketKey LIKE CONCAT(:prefix, '%') ESCAPE '!'")
+	int deleteByKeyPrefix(@Param("prefix") String prefix);
+
+	long countByExpiresAtAfter(Instant now);
+
+}
@@ -0,0 +1,49 @@
+package com.nutriconsultas.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer meters for rate limit decisions. Tags are the limiter instance name, outcome
+ * and backend only — never client keys.
+ */
+@Component
+public final class RateLimitMetrics {
+
+	static final String DECISIONS = "ratelimit.decisions";
+
+	static final String KEYS = "ratelimit.keys";
+
+	private static final String TAG_LIMITER = "limiter";
+
+	private static final String TAG_OUTCOME = "outcome";
+
+	private static final String TAG_BACKEND = "backend";
+
+	private final MeterRegistry meterRegistry;
+
+	public RateLimitMetrics(final MeterRegistry meterRegistry, final RateLimitStore store) {
+		this.meterRegistry = meterRegistry;
+		Gauge.builder(KEYS, store, RateLimitStore::keyCount)
+			.description("Client keys currently tracked by the rate limit store")
+			.tag(TAG_BACKEND, store.backend())
+			.register(meterRegistry);
+	}
+
+	public void recordDecision(final String limiter, final String backend, final boolean permitted,
+			final long elapsedNanos) {
+		Timer.builder(DECISIONS)
+			.description("Latency of rate limit permit decisions")
+			.tag(TAG_LIMITER, limiter)
+			.tag(TAG_OUTCOME, permitted ? "permitted" : "rejected")
+			.tag(TAG_BACKEND, backend)
+			.register(meterRegistry)
+			.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+}
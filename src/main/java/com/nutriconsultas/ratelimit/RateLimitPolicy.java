@@ -0,0 +1,26 @@
+package com.nutriconsultas.ratelimit;
+
+import java.time.Duration;
+
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+
+/**
+ * Permits per period for one limiter instance, read from the
+ * {@code resilience4j.ratelimiter.instances.*} properties.
+ */
+public record RateLimitPolicy(int limitForPeriod, Duration period) {
+
+	public RateLimitPolicy {
+		if (limitForPeriod < 1) {
+			throw new IllegalArgumentException("limitForPeriod must be positive");
+		}
+		if (period == null || period.isZero() || period.isNegative()) {
+			throw new IllegalArgumentException("period must be positive");
+		}
+	}
+
+	public static RateLimitPolicy from(final RateLimiterConfig config) {
+		return new RateLimitPolicy(config.getLimitForPeriod(), config.getLimitRefreshPeriod());
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.nutriconsultas.ratelimit;
+
+/**
+ * Backing state for per-client rate limits. Implementations must bound the keys they
+ * retain and forget a key once its limit has fully replenished.
+ */
+public interface RateLimitStore {
+
+	/**
+	 * Consumes one permit for {@code key} under {@code policy}.
+	 * @return {@code false} when the key has no permit left in the current period
+	 */
+	boolean tryAcquire(String key, RateLimitPolicy policy);
+
+	/**
+	 * Forgets {@code key}, restoring its full limit.
+	 */
+	void reset(String key);
+
+	/**
+	 * Keys currently tracked; may be an estimate refreshed on purge.
+	 */
+	long keyCount();
+
+	/**
+	 * Short backend name used as a metric tag.
+	 */
+	String backend();
+
+}
@@ -29,7 +29,6 @@ import com.nutriconsultas.paciente.PacienteDietaRepository;
 import com.nutriconsultas.paciente.PacienteService;
 import com.nutriconsultas.paciente.metrics.BodyMetricRecord;
 import com.nutriconsultas.paciente.metrics.BodyMetricRecordRepository;
-import com.nutriconsultas.paciente.metrics.BodyMetricRecordService;
 import com.nutriconsultas.profile.NutritionistBrandingHelper;
 import com.nutriconsultas.profile.NutritionistProfile;
 import com.nutriconsultas.profile.NutritionistProfileService;
@@ -111,9 +110,6 @@ public class PatientReportService {
 	@Autowired
 	private SubscriptionEntitlementService subscriptionEntitlementService;
 
-	@Autowired
-	private BodyMetricRecordService bodyMetricRecordService;
-
 	@Autowired
 	private BodyMetricRecordRepository bodyMetricRecordRepository;
 
@@ -269,7 +265,6 @@ public class PatientReportService {
 
 	private List<PatientReportChart> buildProgressCharts(@NonNull final Long pacienteId, final Date startDate,
 			final Date endDate, final List<AnthropometricMeasurement> measurements) {
-		bodyMetricRecordService.ensureBackfilled(pacienteId);
 		final List<BodyMetricRecord> allRecords = bodyMetricRecordRepository
 			.findByPacienteIdOrderByRecordedAtAsc(pacienteId);
 		final List<BodyMetricRecord> filteredRecords = PatientReportProgressChartBuilder
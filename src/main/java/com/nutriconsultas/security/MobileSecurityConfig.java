@@ -15,6 +15,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import com.nutriconsultas.mobile.PatientLinkageFilter;
 import com.nutriconsultas.mobile.filter.LocaleContextFilter;
 
+import jakarta.servlet.DispatcherType;
 import lombok.extern.slf4j.Slf4j;
 
 @Configuration
@@ -43,17 +44,18 @@ public class MobileSecurityConfig {
 			.cors(withDefaults())
 			.csrf(csrf -> csrf.disable())
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-			.authorizeHttpRequests(
-					auth -> auth.requestMatchers(HttpMethod.GET, "/rest/mobile/invitations/by-code/*/preview")
-						.permitAll()
-						.requestMatchers(HttpMethod.GET, "/rest/mobile/invitations/*/preview")
-						.permitAll()
-						.requestMatchers(HttpMethod.POST, "/rest/mobile/auth/signup")
-						.permitAll()
-						.requestMatchers(HttpMethod.POST, "/rest/mobile/auth/login")
-						.permitAll()
-						.anyRequest()
-						.authenticated())
+			.authorizeHttpRequests(auth -> auth.dispatcherTypeMatchers(DispatcherType.ASYNC)
+				.permitAll()
+				.requestMatchers(HttpMethod.GET, "/rest/mobile/invitations/by-code/*/preview")
+				.permitAll()
+				.requestMatchers(HttpMethod.GET, "/rest/mobile/invitations/*/preview")
+				.permitAll()
+				.requestMatchers(HttpMethod.POST, "/rest/mobile/auth/signup")
+				.permitAll()
+				.requestMatchers(HttpMethod.POST, "/rest/mobile/auth/login")
+				.permitAll()
+				.anyRequest()
+				.authenticated())
 			.oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.decoder(mobileJwtDecoder)))
 			.addFilterAfter(localeContextFilter, BearerTokenAuthenticationFilter.class)
 			.addFilterAfter(patientLinkageFilter, LocaleContextFilter.class);
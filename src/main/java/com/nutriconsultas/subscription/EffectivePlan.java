@@ -0,0 +1,13 @@
+package com.nutriconsultas.subscription;
+
+/**
+ * Plan tier and owning clinic currently granting entitlements to a nutritionist. Solo
+ * plans resolve to their implicit single-member clinic.
+ */
+public record EffectivePlan(PlanTier planTier, Long clinicId) {
+
+	public PlanEntitlements entitlements() {
+		return PlanEntitlements.forTier(planTier);
+	}
+
+}
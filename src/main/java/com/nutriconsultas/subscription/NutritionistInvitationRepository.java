@@ -1,8 +1,10 @@
 package com.nutriconsultas.subscription;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
@@ -13,6 +15,9 @@ public interface NutritionistInvitationRepository
 
 	Optional<NutritionistInvitation> findBySubscriptionId(Long subscriptionId);
 
+	@EntityGraph(attributePaths = "subscription")
+	List<NutritionistInvitation> findBySubscriptionIdIn(Collection<Long> subscriptionIds);
+
 	List<NutritionistInvitation> findAllByOrderByCreatedAtDesc();
 
 	Optional<NutritionistInvitation> findByEmailIgnoreCaseAndStatus(String email, InvitationStatus status);
@@ -12,24 +12,25 @@ import java.util.Set;
  */
 public final class PlanEntitlements {
 
-	public static final PlanEntitlements BASICO = new PlanEntitlements(PlanTier.BASICO, "nutriologo-basico", 10, 1,
+	public static final PlanEntitlements BASICO = new PlanEntitlements(PlanTier.BASICO, "nutriologo-basico", 10, 1, 0L,
 			EnumSet.of(Entitlement.PATIENT_MANAGEMENT, Entitlement.CREATE_PATIENT, Entitlement.DIET_PLANS,
 					Entitlement.CALENDAR, Entitlement.REPORTS_BASIC));
 
 	public static final PlanEntitlements PROFESIONAL = new PlanEntitlements(PlanTier.PROFESIONAL,
-			"nutriologo-profesional", 50, 1,
+			"nutriologo-profesional", 50, 1, 0L,
 			EnumSet.of(Entitlement.PATIENT_MANAGEMENT, Entitlement.CREATE_PATIENT, Entitlement.DIET_PLANS,
 					Entitlement.CALENDAR, Entitlement.REPORTS_BASIC, Entitlement.REPORTS_ADVANCED,
 					Entitlement.REPORTS_FULL, Entitlement.PDF_EXPORT, Entitlement.REPORTS_BRANDED));
 
 	public static final PlanEntitlements PLUS = new PlanEntitlements(PlanTier.PLUS, "nutriologo-plus", null, 1,
+			2_000_000L,
 			EnumSet.of(Entitlement.PATIENT_MANAGEMENT, Entitlement.CREATE_PATIENT, Entitlement.DIET_PLANS,
 					Entitlement.CALENDAR, Entitlement.REPORTS_BASIC, Entitlement.REPORTS_ADVANCED,
 					Entitlement.REPORTS_FULL, Entitlement.PDF_EXPORT, Entitlement.REPORTS_BRANDED,
 					Entitlement.PRIORITY_SUPPORT, Entitlement.AI_ASSISTANT));
 
 	public static final PlanEntitlements CONSULTORIO = new PlanEntitlements(PlanTier.CONSULTORIO,
-			"director-consultorio", null, 20,
+			"director-consultorio", null, 20, 10_000_000L,
 			EnumSet.of(Entitlement.PATIENT_MANAGEMENT, Entitlement.CREATE_PATIENT, Entitlement.DIET_PLANS,
 					Entitlement.CALENDAR, Entitlement.REPORTS_BASIC, Entitlement.REPORTS_ADVANCED,
 					Entitlement.REPORTS_FULL, Entitlement.PDF_EXPORT, Entitlement.REPORTS_BRANDED,
@@ -43,14 +44,17 @@ public final class PlanEntitlements {
 
 	private final int maxNutritionists;
 
+	private final long aiMonthlyTokenBudget;
+
 	private final Set<Entitlement> entitlements;
 
 	private PlanEntitlements(final PlanTier planTier, final String roleSlug, final Integer maxPatients,
-			final int maxNutritionists, final Set<Entitlement> entitlements) {
+			final int maxNutritionists, final long aiMonthlyTokenBudget, final Set<Entitlement> entitlements) {
 		this.planTier = planTier;
 		this.roleSlug = roleSlug;
 		this.maxPatients = maxPatients;
 		this.maxNutritionists = maxNutritionists;
+		this.aiMonthlyTokenBudget = aiMonthlyTokenBudget;
 		this.entitlements = Collections.unmodifiableSet(EnumSet.copyOf(entitlements));
 	}
 
@@ -73,6 +77,14 @@ public final class PlanEntitlements {
 		return maxNutritionists;
 	}
 
+	/**
+	 * OpenAI prompt plus completion tokens per UTC month, shared by every nutritionist of
+	 * the clinic; {@code 0} for plans without the AI assistant.
+	 */
+	public long getAiMonthlyTokenBudget() {
+		return aiMonthlyTokenBudget;
+	}
+
 	public Set<Entitlement> getEntitlements() {
 		return entitlements;
 	}
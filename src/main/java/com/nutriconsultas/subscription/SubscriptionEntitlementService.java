@@ -12,6 +12,12 @@ public interface SubscriptionEntitlementService {
 
 	Optional<PlanTier> getEffectivePlanTier(@NonNull String userId);
 
+	/**
+	 * Plan tier and clinic of the subscription currently granting entitlements (trial,
+	 * active or grace); empty when the user has none.
+	 */
+	Optional<EffectivePlan> getEffectivePlan(@NonNull String userId);
+
 	boolean hasEntitlement(@NonNull String userId, @NonNull Entitlement entitlement);
 
 	/**
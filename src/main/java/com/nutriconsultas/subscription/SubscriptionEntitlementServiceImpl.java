@@ -47,6 +47,16 @@ public class SubscriptionEntitlementServiceImpl implements SubscriptionEntitleme
 		return resolveAccess(userId).map(access -> access.subscription().getPlanTier());
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<EffectivePlan> getEffectivePlan(@NonNull final String userId) {
+		if (!StringUtils.hasText(userId)) {
+			return Optional.empty();
+		}
+		return resolveAccess(userId).filter(access -> grantsEntitlements(access.subscription().getStatus()))
+			.map(access -> new EffectivePlan(access.subscription().getPlanTier(), access.clinicId()));
+	}
+
 	@Override
 	@Transactional(readOnly = true)
 	public boolean hasEntitlement(@NonNull final String userId, @NonNull final Entitlement entitlement) {
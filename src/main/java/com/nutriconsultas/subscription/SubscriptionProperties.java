@@ -20,6 +20,8 @@ public class SubscriptionProperties {
 
 	private boolean lifecycleJobEnabled = true;
 
+	private int lifecycleChunkSize = 200;
+
 	private Set<Entitlement> graceDeniedEntitlements = EnumSet.of(Entitlement.CREATE_PATIENT, Entitlement.PDF_EXPORT,
 			Entitlement.USER_ADMINISTRATION);
 
@@ -53,6 +55,14 @@ public class SubscriptionProperties {
 		this.lifecycleJobEnabled = lifecycleJobEnabled;
 	}
 
+	public int getLifecycleChunkSize() {
+		return lifecycleChunkSize;
+	}
+
+	public void setLifecycleChunkSize(final int lifecycleChunkSize) {
+		this.lifecycleChunkSize = lifecycleChunkSize;
+	}
+
 	public Set<Entitlement> getGraceDeniedEntitlements() {
 		return graceDeniedEntitlements;
 	}
@@ -1,5 +1,18 @@
 package com.nutriconsultas.subscription.lifecycle;
 
-public record LifecycleRunResult(int graceTransitions, int suspendedTransitions, int remindersSent) {
+import java.time.Duration;
+
+/**
+ * Outcome of one daily lifecycle run. {@code subscriptionsScanned} counts every row read
+ * by the transition and reminder scans, so throughput stays comparable as the share of
+ * subscriptions that actually change varies from day to day.
+ */
+public record LifecycleRunResult(int graceTransitions, int suspendedTransitions, int remindersSent,
+		int subscriptionsScanned, Duration duration) {
+
+	public double subscriptionsPerSecond() {
+		final long millis = duration.toMillis();
+		return millis == 0 ? subscriptionsScanned : subscriptionsScanned * 1000.0 / millis;
+	}
 
 }
@@ -0,0 +1,170 @@
+package com.nutriconsultas.subscription.lifecycle;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import com.nutriconsultas.subscription.Subscription;
+import com.nutriconsultas.subscription.SubscriptionAuditEventType;
+import com.nutriconsultas.subscription.SubscriptionStatus;
+
+/**
+ * Set-based reads and writes for the daily lifecycle run. Subscriptions are walked in
+ * keyset chunks; each status change is one {@code UPDATE ... WHERE id IN (...)} plus one
+ * {@code INSERT ... SELECT} for its audit rows, and notification dedupe is a single
+ * anti-join against {@code subscription_notification_log}. Callers own the transaction;
+ * nothing here touches the persistence context.
+ */
+@Component
+public class SubscriptionLifecycleBulkOperations {
+
+	static final String SCHEDULED_JOB_REASON = "SCHEDULED_JOB";
+
+	private static final String IDS = "ids";
+
+	private final NamedParameterJdbcTemplate jdbc;
+
+	public SubscriptionLifecycleBulkOperations(final NamedParameterJdbcTemplate jdbc) {
+		this.jdbc = jdbc;
+	}
+
+	/**
+	 * Moves the next chunk of active subscriptions whose period ended before {@code now}
+	 * into grace. The chunk is locked while it is read so a concurrent webhook cannot
+	 * interleave with the transition.
+	 */
+	public LifecycleChunk enterGrace(final Instant now, final long afterId, final int limit) {
+		final List<Long> ids = jdbc.queryForList("SELECT id FROM subscription WHERE status = :status "
+				+ "AND period_end IS NOT NULL AND period_end < :now AND id > :afterId ORDER BY id LIMIT :limit FOR UPDATE",
+				new MapSqlParameterSource().addValue("status", SubscriptionStatus.ACTIVE.name())
+					.addValue("now", Timestamp.from(now))
+					.addValue("afterId", afterId)
+					.addValue("limit", limit),
+				Long.class);
+		if (ids.isEmpty()) {
+			return LifecycleChunk.empty();
+		}
+		transition(ids, SubscriptionStatus.ACTIVE, SubscriptionStatus.GRACE, now, "Subscription entered grace period");
+		return new LifecycleChunk(ids.size(), ids.get(ids.size() - 1), ids);
+	}
+
+	/**
+	 * Scans the next chunk of subscriptions in grace and suspends those whose grace
+	 * period has run out. Expiry depends on each row's {@code grace_period_days}, so it
+	 * is evaluated here rather than in vendor-specific date arithmetic.
+	 */
+	public LifecycleChunk suspendExpiredGrace(final Instant now, final long afterId, final int limit) {
+		final List<Map<String, Object>> rows = jdbc.queryForList(
+				"SELECT id, period_end, grace_period_days FROM subscription WHERE status = :status AND id > :afterId "
+						+ "ORDER BY id LIMIT :limit FOR UPDATE",
+				new MapSqlParameterSource().addValue("status", SubscriptionStatus.GRACE.name())
+					.addValue("afterId", afterId)
+					.addValue("limit", limit));
+		if (rows.isEmpty()) {
+			return LifecycleChunk.empty();
+		}
+		final List<Long> expired = new ArrayList<>();
+		long lastId = afterId;
+		for (final Map<String, Object> row : rows) {
+			lastId = ((Number) row.get("id")).longValue();
+			final Timestamp periodEnd = (Timestamp) row.get("period_end");
+			final int graceDays = ((Number) row.get("grace_period_days")).intValue();
+			if (periodEnd != null && !periodEnd.toInstant().plus(graceDays, ChronoUnit.DAYS).isAfter(now)) {
+				expired.add(lastId);
+			}
+		}
+		if (!expired.isEmpty()) {
+			transition(expired, SubscriptionStatus.GRACE, SubscriptionStatus.SUSPENDED, now,
+					"Subscription suspended after grace period");
+		}
+		return new LifecycleChunk(rows.size(), lastId, expired);
+	}
+
+	/**
+	 * Next chunk of subscriptions with {@code status} whose period ends inside the
+	 * window.
+	 */
+	public List<Long> findExpiringBetween(final SubscriptionStatus status, final Instant windowStart,
+			final Instant windowEnd, final long afterId, final int limit) {
+		return jdbc.queryForList("SELECT id FROM subscription WHERE status = :status AND period_end IS NOT NULL "
+				+ "AND period_end >= :windowStart AND period_end < :windowEnd AND id > :afterId ORDER BY id LIMIT :limit",
+				new MapSqlParameterSource().addValue("status", status.name())
+					.addValue("windowStart", Timestamp.from(windowStart))
+					.addValue("windowEnd", Timestamp.from(windowEnd))
+					.addValue("afterId", afterId)
+					.addValue("limit", limit),
+				Long.class);
+	}
+
+	/**
+	 * Keeps only the subscriptions that have a period end and no log entry yet for
+	 * {@code notificationType} and that period end.
+	 */
+	public List<Long> findUnnotified(final Collection<Long> subscriptionIds,
+			final SubscriptionNotificationType notificationType) {
+		if (subscriptionIds.isEmpty()) {
+			return List.of();
+		}
+		return jdbc.queryForList("SELECT s.id FROM subscription s WHERE s.id IN (:ids) AND s.period_end IS NOT NULL "
+				+ "AND NOT EXISTS (SELECT 1 FROM subscription_notification_log l WHERE l.subscription_id = s.id "
+				+ "AND l.notification_type = :type AND l.period_end_snapshot = s.period_end) ORDER BY s.id",
+				new MapSqlParameterSource(IDS, subscriptionIds).addValue("type", notificationType.name()), Long.class);
+	}
+
+	public void recordNotificationsSent(final List<Subscription> subscriptions,
+			final SubscriptionNotificationType notificationType, final Instant sentAt) {
+		if (subscriptions.isEmpty()) {
+			return;
+		}
+		final SqlParameterSource[] batch = subscriptions.stream()
+			.map(subscription -> new MapSqlParameterSource().addValue("subscriptionId", subscription.getId())
+				.addValue("type", notificationType.name())
+				.addValue("periodEnd", Timestamp.from(subscription.getPeriodEnd()))
+				.addValue("sentAt", Timestamp.from(sentAt)))
+			.toArray(SqlParameterSource[]::new);
+		jdbc.batchUpdate("INSERT INTO subscription_notification_log "
+				+ "(subscription_id, notification_type, period_end_snapshot, sent_at) "
+				+ "VALUES (:subscriptionId, :type, :periodEnd, :sentAt)", batch);
+	}
+
+	private void transition(final List<Long> ids, final SubscriptionStatus from, final SubscriptionStatus to,
+			final Instant now, final String details) {
+		final MapSqlParameterSource params = new MapSqlParameterSource(IDS, ids).addValue("from", from.name())
+			.addValue("to", to.name())
+			.addValue("now", Timestamp.from(now))
+			.addValue("eventType", SubscriptionAuditEventType.STATE_TRANSITION.name())
+			.addValue("reason", SCHEDULED_JOB_REASON)
+			.addValue("details", details);
+		jdbc.update("UPDATE subscription SET status = :to, updated_at = :now WHERE id IN (:ids)", params);
+		jdbc.update("INSERT INTO subscription_audit_event "
+				+ "(subscription_id, event_type, previous_status, new_status, reason_code, details, created_at) "
+				+ "SELECT id, :eventType, :from, :to, :reason, :details, :now FROM subscription WHERE id IN (:ids)",
+				params);
+	}
+
+	/**
+	 * One chunk of the lifecycle scan: rows read, the cursor to continue after, and the
+	 * subscriptions whose status changed.
+	 */
+	public record LifecycleChunk(int scanned, long lastId, List<Long> transitionedIds) {
+
+		static LifecycleChunk empty() {
+			return new LifecycleChunk(0, 0L, List.of());
+		}
+
+		public boolean isEmpty() {
+			return scanned == 0;
+		}
+
+	}
+
+}
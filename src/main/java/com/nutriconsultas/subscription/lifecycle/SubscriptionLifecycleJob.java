@@ -5,22 +5,47 @@ import java.time.Instant;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.nutriconsultas.jobs.ClusterJob;
+import com.nutriconsultas.jobs.ClusterJobContext;
+import com.nutriconsultas.jobs.ClusterJobRunner;
+import com.nutriconsultas.jobs.ClusterJobTrigger;
 import com.nutriconsultas.subscription.SubscriptionProperties;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Daily subscription lifecycle run. Every instance fires the cron; the
+ * {@link ClusterJobRunner} lease lets only one of them do the work. Transitions and
+ * reminders are idempotent, so a run that takes over from a dead instance simply starts
+ * over.
+ */
 @Component
 @Slf4j
-public class SubscriptionLifecycleJob {
+public class SubscriptionLifecycleJob implements ClusterJob {
+
+	static final String JOB_NAME = "subscription-lifecycle";
 
 	private final SubscriptionLifecycleService lifecycleService;
 
 	private final SubscriptionProperties subscriptionProperties;
 
+	private final ClusterJobRunner jobRunner;
+
 	public SubscriptionLifecycleJob(final SubscriptionLifecycleService lifecycleService,
-			final SubscriptionProperties subscriptionProperties) {
+			final SubscriptionProperties subscriptionProperties, final ClusterJobRunner jobRunner) {
 		this.lifecycleService = lifecycleService;
 		this.subscriptionProperties = subscriptionProperties;
+		this.jobRunner = jobRunner;
+	}
+
+	@Override
+	public String name() {
+		return JOB_NAME;
+	}
+
+	@Override
+	public void run(final ClusterJobContext context) {
+		lifecycleService.runDailyLifecycle(Instant.now(), context::heartbeat);
 	}
 
 	@Scheduled(cron = "${nutriconsultas.subscription.lifecycle-job-cron:0 0 6 * * *}", zone = "America/Mexico_City")
@@ -29,7 +54,7 @@ public class SubscriptionLifecycleJob {
 			return;
 		}
 		try {
-			lifecycleService.runDailyLifecycle(Instant.now());
+			jobRunner.run(this, ClusterJobTrigger.SCHEDULED, null);
 		}
 		catch (RuntimeException ex) {
 			log.error("Subscription lifecycle job failed", ex);
@@ -1,12 +1,15 @@
 package com.nutriconsultas.subscription.lifecycle;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
-import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.nutriconsultas.subscription.Subscription;
 import com.nutriconsultas.subscription.SubscriptionAuditEvent;
@@ -15,6 +18,7 @@ import com.nutriconsultas.subscription.SubscriptionAuditEventType;
 import com.nutriconsultas.subscription.SubscriptionProperties;
 import com.nutriconsultas.subscription.SubscriptionRepository;
 import com.nutriconsultas.subscription.SubscriptionStatus;
+import com.nutriconsultas.subscription.lifecycle.SubscriptionLifecycleBulkOperations.LifecycleChunk;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,44 +34,88 @@ public class SubscriptionLifecycleService {
 
 	private final SubscriptionProperties subscriptionProperties;
 
+	private final SubscriptionLifecycleBulkOperations bulkOperations;
+
+	private final TransactionTemplate transactions;
+
 	public SubscriptionLifecycleService(final SubscriptionRepository subscriptionRepository,
 			final SubscriptionAuditEventRepository auditEventRepository,
 			final SubscriptionNotificationService notificationService,
-			final SubscriptionProperties subscriptionProperties) {
+			final SubscriptionProperties subscriptionProperties,
+			final SubscriptionLifecycleBulkOperations bulkOperations, final TransactionTemplate transactions) {
 		this.subscriptionRepository = subscriptionRepository;
 		this.auditEventRepository = auditEventRepository;
 		this.notificationService = notificationService;
 		this.subscriptionProperties = subscriptionProperties;
+		this.bulkOperations = bulkOperations;
+		this.transactions = transactions;
 	}
 
-	@Transactional
+	/**
+	 * Runs the daily transitions and reminders in keyset chunks of
+	 * {@link SubscriptionProperties#getLifecycleChunkSize()} subscriptions. Each status
+	 * chunk commits on its own, so a failure part-way keeps the work already done and the
+	 * next run picks up the rest. Notifications for a chunk are sent after it commits.
+	 */
 	public LifecycleRunResult runDailyLifecycle(final Instant now) {
-		int graceTransitions = 0;
-		int suspendedTransitions = 0;
-		int remindersSent = 0;
-
-		for (final Subscription subscription : subscriptionRepository
-			.findByStatusAndPeriodEndBefore(SubscriptionStatus.ACTIVE, now)) {
-			transitionToGrace(subscription, "SCHEDULED_JOB");
-			graceTransitions++;
+		return runDailyLifecycle(now, () -> {
+		});
+	}
+
+	/**
+	 * Same as {@link #runDailyLifecycle(Instant)}, calling {@code afterChunk} once each
+	 * chunk is done so a lease holder can heartbeat.
+	 */
+	public LifecycleRunResult runDailyLifecycle(final Instant now, final Runnable afterChunk) {
+		final long startedAt = System.nanoTime();
+		final int chunkSize = Math.max(subscriptionProperties.getLifecycleChunkSize(), 1);
+		final RunCounters counters = new RunCounters();
+
+		long cursor = 0L;
+		while (true) {
+			final long afterId = cursor;
+			final LifecycleChunk chunk = transactions
+				.execute(status -> bulkOperations.enterGrace(now, afterId, chunkSize));
+			if (chunk == null || chunk.isEmpty()) {
+				break;
+			}
+			counters.scanned += chunk.scanned();
+			counters.grace += chunk.transitionedIds().size();
+			notificationService.sendPending(chunk.transitionedIds(), SubscriptionNotificationType.GRACE_PERIOD_ENTERED,
+					now);
+			cursor = chunk.lastId();
+			afterChunk.run();
 		}
 
-		for (final Subscription subscription : subscriptionRepository.findByStatus(SubscriptionStatus.GRACE)) {
-			if (isGraceExpired(subscription, now)) {
-				transitionToSuspended(subscription, "SCHEDULED_JOB");
-				suspendedTransitions++;
+		cursor = 0L;
+		while (true) {
+			final long afterId = cursor;
+			final LifecycleChunk chunk = transactions
+				.execute(status -> bulkOperations.suspendExpiredGrace(now, afterId, chunkSize));
+			if (chunk == null || chunk.isEmpty()) {
+				break;
 			}
+			counters.scanned += chunk.scanned();
+			counters.suspended += chunk.transitionedIds().size();
+			cursor = chunk.lastId();
+			afterChunk.run();
 		}
 
 		for (final int daysBefore : subscriptionProperties.getExpiryReminderDays()) {
-			remindersSent += sendExpiryRemindersForDay(now, daysBefore);
+			sendExpiryRemindersForDay(now, daysBefore, chunkSize, counters, afterChunk);
 		}
 
+		final LifecycleRunResult result = new LifecycleRunResult(counters.grace, counters.suspended, counters.reminders,
+				counters.scanned, Duration.ofNanos(System.nanoTime() - startedAt));
 		if (log.isInfoEnabled()) {
-			log.info("Subscription lifecycle job completed: grace={}, suspended={}, reminders={}", graceTransitions,
-					suspendedTransitions, remindersSent);
+			log.info(
+					"Subscription lifecycle job completed: grace={}, suspended={}, reminders={}, scanned={}, "
+							+ "durationMs={}, subscriptionsPerSecond={}",
+					result.graceTransitions(), result.suspendedTransitions(), result.remindersSent(),
+					result.subscriptionsScanned(), result.duration().toMillis(),
+					String.format(Locale.ROOT, "%.1f", result.subscriptionsPerSecond()));
 		}
-		return new LifecycleRunResult(graceTransitions, suspendedTransitions, remindersSent);
+		return result;
 	}
 
 	@Transactional
@@ -105,46 +153,26 @@ public class SubscriptionLifecycleService {
 		return saved;
 	}
 
-	private int sendExpiryRemindersForDay(final Instant now, final int daysBefore) {
+	private void sendExpiryRemindersForDay(final Instant now, final int daysBefore, final int chunkSize,
+			final RunCounters counters, final Runnable afterChunk) {
+		final SubscriptionNotificationType type = notificationTypeForDays(daysBefore);
 		final LocalDate targetDay = LocalDate.ofInstant(now, ZoneOffset.UTC).plusDays(daysBefore);
 		final Instant windowStart = targetDay.atStartOfDay().toInstant(ZoneOffset.UTC);
 		final Instant windowEnd = targetDay.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
-		int sent = 0;
-		for (final Subscription subscription : subscriptionRepository
-			.findActiveExpiringBetween(SubscriptionStatus.ACTIVE, windowStart, windowEnd)) {
-			final SubscriptionNotificationType type = notificationTypeForDays(daysBefore);
-			if (notificationService.sendIfNotAlreadySent(subscription, type, subscription.getPeriodEnd())) {
-				sent++;
+		long cursor = 0L;
+		List<Long> candidates;
+		do {
+			candidates = bulkOperations.findExpiringBetween(SubscriptionStatus.ACTIVE, windowStart, windowEnd, cursor,
+					chunkSize);
+			if (candidates.isEmpty()) {
+				break;
 			}
+			counters.scanned += candidates.size();
+			counters.reminders += notificationService.sendPending(candidates, type, now);
+			cursor = candidates.get(candidates.size() - 1);
+			afterChunk.run();
 		}
-		return sent;
-	}
-
-	private void transitionToGrace(final Subscription subscription, final String reasonCode) {
-		final SubscriptionStatus previousStatus = subscription.getStatus();
-		subscription.setStatus(SubscriptionStatus.GRACE);
-		subscriptionRepository.save(subscription);
-		recordAudit(subscription, null, previousStatus, SubscriptionAuditEventType.STATE_TRANSITION, reasonCode,
-				"Subscription entered grace period");
-		notificationService.sendIfNotAlreadySent(subscription, SubscriptionNotificationType.GRACE_PERIOD_ENTERED,
-				subscription.getPeriodEnd());
-	}
-
-	private void transitionToSuspended(final Subscription subscription, final String reasonCode) {
-		final SubscriptionStatus previousStatus = subscription.getStatus();
-		subscription.setStatus(SubscriptionStatus.SUSPENDED);
-		subscriptionRepository.save(subscription);
-		recordAudit(subscription, null, previousStatus, SubscriptionAuditEventType.STATE_TRANSITION, reasonCode,
-				"Subscription suspended after grace period");
-	}
-
-	private static boolean isGraceExpired(final Subscription subscription, final Instant now) {
-		if (subscription.getPeriodEnd() == null) {
-			return false;
-		}
-		final Instant graceEndsAt = subscription.getPeriodEnd()
-			.plus(subscription.getGracePeriodDays(), ChronoUnit.DAYS);
-		return !graceEndsAt.isAfter(now);
+		while (candidates.size() == chunkSize);
 	}
 
 	private void recordAudit(final Subscription subscription, final String actorUserId,
@@ -161,6 +189,18 @@ public class SubscriptionLifecycleService {
 		auditEventRepository.save(auditEvent);
 	}
 
+	private static final class RunCounters {
+
+		private int grace;
+
+		private int suspended;
+
+		private int reminders;
+
+		private int scanned;
+
+	}
+
 	private static SubscriptionNotificationType notificationTypeForDays(final int daysBefore) {
 		return switch (daysBefore) {
 			case 7 -> SubscriptionNotificationType.EXPIRY_REMINDER_7_DAYS;
@@ -1,15 +1,22 @@
 package com.nutriconsultas.subscription.lifecycle;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 import com.nutriconsultas.subscription.NutritionistInvitation;
 import com.nutriconsultas.subscription.NutritionistInvitationRepository;
 import com.nutriconsultas.subscription.Subscription;
+import com.nutriconsultas.subscription.SubscriptionRepository;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -17,53 +24,91 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SubscriptionNotificationService {
 
-	private final SubscriptionNotificationLogRepository notificationLogRepository;
+	private final SubscriptionLifecycleBulkOperations bulkOperations;
+
+	private final SubscriptionRepository subscriptionRepository;
 
 	private final SubscriptionNotificationEmailSender emailSender;
 
 	private final NutritionistInvitationRepository invitationRepository;
 
-	public SubscriptionNotificationService(final SubscriptionNotificationLogRepository notificationLogRepository,
-			final SubscriptionNotificationEmailSender emailSender,
-			final NutritionistInvitationRepository invitationRepository) {
-		this.notificationLogRepository = notificationLogRepository;
+	private final TransactionTemplate transactions;
+
+	private final Executor notificationExecutor;
+
+	public SubscriptionNotificationService(final SubscriptionLifecycleBulkOperations bulkOperations,
+			final SubscriptionRepository subscriptionRepository, final SubscriptionNotificationEmailSender emailSender,
+			final NutritionistInvitationRepository invitationRepository, final TransactionTemplate transactions,
+			@Qualifier("subscriptionNotificationExecutor") final Executor notificationExecutor) {
+		this.bulkOperations = bulkOperations;
+		this.subscriptionRepository = subscriptionRepository;
 		this.emailSender = emailSender;
 		this.invitationRepository = invitationRepository;
+		this.transactions = transactions;
+		this.notificationExecutor = notificationExecutor;
 	}
 
-	@Transactional
-	public boolean sendIfNotAlreadySent(final Subscription subscription,
-			final SubscriptionNotificationType notificationType, final Instant periodEndSnapshot) {
-		if (periodEndSnapshot == null) {
-			return false;
+	/**
+	 * Sends {@code notificationType} to every candidate that has not received it for its
+	 * current period end. Emails go out in parallel on the bounded notification executor;
+	 * only subscriptions whose emails all succeeded are logged, so failures are retried
+	 * on the next run.
+	 * @return number of subscriptions notified
+	 */
+	public int sendPending(final List<Long> candidateIds, final SubscriptionNotificationType notificationType,
+			final Instant now) {
+		final List<Long> pendingIds = bulkOperations.findUnnotified(candidateIds, notificationType);
+		if (pendingIds.isEmpty()) {
+			return 0;
 		}
-		if (notificationLogRepository.existsBySubscriptionAndNotificationTypeAndPeriodEndSnapshot(subscription,
-				notificationType, periodEndSnapshot)) {
-			return false;
+		final Map<Long, List<String>> recipients = resolveNotificationRecipientEmails(pendingIds);
+		final List<CompletableFuture<Subscription>> dispatches = new ArrayList<>(pendingIds.size());
+		for (final Subscription subscription : subscriptionRepository.findAllById(pendingIds)) {
+			final List<String> emails = recipients.getOrDefault(subscription.getId(), List.of());
+			dispatches.add(CompletableFuture.supplyAsync(() -> send(subscription, emails, notificationType),
+					notificationExecutor));
+		}
+		final List<Subscription> sent = dispatches.stream()
+			.map(CompletableFuture::join)
+			.filter(subscription -> subscription != null)
+			.toList();
+		transactions
+			.executeWithoutResult(status -> bulkOperations.recordNotificationsSent(sent, notificationType, now));
+		if (log.isDebugEnabled()) {
+			log.debug("Subscription notifications sent: type={}, sent={}, pending={}", notificationType, sent.size(),
+					pendingIds.size());
 		}
-		final List<String> recipients = resolveNotificationRecipientEmails(subscription);
-		for (final String recipientEmail : recipients) {
-			if (StringUtils.hasText(recipientEmail)) {
-				emailSender.sendNotification(recipientEmail, subscription, notificationType);
+		return sent.size();
+	}
+
+	/**
+	 * Returns the subscription when every email was handed to the sender, {@code null}
+	 * otherwise.
+	 */
+	private Subscription send(final Subscription subscription, final List<String> recipients,
+			final SubscriptionNotificationType notificationType) {
+		try {
+			for (final String recipientEmail : recipients) {
+				if (StringUtils.hasText(recipientEmail)) {
+					emailSender.sendNotification(recipientEmail, subscription, notificationType);
+				}
 			}
+			return subscription;
 		}
-		final SubscriptionNotificationLog logEntry = new SubscriptionNotificationLog();
-		logEntry.setSubscription(subscription);
-		logEntry.setNotificationType(notificationType);
-		logEntry.setPeriodEndSnapshot(periodEndSnapshot);
-		notificationLogRepository.save(logEntry);
-		if (log.isDebugEnabled()) {
-			log.debug("Subscription notification sent: subscriptionId={}, type={}", subscription.getId(),
-					notificationType);
+		catch (RuntimeException ex) {
+			if (log.isWarnEnabled()) {
+				log.warn("Subscription notification failed: subscriptionId={}, type={}", subscription.getId(),
+						notificationType, ex);
+			}
+			return null;
 		}
-		return true;
 	}
 
-	private List<String> resolveNotificationRecipientEmails(final Subscription subscription) {
-		return invitationRepository.findBySubscriptionId(subscription.getId())
-			.map(NutritionistInvitation::getEmail)
+	private Map<Long, List<String>> resolveNotificationRecipientEmails(final List<Long> subscriptionIds) {
+		return invitationRepository.findBySubscriptionIdIn(subscriptionIds)
 			.stream()
-			.toList();
+			.collect(Collectors.groupingBy(invitation -> invitation.getSubscription().getId(),
+					Collectors.mapping(NutritionistInvitation::getEmail, Collectors.toList())));
 	}
 
 }
@@ -0,0 +1,296 @@
+package com.nutriconsultas.subscription.maintenance;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.nutriconsultas.util.LogRedaction;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads a backup written by {@link MaintenanceBackupWriter} token by token and inserts
+ * the rows back with batched statements. Each tenant is restored in its own transaction,
+ * so a conflict (for example a tenant that was never purged) leaves that tenant
+ * untouched: it is reported in {@link RestoreSummary#getFailedTenants()} and the restore
+ * moves on to the next one. A malformed backup stops the whole restore.
+ */
+@Lazy
+@Service
+@Slf4j
+public class MaintenanceBackupRestorer {
+
+	static final int BATCH_SIZE = 500;
+
+	private static final int GZIP_BUFFER_BYTES = 64 * 1024;
+
+	private static final Pattern COLUMN_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+	private final JdbcTemplate jdbc;
+
+	private final TransactionTemplate transactions;
+
+	private final JsonFactory jsonFactory = new JsonFactory();
+
+	public MaintenanceBackupRestorer(final JdbcTemplate jdbc, final TransactionTemplate transactions) {
+		this.jdbc = jdbc;
+		this.transactions = transactions;
+	}
+
+	/**
+	 * Restores every tenant in the backup, or only {@code userId} when given, and clears
+	 * the purge marker on their subscriptions.
+	 */
+	public RestoreSummary restore(final InputStream in, @Nullable final String userId) throws IOException {
+		return restore(in, userId, new RestoreSummary());
+	}
+
+	/**
+	 * Same as {@link #restore(InputStream, String)}, recording into {@code summary} as it
+	 * goes so tenants already committed are known even when the restore is aborted.
+	 */
+	public RestoreSummary restore(final InputStream in, @Nullable final String userId, final RestoreSummary summary)
+			throws IOException {
+		try (GZIPInputStream gzip = new GZIPInputStream(StreamUtils.nonClosing(in), GZIP_BUFFER_BYTES);
+				JsonParser parser = jsonFactory.createParser(gzip)) {
+			expect(parser.nextToken(), JsonToken.START_OBJECT);
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				final String field = parser.currentName();
+				parser.nextToken();
+				if ("schemaVersion".equals(field)) {
+					if (parser.getIntValue() != MaintenanceBackupWriter.SCHEMA_VERSION) {
+						throw new IllegalArgumentException("Unsupported backup schema version " + parser.getIntValue());
+					}
+				}
+				else if ("tenants".equals(field)) {
+					expect(parser.currentToken(), JsonToken.START_ARRAY);
+					while (parser.nextToken() == JsonToken.START_OBJECT) {
+						restoreTenant(parser, userId, summary);
+					}
+				}
+				else {
+					parser.skipChildren();
+				}
+			}
+			return summary;
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	private void restoreTenant(final JsonParser parser, @Nullable final String onlyUserId, final RestoreSummary summary)
+			throws IOException {
+		String tenantUserId = null;
+		Long subscriptionId = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			final String field = parser.currentName();
+			final JsonToken value = parser.nextToken();
+			switch (field) {
+				case "userId" -> tenantUserId = parser.getText();
+				case "subscriptionId" -> subscriptionId = value == JsonToken.VALUE_NULL ? null : parser.getLongValue();
+				case "tables" -> {
+					if (onlyUserId != null && !onlyUserId.equals(tenantUserId)) {
+						parser.skipChildren();
+					}
+					else {
+						restoreTenantTables(parser, tenantUserId, subscriptionId, summary);
+					}
+				}
+				default -> parser.skipChildren();
+			}
+		}
+	}
+
+	private void restoreTenantTables(final JsonParser parser, final String tenantUserId,
+			@Nullable final Long purgedSubscriptionId, final RestoreSummary summary) throws IOException {
+		final JsonStreamContext tenantContext = parser.getParsingContext().getParent();
+		try {
+			final long rows = transactions.execute(status -> {
+				final long restored = restoreTables(parser);
+				if (purgedSubscriptionId != null) {
+					jdbc.update("UPDATE subscription SET tenant_purged_at = NULL WHERE id = ?", purgedSubscriptionId);
+				}
+				return restored;
+			});
+			summary.tenants.add(tenantUserId);
+			summary.rows += rows;
+		}
+		catch (final DataAccessException ex) {
+			summary.failedTenants.add(tenantUserId);
+			if (log.isWarnEnabled()) {
+				log.warn("Could not restore tenant {}; it was left untouched", LogRedaction.redactUserId(tenantUserId),
+						ex);
+			}
+			// Skip the rest of this tenant's tables.
+			while (parser.getParsingContext() != tenantContext) {
+				if (parser.nextToken() == null) {
+					throw new IllegalArgumentException("Malformed backup: truncated tenant tables");
+				}
+			}
+		}
+	}
+
+	private long restoreTables(final JsonParser parser) {
+		try {
+			expect(parser.currentToken(), JsonToken.START_ARRAY);
+			long restored = 0;
+			while (parser.nextToken() == JsonToken.START_OBJECT) {
+				restored += restoreTable(parser);
+			}
+			return restored;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private long restoreTable(final JsonParser parser) throws IOException {
+		String table = null;
+		final List<String> columns = new ArrayList<>();
+		final List<Integer> types = new ArrayList<>();
+		long restored = 0;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			final String field = parser.currentName();
+			parser.nextToken();
+			switch (field) {
+				case "table" -> {
+					table = parser.getText();
+					if (!TenantBackupTables.isKnown(table)) {
+						throw new IllegalArgumentException("Backup references unknown table " + table);
+					}
+				}
+				case "columns" -> readColumns(parser, columns, types);
+				case "rows" -> restored = insertRows(parser, table, columns, types);
+				default -> parser.skipChildren();
+			}
+		}
+		return restored;
+	}
+
+	private static void readColumns(final JsonParser parser, final List<String> columns, final List<Integer> types)
+			throws IOException {
+		while (parser.nextToken() == JsonToken.START_OBJECT) {
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				final String field = parser.currentName();
+				parser.nextToken();
+				if ("name".equals(field)) {
+					final String name = parser.getText();
+					if (!COLUMN_NAME.matcher(name).matches()) {
+						throw new IllegalArgumentException("Backup references invalid column " + name);
+					}
+					columns.add(name);
+				}
+				else if ("type".equals(field)) {
+					types.add(parser.getIntValue());
+				}
+			}
+		}
+	}
+
+	private long insertRows(final JsonParser parser, final String table, final List<String> columns,
+			final List<Integer> types) throws IOException {
+		if (table == null || columns.isEmpty() || columns.size() != types.size()) {
+			throw new IllegalArgumentException("Backup table entry is missing its table or columns");
+		}
+		final String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+				+ String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+		final int[] argTypes = types.stream().mapToInt(Integer::intValue).toArray();
+		final List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+		long restored = 0;
+		while (parser.nextToken() == JsonToken.START_ARRAY) {
+			final Object[] row = new Object[argTypes.length];
+			for (int i = 0; i < argTypes.length; i++) {
+				row[i] = readValue(parser, parser.nextToken(), argTypes[i]);
+			}
+			expect(parser.nextToken(), JsonToken.END_ARRAY);
+			batch.add(row);
+			if (batch.size() == BATCH_SIZE) {
+				jdbc.batchUpdate(sql, batch, argTypes);
+				restored += batch.size();
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			jdbc.batchUpdate(sql, batch, argTypes);
+			restored += batch.size();
+		}
+		return restored;
+	}
+
+	private static Object readValue(final JsonParser parser, final JsonToken token, final int type) throws IOException {
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		return switch (type) {
+			case Types.BIT, Types.BOOLEAN -> parser.getBooleanValue();
+			case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> parser.getLongValue();
+			case Types.REAL, Types.FLOAT, Types.DOUBLE -> parser.getDoubleValue();
+			case Types.NUMERIC, Types.DECIMAL -> parser.getDecimalValue();
+			case Types.DATE -> Date.valueOf(LocalDate.parse(parser.getText()));
+			case Types.TIME -> Time.valueOf(LocalTime.parse(parser.getText()));
+			case Types.TIMESTAMP -> Timestamp.valueOf(LocalDateTime.parse(parser.getText()));
+			case Types.TIMESTAMP_WITH_TIMEZONE -> OffsetDateTime.parse(parser.getText());
+			case Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB -> parser.getBinaryValue();
+			default -> parser.getText();
+		};
+	}
+
+	private static void expect(final JsonToken actual, final JsonToken expected) {
+		if (actual != expected) {
+			throw new IllegalArgumentException("Malformed backup: expected " + expected + " but found " + actual);
+		}
+	}
+
+	/**
+	 * Tenants restored, the total number of rows inserted for them, and tenants left
+	 * untouched because their rows conflicted with existing data.
+	 */
+	public static final class RestoreSummary {
+
+		private final List<String> tenants = new ArrayList<>();
+
+		private final List<String> failedTenants = new ArrayList<>();
+
+		private long rows;
+
+		public List<String> getTenants() {
+			return tenants;
+		}
+
+		public long getRows() {
+			return rows;
+		}
+
+		public List<String> getFailedTenants() {
+			return failedTenants;
+		}
+
+	}
+
+}
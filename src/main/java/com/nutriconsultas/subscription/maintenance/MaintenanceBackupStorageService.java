@@ -1,10 +1,23 @@
 package com.nutriconsultas.subscription.maintenance;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Optional;
 
 public interface MaintenanceBackupStorageService {
 
-	void uploadBackup(String s3Key, byte[] gzippedPayload);
+	/**
+	 * Streams the object produced by {@code writer} to {@code s3Key}. The object only
+	 * becomes visible if the writer returns normally.
+	 */
+	void writeBackup(String s3Key, BackupWriter writer);
+
+	/**
+	 * Hands the stored object to {@code reader} as a stream; the stream is closed
+	 * afterwards.
+	 */
+	<T> T readBackup(String s3Key, BackupReader<T> reader);
 
 	Optional<String> createPresignedDownloadUrl(String s3Key);
 
@@ -12,4 +25,18 @@ public interface MaintenanceBackupStorageService {
 
 	boolean backupExists(String s3Key);
 
+	@FunctionalInterface
+	interface BackupWriter {
+
+		void write(OutputStream out) throws IOException;
+
+	}
+
+	@FunctionalInterface
+	interface BackupReader<T> {
+
+		T read(InputStream in) throws IOException;
+
+	}
+
 }
@@ -1,26 +1,28 @@
 package com.nutriconsultas.subscription.maintenance;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
-import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
+@Lazy
 @Service
 @Slf4j
 public class MaintenanceBackupStorageServiceImpl implements MaintenanceBackupStorageService {
@@ -46,23 +48,41 @@ public class MaintenanceBackupStorageServiceImpl implements MaintenanceBackupSto
 	}
 
 	@Override
-	public void uploadBackup(final String s3Key, final byte[] gzippedPayload) {
+	public void writeBackup(final String s3Key, final BackupWriter writer) {
 		try (S3Client client = createClient()) {
-			final PutObjectRequest request = PutObjectRequest.builder()
-				.bucket(bucketName)
-				.key(s3Key)
-				.contentType("application/gzip")
-				.build();
-			client.putObject(request, RequestBody.fromBytes(gzippedPayload));
+			final S3MultipartOutputStream upload = new S3MultipartOutputStream(client, bucketName, s3Key,
+					"application/gzip", S3MultipartOutputStream.DEFAULT_PART_SIZE);
+			try {
+				writer.write(upload);
+				upload.close();
+			}
+			catch (IOException | RuntimeException ex) {
+				upload.abort();
+				if (log.isWarnEnabled()) {
+					log.warn("Maintenance backup upload failed for key={}", s3Key);
+				}
+				if (log.isDebugEnabled()) {
+					log.debug("Maintenance backup upload failure", ex);
+				}
+				throw new MaintenanceBackupException("Failed to upload maintenance backup", ex);
+			}
 		}
-		catch (S3Exception ex) {
+	}
+
+	@Override
+	public <T> T readBackup(final String s3Key, final BackupReader<T> reader) {
+		try (S3Client client = createClient();
+				InputStream in = client.getObject(GetObjectRequest.builder().bucket(bucketName).key(s3Key).build())) {
+			return reader.read(in);
+		}
+		catch (IOException | S3Exception ex) {
 			if (log.isWarnEnabled()) {
-				log.warn("Maintenance backup upload failed for key={}", s3Key);
+				log.warn("Maintenance backup read failed for key={}", s3Key);
 			}
 			if (log.isDebugEnabled()) {
-				log.debug("Maintenance backup upload failure", ex);
+				log.debug("Maintenance backup read failure", ex);
 			}
-			throw new MaintenanceBackupException("Failed to upload maintenance backup", ex);
+			throw new MaintenanceBackupException("Failed to read maintenance backup", ex);
 		}
 	}
 
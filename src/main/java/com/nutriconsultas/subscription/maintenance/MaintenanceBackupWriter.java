@@ -0,0 +1,213 @@
+package com.nutriconsultas.subscription.maintenance;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.nutriconsultas.subscription.maintenance.RevokedNutritionistEligibilityService.EligibleRevokedNutritionist;
+import com.nutriconsultas.subscription.maintenance.TenantBackupTables.TenantTable;
+
+/**
+ * Streams revoked tenants' rows into a gzipped JSON backup. Rows are written to the
+ * generator as the cursor advances, so memory use depends on the fetch size, not on the
+ * size of the tenant.
+ *
+ * <p>
+ * Format ({@value #SCHEMA_VERSION}): {@code {schemaVersion, runId, exportedAt, tenants:
+ * [{userId, subscriptionId, revokedAt, tables: [{table, columns: [{name, type}], rows:
+ * [[...]]}]}]}} where {@code type} is the {@link java.sql.Types} code of the column.
+ * {@link MaintenanceBackupRestorer} reads the same layout back.
+ */
+@Lazy
+@Service
+public class MaintenanceBackupWriter {
+
+	static final int SCHEMA_VERSION = 2;
+
+	static final int FETCH_SIZE = 500;
+
+	private static final int GZIP_BUFFER_BYTES = 64 * 1024;
+
+	private final NamedParameterJdbcTemplate jdbc;
+
+	private final TransactionTemplate readOnlyTransactions;
+
+	private final JsonFactory jsonFactory = new JsonFactory();
+
+	public MaintenanceBackupWriter(final DataSource dataSource, final PlatformTransactionManager transactionManager) {
+		final JdbcTemplate streaming = new JdbcTemplate(dataSource);
+		streaming.setFetchSize(FETCH_SIZE);
+		this.jdbc = new NamedParameterJdbcTemplate(streaming);
+		this.readOnlyTransactions = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactions.setReadOnly(true);
+	}
+
+	/**
+	 * Writes the backup for {@code tenants} to {@code out}. The stream is left open so
+	 * the caller decides whether to complete or discard the upload; only the gzip trailer
+	 * is written on success.
+	 */
+	public void write(final OutputStream out, final String runId, final Instant exportedAt,
+			final List<EligibleRevokedNutritionist> tenants) throws IOException {
+		try (GZIPOutputStream gzip = new GZIPOutputStream(StreamUtils.nonClosing(out), GZIP_BUFFER_BYTES);
+				JsonGenerator generator = jsonFactory.createGenerator(gzip)) {
+			generator.writeStartObject();
+			generator.writeNumberField("schemaVersion", SCHEMA_VERSION);
+			generator.writeStringField("runId", runId);
+			generator.writeStringField("exportedAt", exportedAt.toString());
+			generator.writeArrayFieldStart("tenants");
+			for (final EligibleRevokedNutritionist tenant : tenants) {
+				writeTenant(generator, tenant);
+			}
+			generator.writeEndArray();
+			generator.writeEndObject();
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	private void writeTenant(final JsonGenerator generator, final EligibleRevokedNutritionist tenant)
+			throws IOException {
+		generator.writeStartObject();
+		generator.writeStringField("userId", tenant.userId());
+		generator.writeNumberField("subscriptionId", tenant.subscriptionId());
+		generator.writeStringField("revokedAt", tenant.revokedAt() != null ? tenant.revokedAt().toString() : null);
+		generator.writeArrayFieldStart("tables");
+		// Postgres only streams a cursor inside a transaction; otherwise the driver
+		// buffers the whole result set regardless of the fetch size.
+		readOnlyTransactions.executeWithoutResult(status -> {
+			final MapSqlParameterSource params = new MapSqlParameterSource("userId", tenant.userId());
+			for (final TenantTable table : TenantBackupTables.ORDERED) {
+				jdbc.query(table.selectSql(), params, (ResultSet rs) -> {
+					writeTable(generator, table.name(), rs);
+					return null;
+				});
+			}
+		});
+		generator.writeEndArray();
+		generator.writeEndObject();
+	}
+
+	private static void writeTable(final JsonGenerator generator, final String table, final ResultSet rs)
+			throws SQLException {
+		try {
+			final ResultSetMetaData metaData = rs.getMetaData();
+			final int columnCount = metaData.getColumnCount();
+			final int[] types = new int[columnCount];
+			generator.writeStartObject();
+			generator.writeStringField("table", table);
+			generator.writeArrayFieldStart("columns");
+			for (int i = 1; i <= columnCount; i++) {
+				types[i - 1] = metaData.getColumnType(i);
+				generator.writeStartObject();
+				generator.writeStringField("name", metaData.getColumnName(i).toLowerCase(Locale.ROOT));
+				generator.writeNumberField("type", types[i - 1]);
+				generator.writeEndObject();
+			}
+			generator.writeEndArray();
+			generator.writeArrayFieldStart("rows");
+			while (rs.next()) {
+				generator.writeStartArray();
+				for (int i = 1; i <= columnCount; i++) {
+					writeValue(generator, rs, i, types[i - 1]);
+				}
+				generator.writeEndArray();
+			}
+			generator.writeEndArray();
+			generator.writeEndObject();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static void writeValue(final JsonGenerator generator, final ResultSet rs, final int column, final int type)
+			throws SQLException, IOException {
+		switch (type) {
+			case Types.BIT, Types.BOOLEAN -> {
+				final boolean value = rs.getBoolean(column);
+				writeOrNull(generator, rs, () -> generator.writeBoolean(value));
+			}
+			case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> {
+				final long value = rs.getLong(column);
+				writeOrNull(generator, rs, () -> generator.writeNumber(value));
+			}
+			case Types.REAL, Types.FLOAT, Types.DOUBLE -> {
+				final double value = rs.getDouble(column);
+				writeOrNull(generator, rs, () -> generator.writeNumber(value));
+			}
+			case Types.NUMERIC, Types.DECIMAL ->
+				writeNullable(generator, rs.getBigDecimal(column), value -> generator.writeNumber(value));
+			case Types.DATE -> writeNullable(generator, rs.getDate(column),
+					value -> generator.writeString(value.toLocalDate().toString()));
+			case Types.TIME -> writeNullable(generator, rs.getTime(column),
+					value -> generator.writeString(value.toLocalTime().toString()));
+			case Types.TIMESTAMP -> writeNullable(generator, rs.getTimestamp(column),
+					(Timestamp value) -> generator.writeString(value.toLocalDateTime().toString()));
+			case Types.TIMESTAMP_WITH_TIMEZONE -> writeNullable(generator, rs.getObject(column, OffsetDateTime.class),
+					value -> generator.writeString(value.toString()));
+			case Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB ->
+				writeNullable(generator, rs.getBytes(column), value -> generator.writeBinary(value));
+			default -> writeNullable(generator, rs.getString(column), value -> generator.writeString(value));
+		}
+	}
+
+	private static void writeOrNull(final JsonGenerator generator, final ResultSet rs, final ValueWrite write)
+			throws SQLException, IOException {
+		if (rs.wasNull()) {
+			generator.writeNull();
+		}
+		else {
+			write.run();
+		}
+	}
+
+	private static <T> void writeNullable(final JsonGenerator generator, final T value, final TypedValueWrite<T> write)
+			throws IOException {
+		if (value == null) {
+			generator.writeNull();
+		}
+		else {
+			write.accept(value);
+		}
+	}
+
+	@FunctionalInterface
+	private interface ValueWrite {
+
+		void run() throws IOException;
+
+	}
+
+	@FunctionalInterface
+	private interface TypedValueWrite<T> {
+
+		void accept(T value) throws IOException;
+
+	}
+
+}
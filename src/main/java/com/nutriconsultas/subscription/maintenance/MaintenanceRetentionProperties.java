@@ -16,4 +16,9 @@ public class MaintenanceRetentionProperties {
 
 	private int presignedUrlMinutes = 15;
 
+	/**
+	 * Root rows (patients, diets or platillos) deleted per purge transaction.
+	 */
+	private int purgeChunkSize = 100;
+
 }
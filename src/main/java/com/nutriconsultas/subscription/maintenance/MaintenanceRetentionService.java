@@ -1,10 +1,10 @@
 package com.nutriconsultas.subscription.maintenance;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.lang.Nullable;
@@ -13,10 +13,11 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import com.nutriconsultas.platform.PlatformAdminAuditService;
-import com.nutriconsultas.subscription.maintenance.MaintenanceBackupSerializer.NutritionistTenantSnapshot;
+import com.nutriconsultas.subscription.maintenance.MaintenanceBackupRestorer.RestoreSummary;
 
 import lombok.extern.slf4j.Slf4j;
 
+@Lazy
 @Service
 @Slf4j
 public class MaintenanceRetentionService {
@@ -27,7 +28,9 @@ public class MaintenanceRetentionService {
 
 	private final NutritionistTenantPurgeService tenantPurgeService;
 
-	private final MaintenanceBackupSerializer backupSerializer;
+	private final MaintenanceBackupWriter backupWriter;
+
+	private final MaintenanceBackupRestorer backupRestorer;
 
 	private final MaintenanceBackupStorageService backupStorageService;
 
@@ -37,13 +40,15 @@ public class MaintenanceRetentionService {
 
 	public MaintenanceRetentionService(final MaintenanceRunRepository maintenanceRunRepository,
 			final RevokedNutritionistEligibilityService eligibilityService,
-			final NutritionistTenantPurgeService tenantPurgeService, final MaintenanceBackupSerializer backupSerializer,
-			final MaintenanceBackupStorageService backupStorageService, final MaintenanceRetentionProperties properties,
+			final NutritionistTenantPurgeService tenantPurgeService, final MaintenanceBackupWriter backupWriter,
+			final MaintenanceBackupRestorer backupRestorer, final MaintenanceBackupStorageService backupStorageService,
+			final MaintenanceRetentionProperties properties,
 			final PlatformAdminAuditService platformAdminAuditService) {
 		this.maintenanceRunRepository = maintenanceRunRepository;
 		this.eligibilityService = eligibilityService;
 		this.tenantPurgeService = tenantPurgeService;
-		this.backupSerializer = backupSerializer;
+		this.backupWriter = backupWriter;
+		this.backupRestorer = backupRestorer;
 		this.backupStorageService = backupStorageService;
 		this.properties = properties;
 		this.platformAdminAuditService = platformAdminAuditService;
@@ -64,7 +69,11 @@ public class MaintenanceRetentionService {
 		return maintenanceRunRepository.findById(runId);
 	}
 
-	@Transactional
+	/**
+	 * Not transactional: the run row, each purge chunk and the final status commit on
+	 * their own, so a failure leaves the run marked {@code FAILED} with the checkpoint a
+	 * later run resumes from.
+	 */
 	public MaintenanceRun executeCleanup(@Nullable final String actorUserId) {
 		final MaintenanceRun run = new MaintenanceRun();
 		run.setActorUserId(actorUserId);
@@ -80,19 +89,15 @@ public class MaintenanceRetentionService {
 		}
 
 		try {
-			final List<NutritionistTenantSnapshot> snapshots = new ArrayList<>();
-			for (final RevokedNutritionistEligibilityService.EligibleRevokedNutritionist candidate : eligible) {
-				snapshots.add(tenantPurgeService.buildSnapshot(candidate));
-			}
 			final Instant exportedAt = Instant.now();
-			final byte[] backup = backupSerializer.toGzippedJson(run.getRunId(), exportedAt, snapshots);
 			final String s3Key = buildBackupKey(run.getRunId());
-			backupStorageService.uploadBackup(s3Key, backup);
+			backupStorageService.writeBackup(s3Key,
+					out -> backupWriter.write(out, run.getRunId(), exportedAt, eligible));
 			run.setS3BackupKey(s3Key);
 
 			int purgedCount = 0;
 			for (final RevokedNutritionistEligibilityService.EligibleRevokedNutritionist candidate : eligible) {
-				tenantPurgeService.purgeTenant(candidate);
+				tenantPurgeService.purgeTenant(candidate, run);
 				purgedCount++;
 			}
 			run.setPurgedUserCount(purgedCount);
@@ -134,6 +139,39 @@ public class MaintenanceRetentionService {
 		platformAdminAuditService.recordAction(actorUserId, "action=retention.backup.delete,runId=" + runId);
 	}
 
+	/**
+	 * Streams the run's backup back into the database, for every tenant in it or only
+	 * {@code userId} when given. Media files removed by the purge are not part of the
+	 * backup and stay gone.
+	 */
+	public RestoreSummary restoreBackup(final String runId, @Nullable final String userId, final String actorUserId) {
+		final MaintenanceRun run = maintenanceRunRepository.findById(runId)
+			.orElseThrow(() -> new IllegalArgumentException("Maintenance run not found"));
+		if (!StringUtils.hasText(run.getS3BackupKey())) {
+			throw new IllegalArgumentException("Run has no backup to restore");
+		}
+		final String tenantFilter = StringUtils.hasText(userId) ? userId : null;
+		final RestoreSummary summary = new RestoreSummary();
+		boolean aborted = true;
+		try {
+			backupStorageService.readBackup(run.getS3BackupKey(),
+					in -> backupRestorer.restore(in, tenantFilter, summary));
+			aborted = false;
+		}
+		finally {
+			// Tenants restored before an abort stay committed, so they are audited too.
+			platformAdminAuditService.recordAction(actorUserId,
+					"action=retention.restore,runId=" + runId + ",tenantCount=" + summary.getTenants().size()
+							+ ",failedTenantCount=" + summary.getFailedTenants().size() + ",rowCount="
+							+ summary.getRows() + (aborted ? ",aborted=true" : ""));
+		}
+		if (log.isInfoEnabled()) {
+			log.info("Maintenance backup restored: runId={}, tenantCount={}, failedTenantCount={}, rowCount={}", runId,
+					summary.getTenants().size(), summary.getFailedTenants().size(), summary.getRows());
+		}
+		return summary;
+	}
+
 	public Optional<String> resolveBackupDownloadUrl(final String runId) {
 		return maintenanceRunRepository.findById(runId)
 			.flatMap(run -> StringUtils.hasText(run.getS3BackupKey())
@@ -50,6 +50,20 @@ public class MaintenanceRun {
 	@Column(name = "error_summary", length = 500)
 	private String errorSummary;
 
+	/**
+	 * Tenant whose purge this run last advanced; together with {@link #purgePhase} and
+	 * {@link #purgeCursor} it lets a later run resume after the last committed chunk.
+	 */
+	@Column(name = "purge_user_id", length = 255)
+	private String purgeUserId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "purge_phase", length = 20)
+	private TenantPurgePhase purgePhase;
+
+	@Column(name = "purge_cursor")
+	private Long purgeCursor;
+
 	@PrePersist
 	void onCreate() {
 		if (runId == null) {
@@ -5,6 +5,9 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MaintenanceRunRepository extends JpaRepository<MaintenanceRun, String> {
 
@@ -12,4 +15,17 @@ public interface MaintenanceRunRepository extends JpaRepository<MaintenanceRun,
 
 	Page<MaintenanceRun> findAllByOrderByStartedAtDesc(Pageable pageable);
 
+	Optional<MaintenanceRun> findFirstByPurgeUserIdAndStatusOrderByStartedAtDesc(String purgeUserId,
+			MaintenanceRunStatus status);
+
+	/**
+	 * Records purge progress in the caller's transaction, so the checkpoint commits with
+	 * the chunk it describes.
+	 */
+	@Modifying
+	@Query("UPDATE MaintenanceRun r SET r.purgeUserId = :userId, r.purgePhase = :phase, r.purgeCursor = :cursor "
+			+ "WHERE r.runId = :runId")
+	int updatePurgeCheckpoint(@Param("runId") String runId, @Param("userId") String userId,
+			@Param("phase") TenantPurgePhase phase, @Param("cursor") Long cursor);
+
 }
@@ -1,5 +1,6 @@
 package com.nutriconsultas.subscription.maintenance;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
 import com.nutriconsultas.booking.NutritionistAvailabilityBlockRepository;
@@ -10,6 +11,7 @@ import com.nutriconsultas.subscription.ClinicMemberRepository;
 import com.nutriconsultas.subscription.ClinicRepository;
 import com.nutriconsultas.subscription.SubscriptionRepository;
 
+@Lazy
 @Component
 public final class NutritionistTenantAccountDependencies {
 
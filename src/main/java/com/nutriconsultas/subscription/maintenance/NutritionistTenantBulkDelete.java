@@ -0,0 +1,190 @@
+package com.nutriconsultas.subscription.maintenance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.nutriconsultas.paciente.PacientePictureSupport;
+
+/**
+ * Set-based deletes for one chunk of a revoked nutritionist's data. Each call selects the
+ * next {@code limit} root rows after a cursor and removes them together with their
+ * dependents using {@code DELETE ... WHERE ... IN (...)} statements ordered child first,
+ * so a chunk costs a fixed number of statements regardless of how much history the rows
+ * carry. Callers own the transaction; nothing here touches the persistence context.
+ */
+@Lazy
+@Component
+public class NutritionistTenantBulkDelete {
+
+	/**
+	 * Keeps bind lists for one-to-one satellite rows well under driver parameter limits.
+	 */
+	static final int MAX_IDS_PER_STATEMENT = 500;
+
+	private static final String IDS = "ids";
+
+	private static final List<String> PATIENT_HISTORY_TABLES = List.of("patient_message", "appointment_question",
+			"patient_invitation", "patient_device", "patient_change_log", "body_metric_record", "calendar_event",
+			"paciente_energy_preferences", "paciente_medical_history");
+
+	private static final Map<String, String> CLINICAL_EXAM_SATELLITES = Map.of("vital_signs_id", "vital_signs",
+			"lipid_profile_id", "lipid_profile", "blood_chemistry_id", "blood_chemistry", "liver_function_id",
+			"liver_function", "complete_blood_count_id", "complete_blood_count", "other_tests_id", "other_indicators",
+			"thyroid_panel_id", "thyroid_panel", "body_composition_id", "body_composition");
+
+	private static final Map<String, String> ANTHROPOMETRIC_SATELLITES = Map.of("body_mass_id", "body_mass",
+			"bioimpedance_id", "bioimpedance", "skinfolds_id", "skinfolds", "circumferences_id", "circumferences",
+			"diameters_id", "diameters", "body_composition_id", "body_composition");
+
+	private final NamedParameterJdbcTemplate jdbc;
+
+	public NutritionistTenantBulkDelete(final NamedParameterJdbcTemplate jdbc) {
+		this.jdbc = jdbc;
+	}
+
+	public TenantPurgeChunk deleteChunk(final TenantPurgePhase phase, final String userId, final long afterId,
+			final int limit) {
+		return switch (phase) {
+			case PATIENTS -> deletePatients(userId, afterId, limit);
+			case DIETAS -> deleteDietas(userId, afterId, limit);
+			case PLATILLOS -> deletePlatillos(userId, afterId, limit);
+			case ACCOUNT -> throw new IllegalArgumentException("Account rows are not deleted in chunks");
+		};
+	}
+
+	private TenantPurgeChunk deletePatients(final String userId, final long afterId, final int limit) {
+		final List<Map<String, Object>> rows = jdbc.queryForList(
+				"SELECT id, photo_extension, patient_auth_sub FROM paciente WHERE user_id = :userId AND id > :afterId "
+						+ "ORDER BY id LIMIT :limit",
+				cursorParams(userId, afterId, limit));
+		if (rows.isEmpty()) {
+			return TenantPurgeChunk.empty();
+		}
+		final List<Long> ids = new ArrayList<>(rows.size());
+		final List<String> photoKeys = new ArrayList<>();
+		final List<String> patientAuthSubs = new ArrayList<>();
+		for (final Map<String, Object> row : rows) {
+			final Long id = ((Number) row.get("id")).longValue();
+			ids.add(id);
+			final String extension = (String) row.get("photo_extension");
+			if (StringUtils.hasText(extension)) {
+				photoKeys.add(PacientePictureSupport.buildPhotoKey(id, extension));
+			}
+			final String patientAuthSub = (String) row.get("patient_auth_sub");
+			if (StringUtils.hasText(patientAuthSub)) {
+				patientAuthSubs.add(patientAuthSub);
+			}
+		}
+		final MapSqlParameterSource params = new MapSqlParameterSource(IDS, ids);
+		for (final String table : PATIENT_HISTORY_TABLES) {
+			jdbc.update("DELETE FROM " + table + " WHERE paciente_id IN (:ids)", params);
+		}
+		jdbc.update("DELETE FROM paciente_dieta_weekday WHERE paciente_dieta_id IN "
+				+ "(SELECT id FROM paciente_dieta WHERE paciente_id IN (:ids))", params);
+		jdbc.update("DELETE FROM paciente_dieta WHERE paciente_id IN (:ids)", params);
+		deleteDietaTrees(jdbc.queryForList("SELECT id FROM dieta WHERE paciente_id IN (:ids)", params, Long.class));
+		deleteWithSatellites("clinical_exam", CLINICAL_EXAM_SATELLITES, params);
+		deleteWithSatellites("anthropometric_measurement", ANTHROPOMETRIC_SATELLITES, params);
+		jdbc.update("DELETE FROM paciente WHERE id IN (:ids)", params);
+		return new TenantPurgeChunk(ids.get(ids.size() - 1), ids.size(), photoKeys, patientAuthSubs);
+	}
+
+	private TenantPurgeChunk deleteDietas(final String userId, final long afterId, final int limit) {
+		final List<Long> ids = jdbc.queryForList(
+				"SELECT id FROM dieta WHERE user_id = :userId AND id > :afterId ORDER BY id LIMIT :limit",
+				cursorParams(userId, afterId, limit), Long.class);
+		if (ids.isEmpty()) {
+			return TenantPurgeChunk.empty();
+		}
+		deleteDietaTrees(ids);
+		return new TenantPurgeChunk(ids.get(ids.size() - 1), ids.size(), List.of(), List.of());
+	}
+
+	private TenantPurgeChunk deletePlatillos(final String userId, final long afterId, final int limit) {
+		final List<Map<String, Object>> rows = jdbc
+			.queryForList("SELECT id, image_url, pdf_url FROM platillo WHERE user_id = :userId AND id > :afterId "
+					+ "ORDER BY id LIMIT :limit", cursorParams(userId, afterId, limit));
+		if (rows.isEmpty()) {
+			return TenantPurgeChunk.empty();
+		}
+		final List<Long> ids = new ArrayList<>(rows.size());
+		final List<String> mediaKeys = new ArrayList<>();
+		for (final Map<String, Object> row : rows) {
+			ids.add(((Number) row.get("id")).longValue());
+			addIfPresent(mediaKeys, (String) row.get("image_url"));
+			addIfPresent(mediaKeys, (String) row.get("pdf_url"));
+		}
+		final MapSqlParameterSource params = new MapSqlParameterSource(IDS, ids);
+		jdbc.update("DELETE FROM ingrediente WHERE platillo_id IN (:ids)", params);
+		jdbc.update("DELETE FROM platillo WHERE id IN (:ids)", params);
+		return new TenantPurgeChunk(ids.get(ids.size() - 1), ids.size(), mediaKeys, List.of());
+	}
+
+	/**
+	 * Removes diets and their ingesta trees, including any weekday or assignment rows
+	 * that still point at them.
+	 */
+	private void deleteDietaTrees(final List<Long> dietaIds) {
+		if (dietaIds.isEmpty()) {
+			return;
+		}
+		final MapSqlParameterSource params = new MapSqlParameterSource(IDS, dietaIds);
+		final String ingestas = "SELECT id FROM ingesta WHERE dieta_id IN (:ids)";
+		jdbc.update("DELETE FROM ingrediente_platillo_ingesta WHERE platillo_id IN "
+				+ "(SELECT id FROM platillo_ingesta WHERE ingesta_id IN (" + ingestas + "))", params);
+		jdbc.update("DELETE FROM platillo_ingesta WHERE ingesta_id IN (" + ingestas + ")", params);
+		jdbc.update("DELETE FROM alimento_ingesta WHERE ingesta_id IN (" + ingestas + ")", params);
+		jdbc.update("DELETE FROM ingesta WHERE dieta_id IN (:ids)", params);
+		jdbc.update("DELETE FROM paciente_dieta_weekday WHERE dieta_id IN (:ids)", params);
+		jdbc.update("DELETE FROM paciente_dieta_weekday WHERE paciente_dieta_id IN "
+				+ "(SELECT id FROM paciente_dieta WHERE dieta_id IN (:ids))", params);
+		jdbc.update("DELETE FROM paciente_dieta WHERE dieta_id IN (:ids)", params);
+		jdbc.update("DELETE FROM dieta WHERE id IN (:ids)", params);
+	}
+
+	/**
+	 * The owning row holds the foreign keys to its one-to-one satellites, so their ids
+	 * are read first, the owners deleted, and the satellites deleted by id afterwards.
+	 */
+	private void deleteWithSatellites(final String table, final Map<String, String> satellites,
+			final MapSqlParameterSource params) {
+		final List<Map<String, Object>> rows = jdbc.queryForList(
+				"SELECT " + String.join(", ", satellites.keySet()) + " FROM " + table + " WHERE paciente_id IN (:ids)",
+				params);
+		if (rows.isEmpty()) {
+			return;
+		}
+		jdbc.update("DELETE FROM " + table + " WHERE paciente_id IN (:ids)", params);
+		for (final Map.Entry<String, String> satellite : satellites.entrySet()) {
+			final List<Long> satelliteIds = rows.stream()
+				.map(row -> (Number) row.get(satellite.getKey()))
+				.filter(id -> id != null)
+				.map(Number::longValue)
+				.toList();
+			for (int from = 0; from < satelliteIds.size(); from += MAX_IDS_PER_STATEMENT) {
+				jdbc.update("DELETE FROM " + satellite.getValue() + " WHERE id IN (:ids)", new MapSqlParameterSource(
+						IDS, satelliteIds.subList(from, Math.min(from + MAX_IDS_PER_STATEMENT, satelliteIds.size()))));
+			}
+		}
+	}
+
+	private static MapSqlParameterSource cursorParams(final String userId, final long afterId, final int limit) {
+		return new MapSqlParameterSource().addValue("userId", userId)
+			.addValue("afterId", afterId)
+			.addValue("limit", limit);
+	}
+
+	private static void addIfPresent(final List<String> keys, final String key) {
+		if (StringUtils.hasText(key)) {
+			keys.add(key);
+		}
+	}
+
+}
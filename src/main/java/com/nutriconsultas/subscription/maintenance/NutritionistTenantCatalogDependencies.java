@@ -1,63 +1,37 @@
 package com.nutriconsultas.subscription.maintenance;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
-import com.nutriconsultas.dieta.DietaRepository;
-import com.nutriconsultas.dieta.DietaService;
-import com.nutriconsultas.paciente.PacienteDeletionService;
-import com.nutriconsultas.paciente.PacienteRepository;
-import com.nutriconsultas.platillos.PlatilloRepository;
-import com.nutriconsultas.platillos.PlatilloService;
+import com.nutriconsultas.mobile.PatientAuthViewCache;
 
+@Lazy
 @Component
 public final class NutritionistTenantCatalogDependencies {
 
-	private final PacienteRepository pacientes;
+	private final NutritionistTenantBulkDelete bulkDelete;
 
-	private final PacienteDeletionService patientDeletion;
+	private final TenantMediaStorageService mediaStorage;
 
-	private final DietaRepository dietas;
+	private final PatientAuthViewCache authViewCache;
 
-	private final DietaService dietaService;
-
-	private final PlatilloRepository platillos;
-
-	private final PlatilloService platilloService;
-
-	public NutritionistTenantCatalogDependencies(final PacienteRepository pacientes,
-			final PacienteDeletionService patientDeletion, final DietaRepository dietas,
-			final DietaService dietaService, final PlatilloRepository platillos,
-			final PlatilloService platilloService) {
-		this.pacientes = pacientes;
-		this.patientDeletion = patientDeletion;
-		this.dietas = dietas;
-		this.dietaService = dietaService;
-		this.platillos = platillos;
-		this.platilloService = platilloService;
-	}
-
-	public PacienteRepository getPacientes() {
-		return pacientes;
-	}
-
-	public PacienteDeletionService getPatientDeletion() {
-		return patientDeletion;
-	}
-
-	public DietaRepository getDietas() {
-		return dietas;
+	public NutritionistTenantCatalogDependencies(final NutritionistTenantBulkDelete bulkDelete,
+			final TenantMediaStorageService mediaStorage, final PatientAuthViewCache authViewCache) {
+		this.bulkDelete = bulkDelete;
+		this.mediaStorage = mediaStorage;
+		this.authViewCache = authViewCache;
 	}
 
-	public DietaService getDietaService() {
-		return dietaService;
+	public NutritionistTenantBulkDelete getBulkDelete() {
+		return bulkDelete;
 	}
 
-	public PlatilloRepository getPlatillos() {
-		return platillos;
+	public TenantMediaStorageService getMediaStorage() {
+		return mediaStorage;
 	}
 
-	public PlatilloService getPlatilloService() {
-		return platilloService;
+	public PatientAuthViewCache getAuthViewCache() {
+		return authViewCache;
 	}
 
 }
@@ -1,27 +1,22 @@
 package com.nutriconsultas.subscription.maintenance;
 
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.nutriconsultas.booking.NutritionistAvailabilityBlock;
-import com.nutriconsultas.dieta.Dieta;
-import com.nutriconsultas.paciente.Paciente;
-import com.nutriconsultas.platillos.Platillo;
-import com.nutriconsultas.profile.NutritionistProfile;
 import com.nutriconsultas.subscription.Clinic;
 import com.nutriconsultas.subscription.MembershipStatus;
-import com.nutriconsultas.subscription.maintenance.MaintenanceBackupSerializer.NutritionistTenantSnapshot;
 import com.nutriconsultas.util.LogRedaction;
 
 import lombok.extern.slf4j.Slf4j;
 
+@Lazy
 @Service
 @Slf4j
 public class NutritionistTenantPurgeService {
@@ -30,64 +25,107 @@ public class NutritionistTenantPurgeService {
 
 	private final NutritionistTenantAccountDependencies accountDependencies;
 
+	private final MaintenanceRunRepository maintenanceRunRepository;
+
+	private final TransactionTemplate transactions;
+
+	private final MaintenanceRetentionProperties properties;
+
 	public NutritionistTenantPurgeService(final NutritionistTenantCatalogDependencies catalogDependencies,
-			final NutritionistTenantAccountDependencies accountDependencies) {
+			final NutritionistTenantAccountDependencies accountDependencies,
+			final MaintenanceRunRepository maintenanceRunRepository, final TransactionTemplate transactions,
+			final MaintenanceRetentionProperties properties) {
 		this.catalogDependencies = catalogDependencies;
 		this.accountDependencies = accountDependencies;
+		this.maintenanceRunRepository = maintenanceRunRepository;
+		this.transactions = transactions;
+		this.properties = properties;
 	}
 
-	@Transactional(readOnly = true)
-	public NutritionistTenantSnapshot buildSnapshot(
-			@NonNull final RevokedNutritionistEligibilityService.EligibleRevokedNutritionist eligible) {
+	/**
+	 * Deletes the tenant phase by phase in chunks of
+	 * {@link MaintenanceRetentionProperties#getPurgeChunkSize()} root rows, each chunk in
+	 * its own transaction that also advances the checkpoint on {@code run}. When an
+	 * earlier run failed part-way through this tenant, the purge resumes after its last
+	 * committed chunk. Media is removed from storage after the chunk that owned it
+	 * commits.
+	 */
+	public void purgeTenant(@NonNull final RevokedNutritionistEligibilityService.EligibleRevokedNutritionist eligible,
+			@NonNull final MaintenanceRun run) {
 		final String userId = eligible.userId();
-		final List<Paciente> patients = catalogDependencies.getPacientes().findByUserId(userId);
-		final List<Long> patientIds = patients.stream().map(Paciente::getId).toList();
-		final List<Long> dietaIds = catalogDependencies.getDietas()
-			.findByUserId(userId)
-			.stream()
-			.map(Dieta::getId)
-			.toList();
-		final List<Long> platilloIds = catalogDependencies.getPlatillos()
-			.findByUserId(userId)
-			.stream()
-			.map(Platillo::getId)
-			.toList();
-		final Map<String, Object> profile = accountDependencies.getProfiles()
-			.findByUserId(userId)
-			.map(this::profileSummary)
-			.orElse(Map.of());
-		final Long clinicId = accountDependencies.getClinics()
-			.findByDirectorUserId(userId)
-			.map(Clinic::getId)
-			.orElse(null);
-		return new NutritionistTenantSnapshot(userId, eligible.subscriptionId(), eligible.revokedAt(),
-				MaintenanceBackupSerializer.patientSummaries(patientIds), dietaIds, platilloIds, profile, clinicId,
-				patientIds.size());
-	}
-
-	@Transactional
-	public void purgeTenant(@NonNull final RevokedNutritionistEligibilityService.EligibleRevokedNutritionist eligible) {
-		final String userId = eligible.userId();
-		for (final Paciente patient : catalogDependencies.getPacientes().findByUserId(userId)) {
-			catalogDependencies.getPatientDeletion().deletePatientWithHistory(patient.getId(), userId);
+		final Optional<MaintenanceRun> resumeFrom = maintenanceRunRepository
+			.findFirstByPurgeUserIdAndStatusOrderByStartedAtDesc(userId, MaintenanceRunStatus.FAILED)
+			.filter(previous -> previous.getPurgePhase() != null);
+		final TenantPurgePhase startPhase = resumeFrom.map(MaintenanceRun::getPurgePhase)
+			.orElse(TenantPurgePhase.PATIENTS);
+		final long cursor = resumeFrom.map(MaintenanceRun::getPurgeCursor).orElse(0L);
+		if (resumeFrom.isPresent() && log.isInfoEnabled()) {
+			log.info("Resuming tenant purge for userId={} at phase={} after id={} from runId={}",
+					LogRedaction.redactUserId(userId), startPhase, cursor, resumeFrom.get().getRunId());
 		}
-		for (final Dieta dieta : catalogDependencies.getDietas().findByUserId(userId)) {
-			catalogDependencies.getDietaService().deleteDieta(dieta.getId());
+		for (final TenantPurgePhase phase : List.of(TenantPurgePhase.PATIENTS, TenantPurgePhase.DIETAS,
+				TenantPurgePhase.PLATILLOS)) {
+			if (phase.compareTo(startPhase) < 0) {
+				continue;
+			}
+			purgeInChunks(run, userId, phase, phase == startPhase ? cursor : 0L);
 		}
-		for (final Platillo platillo : catalogDependencies.getPlatillos().findByUserId(userId)) {
-			catalogDependencies.getPlatilloService().deletePlatillo(platillo.getId());
-		}
-		deleteBookingAvailability(userId);
-		accountDependencies.getProfiles()
-			.findByUserId(userId)
-			.ifPresent(profile -> accountDependencies.getProfiles().delete(profile));
-		deleteClinicIfSoleDirector(userId);
-		markTenantPurged(eligible.subscriptionId());
+		transactions.executeWithoutResult(status -> {
+			deleteBookingAvailability(userId);
+			accountDependencies.getProfiles()
+				.findByUserId(userId)
+				.ifPresent(profile -> accountDependencies.getProfiles().delete(profile));
+			deleteClinicIfSoleDirector(userId);
+			markTenantPurged(eligible.subscriptionId());
+			maintenanceRunRepository.updatePurgeCheckpoint(run.getRunId(), userId, TenantPurgePhase.ACCOUNT, 0L);
+		});
+		recordCheckpoint(run, userId, TenantPurgePhase.ACCOUNT, 0L);
 		if (log.isInfoEnabled()) {
 			log.info("Purged tenant data for nutritionist userId={}", LogRedaction.redactUserId(userId));
 		}
 	}
 
+	private void purgeInChunks(final MaintenanceRun run, final String userId, final TenantPurgePhase phase,
+			final long fromCursor) {
+		final int chunkSize = Math.max(properties.getPurgeChunkSize(), 1);
+		long cursor = fromCursor;
+		long deleted = 0;
+		while (true) {
+			final long afterId = cursor;
+			final TenantPurgeChunk chunk = transactions.execute(status -> {
+				final TenantPurgeChunk result = catalogDependencies.getBulkDelete()
+					.deleteChunk(phase, userId, afterId, chunkSize);
+				if (!result.isEmpty()) {
+					maintenanceRunRepository.updatePurgeCheckpoint(run.getRunId(), userId, phase, result.lastId());
+				}
+				return result;
+			});
+			if (chunk == null || chunk.isEmpty()) {
+				break;
+			}
+			recordCheckpoint(run, userId, phase, chunk.lastId());
+			catalogDependencies.getMediaStorage().deleteObjects(chunk.mediaKeys());
+			chunk.patientAuthSubs().forEach(catalogDependencies.getAuthViewCache()::invalidate);
+			deleted += chunk.deletedCount();
+			cursor = chunk.lastId();
+		}
+		if (log.isInfoEnabled()) {
+			log.info("Tenant purge phase={} deleted {} rows for userId={}", phase, deleted,
+					LogRedaction.redactUserId(userId));
+		}
+	}
+
+	/**
+	 * Called once the chunk's transaction has committed, so a failed run is saved with
+	 * the checkpoint that is actually in the database.
+	 */
+	private static void recordCheckpoint(final MaintenanceRun run, final String userId, final TenantPurgePhase phase,
+			final long cursor) {
+		run.setPurgeUserId(userId);
+		run.setPurgePhase(phase);
+		run.setPurgeCursor(cursor);
+	}
+
 	private void deleteBookingAvailability(final String userId) {
 		accountDependencies.getAvailabilitySettings()
 			.findByUserId(userId)
@@ -122,12 +160,4 @@ public class NutritionistTenantPurgeService {
 		});
 	}
 
-	private Map<String, Object> profileSummary(final NutritionistProfile profile) {
-		final Map<String, Object> summary = new HashMap<>();
-		summary.put("id", profile.getId());
-		summary.put("publicBookingId", profile.getPublicBookingId());
-		summary.put("logoExtension", profile.getLogoExtension());
-		return summary;
-	}
-
 }
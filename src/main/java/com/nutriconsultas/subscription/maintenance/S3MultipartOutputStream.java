@@ -0,0 +1,159 @@
+package com.nutriconsultas.subscription.maintenance;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * Uploads everything written to it as one S3 object, holding at most one part in memory.
+ * The multipart upload is only started once the first part fills up; smaller payloads go
+ * out as a single put on {@link #close()}. Callers that fail mid-stream must call
+ * {@link #abort()} instead of {@code close()} so no partial object is completed.
+ */
+@Slf4j
+final class S3MultipartOutputStream extends OutputStream {
+
+	/**
+	 * S3 rejects parts under 5 MiB other than the last one.
+	 */
+	static final int DEFAULT_PART_SIZE = 8 * 1024 * 1024;
+
+	private final S3Client client;
+
+	private final String bucket;
+
+	private final String key;
+
+	private final String contentType;
+
+	private final byte[] buffer;
+
+	private final List<CompletedPart> parts = new ArrayList<>();
+
+	private int position;
+
+	private String uploadId;
+
+	private boolean closed;
+
+	S3MultipartOutputStream(final S3Client client, final String bucket, final String key, final String contentType,
+			final int partSize) {
+		this.client = client;
+		this.bucket = bucket;
+		this.key = key;
+		this.contentType = contentType;
+		this.buffer = new byte[partSize];
+	}
+
+	@Override
+	public void write(final int b) throws IOException {
+		ensureOpen();
+		if (position == buffer.length) {
+			uploadPart();
+		}
+		buffer[position++] = (byte) b;
+	}
+
+	@Override
+	public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+		ensureOpen();
+		int written = 0;
+		while (written < length) {
+			if (position == buffer.length) {
+				uploadPart();
+			}
+			final int chunk = Math.min(length - written, buffer.length - position);
+			System.arraycopy(bytes, offset + written, buffer, position, chunk);
+			position += chunk;
+			written += chunk;
+		}
+	}
+
+	/**
+	 * Uploads the buffered tail and completes the object.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		if (uploadId == null) {
+			client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).contentType(contentType).build(),
+					RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, position), position));
+			return;
+		}
+		if (position > 0) {
+			uploadPart();
+		}
+		client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+			.bucket(bucket)
+			.key(key)
+			.uploadId(uploadId)
+			.multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+			.build());
+	}
+
+	/**
+	 * Discards any uploaded parts. Safe to call more than once and after a failed
+	 * {@link #close()}.
+	 */
+	void abort() {
+		closed = true;
+		if (uploadId == null) {
+			return;
+		}
+		try {
+			client.abortMultipartUpload(
+					AbortMultipartUploadRequest.builder().bucket(bucket).key(key).uploadId(uploadId).build());
+		}
+		catch (S3Exception ex) {
+			if (log.isWarnEnabled()) {
+				log.warn("Failed to abort multipart upload for key={}; a bucket lifecycle rule must clean it up", key);
+			}
+		}
+		uploadId = null;
+	}
+
+	private void uploadPart() {
+		if (uploadId == null) {
+			uploadId = client
+				.createMultipartUpload(
+						CreateMultipartUploadRequest.builder().bucket(bucket).key(key).contentType(contentType).build())
+				.uploadId();
+		}
+		final int partNumber = parts.size() + 1;
+		final String eTag = client
+			.uploadPart(UploadPartRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.uploadId(uploadId)
+				.partNumber(partNumber)
+				.contentLength((long) position)
+				.build(), RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, position), position))
+			.eTag();
+		parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+		position = 0;
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("Upload stream for " + key + " is closed");
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.nutriconsultas.subscription.maintenance;
+
+import java.util.List;
+
+/**
+ * Tables captured in a tenant backup, parents before children so a restore can insert
+ * them in this order. Each filter selects the tenant's rows with the {@code :userId}
+ * parameter.
+ */
+final class TenantBackupTables {
+
+	private static final String PATIENTS = "SELECT id FROM paciente WHERE user_id = :userId";
+
+	private static final String DIETAS = "SELECT id FROM dieta WHERE user_id = :userId OR paciente_id IN (" + PATIENTS
+			+ ")";
+
+	private static final String INGESTAS = "SELECT id FROM ingesta WHERE dieta_id IN (" + DIETAS + ")";
+
+	private static final String EXAMS = " FROM clinical_exam WHERE paciente_id IN (" + PATIENTS + ")";
+
+	private static final String MEASUREMENTS = " FROM anthropometric_measurement WHERE paciente_id IN (" + PATIENTS
+			+ ")";
+
+	static final List<TenantTable> ORDERED = List.of(new TenantTable("paciente", "user_id = :userId"),
+			byPatient("paciente_energy_preferences"), byPatient("paciente_medical_history"),
+			satelliteOf("vital_signs", "vital_signs_id", EXAMS),
+			satelliteOf("lipid_profile", "lipid_profile_id", EXAMS),
+			satelliteOf("blood_chemistry", "blood_chemistry_id", EXAMS),
+			satelliteOf("liver_function", "liver_function_id", EXAMS),
+			satelliteOf("complete_blood_count", "complete_blood_count_id", EXAMS),
+			satelliteOf("other_indicators", "other_tests_id", EXAMS),
+			satelliteOf("thyroid_panel", "thyroid_panel_id", EXAMS),
+			new TenantTable("body_composition",
+					"id IN (SELECT body_composition_id" + EXAMS + ") OR id IN (SELECT body_composition_id"
+							+ MEASUREMENTS + ")"),
+			satelliteOf("body_mass", "body_mass_id", MEASUREMENTS),
+			satelliteOf("bioimpedance", "bioimpedance_id", MEASUREMENTS),
+			satelliteOf("skinfolds", "skinfolds_id", MEASUREMENTS),
+			satelliteOf("circumferences", "circumferences_id", MEASUREMENTS),
+			satelliteOf("diameters", "diameters_id", MEASUREMENTS), byPatient("clinical_exam"),
+			byPatient("anthropometric_measurement"), byPatient("calendar_event"), byPatient("patient_message"),
+			byPatient("appointment_question"), byPatient("patient_invitation"), byPatient("patient_device"),
+			byPatient("patient_change_log"), byPatient("body_metric_record"),
+			new TenantTable("dieta", "id IN (" + DIETAS + ")"),
+			new TenantTable("ingesta", "dieta_id IN (" + DIETAS + ")"),
+			new TenantTable("platillo_ingesta", "ingesta_id IN (" + INGESTAS + ")"),
+			new TenantTable("ingrediente_platillo_ingesta",
+					"platillo_id IN (SELECT id FROM platillo_ingesta WHERE ingesta_id IN (" + INGESTAS + "))"),
+			new TenantTable("alimento_ingesta", "ingesta_id IN (" + INGESTAS + ")"), byPatient("paciente_dieta"),
+			new TenantTable("paciente_dieta_weekday",
+					"paciente_dieta_id IN (SELECT id FROM paciente_dieta WHERE paciente_id IN (" + PATIENTS + "))"),
+			new TenantTable("platillo", "user_id = :userId"),
+			new TenantTable("ingrediente", "platillo_id IN (SELECT id FROM platillo WHERE user_id = :userId)"),
+			new TenantTable("nutritionist_profile", "user_id = :userId"),
+			new TenantTable("nutritionist_availability_settings", "user_id = :userId"),
+			new TenantTable("nutritionist_working_hours_interval", "user_id = :userId"),
+			new TenantTable("nutritionist_availability_block", "user_id = :userId"));
+
+	private TenantBackupTables() {
+	}
+
+	static boolean isKnown(final String table) {
+		return ORDERED.stream().anyMatch(candidate -> candidate.name().equals(table));
+	}
+
+	private static TenantTable byPatient(final String table) {
+		return new TenantTable(table, "paciente_id IN (" + PATIENTS + ")");
+	}
+
+	private static TenantTable satelliteOf(final String table, final String ownerColumn, final String owners) {
+		return new TenantTable(table, "id IN (SELECT " + ownerColumn + owners + ")");
+	}
+
+	record TenantTable(String name, String filter) {
+
+		String selectSql() {
+			return "SELECT * FROM " + name + " WHERE " + filter;
+		}
+
+	}
+
+}
@@ -0,0 +1,21 @@
+package com.nutriconsultas.subscription.maintenance;
+
+import java.util.Collection;
+
+/**
+ * Removes a purged tenant's uploaded media (patient photos, platillo pictures and PDFs)
+ * from object storage.
+ */
+@SuppressWarnings("PMD.ImplicitFunctionalInterface")
+public interface TenantMediaStorageService {
+
+	/**
+	 * Deletes the given keys in batched requests. Failures are logged and counted rather
+	 * than thrown: the rows pointing at the objects are already gone, so a retry could
+	 * not find the keys again.
+	 * @param keys object keys in the application bucket; blanks are ignored
+	 * @return number of keys the store reported as not deleted
+	 */
+	int deleteObjects(Collection<String> keys);
+
+}
@@ -0,0 +1,100 @@
+package com.nutriconsultas.subscription.maintenance;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+@Lazy
+@Service
+@Slf4j
+public class TenantMediaStorageServiceImpl implements TenantMediaStorageService {
+
+	/**
+	 * S3 accepts at most 1000 keys per DeleteObjects request.
+	 */
+	static final int MAX_KEYS_PER_REQUEST = 1000;
+
+	private final String awsRegion;
+
+	private final String bucketName;
+
+	private final String accessKey;
+
+	private final String secretKey;
+
+	public TenantMediaStorageServiceImpl(@Value("${amazon.s3.region}") final String awsRegion,
+			@Value("${amazon.s3.bucket}") final String bucketName, @Value("${amazon.s3.key}") final String accessKey,
+			@Value("${amazon.s3.secret}") final String secretKey) {
+		this.awsRegion = awsRegion;
+		this.bucketName = bucketName;
+		this.accessKey = accessKey;
+		this.secretKey = secretKey;
+	}
+
+	@Override
+	public int deleteObjects(final Collection<String> keys) {
+		final List<ObjectIdentifier> objects = keys.stream()
+			.filter(StringUtils::hasText)
+			.distinct()
+			.map(key -> ObjectIdentifier.builder().key(key).build())
+			.toList();
+		if (objects.isEmpty()) {
+			return 0;
+		}
+		int failed = 0;
+		try (S3Client client = createClient()) {
+			for (int from = 0; from < objects.size(); from += MAX_KEYS_PER_REQUEST) {
+				final List<ObjectIdentifier> batch = objects.subList(from,
+						Math.min(from + MAX_KEYS_PER_REQUEST, objects.size()));
+				failed += deleteBatch(client, batch);
+			}
+		}
+		if (failed > 0 && log.isWarnEnabled()) {
+			log.warn("Tenant media purge left {} of {} objects in storage", failed, objects.size());
+		}
+		return failed;
+	}
+
+	/**
+	 * Quiet mode makes the response list only the keys that failed.
+	 */
+	private int deleteBatch(final S3Client client, final List<ObjectIdentifier> batch) {
+		try {
+			final DeleteObjectsResponse response = client.deleteObjects(DeleteObjectsRequest.builder()
+				.bucket(bucketName)
+				.delete(Delete.builder().objects(batch).quiet(true).build())
+				.build());
+			return response.hasErrors() ? response.errors().size() : 0;
+		}
+		catch (S3Exception ex) {
+			if (log.isDebugEnabled()) {
+				log.debug("Tenant media batch delete failure", ex);
+			}
+			return batch.size();
+		}
+	}
+
+	private S3Client createClient() {
+		return S3Client.builder().region(Region.of(awsRegion)).credentialsProvider(credentialsProvider()).build();
+	}
+
+	private AwsCredentialsProvider credentialsProvider() {
+		return () -> AwsBasicCredentials.create(accessKey, secretKey);
+	}
+
+}
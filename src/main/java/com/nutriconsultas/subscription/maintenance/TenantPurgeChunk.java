@@ -0,0 +1,23 @@
+package com.nutriconsultas.subscription.maintenance;
+
+import java.util.List;
+
+/**
+ * Outcome of one committed purge chunk.
+ *
+ * @param lastId highest root id deleted, the cursor for the next chunk
+ * @param deletedCount root rows deleted (patients, diets or platillos)
+ * @param mediaKeys object-storage keys owned by the deleted rows
+ * @param patientAuthSubs mobile logins of deleted patients, for cache eviction
+ */
+public record TenantPurgeChunk(long lastId, int deletedCount, List<String> mediaKeys, List<String> patientAuthSubs) {
+
+	public static TenantPurgeChunk empty() {
+		return new TenantPurgeChunk(0L, 0, List.of(), List.of());
+	}
+
+	public boolean isEmpty() {
+		return deletedCount == 0;
+	}
+
+}
@@ -0,0 +1,12 @@
+package com.nutriconsultas.subscription.maintenance;
+
+/**
+ * Steps of a tenant purge in dependency order. Patients go first so their diet
+ * assignments and per-patient diet copies are gone before the catalog diets are removed;
+ * account rows go last, when nothing references them any more.
+ */
+public enum TenantPurgePhase {
+
+	PATIENTS, DIETAS, PLATILLOS, ACCOUNT
+
+}
@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -21,6 +22,7 @@ import com.nutriconsultas.subscription.SubscriptionStatus;
 
 import lombok.extern.slf4j.Slf4j;
 
+@Lazy
 @Component
 @ConditionalOnProperty(prefix = "nutriconsultas.subscription.payment", name = "provider", havingValue = "mercadopago")
 @ConditionalOnExpression("'${nutriconsultas.subscription.payment.mercadopago-access-token:}'.length() > 0")
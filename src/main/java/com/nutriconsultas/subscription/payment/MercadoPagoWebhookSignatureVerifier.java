@@ -7,12 +7,14 @@ import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 /**
  * Mercado Pago webhook signature verification (x-signature manifest + HMAC-SHA256).
  */
+@Lazy
 @Component
 @ConditionalOnProperty(prefix = "nutriconsultas.subscription.payment", name = "provider", havingValue = "mercadopago")
 public final class MercadoPagoWebhookSignatureVerifier {
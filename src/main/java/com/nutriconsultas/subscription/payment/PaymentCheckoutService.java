@@ -1,19 +1,21 @@
 package com.nutriconsultas.subscription.payment;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.nutriconsultas.subscription.PlanTier;
 
 /**
- * Orchestrates checkout session creation via the configured payment provider.
+ * Orchestrates checkout session creation via the configured payment provider. The
+ * provider is injected lazily so its SDK client is only built on the first checkout.
  */
 @Service
 public class PaymentCheckoutService {
 
 	private final PaymentProvider paymentProvider;
 
-	public PaymentCheckoutService(final PaymentProvider paymentProvider) {
+	public PaymentCheckoutService(@Lazy final PaymentProvider paymentProvider) {
 		this.paymentProvider = paymentProvider;
 	}
 
@@ -3,6 +3,7 @@ package com.nutriconsultas.subscription.payment;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -35,7 +36,7 @@ public class PaymentWebhookService {
 
 	private final SubscriptionProvisioningService provisioningService;
 
-	public PaymentWebhookService(final PaymentProvider paymentProvider,
+	public PaymentWebhookService(@Lazy final PaymentProvider paymentProvider,
 			final PaymentWebhookEventRepository webhookEventRepository,
 			final SubscriptionRepository subscriptionRepository,
 			final SubscriptionAuditEventRepository auditEventRepository,
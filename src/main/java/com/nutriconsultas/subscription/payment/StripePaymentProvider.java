@@ -1,6 +1,7 @@
 package com.nutriconsultas.subscription.payment;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -23,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
  * Stripe Checkout Sessions + Billing subscriptions for nutritionist paid invitations
  * (#207).
  */
+@Lazy
 @Component
 @ConditionalOnProperty(prefix = "nutriconsultas.subscription.payment", name = "provider", havingValue = "stripe")
 @Slf4j
@@ -0,0 +1,56 @@
+package com.nutriconsultas.sync;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the per-patient change log; {@code id} doubles as the sync cursor.
+ */
+@Entity
+@Table(name = "patient_change_log")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientChange {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "paciente_id", nullable = false)
+	private Long pacienteId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "entity_type", nullable = false, length = 32)
+	private PatientChangeType entityType;
+
+	@Column(name = "entity_id", nullable = false)
+	private Long entityId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 16)
+	private PatientChangeOperation operation;
+
+	@Column(name = "changed_at", nullable = false)
+	private Instant changedAt;
+
+	@PrePersist
+	void onCreate() {
+		if (changedAt == null) {
+			changedAt = Instant.now();
+		}
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.nutriconsultas.sync;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Records patient-visible changes in the writer's transaction so the mobile sync cursor
+ * never runs ahead of committed data.
+ */
+public interface PatientChangeLogService {
+
+	void record(@Nullable Long pacienteId, @NonNull PatientChangeType type, @Nullable Long entityId,
+			@NonNull PatientChangeOperation operation);
+
+	/**
+	 * Records a {@link PatientChangeType#DIET_PLAN} upsert for every assignment that
+	 * shows the diet, directly or through a weekday slot.
+	 */
+	void recordDietaChanged(@NonNull Long dietaId);
+
+	int purgeExpired();
+
+}
@@ -0,0 +1,85 @@
+package com.nutriconsultas.sync;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nutriconsultas.util.LogRedaction;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Appends change rows inside the caller's transaction, so a rolled-back write never
+ * reaches the log, and purges rows past the retention window once a day. Clients whose
+ * cursor points into purged history are told to resync.
+ */
+@Service
+@Slf4j
+public class PatientChangeLogServiceImpl implements PatientChangeLogService {
+
+	private final PatientChangeRepository changeRepository;
+
+	private final int retentionDays;
+
+	private final Clock clock;
+
+	public PatientChangeLogServiceImpl(final PatientChangeRepository changeRepository,
+			@Value("${nutriconsultas.mobile.sync.retention-days:30}") final int retentionDays,
+			@Autowired(required = false) final Clock clock) {
+		this.changeRepository = changeRepository;
+		this.retentionDays = retentionDays;
+		this.clock = clock != null ? clock : Clock.systemUTC();
+	}
+
+	@Override
+	@Transactional
+	public void record(@Nullable final Long pacienteId, @NonNull final PatientChangeType type,
+			@Nullable final Long entityId, @NonNull final PatientChangeOperation operation) {
+		if (pacienteId == null || entityId == null) {
+			return;
+		}
+		changeRepository.save(new PatientChange(null, pacienteId, type, entityId, operation, clock.instant()));
+		if (log.isDebugEnabled()) {
+			log.debug("Recorded {} {} change for patient {}", type, operation, LogRedaction.redactPaciente(pacienteId));
+		}
+	}
+
+	@Override
+	@Transactional
+	public void recordDietaChanged(@NonNull final Long dietaId) {
+		final List<PatientChangeRepository.AssignmentRef> assignments = changeRepository
+			.findAssignmentsShowingDieta(dietaId);
+		for (final PatientChangeRepository.AssignmentRef assignment : assignments) {
+			record(assignment.getPacienteId(), PatientChangeType.DIET_PLAN, assignment.getAssignmentId(),
+					PatientChangeOperation.UPSERT);
+		}
+	}
+
+	@Override
+	@Transactional
+	@Scheduled(cron = "${nutriconsultas.mobile.sync.purge-cron:0 30 4 * * *}", zone = "America/Mexico_City")
+	public int purgeExpired() {
+		try {
+			final Instant cutoff = clock.instant().minus(Duration.ofDays(retentionDays));
+			final int purged = changeRepository.deleteOlderThan(cutoff);
+			if (purged > 0 && log.isInfoEnabled()) {
+				log.info("Purged {} patient change log rows older than {}", purged, cutoff);
+			}
+			return purged;
+		}
+		catch (RuntimeException ex) {
+			log.error("Patient change log purge failed", ex);
+			return 0;
+		}
+	}
+
+}
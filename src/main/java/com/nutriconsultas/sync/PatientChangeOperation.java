@@ -0,0 +1,7 @@
+package com.nutriconsultas.sync;
+
+public enum PatientChangeOperation {
+
+	UPSERT, DELETE
+
+}
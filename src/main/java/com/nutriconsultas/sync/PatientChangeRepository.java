@@ -0,0 +1,51 @@
+package com.nutriconsultas.sync;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PatientChangeRepository extends JpaRepository<PatientChange, Long> {
+
+	List<PatientChange> findByPacienteIdAndIdGreaterThanOrderByIdAsc(Long pacienteId, Long cursor, Pageable pageable);
+
+	@Query("SELECT COALESCE(MAX(c.id), 0) FROM PatientChange c "
+			+ "WHERE c.pacienteId = :pacienteId AND c.changedAt < :before")
+	long findLatestIdByPacienteIdBefore(@Param("pacienteId") Long pacienteId, @Param("before") Instant before);
+
+	@Query("SELECT MIN(c.id) FROM PatientChange c")
+	Long findOldestId();
+
+	/**
+	 * Purges expired rows but always keeps the newest one, so {@link #findOldestId()} can
+	 * still tell that older cursors point into purged history.
+	 */
+	@Modifying
+	@Query("DELETE FROM PatientChange c WHERE c.changedAt < :cutoff "
+			+ "AND c.id < (SELECT MAX(latest.id) FROM PatientChange latest)")
+	int deleteOlderThan(@Param("cutoff") Instant cutoff);
+
+	/**
+	 * Assignments that show the diet, either as their single plan or in a weekday slot.
+	 */
+	@Query("SELECT DISTINCT pd.id AS assignmentId, pd.paciente.id AS pacienteId FROM PacienteDieta pd "
+			+ "LEFT JOIN pd.dieta d LEFT JOIN pd.weekdaySlots w WHERE d.id = :dietaId OR w.dieta.id = :dietaId")
+	List<AssignmentRef> findAssignmentsShowingDieta(@Param("dietaId") Long dietaId);
+
+	@Modifying
+	@Query("DELETE FROM PatientChange c WHERE c.pacienteId = :pacienteId")
+	int deleteByPacienteId(@Param("pacienteId") Long pacienteId);
+
+	interface AssignmentRef {
+
+		Long getAssignmentId();
+
+		Long getPacienteId();
+
+	}
+
+}
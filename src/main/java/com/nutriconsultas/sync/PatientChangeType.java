@@ -0,0 +1,23 @@
+package com.nutriconsultas.sync;
+
+/**
+ * Patient-visible entity kinds tracked for mobile delta sync.
+ */
+public enum PatientChangeType {
+
+	/** {@code PacienteDieta} assignment, including edits of the diets it points to. */
+	DIET_PLAN,
+
+	/** {@code CalendarEvent} consultation. */
+	VISIT,
+
+	/** {@code PatientMessage} in the patient thread. */
+	MESSAGE,
+
+	/**
+	 * Body metric history; the entity id is the patient id because the app reloads the
+	 * whole progress snapshot.
+	 */
+	PROGRESS
+
+}
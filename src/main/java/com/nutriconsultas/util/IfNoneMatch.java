@@ -0,0 +1,35 @@
+package com.nutriconsultas.util;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@code If-None-Match} evaluation shared by the endpoints that hand out their own ETags
+ * (mobile diet plans, calendar ranges).
+ */
+public final class IfNoneMatch {
+
+	private IfNoneMatch() {
+	}
+
+	/**
+	 * {@code If-None-Match} uses weak comparison (RFC 9110 §13.1.2), so a {@code W/}
+	 * prefix added by an intermediary still matches.
+	 * @param ifNoneMatch raw request header, possibly a comma separated list
+	 * @param etag quoted ETag of the current representation
+	 * @return {@code true} when the client already holds {@code etag}
+	 */
+	public static boolean matches(@Nullable final String ifNoneMatch, final String etag) {
+		if (!StringUtils.hasText(ifNoneMatch)) {
+			return false;
+		}
+		for (final String candidate : ifNoneMatch.split(",")) {
+			final String trimmed = candidate.trim();
+			if ("*".equals(trimmed) || etag.equals(trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.nutriconsultas.util;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Normalizes household measure units typed in the catalog and diet editors (e.g.
+ * {@code Tazas}, {@code gr}, {@code pzas.}) to one lower-case singular spelling, so the
+ * same measure compares equal wherever it was entered. Words after the unit (e.g.
+ * {@code pieza mediana}) are kept, since they describe a different measure.
+ */
+public final class UnitNormalizer {
+
+	public static final String GRAMS = "g";
+
+	private static final Map<String, String> ALIASES = Map.ofEntries(Map.entry("gr", GRAMS), Map.entry("grs", GRAMS),
+			Map.entry("gramo", GRAMS), Map.entry("gramos", GRAMS), Map.entry("mililitro", "ml"),
+			Map.entry("mililitros", "ml"), Map.entry("tazas", "taza"), Map.entry("piezas", "pieza"),
+			Map.entry("pza", "pieza"), Map.entry("pzas", "pieza"), Map.entry("cucharadas", "cucharada"),
+			Map.entry("cda", "cucharada"), Map.entry("cdas", "cucharada"), Map.entry("cuchrada", "cucharada"),
+			Map.entry("cucharaditas", "cucharadita"), Map.entry("cdita", "cucharadita"),
+			Map.entry("cditas", "cucharadita"), Map.entry("rebanadas", "rebanada"), Map.entry("hojas", "hoja"),
+			Map.entry("galletas", "galleta"), Map.entry("latas", "lata"), Map.entry("sobres", "sobre"),
+			Map.entry("frascos", "frasco"), Map.entry("paquetes", "paquete"), Map.entry("copas", "copa"),
+			Map.entry("envases", "envase"), Map.entry("bolsas", "bolsa"), Map.entry("barras", "barra"),
+			Map.entry("capsula", "cápsula"), Map.entry("cápsulas", "cápsula"), Map.entry("capsulas", "cápsula"));
+
+	private UnitNormalizer() {
+	}
+
+	/**
+	 * @return the normalized unit, or {@code null} when {@code unidad} is null or blank
+	 */
+	public static String normalize(final String unidad) {
+		if (unidad == null || unidad.isBlank()) {
+			return null;
+		}
+		final String[] words = unidad.trim().toLowerCase(Locale.ROOT).split("\\s+");
+		words[0] = stripTrailingDot(words[0]);
+		words[0] = ALIASES.getOrDefault(words[0], words[0]);
+		return String.join(" ", words);
+	}
+
+	private static String stripTrailingDot(final String word) {
+		return word.length() > 1 && word.endsWith(".") ? word.substring(0, word.length() - 1) : word;
+	}
+
+}
@@ -0,0 +1,23 @@
+-- H2 identity columns have no named sequence, so the diet-tree tables switch to explicit
+-- sequences (INCREMENT BY 50, pooled) that also serve as the column default.
+-- RESTART at MAX(id) + 50 so the first block (MAX(id) + 1 .. MAX(id) + 50) is unused.
+ALTER TABLE dieta ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE dieta_id_seq INCREMENT BY 50;
+ALTER SEQUENCE dieta_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM dieta);
+ALTER TABLE dieta ALTER COLUMN id SET DEFAULT NEXT VALUE FOR dieta_id_seq;
+ALTER TABLE ingesta ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE ingesta_id_seq INCREMENT BY 50;
+ALTER SEQUENCE ingesta_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM ingesta);
+ALTER TABLE ingesta ALTER COLUMN id SET DEFAULT NEXT VALUE FOR ingesta_id_seq;
+ALTER TABLE platillo_ingesta ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE platillo_ingesta_id_seq INCREMENT BY 50;
+ALTER SEQUENCE platillo_ingesta_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM platillo_ingesta);
+ALTER TABLE platillo_ingesta ALTER COLUMN id SET DEFAULT NEXT VALUE FOR platillo_ingesta_id_seq;
+ALTER TABLE alimento_ingesta ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE alimento_ingesta_id_seq INCREMENT BY 50;
+ALTER SEQUENCE alimento_ingesta_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM alimento_ingesta);
+ALTER TABLE alimento_ingesta ALTER COLUMN id SET DEFAULT NEXT VALUE FOR alimento_ingesta_id_seq;
+ALTER TABLE ingrediente_platillo_ingesta ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE ingrediente_platillo_ingesta_id_seq INCREMENT BY 50;
+ALTER SEQUENCE ingrediente_platillo_ingesta_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM ingrediente_platillo_ingesta);
+ALTER TABLE ingrediente_platillo_ingesta ALTER COLUMN id SET DEFAULT NEXT VALUE FOR ingrediente_platillo_ingesta_id_seq;
@@ -0,0 +1,18 @@
+-- Diet-tree ids move to pooled allocation (Hibernate allocationSize 50). Each nextval reserves the
+-- 50 ids ending at the returned value, so the sequence is first moved to at least MAX(id).
+-- Inserts that use the column default still work; each one just consumes a whole block.
+SELECT setval('dieta_id_seq',
+    GREATEST(COALESCE((SELECT MAX(id) FROM dieta), 1), (SELECT last_value FROM dieta_id_seq)));
+ALTER TABLE dieta ALTER COLUMN id SET INCREMENT BY 50;
+SELECT setval('ingesta_id_seq',
+    GREATEST(COALESCE((SELECT MAX(id) FROM ingesta), 1), (SELECT last_value FROM ingesta_id_seq)));
+ALTER TABLE ingesta ALTER COLUMN id SET INCREMENT BY 50;
+SELECT setval('platillo_ingesta_id_seq',
+    GREATEST(COALESCE((SELECT MAX(id) FROM platillo_ingesta), 1), (SELECT last_value FROM platillo_ingesta_id_seq)));
+ALTER TABLE platillo_ingesta ALTER COLUMN id SET INCREMENT BY 50;
+SELECT setval('alimento_ingesta_id_seq',
+    GREATEST(COALESCE((SELECT MAX(id) FROM alimento_ingesta), 1), (SELECT last_value FROM alimento_ingesta_id_seq)));
+ALTER TABLE alimento_ingesta ALTER COLUMN id SET INCREMENT BY 50;
+SELECT setval('ingrediente_platillo_ingesta_id_seq',
+    GREATEST(COALESCE((SELECT MAX(id) FROM ingrediente_platillo_ingesta), 1), (SELECT last_value FROM ingrediente_platillo_ingesta_id_seq)));
+ALTER TABLE ingrediente_platillo_ingesta ALTER COLUMN id SET INCREMENT BY 50;
@@ -87,7 +87,7 @@
 
   function updateComposerForEditMode() {
     var textarea = $('#aiChatInput');
-    var hint = document.querySelector('.ai-chat-hint');
+    var hint = document.querySelector('.ai-chat-hint:not(.ai-chat-budget)');
     if (state.editingMessageId) {
       if (textarea) {
         textarea.placeholder = 'Edita tu mensaje y reenvía…';
@@ -363,6 +363,34 @@
     }
   }
 
+  function renderBudget(budget) {
+    var container = $('#aiChatBudget');
+    if (!container) {
+      return;
+    }
+    if (!budget || !budget.enforced || !budget.monthlyLimit) {
+      container.hidden = true;
+      return;
+    }
+    var used = Math.min(budget.usedTokens, budget.monthlyLimit);
+    var percent = Math.round((used / budget.monthlyLimit) * 100);
+    var resetsAt = budget.resetsAt ? new Date(budget.resetsAt).toLocaleDateString('es-MX') : '';
+    container.textContent = budget.exhausted
+      ? 'Presupuesto mensual de IA agotado. Se restablece el ' + resetsAt + '.'
+      : 'Presupuesto mensual de IA: ' + percent + ' % usado (' +
+        budget.remainingTokens.toLocaleString('es-MX') + ' tokens disponibles).';
+    container.classList.toggle('text-danger', !!budget.exhausted);
+    container.hidden = false;
+  }
+
+  function loadBudget() {
+    return requestJson(API_BASE + '/budget', { method: 'GET' })
+      .then(renderBudget)
+      .catch(function () {
+        renderBudget(null);
+      });
+  }
+
   function loadDrafts(options) {
     var opts = options || {};
     return requestJson(API_BASE + '/pending-drafts', { method: 'GET' })
@@ -739,6 +767,7 @@
         persistThreadId(data.threadId);
         loadDrafts({ selectNewest: true });
       }
+      loadBudget();
       renderMessages(false);
     }
 
@@ -972,6 +1001,7 @@
 
   function init() {
     bindEvents();
+    loadBudget();
     var initialDraftId = resolveInitialDraftId();
     if (initialDraftId) {
       state.selectedDraftId = initialDraftId;
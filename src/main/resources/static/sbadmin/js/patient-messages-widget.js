@@ -376,11 +376,47 @@
     state.pollTimer = setInterval(loadUnread, POLL_INTERVAL_MS);
   }
 
+  function onStreamUnread(event) {
+    var payload = JSON.parse(event.data);
+    state.unreadCount = payload.count || 0;
+    updateBadge();
+    if (state.open && !state.profileMode && $('#patientChatThreadView').hidden) {
+      loadUnread();
+    }
+  }
+
+  function onStreamMessage(event) {
+    var message = JSON.parse(event.data);
+    var threadVisible = state.open && !$('#patientChatThreadView').hidden;
+    if (!threadVisible || String(message.pacienteId) !== String(state.activePacienteId)) {
+      return;
+    }
+    state.thread.push(message);
+    renderThread();
+    fetchJson('/rest/patient-messages/thread/' + state.activePacienteId + '/read', { method: 'POST' })
+      .catch(function (err) {
+        console.warn('Could not mark patient message thread read', err);
+      });
+  }
+
+  // EventSource reconnects on its own; polling is only the fallback for browsers without SSE.
+  function startStream() {
+    if (typeof window.EventSource !== 'function') {
+      return false;
+    }
+    var source = new EventSource('/rest/patient-messages/stream');
+    source.addEventListener('unread', onStreamUnread);
+    source.addEventListener('message', onStreamMessage);
+    return true;
+  }
+
   function init() {
     initContext();
     bindEvents();
     loadUnread();
-    startPolling();
+    if (!startStream()) {
+      startPolling();
+    }
     if (state.profileMode && state.activePacienteId) {
       var hint = $('#patientChatProfileHint');
       if (hint) {
@@ -22,7 +22,9 @@ import org.springframework.ui.ExtendedModelMap;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributesModelMap;
 
+import com.nutriconsultas.jobs.ClusterJobRunner;
 import com.nutriconsultas.platform.PlatformAdminAuthorization;
+import com.nutriconsultas.subscription.maintenance.MaintenanceBackupRestorer.RestoreSummary;
 import com.nutriconsultas.subscription.maintenance.MaintenanceRetentionProperties;
 import com.nutriconsultas.subscription.maintenance.MaintenanceRetentionService;
 import com.nutriconsultas.subscription.maintenance.MaintenanceRun;
@@ -40,6 +42,9 @@ class MaintenanceAdminControllerTest {
 	@Mock
 	private MaintenanceRetentionProperties maintenanceRetentionProperties;
 
+	@Mock
+	private ClusterJobRunner clusterJobRunner;
+
 	@InjectMocks
 	private MaintenanceAdminController controller;
 
@@ -84,6 +89,41 @@ class MaintenanceAdminControllerTest {
 		assertThat(view).isEqualTo("redirect:/admin/platform/maintenance");
 	}
 
+	@Test
+	void restoreBackup_whenPlatformAdmin_delegatesToService() {
+		final OidcUser principal = principal("auth0|admin");
+		when(maintenanceRetentionService.restoreBackup("run-1", null, "auth0|admin")).thenReturn(new RestoreSummary());
+		final RedirectAttributesModelMap redirectAttributes = new RedirectAttributesModelMap();
+
+		final String view = controller.restoreBackup(principal, "run-1", null, redirectAttributes);
+
+		verify(platformAdminAuthorization).requirePlatformAdmin(principal, "maintenance.restore");
+		assertThat(view).isEqualTo("redirect:/admin/platform/maintenance");
+		assertThat(redirectAttributes.getFlashAttributes()).containsKey("successMessage");
+	}
+
+	@Test
+	void runClusterJob_whenPlatformAdmin_queuesManualRun() {
+		final OidcUser principal = principal("auth0|admin");
+		when(clusterJobRunner.triggerAsync("subscription-lifecycle", "auth0|admin")).thenReturn(true);
+		final RedirectAttributesModelMap redirectAttributes = new RedirectAttributesModelMap();
+
+		final String view = controller.runClusterJob(principal, "subscription-lifecycle", redirectAttributes);
+
+		verify(platformAdminAuthorization).requirePlatformAdmin(principal, "maintenance.run-job");
+		assertThat(view).isEqualTo("redirect:/admin/platform/maintenance");
+		assertThat(redirectAttributes.getFlashAttributes()).containsKey("successMessage");
+	}
+
+	@Test
+	void runClusterJob_whenUnknownJob_reportsError() {
+		final RedirectAttributesModelMap redirectAttributes = new RedirectAttributesModelMap();
+
+		controller.runClusterJob(principal("auth0|admin"), "missing", redirectAttributes);
+
+		assertThat(redirectAttributes.getFlashAttributes()).containsKey("errorMessage");
+	}
+
 	private static OidcUser principal(final String subject) {
 		final OidcIdToken token = new OidcIdToken("token", Instant.now(), Instant.now().plusSeconds(3600),
 				java.util.Map.of("sub", subject));
@@ -181,7 +181,8 @@ class AiBulkScopeGoldenPromptTest {
 					new AiAssistantOutputValidator());
 			service = new AiOrchestrationServiceImpl(properties, openAiClientService, systemPromptService,
 					new AiChatPersistence(threadRepository, messageRepository,
-							mock(org.springframework.transaction.support.TransactionTemplate.class)),
+							mock(org.springframework.transaction.support.TransactionTemplate.class),
+							mock(AiTokenBudgetService.class)),
 					new AiOrchestrationTools(toolCatalog, toolDispatcher, guardrails,
 							AiMetricsTestSupport.auditLogger()),
 					userMessageGuard, requestScopePipeline);
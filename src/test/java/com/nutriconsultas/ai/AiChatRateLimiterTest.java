@@ -9,9 +9,14 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.http.HttpStatus;
 
+import com.nutriconsultas.ratelimit.ClientRateLimiter;
+import com.nutriconsultas.ratelimit.InMemoryRateLimitStore;
+import com.nutriconsultas.ratelimit.RateLimitMetrics;
+
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class AiChatRateLimiterTest {
 
@@ -20,7 +25,7 @@ class AiChatRateLimiterTest {
 	@Test
 	void executeMessageRunsCallableWhenPermitAvailable() throws Exception {
 		final RateLimiterRegistry registry = registryWithLimit(1);
-		final AiChatRateLimiter liveLimiter = new AiChatRateLimiter(registry);
+		final AiChatRateLimiter liveLimiter = new AiChatRateLimiter(clientRateLimiter(registry));
 
 		final String result = liveLimiter.executeMessage(NUTRITIONIST_ID, () -> "ok");
 
@@ -30,7 +35,7 @@ class AiChatRateLimiterTest {
 	@Test
 	void executeMessageUsesPerNutritionistKey() throws Exception {
 		final RateLimiterRegistry registry = registryWithLimit(1);
-		final AiChatRateLimiter liveLimiter = new AiChatRateLimiter(registry);
+		final AiChatRateLimiter liveLimiter = new AiChatRateLimiter(clientRateLimiter(registry));
 
 		liveLimiter.executeMessage(NUTRITIONIST_ID, () -> "first");
 		assertThatThrownBy(() -> liveLimiter.executeMessage(NUTRITIONIST_ID, () -> "second"))
@@ -43,7 +48,7 @@ class AiChatRateLimiterTest {
 	@Test
 	void executeMessagePropagatesOpenAiClientException() {
 		final RateLimiterRegistry registry = registryWithLimit(5);
-		final AiChatRateLimiter liveLimiter = new AiChatRateLimiter(registry);
+		final AiChatRateLimiter liveLimiter = new AiChatRateLimiter(clientRateLimiter(registry));
 		final OpenAiClientException openAiEx = new OpenAiClientException(OpenAiClientException.ErrorKind.RATE_LIMIT,
 				HttpStatus.TOO_MANY_REQUESTS, "El servicio de IA está saturado. Intenta de nuevo en unos minutos.",
 				"OpenAI rate limit status=429", null);
@@ -53,6 +58,11 @@ class AiChatRateLimiterTest {
 		})).isSameAs(openAiEx);
 	}
 
+	private static ClientRateLimiter clientRateLimiter(final RateLimiterRegistry registry) {
+		final InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, null);
+		return new ClientRateLimiter(registry, store, new RateLimitMetrics(new SimpleMeterRegistry(), store));
+	}
+
 	private static RateLimiterRegistry registryWithLimit(final int limitForPeriod) {
 		final RateLimiterConfig config = RateLimiterConfig.custom()
 			.limitForPeriod(limitForPeriod)
@@ -24,6 +24,8 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.core.oidc.OidcIdToken;
 import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
 
+import com.nutriconsultas.subscription.PlanTier;
+
 import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 
 @ExtendWith(MockitoExtension.class)
@@ -97,6 +99,19 @@ class AiChatRestControllerTest {
 		assertThat(response.getBody()).containsEntry("threadId", 5L).containsKey("messages");
 	}
 
+	@Test
+	void getTokenBudgetReturnsRemainingTokens() {
+		when(chatService.getTokenBudget(NUTRITIONIST_ID)).thenReturn(new AiTokenBudgetStatus(PlanTier.PLUS, 2_000_000L,
+				1_500_000L, Instant.parse("2026-07-01T00:00:00Z"), true));
+
+		final ResponseEntity<Map<String, Object>> response = controller.getTokenBudget(principal(NUTRITIONIST_ID));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).containsEntry("planTier", "PLUS")
+			.containsEntry("remainingTokens", 500_000L)
+			.containsEntry("exhausted", false);
+	}
+
 	@Test
 	void listDraftsReturnsSummaries() {
 		final Instant now = Instant.parse("2026-06-30T12:00:00Z");
@@ -0,0 +1,43 @@
+package com.nutriconsultas.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AiDraftSummaryExtractorTest {
+
+	@Test
+	void summarizeReadsTopLevelTitleOnly() {
+		final AiGeneratedDraft draft = draft(AiDraftType.DIET_PLAN, """
+				{"days":[{"dayIndex":1,"label":"Lunes","title":"anidado","ingestas":[]}],
+				 "title":"  Plan semanal  ","dayCount":1}
+				""");
+
+		assertThat(AiDraftSummaryExtractor.summarize(draft))
+			.isEqualTo(AiDraftSummaryExtractor.REVIEW_LABEL + ": Plan semanal");
+	}
+
+	@Test
+	void summarizeUsesDishName() {
+		final AiGeneratedDraft draft = draft(AiDraftType.DISH, "{\"name\":\"Tacos\",\"portions\":2}");
+
+		assertThat(AiDraftSummaryExtractor.summarize(draft))
+			.isEqualTo(AiDraftSummaryExtractor.REVIEW_LABEL + ": Tacos");
+	}
+
+	@Test
+	void summarizeFallsBackToLabelForMissingTitleOrBrokenJson() {
+		assertThat(AiDraftSummaryExtractor.summarize(draft(AiDraftType.MENU, "{\"ingestas\":[]}")))
+			.isEqualTo(AiDraftSummaryExtractor.REVIEW_LABEL);
+		assertThat(AiDraftSummaryExtractor.summarize(draft(AiDraftType.MENU, "{\"title\":")))
+			.isEqualTo(AiDraftSummaryExtractor.REVIEW_LABEL);
+	}
+
+	private static AiGeneratedDraft draft(final AiDraftType type, final String json) {
+		final AiGeneratedDraft draft = new AiGeneratedDraft();
+		draft.setDraftType(type);
+		draft.setJsonPayload(json);
+		return draft;
+	}
+
+}
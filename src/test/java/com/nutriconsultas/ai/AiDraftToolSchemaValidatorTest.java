@@ -26,7 +26,7 @@ class AiDraftToolSchemaValidatorTest {
 				}
 				""";
 
-		assertThat(validator.validateDishDraftArguments(json)).isEmpty();
+		assertThat(validator.bindDishDraftArguments(json).success()).isTrue();
 	}
 
 	@Test
@@ -39,7 +39,7 @@ class AiDraftToolSchemaValidatorTest {
 				}
 				""";
 
-		assertThat(validator.validateDishDraftArguments(json)).isPresent().get().asString().contains("obligatorio");
+		assertThat(validator.bindDishDraftArguments(json).message()).contains("obligatorio");
 	}
 
 	@Test
@@ -54,13 +54,12 @@ class AiDraftToolSchemaValidatorTest {
 				}
 				""";
 
-		assertThat(validator.validateDishDraftArguments(json)).isPresent().get().asString().contains("no permitido");
+		assertThat(validator.bindDishDraftArguments(json).message()).contains("no permitido");
 	}
 
 	@Test
 	void rejectsMalformedJson() {
-		assertThat(validator.validateMenuDraftArguments("{name:")).isPresent()
-			.get()
+		assertThat(validator.bindMenuDraftArguments("{name:").message())
 			.isEqualTo(AiDraftToolSchemaValidator.INVALID_JSON_MESSAGE);
 	}
 
@@ -81,7 +80,7 @@ class AiDraftToolSchemaValidatorTest {
 				}
 				""";
 
-		assertThat(validator.validateMenuDraftArguments(json)).isEmpty();
+		assertThat(validator.bindMenuDraftArguments(json).success()).isTrue();
 	}
 
 	@Test
@@ -92,7 +91,7 @@ class AiDraftToolSchemaValidatorTest {
 				}
 				""";
 
-		assertThat(validator.validateMenuDraftArguments(json)).isPresent();
+		assertThat(validator.bindMenuDraftArguments(json).success()).isFalse();
 	}
 
 	@Test
@@ -117,7 +116,7 @@ class AiDraftToolSchemaValidatorTest {
 				}
 				""";
 
-		assertThat(validator.validateDietPlanDraftArguments(json)).isEmpty();
+		assertThat(validator.bindDietPlanDraftArguments(json).success()).isTrue();
 	}
 
 	@Test
@@ -143,7 +142,50 @@ class AiDraftToolSchemaValidatorTest {
 		days.append(']');
 		final String json = "{ \"days\": " + days + " }";
 
-		assertThat(validator.validateDietPlanDraftArguments(json)).isPresent();
+		assertThat(validator.bindDietPlanDraftArguments(json).success()).isFalse();
+	}
+
+	@Test
+	void bindsValidDietPlanArgumentsToTypedInput() {
+		final String json = """
+				{
+				  "title": "Plan 1 día",
+				  "dayCount": 1,
+				  "days": [
+				    {
+				      "dayIndex": 1,
+				      "ingestas": [
+				        {
+				          "nombre": "Comida",
+				          "items": [
+				            { "type": "PLATILLO", "platilloId": 5, "portions": 2 }
+				          ]
+				        }
+				      ]
+				    }
+				  ]
+				}
+				""";
+
+		final AiToolResult<DietPlanDraftInput> result = validator.bindDietPlanDraftArguments(json);
+
+		assertThat(result.success()).isTrue();
+		assertThat(result.data().title()).isEqualTo("Plan 1 día");
+		assertThat(result.data().days()).singleElement()
+			.satisfies(day -> assertThat(day.ingestas().get(0).items().get(0).platilloId()).isEqualTo(5L));
+	}
+
+	@Test
+	void bindReturnsValidationErrorWithoutBinding() {
+		final AiToolResult<DishDraftInput> malformed = validator.bindDishDraftArguments("{name:");
+		final AiToolResult<DishDraftInput> missingName = validator
+			.bindDishDraftArguments("{ \"ingredients\": [ { \"alimentoId\": 1, \"cantidad\": \"1\" } ] }");
+
+		assertThat(malformed.success()).isFalse();
+		assertThat(malformed.message()).isEqualTo(AiDraftToolSchemaValidator.INVALID_JSON_MESSAGE);
+		assertThat(missingName.success()).isFalse();
+		assertThat(missingName.errorCode()).isEqualTo(AiToolErrorCode.VALIDATION);
+		assertThat(missingName.message()).contains("obligatorio");
 	}
 
 }
@@ -2,14 +2,17 @@ package com.nutriconsultas.ai;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -24,7 +27,6 @@ class AiIngestaNutrientCalculatorTest {
 
 	private static final String NUTRITIONIST_ID = "auth0|nutritionist-a";
 
-	@InjectMocks
 	private AiIngestaNutrientCalculator calculator;
 
 	@Mock
@@ -36,10 +38,16 @@ class AiIngestaNutrientCalculatorTest {
 	@Mock
 	private CalculateRecipeNutrientsToolService recipeNutrientsToolService;
 
+	@BeforeEach
+	void setUp() {
+		calculator = new AiIngestaNutrientCalculator(new AiCatalogPrefetcher(alimentosRepository, platilloRepository),
+				recipeNutrientsToolService);
+	}
+
 	@Test
 	void computeIngestasSumsAlimentoItems() {
 		final Alimento avena = sampleAlimento(1L, "Avena", "taza", 1.0, 200, 160, 6.0, 4.0, 36.0);
-		when(alimentosRepository.findById(1L)).thenReturn(Optional.of(avena));
+		when(alimentosRepository.findAllById(Set.of(1L))).thenReturn(List.of(avena));
 
 		final AiToolResult<AiIngestaNutrientCalculator.IngestaNutrientComputation> result = calculator
 			.computeIngestas(NUTRITIONIST_ID, List.of(new IngestaSlotInput("Desayuno", 1,
@@ -60,7 +68,7 @@ class AiIngestaNutrientCalculatorTest {
 		platillo.setProteina(5.0);
 		platillo.setLipidos(8.0);
 		platillo.setHidratosDeCarbono(12.0);
-		when(platilloRepository.findById(10L)).thenReturn(Optional.of(platillo));
+		when(platilloRepository.findWithIngredientesByIdIn(Set.of(10L))).thenReturn(List.of(platillo));
 
 		final AiToolResult<AiIngestaNutrientCalculator.IngestaNutrientComputation> result = calculator
 			.computeIngestas(NUTRITIONIST_ID, List.of(new IngestaSlotInput("Comida", 1,
@@ -75,7 +83,7 @@ class AiIngestaNutrientCalculatorTest {
 		final Platillo platillo = new Platillo();
 		platillo.setId(11L);
 		platillo.setUserId("auth0|other");
-		when(platilloRepository.findById(11L)).thenReturn(Optional.of(platillo));
+		when(platilloRepository.findWithIngredientesByIdIn(Set.of(11L))).thenReturn(List.of(platillo));
 
 		final AiToolResult<AiIngestaNutrientCalculator.IngestaNutrientComputation> result = calculator
 			.computeIngestas(NUTRITIONIST_ID, List.of(new IngestaSlotInput("Comida", 1,
@@ -85,6 +93,33 @@ class AiIngestaNutrientCalculatorTest {
 		assertThat(result.errorCode()).isEqualTo(AiToolErrorCode.NOT_FOUND);
 	}
 
+	@Test
+	void computeIngestasPrefetchesPlanCatalogOnce() {
+		final Alimento avena = sampleAlimento(1L, "Avena", "taza", 1.0, 200, 160, 6.0, 4.0, 36.0);
+		final Alimento leche = sampleAlimento(2L, "Leche", "taza", 1.0, 100, 240, 8.0, 2.0, 12.0);
+		final Platillo platillo = new Platillo();
+		platillo.setId(10L);
+		platillo.setUserId(NUTRITIONIST_ID);
+		platillo.setEnergia(150);
+		when(alimentosRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(avena, leche));
+		when(platilloRepository.findWithIngredientesByIdIn(Set.of(10L))).thenReturn(List.of(platillo));
+
+		final AiToolResult<AiIngestaNutrientCalculator.IngestaNutrientComputation> result = calculator
+			.computeIngestas(NUTRITIONIST_ID, List.of(
+					new IngestaSlotInput("Desayuno", 1,
+							List.of(new IngestaSlotItemInput("ALIMENTO", null, 1L, 1, null),
+									new IngestaSlotItemInput("ALIMENTO", null, 2L, 1, null))),
+					new IngestaSlotInput("Comida", 2, List.of(new IngestaSlotItemInput("PLATILLO", 10L, null, 1, null),
+							new IngestaSlotItemInput("ALIMENTO", null, 1L, 1, null)))));
+
+		assertThat(result.success()).isTrue();
+		assertThat(result.data().nutrients().energiaKcal()).isEqualTo(650);
+		verify(alimentosRepository, times(1)).findAllById(any());
+		verify(platilloRepository, times(1)).findWithIngredientesByIdIn(any());
+		verify(alimentosRepository, never()).findById(any());
+		verify(platilloRepository, never()).findById(any());
+	}
+
 	@Test
 	void computeDishDelegatesToRecipeService() {
 		final RecipeNutrientsData recipeData = new RecipeNutrientsData(1,
@@ -77,6 +77,9 @@ class AiNutritionGoldenPromptTest {
 	@Mock
 	private AiRequestScopePipeline requestScopePipeline;
 
+	@Mock
+	private AiTokenBudgetService tokenBudgetService;
+
 	private AiRequestScopeGuard scopeGuard;
 
 	private AiOrchestrationGuardrails realGuardrails;
@@ -102,6 +105,7 @@ class AiNutritionGoldenPromptTest {
 		when(chatPersistence.getThreadRepository()).thenReturn(threadRepository);
 		when(chatPersistence.getMessageRepository()).thenReturn(messageRepository);
 		when(chatPersistence.getTransactionTemplate()).thenReturn(transactionTemplate);
+		when(chatPersistence.getTokenBudgetService()).thenReturn(tokenBudgetService);
 		when(orchestrationTools.getToolCatalog()).thenReturn(toolCatalog);
 		when(orchestrationTools.getToolDispatcher()).thenReturn(toolDispatcher);
 		when(orchestrationTools.getGuardrails()).thenReturn(realGuardrails);
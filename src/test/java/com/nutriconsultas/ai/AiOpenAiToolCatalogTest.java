@@ -1,6 +1,7 @@
 package com.nutriconsultas.ai;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 import java.util.Map;
@@ -96,4 +97,22 @@ class AiOpenAiToolCatalogTest {
 		assertThat(dayProps).containsKey("ingestas");
 	}
 
+	@Test
+	void definitionsAreBuiltOncePerSessionShape() {
+		final AiPatientPromptContext patient = new AiPatientPromptContext(5L, 1800.0, null, false, "M", false, null,
+				null, Map.of(), null, null, null, null, null, null);
+
+		assertThat(catalog.definitionsForSession(null)).isSameAs(catalog.definitionsForSession(null));
+		assertThat(catalog.definitionsForSession(patient)).isSameAs(catalog.definitions());
+	}
+
+	@Test
+	void parameterSchemasAreImmutableWithSortedKeys() {
+		for (final OpenAiToolDefinition definition : catalog.definitions()) {
+			assertThat(List.copyOf(definition.parameters().keySet())).isSorted();
+			assertThatThrownBy(() -> definition.parameters().put("extra", "value"))
+				.isInstanceOf(UnsupportedOperationException.class);
+		}
+	}
+
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -21,6 +22,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -70,6 +72,9 @@ class AiOrchestrationServiceTest {
 	@Mock
 	private AiRequestScopePipeline requestScopePipeline;
 
+	@Mock
+	private AiTokenBudgetService tokenBudgetService;
+
 	@Mock
 	private AiOrchestrationGuardrails guardrails;
 
@@ -97,6 +102,7 @@ class AiOrchestrationServiceTest {
 		lenient().when(chatPersistence.getThreadRepository()).thenReturn(threadRepository);
 		lenient().when(chatPersistence.getMessageRepository()).thenReturn(messageRepository);
 		lenient().when(chatPersistence.getTransactionTemplate()).thenReturn(transactionTemplate);
+		lenient().when(chatPersistence.getTokenBudgetService()).thenReturn(tokenBudgetService);
 		lenient().when(orchestrationTools.getToolCatalog()).thenReturn(toolCatalog);
 		lenient().when(orchestrationTools.getToolDispatcher()).thenReturn(toolDispatcher);
 		lenient().when(orchestrationTools.getGuardrails()).thenReturn(guardrails);
@@ -185,6 +191,8 @@ class AiOrchestrationServiceTest {
 		assertThat(result.toolCallsExecuted()).isEqualTo(1);
 		assertThat(result.assistantMessage().getContent()).contains("Encontré avena");
 		assertThat(result.tokenUsage().totalTokens()).isEqualTo(80);
+		verify(tokenBudgetService).recordUsage(NUTRITIONIST_ID, new OpenAiTokenUsage(15, 5, 20));
+		verify(tokenBudgetService).recordUsage(NUTRITIONIST_ID, new OpenAiTokenUsage(40, 20, 60));
 		verify(toolDispatcher).dispatch(any(), eq(SearchFoodCatalogToolService.TOOL_NAME), any());
 		verify(messageRepository, times(3)).save(any(AiChatMessage.class));
 	}
@@ -233,6 +241,20 @@ class AiOrchestrationServiceTest {
 				&& AiOrchestrationServiceImpl.TOOL_LIMIT_NUDGE.equals(message.content()));
 	}
 
+	@Test
+	void processUserMessageRejectedBeforePersistingWhenTokenBudgetExhausted() {
+		stubAiEnabled();
+		doThrow(new AiChatException(HttpStatus.TOO_MANY_REQUESTS, AiToolErrorCode.RATE_LIMIT,
+				AiErrorMessages.TOKEN_BUDGET_EXCEEDED))
+			.when(tokenBudgetService)
+			.assertWithinBudget(NUTRITIONIST_ID);
+
+		assertThatThrownBy(() -> service.processUserMessage(context(), "Hola")).isInstanceOf(AiChatException.class)
+			.hasMessage(AiErrorMessages.TOKEN_BUDGET_EXCEEDED);
+		verify(messageRepository, never()).save(any(AiChatMessage.class));
+		verify(openAiClientService, never()).chatCompletion(any());
+	}
+
 	@Test
 	void processUserMessageWhenThreadNotFound() {
 		stubAiEnabled();
@@ -77,8 +77,9 @@ class AiOrchestrationToolDispatcherTest {
 
 	@Test
 	void dispatchDishDraftRejectsSchemaViolationBeforeService() {
-		when(draftToolSchemaValidator.validateDishDraftArguments(org.mockito.ArgumentMatchers.anyString())).thenReturn(
-				java.util.Optional.of("Argumentos de herramienta no válidos: falta el campo obligatorio (name)."));
+		when(draftToolSchemaValidator.bindDishDraftArguments(org.mockito.ArgumentMatchers.anyString()))
+			.thenReturn(AiToolResult.error(AiToolErrorCode.VALIDATION,
+					"Argumentos de herramienta no válidos: falta el campo obligatorio (name)."));
 
 		final String json = dispatcher.dispatch(context(), CreateDishDraftToolService.TOOL_NAME,
 				"{\"ingredients\":[{\"alimentoId\":1,\"cantidad\":\"1\"}]}");
@@ -9,10 +9,6 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import com.nutriconsultas.alimentos.Alimento;
-import com.nutriconsultas.alimentos.AlimentosRepository;
-
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 class AiPlanConstraintEvaluatorTest {
 
@@ -23,7 +19,7 @@ class AiPlanConstraintEvaluatorTest {
 				null, 2000.0, null, null, null, null, null, 50.0);
 
 		final List<PlanConstraintWarning> warnings = AiPlanConstraintEvaluator.evaluate(computed, request, null,
-				Set.of(), mock(AlimentosRepository.class));
+				Set.of(), AiCatalogSnapshot.empty());
 
 		assertThat(warnings).anyMatch(warning -> warning.code() == PlanConstraintWarningCode.KCAL_OUT_OF_RANGE);
 	}
@@ -35,7 +31,7 @@ class AiPlanConstraintEvaluatorTest {
 				null, null, 120.0, null, null, null, null, null);
 
 		final List<PlanConstraintWarning> warnings = AiPlanConstraintEvaluator.evaluate(computed, request, null,
-				Set.of(), mock(AlimentosRepository.class));
+				Set.of(), AiCatalogSnapshot.empty());
 
 		assertThat(warnings).anyMatch(warning -> warning.code() == PlanConstraintWarningCode.PROTEIN_LOW);
 	}
@@ -47,7 +43,7 @@ class AiPlanConstraintEvaluatorTest {
 				null, null, null, null, null, 2000.0, null, null);
 
 		final List<PlanConstraintWarning> warnings = AiPlanConstraintEvaluator.evaluate(computed, request, null,
-				Set.of(), mock(AlimentosRepository.class));
+				Set.of(), AiCatalogSnapshot.empty());
 
 		assertThat(warnings).anyMatch(warning -> warning.code() == PlanConstraintWarningCode.SODIUM_HIGH);
 	}
@@ -61,7 +57,7 @@ class AiPlanConstraintEvaluatorTest {
 				null, null, Map.of(), null, null, null, null, null, null);
 
 		final List<PlanConstraintWarning> warnings = AiPlanConstraintEvaluator.evaluate(computed, request,
-				patientContext, Set.of(), mock(AlimentosRepository.class));
+				patientContext, Set.of(), AiCatalogSnapshot.empty());
 
 		assertThat(warnings).anyMatch(warning -> warning.code() == PlanConstraintWarningCode.KCAL_OUT_OF_RANGE);
 		assertThat(AiPlanConstraintEvaluator.patientContextApplied(patientContext, request, warnings)).isTrue();
@@ -69,12 +65,11 @@ class AiPlanConstraintEvaluatorTest {
 
 	@Test
 	void evaluateFlagsAllergyRiskFromPatientContext() {
-		final AlimentosRepository repository = mock(AlimentosRepository.class);
 		final Alimento mani = new Alimento();
 		mani.setId(5L);
 		mani.setNombreAlimento("Crema de cacahuate");
 		mani.setClasificacion("Grasas");
-		when(repository.findById(5L)).thenReturn(java.util.Optional.of(mani));
+		final AiCatalogSnapshot catalog = new AiCatalogSnapshot(Map.of(5L, mani), Map.of());
 
 		final AiPatientPromptContext patientContext = new AiPatientPromptContext(1L, 2000.0, null, false, "F", false,
 				null, null, Map.of(), "cacahuate, mariscos", null, null, null, null, null);
@@ -83,7 +78,7 @@ class AiPlanConstraintEvaluatorTest {
 
 		final List<PlanConstraintWarning> warnings = AiPlanConstraintEvaluator.evaluate(
 				new NutrientSummary(500, 20.0, 30.0, 10.0, 5.0, 200.0, 300.0), request, patientContext, Set.of(5L),
-				repository);
+				catalog);
 
 		assertThat(warnings).anyMatch(warning -> warning.code() == PlanConstraintWarningCode.ALLERGY_RISK
 				&& warning.severity() == PlanConstraintWarningSeverity.ERROR);
@@ -98,10 +93,22 @@ class AiPlanConstraintEvaluatorTest {
 
 		final List<PlanConstraintWarning> warnings = AiPlanConstraintEvaluator.evaluate(
 				new NutrientSummary(1800, 100.0, 50.0, 150.0, 20.0, 1200.0, 2500.0), request, patientContext, Set.of(),
-				mock(AlimentosRepository.class));
+				AiCatalogSnapshot.empty());
 
 		assertThat(warnings).anyMatch(warning -> warning.code() == PlanConstraintWarningCode.PATHOLOGY_NOTE
 				&& warning.severity() == PlanConstraintWarningSeverity.INFO);
 	}
 
+	@Test
+	void catalogIdsToResolveOnlyIncludesNamesTheEvaluationNeeds() {
+		final ValidatePlanConstraintsRequest request = new ValidatePlanConstraintsRequest(AiPlanType.MENU, null, null,
+				null, null, null, null, null, null, List.of(3L, 9L), null);
+		final AiPatientPromptContext allergic = new AiPatientPromptContext(1L, 2000.0, null, false, "F", false, null,
+				null, Map.of(), "cacahuate", null, null, null, null, null);
+
+		assertThat(AiPlanConstraintEvaluator.catalogIdsToResolve(request, null, Set.of(1L, 3L))).containsExactly(3L);
+		assertThat(AiPlanConstraintEvaluator.catalogIdsToResolve(request, allergic, Set.of(1L, 3L)))
+			.containsExactlyInAnyOrder(1L, 3L);
+	}
+
 }
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -72,6 +73,9 @@ class AiSecurityGoldenPromptTest {
 	@Mock
 	private AiRequestScopePipeline requestScopePipeline;
 
+	@Mock
+	private AiTokenBudgetService tokenBudgetService;
+
 	private AiOrchestrationGuardrails realGuardrails;
 
 	private AiUserMessageGuard realUserMessageGuard;
@@ -94,6 +98,7 @@ class AiSecurityGoldenPromptTest {
 		when(chatPersistence.getThreadRepository()).thenReturn(threadRepository);
 		when(chatPersistence.getMessageRepository()).thenReturn(messageRepository);
 		when(chatPersistence.getTransactionTemplate()).thenReturn(transactionTemplate);
+		lenient().when(chatPersistence.getTokenBudgetService()).thenReturn(tokenBudgetService);
 		when(orchestrationTools.getToolCatalog()).thenReturn(toolCatalog);
 		when(orchestrationTools.getToolDispatcher()).thenReturn(toolDispatcher);
 		when(orchestrationTools.getGuardrails()).thenReturn(realGuardrails);
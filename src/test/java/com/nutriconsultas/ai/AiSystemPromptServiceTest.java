@@ -137,4 +137,29 @@ class AiSystemPromptServiceTest {
 		assertThat(planRefusal).contains("Puedo ayudarte con 1 borrador de ejemplo que revises y apruebes");
 	}
 
+	@Test
+	void equalContextsReuseMemoizedPrompt() {
+		final AiDietaPromptContext dieta = new AiDietaPromptContext(7L, "Plan 1800", 1800, 90.0, 60.0, 200.0, 5,
+				List.of("Desayuno", "Comida"), false, null);
+		final String first = service
+			.buildSystemPrompt(new AiSystemPromptContext(Locale.forLanguageTag("es-MX"), null, null, dieta, null));
+		final String second = service
+			.buildSystemPrompt(new AiSystemPromptContext(Locale.forLanguageTag("es-MX"), null, null, dieta, null));
+
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	void sessionContextsShareStablePromptPrefix() {
+		final AiPatientPromptContext patient = new AiPatientPromptContext(42L, 1800.0, null, false, "F", false, null,
+				null, Map.of(), "Mariscos", null, null, null, null, "Ana Demo");
+		final String general = service.buildSystemPrompt(AiSystemPromptContext.defaultNutritionist());
+		final String withPatient = service
+			.buildSystemPrompt(new AiSystemPromptContext(Locale.forLanguageTag("es-MX"), null, patient, null, null));
+		final String sharedPrefix = general.substring(0, general.indexOf(AiPromptDelimiters.NUTRITIONIST_CONTEXT_OPEN));
+
+		assertThat(sharedPrefix).contains("Eres Mina").doesNotContain("{{");
+		assertThat(withPatient).startsWith(sharedPrefix);
+	}
+
 }
@@ -0,0 +1,178 @@
+package com.nutriconsultas.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nutriconsultas.subscription.EffectivePlan;
+import com.nutriconsultas.subscription.PlanTier;
+import com.nutriconsultas.subscription.SubscriptionEntitlementService;
+
+@ExtendWith(MockitoExtension.class)
+class AiTokenBudgetServiceTest {
+
+	private static final String NUTRITIONIST_ID = "auth0|nutritionist-a";
+
+	private static final long CLINIC_ID = 7L;
+
+	private static final LocalDate MONTH = LocalDate.of(2026, 6, 1);
+
+	@Mock
+	private SubscriptionEntitlementService entitlementService;
+
+	@Mock
+	private AiTokenUsageRepository usageRepository;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private AiUsageMetrics usageMetrics;
+
+	private AiProperties properties;
+
+	private AiTokenBudgetServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+		properties = new AiProperties();
+		service = new AiTokenBudgetServiceImpl(properties, entitlementService, usageRepository, transactionTemplate,
+				usageMetrics, Clock.fixed(Instant.parse("2026-06-15T12:00:00Z"), ZoneOffset.UTC));
+	}
+
+	@Test
+	void unflushedUsageCountsTowardClinicBudget() {
+		stubPlan(PlanTier.PLUS);
+		when(usageRepository.sumTotalTokensByClinic(CLINIC_ID, MONTH)).thenReturn(1_999_990L);
+
+		service.assertWithinBudget(NUTRITIONIST_ID);
+		service.recordUsage(NUTRITIONIST_ID, new OpenAiTokenUsage(8, 4, 12));
+
+		final AiTokenBudgetStatus budget = service.getBudget(NUTRITIONIST_ID);
+		assertThat(budget.usedTokens()).isEqualTo(2_000_002L);
+		assertThat(budget.remainingTokens()).isZero();
+		assertThat(budget.resetsAt()).isEqualTo(Instant.parse("2026-07-01T00:00:00Z"));
+		assertThatThrownBy(() -> service.assertWithinBudget(NUTRITIONIST_ID)).isInstanceOf(AiChatException.class)
+			.satisfies(ex -> {
+				assertThat(((AiChatException) ex).getHttpStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+				assertThat(((AiChatException) ex).getErrorCode()).isEqualTo(AiToolErrorCode.RATE_LIMIT);
+			});
+		verify(usageMetrics).recordTokenBudgetExceeded();
+		verify(entitlementService, times(1)).getEffectivePlan(NUTRITIONIST_ID);
+		verify(usageRepository, times(1)).sumTotalTokensByClinic(CLINIC_ID, MONTH);
+	}
+
+	@Test
+	void budgetNotEnforcedWithoutGrantingSubscription() {
+		when(entitlementService.getEffectivePlan(NUTRITIONIST_ID)).thenReturn(Optional.empty());
+
+		service.assertWithinBudget(NUTRITIONIST_ID);
+
+		assertThat(service.getBudget(NUTRITIONIST_ID).enforced()).isFalse();
+		verify(usageRepository, never()).sumTotalTokensByClinic(anyLong(), any());
+	}
+
+	@Test
+	void fullPlanCacheEvictsLeastRecentlyUsedEntryOnly() {
+		when(entitlementService.getEffectivePlan(any())).thenReturn(Optional.empty());
+		service.assertWithinBudget(NUTRITIONIST_ID);
+		for (int i = 1; i < AiTokenBudgetServiceImpl.MAX_CACHED_ENTRIES; i++) {
+			service.assertWithinBudget("auth0|other-" + i);
+		}
+		service.assertWithinBudget(NUTRITIONIST_ID);
+
+		service.assertWithinBudget("auth0|overflow");
+		service.assertWithinBudget(NUTRITIONIST_ID);
+
+		verify(entitlementService, times(1)).getEffectivePlan(NUTRITIONIST_ID);
+	}
+
+	@Test
+	void disabledBudgetSkipsAdmissionLookups() {
+		properties.getTokenBudget().setEnabled(false);
+
+		service.assertWithinBudget(NUTRITIONIST_ID);
+
+		verify(entitlementService, never()).getEffectivePlan(any());
+	}
+
+	@Test
+	void flushMergesCompletionsIntoOneRowAndInsertsWhenMissing() {
+		stubPlan(PlanTier.CONSULTORIO);
+		runTransactionsInline();
+		service.recordUsage(NUTRITIONIST_ID, new OpenAiTokenUsage(100, 20, 120, 64));
+		service.recordUsage(NUTRITIONIST_ID, new OpenAiTokenUsage(50, 10, 60));
+
+		assertThat(service.flush()).isEqualTo(1);
+		assertThat(service.flush()).isZero();
+
+		verify(usageRepository).addUsage(eq(NUTRITIONIST_ID), eq(CLINIC_ID), eq(MONTH), eq(150L), eq(30L), eq(64L),
+				eq(2L), any());
+		final ArgumentCaptor<AiTokenUsage> saved = ArgumentCaptor.forClass(AiTokenUsage.class);
+		verify(usageRepository).save(saved.capture());
+		assertThat(saved.getValue().getClinicId()).isEqualTo(CLINIC_ID);
+		assertThat(saved.getValue().getUsageMonth()).isEqualTo(MONTH);
+		assertThat(saved.getValue().getPromptTokens()).isEqualTo(150L);
+		assertThat(saved.getValue().getRequestCount()).isEqualTo(2L);
+		verify(usageMetrics).recordTokenBudgetFlush("success", 1);
+	}
+
+	@Test
+	void failedFlushKeepsUsageForNextFlush() {
+		stubPlan(PlanTier.PLUS);
+		service.recordUsage(NUTRITIONIST_ID, new OpenAiTokenUsage(10, 5, 15));
+		doThrow(new IllegalStateException("db down")).when(transactionTemplate).executeWithoutResult(any());
+
+		assertThat(service.flush()).isZero();
+		verify(usageMetrics).recordTokenBudgetFlush("failure", 1);
+
+		runTransactionsInline();
+		when(usageRepository.addUsage(any(), any(), any(), anyLong(), anyLong(), anyLong(), anyLong(), any()))
+			.thenReturn(1);
+		service.recordUsage(NUTRITIONIST_ID, new OpenAiTokenUsage(1, 1, 2));
+
+		assertThat(service.flush()).isEqualTo(1);
+		verify(usageRepository).addUsage(eq(NUTRITIONIST_ID), eq(CLINIC_ID), eq(MONTH), eq(11L), eq(6L), eq(0L), eq(2L),
+				any());
+		verify(usageRepository, never()).save(any());
+	}
+
+	private void stubPlan(final PlanTier planTier) {
+		when(entitlementService.getEffectivePlan(NUTRITIONIST_ID))
+			.thenReturn(Optional.of(new EffectivePlan(planTier, CLINIC_ID)));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void runTransactionsInline() {
+		doAnswer(invocation -> {
+			((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.nutriconsultas.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * Monthly usage rows are incremented in place and summed per clinic for budget checks.
+ */
+@DataJpaTest
+class AiTokenUsageRepositoryTest {
+
+	private static final LocalDate MONTH = LocalDate.of(2026, 6, 1);
+
+	@Autowired
+	private AiTokenUsageRepository repository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void addUsageIncrementsExistingRowOnly() {
+		persist("auth0|a", 7L, MONTH, 100L, 20L);
+
+		assertThat(repository.addUsage("auth0|a", 7L, MONTH, 10L, 5L, 4L, 1L, Instant.now())).isEqualTo(1);
+		assertThat(repository.addUsage("auth0|b", 7L, MONTH, 10L, 5L, 0L, 1L, Instant.now())).isZero();
+		entityManager.clear();
+
+		final AiTokenUsage updated = repository.findAll().get(0);
+		assertThat(updated.getPromptTokens()).isEqualTo(110L);
+		assertThat(updated.getCompletionTokens()).isEqualTo(25L);
+		assertThat(updated.getCachedPromptTokens()).isEqualTo(4L);
+		assertThat(updated.getRequestCount()).isEqualTo(2L);
+	}
+
+	@Test
+	void sumsTotalsPerClinicAndMonth() {
+		persist("auth0|a", 7L, MONTH, 100L, 20L);
+		persist("auth0|b", 7L, MONTH, 30L, 10L);
+		persist("auth0|c", 8L, MONTH, 500L, 500L);
+		persist("auth0|a", 7L, MONTH.minusMonths(1), 900L, 900L);
+
+		assertThat(repository.sumTotalTokensByClinic(7L, MONTH)).isEqualTo(160L);
+		assertThat(repository.sumTotalTokensByClinic(9L, MONTH)).isZero();
+		assertThat(repository.sumTotalTokensByNutritionist("auth0|a", MONTH)).isEqualTo(120L);
+	}
+
+	private void persist(final String nutritionistId, final Long clinicId, final LocalDate month,
+			final long promptTokens, final long completionTokens) {
+		final AiTokenUsage usage = new AiTokenUsage();
+		usage.setNutritionistId(nutritionistId);
+		usage.setClinicId(clinicId);
+		usage.setUsageMonth(month);
+		usage.setPromptTokens(promptTokens);
+		usage.setCompletionTokens(completionTokens);
+		usage.setRequestCount(1L);
+		entityManager.persistAndFlush(usage);
+	}
+
+}
@@ -71,6 +71,14 @@ class AiUsageMetricsTest {
 			.isEqualTo(1.0);
 	}
 
+	@Test
+	void recordsCachedPromptTokens() {
+		metrics.recordTokenUsage(new OpenAiTokenUsage(1200, 40, 1240, 1024));
+
+		assertThat(registry.get(AiUsageMetrics.OPENAI_TOKENS).tag("kind", "cached_prompt").counter().count())
+			.isEqualTo(1024.0);
+	}
+
 	@Test
 	void ignoresNullTokenUsage() {
 		metrics.recordTokenUsage(null);
@@ -36,7 +36,7 @@ class CreateDietPlanDraftToolServiceTest {
 	@Test
 	void createDraftPersistsDietPlanDraftWithComputedNutrients() {
 		final NutrientSummary dayNutrients = new NutrientSummary(1800, 90.0, 60.0, 200.0, 25.0, 2000.0, 3500.0);
-		when(ingestaNutrientCalculator.computeIngestas(eq(NUTRITIONIST_ID), any())).thenReturn(AiToolResult
+		when(ingestaNutrientCalculator.computeIngestas(eq(NUTRITIONIST_ID), any(), any())).thenReturn(AiToolResult
 			.success(new AiIngestaNutrientCalculator.IngestaNutrientComputation(dayNutrients, List.of(), Set.of(1L))));
 		final AiGeneratedDraft saved = new AiGeneratedDraft();
 		saved.setId(77L);
@@ -56,7 +56,7 @@ class CreateDietPlanDraftToolServiceTest {
 		assertThat(result.data().summary()).contains("Plan semanal");
 		assertThat(result.data().previewPath()).isEqualTo("/admin/ai?threadId=42&draftId=77");
 		verify(draftLifecycleService).createDraft(eq(THREAD_ID), eq(NUTRITIONIST_ID), eq(AiDraftType.DIET_PLAN), any());
-		verify(ingestaNutrientCalculator, times(2)).computeIngestas(eq(NUTRITIONIST_ID), any());
+		verify(ingestaNutrientCalculator, times(2)).computeIngestas(eq(NUTRITIONIST_ID), any(), any());
 	}
 
 	@Test
@@ -67,7 +67,7 @@ class CreateDietPlanDraftToolServiceTest {
 
 		assertThat(result.success()).isFalse();
 		assertThat(result.errorCode()).isEqualTo(AiToolErrorCode.VALIDATION);
-		verify(ingestaNutrientCalculator, never()).computeIngestas(any(), any());
+		verify(ingestaNutrientCalculator, never()).computeIngestas(any(), any(), any());
 		verify(draftLifecycleService, never()).createDraft(any(), any(), any(), any());
 	}
 
@@ -79,12 +79,12 @@ class CreateDietPlanDraftToolServiceTest {
 
 		assertThat(result.success()).isFalse();
 		assertThat(result.errorCode()).isEqualTo(AiToolErrorCode.VALIDATION);
-		verify(ingestaNutrientCalculator, never()).computeIngestas(any(), any());
+		verify(ingestaNutrientCalculator, never()).computeIngestas(any(), any(), any());
 	}
 
 	@Test
 	void createDraftPropagatesNutrientComputationErrors() {
-		when(ingestaNutrientCalculator.computeIngestas(eq(NUTRITIONIST_ID), any()))
+		when(ingestaNutrientCalculator.computeIngestas(eq(NUTRITIONIST_ID), any(), any()))
 			.thenReturn(AiToolResult.error(AiToolErrorCode.NOT_FOUND, "No se encontró el platillo solicitado."));
 
 		final DietPlanDraftInput input = new DietPlanDraftInput(null, null, null,
@@ -101,7 +101,7 @@ class CreateDietPlanDraftToolServiceTest {
 
 	@Test
 	void createDraftMapsUnknownThreadToNotFound() {
-		when(ingestaNutrientCalculator.computeIngestas(eq(NUTRITIONIST_ID), any()))
+		when(ingestaNutrientCalculator.computeIngestas(eq(NUTRITIONIST_ID), any(), any()))
 			.thenReturn(AiToolResult.success(new AiIngestaNutrientCalculator.IngestaNutrientComputation(
 					new NutrientSummary(500, 20.0, 10.0, 60.0, 5.0, 400.0, 800.0), List.of(), Set.of(1L))));
 		when(draftLifecycleService.createDraft(eq(THREAD_ID), eq(NUTRITIONIST_ID), eq(AiDraftType.DIET_PLAN), any()))
@@ -20,6 +20,10 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClient;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+
 class OpenAiClientServiceTest {
 
 	private AiProperties properties;
@@ -35,10 +39,13 @@ class OpenAiClientServiceTest {
 		properties.getOpenai().setApiKey("sk-test-key");
 		properties.getOpenai().setModel("gpt-test");
 		properties.getOpenai().setBaseUrl("https://api.openai.com");
+		properties.getOpenai().setMaxRetries(0);
 		final RestClient.Builder restClientBuilder = RestClient.builder().baseUrl(properties.getOpenai().getBaseUrl());
 		mockServer = MockRestServiceServer.bindTo(restClientBuilder).build();
-		service = new OpenAiClientServiceImpl(properties, restClientBuilder.build(),
-				AiMetricsTestSupport.auditLogger());
+		final OpenAiTransport transport = new OpenAiTransport(properties, restClientBuilder.build(),
+				CircuitBreakerRegistry.ofDefaults(), RetryRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(),
+				AiMetricsTestSupport.usageMetrics());
+		service = new OpenAiClientServiceImpl(properties, transport, AiMetricsTestSupport.auditLogger());
 	}
 
 	@Test
@@ -171,6 +178,74 @@ class OpenAiClientServiceTest {
 		mockServer.verify();
 	}
 
+	@Test
+	void chatCompletionParsesCachedPromptTokens() {
+		mockServer.expect(requestTo("https://api.openai.com/v1/chat/completions")).andRespond(withSuccess("""
+				{
+				  "id": "chatcmpl-cached",
+				  "choices": [{
+				    "message": {"role":"assistant","content":"Listo"},
+				    "finish_reason": "stop"
+				  }],
+				  "usage": {
+				    "prompt_tokens": 2048,
+				    "completion_tokens": 12,
+				    "total_tokens": 2060,
+				    "prompt_tokens_details": {"cached_tokens": 1920}
+				  }
+				}
+				""", MediaType.APPLICATION_JSON));
+
+		final OpenAiChatCompletionResponse response = service
+			.chatCompletion(new OpenAiChatCompletionRequest(List.of(OpenAiChatMessage.user("Hola")), List.of()));
+
+		assertThat(response.usage().promptTokens()).isEqualTo(2048);
+		assertThat(response.usage().cachedPromptTokens()).isEqualTo(1920);
+		mockServer.verify();
+	}
+
+	@Test
+	void serializedToolsAreReusedForSameToolList() {
+		final OpenAiClientServiceImpl impl = (OpenAiClientServiceImpl) service;
+		final List<OpenAiToolDefinition> tools = new AiOpenAiToolCatalog().definitions();
+
+		final String first = impl.serializedTools(tools);
+
+		assertThat(impl.serializedTools(tools)).isSameAs(first);
+		assertThat(first).startsWith("[{\"type\":\"function\",\"function\":{\"name\":\"search_food_catalog\"");
+		assertThat(impl.serializedTools(List.of())).isNull();
+	}
+
+	@Test
+	void chatCompletionSendsSerializedToolsBlock() {
+		mockServer.expect(requestTo("https://api.openai.com/v1/chat/completions")).andExpect(content().json("""
+				{
+				  "tools": [{
+				    "type": "function",
+				    "function": {
+				      "name": "search_food_catalog",
+				      "description": "Busca alimentos",
+				      "parameters": {"properties": {}, "type": "object"}
+				    }
+				  }]
+				}
+				""", false)).andRespond(withSuccess("""
+				{
+				  "id": "chatcmpl-tools",
+				  "choices": [{
+				    "message": {"role":"assistant","content":"Hola"},
+				    "finish_reason": "stop"
+				  }]
+				}
+				""", MediaType.APPLICATION_JSON));
+
+		service.chatCompletion(new OpenAiChatCompletionRequest(List.of(OpenAiChatMessage.user("Busca avena")),
+				List.of(new OpenAiToolDefinition("search_food_catalog", "Busca alimentos",
+						Map.of("type", "object", "properties", Map.of())))));
+
+		mockServer.verify();
+	}
+
 	@Test
 	void chatCompletionWhenNotConfiguredThrows() {
 		properties.setEnabled(false);
@@ -0,0 +1,153 @@
+package com.nutriconsultas.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Exercises the OpenAI transport against a local stub HTTP server.
+ */
+class OpenAiTransportTest {
+
+	private HttpServer server;
+
+	private final ConcurrentLinkedQueue<StubResponse> responses = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger requestCount = new AtomicInteger();
+
+	private AiProperties properties;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/v1/chat/completions", exchange -> {
+			requestCount.incrementAndGet();
+			exchange.getRequestBody().readAllBytes();
+			final StubResponse stub = responses.isEmpty() ? new StubResponse(200, "{\"ok\":true}", Map.of())
+					: responses.poll();
+			stub.headers().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			final byte[] body = stub.body().getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(stub.status(), body.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+		});
+		server.start();
+
+		properties = new AiProperties();
+		properties.setEnabled(true);
+		properties.getOpenai().setApiKey("sk-test-key");
+		properties.getOpenai().setModel("gpt-test");
+		properties.getOpenai().setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+		properties.getOpenai().setRetryBaseDelayMs(10);
+		properties.getOpenai().setRetryMaxDelayMs(50);
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void retriesRateLimitHonoringRetryAfter() {
+		responses.add(new StubResponse(429, "{\"error\":{\"message\":\"slow down\"}}", Map.of("Retry-After", "0")));
+		responses.add(new StubResponse(200, "{\"ok\":true}", Map.of()));
+
+		final Map<?, ?> response = transport().postJson("/v1/chat/completions", Map.of("model", "gpt-test"), Map.class);
+
+		assertThat(response.get("ok")).isEqualTo(Boolean.TRUE);
+		assertThat(requestCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	void doesNotRetryClientErrors() {
+		responses.add(new StubResponse(400, "{\"error\":{\"message\":\"bad\"}}", Map.of()));
+
+		assertThatThrownBy(() -> transport().postJson("/v1/chat/completions", Map.of(), Map.class))
+			.isInstanceOf(HttpClientErrorException.class);
+		assertThat(requestCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	void repeatedServerErrorsOpenCircuitAndFlagProperties() {
+		properties.getOpenai().setMaxRetries(0);
+		properties.getOpenai().setCircuitBreakerMinimumCalls(2);
+		final OpenAiTransport transport = transport();
+		for (int attempt = 0; attempt < 2; attempt++) {
+			responses.add(new StubResponse(503, "{}", Map.of()));
+			assertThatThrownBy(() -> transport.postJson("/v1/chat/completions", Map.of(), Map.class))
+				.isInstanceOf(HttpServerErrorException.class);
+		}
+
+		assertThat(transport.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThat(properties.isOpenAiCircuitOpen()).isTrue();
+		assertThatThrownBy(() -> transport.postJson("/v1/chat/completions", Map.of(), Map.class))
+			.isInstanceOf(CallNotPermittedException.class);
+		assertThat(requestCount.get()).isEqualTo(2);
+
+		transport.getCircuitBreaker().transitionToHalfOpenState();
+		assertThat(properties.isOpenAiCircuitOpen()).isFalse();
+	}
+
+	@Test
+	void recordsLatencyPerModel() {
+		transport().postJson("/v1/chat/completions", Map.of(), Map.class);
+
+		assertThat(meterRegistry.get(AiUsageMetrics.OPENAI_LATENCY)
+			.tag("model", "gpt-test")
+			.tag("outcome", "success")
+			.timer()
+			.count()).isEqualTo(1);
+	}
+
+	@Test
+	void retryAfterSupportsSecondsAndCapsDelay() {
+		final HttpHeaders headers = new HttpHeaders();
+		headers.add(HttpHeaders.RETRY_AFTER, "120");
+		final HttpServerErrorException unavailable = HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE,
+				"unavailable", headers, new byte[0], StandardCharsets.UTF_8);
+
+		assertThat(OpenAiTransport.retryAfterMillis(unavailable)).isEqualTo(120_000L);
+		assertThat(OpenAiTransport.retryDelayMillis(1, unavailable, 10, 5_000)).isEqualTo(5_000L);
+		assertThat(OpenAiTransport.retryDelayMillis(3, null, 100, 1_000)).isBetween(100L, 400L);
+	}
+
+	private OpenAiTransport transport() {
+		final RestClient restClient = new OpenAiClientConfig().openAiRestClient(properties);
+		return new OpenAiTransport(properties, restClient, CircuitBreakerRegistry.ofDefaults(),
+				RetryRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), new AiUsageMetrics(meterRegistry));
+	}
+
+	private record StubResponse(int status, String body, Map<String, String> headers) {
+	}
+
+}
@@ -14,8 +14,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.nutriconsultas.alimentos.AlimentosRepository;
-
 @ExtendWith(MockitoExtension.class)
 class ValidatePlanConstraintsToolServiceTest {
 
@@ -28,7 +26,7 @@ class ValidatePlanConstraintsToolServiceTest {
 	private AiIngestaNutrientCalculator ingestaNutrientCalculator;
 
 	@Mock
-	private AlimentosRepository alimentosRepository;
+	private AiCatalogPrefetcher catalogPrefetcher;
 
 	@Test
 	void validateReturnsValidWhenConstraintsMet() {
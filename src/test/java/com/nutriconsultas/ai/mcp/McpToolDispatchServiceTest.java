@@ -3,6 +3,7 @@ package com.nutriconsultas.ai.mcp;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +33,7 @@ import com.nutriconsultas.ai.AiOrchestrationContext;
 import com.nutriconsultas.ai.AiOrchestrationGuardrails;
 import com.nutriconsultas.ai.AiOrchestrationToolDispatcher;
 import com.nutriconsultas.ai.AiProperties;
+import com.nutriconsultas.ai.AiTokenBudgetService;
 import com.nutriconsultas.ai.AiToolErrorCode;
 import com.nutriconsultas.ai.SearchFoodCatalogToolService;
 import com.nutriconsultas.subscription.SubscriptionErrorResponses;
@@ -80,7 +82,8 @@ class McpToolDispatchServiceTest {
 
 	@BeforeEach
 	void setUp() {
-		chatPersistence = new AiChatPersistence(threadRepository, messageRepository, transactionTemplate);
+		chatPersistence = new AiChatPersistence(threadRepository, messageRepository, transactionTemplate,
+				mock(AiTokenBudgetService.class));
 		descriptorCatalog = new McpToolDescriptorCatalog(new AiOpenAiToolCatalog());
 		dispatchService = new McpToolDispatchService(aiProperties, chatRequestGuards, descriptorCatalog, toolDispatcher,
 				guardrails, contextResolvers, chatPersistence, auditLogger, subscriptionErrorResponses);
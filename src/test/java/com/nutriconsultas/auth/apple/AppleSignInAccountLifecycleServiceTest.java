@@ -17,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.nutriconsultas.auth0.Auth0ManagementUserService;
+import com.nutriconsultas.mobile.PatientAuthViewCache;
 import com.nutriconsultas.paciente.ApplePacienteLifecycleStatus;
 import com.nutriconsultas.paciente.Paciente;
 import com.nutriconsultas.paciente.PacienteRepository;
@@ -34,6 +35,9 @@ class AppleSignInAccountLifecycleServiceTest {
 	@Mock
 	private Auth0ManagementUserService auth0ManagementUserService;
 
+	@Mock
+	private PatientAuthViewCache authViewCache;
+
 	@Test
 	void applyDestructiveEventMarksAccessRevokedWithoutHardDelete() {
 		final Paciente paciente = paciente(42L, ApplePacienteLifecycleStatus.NONE, PacienteStatus.ACTIVE);
@@ -0,0 +1,181 @@
+package com.nutriconsultas.booking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.nutriconsultas.calendar.CalendarEventRepository;
+
+/**
+ * The horizon window is built with one block and one appointment query, then served from
+ * memory until a change drops it or the schedule differs.
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingAvailabilityCalendarTest {
+
+	private static final String USER_ID = "auth0|calendar-nutritionist";
+
+	private static final LocalDate MONDAY = LocalDate.of(2026, 6, 22);
+
+	private static final ZoneId ZONE = ZoneId.of(BookingAvailabilityConstants.DEFAULT_TIMEZONE_ID);
+
+	@Mock
+	private NutritionistAvailabilityBlockRepository blockRepository;
+
+	@Mock
+	private CalendarEventRepository calendarEventRepository;
+
+	private List<NutritionistAvailabilityBlock> blocks = List.of();
+
+	private AvailabilityScheduleDto schedule;
+
+	private BookingAvailabilityCalendar calendar;
+
+	@BeforeEach
+	void setUp() {
+		schedule = schedule(LocalTime.of(12, 0));
+		calendar = calendar(60_000L);
+		when(blockRepository.findOverlappingRange(eq(USER_ID), any(), any())).thenAnswer(invocation -> blocks);
+		when(calendarEventRepository.findByUserIdAndDateRange(eq(USER_ID), any(Date.class), any(Date.class)))
+			.thenReturn(List.of());
+	}
+
+	@Test
+	void horizonWindowServesLaterRangesWithoutQueries() {
+		calendar.slotStarts(USER_ID, schedule, MONDAY, MONDAY);
+		final List<LocalTime> nextMonday = calendar
+			.slotStarts(USER_ID, schedule, MONDAY.plusDays(7), MONDAY.plusDays(13))
+			.get(MONDAY.plusDays(7));
+
+		assertThat(nextMonday).containsExactly(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(11, 0));
+		verify(blockRepository).findOverlappingRange(USER_ID, MONDAY.atStartOfDay(),
+				MONDAY.plusDays(90).atStartOfDay());
+		verify(calendarEventRepository).findByUserIdAndDateRange(eq(USER_ID), any(Date.class), any(Date.class));
+	}
+
+	@Test
+	void scheduledAppointmentClearsSlotInPlace() {
+		calendar.slotStarts(USER_ID, schedule, MONDAY, MONDAY);
+
+		calendar.appointmentScheduled(USER_ID, Date.from(MONDAY.plusDays(7).atTime(10, 0).atZone(ZONE).toInstant()),
+				60);
+
+		assertThat(
+				calendar.slotStarts(USER_ID, schedule, MONDAY.plusDays(7), MONDAY.plusDays(7)).get(MONDAY.plusDays(7)))
+			.containsExactly(LocalTime.of(9, 0), LocalTime.of(11, 0));
+		verify(blockRepository, times(1)).findOverlappingRange(eq(USER_ID), any(), any());
+	}
+
+	@Test
+	void createdBlockSpanningDaysClearsEveryCoveredSlot() {
+		calendar.slotStarts(USER_ID, schedule, MONDAY, MONDAY);
+
+		calendar.blockCreated(USER_ID, new BusyTimeInterval(MONDAY.plusDays(6).atStartOfDay(),
+				LocalDateTime.of(MONDAY.plusDays(7), LocalTime.of(10, 30))));
+
+		assertThat(
+				calendar.slotStarts(USER_ID, schedule, MONDAY.plusDays(7), MONDAY.plusDays(7)).get(MONDAY.plusDays(7)))
+			.containsExactly(LocalTime.of(11, 0));
+	}
+
+	@Test
+	void invalidateForcesReload() {
+		calendar.slotStarts(USER_ID, schedule, MONDAY, MONDAY);
+
+		calendar.invalidate(USER_ID);
+		calendar.slotStarts(USER_ID, schedule, MONDAY, MONDAY);
+
+		verify(blockRepository, times(2)).findOverlappingRange(eq(USER_ID), any(), any());
+	}
+
+	@Test
+	void changedScheduleRebuildsWindow() {
+		calendar.slotStarts(USER_ID, schedule, MONDAY, MONDAY);
+
+		final List<LocalTime> slots = calendar.slotStarts(USER_ID, schedule(LocalTime.of(10, 0)), MONDAY, MONDAY)
+			.get(MONDAY);
+
+		assertThat(slots).containsExactly(LocalTime.of(9, 0));
+		verify(blockRepository, times(2)).findOverlappingRange(eq(USER_ID), any(), any());
+	}
+
+	@Test
+	void expiredWindowIsReloaded() {
+		calendar = calendar(0L);
+
+		calendar.slotStarts(USER_ID, schedule, MONDAY, MONDAY);
+		calendar.slotStarts(USER_ID, schedule, MONDAY, MONDAY);
+
+		verify(blockRepository, times(2)).findOverlappingRange(eq(USER_ID), any(), any());
+	}
+
+	@Test
+	void firstFreeSkipsEarlierStartsAndSpansDays() {
+		final List<LocalDateTime> starts = calendar.firstFree(USER_ID, schedule, MONDAY.atTime(10, 30),
+				MONDAY.plusDays(14), 3);
+
+		assertThat(starts).containsExactly(MONDAY.atTime(11, 0), MONDAY.plusDays(7).atTime(9, 0),
+				MONDAY.plusDays(7).atTime(10, 0));
+	}
+
+	@Test
+	void loadSweepsOverlappingBlocksAcrossDays() {
+		blocks = List.of(block(MONDAY.atTime(9, 30), MONDAY.atTime(9, 45)),
+				block(MONDAY.minusDays(1).atTime(20, 0), MONDAY.atTime(10, 30)));
+
+		assertThat(calendar.slotStarts(USER_ID, schedule, MONDAY, MONDAY).get(MONDAY))
+			.containsExactly(LocalTime.of(11, 0));
+	}
+
+	@Test
+	void datesOutsideHorizonAreLoadedUncached() {
+		final LocalDate past = MONDAY.minusDays(7);
+
+		calendar.slotStarts(USER_ID, schedule, past, past);
+		calendar.slotStarts(USER_ID, schedule, past, past);
+
+		verify(blockRepository, times(2)).findOverlappingRange(USER_ID, past.atStartOfDay(),
+				past.plusDays(1).atStartOfDay());
+	}
+
+	private static NutritionistAvailabilityBlock block(final LocalDateTime start, final LocalDateTime end) {
+		final NutritionistAvailabilityBlock block = new NutritionistAvailabilityBlock();
+		block.setUserId(USER_ID);
+		block.setStartDateTime(start);
+		block.setEndDateTime(end);
+		return block;
+	}
+
+	private BookingAvailabilityCalendar calendar(final long ttlMillis) {
+		final Clock clock = Clock.fixed(Instant.parse("2026-06-22T15:00:00Z"), ZoneOffset.UTC);
+		return new BookingAvailabilityCalendar(blockRepository, calendarEventRepository, 90, ttlMillis, clock);
+	}
+
+	private static AvailabilityScheduleDto schedule(final LocalTime mondayEnd) {
+		final AvailabilityScheduleDto dto = new AvailabilityScheduleDto();
+		dto.setSlotDurationMinutes(60);
+		dto.setTimezone(BookingAvailabilityConstants.DEFAULT_TIMEZONE_ID);
+		dto.setIntervals(List.of(new WorkingHoursIntervalDto(1, LocalTime.of(9, 0), mondayEnd)));
+		return dto;
+	}
+
+}
@@ -12,11 +12,11 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -29,7 +29,6 @@ class BookingAvailabilitySlotServiceTest {
 
 	private static final String USER_ID = "auth0|nutritionist";
 
-	@InjectMocks
 	private BookingAvailabilitySlotServiceImpl service;
 
 	@Mock
@@ -45,6 +44,8 @@ class BookingAvailabilitySlotServiceTest {
 
 	@BeforeEach
 	void setup() {
+		service = new BookingAvailabilitySlotServiceImpl(availabilityService,
+				new BookingAvailabilityCalendar(blockRepository, calendarEventRepository, 90, 60_000L, null));
 		schedule = new AvailabilityScheduleDto();
 		schedule.setSlotDurationMinutes(60);
 		schedule.setTimezone(BookingAvailabilityConstants.DEFAULT_TIMEZONE_ID);
@@ -99,6 +100,72 @@ class BookingAvailabilitySlotServiceTest {
 		verify(blockRepository).findOverlappingRange(eq(USER_ID), any(), any());
 	}
 
+	@Test
+	void rangeQueryLoadsBlocksAndAppointmentsOnce() {
+		final LocalDate monday = LocalDate.of(2026, 6, 22);
+		when(availabilityService.getSchedule(USER_ID)).thenReturn(schedule);
+		when(blockRepository.findOverlappingRange(eq(USER_ID), any(), any()))
+			.thenReturn(List.of(block(LocalDateTime.of(2026, 6, 29, 9, 0), LocalDateTime.of(2026, 6, 29, 11, 0))));
+		when(calendarEventRepository.findByUserIdAndDateRange(eq(USER_ID), any(Date.class), any(Date.class)))
+			.thenReturn(List.of());
+
+		final Map<LocalDate, List<LocalTime>> slots = service.getAvailableSlotStarts(USER_ID, monday,
+				monday.plusDays(7));
+
+		assertThat(slots).hasSize(8);
+		assertThat(slots.get(monday)).containsExactly(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(11, 0));
+		assertThat(slots.get(monday.plusDays(1))).isEmpty();
+		assertThat(slots.get(monday.plusDays(7))).containsExactly(LocalTime.of(11, 0));
+		verify(blockRepository).findOverlappingRange(eq(USER_ID), any(), any());
+		verify(calendarEventRepository).findByUserIdAndDateRange(eq(USER_ID), any(Date.class), any(Date.class));
+	}
+
+	@Test
+	void findAvailableStartsReturnsFirstSlotsAcrossDays() {
+		final LocalDate monday = LocalDate.of(2026, 6, 22);
+		when(availabilityService.getSchedule(USER_ID)).thenReturn(schedule);
+		when(blockRepository.findOverlappingRange(eq(USER_ID), any(), any()))
+			.thenReturn(List.of(block(monday.atTime(9, 0), monday.atTime(12, 0))));
+		when(calendarEventRepository.findByUserIdAndDateRange(eq(USER_ID), any(Date.class), any(Date.class)))
+			.thenReturn(List.of());
+
+		final List<LocalDateTime> starts = service.findAvailableStarts(USER_ID, monday.atStartOfDay(),
+				monday.plusDays(13), 2);
+
+		assertThat(starts).containsExactly(monday.plusDays(7).atTime(9, 0), monday.plusDays(7).atTime(10, 0));
+		verify(blockRepository).findOverlappingRange(USER_ID, monday.atStartOfDay(),
+				monday.plusDays(14).atStartOfDay());
+	}
+
+	@Test
+	void findNextAvailableStartStaysOnRequestedDate() {
+		final LocalDate monday = LocalDate.of(2026, 6, 22);
+		when(availabilityService.getSchedule(USER_ID)).thenReturn(schedule);
+		when(blockRepository.findOverlappingRange(eq(USER_ID), any(), any())).thenReturn(List.of());
+		when(calendarEventRepository.findByUserIdAndDateRange(eq(USER_ID), any(Date.class), any(Date.class)))
+			.thenReturn(List.of());
+
+		assertThat(service.findNextAvailableStart(USER_ID, monday, monday.atTime(10, 30)))
+			.isEqualTo(monday.atTime(11, 0));
+		assertThat(service.findNextAvailableStart(USER_ID, monday, monday.atTime(11, 30))).isNull();
+	}
+
+	@Test
+	void isSlotAvailableChecksCommittedAppointments() {
+		final LocalDate monday = LocalDate.of(2026, 6, 22);
+		when(availabilityService.getSchedule(USER_ID)).thenReturn(schedule);
+		when(blockRepository.findOverlappingRange(eq(USER_ID), any(), any())).thenReturn(List.of());
+		final CalendarEvent event = new CalendarEvent();
+		event.setStatus(EventStatus.SCHEDULED);
+		event.setEventDateTime(Date.from(
+				monday.atTime(10, 0).atZone(ZoneId.of(BookingAvailabilityConstants.DEFAULT_TIMEZONE_ID)).toInstant()));
+		when(calendarEventRepository.findByUserIdAndDateRange(eq(USER_ID), any(Date.class), any(Date.class)))
+			.thenReturn(List.of(event));
+
+		assertThat(service.isSlotAvailable(USER_ID, monday.atTime(10, 0))).isFalse();
+		assertThat(service.isSlotAvailable(USER_ID, monday.atTime(11, 0))).isTrue();
+	}
+
 	private static NutritionistAvailabilityBlock block(final LocalDateTime start, final LocalDateTime end) {
 		final NutritionistAvailabilityBlock block = new NutritionistAvailabilityBlock();
 		block.setId(1L);
@@ -41,4 +41,27 @@ class BookingSlotFilterTest {
 		assertThat(BookingSlotFilter.removeBusySlots(slots, LocalDate.of(2026, 6, 21), 60, busy)).isEmpty();
 	}
 
+	@Test
+	void longIntervalStartingEarlyStillCoversLaterSlots() {
+		final List<LocalTime> slots = List.of(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(11, 0),
+				LocalTime.of(12, 0));
+		final List<BusyTimeInterval> busy = List.of(
+				new BusyTimeInterval(LocalDateTime.of(2026, 6, 21, 9, 15), LocalDateTime.of(2026, 6, 21, 9, 45)),
+				new BusyTimeInterval(LocalDateTime.of(2026, 6, 21, 8, 0), LocalDateTime.of(2026, 6, 21, 11, 30)));
+
+		assertThat(BookingSlotFilter.removeBusySlots(slots, LocalDate.of(2026, 6, 21), 60, busy))
+			.containsExactly(LocalTime.of(12, 0));
+	}
+
+	@Test
+	void ignoresIntervalsOnOtherDays() {
+		final List<LocalTime> slots = List.of(LocalTime.of(9, 0), LocalTime.of(10, 0));
+		final List<BusyTimeInterval> busy = List.of(
+				new BusyTimeInterval(LocalDateTime.of(2026, 6, 20, 9, 0), LocalDateTime.of(2026, 6, 20, 23, 0)),
+				new BusyTimeInterval(LocalDateTime.of(2026, 6, 22, 9, 0), LocalDateTime.of(2026, 6, 22, 10, 0)));
+
+		assertThat(BookingSlotFilter.removeBusySlots(slots, LocalDate.of(2026, 6, 21), 60, busy))
+			.containsExactlyElementsOf(slots);
+	}
+
 }
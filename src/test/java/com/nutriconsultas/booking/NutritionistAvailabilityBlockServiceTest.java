@@ -29,6 +29,9 @@ class NutritionistAvailabilityBlockServiceTest {
 	@Mock
 	private NutritionistAvailabilityBlockRepository blockRepository;
 
+	@Mock
+	private BookingAvailabilityCalendar availabilityCalendar;
+
 	@Test
 	void createBlockPersistsEntity() {
 		final AvailabilityBlockDto dto = new AvailabilityBlockDto();
@@ -50,6 +53,21 @@ class NutritionistAvailabilityBlockServiceTest {
 			.forClass(NutritionistAvailabilityBlock.class);
 		verify(blockRepository).save(captor.capture());
 		assertThat(captor.getValue().getUserId()).isEqualTo(USER_ID);
+		verify(availabilityCalendar).blockCreated(USER_ID,
+				new BusyTimeInterval(LocalDateTime.of(2026, 7, 1, 0, 0), LocalDateTime.of(2026, 7, 2, 0, 0)));
+	}
+
+	@Test
+	void deleteBlockInvalidatesAvailabilityWindow() {
+		final NutritionistAvailabilityBlock block = new NutritionistAvailabilityBlock();
+		block.setId(5L);
+		block.setUserId(USER_ID);
+		when(blockRepository.findByIdAndUserId(5L, USER_ID)).thenReturn(Optional.of(block));
+
+		service.deleteBlock(USER_ID, 5L);
+
+		verify(blockRepository).delete(block);
+		verify(availabilityCalendar).invalidate(USER_ID);
 	}
 
 	@Test
@@ -11,7 +11,9 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -113,11 +115,69 @@ class PublicBookingServiceTest {
 		assertThat(response.notice()).isNull();
 	}
 
+	@Test
+	void getPublicSlotRangeClampsStartToEarliestBookableDate() {
+		final LocalDate today = LocalDate.now(ZoneId.of(schedule.getTimezone()));
+		final LocalDate eligible = today.plusDays(2);
+		final Map<LocalDate, List<LocalTime>> slots = new LinkedHashMap<>();
+		slots.put(eligible, List.of(LocalTime.of(9, 0)));
+		slots.put(eligible.plusDays(1), List.of());
+		when(bookingAvailabilitySlotService.getAvailableSlotStarts(USER_ID, eligible, eligible.plusDays(1)))
+			.thenReturn(slots);
+
+		final PublicBookingSlotRangeResponse response = service.getPublicSlotRange(PUBLIC_ID, today.toString(), 2);
+
+		assertThat(response.from()).isEqualTo(eligible.toString());
+		assertThat(response.notice()).contains("anticipación");
+		assertThat(response.days()).containsExactly(new PublicBookingDaySlots(eligible.toString(), List.of("09:00")),
+				new PublicBookingDaySlots(eligible.plusDays(1).toString(), List.of()));
+	}
+
+	@Test
+	void getPublicSlotRangeCapsWindowLength() {
+		final LocalDate start = LocalDate.now(ZoneId.of(schedule.getTimezone())).plusDays(5);
+		final LocalDate end = start.plusDays(PublicBookingServiceImpl.MAX_RANGE_DAYS - 1L);
+		when(bookingAvailabilitySlotService.getAvailableSlotStarts(USER_ID, start, end)).thenReturn(Map.of());
+
+		final PublicBookingSlotRangeResponse response = service.getPublicSlotRange(PUBLIC_ID, start.toString(), 365);
+
+		assertThat(response.to()).isEqualTo(end.toString());
+		assertThat(response.notice()).isNull();
+	}
+
+	@Test
+	void getPublicNextSlotsSearchesFromEarliestBookableDate() {
+		final LocalDate eligible = LocalDate.now(ZoneId.of(schedule.getTimezone())).plusDays(2);
+		when(bookingAvailabilitySlotService.findAvailableStarts(USER_ID, eligible.atStartOfDay(),
+				eligible.plusDays(PublicBookingServiceImpl.NEXT_SLOTS_SEARCH_DAYS - 1L), 2))
+			.thenReturn(List.of(eligible.plusDays(3).atTime(9, 0), eligible.plusDays(3).atTime(10, 0)));
+
+		final PublicBookingNextSlotsResponse response = service.getPublicNextSlots(PUBLIC_ID, 2);
+
+		assertThat(response.minBookableDate()).isEqualTo(eligible);
+		assertThat(response.slots()).containsExactly(
+				new PublicBookingSlotStart(eligible.plusDays(3).toString(), "09:00"),
+				new PublicBookingSlotStart(eligible.plusDays(3).toString(), "10:00"));
+	}
+
+	@Test
+	void bookRejectsSlotTakenSinceItWasListed() {
+		final LocalDate eligible = LocalDate.now(ZoneId.of(schedule.getTimezone())).plusDays(2);
+		when(bookingAvailabilitySlotService.isSlotAvailable(USER_ID, eligible.atTime(10, 0))).thenReturn(false);
+		final PublicBookingRequestDto request = new PublicBookingRequestDto();
+		request.setPatientName("Paciente Test");
+		request.setPatientEmail("paciente@example.com");
+		request.setDate(eligible.toString());
+		request.setTime("10:00");
+
+		assertThatThrownBy(() -> service.book(PUBLIC_ID, request)).isInstanceOf(IllegalArgumentException.class);
+		verify(calendarEventService, never()).save(any(CalendarEvent.class));
+	}
+
 	@Test
 	void bookCreatesCalendarEventForEligibleSlot() {
 		final LocalDate eligible = LocalDate.now(ZoneId.of(schedule.getTimezone())).plusDays(2);
-		when(bookingAvailabilitySlotService.getAvailableSlotStarts(USER_ID, eligible))
-			.thenReturn(List.of(LocalTime.of(10, 0)));
+		when(bookingAvailabilitySlotService.isSlotAvailable(USER_ID, eligible.atTime(10, 0))).thenReturn(true);
 		when(pacienteRepository.findFirstByUserIdAndEmailIgnoreCase(eq(USER_ID), eq("paciente@example.com")))
 			.thenReturn(Optional.empty());
 		final Paciente savedPatient = new Paciente();
@@ -149,8 +209,7 @@ class PublicBookingServiceTest {
 	@Test
 	void bookSendsConfirmationEmailAfterSuccessfulBooking() {
 		final LocalDate eligible = LocalDate.now(ZoneId.of(schedule.getTimezone())).plusDays(2);
-		when(bookingAvailabilitySlotService.getAvailableSlotStarts(USER_ID, eligible))
-			.thenReturn(List.of(LocalTime.of(10, 0)));
+		when(bookingAvailabilitySlotService.isSlotAvailable(USER_ID, eligible.atTime(10, 0))).thenReturn(true);
 		when(pacienteRepository.findFirstByUserIdAndEmailIgnoreCase(eq(USER_ID), eq("paciente@example.com")))
 			.thenReturn(Optional.empty());
 		final Paciente savedPatient = new Paciente();
@@ -0,0 +1,82 @@
+package com.nutriconsultas.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.nutriconsultas.calendar.projection.CalendarEventRangeView;
+import com.nutriconsultas.paciente.Paciente;
+
+/**
+ * The range projection is scoped to the nutritionist's patients and to a half-open date
+ * range.
+ */
+@DataJpaTest
+class CalendarEventRepositoryTest {
+
+	private static final String NUTRITIONIST = "auth0|range-nutritionist";
+
+	private static final LocalDate MONDAY = LocalDate.of(2026, 6, 22);
+
+	@Autowired
+	private CalendarEventRepository repository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void findRangeViewsByUserIdReturnsOwnEventsInsideRange() {
+		final Paciente ana = persistPaciente("Ana", NUTRITIONIST);
+		final Paciente other = persistPaciente("Luis", "auth0|someone-else");
+		final CalendarEvent inside = persistEvent(ana, MONDAY.atTime(9, 0));
+		persistEvent(ana, MONDAY.plusDays(7).atTime(9, 0));
+		persistEvent(ana, MONDAY.minusDays(1).atTime(9, 0));
+		persistEvent(other, MONDAY.atTime(10, 0));
+		entityManager.clear();
+
+		final List<CalendarEventRangeView> rows = repository.findRangeViewsByUserId(NUTRITIONIST, date(MONDAY),
+				date(MONDAY.plusDays(7)));
+
+		assertThat(rows).hasSize(1);
+		final CalendarEventRangeView row = rows.get(0);
+		assertThat(row.getId()).isEqualTo(inside.getId());
+		assertThat(row.getTitle()).isEqualTo("Consulta");
+		assertThat(row.getDurationMinutes()).isEqualTo(60);
+		assertThat(row.getStatus()).isEqualTo(EventStatus.SCHEDULED);
+		assertThat(row.getPacienteId()).isEqualTo(ana.getId());
+		assertThat(row.getPacienteName()).isEqualTo("Ana");
+	}
+
+	private Paciente persistPaciente(final String name, final String userId) {
+		final Paciente paciente = new Paciente();
+		paciente.setName(name);
+		paciente.setUserId(userId);
+		paciente.setDob(date(LocalDate.now().minusYears(30)));
+		paciente.setGender("F");
+		return entityManager.persist(paciente);
+	}
+
+	private CalendarEvent persistEvent(final Paciente paciente, final LocalDateTime start) {
+		final CalendarEvent event = new CalendarEvent();
+		event.setPaciente(paciente);
+		event.setTitle("Consulta");
+		event.setEventDateTime(Date.from(start.atZone(ZoneId.systemDefault()).toInstant()));
+		event.setDurationMinutes(60);
+		event.setStatus(EventStatus.SCHEDULED);
+		return entityManager.persistAndFlush(event);
+	}
+
+	private static Date date(final LocalDate day) {
+		return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
+	}
+
+}
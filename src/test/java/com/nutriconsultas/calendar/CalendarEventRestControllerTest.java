@@ -29,6 +29,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.nutriconsultas.calendar.projection.CalendarEventRangeView;
 import com.nutriconsultas.dataTables.paging.Column;
 import com.nutriconsultas.dataTables.paging.Direction;
 import com.nutriconsultas.dataTables.paging.Order;
@@ -850,6 +851,61 @@ public class CalendarEventRestControllerTest {
 		log.info("finished testCalendarEventEndTimeCalculation");
 	}
 
+	@Test
+	public void getCalendarEventRange_returnsSlimRowsWithEtag() {
+		final Date start = new Date(System.currentTimeMillis() - 172800000);
+		final Date end = new Date(System.currentTimeMillis() + 259200000);
+		when(service.findRangeViews(TEST_USER_ID, start, end))
+			.thenReturn(List.of(rangeViewFrom(events.get(0)), rangeViewFrom(events.get(1))));
+
+		final ResponseEntity<List<Map<String, Object>>> response = calendarEventRestController
+			.getCalendarEventRange(start, end, null, principal);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().getETag()).startsWith("\"cal-f");
+		final List<Map<String, Object>> body = Objects.requireNonNull(response.getBody());
+		assertThat(body).hasSize(2);
+		assertThat(body.get(0)).containsEntry("id", "1").containsEntry("url", "/admin/calendario/1").containsKey("end");
+		@SuppressWarnings("unchecked")
+		final Map<String, Object> extendedProps = (Map<String, Object>) body.get(0).get("extendedProps");
+		assertThat(extendedProps).containsEntry("paciente", "Juan Perez")
+			.containsEntry("status", "SCHEDULED")
+			.containsEntry("durationMinutes", 60)
+			.doesNotContainKey("description");
+		verify(service, never()).findAll();
+	}
+
+	@Test
+	public void getCalendarEventRange_withMatchingEtag_returnsNotModified() {
+		final Date start = new Date(System.currentTimeMillis() - 172800000);
+		final Date end = new Date(System.currentTimeMillis() + 259200000);
+		when(service.findRangeViews(TEST_USER_ID, start, end)).thenReturn(List.of(rangeViewFrom(events.get(0))));
+		final String etag = calendarEventRestController.getCalendarEventRange(start, end, null, principal)
+			.getHeaders()
+			.getETag();
+
+		final ResponseEntity<List<Map<String, Object>>> response = calendarEventRestController
+			.getCalendarEventRange(start, end, "W/" + etag, principal);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(response.getBody()).isNull();
+	}
+
+	@Test
+	public void getCalendarEventRange_capsLongRanges() {
+		final Date start = new Date(0L);
+		final Date end = new Date(java.util.concurrent.TimeUnit.DAYS.toMillis(3650));
+		final Date cappedEnd = new Date(
+				java.util.concurrent.TimeUnit.DAYS.toMillis(CalendarEventRestController.MAX_RANGE_DAYS));
+		when(service.findRangeViews(TEST_USER_ID, start, cappedEnd)).thenReturn(List.of());
+
+		final ResponseEntity<List<Map<String, Object>>> response = calendarEventRestController
+			.getCalendarEventRange(start, end, null, principal);
+
+		assertThat(response.getBody()).isEmpty();
+		verify(service).findRangeViews(TEST_USER_ID, start, cappedEnd);
+	}
+
 	@Test
 	public void testCalendarEventWithNullDuration() {
 		log.info("starting testCalendarEventWithNullDuration");
@@ -1022,6 +1078,25 @@ public class CalendarEventRestControllerTest {
 		log.info("finished testGetNextAvailableTimeWithFullDay");
 	}
 
+	@Test
+	public void testGetNextAvailableTimeWithFullDaySuggestsLaterSlot() {
+		log.info("starting testGetNextAvailableTimeWithFullDaySuggestsLaterSlot");
+		final LocalDate parsedDate = LocalDate.now().plusDays(7);
+		when(bookingAvailabilitySlotService.findNextAvailableStart(org.mockito.ArgumentMatchers.eq(TEST_USER_ID),
+				org.mockito.ArgumentMatchers.eq(parsedDate), any(LocalDateTime.class)))
+			.thenReturn(null);
+		when(bookingAvailabilitySlotService.findAvailableStarts(TEST_USER_ID, parsedDate.plusDays(1).atStartOfDay(),
+				parsedDate.plusDays(CalendarEventRestController.NEXT_AVAILABLE_SEARCH_DAYS), 1))
+			.thenReturn(List.of(parsedDate.plusDays(2).atTime(9, 0)));
+
+		final Map<String, Object> result = calendarEventRestController.getNextAvailableTime(parsedDate.toString(),
+				principal);
+
+		assertThat(result.get("available")).isEqualTo(false);
+		assertThat((String) result.get("nextAvailableDateTime")).contains("09:00:00");
+		log.info("finished testGetNextAvailableTimeWithFullDaySuggestsLaterSlot");
+	}
+
 	@Test
 	public void testGetNextAvailableTimeWithInvalidDate() {
 		log.info("starting testGetNextAvailableTimeWithInvalidDate");
@@ -1923,4 +1998,43 @@ public class CalendarEventRestControllerTest {
 		};
 	}
 
+	private static CalendarEventRangeView rangeViewFrom(final CalendarEvent entity) {
+		return new CalendarEventRangeView() {
+			@Override
+			public Long getId() {
+				return entity.getId();
+			}
+
+			@Override
+			public String getTitle() {
+				return entity.getTitle();
+			}
+
+			@Override
+			public Date getEventDateTime() {
+				return entity.getEventDateTime();
+			}
+
+			@Override
+			public Integer getDurationMinutes() {
+				return entity.getDurationMinutes();
+			}
+
+			@Override
+			public EventStatus getStatus() {
+				return entity.getStatus();
+			}
+
+			@Override
+			public Long getPacienteId() {
+				return entity.getPaciente().getId();
+			}
+
+			@Override
+			public String getPacienteName() {
+				return entity.getPaciente().getName();
+			}
+		};
+	}
+
 }
@@ -0,0 +1,50 @@
+package com.nutriconsultas.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import com.nutriconsultas.config.StartupBreakdownService.StartupBreakdown;
+
+class StartupBreakdownServiceTest {
+
+	@Test
+	void attributesNestedStepsToTheNearestPhase() throws InterruptedException {
+		final BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+		final StartupStep entityManagerFactory = bean(startup, "entityManagerFactory");
+		final StartupStep liquibase = bean(startup, "liquibase");
+		Thread.sleep(50);
+		liquibase.end();
+		entityManagerFactory.end();
+		final StartupStep service = bean(startup, "dietaService");
+		Thread.sleep(5);
+		service.end();
+		final StartupStep ready = startup.start("spring.boot.application.ready");
+		Thread.sleep(5);
+		ready.end();
+
+		final StartupBreakdown breakdown = new StartupBreakdownService(startup).breakdown();
+
+		assertThat(breakdown).isNotNull();
+		assertThat(breakdown.recordedSteps()).isEqualTo(4);
+		assertThat(breakdown.phaseMillis()).containsOnlyKeys("liquibase", "hibernate", "beans", "runners", "other");
+		assertThat(breakdown.phaseMillis().get("liquibase")).isGreaterThanOrEqualTo(50L);
+		assertThat(breakdown.phaseMillis().get("hibernate")).isLessThan(breakdown.phaseMillis().get("liquibase"));
+		assertThat(breakdown.phaseMillis().get("beans")).isGreaterThanOrEqualTo(5L);
+		assertThat(breakdown.phaseMillis().get("runners")).isGreaterThanOrEqualTo(5L);
+		assertThat(breakdown.slowestBeans()).first().extracting("beanName").isEqualTo("liquibase");
+	}
+
+	@Test
+	void returnsNullWhenStartupIsNotBuffered() {
+		assertThat(new StartupBreakdownService(ApplicationStartup.DEFAULT).breakdown()).isNull();
+	}
+
+	private static StartupStep bean(final BufferingApplicationStartup startup, final String beanName) {
+		return startup.start("spring.beans.instantiate").tag("beanName", beanName);
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.nutriconsultas.dieta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * Content versions are only moved by the repository increment, never by saving a stale
+ * entity copy.
+ */
+@DataJpaTest
+class DietaContentVersionTest {
+
+	@Autowired
+	private DietaRepository dietaRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void incrementSurvivesSaveOfStaleCopy() {
+		final Dieta dieta = new Dieta();
+		dieta.setNombre("Plan versionado");
+		dieta.setUserId("nutritionist-sub");
+		entityManager.persistAndFlush(dieta);
+
+		assertThat(dietaRepository.incrementContentVersion(dieta.getId())).isEqualTo(1);
+		assertThat(dietaRepository.incrementContentVersion(dieta.getId())).isEqualTo(1);
+		final Dieta staleCopy = new Dieta();
+		staleCopy.setId(dieta.getId());
+		staleCopy.setNombre("Plan renombrado");
+		staleCopy.setUserId("nutritionist-sub");
+		dietaRepository.saveAndFlush(staleCopy);
+		entityManager.clear();
+
+		final Dieta reloaded = entityManager.find(Dieta.class, dieta.getId());
+		assertThat(reloaded.getNombre()).isEqualTo("Plan renombrado");
+		assertThat(reloaded.getContentVersion()).isEqualTo(2L);
+	}
+
+}
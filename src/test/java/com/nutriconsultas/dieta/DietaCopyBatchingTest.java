@@ -0,0 +1,112 @@
+package com.nutriconsultas.dieta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Saving a deep diet tree draws ids from the pooled sequences and sends the inserts in
+ * JDBC batches instead of one round trip per row.
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class DietaCopyBatchingTest {
+
+	private static final int INGESTAS = 5;
+
+	private static final int PLATILLOS_PER_INGESTA = 4;
+
+	private static final int INGREDIENTES_PER_PLATILLO = 5;
+
+	private static final int ALIMENTOS_PER_INGESTA = 4;
+
+	@Autowired
+	private DietaRepository dietaRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void deepTreeInsertsAreBatched() {
+		final long rows = 1
+				+ INGESTAS * (1 + PLATILLOS_PER_INGESTA * (1 + INGREDIENTES_PER_PLATILLO) + ALIMENTOS_PER_INGESTA);
+		statistics.clear();
+
+		dietaRepository.save(buildTree("Plan por lotes"));
+		entityManager.flush();
+
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+		// One statement per table and batch plus a few sequence calls; unbatched inserts
+		// would prepare one statement per row.
+		assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+	}
+
+	@Test
+	void idsFromColumnDefaultDoNotCollideWithPooledIds() {
+		final Dieta first = dietaRepository.save(buildTree("Plan JPA"));
+		entityManager.flush();
+		jdbcTemplate.update("INSERT INTO dieta (nombre, user_id) VALUES (?, ?)", "Plan SQL", "nutritionist-sub");
+		final Dieta second = dietaRepository.save(buildTree("Plan JPA 2"));
+		entityManager.flush();
+
+		final Long sqlId = jdbcTemplate.queryForObject("SELECT id FROM dieta WHERE nombre = 'Plan SQL'", Long.class);
+		assertThat(sqlId).isNotIn(first.getId(), second.getId());
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT id) FROM dieta", Long.class))
+			.isEqualTo(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dieta", Long.class));
+	}
+
+	private static Dieta buildTree(final String nombre) {
+		final Dieta dieta = new Dieta();
+		dieta.setNombre(nombre);
+		dieta.setUserId("nutritionist-sub");
+		for (int i = 0; i < INGESTAS; i++) {
+			final Ingesta ingesta = new Ingesta("Ingesta " + i);
+			ingesta.setOrden(i);
+			ingesta.setDieta(dieta);
+			for (int p = 0; p < PLATILLOS_PER_INGESTA; p++) {
+				final PlatilloIngesta platillo = new PlatilloIngesta();
+				platillo.setName("Platillo " + p);
+				platillo.setIngesta(ingesta);
+				for (int g = 0; g < INGREDIENTES_PER_PLATILLO; g++) {
+					final IngredientePlatilloIngesta ingrediente = new IngredientePlatilloIngesta();
+					ingrediente.setDescription("Ingrediente " + g);
+					ingrediente.setPlatillo(platillo);
+					platillo.getIngredientes().add(ingrediente);
+				}
+				ingesta.getPlatillos().add(platillo);
+			}
+			for (int a = 0; a < ALIMENTOS_PER_INGESTA; a++) {
+				final AlimentoIngesta alimento = new AlimentoIngesta();
+				alimento.setName("Alimento " + a);
+				alimento.setIngesta(ingesta);
+				ingesta.getAlimentos().add(alimento);
+			}
+			dieta.getIngestas().add(ingesta);
+		}
+		return dieta;
+	}
+
+}
@@ -23,6 +23,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import com.nutriconsultas.alimentos.Alimento;
 import com.nutriconsultas.alimentos.AlimentosRepository;
+import com.nutriconsultas.sync.PatientChangeLogService;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -41,6 +42,12 @@ public class DietaServiceTest {
 	@Mock
 	private AlimentosRepository alimentosRepository;
 
+	@Mock
+	private PatientChangeLogService changeLogService;
+
+	@Mock
+	private DietaTreeCopier dietaTreeCopier;
+
 	private Dieta originalDieta;
 
 	private Ingesta ingesta;
@@ -201,79 +208,39 @@ public class DietaServiceTest {
 		log.info("Finished setting up DietaService test");
 	}
 
+	@Test
+	public void testSaveDietaBumpsContentVersion() {
+		when(dietaRepository.save(originalDieta)).thenReturn(originalDieta);
+
+		dietaService.saveDieta(originalDieta);
+
+		verify(dietaRepository).incrementContentVersion(1L);
+	}
+
 	@Test
 	public void testDuplicateDietaSuccess() {
 		log.info("Starting testDuplicateDietaSuccess");
 
 		// Arrange
+		final Dieta copied = new Dieta();
+		copied.setId(2L);
+		copied.setNombre("Copia de Dieta Original");
+		copied.setUserId(TEST_USER_ID);
 		when(dietaRepository.findById(1L)).thenReturn(Optional.of(originalDieta));
-		when(dietaRepository.save(any(Dieta.class))).thenAnswer(invocation -> {
-			Dieta saved = invocation.getArgument(0);
-			saved.setId(2L);
-			return saved;
-		});
+		when(dietaTreeCopier.copy(1L, "Copia de Dieta Original", TEST_USER_ID, null)).thenReturn(2L);
+		when(dietaRepository.findById(2L)).thenReturn(Optional.of(copied));
 
 		// Act
 		Dieta duplicated = dietaService.duplicateDieta(1L, TEST_USER_ID);
 
 		// Assert
-		assertThat(duplicated).isNotNull();
-		assertThat(duplicated.getId()).isEqualTo(2L);
-		assertThat(duplicated.getNombre()).isEqualTo("Copia de Dieta Original");
-		assertThat(duplicated.getUserId()).isEqualTo(TEST_USER_ID);
-		assertThat(duplicated.getEnergia()).isEqualTo(originalDieta.getEnergia());
-		assertThat(duplicated.getProteina()).isEqualTo(originalDieta.getProteina());
-		assertThat(duplicated.getLipidos()).isEqualTo(originalDieta.getLipidos());
-		assertThat(duplicated.getHidratosDeCarbono()).isEqualTo(originalDieta.getHidratosDeCarbono());
-
-		// Verify ingestas were copied
-		assertThat(duplicated.getIngestas()).hasSize(1);
-		Ingesta duplicatedIngesta = duplicated.getIngestas().get(0);
-		assertThat(duplicatedIngesta.getNombre()).isEqualTo("Desayuno");
-		assertThat(duplicatedIngesta.getEnergia()).isEqualTo(ingesta.getEnergia());
-		assertThat(duplicatedIngesta.getProteina()).isEqualTo(ingesta.getProteina());
-		assertThat(duplicatedIngesta.getLipidos()).isEqualTo(ingesta.getLipidos());
-		assertThat(duplicatedIngesta.getHidratosDeCarbono()).isEqualTo(ingesta.getHidratosDeCarbono());
-		assertThat(duplicatedIngesta.getDieta()).isEqualTo(duplicated);
-
-		// Verify platillos were copied
-		assertThat(duplicatedIngesta.getPlatillos()).hasSize(1);
-		PlatilloIngesta duplicatedPlatillo = duplicatedIngesta.getPlatillos().get(0);
-		assertThat(duplicatedPlatillo.getName()).isEqualTo(platilloIngesta.getName());
-		assertThat(duplicatedPlatillo.getPortions()).isEqualTo(platilloIngesta.getPortions());
-		assertThat(duplicatedPlatillo.getRecommendations()).isEqualTo(platilloIngesta.getRecommendations());
-		assertThat(duplicatedPlatillo.getImageUrl()).isEqualTo(platilloIngesta.getImageUrl());
-		assertThat(duplicatedPlatillo.getVideoUrl()).isEqualTo(platilloIngesta.getVideoUrl());
-		assertThat(duplicatedPlatillo.getPdfUrl()).isEqualTo(platilloIngesta.getPdfUrl());
-		assertThat(duplicatedPlatillo.getEnergia()).isEqualTo(platilloIngesta.getEnergia());
-		assertThat(duplicatedPlatillo.getProteina()).isEqualTo(platilloIngesta.getProteina());
-		assertThat(duplicatedPlatillo.getIngesta()).isEqualTo(duplicatedIngesta);
-
-		// Verify ingredientes were copied
-		assertThat(duplicatedPlatillo.getIngredientes()).hasSize(1);
-		IngredientePlatilloIngesta duplicatedIngrediente = duplicatedPlatillo.getIngredientes().get(0);
-		assertThat(duplicatedIngrediente.getDescription()).isEqualTo(ingredientePlatilloIngesta.getDescription());
-		assertThat(duplicatedIngrediente.getCantSugerida()).isEqualTo(ingredientePlatilloIngesta.getCantSugerida());
-		assertThat(duplicatedIngrediente.getAlimento()).isEqualTo(ingredientePlatilloIngesta.getAlimento());
-		assertThat(duplicatedIngrediente.getUnidad()).isEqualTo(ingredientePlatilloIngesta.getUnidad());
-		assertThat(duplicatedIngrediente.getPlatillo()).isEqualTo(duplicatedPlatillo);
-
-		// Verify alimentos were copied
-		assertThat(duplicatedIngesta.getAlimentos()).hasSize(1);
-		AlimentoIngesta duplicatedAlimento = duplicatedIngesta.getAlimentos().get(0);
-		assertThat(duplicatedAlimento.getName()).isEqualTo(alimentoIngesta.getName());
-		assertThat(duplicatedAlimento.getPortions()).isEqualTo(alimentoIngesta.getPortions());
-		assertThat(duplicatedAlimento.getAlimento()).isEqualTo(alimentoIngesta.getAlimento());
-		assertThat(duplicatedAlimento.getUnidad()).isEqualTo(alimentoIngesta.getUnidad());
-		assertThat(duplicatedAlimento.getEnergia()).isEqualTo(alimentoIngesta.getEnergia());
-		assertThat(duplicatedAlimento.getProteina()).isEqualTo(alimentoIngesta.getProteina());
-		assertThat(duplicatedAlimento.getIngesta()).isEqualTo(duplicatedIngesta);
+		assertThat(duplicated).isSameAs(copied);
+		verify(dietaRepository).flush();
+		verify(dietaRepository, never()).save(any(Dieta.class));
 
 		// Verify original dieta was not modified
 		assertThat(originalDieta.getId()).isEqualTo(1L);
 		assertThat(originalDieta.getNombre()).isEqualTo("Dieta Original");
-
-		verify(dietaRepository).save(any(Dieta.class));
 		log.info("Finishing testDuplicateDietaSuccess");
 	}
 
@@ -298,20 +265,17 @@ public class DietaServiceTest {
 
 		// Arrange
 		originalDieta.setNombre(null);
+		final Dieta copied = new Dieta();
+		copied.setId(2L);
 		when(dietaRepository.findById(1L)).thenReturn(Optional.of(originalDieta));
-		when(dietaRepository.save(any(Dieta.class))).thenAnswer(invocation -> {
-			Dieta saved = invocation.getArgument(0);
-			saved.setId(2L);
-			return saved;
-		});
+		when(dietaTreeCopier.copy(1L, "Copia de Dieta", TEST_USER_ID, null)).thenReturn(2L);
+		when(dietaRepository.findById(2L)).thenReturn(Optional.of(copied));
 
 		// Act
 		Dieta duplicated = dietaService.duplicateDieta(1L, TEST_USER_ID);
 
 		// Assert
-		assertThat(duplicated).isNotNull();
-		assertThat(duplicated.getNombre()).isEqualTo("Copia de Dieta");
-		assertThat(duplicated.getUserId()).isEqualTo(TEST_USER_ID);
+		assertThat(duplicated).isSameAs(copied);
 		log.info("Finishing testDuplicateDietaWithNullName");
 	}
 
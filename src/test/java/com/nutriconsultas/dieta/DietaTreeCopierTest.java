@@ -0,0 +1,222 @@
+package com.nutriconsultas.dieta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nutriconsultas.alimentos.Alimento;
+import com.nutriconsultas.paciente.Paciente;
+
+/**
+ * The set-based copy reproduces the whole diet tree under new ids and leaves the source
+ * and the id mapping table untouched.
+ */
+@DataJpaTest
+@Import(DietaTreeCopier.class)
+class DietaTreeCopierTest {
+
+	private static final String USER_ID = "nutritionist-sub";
+
+	@Autowired
+	private DietaTreeCopier copier;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void copiesEveryLevelUnderNewIds() {
+		final Alimento avena = persistAlimento();
+		final Dieta source = persistTree(avena);
+		entityManager.clear();
+
+		final Long copyId = copier.copy(source.getId(), "Copia de Plan", "other-sub", null);
+		entityManager.clear();
+
+		final Dieta copy = entityManager.find(Dieta.class, copyId);
+		assertThat(copy.getId()).isNotEqualTo(source.getId());
+		assertThat(copy.getNombre()).isEqualTo("Copia de Plan");
+		assertThat(copy.getUserId()).isEqualTo("other-sub");
+		assertThat(copy.getPacienteId()).isNull();
+		assertThat(copy.getEnergia()).isEqualTo(1800);
+		assertThat(copy.getProteina()).isEqualTo(90.0);
+
+		final List<Ingesta> ingestas = copy.getIngestas()
+			.stream()
+			.sorted(Comparator.comparing(Ingesta::getOrden))
+			.toList();
+		assertThat(ingestas).extracting(Ingesta::getNombre).containsExactly("Desayuno", "Comida");
+		assertThat(ingestas).extracting(Ingesta::getEnergia).containsExactly(500, 900);
+		final Ingesta desayuno = ingestas.get(0);
+		assertThat(desayuno.getPlatillos()).hasSize(1);
+		final PlatilloIngesta platillo = desayuno.getPlatillos().get(0);
+		assertThat(platillo.getName()).isEqualTo("Avena con fruta");
+		assertThat(platillo.getPortions()).isEqualTo(2);
+		assertThat(platillo.getRecommendations()).isEqualTo("Sin azúcar");
+		assertThat(platillo.getImageUrl()).isEqualTo("avena.jpg");
+		assertThat(platillo.getFibra()).isEqualTo(6.5);
+		assertThat(platillo.getEtanol()).isEqualTo(0.0);
+		assertThat(platillo.getIngredientes()).extracting(IngredientePlatilloIngesta::getDescription)
+			.containsExactlyInAnyOrder("Avena", "Plátano");
+		assertThat(platillo.getIngredientes()).allSatisfy(ingrediente -> {
+			assertThat(ingrediente.getAlimento().getId()).isEqualTo(avena.getId());
+			assertThat(ingrediente.getCantSugerida()).isEqualTo(0.5);
+			assertThat(ingrediente.getUnidad()).isEqualTo("taza");
+			assertThat(ingrediente.getPesoNeto()).isEqualTo(40);
+		});
+		assertThat(desayuno.getAlimentos()).singleElement().satisfies(alimento -> {
+			assertThat(alimento.getName()).isEqualTo("Manzana");
+			assertThat(alimento.getPortions()).isEqualTo(2.0);
+			assertThat(alimento.getOrden()).isEqualTo(3);
+			assertThat(alimento.getAlimento().getId()).isEqualTo(avena.getId());
+			assertThat(alimento.getSodio()).isEqualTo(2.0);
+		});
+		assertThat(ingestas.get(1).getPlatillos()).isEmpty();
+		assertThat(ingestas.get(1).getAlimentos()).isEmpty();
+
+		assertThat(countRows(source.getId())).isEqualTo(countRows(copyId)).isEqualTo(7L);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dieta_copy_id_map", Long.class)).isZero();
+	}
+
+	@Test
+	void patientCopyKeepsPacienteAndStartsContentVersionOver() {
+		final Paciente paciente = persistPaciente();
+		final Dieta source = persistTree(persistAlimento());
+		jdbcTemplate.update("UPDATE dieta SET content_version = 4 WHERE id = ?", source.getId());
+		entityManager.clear();
+
+		final Long copyId = copier.copy(source.getId(), "Plan", USER_ID, paciente.getId());
+		entityManager.clear();
+
+		final Dieta copy = entityManager.find(Dieta.class, copyId);
+		assertThat(copy.getPacienteId()).isEqualTo(paciente.getId());
+		assertThat(copy.getContentVersion()).isZero();
+	}
+
+	@Test
+	void newIdsFillWholeSequenceBlocks() {
+		final Alimento avena = persistAlimento();
+		final Dieta source = persistTree(avena);
+		final Ingesta desayuno = source.getIngestas().get(0);
+		for (int i = 0; i < 59; i++) {
+			final AlimentoIngesta extra = new AlimentoIngesta();
+			extra.setName("Extra " + i);
+			extra.setAlimento(avena);
+			extra.setIngesta(desayuno);
+			entityManager.persist(extra);
+		}
+		entityManager.flush();
+		entityManager.clear();
+		final String nextval = "SELECT nextval('alimento_ingesta_id_seq')";
+		final Long before = jdbcTemplate.queryForObject(nextval, Long.class);
+
+		final Long copyId = copier.copy(source.getId(), "Copia de Plan", USER_ID, null);
+
+		// 60 alimentos take two blocks: the 50 ids after the block drawn above, then 10
+		// more
+		final List<Long> ids = jdbcTemplate.queryForList("SELECT a.id FROM alimento_ingesta a JOIN ingesta i"
+				+ " ON i.id = a.ingesta_id WHERE i.dieta_id = ? ORDER BY a.id", Long.class, copyId);
+		assertThat(ids).hasSize(60).first().isEqualTo(before + 1);
+		assertThat(ids).last().isEqualTo(before + 60);
+		assertThat(jdbcTemplate.queryForObject(nextval, Long.class)).isEqualTo(before + 3 * Dieta.ID_ALLOCATION_SIZE);
+	}
+
+	@Test
+	void missingSourceIsRejected() {
+		assertThatThrownBy(() -> copier.copy(-1L, "Plan", USER_ID, null)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * Rows of the tree rooted at {@code dietaId}: the diet, ingestas, platillos,
+	 * ingredientes and alimentos.
+	 */
+	private long countRows(final Long dietaId) {
+		final String ingestas = "SELECT id FROM ingesta WHERE dieta_id = ?";
+		final String platillos = "SELECT id FROM platillo_ingesta WHERE ingesta_id IN (" + ingestas + ")";
+		return jdbcTemplate.queryForObject(
+				"SELECT (SELECT COUNT(*) FROM dieta WHERE id = ?) + (SELECT COUNT(*) FROM (" + ingestas
+						+ ") i) + (SELECT COUNT(*) FROM (" + platillos + ") p)"
+						+ " + (SELECT COUNT(*) FROM ingrediente_platillo_ingesta WHERE platillo_id IN (" + platillos
+						+ "))" + " + (SELECT COUNT(*) FROM alimento_ingesta WHERE ingesta_id IN (" + ingestas + "))",
+				Long.class, dietaId, dietaId, dietaId, dietaId, dietaId);
+	}
+
+	private Paciente persistPaciente() {
+		final Paciente paciente = new Paciente();
+		paciente.setName("Paciente copia");
+		paciente.setUserId(USER_ID);
+		paciente.setDob(new Date());
+		paciente.setGender("F");
+		return entityManager.persist(paciente);
+	}
+
+	private Alimento persistAlimento() {
+		final Alimento alimento = new Alimento();
+		alimento.setNombreAlimento("Avena copia");
+		alimento.setClasificacion("TEST");
+		alimento.setUnidad("g");
+		alimento.setCantSugerida(1.0);
+		return entityManager.persist(alimento);
+	}
+
+	private Dieta persistTree(final Alimento alimento) {
+		final Dieta dieta = new Dieta();
+		dieta.setNombre("Plan");
+		dieta.setUserId(USER_ID);
+		dieta.setEnergia(1800);
+		dieta.setProteina(90.0);
+
+		final Ingesta desayuno = new Ingesta("Desayuno");
+		desayuno.setOrden(0);
+		desayuno.setEnergia(500);
+		desayuno.setDieta(dieta);
+		final PlatilloIngesta platillo = new PlatilloIngesta();
+		platillo.setName("Avena con fruta");
+		platillo.setPortions(2);
+		platillo.setRecommendations("Sin azúcar");
+		platillo.setImageUrl("avena.jpg");
+		platillo.setFibra(6.5);
+		platillo.setEtanol(0.0);
+		platillo.setIngesta(desayuno);
+		for (final String description : List.of("Avena", "Plátano")) {
+			final IngredientePlatilloIngesta ingrediente = new IngredientePlatilloIngesta();
+			ingrediente.setDescription(description);
+			ingrediente.setAlimento(alimento);
+			ingrediente.setCantSugerida(0.5);
+			ingrediente.setUnidad("taza");
+			ingrediente.setPesoNeto(40);
+			ingrediente.setPlatillo(platillo);
+			platillo.getIngredientes().add(ingrediente);
+		}
+		desayuno.getPlatillos().add(platillo);
+		final AlimentoIngesta manzana = new AlimentoIngesta();
+		manzana.setName("Manzana");
+		manzana.setPortions(2.0);
+		manzana.setOrden(3);
+		manzana.setAlimento(alimento);
+		manzana.setSodio(2.0);
+		manzana.setIngesta(desayuno);
+		desayuno.getAlimentos().add(manzana);
+		dieta.getIngestas().add(desayuno);
+
+		final Ingesta comida = new Ingesta("Comida");
+		comida.setOrden(1);
+		comida.setEnergia(900);
+		comida.setDieta(dieta);
+		dieta.getIngestas().add(comida);
+		return entityManager.persistFlushFind(dieta);
+	}
+
+}
@@ -0,0 +1,161 @@
+package com.nutriconsultas.dieta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Times {@link DietaTreeCopier} against the entity-graph copy it replaced (load the tree,
+ * build new entities, cascade-save and flush) on a weekly-plan sized diet. Opt-in with
+ * {@code -Ddieta.copy.benchmark=true}; runs on the H2 test database unless the datasource
+ * properties point at PostgreSQL.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DietaTreeCopier.class)
+@EnabledIfSystemProperty(named = "dieta.copy.benchmark", matches = "true")
+@Slf4j
+class DietaTreeCopyBenchmarkTest {
+
+	private static final int INGESTAS = 35;
+
+	private static final int PLATILLOS_PER_INGESTA = 3;
+
+	private static final int INGREDIENTES_PER_PLATILLO = 6;
+
+	private static final int ALIMENTOS_PER_INGESTA = 4;
+
+	private static final int WARMUP_ROUNDS = 5;
+
+	private static final int ROUNDS = 20;
+
+	@Autowired
+	private DietaTreeCopier copier;
+
+	@Autowired
+	private DietaRepository dietaRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void setBasedCopyAgainstEntityGraphCopy() {
+		final Long sourceId = entityManager.persistFlushFind(buildSource()).getId();
+		entityManager.clear();
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			entityGraphCopy(sourceId);
+			setBasedCopy(sourceId);
+		}
+
+		final long entityNanos = time(() -> entityGraphCopy(sourceId));
+		final long setBasedNanos = time(() -> setBasedCopy(sourceId));
+
+		if (log.isInfoEnabled()) {
+			log.info("Diet tree copy ({} rows), mean of {} rounds: entity graph {} ms, set-based {} ms", treeRows(),
+					ROUNDS, entityNanos / ROUNDS / 1_000_000.0, setBasedNanos / ROUNDS / 1_000_000.0);
+		}
+		assertThat(dietaRepository.count()).isEqualTo(1 + 2L * (WARMUP_ROUNDS + ROUNDS));
+	}
+
+	private static long time(final Runnable copy) {
+		final long start = System.nanoTime();
+		for (int i = 0; i < ROUNDS; i++) {
+			copy.run();
+		}
+		return System.nanoTime() - start;
+	}
+
+	private void setBasedCopy(final Long sourceId) {
+		copier.copy(sourceId, "Copia", "benchmark-sub", null);
+	}
+
+	private void entityGraphCopy(final Long sourceId) {
+		final Dieta source = dietaRepository.findById(sourceId).orElseThrow();
+		final Dieta copy = new Dieta();
+		BeanUtils.copyProperties(source, copy, "id", "contentVersion", "ingestas");
+		for (final Ingesta ingesta : source.getIngestas()) {
+			final Ingesta ingestaCopy = new Ingesta();
+			BeanUtils.copyProperties(ingesta, ingestaCopy, "id", "dieta", "platillos", "alimentos");
+			ingestaCopy.setDieta(copy);
+			for (final PlatilloIngesta platillo : ingesta.getPlatillos()) {
+				final PlatilloIngesta platilloCopy = new PlatilloIngesta();
+				BeanUtils.copyProperties(platillo, platilloCopy, "id", "ingesta", "ingredientes", "sourcePlatilloId");
+				platilloCopy.setIngesta(ingestaCopy);
+				for (final IngredientePlatilloIngesta ingrediente : platillo.getIngredientes()) {
+					final IngredientePlatilloIngesta ingredienteCopy = new IngredientePlatilloIngesta();
+					BeanUtils.copyProperties(ingrediente, ingredienteCopy, "id", "platillo");
+					ingredienteCopy.setPlatillo(platilloCopy);
+					platilloCopy.getIngredientes().add(ingredienteCopy);
+				}
+				ingestaCopy.getPlatillos().add(platilloCopy);
+			}
+			for (final AlimentoIngesta alimento : ingesta.getAlimentos()) {
+				final AlimentoIngesta alimentoCopy = new AlimentoIngesta();
+				BeanUtils.copyProperties(alimento, alimentoCopy, "id", "ingesta");
+				alimentoCopy.setIngesta(ingestaCopy);
+				ingestaCopy.getAlimentos().add(alimentoCopy);
+			}
+			copy.getIngestas().add(ingestaCopy);
+		}
+		dietaRepository.save(copy);
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	private static int treeRows() {
+		return 1 + INGESTAS * (1 + PLATILLOS_PER_INGESTA * (1 + INGREDIENTES_PER_PLATILLO) + ALIMENTOS_PER_INGESTA);
+	}
+
+	private static Dieta buildSource() {
+		final Dieta dieta = new Dieta();
+		dieta.setNombre("Plan semanal");
+		dieta.setUserId("benchmark-sub");
+		dieta.setEnergia(2100);
+		final List<Ingesta> ingestas = new ArrayList<>();
+		for (int i = 0; i < INGESTAS; i++) {
+			final Ingesta ingesta = new Ingesta("Ingesta " + i);
+			ingesta.setOrden(i);
+			ingesta.setDieta(dieta);
+			for (int p = 0; p < PLATILLOS_PER_INGESTA; p++) {
+				final PlatilloIngesta platillo = new PlatilloIngesta();
+				platillo.setName("Platillo " + p);
+				platillo.setPortions(1);
+				platillo.setEnergia(350);
+				platillo.setIngesta(ingesta);
+				for (int g = 0; g < INGREDIENTES_PER_PLATILLO; g++) {
+					final IngredientePlatilloIngesta ingrediente = new IngredientePlatilloIngesta();
+					ingrediente.setDescription("Ingrediente " + g);
+					ingrediente.setCantSugerida(1.0);
+					ingrediente.setEnergia(60);
+					ingrediente.setPlatillo(platillo);
+					platillo.getIngredientes().add(ingrediente);
+				}
+				ingesta.getPlatillos().add(platillo);
+			}
+			for (int a = 0; a < ALIMENTOS_PER_INGESTA; a++) {
+				final AlimentoIngesta alimento = new AlimentoIngesta();
+				alimento.setName("Alimento " + a);
+				alimento.setOrden(a);
+				alimento.setEnergia(80);
+				alimento.setIngesta(ingesta);
+				ingesta.getAlimentos().add(alimento);
+			}
+			ingestas.add(ingesta);
+		}
+		dieta.setIngestas(ingestas);
+		return dieta;
+	}
+
+}
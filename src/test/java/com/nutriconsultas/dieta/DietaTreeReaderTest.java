@@ -0,0 +1,80 @@
+package com.nutriconsultas.dieta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * The mobile detail tree is read with one query per level and grouped per ingesta.
+ */
+@DataJpaTest
+@Import(DietaTreeReader.class)
+class DietaTreeReaderTest {
+
+	@Autowired
+	private DietaTreeReader reader;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void readGroupsPlatillosAndAlimentosPerIngestaInDisplayOrder() {
+		final Dieta dieta = new Dieta();
+		dieta.setNombre("Plan lote");
+		dieta.setUserId("nutritionist-sub");
+		final Ingesta comida = addIngesta(dieta, "Comida", 2);
+		final Ingesta desayuno = addIngesta(dieta, "Desayuno", 1);
+		addPlatillo(desayuno, "Avena");
+		addPlatillo(desayuno, "Huevo");
+		addAlimento(desayuno, "Manzana", 2);
+		addAlimento(desayuno, "Pera", 1);
+		addAlimento(comida, "Arroz", 0);
+		entityManager.persist(dieta);
+		entityManager.flush();
+		entityManager.clear();
+
+		final DietaTree tree = reader.read(entityManager.find(Dieta.class, dieta.getId()));
+
+		assertThat(tree.ingestas()).extracting(Ingesta::getNombre).containsExactly("Desayuno", "Comida");
+		final Ingesta first = tree.ingestas().get(0);
+		assertThat(tree.platillosOf(first)).extracting(PlatilloIngesta::getName).containsExactly("Avena", "Huevo");
+		assertThat(tree.alimentosOf(first)).extracting(AlimentoIngesta::getName)
+			.containsExactlyInAnyOrder("Manzana", "Pera");
+		assertThat(tree.platillosOf(tree.ingestas().get(1))).isEmpty();
+		assertThat(tree.alimentosOf(tree.ingestas().get(1))).extracting(AlimentoIngesta::getName)
+			.containsExactly("Arroz");
+	}
+
+	@Test
+	void readReturnsEmptyTreeWithoutDieta() {
+		assertThat(reader.read(null).ingestas()).isEmpty();
+	}
+
+	private static Ingesta addIngesta(final Dieta dieta, final String nombre, final int orden) {
+		final Ingesta ingesta = new Ingesta(nombre);
+		ingesta.setOrden(orden);
+		ingesta.setDieta(dieta);
+		dieta.getIngestas().add(ingesta);
+		return ingesta;
+	}
+
+	private static void addPlatillo(final Ingesta ingesta, final String name) {
+		final PlatilloIngesta platillo = new PlatilloIngesta();
+		platillo.setName(name);
+		platillo.setIngesta(ingesta);
+		ingesta.getPlatillos().add(platillo);
+	}
+
+	private static void addAlimento(final Ingesta ingesta, final String name, final int orden) {
+		final AlimentoIngesta alimento = new AlimentoIngesta();
+		alimento.setName(name);
+		alimento.setOrden(orden);
+		alimento.setIngesta(ingesta);
+		ingesta.getAlimentos().add(alimento);
+	}
+
+}
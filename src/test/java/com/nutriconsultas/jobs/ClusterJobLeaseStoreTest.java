@@ -0,0 +1,72 @@
+package com.nutriconsultas.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nutriconsultas.jobs.ClusterJobLeaseStore.AcquiredLease;
+
+@DataJpaTest
+class ClusterJobLeaseStoreTest {
+
+	private static final String JOB = "test-job";
+
+	private static final Instant NOW = Instant.parse("2026-06-17T12:00:00Z");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private ClusterJobLeaseStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new ClusterJobLeaseStore(new NamedParameterJdbcTemplate(jdbcTemplate),
+				new TransactionTemplate(transactionManager));
+	}
+
+	@Test
+	void secondOwnerIsSkippedWhileLeaseIsHeld() {
+		assertThat(store.tryAcquire(JOB, "node-a", NOW, NOW.plusSeconds(300))).contains(new AcquiredLease(null));
+
+		assertThat(store.tryAcquire(JOB, "node-b", NOW.plusSeconds(10), NOW.plusSeconds(310))).isEmpty();
+		assertThat(store.extend(JOB, "node-b", NOW.plusSeconds(10), NOW.plusSeconds(310))).isFalse();
+		assertThat(store.extend(JOB, "node-a", NOW.plusSeconds(10), NOW.plusSeconds(310))).isTrue();
+	}
+
+	@Test
+	void expiredLeaseIsTakenOverWithItsCheckpoint() {
+		store.tryAcquire(JOB, "node-a", NOW, NOW.plusSeconds(300));
+		assertThat(store.checkpoint(JOB, "node-a", 42L, NOW.plusSeconds(5), NOW.plusSeconds(305))).isTrue();
+
+		assertThat(store.tryAcquire(JOB, "node-b", NOW.plusSeconds(400), NOW.plusSeconds(700)))
+			.contains(new AcquiredLease(42L));
+		assertThat(store.checkpoint(JOB, "node-a", 50L, NOW.plusSeconds(401), NOW.plusSeconds(701))).isFalse();
+	}
+
+	@Test
+	void releaseFreesLeaseAndCompletedRunClearsCheckpoint() {
+		store.tryAcquire(JOB, "node-a", NOW, NOW.plusSeconds(300));
+		store.checkpoint(JOB, "node-a", 7L, NOW, NOW.plusSeconds(300));
+		store.release(JOB, "node-a", false);
+
+		assertThat(store.tryAcquire(JOB, "node-b", NOW.plusSeconds(1), NOW.plusSeconds(301)))
+			.contains(new AcquiredLease(7L));
+		store.release(JOB, "node-b", true);
+
+		assertThat(store.tryAcquire(JOB, "node-a", NOW.plusSeconds(2), NOW.plusSeconds(302)))
+			.contains(new AcquiredLease(null));
+	}
+
+}
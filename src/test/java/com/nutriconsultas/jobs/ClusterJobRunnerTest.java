@@ -0,0 +1,154 @@
+package com.nutriconsultas.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.nutriconsultas.jobs.ClusterJobLeaseStore.AcquiredLease;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterJobRunnerTest {
+
+	private static final Instant NOW = Instant.parse("2026-06-17T12:00:00Z");
+
+	@Mock
+	private ClusterJobLeaseStore leaseStore;
+
+	@Mock
+	private ClusterJobRunRepository runRepository;
+
+	@Mock
+	private ObjectProvider<ClusterJob> jobs;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private ClusterJobRunner runner;
+
+	@BeforeEach
+	void setUp() {
+		runner = new ClusterJobRunner(leaseStore, runRepository, jobs, Runnable::run, meterRegistry, 300L,
+				Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	void skipsWhenAnotherInstanceHoldsTheLease() {
+		when(leaseStore.tryAcquire(eq("busy"), anyString(), eq(NOW), eq(NOW.plusSeconds(300))))
+			.thenReturn(Optional.empty());
+
+		final Optional<ClusterJobRun> run = runner.run(job("busy", context -> {
+			throw new AssertionError("must not run");
+		}), ClusterJobTrigger.SCHEDULED, null);
+
+		assertThat(run).isEmpty();
+		verify(runRepository, never()).save(any());
+		assertThat(meterRegistry.counter(ClusterJobRunner.RUN_SKIPPED, "job", "busy").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void completedRunClearsCheckpointAndRecordsDuration() {
+		when(leaseStore.tryAcquire(eq("ok"), anyString(), any(), any())).thenReturn(Optional.of(new AcquiredLease(5L)));
+		when(leaseStore.checkpoint(eq("ok"), anyString(), eq(9L), any(), any())).thenReturn(true);
+
+		final ClusterJobRun run = runner.run(job("ok", context -> {
+			assertThat(context.getResumeFrom()).isEqualTo(5L);
+			context.checkpoint(9L);
+		}), ClusterJobTrigger.MANUAL, "auth0|admin").orElseThrow();
+
+		assertThat(run.getStatus()).isEqualTo(ClusterJobRunStatus.COMPLETED);
+		assertThat(run.getResumedFromCursor()).isEqualTo(5L);
+		assertThat(run.getCheckpointCursor()).isEqualTo(9L);
+		assertThat(run.getActorUserId()).isEqualTo("auth0|admin");
+		assertThat(run.getDurationMs()).isNotNull();
+		verify(leaseStore).release(eq("ok"), anyString(), eq(true));
+		assertThat(meterRegistry.timer(ClusterJobRunner.RUN_DURATION, "job", "ok", "outcome", "completed").count())
+			.isEqualTo(1L);
+	}
+
+	@Test
+	void failedRunKeepsCheckpointForTheNextRun() {
+		when(leaseStore.tryAcquire(eq("boom"), anyString(), any(), any()))
+			.thenReturn(Optional.of(new AcquiredLease(null)));
+		when(leaseStore.checkpoint(eq("boom"), anyString(), anyLong(), any(), any())).thenReturn(true);
+
+		final ClusterJobRun run = runner.run(job("boom", context -> {
+			context.checkpoint(3L);
+			throw new IllegalStateException("db down");
+		}), ClusterJobTrigger.SCHEDULED, null).orElseThrow();
+
+		assertThat(run.getStatus()).isEqualTo(ClusterJobRunStatus.FAILED);
+		assertThat(run.getErrorMessage()).isEqualTo("IllegalStateException: db down");
+		assertThat(run.getCheckpointCursor()).isEqualTo(3L);
+		verify(leaseStore).release(eq("boom"), anyString(), eq(false));
+	}
+
+	@Test
+	void lostLeaseStopsTheJob() {
+		when(leaseStore.tryAcquire(eq("stolen"), anyString(), any(), any()))
+			.thenReturn(Optional.of(new AcquiredLease(null)));
+		when(leaseStore.extend(eq("stolen"), anyString(), any(), any())).thenReturn(false);
+
+		final ClusterJobRun run = runner
+			.run(job("stolen", ClusterJobContext::heartbeat), ClusterJobTrigger.SCHEDULED, null)
+			.orElseThrow();
+
+		assertThat(run.getStatus()).isEqualTo(ClusterJobRunStatus.FAILED);
+		assertThat(run.getErrorMessage()).startsWith("ClusterJobLeaseLostException");
+	}
+
+	@Test
+	void shutdownReleasesLeasesOfRunsInProgressKeepingTheirCheckpoint() {
+		when(leaseStore.tryAcquire(eq("long"), anyString(), any(), any()))
+			.thenReturn(Optional.of(new AcquiredLease(null)));
+
+		runner.run(job("long", context -> runner.releaseHeldLeases()), ClusterJobTrigger.STARTUP, null);
+		runner.releaseHeldLeases();
+
+		verify(leaseStore).release(eq("long"), anyString(), eq(false));
+	}
+
+	@Test
+	void triggerAsyncRejectsUnknownJob() {
+		when(jobs.orderedStream()).thenReturn(Stream.of(job("known", context -> {
+		})));
+
+		assertThat(runner.triggerAsync("unknown", "auth0|admin")).isFalse();
+	}
+
+	private static ClusterJob job(final String name, final Consumer<ClusterJobContext> body) {
+		return new ClusterJob() {
+
+			@Override
+			public String name() {
+				return name;
+			}
+
+			@Override
+			public void run(final ClusterJobContext context) {
+				body.accept(context);
+			}
+
+		};
+	}
+
+}
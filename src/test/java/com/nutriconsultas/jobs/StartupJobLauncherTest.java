@@ -0,0 +1,128 @@
+package com.nutriconsultas.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import com.nutriconsultas.jobs.StartupJobLauncher.State;
+
+@ExtendWith(MockitoExtension.class)
+class StartupJobLauncherTest {
+
+	@Mock
+	private ObjectProvider<ClusterJob> jobs;
+
+	@Mock
+	private ClusterJobRunner jobRunner;
+
+	@Test
+	void runsStartupJobsInTheBackgroundAndReportsTheirState() {
+		final ClusterJob migration = job("migration", true);
+		final ClusterJob busy = job("busy", true);
+		final ClusterJob scheduled = job("scheduled", false);
+		when(jobs.orderedStream()).thenReturn(Stream.of(migration, busy, scheduled));
+		when(jobRunner.run(eq(migration), eq(ClusterJobTrigger.STARTUP), isNull()))
+			.thenReturn(Optional.of(run(ClusterJobRunStatus.COMPLETED)));
+		when(jobRunner.run(eq(busy), eq(ClusterJobTrigger.STARTUP), isNull())).thenReturn(Optional.empty());
+		final List<Runnable> queued = new ArrayList<>();
+		final StartupJobLauncher launcher = new StartupJobLauncher(jobs, jobRunner, queued::add);
+
+		launcher.launchStartupJobs();
+
+		assertThat(launcher.getStates()).containsExactly(Map.entry("busy", State.PENDING),
+				Map.entry("migration", State.PENDING));
+		verify(jobRunner, never()).run(any(), any(), any());
+
+		queued.forEach(Runnable::run);
+
+		assertThat(launcher.getStates()).containsExactly(Map.entry("busy", State.SKIPPED),
+				Map.entry("migration", State.COMPLETED));
+		verify(jobRunner, never()).run(eq(scheduled), any(), any());
+	}
+
+	@Test
+	void failedStartupJobStaysUpInHealth() {
+		final ClusterJob migration = job("migration", true);
+		when(jobs.orderedStream()).thenReturn(Stream.of(migration));
+		when(jobRunner.run(eq(migration), eq(ClusterJobTrigger.STARTUP), isNull()))
+			.thenReturn(Optional.of(run(ClusterJobRunStatus.FAILED)));
+		final StartupJobLauncher launcher = new StartupJobLauncher(jobs, jobRunner, Runnable::run);
+
+		launcher.launchStartupJobs();
+
+		final Health health = new StartupJobsHealthIndicator(launcher).health();
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails()).containsEntry("migration", "FAILED");
+	}
+
+	@Test
+	void skippedAndFailedStartupJobsAreRetriedUntilTheyComplete() {
+		final ClusterJob migration = job("migration", true);
+		final ClusterJob backfill = job("backfill", true);
+		when(jobs.orderedStream()).thenAnswer(invocation -> Stream.of(migration, backfill));
+		when(jobRunner.run(eq(migration), eq(ClusterJobTrigger.STARTUP), isNull())).thenReturn(Optional.empty())
+			.thenReturn(Optional.of(run(ClusterJobRunStatus.COMPLETED)));
+		when(jobRunner.run(eq(backfill), eq(ClusterJobTrigger.STARTUP), isNull()))
+			.thenReturn(Optional.of(run(ClusterJobRunStatus.FAILED)))
+			.thenReturn(Optional.of(run(ClusterJobRunStatus.COMPLETED)));
+		final StartupJobLauncher launcher = new StartupJobLauncher(jobs, jobRunner, Runnable::run);
+
+		launcher.launchStartupJobs();
+		assertThat(launcher.getStates()).containsExactly(Map.entry("backfill", State.FAILED),
+				Map.entry("migration", State.SKIPPED));
+
+		launcher.retryUnfinishedStartupJobs();
+		launcher.retryUnfinishedStartupJobs();
+
+		assertThat(launcher.getStates()).containsExactly(Map.entry("backfill", State.COMPLETED),
+				Map.entry("migration", State.COMPLETED));
+		verify(jobRunner, times(2)).run(eq(migration), eq(ClusterJobTrigger.STARTUP), isNull());
+		verify(jobRunner, times(2)).run(eq(backfill), eq(ClusterJobTrigger.STARTUP), isNull());
+	}
+
+	private static ClusterJobRun run(final ClusterJobRunStatus status) {
+		final ClusterJobRun run = new ClusterJobRun();
+		run.setStatus(status);
+		return run;
+	}
+
+	private static ClusterJob job(final String name, final boolean atStartup) {
+		return new ClusterJob() {
+
+			@Override
+			public String name() {
+				return name;
+			}
+
+			@Override
+			public void run(final ClusterJobContext context) {
+			}
+
+			@Override
+			public boolean runsAtStartup() {
+				return atStartup;
+			}
+
+		};
+	}
+
+}
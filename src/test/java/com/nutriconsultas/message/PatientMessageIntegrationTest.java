@@ -22,11 +22,10 @@ import com.nutriconsultas.paciente.Paciente;
 import com.nutriconsultas.paciente.PacienteRepository;
 import com.nutriconsultas.profile.NutritionistProfile;
 import com.nutriconsultas.profile.NutritionistProfileRepository;
+import com.nutriconsultas.ratelimit.ClientRateLimiter;
 
 import java.util.UUID;
 
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
-
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -51,13 +50,13 @@ class PatientMessageIntegrationTest {
 	private NutritionistProfileRepository nutritionistProfileRepository;
 
 	@Autowired
-	private RateLimiterRegistry rateLimiterRegistry;
+	private ClientRateLimiter clientRateLimiter;
 
 	private Paciente linkedPaciente;
 
 	@BeforeEach
 	void seedData() {
-		rateLimiterRegistry.remove("patientMessages:" + PATIENT_AUTH_SUB);
+		clientRateLimiter.reset("patientMessages", PATIENT_AUTH_SUB);
 		linkedPaciente = pacienteRepository.findByPatientAuthSub(PATIENT_AUTH_SUB).orElseGet(() -> {
 			final Paciente paciente = samplePaciente(PATIENT_AUTH_SUB, NUTRITIONIST_SUB);
 			return pacienteRepository.saveAndFlush(paciente);
@@ -16,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.oauth2.core.oidc.OidcIdToken;
 import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.nutriconsultas.message.dto.PatientMessageThreadItemDto;
 import com.nutriconsultas.message.dto.PatientUnreadMessageDto;
@@ -32,6 +33,9 @@ class PatientMessageRestControllerTest {
 	@Mock
 	private PatientMessageService patientMessageService;
 
+	@Mock
+	private PatientMessageStreamService patientMessageStreamService;
+
 	@Test
 	void listUnread_returnsSummaries() {
 		when(patientMessageService.listUnreadSummaries(USER_ID)).thenReturn(List
@@ -43,6 +47,14 @@ class PatientMessageRestControllerTest {
 		assertThat(result.get(0).pacienteName()).isEqualTo("Ana López");
 	}
 
+	@Test
+	void stream_subscribesNutritionist() {
+		final SseEmitter emitter = new SseEmitter();
+		when(patientMessageStreamService.subscribeNutritionist(USER_ID)).thenReturn(emitter);
+
+		assertThat(controller.stream(oidcUser())).isSameAs(emitter);
+	}
+
 	@Test
 	void listThread_returnsMessages() {
 		when(patientMessageService.listThread(eq(1L), eq(USER_ID)))
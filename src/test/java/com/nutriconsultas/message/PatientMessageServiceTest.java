@@ -24,6 +24,9 @@ import com.nutriconsultas.message.dto.PatientMessageThreadItemDto;
 import com.nutriconsultas.message.dto.PatientUnreadMessageDto;
 import com.nutriconsultas.paciente.Paciente;
 import com.nutriconsultas.paciente.PacienteRepository;
+import com.nutriconsultas.sync.PatientChangeLogService;
+import com.nutriconsultas.sync.PatientChangeOperation;
+import com.nutriconsultas.sync.PatientChangeType;
 
 @ExtendWith(MockitoExtension.class)
 class PatientMessageServiceTest {
@@ -42,6 +45,15 @@ class PatientMessageServiceTest {
 	@Mock
 	private PatientMessagePushNotifier patientMessagePushNotifier;
 
+	@Mock
+	private PatientChangeLogService changeLogService;
+
+	@Mock
+	private PatientMessageStreamService streamService;
+
+	@Mock
+	private PatientMessageUnreadCounters unreadCounters;
+
 	@Test
 	void listThread_returnsAscendingMessages() {
 		final Paciente paciente = samplePaciente(1L);
@@ -62,6 +74,7 @@ class PatientMessageServiceTest {
 		first.setReadByNutritionist(false);
 		final PatientMessage second = sampleMessage(paciente, MessageSenderRole.PATIENT, "Dos");
 		second.setReadByNutritionist(false);
+		when(unreadCounters.total(USER_ID)).thenReturn(2L);
 		when(patientMessageRepository.findUnreadFromPatientsByNutritionist(USER_ID)).thenReturn(List.of(first, second));
 
 		final List<PatientUnreadMessageDto> summaries = patientMessageService.listUnreadSummaries(USER_ID);
@@ -71,6 +84,21 @@ class PatientMessageServiceTest {
 		assertThat(summaries.get(0).unreadCount()).isEqualTo(2);
 	}
 
+	@Test
+	void listUnreadSummaries_skipsQueryWhenCountersReportNone() {
+		when(unreadCounters.total(USER_ID)).thenReturn(0L);
+
+		assertThat(patientMessageService.listUnreadSummaries(USER_ID)).isEmpty();
+		verify(patientMessageRepository, never()).findUnreadFromPatientsByNutritionist(USER_ID);
+	}
+
+	@Test
+	void countUnread_readsInMemoryCounters() {
+		when(unreadCounters.total(USER_ID)).thenReturn(3L);
+
+		assertThat(patientMessageService.countUnread(USER_ID)).isEqualTo(3L);
+	}
+
 	@Test
 	void sendAsNutritionist_persistsMessage() {
 		final Paciente paciente = samplePaciente(1L);
@@ -92,6 +120,8 @@ class PatientMessageServiceTest {
 		assertThat(captor.getValue().isReadByNutritionist()).isTrue();
 		assertThat(captor.getValue().isReadByPatient()).isFalse();
 		verify(patientMessagePushNotifier).notifyNewNutritionistMessage(1L, 99L);
+		verify(changeLogService).record(1L, PatientChangeType.MESSAGE, 99L, PatientChangeOperation.UPSERT);
+		verify(streamService).nutritionistMessageSent(captor.getValue());
 	}
 
 	@Test
@@ -150,6 +180,7 @@ class PatientMessageServiceTest {
 		patientMessageService.markThreadReadByNutritionist(1L, USER_ID);
 
 		verify(patientMessageRepository).markReadByNutritionist(1L, USER_ID);
+		verify(streamService).threadReadByNutritionist(USER_ID, 1L);
 	}
 
 	private static Paciente samplePaciente(final Long id) {
@@ -0,0 +1,146 @@
+package com.nutriconsultas.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.nutriconsultas.message.dto.PatientMessageEventDto;
+import com.nutriconsultas.message.dto.PatientUnreadCountDto;
+import com.nutriconsultas.paciente.Paciente;
+
+@ExtendWith(MockitoExtension.class)
+class PatientMessageStreamServiceTest {
+
+	private static final String USER_ID = "auth0|stream-nutritionist";
+
+	@Mock
+	private PatientMessageUnreadCounters unreadCounters;
+
+	private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+	private PatientMessageStreamService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new PatientMessageStreamService(unreadCounters, 60_000L, 2) {
+			@Override
+			SseEmitter newEmitter() {
+				final RecordingEmitter emitter = new RecordingEmitter();
+				emitters.add(emitter);
+				return emitter;
+			}
+		};
+	}
+
+	@Test
+	void subscribeNutritionistSendsCurrentUnreadCount() {
+		when(unreadCounters.total(USER_ID)).thenReturn(4L);
+		when(unreadCounters.byPatient(USER_ID)).thenReturn(Map.of(1L, 4L));
+
+		service.subscribeNutritionist(USER_ID);
+
+		assertThat(emitters.get(0).payloads).containsExactly(new PatientUnreadCountDto(4L, Map.of(1L, 4L)));
+	}
+
+	@Test
+	void patientMessageIncrementsCounterAndNotifiesNutritionistStreams() {
+		service.subscribeNutritionist(USER_ID);
+		service.subscribePatient(7L);
+		final PatientMessage message = message(MessageSenderRole.PATIENT);
+
+		service.patientMessageSent(message);
+
+		verify(unreadCounters).increment(USER_ID, 7L);
+		assertThat(emitters.get(0).payloads).contains(PatientMessageEventDto.fromEntity(message));
+		assertThat(emitters.get(1).payloads).isEmpty();
+	}
+
+	@Test
+	void nutritionistMessageNotifiesOnlyThePatient() {
+		service.subscribeNutritionist(USER_ID);
+		service.subscribePatient(7L);
+		service.subscribePatient(8L);
+		final PatientMessage message = message(MessageSenderRole.NUTRITIONIST);
+
+		service.nutritionistMessageSent(message);
+
+		assertThat(emitters.get(1).payloads).containsExactly(PatientMessageEventDto.fromEntity(message));
+		assertThat(emitters.get(2).payloads).isEmpty();
+		verify(unreadCounters, never()).increment(USER_ID, 7L);
+	}
+
+	@Test
+	void subscribeEvictsOldestStreamPastPerSubscriberCap() {
+		service.subscribePatient(7L);
+		service.subscribePatient(7L);
+		service.subscribePatient(7L);
+
+		assertThat(service.streamCount()).isEqualTo(2);
+		assertThat(emitters.get(0).completed).isTrue();
+	}
+
+	@Test
+	void failedWriteDropsStream() {
+		service.subscribePatient(7L);
+		emitters.get(0).failWrites = true;
+
+		service.heartbeat();
+
+		assertThat(service.streamCount()).isZero();
+	}
+
+	private static PatientMessage message(final MessageSenderRole role) {
+		final Paciente paciente = new Paciente();
+		paciente.setId(7L);
+		final PatientMessage message = new PatientMessage();
+		message.setId(30L);
+		message.setPaciente(paciente);
+		message.setNutritionistUserId(USER_ID);
+		message.setSenderRole(role);
+		message.setBody("Hola");
+		message.setSentAt(Instant.parse("2026-06-01T10:00:00Z"));
+		return message;
+	}
+
+	private static final class RecordingEmitter extends SseEmitter {
+
+		private final List<Object> payloads = new ArrayList<>();
+
+		private boolean failWrites;
+
+		private boolean completed;
+
+		@Override
+		public void send(final SseEventBuilder builder) throws IOException {
+			if (failWrites) {
+				throw new IOException("client gone");
+			}
+			builder.build()
+				.stream()
+				.map(DataWithMediaType::getData)
+				.filter(data -> !(data instanceof String))
+				.forEach(payloads::add);
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+
+	}
+
+}
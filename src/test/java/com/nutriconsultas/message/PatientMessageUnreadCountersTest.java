@@ -0,0 +1,114 @@
+package com.nutriconsultas.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.nutriconsultas.paciente.Paciente;
+
+/**
+ * Unread counts are rebuilt from one grouped query, adjusted in memory, and reloaded per
+ * nutritionist once the reconcile interval lapses.
+ */
+@DataJpaTest
+class PatientMessageUnreadCountersTest {
+
+	private static final String NUTRITIONIST = "auth0|counters-nutritionist";
+
+	@Autowired
+	private PatientMessageRepository repository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private Clock clock;
+
+	private PatientMessageUnreadCounters counters;
+
+	@BeforeEach
+	void setUp() {
+		clock = Mockito.mock(Clock.class);
+		Mockito.when(clock.millis()).thenReturn(1_000L);
+		counters = new PatientMessageUnreadCounters(repository, 60_000L, clock);
+	}
+
+	@Test
+	void rebuildCountsUnreadPatientMessagesPerPatient() {
+		final Paciente ana = persistPaciente("Ana");
+		final Paciente luis = persistPaciente("Luis");
+		persistMessage(ana, MessageSenderRole.PATIENT, false);
+		persistMessage(ana, MessageSenderRole.PATIENT, false);
+		persistMessage(ana, MessageSenderRole.PATIENT, true);
+		persistMessage(ana, MessageSenderRole.NUTRITIONIST, true);
+		persistMessage(luis, MessageSenderRole.PATIENT, false);
+
+		counters.rebuild();
+
+		assertThat(counters.total(NUTRITIONIST)).isEqualTo(3L);
+		assertThat(counters.byPatient(NUTRITIONIST)).containsEntry(ana.getId(), 2L).containsEntry(luis.getId(), 1L);
+		assertThat(counters.total("auth0|someone-else")).isZero();
+	}
+
+	@Test
+	void incrementAndClearAdjustCountsUntilReconcile() {
+		final Paciente ana = persistPaciente("Ana");
+		persistMessage(ana, MessageSenderRole.PATIENT, false);
+		assertThat(counters.total(NUTRITIONIST)).isEqualTo(1L);
+
+		counters.increment(NUTRITIONIST, ana.getId());
+		assertThat(counters.total(NUTRITIONIST)).isEqualTo(2L);
+		counters.clear(NUTRITIONIST, ana.getId());
+		assertThat(counters.total(NUTRITIONIST)).isZero();
+
+		Mockito.when(clock.millis()).thenReturn(61_000L);
+		assertThat(counters.total(NUTRITIONIST)).isEqualTo(1L);
+	}
+
+	@Test
+	void incrementOnStaleOrMissingEntryReloadsWithoutCountingTwice() {
+		final Paciente ana = persistPaciente("Ana");
+		persistMessage(ana, MessageSenderRole.PATIENT, false);
+
+		counters.increment(NUTRITIONIST, ana.getId());
+		assertThat(counters.total(NUTRITIONIST)).isEqualTo(1L);
+
+		Mockito.when(clock.millis()).thenReturn(61_000L);
+		persistMessage(ana, MessageSenderRole.PATIENT, false);
+		counters.increment(NUTRITIONIST, ana.getId());
+		assertThat(counters.total(NUTRITIONIST)).isEqualTo(2L);
+	}
+
+	private Paciente persistPaciente(final String name) {
+		final Paciente paciente = new Paciente();
+		paciente.setName(name);
+		paciente.setUserId(NUTRITIONIST);
+		paciente.setDob(Date.from(LocalDate.now().minusYears(30).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+		paciente.setGender("F");
+		return entityManager.persist(paciente);
+	}
+
+	private void persistMessage(final Paciente paciente, final MessageSenderRole role,
+			final boolean readByNutritionist) {
+		final PatientMessage message = new PatientMessage();
+		message.setPaciente(paciente);
+		message.setNutritionistUserId(NUTRITIONIST);
+		message.setSenderRole(role);
+		message.setBody("Hola");
+		entityManager.persistAndFlush(message);
+		if (readByNutritionist) {
+			message.setReadByNutritionist(true);
+			entityManager.flush();
+		}
+	}
+
+}
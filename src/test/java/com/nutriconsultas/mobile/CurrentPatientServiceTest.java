@@ -2,13 +2,15 @@ package com.nutriconsultas.mobile;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -25,9 +27,13 @@ class CurrentPatientServiceTest {
 	@Mock
 	private PacienteRepository pacienteRepository;
 
-	@InjectMocks
 	private CurrentPatientService currentPatientService;
 
+	@BeforeEach
+	void setUp() {
+		currentPatientService = new CurrentPatientService(pacienteRepository, new PatientAuthViewCache(30_000L, null));
+	}
+
 	@Test
 	void findByJwt_returnsCurrentPatientWhenLinked() {
 		final PacienteAuthView authView = MobileTestPacienteAuthViews.authView(7L, LINKED_SUB, "nutritionist-sub",
@@ -60,6 +66,19 @@ class CurrentPatientServiceTest {
 		assertThat(principal.getStatus()).isEqualTo(PacienteStatus.ONBOARDING);
 	}
 
+	@Test
+	void findByJwt_reusesCachedViewForSameSubject() {
+		final PacienteAuthView authView = MobileTestPacienteAuthViews.authView(7L, LINKED_SUB, "nutritionist-sub",
+				PacienteStatus.ACTIVE);
+		when(pacienteRepository.findAuthViewByPatientAuthSub(LINKED_SUB)).thenReturn(Optional.of(authView));
+
+		currentPatientService.findByJwt(jwtWithSub(LINKED_SUB));
+		final Optional<CurrentPatient> second = currentPatientService.findByJwt(jwtWithSub(LINKED_SUB));
+
+		assertThat(second).contains(new CurrentPatient(7L, LINKED_SUB, PacienteStatus.ACTIVE));
+		verify(pacienteRepository, times(1)).findAuthViewByPatientAuthSub(LINKED_SUB);
+	}
+
 	private static Jwt jwtWithSub(final String sub) {
 		return Jwt.withTokenValue("test-token")
 			.header("alg", "none")
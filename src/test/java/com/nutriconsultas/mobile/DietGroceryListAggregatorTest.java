@@ -1,9 +1,11 @@
 package com.nutriconsultas.mobile;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -90,6 +92,83 @@ class DietGroceryListAggregatorTest {
 		assertThat(DietGroceryListAggregator.aggregate(dieta)).isEmpty();
 	}
 
+	@Test
+	void aggregate_mergesUnitSpellingsAndShowsTheFirstOne() {
+		final Alimento avena = alimento(1L, "Avena", "Cereales");
+		final Dieta dieta = new Dieta();
+		final Ingesta desayuno = ingesta("Desayuno");
+		desayuno.setPlatillos(List.of(platilloWithIngredient(avena, 0.5, "Tazas", 1),
+				platilloWithIngredient(avena, 0.5, " taza", 1)));
+		dieta.setIngestas(List.of(desayuno));
+
+		assertThat(DietGroceryListAggregator.aggregate(dieta))
+			.containsExactly(new DietGroceryListItemDto("Avena", "1", "Tazas", "Cereales"));
+	}
+
+	@Test
+	void aggregate_sumsMixedUnitsInGramsWhenEveryRowIsWeighed() {
+		final Alimento avena = alimento(1L, "Avena", "Cereales");
+		final PlatilloIngesta enTaza = platilloWithIngredient(avena, 0.5, "taza", 2);
+		enTaza.getIngredientes().get(0).setPesoBrutoRedondeado(40);
+		final PlatilloIngesta enGramos = platilloWithIngredient(avena, 30.0, "gr", 1);
+		final Dieta dieta = new Dieta();
+		final Ingesta desayuno = ingesta("Desayuno");
+		desayuno.setPlatillos(List.of(enTaza, enGramos));
+		dieta.setIngestas(List.of(desayuno));
+
+		assertThat(DietGroceryListAggregator.aggregate(dieta))
+			.containsExactly(new DietGroceryListItemDto("Avena", "110", "g", "Cereales"));
+	}
+
+	@Test
+	void aggregate_keepsOneLinePerUnitWhenAWeightIsUnknown() {
+		final Alimento avena = alimento(1L, "Avena", "Cereales");
+		final Dieta dieta = new Dieta();
+		final Ingesta desayuno = ingesta("Desayuno");
+		desayuno.setPlatillos(List.of(platilloWithIngredient(avena, 1.0, "taza", 1),
+				platilloWithIngredient(avena, 2.0, "cucharadas", 1)));
+		dieta.setIngestas(List.of(desayuno));
+
+		assertThat(DietGroceryListAggregator.aggregate(dieta))
+			.extracting(DietGroceryListItemDto::unidad, DietGroceryListItemDto::cantidad)
+			.containsExactly(tuple("cucharadas", "2"), tuple("taza", "1"));
+	}
+
+	@Test
+	void aggregate_scalesStandaloneAlimentoByCatalogServing() {
+		final Alimento leche = alimento(3L, "Leche", "Lácteos");
+		leche.setCantSugerida(0.5);
+		final AlimentoIngesta alimentoIngesta = standaloneAlimento(leche, 3);
+		alimentoIngesta.setUnidad("taza");
+		final Dieta dieta = new Dieta();
+		final Ingesta ingesta = ingesta("Colación");
+		ingesta.setAlimentos(List.of(alimentoIngesta));
+		dieta.setIngestas(List.of(ingesta));
+
+		assertThat(DietGroceryListAggregator.aggregate(dieta))
+			.containsExactly(new DietGroceryListItemDto("Leche", "1 1/2", "taza", "Lácteos"));
+	}
+
+	@Test
+	void aggregate_countsBulkLoadedRowsOncePerDayTheirDietIsEaten() {
+		final Alimento avena = alimento(1L, "Avena", "Cereales");
+		final Alimento manzana = alimento(2L, "Manzana", "Frutas");
+		final Dieta lunesYMiercoles = new Dieta();
+		lunesYMiercoles.setId(7L);
+		final Ingesta desayuno = ingesta("Desayuno");
+		desayuno.setDieta(lunesYMiercoles);
+		final PlatilloIngesta platillo = platilloWithIngredient(avena, 0.5, "taza", 1);
+		platillo.setIngesta(desayuno);
+		final AlimentoIngesta fruta = standaloneAlimento(manzana, 1);
+		fruta.setIngesta(desayuno);
+
+		final List<DietGroceryListItemDto> items = DietGroceryListAggregator.aggregate(List.of(platillo),
+				List.of(fruta), Map.of(7L, 2));
+
+		assertThat(items).containsExactly(new DietGroceryListItemDto("Avena", "1", "taza", "Cereales"),
+				new DietGroceryListItemDto("Manzana", "2", "pieza", "Frutas"));
+	}
+
 	private static AlimentoIngesta standaloneAlimento(final Alimento alimento, final int portions) {
 		final AlimentoIngesta alimentoIngesta = new AlimentoIngesta();
 		alimentoIngesta.setName(alimento.getNombreAlimento());
@@ -38,11 +38,10 @@ import com.nutriconsultas.paciente.invitation.PatientInvitationTokenBundle;
 import com.nutriconsultas.paciente.invitation.PatientInvitationTokenService;
 import com.nutriconsultas.profile.NutritionistProfile;
 import com.nutriconsultas.profile.NutritionistProfileRepository;
+import com.nutriconsultas.ratelimit.ClientRateLimiter;
 import com.nutriconsultas.subscription.SubscriptionEntitlementService;
 import com.nutriconsultas.util.InvitationTokenHasher;
 
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
-
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -71,22 +70,22 @@ class MobileInvitationIntegrationTest {
 	private NutritionistProfileRepository nutritionistProfileRepository;
 
 	@Autowired
-	private RateLimiterRegistry rateLimiterRegistry;
+	private ClientRateLimiter clientRateLimiter;
 
 	@MockitoBean
 	private SubscriptionEntitlementService subscriptionEntitlementService;
 
 	@BeforeEach
 	void resetRateLimiters() {
-		rateLimiterRegistry.remove(PatientInvitationPreviewRateLimiter.PATIENT_INVITATION_PREVIEW + ":127.0.0.1");
-		rateLimiterRegistry
-			.remove(PatientInvitationRedeemRateLimiter.PATIENT_INVITATION_REDEEM + ":auth0|patient-redeem-integration");
-		rateLimiterRegistry
-			.remove(PatientInvitationRedeemRateLimiter.PATIENT_INVITATION_REDEEM + ":auth0|patient-redeem-rate-limit");
-		rateLimiterRegistry
-			.remove(PatientInvitationRedeemRateLimiter.PATIENT_INVITATION_REDEEM + ":auth0|patient-reconcile-email");
-		rateLimiterRegistry
-			.remove(PatientInvitationRedeemRateLimiter.PATIENT_INVITATION_REDEEM + ":auth0|patient-reconcile-linked");
+		clientRateLimiter.reset(PatientInvitationPreviewRateLimiter.PATIENT_INVITATION_PREVIEW, "127.0.0.1");
+		clientRateLimiter.reset(PatientInvitationRedeemRateLimiter.PATIENT_INVITATION_REDEEM,
+				"auth0|patient-redeem-integration");
+		clientRateLimiter.reset(PatientInvitationRedeemRateLimiter.PATIENT_INVITATION_REDEEM,
+				"auth0|patient-redeem-rate-limit");
+		clientRateLimiter.reset(PatientInvitationRedeemRateLimiter.PATIENT_INVITATION_REDEEM,
+				"auth0|patient-reconcile-email");
+		clientRateLimiter.reset(PatientInvitationRedeemRateLimiter.PATIENT_INVITATION_REDEEM,
+				"auth0|patient-reconcile-linked");
 	}
 
 	@Test
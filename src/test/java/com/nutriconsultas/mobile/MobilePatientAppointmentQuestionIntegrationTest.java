@@ -24,8 +24,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nutriconsultas.appointmentquestion.AppointmentQuestionRepository;
 import com.nutriconsultas.paciente.Paciente;
 import com.nutriconsultas.paciente.PacienteRepository;
-
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import com.nutriconsultas.ratelimit.ClientRateLimiter;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -49,7 +48,7 @@ class MobilePatientAppointmentQuestionIntegrationTest {
 	private AppointmentQuestionRepository appointmentQuestionRepository;
 
 	@Autowired
-	private RateLimiterRegistry rateLimiterRegistry;
+	private ClientRateLimiter clientRateLimiter;
 
 	private Paciente linkedPaciente;
 
@@ -57,7 +56,7 @@ class MobilePatientAppointmentQuestionIntegrationTest {
 
 	@BeforeEach
 	void seedData() {
-		rateLimiterRegistry.remove("patientAppointmentQuestions:" + LINKED_SUB);
+		clientRateLimiter.reset("patientAppointmentQuestions", LINKED_SUB);
 		linkedPaciente = pacienteRepository.findByPatientAuthSub(LINKED_SUB)
 			.orElseGet(() -> pacienteRepository.saveAndFlush(samplePaciente(LINKED_SUB, "Paciente preguntas")));
 		otherPaciente = pacienteRepository.findByPatientAuthSub(OTHER_SUB)
@@ -1,6 +1,8 @@
 package com.nutriconsultas.mobile;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -22,6 +25,7 @@ import org.springframework.security.oauth2.jwt.Jwt;
 
 import com.nutriconsultas.mobile.dto.ApiResponse;
 import com.nutriconsultas.mobile.dto.DietGroceryListDto;
+import com.nutriconsultas.mobile.dto.DietPlanDetailDto;
 import com.nutriconsultas.mobile.dto.DietPlanPdfResult;
 import com.nutriconsultas.mobile.dto.DietPlanSummaryDto;
 import com.nutriconsultas.mobile.dto.DietPlatilloDetailDto;
@@ -35,6 +39,8 @@ class MobilePatientDietPlanControllerTest {
 
 	private static final String PATIENT_SUB = "auth0|mobile-diet-plan-patient";
 
+	private static final String ETAG = "\"detail-f1-a7v2-d10v5\"";
+
 	@InjectMocks
 	private MobilePatientDietPlanController controller;
 
@@ -44,6 +50,9 @@ class MobilePatientDietPlanControllerTest {
 	@Mock
 	private MobilePatientDietPlanService mobilePatientDietPlanService;
 
+	@Spy
+	private DietPlanPayloadCache payloadCache = new DietPlanPayloadCache();
+
 	@Test
 	void listDietPlans_returnsApiResponseEnvelope() {
 		final DietPlanSummaryDto summary = new DietPlanSummaryDto(7L, PacienteDietaStatus.ACTIVE, null, null, null,
@@ -69,15 +78,55 @@ class MobilePatientDietPlanControllerTest {
 		final Jwt jwt = jwtWithSub(PATIENT_SUB);
 
 		when(patientAuthService.requireAuthViewByJwt(jwt)).thenReturn(authView(3L));
+		when(mobilePatientDietPlanService.getGroceryListEtag(3L, 7L, "current")).thenReturn(ETAG);
 		when(mobilePatientDietPlanService.getGroceryList(3L, 7L, "current")).thenReturn(groceryList);
 
-		final ApiResponse<DietGroceryListDto> response = controller.getGroceryList(jwt, 7L, "current");
+		final ResponseEntity<ApiResponse<DietGroceryListDto>> response = controller.getGroceryList(jwt, 7L, "current",
+				null);
 
-		assertThat(response.data().items()).isEmpty();
-		assertThat(response.timestamp()).isNotNull();
+		assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+		assertThat(response.getBody().data().items()).isEmpty();
+		assertThat(response.getBody().timestamp()).isNotNull();
 		verify(mobilePatientDietPlanService).getGroceryList(3L, 7L, "current");
 	}
 
+	@Test
+	void getDietPlanDetail_returnsNotModifiedWithoutLoadingWhenEtagMatches() {
+		final Jwt jwt = jwtWithSub(PATIENT_SUB);
+
+		when(patientAuthService.requireAuthViewByJwt(jwt)).thenReturn(authView(3L));
+		when(mobilePatientDietPlanService.getDietPlanDetailEtag(3L, 7L)).thenReturn(ETAG);
+
+		final ResponseEntity<ApiResponse<DietPlanDetailDto>> response = controller.getDietPlanDetail(jwt, 7L,
+				"\"other\", W/" + ETAG);
+
+		assertThat(response.getStatusCode().value()).isEqualTo(304);
+		assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+		assertThat(response.getBody()).isNull();
+		verify(mobilePatientDietPlanService, never()).getDietPlanDetail(3L, 7L);
+	}
+
+	@Test
+	void getDietPlanDetail_servesCachedPayloadForSameEtag() {
+		final DietPlanDetailDto detail = new DietPlanDetailDto(7L, PacienteDietaStatus.ACTIVE, null, null, null,
+				"Plan A", 2000, 100.0, 70.0, 250.0, List.of());
+		final Jwt jwt = jwtWithSub(PATIENT_SUB);
+
+		when(patientAuthService.requireAuthViewByJwt(jwt)).thenReturn(authView(3L));
+		when(mobilePatientDietPlanService.getDietPlanDetailEtag(3L, 7L)).thenReturn(ETAG);
+		when(mobilePatientDietPlanService.getDietPlanDetail(3L, 7L)).thenReturn(detail);
+
+		final ResponseEntity<ApiResponse<DietPlanDetailDto>> first = controller.getDietPlanDetail(jwt, 7L, null);
+		final ResponseEntity<ApiResponse<DietPlanDetailDto>> second = controller.getDietPlanDetail(jwt, 7L,
+				"\"stale\"");
+
+		assertThat(first.getStatusCode().value()).isEqualTo(200);
+		assertThat(first.getHeaders().getETag()).isEqualTo(ETAG);
+		assertThat(first.getHeaders().getCacheControl()).contains("no-cache");
+		assertThat(second.getBody()).isSameAs(first.getBody());
+		verify(mobilePatientDietPlanService, times(1)).getDietPlanDetail(3L, 7L);
+	}
+
 	@Test
 	void getPlatilloDetail_returnsApiResponseEnvelope() {
 		final DietPlatilloDetailDto detail = new DietPlatilloDetailDto(30L, "Avena", 2, "/img.jpg", "Prep", null, null,
@@ -132,11 +181,13 @@ class MobilePatientDietPlanControllerTest {
 		final DietPlanPdfResult pdf = new DietPlanPdfResult(pdfBytes, "Plan A.pdf");
 
 		when(patientAuthService.requireAuthViewByJwt(jwt)).thenReturn(authView(3L));
+		when(mobilePatientDietPlanService.getDietPlanPdfEtag(3L, 7L)).thenReturn(ETAG);
 		when(mobilePatientDietPlanService.generateDietPlanPdf(3L, 7L)).thenReturn(pdf);
 
-		final ResponseEntity<byte[]> response = controller.getDietPlanPdf(jwt, 7L);
+		final ResponseEntity<byte[]> response = controller.getDietPlanPdf(jwt, 7L, null);
 
 		assertThat(response.getStatusCode().value()).isEqualTo(200);
+		assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
 		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
 			.isEqualTo("attachment; filename=\"Plan A.pdf\"");
 		assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PDF);
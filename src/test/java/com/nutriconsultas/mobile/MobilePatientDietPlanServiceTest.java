@@ -9,6 +9,7 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,8 @@ import org.springframework.web.server.ResponseStatusException;
 import com.nutriconsultas.dieta.AlimentoIngesta;
 import com.nutriconsultas.dieta.Dieta;
 import com.nutriconsultas.dieta.DietaPdfService;
+import com.nutriconsultas.dieta.DietaTree;
+import com.nutriconsultas.dieta.DietaTreeReader;
 import com.nutriconsultas.dieta.Ingesta;
 import com.nutriconsultas.dieta.PlatilloIngesta;
 import com.nutriconsultas.dieta.PlatilloIngestaRepository;
@@ -60,11 +63,13 @@ class MobilePatientDietPlanServiceTest {
 	@Mock
 	private PlatilloService platilloService;
 
+	@Mock
+	private DietaTreeReader dietaTreeReader;
+
 	@Test
 	void getGroceryList_returnsAggregatedItemsWhenOwnedByPatient() {
 		final PacienteDieta assignment = sampleAssignment(5L, 1L);
 		when(pacienteDietaRepository.findByIdAndPacienteId(5L, 1L)).thenReturn(Optional.of(assignment));
-		when(pacienteDietaService.resolveDietsForGroceryList(assignment)).thenReturn(List.of(assignment.getDieta()));
 		when(pacienteDietaService.buildGroceryList(assignment))
 			.thenReturn(List.of(new DietGroceryListItemDto("Manzana", "1", "pieza", "Frutas")));
 
@@ -160,6 +165,10 @@ class MobilePatientDietPlanServiceTest {
 		final PacienteDieta assignment = sampleAssignment(5L, 1L);
 		when(pacienteDietaRepository.findByIdAndPacienteId(5L, 1L)).thenReturn(Optional.of(assignment));
 		when(pacienteDietaService.resolveDietaForDate(assignment, LocalDate.now())).thenReturn(assignment.getDieta());
+		final Ingesta ingesta = assignment.getDieta().getIngestas().get(0);
+		when(dietaTreeReader.read(assignment.getDieta()))
+			.thenReturn(new DietaTree(assignment.getDieta(), List.of(ingesta),
+					Map.of(ingesta.getId(), ingesta.getPlatillos()), Map.of(ingesta.getId(), ingesta.getAlimentos())));
 
 		final DietPlanDetailDto result = service.getDietPlanDetail(1L, 5L);
 
@@ -183,6 +192,31 @@ class MobilePatientDietPlanServiceTest {
 		assertThat(result.ingestas().get(0).alimentos().get(0).proteina()).isEqualTo(0.3);
 	}
 
+	@Test
+	void getDietPlanDetailEtag_changesWhenDietaContentVersionChanges() {
+		final PacienteDieta assignment = sampleAssignment(5L, 1L);
+		assignment.setContentVersion(2L);
+		when(pacienteDietaRepository.findByIdAndPacienteId(5L, 1L)).thenReturn(Optional.of(assignment));
+		when(pacienteDietaService.resolveDietaForDate(assignment, LocalDate.now())).thenReturn(assignment.getDieta());
+
+		final String before = service.getDietPlanDetailEtag(1L, 5L);
+		assignment.getDieta().setContentVersion(4L);
+		final String after = service.getDietPlanDetailEtag(1L, 5L);
+
+		assertThat(before).isEqualTo("\"detail-f1-a5v2-d10v0\"");
+		assertThat(after).isEqualTo("\"detail-f1-a5v2-d10v4\"");
+	}
+
+	@Test
+	void getGroceryListEtag_rejectsUnsupportedWeekBeforeVersioning() {
+		final PacienteDieta assignment = sampleAssignment(5L, 1L);
+		when(pacienteDietaRepository.findByIdAndPacienteId(5L, 1L)).thenReturn(Optional.of(assignment));
+
+		assertThatThrownBy(() -> service.getGroceryListEtag(1L, 5L, "next")).isInstanceOf(ResponseStatusException.class)
+			.extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+			.isEqualTo(HttpStatus.BAD_REQUEST);
+	}
+
 	@Test
 	void getDietPlanDetail_throwsNotFoundWhenMissingOrNotOwned() {
 		when(pacienteDietaRepository.findByIdAndPacienteId(99L, 1L)).thenReturn(Optional.empty());
@@ -14,8 +14,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.nutriconsultas.message.MessageSenderRole;
+import com.nutriconsultas.message.PatientMessageStreamService;
 import com.nutriconsultas.mobile.dto.ApiResponse;
 import com.nutriconsultas.mobile.dto.CursorPagedResponse;
 import com.nutriconsultas.mobile.dto.PatientMessageSummaryDto;
@@ -36,6 +38,9 @@ class MobilePatientMessageControllerTest {
 	@Mock
 	private MobilePatientMessageService mobilePatientMessageService;
 
+	@Mock
+	private PatientMessageStreamService patientMessageStreamService;
+
 	@Test
 	void listMessages_returnsApiResponseEnvelope() {
 		final PatientMessageSummaryDto summary = new PatientMessageSummaryDto(1L, Instant.parse("2026-06-01T12:00:00Z"),
@@ -55,6 +60,16 @@ class MobilePatientMessageControllerTest {
 		verify(mobilePatientMessageService).listMessages(5L, null, 20);
 	}
 
+	@Test
+	void streamMessages_subscribesAuthenticatedPatient() {
+		final Jwt jwt = jwtWithSub(PATIENT_SUB);
+		final SseEmitter emitter = new SseEmitter();
+		when(patientAuthService.requireAuthViewByJwt(jwt)).thenReturn(authView(5L));
+		when(patientMessageStreamService.subscribePatient(5L)).thenReturn(emitter);
+
+		assertThat(controller.streamMessages(jwt)).isSameAs(emitter);
+	}
+
 	@Test
 	void sendMessage_returnsCreatedMessageInApiResponseEnvelope() {
 		final PacienteAuthView authView = authView(5L);
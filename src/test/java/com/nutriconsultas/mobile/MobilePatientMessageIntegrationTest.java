@@ -27,8 +27,7 @@ import com.nutriconsultas.paciente.Paciente;
 import com.nutriconsultas.paciente.PacienteRepository;
 import com.nutriconsultas.profile.NutritionistProfile;
 import com.nutriconsultas.profile.NutritionistProfileRepository;
-
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import com.nutriconsultas.ratelimit.ClientRateLimiter;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -50,13 +49,13 @@ class MobilePatientMessageIntegrationTest {
 	private NutritionistProfileRepository nutritionistProfileRepository;
 
 	@Autowired
-	private RateLimiterRegistry rateLimiterRegistry;
+	private ClientRateLimiter clientRateLimiter;
 
 	private Paciente linkedPaciente;
 
 	@BeforeEach
 	void seedData() {
-		rateLimiterRegistry.remove(PatientWriteRateLimiter.PATIENT_MESSAGES + ":" + LINKED_SUB);
+		clientRateLimiter.reset(PatientWriteRateLimiter.PATIENT_MESSAGES, LINKED_SUB);
 		linkedPaciente = pacienteRepository.findByPatientAuthSub(LINKED_SUB).orElseGet(() -> {
 			final Paciente paciente = samplePaciente(LINKED_SUB);
 			return pacienteRepository.saveAndFlush(paciente);
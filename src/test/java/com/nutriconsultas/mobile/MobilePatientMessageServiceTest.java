@@ -22,6 +22,7 @@ import org.springframework.data.domain.Pageable;
 import com.nutriconsultas.message.MessageSenderRole;
 import com.nutriconsultas.message.PatientMessage;
 import com.nutriconsultas.message.PatientMessageRepository;
+import com.nutriconsultas.message.PatientMessageStreamService;
 import com.nutriconsultas.mobile.dto.CursorPagedResponse;
 import com.nutriconsultas.mobile.dto.PatientMessageSummaryDto;
 import com.nutriconsultas.paciente.Paciente;
@@ -29,6 +30,7 @@ import com.nutriconsultas.paciente.PacienteRepository;
 import com.nutriconsultas.paciente.projection.PacienteAuthView;
 import com.nutriconsultas.profile.NutritionistProfile;
 import com.nutriconsultas.profile.NutritionistProfileRepository;
+import com.nutriconsultas.sync.PatientChangeLogService;
 
 import java.util.Optional;
 
@@ -50,6 +52,12 @@ class MobilePatientMessageServiceTest {
 	@Mock
 	private PatientWriteRateLimiter patientWriteRateLimiter;
 
+	@Mock
+	private PatientChangeLogService changeLogService;
+
+	@Mock
+	private PatientMessageStreamService patientMessageStreamService;
+
 	@Test
 	void listMessages_returnsCursorPageWithoutNextWhenNoMore() {
 		final PatientMessage message = sampleMessage(42L, "Hola nutrióloga");
@@ -146,6 +154,7 @@ class MobilePatientMessageServiceTest {
 		verify(patientMessageRepository).save(captor.capture());
 		assertThat(captor.getValue().getSenderRole()).isEqualTo(MessageSenderRole.PATIENT);
 		assertThat(captor.getValue().getNutritionistUserId()).isEqualTo("auth0|nutritionist-owner");
+		verify(patientMessageStreamService).patientMessageSent(captor.getValue());
 		assertThat(captor.getValue().getPaciente()).isSameAs(pacienteRef);
 	}
 
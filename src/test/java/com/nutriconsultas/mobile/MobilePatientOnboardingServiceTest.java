@@ -41,6 +41,9 @@ class MobilePatientOnboardingServiceTest {
 	@Mock
 	private NutritionistProfileRepository nutritionistProfileRepository;
 
+	@Mock
+	private PatientAuthViewCache authViewCache;
+
 	@InjectMocks
 	private MobilePatientOnboardingService service;
 
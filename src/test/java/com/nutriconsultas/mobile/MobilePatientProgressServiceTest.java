@@ -5,7 +5,6 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
@@ -32,7 +31,6 @@ import com.nutriconsultas.paciente.PacienteAvatarCatalog;
 import com.nutriconsultas.paciente.PacienteRepository;
 import com.nutriconsultas.paciente.metrics.BodyMetricRecord;
 import com.nutriconsultas.paciente.metrics.BodyMetricRecordRepository;
-import com.nutriconsultas.paciente.metrics.BodyMetricRecordService;
 import com.nutriconsultas.paciente.metrics.BodyMetricSource;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,9 +39,6 @@ class MobilePatientProgressServiceTest {
 	@InjectMocks
 	private MobilePatientProgressService service;
 
-	@Mock
-	private BodyMetricRecordService bodyMetricRecordService;
-
 	@Mock
 	private BodyMetricRecordRepository bodyMetricRecordRepository;
 
@@ -73,7 +68,6 @@ class MobilePatientProgressServiceTest {
 
 		final PatientProgressSnapshotDto snapshot = service.getSnapshot(5L);
 
-		verify(bodyMetricRecordService).ensureBackfilled(5L);
 		assertThat(snapshot.weightKg()).isEqualTo(70.0);
 		assertThat(snapshot.bmi()).isEqualTo(24.2);
 		assertThat(snapshot.nivelPeso()).isEqualTo(NivelPeso.NORMAL);
@@ -126,7 +120,6 @@ class MobilePatientProgressServiceTest {
 
 		final ProgressMeasurementsDto series = service.listMeasurements(5L, null, null, null);
 
-		verify(bodyMetricRecordService).ensureBackfilled(5L);
 		assertThat(series.count()).isEqualTo(2);
 		assertThat(series.truncated()).isFalse();
 		assertThat(series.measurements()).extracting("weightKg").containsExactly(72.0, 70.0);
@@ -0,0 +1,47 @@
+package com.nutriconsultas.mobile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.nutriconsultas.mobile.dto.ApiResponse;
+import com.nutriconsultas.mobile.dto.PatientSyncDto;
+
+@ExtendWith(MockitoExtension.class)
+class MobilePatientSyncControllerTest {
+
+	private static final String PATIENT_SUB = "auth0|mobile-sync-patient";
+
+	@InjectMocks
+	private MobilePatientSyncController controller;
+
+	@Mock
+	private PatientAuthService patientAuthService;
+
+	@Mock
+	private MobilePatientSyncService mobilePatientSyncService;
+
+	@Test
+	void sync_returnsDeltaForAuthenticatedPatient() {
+		final Jwt jwt = Jwt.withTokenValue("token").header("alg", "none").subject(PATIENT_SUB).build();
+		final PatientSyncDto delta = new PatientSyncDto("42", false, false, List.of(), List.of(), List.of(), true,
+				List.of());
+		when(patientAuthService.requireAuthViewByJwt(jwt))
+			.thenReturn(MobileTestPacienteAuthViews.authView(5L, PATIENT_SUB, "auth0|nutritionist"));
+		when(mobilePatientSyncService.sync(5L, "40", 100)).thenReturn(delta);
+
+		final ApiResponse<PatientSyncDto> response = controller.sync(jwt, "40", 100);
+
+		assertThat(response.data()).isEqualTo(delta);
+		assertThat(response.timestamp()).isNotNull();
+	}
+
+}
@@ -0,0 +1,249 @@
+package com.nutriconsultas.mobile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import com.nutriconsultas.calendar.CalendarEvent;
+import com.nutriconsultas.calendar.CalendarEventRepository;
+import com.nutriconsultas.calendar.EventStatus;
+import com.nutriconsultas.message.PatientMessage;
+import com.nutriconsultas.message.PatientMessageRepository;
+import com.nutriconsultas.mobile.dto.PatientMessageSummaryDto;
+import com.nutriconsultas.mobile.dto.PatientSyncDeletionDto;
+import com.nutriconsultas.mobile.dto.PatientSyncDto;
+import com.nutriconsultas.paciente.Paciente;
+import com.nutriconsultas.paciente.PacienteDieta;
+import com.nutriconsultas.paciente.PacienteDietaRepository;
+import com.nutriconsultas.paciente.PacienteDietaStatus;
+import com.nutriconsultas.sync.PatientChange;
+import com.nutriconsultas.sync.PatientChangeOperation;
+import com.nutriconsultas.sync.PatientChangeRepository;
+import com.nutriconsultas.sync.PatientChangeType;
+
+@ExtendWith(MockitoExtension.class)
+class MobilePatientSyncServiceTest {
+
+	private static final Long PACIENTE_ID = 5L;
+
+	private static final Instant NOW = Instant.parse("2026-10-01T12:00:00Z");
+
+	@Mock
+	private PatientChangeRepository changeRepository;
+
+	@Mock
+	private PacienteDietaRepository pacienteDietaRepository;
+
+	@Mock
+	private CalendarEventRepository calendarEventRepository;
+
+	@Mock
+	private PatientMessageRepository patientMessageRepository;
+
+	@Mock
+	private MobilePatientMessageService mobilePatientMessageService;
+
+	private MobilePatientSyncService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new MobilePatientSyncService(changeRepository, pacienteDietaRepository, calendarEventRepository,
+				patientMessageRepository, mobilePatientMessageService, 30, Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	void withoutCursorReturnsSettledHeadCursorOnly() {
+		when(changeRepository.findOldestId()).thenReturn(3L);
+		when(changeRepository.findLatestIdByPacienteIdBefore(PACIENTE_ID, NOW.minusSeconds(30))).thenReturn(40L);
+
+		final PatientSyncDto result = service.sync(PACIENTE_ID, null, 200);
+
+		assertThat(result.cursor()).isEqualTo("40");
+		assertThat(result.resyncRequired()).isFalse();
+		assertThat(result.dietPlans()).isEmpty();
+		verify(changeRepository, never()).findByPacienteIdAndIdGreaterThanOrderByIdAsc(any(), any(), any());
+	}
+
+	@Test
+	void headCursorStartsAtRetainedFloorForQuietPatient() {
+		when(changeRepository.findOldestId()).thenReturn(900L);
+		when(changeRepository.findLatestIdByPacienteIdBefore(eq(PACIENTE_ID), any())).thenReturn(0L);
+
+		assertThat(service.sync(PACIENTE_ID, null, 200).cursor()).isEqualTo("899");
+	}
+
+	@Test
+	void cursorBelowRetainedHistoryRequiresResync() {
+		when(changeRepository.findOldestId()).thenReturn(100L);
+		when(changeRepository.findLatestIdByPacienteIdBefore(eq(PACIENTE_ID), any())).thenReturn(150L);
+
+		final PatientSyncDto result = service.sync(PACIENTE_ID, "50", 200);
+
+		assertThat(result.resyncRequired()).isTrue();
+		assertThat(result.cursor()).isEqualTo("150");
+		verify(changeRepository, never()).findByPacienteIdAndIdGreaterThanOrderByIdAsc(any(), any(), any());
+	}
+
+	@Test
+	void unreadableCursorRequiresResync() {
+		when(changeRepository.findLatestIdByPacienteIdBefore(eq(PACIENTE_ID), any())).thenReturn(7L);
+
+		assertThat(service.sync(PACIENTE_ID, "not-a-cursor", 200).resyncRequired()).isTrue();
+	}
+
+	@Test
+	void collapsesChangesAndReportsDeletedOrForeignEntities() {
+		final List<PatientChange> changes = List.of(
+				change(11L, PatientChangeType.VISIT, 8L, PatientChangeOperation.UPSERT),
+				change(12L, PatientChangeType.DIET_PLAN, 20L, PatientChangeOperation.UPSERT),
+				change(13L, PatientChangeType.VISIT, 9L, PatientChangeOperation.UPSERT),
+				change(14L, PatientChangeType.VISIT, 8L, PatientChangeOperation.DELETE),
+				change(15L, PatientChangeType.MESSAGE, 30L, PatientChangeOperation.UPSERT),
+				change(16L, PatientChangeType.PROGRESS, PACIENTE_ID, PatientChangeOperation.UPSERT),
+				change(17L, PatientChangeType.DIET_PLAN, 21L, PatientChangeOperation.UPSERT));
+		when(changeRepository.findOldestId()).thenReturn(1L);
+		when(changeRepository.findByPacienteIdAndIdGreaterThanOrderByIdAsc(eq(PACIENTE_ID), eq(10L), any()))
+			.thenReturn(changes);
+		when(pacienteDietaRepository.findAllById(Set.of(20L, 21L)))
+			.thenReturn(List.of(assignment(20L, PACIENTE_ID), assignment(21L, 99L)));
+		when(calendarEventRepository.findAllById(Set.of(9L))).thenReturn(List.of(visit(9L)));
+		final PatientMessage message = message(30L);
+		when(patientMessageRepository.findAllById(Set.of(30L))).thenReturn(List.of(message));
+		final PatientMessageSummaryDto messageDto = new PatientMessageSummaryDto(30L, null, null, "Hola", false, null);
+		when(mobilePatientMessageService.summarize(List.of(message))).thenReturn(List.of(messageDto));
+
+		final PatientSyncDto result = service.sync(PACIENTE_ID, "10", 200);
+
+		assertThat(result.dietPlans()).extracting(plan -> plan.assignmentId()).containsExactly(20L);
+		assertThat(result.visits()).extracting(visit -> visit.id()).containsExactly(9L);
+		assertThat(result.messages()).containsExactly(messageDto);
+		assertThat(result.progressChanged()).isTrue();
+		assertThat(result.deleted()).containsExactlyInAnyOrder(new PatientSyncDeletionDto(PatientChangeType.VISIT, 8L),
+				new PatientSyncDeletionDto(PatientChangeType.DIET_PLAN, 21L));
+		assertThat(result.hasMore()).isFalse();
+		assertThat(result.cursor()).isEqualTo("17");
+	}
+
+	@Test
+	void cursorStopsBeforeChangesInsideSettleWindow() {
+		final PatientChange settled = change(11L, PatientChangeType.PROGRESS, PACIENTE_ID,
+				PatientChangeOperation.UPSERT);
+		final PatientChange fresh = change(12L, PatientChangeType.PROGRESS, PACIENTE_ID, PatientChangeOperation.UPSERT);
+		fresh.setChangedAt(NOW.minusSeconds(5));
+		final PatientChange settledAfterFresh = change(13L, PatientChangeType.PROGRESS, PACIENTE_ID,
+				PatientChangeOperation.UPSERT);
+		when(changeRepository.findOldestId()).thenReturn(1L);
+		when(changeRepository.findByPacienteIdAndIdGreaterThanOrderByIdAsc(eq(PACIENTE_ID), eq(10L), any()))
+			.thenReturn(List.of(settled, fresh, settledAfterFresh));
+		when(mobilePatientMessageService.summarize(anyList())).thenReturn(List.of());
+
+		final PatientSyncDto result = service.sync(PACIENTE_ID, "10", 200);
+
+		assertThat(result.progressChanged()).isTrue();
+		assertThat(result.cursor()).isEqualTo("11");
+	}
+
+	@Test
+	void fullPageAdvancesPastLastChangeAndCapsLimit() {
+		final List<PatientChange> changes = new ArrayList<>();
+		for (long id = 1; id <= 501; id++) {
+			final PatientChange change = change(id, PatientChangeType.PROGRESS, PACIENTE_ID,
+					PatientChangeOperation.UPSERT);
+			change.setChangedAt(NOW);
+			changes.add(change);
+		}
+		when(changeRepository.findOldestId()).thenReturn(1L);
+		when(changeRepository.findByPacienteIdAndIdGreaterThanOrderByIdAsc(eq(PACIENTE_ID), eq(0L), any()))
+			.thenReturn(changes);
+		when(mobilePatientMessageService.summarize(anyList())).thenReturn(List.of());
+
+		final PatientSyncDto result = service.sync(PACIENTE_ID, "0", 10_000);
+
+		final ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+		verify(changeRepository).findByPacienteIdAndIdGreaterThanOrderByIdAsc(eq(PACIENTE_ID), eq(0L),
+				pageable.capture());
+		assertThat(pageable.getValue().getPageSize()).isEqualTo(MobilePatientSyncService.MAX_LIMIT + 1);
+		assertThat(result.hasMore()).isTrue();
+		assertThat(result.cursor()).isEqualTo("500");
+	}
+
+	@Test
+	void fullPageStopsBeforeUnsettledTail() {
+		final List<PatientChange> changes = new ArrayList<>();
+		for (long id = 1; id <= 3; id++) {
+			final PatientChange change = change(id, PatientChangeType.PROGRESS, PACIENTE_ID,
+					PatientChangeOperation.UPSERT);
+			if (id > 1) {
+				change.setChangedAt(NOW);
+			}
+			changes.add(change);
+		}
+		when(changeRepository.findOldestId()).thenReturn(1L);
+		when(changeRepository.findByPacienteIdAndIdGreaterThanOrderByIdAsc(eq(PACIENTE_ID), eq(0L), any()))
+			.thenReturn(changes);
+		when(mobilePatientMessageService.summarize(anyList())).thenReturn(List.of());
+
+		final PatientSyncDto result = service.sync(PACIENTE_ID, "0", 2);
+
+		assertThat(result.hasMore()).isTrue();
+		assertThat(result.cursor()).isEqualTo("1");
+	}
+
+	private static PatientChange change(final Long id, final PatientChangeType type, final Long entityId,
+			final PatientChangeOperation operation) {
+		return new PatientChange(id, PACIENTE_ID, type, entityId, operation, NOW.minusSeconds(600));
+	}
+
+	private static Paciente paciente(final Long id) {
+		final Paciente paciente = new Paciente();
+		paciente.setId(id);
+		return paciente;
+	}
+
+	private static PacienteDieta assignment(final Long id, final Long pacienteId) {
+		final PacienteDieta assignment = new PacienteDieta();
+		assignment.setId(id);
+		assignment.setPaciente(paciente(pacienteId));
+		assignment.setStatus(PacienteDietaStatus.ACTIVE);
+		return assignment;
+	}
+
+	private static CalendarEvent visit(final Long id) {
+		final CalendarEvent event = new CalendarEvent();
+		event.setId(id);
+		event.setPaciente(paciente(PACIENTE_ID));
+		event.setTitle("Consulta");
+		event.setStatus(EventStatus.SCHEDULED);
+		event.setEventDateTime(Date.from(NOW));
+		return event;
+	}
+
+	private static PatientMessage message(final Long id) {
+		final PatientMessage message = new PatientMessage();
+		message.setId(id);
+		message.setPaciente(paciente(PACIENTE_ID));
+		message.setBody("Hola");
+		return message;
+	}
+
+}
@@ -18,10 +18,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.nutriconsultas.message.PatientMessage;
 import com.nutriconsultas.message.PatientMessageRepository;
+import com.nutriconsultas.message.PatientMessageStreamService;
 import com.nutriconsultas.paciente.Paciente;
 import com.nutriconsultas.paciente.PacienteRepository;
 import com.nutriconsultas.paciente.projection.PacienteAuthView;
 import com.nutriconsultas.profile.NutritionistProfileRepository;
+import com.nutriconsultas.sync.PatientChangeLogService;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
@@ -51,6 +53,12 @@ class MobilePhiLoggingIntegrationTest {
 	@Mock
 	private PatientWriteRateLimiter patientWriteRateLimiter;
 
+	@Mock
+	private PatientChangeLogService changeLogService;
+
+	@Mock
+	private PatientMessageStreamService patientMessageStreamService;
+
 	private ListAppender<ILoggingEvent> logAppender;
 
 	private Logger serviceLogger;
@@ -44,6 +44,9 @@ class PatientAuthLinkageServiceTest {
 	@Mock
 	private Auth0UserLookup auth0UserLookup;
 
+	@Mock
+	private PatientAuthViewCache authViewCache;
+
 	private Paciente paciente;
 
 	@BeforeEach
@@ -132,6 +135,7 @@ class PatientAuthLinkageServiceTest {
 
 		assertThat(unlinked.getPatientAuthSub()).isNull();
 		verify(pacienteRepository).save(paciente);
+		verify(authViewCache).invalidate(PATIENT_SUB);
 	}
 
 	@Test
@@ -0,0 +1,109 @@
+package com.nutriconsultas.mobile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.nutriconsultas.paciente.PacienteStatus;
+import com.nutriconsultas.paciente.projection.PacienteAuthView;
+
+/**
+ * Linked subjects are served from memory until the TTL lapses or a writer invalidates
+ * them; unlinked subjects always reach the loader.
+ */
+class PatientAuthViewCacheTest {
+
+	private static final String SUB = "auth0|cached-patient";
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private Clock clock;
+
+	private PatientAuthViewCache cache;
+
+	@BeforeEach
+	void setUp() {
+		clock = Mockito.mock(Clock.class);
+		Mockito.when(clock.millis()).thenReturn(1_000L);
+		cache = new PatientAuthViewCache(30_000L, clock);
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void getServesCachedViewWithinTtl() {
+		final Optional<PacienteAuthView> first = cache.get(SUB, linked(PacienteStatus.ACTIVE));
+		final Optional<PacienteAuthView> second = cache.get(SUB, linked(PacienteStatus.ACTIVE));
+
+		assertThat(loads).hasValue(1);
+		assertThat(second).get().extracting(PacienteAuthView::getId).isEqualTo(7L);
+		assertThat(second.get().getStatus()).isEqualTo(first.get().getStatus());
+	}
+
+	@Test
+	void getReloadsAfterTtl() {
+		cache.get(SUB, linked(PacienteStatus.ONBOARDING));
+		Mockito.when(clock.millis()).thenReturn(31_000L);
+
+		final Optional<PacienteAuthView> reloaded = cache.get(SUB, linked(PacienteStatus.ACTIVE));
+
+		assertThat(loads).hasValue(2);
+		assertThat(reloaded).get().extracting(PacienteAuthView::getStatus).isEqualTo(PacienteStatus.ACTIVE);
+	}
+
+	@Test
+	void getDoesNotCacheUnlinkedSubject() {
+		final Supplier<Optional<PacienteAuthView>> unlinked = () -> {
+			loads.incrementAndGet();
+			return Optional.empty();
+		};
+
+		assertThat(cache.get(SUB, unlinked)).isEmpty();
+		assertThat(cache.get(SUB, unlinked)).isEmpty();
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void invalidateEvictsCachedView() {
+		cache.get(SUB, linked(PacienteStatus.ACTIVE));
+
+		cache.invalidate(SUB);
+		final Optional<PacienteAuthView> reloaded = cache.get(SUB, linked(PacienteStatus.INVITED));
+
+		assertThat(loads).hasValue(2);
+		assertThat(reloaded).get().extracting(PacienteAuthView::getStatus).isEqualTo(PacienteStatus.INVITED);
+	}
+
+	@Test
+	void getMemoizesViewOnCurrentRequestBeyondTtl() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		final PatientAuthViewCache uncached = new PatientAuthViewCache(0L, clock);
+
+		uncached.get(SUB, linked(PacienteStatus.ACTIVE));
+		uncached.get(SUB, linked(PacienteStatus.ACTIVE));
+
+		assertThat(loads).hasValue(1);
+	}
+
+	private Supplier<Optional<PacienteAuthView>> linked(final PacienteStatus status) {
+		return () -> {
+			loads.incrementAndGet();
+			return Optional.of(MobileTestPacienteAuthViews.authView(7L, SUB, "nutritionist-sub", status));
+		};
+	}
+
+}
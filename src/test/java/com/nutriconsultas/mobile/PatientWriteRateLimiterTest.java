@@ -7,9 +7,14 @@ import java.time.Duration;
 
 import org.junit.jupiter.api.Test;
 
+import com.nutriconsultas.ratelimit.ClientRateLimiter;
+import com.nutriconsultas.ratelimit.InMemoryRateLimitStore;
+import com.nutriconsultas.ratelimit.RateLimitMetrics;
+
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class PatientWriteRateLimiterTest {
 
@@ -20,7 +25,7 @@ class PatientWriteRateLimiterTest {
 	@Test
 	void executeRunsCallableWhenPermitAvailable() throws Exception {
 		final RateLimiterRegistry registry = registryWithLimit(1);
-		final PatientWriteRateLimiter liveLimiter = new PatientWriteRateLimiter(registry);
+		final PatientWriteRateLimiter liveLimiter = new PatientWriteRateLimiter(clientRateLimiter(registry));
 
 		final String result = liveLimiter.execute(INSTANCE, PATIENT_SUB, () -> "ok");
 
@@ -30,7 +35,7 @@ class PatientWriteRateLimiterTest {
 	@Test
 	void executeUsesPerPatientKey() throws Exception {
 		final RateLimiterRegistry registry = registryWithLimit(1);
-		final PatientWriteRateLimiter liveLimiter = new PatientWriteRateLimiter(registry);
+		final PatientWriteRateLimiter liveLimiter = new PatientWriteRateLimiter(clientRateLimiter(registry));
 
 		liveLimiter.execute(INSTANCE, PATIENT_SUB, () -> "first");
 		assertThatThrownBy(() -> liveLimiter.execute(INSTANCE, PATIENT_SUB, () -> "second"))
@@ -40,6 +45,11 @@ class PatientWriteRateLimiterTest {
 		assertThat(otherPatientResult).isEqualTo("other");
 	}
 
+	private static ClientRateLimiter clientRateLimiter(final RateLimiterRegistry registry) {
+		final InMemoryRateLimitStore store = new InMemoryRateLimitStore(100, null);
+		return new ClientRateLimiter(registry, store, new RateLimitMetrics(new SimpleMeterRegistry(), store));
+	}
+
 	private static RateLimiterRegistry registryWithLimit(final int limitForPeriod) {
 		final RateLimiterConfig config = RateLimiterConfig.custom()
 			.limitForPeriod(limitForPeriod)
@@ -27,7 +27,9 @@ import com.nutriconsultas.clinical.exam.ClinicalExamService;
 import com.nutriconsultas.dieta.Dieta;
 import com.nutriconsultas.dieta.DietaService;
 import com.nutriconsultas.message.PatientMessageRepository;
+import com.nutriconsultas.mobile.PatientAuthViewCache;
 import com.nutriconsultas.paciente.metrics.BodyMetricRecordRepository;
+import com.nutriconsultas.sync.PatientChangeRepository;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("test")
@@ -75,12 +77,20 @@ class PacienteDeletionServiceTest {
 	@Mock
 	private AppointmentQuestionRepository appointmentQuestionRepository;
 
+	@Mock
+	private PatientChangeRepository patientChangeRepository;
+
+	@Mock
+	private PatientAuthViewCache authViewCache;
+
 	private Paciente paciente;
 
 	@BeforeEach
 	void setUp() {
 		ReflectionTestUtils.setField(service, "pacientePhotoService", pacientePhotoService);
 		ReflectionTestUtils.setField(service, "appointmentQuestionRepository", appointmentQuestionRepository);
+		ReflectionTestUtils.setField(service, "patientChangeRepository", patientChangeRepository);
+		ReflectionTestUtils.setField(service, "authViewCache", authViewCache);
 		paciente = new Paciente();
 		paciente.setId(7L);
 		paciente.setUserId(USER_ID);
@@ -116,6 +126,7 @@ class PacienteDeletionServiceTest {
 
 		verify(patientMessageRepository).deleteByPacienteId(7L);
 		verify(appointmentQuestionRepository).deleteByPacienteId(7L);
+		verify(patientChangeRepository).deleteByPacienteId(7L);
 		verify(patientInvitationRepository).deleteAll(List.of(invitation));
 		verify(dietaService).deleteDieta(60L);
 		verify(pacienteDietaRepository).deleteAll(List.of(assignment));
@@ -3,6 +3,7 @@ package com.nutriconsultas.paciente;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -13,6 +14,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,12 +22,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.nutriconsultas.alimentos.Alimento;
+import com.nutriconsultas.dieta.AlimentoIngestaRepository;
 import com.nutriconsultas.dieta.Dieta;
 import com.nutriconsultas.dieta.DietaRepository;
 import com.nutriconsultas.dieta.DietaService;
+import com.nutriconsultas.dieta.Ingesta;
+import com.nutriconsultas.dieta.IngredientePlatilloIngesta;
+import com.nutriconsultas.dieta.PlatilloIngesta;
+import com.nutriconsultas.dieta.PlatilloIngestaRepository;
+import com.nutriconsultas.mobile.DietPlanPayloadCache;
+import com.nutriconsultas.mobile.dto.DietGroceryListItemDto;
+import com.nutriconsultas.sync.PatientChangeLogService;
+import com.nutriconsultas.sync.PatientChangeOperation;
+import com.nutriconsultas.sync.PatientChangeType;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -53,6 +67,18 @@ public class PacienteDietaServiceTest {
 	@Mock
 	private DietaService dietaService;
 
+	@Mock
+	private PatientChangeLogService changeLogService;
+
+	@Mock
+	private PlatilloIngestaRepository platilloIngestaRepository;
+
+	@Mock
+	private AlimentoIngestaRepository alimentoIngestaRepository;
+
+	@Spy
+	private DietPlanPayloadCache payloadCache = new DietPlanPayloadCache();
+
 	private Paciente paciente;
 
 	private Dieta sourceDieta;
@@ -325,6 +351,8 @@ public class PacienteDietaServiceTest {
 		assertThat(pacienteDieta.getStatus()).isEqualTo(PacienteDietaStatus.CANCELLED);
 		verify(pacienteDietaRepository).findById(1L);
 		verify(pacienteDietaRepository).save(any(PacienteDieta.class));
+		verify(pacienteDietaRepository).incrementContentVersion(1L);
+		verify(changeLogService).record(1L, PatientChangeType.DIET_PLAN, 1L, PatientChangeOperation.UPSERT);
 		log.info("finished testCancelAssignment");
 	}
 
@@ -655,6 +683,32 @@ public class PacienteDietaServiceTest {
 		assertThat(service.findAssignmentContainingDieta(1L, 99L)).isNull();
 	}
 
+	@Test
+	public void testBuildGroceryListLoadsWeeklyPlanOnceAndCountsRepeatedDays() {
+		final PacienteDieta weekly = new PacienteDieta();
+		weekly.setId(10L);
+		weekly.setPaciente(paciente);
+		weekly.setAssignmentType(PacienteDietaAssignmentType.WEEKLY);
+		final List<PacienteDietaWeekday> slots = new ArrayList<>();
+		for (final int day : List.of(1, 3)) {
+			final PacienteDietaWeekday slot = new PacienteDietaWeekday();
+			slot.setDayOfWeek(day);
+			slot.setDieta(patientCopyDieta);
+			slots.add(slot);
+		}
+		when(pacienteDietaWeekdayRepository.findWithDietaByPacienteDietaId(10L)).thenReturn(slots);
+		when(platilloIngestaRepository.findWithIngredientesByDietaIdIn(anyCollection()))
+			.thenReturn(List.of(avenaPlatillo(patientCopyDieta)));
+		when(alimentoIngestaRepository.findWithAlimentoByDietaIdIn(anyCollection())).thenReturn(List.of());
+
+		final List<DietGroceryListItemDto> first = service.buildGroceryList(weekly);
+		final List<DietGroceryListItemDto> second = service.buildGroceryList(weekly);
+
+		assertThat(first).containsExactly(new DietGroceryListItemDto("Avena", "1", "Tazas", "Cereales"));
+		assertThat(second).isSameAs(first);
+		verify(platilloIngestaRepository).findWithIngredientesByDietaIdIn(Set.of(99L));
+	}
+
 	@Test
 	public void testFindByIdThrowsExceptionWhenNotFound() {
 		log.info("starting testFindByIdThrowsExceptionWhenNotFound");
@@ -667,4 +721,23 @@ public class PacienteDietaServiceTest {
 		log.info("finished testFindByIdThrowsExceptionWhenNotFound");
 	}
 
+	private static PlatilloIngesta avenaPlatillo(final Dieta dieta) {
+		final Alimento avena = new Alimento();
+		avena.setId(1L);
+		avena.setNombreAlimento("Avena");
+		avena.setClasificacion("Cereales");
+		final Ingesta ingesta = new Ingesta("Desayuno");
+		ingesta.setDieta(dieta);
+		final PlatilloIngesta platillo = new PlatilloIngesta();
+		platillo.setPortions(1);
+		platillo.setIngesta(ingesta);
+		final IngredientePlatilloIngesta ingrediente = new IngredientePlatilloIngesta();
+		ingrediente.setAlimento(avena);
+		ingrediente.setCantSugerida(0.5);
+		ingrediente.setUnidad("Tazas");
+		ingrediente.setPlatillo(platillo);
+		platillo.getIngredientes().add(ingrediente);
+		return platillo;
+	}
+
 }
@@ -30,10 +30,9 @@ import com.nutriconsultas.paciente.PatientInvitationRepository;
 import com.nutriconsultas.paciente.PatientInvitationStatus;
 import com.nutriconsultas.profile.NutritionistProfile;
 import com.nutriconsultas.profile.NutritionistProfileRepository;
+import com.nutriconsultas.ratelimit.ClientRateLimiter;
 import com.nutriconsultas.subscription.SubscriptionEntitlementService;
 
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
-
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -57,16 +56,15 @@ class PatientInvitationLandingControllerTest {
 	private NutritionistProfileRepository nutritionistProfileRepository;
 
 	@Autowired
-	private RateLimiterRegistry rateLimiterRegistry;
+	private ClientRateLimiter clientRateLimiter;
 
 	@MockitoBean
 	private SubscriptionEntitlementService subscriptionEntitlementService;
 
 	@BeforeEach
 	void resetRateLimiters() {
-		rateLimiterRegistry
-			.remove(com.nutriconsultas.mobile.PatientInvitationPreviewRateLimiter.PATIENT_INVITATION_PREVIEW
-					+ ":127.0.0.1");
+		clientRateLimiter.reset(
+				com.nutriconsultas.mobile.PatientInvitationPreviewRateLimiter.PATIENT_INVITATION_PREVIEW, "127.0.0.1");
 	}
 
 	@Test
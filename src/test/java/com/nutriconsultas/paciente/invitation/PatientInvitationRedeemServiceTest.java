@@ -19,6 +19,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.nutriconsultas.mobile.PatientAuthViewCache;
 import com.nutriconsultas.mobile.PatientInvitationInvalidTokenException;
 import com.nutriconsultas.mobile.PatientInvitationPatientStatusException;
 import com.nutriconsultas.mobile.PatientInvitationRedeemConflictException;
@@ -44,6 +45,9 @@ class PatientInvitationRedeemServiceTest {
 	@Mock
 	private PacienteRepository pacienteRepository;
 
+	@Mock
+	private PatientAuthViewCache authViewCache;
+
 	private PatientInvitationTokenService tokenService;
 
 	private PatientInvitationRedeemService service;
@@ -52,7 +56,7 @@ class PatientInvitationRedeemServiceTest {
 	void setUp() {
 		tokenService = new PatientInvitationTokenServiceImpl(new PatientInvitationProperties());
 		service = new PatientInvitationRedeemServiceImpl(patientInvitationRepository, pacienteRepository,
-				new PatientInvitationProperties());
+				new PatientInvitationProperties(), authViewCache);
 	}
 
 	@Test
@@ -76,6 +80,7 @@ class PatientInvitationRedeemServiceTest {
 		assertThat(invitation.getRedeemedBySub()).isEqualTo(PATIENT_SUB);
 		verify(pacienteRepository).save(paciente);
 		verify(patientInvitationRepository).save(invitation);
+		verify(authViewCache).invalidate(PATIENT_SUB);
 	}
 
 	@Test
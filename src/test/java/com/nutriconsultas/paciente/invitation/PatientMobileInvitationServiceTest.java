@@ -19,6 +19,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.nutriconsultas.mobile.PatientAuthViewCache;
 import com.nutriconsultas.paciente.Paciente;
 import com.nutriconsultas.paciente.PacienteRepository;
 import com.nutriconsultas.paciente.PacienteStatus;
@@ -46,6 +47,9 @@ class PatientMobileInvitationServiceTest {
 	@Mock
 	private PatientInvitationRevokeService patientInvitationRevokeService;
 
+	@Mock
+	private PatientAuthViewCache authViewCache;
+
 	private PatientInvitationProperties invitationProperties;
 
 	private PatientMobileInvitationServiceImpl service;
@@ -56,7 +60,7 @@ class PatientMobileInvitationServiceTest {
 		invitationProperties.setBaseUrl("https://links.test.example");
 		service = new PatientMobileInvitationServiceImpl(pacienteRepository, patientInvitationRepository,
 				patientInvitationTokenService, invitationProperties, patientInvitationEmailSender,
-				patientInvitationRevokeService);
+				patientInvitationRevokeService, authViewCache);
 	}
 
 	@Test
@@ -0,0 +1,57 @@
+package com.nutriconsultas.paciente.metrics;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.nutriconsultas.jobs.ClusterJobContext;
+import com.nutriconsultas.jobs.ClusterJobRunner;
+import com.nutriconsultas.jobs.ClusterJobTrigger;
+
+@ExtendWith(MockitoExtension.class)
+class BodyMetricBackfillJobTest {
+
+	@Mock
+	private BodyMetricBackfillService backfillService;
+
+	@Mock
+	private ClusterJobRunner jobRunner;
+
+	@Test
+	void runsBatchesThroughTheLeaseUntilTheWalkIsComplete() {
+		final BodyMetricBackfillJob job = new BodyMetricBackfillJob(backfillService, jobRunner, true);
+		when(jobRunner.run(eq(job), eq(ClusterJobTrigger.SCHEDULED), isNull())).thenAnswer(invocation -> {
+			job.run(mock(ClusterJobContext.class));
+			return Optional.empty();
+		});
+		when(backfillService.runBatch()).thenReturn(50, 0);
+
+		job.runBatch();
+		job.runBatch();
+		job.runBatch();
+
+		verify(jobRunner, times(2)).run(eq(job), eq(ClusterJobTrigger.SCHEDULED), isNull());
+		verify(backfillService, times(2)).runBatch();
+	}
+
+	@Test
+	void doesNothingWhenDisabled() {
+		final BodyMetricBackfillJob job = new BodyMetricBackfillJob(backfillService, jobRunner, false);
+
+		job.runBatch();
+
+		verifyNoInteractions(jobRunner, backfillService);
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.nutriconsultas.paciente.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Batches resume after the checkpoint, keep going past a failing patient, and stop once a
+ * short batch marks the walk complete.
+ */
+@ExtendWith(MockitoExtension.class)
+class BodyMetricBackfillServiceTest {
+
+	private static final Instant NOW = Instant.parse("2026-06-22T15:00:00Z");
+
+	@Mock
+	private BodyMetricRecordRepository recordRepository;
+
+	@Mock
+	private BodyMetricRecordService recordService;
+
+	@Mock
+	private BackfillCheckpointRepository checkpointRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private BodyMetricBackfillService service;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		service = new BodyMetricBackfillService(recordRepository, recordService, checkpointRepository, meterRegistry, 2,
+				0L, Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	void fullBatchAdvancesCheckpointWithoutCompleting() {
+		final BackfillCheckpoint checkpoint = new BackfillCheckpoint(BodyMetricBackfillService.JOB_NAME);
+		checkpoint.setLastId(10L);
+		when(checkpointRepository.findById(BodyMetricBackfillService.JOB_NAME)).thenReturn(Optional.of(checkpoint));
+		when(recordRepository.findPacienteIdsWithoutRecordsAfter(10L, PageRequest.of(0, 2)))
+			.thenReturn(List.of(11L, 14L));
+		when(recordService.ensureBackfilled(11L)).thenReturn(true);
+		when(recordService.ensureBackfilled(14L)).thenThrow(new IllegalStateException("bad row"));
+
+		assertThat(service.runBatch()).isEqualTo(2);
+
+		final BackfillCheckpoint saved = savedCheckpoint();
+		assertThat(saved.getLastId()).isEqualTo(14L);
+		assertThat(saved.getProcessedCount()).isEqualTo(2L);
+		assertThat(saved.getBackfilledCount()).isEqualTo(1L);
+		assertThat(saved.getCompletedAt()).isNull();
+		assertThat(meterRegistry.counter(BodyMetricBackfillService.PATIENTS, "outcome", "failed").count())
+			.isEqualTo(1.0d);
+		assertThat(meterRegistry.get(BodyMetricBackfillService.CURSOR).gauge().value()).isEqualTo(14.0d);
+	}
+
+	@Test
+	void shortBatchCompletesWalk() {
+		when(checkpointRepository.findById(BodyMetricBackfillService.JOB_NAME)).thenReturn(Optional.empty());
+		when(recordRepository.findPacienteIdsWithoutRecordsAfter(0L, PageRequest.of(0, 2))).thenReturn(List.of(3L));
+		when(recordService.ensureBackfilled(3L)).thenReturn(false);
+
+		assertThat(service.runBatch()).isEqualTo(1);
+
+		assertThat(savedCheckpoint().getCompletedAt()).isEqualTo(NOW);
+	}
+
+	@Test
+	void completedWalkDoesNothing() {
+		final BackfillCheckpoint checkpoint = new BackfillCheckpoint(BodyMetricBackfillService.JOB_NAME);
+		checkpoint.setCompletedAt(NOW);
+		when(checkpointRepository.findById(BodyMetricBackfillService.JOB_NAME)).thenReturn(Optional.of(checkpoint));
+
+		assertThat(service.runBatch()).isZero();
+
+		verify(recordRepository, never()).findPacienteIdsWithoutRecordsAfter(eq(0L), any());
+		verify(checkpointRepository, never()).save(any());
+	}
+
+	private BackfillCheckpoint savedCheckpoint() {
+		final ArgumentCaptor<BackfillCheckpoint> captor = ArgumentCaptor.forClass(BackfillCheckpoint.class);
+		verify(checkpointRepository).save(captor.capture());
+		return captor.getValue();
+	}
+
+}
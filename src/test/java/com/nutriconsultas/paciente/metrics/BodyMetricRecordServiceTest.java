@@ -30,6 +30,7 @@ import com.nutriconsultas.clinical.exam.anthropometric.MetodoObtencionComposicio
 import com.nutriconsultas.paciente.NivelPeso;
 import com.nutriconsultas.paciente.Paciente;
 import com.nutriconsultas.paciente.PacienteRepository;
+import com.nutriconsultas.sync.PatientChangeLogService;
 
 @ExtendWith(MockitoExtension.class)
 class BodyMetricRecordServiceTest {
@@ -52,6 +53,9 @@ class BodyMetricRecordServiceTest {
 	@Mock
 	private PacienteRepository pacienteRepository;
 
+	@Mock
+	private PatientChangeLogService changeLogService;
+
 	private Paciente paciente;
 
 	@BeforeEach
@@ -68,7 +72,6 @@ class BodyMetricRecordServiceTest {
 		record.setBodyFatPercentage(21.0);
 		record.setBodyFatIndex(25.0);
 
-		when(repository.existsByPacienteId(1L)).thenReturn(true);
 		when(repository.findByPacienteIdOrderByRecordedAtAsc(1L)).thenReturn(List.of(record));
 
 		final ChartResponse response = service.buildChartResponse(1L);
@@ -76,6 +79,7 @@ class BodyMetricRecordServiceTest {
 		@SuppressWarnings("unchecked")
 		final List<Double> fatData = (List<Double>) response.getData().get("grasaCorporal");
 		assertThat(fatData).containsExactly(21.0);
+		verify(calendarEventRepository, never()).findByPacienteId(1L);
 	}
 
 	@Test
@@ -150,14 +154,14 @@ class BodyMetricRecordServiceTest {
 		measurement.setMeasurementDateTime(new Date());
 		measurement.setImc(23.0);
 
-		when(repository.existsByPacienteId(1L)).thenReturn(false);
+		when(repository.existsByPacienteId(1L)).thenReturn(false, true);
 		when(calendarEventRepository.findByPacienteId(1L)).thenReturn(List.of(consultation));
 		when(anthropometricMeasurementRepository.findByPacienteId(1L)).thenReturn(List.of(measurement));
 		when(clinicalExamRepository.findByPacienteId(1L)).thenReturn(new ArrayList<>());
 		when(repository.findBySourceAndSourceId(any(), any())).thenReturn(Optional.empty());
 		when(repository.save(any(BodyMetricRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-		service.ensureBackfilled(1L);
+		assertThat(service.ensureBackfilled(1L)).isTrue();
 
 		verify(repository, org.mockito.Mockito.times(2)).save(any(BodyMetricRecord.class));
 		verify(calendarEventRepository).findByPacienteId(1L);
@@ -168,7 +172,7 @@ class BodyMetricRecordServiceTest {
 	void ensureBackfilledSkipsWhenRecordsAlreadyExist() {
 		when(repository.existsByPacienteId(1L)).thenReturn(true);
 
-		service.ensureBackfilled(1L);
+		assertThat(service.ensureBackfilled(1L)).isFalse();
 
 		verify(calendarEventRepository, never()).findByPacienteId(1L);
 	}
@@ -183,7 +187,6 @@ class BodyMetricRecordServiceTest {
 		anthropometricRecord.setRecordedAt(new Date(2_000L));
 		anthropometricRecord.setImc(23.0);
 
-		when(repository.existsByPacienteId(1L)).thenReturn(true);
 		when(repository.findByPacienteIdOrderByRecordedAtAsc(1L))
 			.thenReturn(List.of(consultationRecord, anthropometricRecord));
 
@@ -0,0 +1,154 @@
+package com.nutriconsultas.paciente.mpx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nutriconsultas.paciente.Paciente;
+import com.nutriconsultas.paciente.PacienteService;
+import com.nutriconsultas.subscription.SubscriptionLimitExceededException;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class MpxBulkImportWorkerTest {
+
+	private static final String USER_ID = "nutritionist-owner";
+
+	private static final String JOB_ID = "job-1";
+
+	private static final String VALID_LINE = "{\"mpxVersion\":1,\"patient\":{\"name\":\"Ana\",\"dob\":\"1985-03-02\"}}";
+
+	@Mock
+	private PacienteMpxImportService importService;
+
+	@Mock
+	private PacienteService pacienteService;
+
+	@Mock
+	private MpxBulkImportJobRepository jobs;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private MpxBulkImportJob job;
+
+	private MpxBulkImportWorker worker;
+
+	@BeforeEach
+	void setUp() {
+		job = new MpxBulkImportJob();
+		job.setJobId(JOB_ID);
+		job.setUserId(USER_ID);
+		when(jobs.findById(JOB_ID)).thenReturn(Optional.of(job));
+		lenient().when(jobs.save(any(MpxBulkImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		worker = new MpxBulkImportWorker(importService, pacienteService, jobs,
+				new TransactionTemplate(transactionManager), 2);
+	}
+
+	@Test
+	void importsValidDocumentsInChunksAndReportsInvalidOnes() {
+		when(importService.toValidatedPaciente(any(MpxDocument.class), eq(USER_ID)))
+			.thenAnswer(invocation -> new Paciente());
+		when(importService.detectDuplicateWarning(eq(USER_ID), any(Paciente.class))).thenReturn(false, true, false);
+
+		worker.importDocuments(JOB_ID, ndjson(VALID_LINE, "no es json", VALID_LINE, VALID_LINE), MpxBulkFormat.NDJSON);
+
+		verify(pacienteService, times(3)).save(any(Paciente.class));
+		verify(transactionManager, times(2)).commit(any());
+		assertThat(job.getStatus()).isEqualTo(MpxBulkImportStatus.COMPLETED);
+		assertThat(job.getProcessedCount()).isEqualTo(4);
+		assertThat(job.getImportedCount()).isEqualTo(3);
+		assertThat(job.getFailedCount()).isEqualTo(1);
+		assertThat(job.getDuplicateCount()).isEqualTo(1);
+		assertThat(job.getErrorSummary()).isEqualTo("#2 (línea 2): El documento no es un MPX válido");
+		assertThat(job.getCompletedAt()).isNotNull();
+	}
+
+	@Test
+	void validationErrorsAreCountedAndKeptAcrossChunks() {
+		when(importService.toValidatedPaciente(any(MpxDocument.class), eq(USER_ID)))
+			.thenThrow(new MpxImportException("Falta el nombre"));
+
+		worker.importDocuments(JOB_ID, ndjson(VALID_LINE, VALID_LINE, VALID_LINE), MpxBulkFormat.NDJSON);
+
+		assertThat(job.getStatus()).isEqualTo(MpxBulkImportStatus.COMPLETED);
+		assertThat(job.getFailedCount()).isEqualTo(3);
+		assertThat(job.getErrorSummary())
+			.isEqualTo("#1 (línea 1): Falta el nombre\n#2 (línea 2): Falta el nombre\n#3 (línea 3): Falta el nombre");
+	}
+
+	@Test
+	void planLimitStopsImportKeepingCommittedChunks() {
+		when(importService.toValidatedPaciente(any(MpxDocument.class), eq(USER_ID)))
+			.thenAnswer(invocation -> new Paciente());
+		when(pacienteService.save(any(Paciente.class))).thenReturn(new Paciente())
+			.thenReturn(new Paciente())
+			.thenThrow(new SubscriptionLimitExceededException("patients", 2));
+
+		worker.importDocuments(JOB_ID, ndjson(VALID_LINE, VALID_LINE, VALID_LINE), MpxBulkFormat.NDJSON);
+
+		verify(transactionManager).commit(any());
+		verify(transactionManager).rollback(any());
+		assertThat(job.getStatus()).isEqualTo(MpxBulkImportStatus.FAILED);
+		assertThat(job.getImportedCount()).isEqualTo(2);
+		assertThat(job.getErrorSummary()).startsWith("Se alcanzó el límite de pacientes del plan");
+	}
+
+	@Test
+	void interruptedRunningJobsAreFailedKeepingTheirReportedErrors() {
+		final Instant cutoff = Instant.parse("2026-10-19T12:00:00Z");
+		job.setStatus(MpxBulkImportStatus.RUNNING);
+		job.setImportedCount(100);
+		job.setErrorSummary("#7 (línea 7): Falta el nombre");
+		when(jobs.findJobIdsByStatusInNotUpdatedSince(List.of(MpxBulkImportStatus.QUEUED, MpxBulkImportStatus.RUNNING),
+				cutoff))
+			.thenReturn(List.of(JOB_ID));
+
+		assertThat(worker.failInterrupted(cutoff)).isEqualTo(1);
+
+		assertThat(job.getStatus()).isEqualTo(MpxBulkImportStatus.FAILED);
+		assertThat(job.getImportedCount()).isEqualTo(100);
+		assertThat(job.getErrorSummary())
+			.isEqualTo("La importación se interrumpió; sube de nuevo los pacientes que faltan\n"
+					+ "#7 (línea 7): Falta el nombre");
+		assertThat(job.getCompletedAt()).isNotNull();
+	}
+
+	@Test
+	void jobFailedWhileStillQueuedIsNotStarted() {
+		job.setStatus(MpxBulkImportStatus.FAILED);
+		job.setErrorSummary("La importación se interrumpió; sube de nuevo los pacientes que faltan");
+
+		worker.importDocuments(JOB_ID, ndjson(VALID_LINE), MpxBulkFormat.NDJSON);
+
+		verify(jobs, never()).save(any(MpxBulkImportJob.class));
+		verifyNoInteractions(pacienteService, transactionManager);
+		assertThat(job.getStatus()).isEqualTo(MpxBulkImportStatus.FAILED);
+		assertThat(job.getProcessedCount()).isZero();
+	}
+
+	private static ByteArrayInputStream ndjson(final String... lines) {
+		return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.nutriconsultas.paciente.mpx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+class MpxBulkReaderTest {
+
+	private static final String VALID_MPX = """
+			mpxVersion: 1
+			exportedAt: "2026-06-18T12:00:00Z"
+			sourceApp: nutriconsultas
+			patient:
+			  name: Juan Perez
+			  dob: "1990-01-15"
+			  gender: M
+			""";
+
+	@Test
+	void zipReturnsOneEntryPerMpxFileAndSkipsOtherFiles() throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+			addEntry(zip, "pacientes/", null);
+			addEntry(zip, "pacientes/juan.mpx", VALID_MPX);
+			addEntry(zip, "LEEME.txt", "no es un paciente");
+			addEntry(zip, "pacientes/roto.mpx", "patient: [sin cerrar");
+		}
+
+		final List<MpxBulkEntry> entries = readAll(bytes.toByteArray(), MpxBulkFormat.ZIP);
+
+		assertThat(entries).hasSize(2);
+		assertThat(entries.get(0).index()).isEqualTo(1);
+		assertThat(entries.get(0).source()).isEqualTo("pacientes/juan.mpx");
+		assertThat(entries.get(0).error()).isNull();
+		assertThat(entries.get(0).document().getPatient().getName()).isEqualTo("Juan Perez");
+		assertThat(entries.get(1).index()).isEqualTo(2);
+		assertThat(entries.get(1).document()).isNull();
+		assertThat(entries.get(1).error()).hasMessage("El archivo no es un MPX válido");
+	}
+
+	@Test
+	void ndjsonSkipsBlankLinesAndReportsInvalidLines() throws IOException {
+		final String ndjson = """
+				{"mpxVersion":1,"sourceApp":"nutriconsultas","patient":{"name":"Ana Lopez","dob":"1985-03-02","gender":"F"}}
+
+				{"mpxVersion":
+				""";
+
+		final List<MpxBulkEntry> entries = readAll(ndjson.getBytes(StandardCharsets.UTF_8), MpxBulkFormat.NDJSON);
+
+		assertThat(entries).hasSize(2);
+		assertThat(entries.get(0).source()).isEqualTo("línea 1");
+		assertThat(entries.get(0).document().getPatient().getName()).isEqualTo("Ana Lopez");
+		assertThat(entries.get(1).source()).isEqualTo("línea 3");
+		assertThat(entries.get(1).error()).isNotNull();
+	}
+
+	private static List<MpxBulkEntry> readAll(final byte[] content, final MpxBulkFormat format) throws IOException {
+		final List<MpxBulkEntry> entries = new ArrayList<>();
+		try (MpxBulkReader reader = new MpxBulkReader(new ByteArrayInputStream(content), format)) {
+			MpxBulkEntry entry;
+			while ((entry = reader.next()) != null) {
+				entries.add(entry);
+			}
+		}
+		return entries;
+	}
+
+	private static void addEntry(final ZipOutputStream zip, final String name, final String content)
+			throws IOException {
+		zip.putNextEntry(new ZipEntry(name));
+		if (content != null) {
+			zip.write(content.getBytes(StandardCharsets.UTF_8));
+		}
+		zip.closeEntry();
+	}
+
+}
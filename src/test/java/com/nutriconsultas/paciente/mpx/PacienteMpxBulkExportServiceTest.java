@@ -0,0 +1,101 @@
+package com.nutriconsultas.paciente.mpx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.nutriconsultas.paciente.Paciente;
+import com.nutriconsultas.paciente.PacienteRepository;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class PacienteMpxBulkExportServiceTest {
+
+	private static final String OWNER_USER_ID = "nutritionist-owner";
+
+	private static final Instant FIXED_INSTANT = Instant.parse("2026-06-18T12:00:00Z");
+
+	@Mock
+	private PacienteRepository pacienteRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private PacienteMpxBulkExportService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new PacienteMpxBulkExportService(pacienteRepository, transactionManager,
+				Clock.fixed(FIXED_INSTANT, ZoneOffset.UTC));
+	}
+
+	@Test
+	void exportAllWalksKeysetPagesIntoOneZipEntryPerPatient() throws IOException {
+		final int pageSize = PacienteMpxBulkExportService.PAGE_SIZE;
+		when(pacienteRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(OWNER_USER_ID), eq(0L),
+				any(Pageable.class)))
+			.thenReturn(patients(1, pageSize));
+		when(pacienteRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(OWNER_USER_ID), eq((long) pageSize),
+				any(Pageable.class)))
+			.thenReturn(patients(pageSize + 1, pageSize + 1));
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		final int exported = service.exportAll(OWNER_USER_ID, out);
+
+		assertThat(exported).isEqualTo(pageSize + 1);
+		final List<String> names = new ArrayList<>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				names.add(entry.getName());
+				final MpxDocument document = MpxYaml.parse(zip.readAllBytes());
+				assertThat(document.getPatient().getName()).startsWith("Paciente ");
+			}
+		}
+		assertThat(names).hasSize(pageSize + 1);
+		assertThat(names.get(0)).startsWith("1-").endsWith(".mpx");
+		assertThat(names).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void buildArchiveFilenameUsesExportTimestamp() {
+		assertThat(service.buildArchiveFilename()).startsWith("pacientes-").endsWith(".zip");
+	}
+
+	private static List<Paciente> patients(final long fromId, final long toId) {
+		return LongStream.rangeClosed(fromId, toId).mapToObj(id -> {
+			final Paciente paciente = new Paciente();
+			paciente.setId(id);
+			paciente.setUserId(OWNER_USER_ID);
+			paciente.setName("Paciente " + id);
+			paciente.setGender("F");
+			paciente.setDob(Date.from(LocalDate.of(1990, 1, 15).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+			return paciente;
+		}).toList();
+	}
+
+}
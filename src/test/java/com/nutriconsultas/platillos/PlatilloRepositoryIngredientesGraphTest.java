@@ -0,0 +1,70 @@
+package com.nutriconsultas.platillos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.nutriconsultas.alimentos.Alimento;
+
+/**
+ * Batched platillo lookup used by AI plan prefetching loads ingredientes in the same
+ * query.
+ */
+@DataJpaTest
+class PlatilloRepositoryIngredientesGraphTest {
+
+	@Autowired
+	private PlatilloRepository platilloRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void findWithIngredientesByIdInInitializesIngredientesAndAlimentos() {
+		final Alimento avena = persistAlimento("Avena graph");
+		final Alimento leche = persistAlimento("Leche graph");
+		final Platillo first = persistPlatillo("Avena con leche", avena, leche);
+		final Platillo second = persistPlatillo("Avena sola", avena);
+		persistPlatillo("Fuera del lote", leche);
+		entityManager.flush();
+		entityManager.clear();
+
+		final List<Platillo> loaded = platilloRepository
+			.findWithIngredientesByIdIn(List.of(first.getId(), second.getId()));
+
+		assertThat(loaded).extracting(Platillo::getName).containsExactlyInAnyOrder("Avena con leche", "Avena sola");
+		assertThat(loaded)
+			.allSatisfy(platillo -> assertThat(Hibernate.isInitialized(platillo.getIngredientes())).isTrue());
+		final Platillo withTwo = loaded.stream().filter(p -> p.getId().equals(first.getId())).findFirst().orElseThrow();
+		assertThat(withTwo.getIngredientes()).extracting(ingrediente -> ingrediente.getAlimento().getNombreAlimento())
+			.containsExactlyInAnyOrder("Avena graph", "Leche graph");
+	}
+
+	private Alimento persistAlimento(final String nombre) {
+		final Alimento alimento = new Alimento();
+		alimento.setNombreAlimento(nombre);
+		alimento.setClasificacion("TEST");
+		alimento.setUnidad("g");
+		alimento.setCantSugerida(1.0);
+		return entityManager.persist(alimento);
+	}
+
+	private Platillo persistPlatillo(final String name, final Alimento... alimentos) {
+		final Platillo platillo = new Platillo();
+		platillo.setName(name);
+		for (final Alimento alimento : alimentos) {
+			final Ingrediente ingrediente = new Ingrediente();
+			ingrediente.setPlatillo(platillo);
+			ingrediente.setAlimento(alimento);
+			platillo.getIngredientes().add(ingrediente);
+		}
+		return entityManager.persist(platillo);
+	}
+
+}
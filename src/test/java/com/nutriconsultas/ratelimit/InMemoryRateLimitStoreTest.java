@@ -0,0 +1,77 @@
+package com.nutriconsultas.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Buckets refill continuously, are forgotten once idle for a full period, and never
+ * exceed the configured key cap.
+ */
+class InMemoryRateLimitStoreTest {
+
+	private static final RateLimitPolicy TWO_PER_MINUTE = new RateLimitPolicy(2, Duration.ofMinutes(1));
+
+	private Clock clock;
+
+	private InMemoryRateLimitStore store;
+
+	@BeforeEach
+	void setUp() {
+		clock = Mockito.mock(Clock.class);
+		Mockito.when(clock.millis()).thenReturn(0L);
+		store = new InMemoryRateLimitStore(10, clock);
+	}
+
+	@Test
+	void rejectsOnceLimitIsSpentAndRefillsOverThePeriod() {
+		assertThat(store.tryAcquire("patientAuth:a", TWO_PER_MINUTE)).isTrue();
+		assertThat(store.tryAcquire("patientAuth:a", TWO_PER_MINUTE)).isTrue();
+		assertThat(store.tryAcquire("patientAuth:a", TWO_PER_MINUTE)).isFalse();
+		assertThat(store.tryAcquire("patientAuth:b", TWO_PER_MINUTE)).isTrue();
+
+		Mockito.when(clock.millis()).thenReturn(30_000L);
+		assertThat(store.tryAcquire("patientAuth:a", TWO_PER_MINUTE)).isTrue();
+		assertThat(store.tryAcquire("patientAuth:a", TWO_PER_MINUTE)).isFalse();
+	}
+
+	@Test
+	void purgeDropsOnlyBucketsIdleForAFullPeriod() {
+		store.tryAcquire("patientAuth:a", TWO_PER_MINUTE);
+		Mockito.when(clock.millis()).thenReturn(30_000L);
+		store.tryAcquire("patientAuth:b", TWO_PER_MINUTE);
+
+		Mockito.when(clock.millis()).thenReturn(60_000L);
+
+		assertThat(store.purgeIdle()).isEqualTo(1);
+		assertThat(store.keyCount()).isEqualTo(1L);
+	}
+
+	@Test
+	void capEvictsLeastRecentlySeenKeys() {
+		for (int i = 0; i < 11; i++) {
+			Mockito.when(clock.millis()).thenReturn((long) i);
+			store.tryAcquire("publicBooking:" + i, TWO_PER_MINUTE);
+		}
+
+		assertThat(store.keyCount()).isLessThanOrEqualTo(10L);
+		store.tryAcquire("publicBooking:10", TWO_PER_MINUTE);
+		assertThat(store.tryAcquire("publicBooking:10", TWO_PER_MINUTE)).isFalse();
+	}
+
+	@Test
+	void resetRestoresFullLimit() {
+		store.tryAcquire("patientAuth:a", TWO_PER_MINUTE);
+		store.tryAcquire("patientAuth:a", TWO_PER_MINUTE);
+
+		store.reset("patientAuth:a");
+
+		assertThat(store.tryAcquire("patientAuth:a", TWO_PER_MINUTE)).isTrue();
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.nutriconsultas.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Fixed windows are counted in {@code rate_limit_bucket}; each decision commits on its
+ * own, so the test runs without an outer transaction.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcRateLimitStoreTest {
+
+	private static final RateLimitPolicy TWO_PER_MINUTE = new RateLimitPolicy(2, Duration.ofMinutes(1));
+
+	@Autowired
+	private RateLimitBucketRepository repository;
+
+	private Clock clock;
+
+	private JdbcRateLimitStore store;
+
+	@BeforeEach
+	void setUp() {
+		repository.deleteAll();
+		clock = Mockito.mock(Clock.class);
+		Mockito.when(clock.millis()).thenReturn(120_000L);
+		Mockito.when(clock.instant()).thenAnswer(invocation -> Instant.ofEpochMilli(clock.millis()));
+		store = new JdbcRateLimitStore(repository, clock);
+	}
+
+	@Test
+	void countsHitsPerKeyWithinWindow() {
+		assertThat(store.tryAcquire("publicBooking:10.0.0.1", TWO_PER_MINUTE)).isTrue();
+		assertThat(store.tryAcquire("publicBooking:10.0.0.1", TWO_PER_MINUTE)).isTrue();
+		assertThat(store.tryAcquire("publicBooking:10.0.0.1", TWO_PER_MINUTE)).isFalse();
+		assertThat(store.tryAcquire("publicBooking:10.0.0.2", TWO_PER_MINUTE)).isTrue();
+
+		Mockito.when(clock.millis()).thenReturn(180_000L);
+		assertThat(store.tryAcquire("publicBooking:10.0.0.1", TWO_PER_MINUTE)).isTrue();
+	}
+
+	@Test
+	void purgeDeletesExpiredWindowsAndRefreshesKeyCount() {
+		store.tryAcquire("patientAuth:a", TWO_PER_MINUTE);
+		Mockito.when(clock.millis()).thenReturn(180_000L);
+		store.tryAcquire("patientAuth:b", TWO_PER_MINUTE);
+
+		assertThat(store.purgeExpired()).isEqualTo(1);
+		assertThat(store.keyCount()).isEqualTo(1L);
+	}
+
+	@Test
+	void resetDeletesOnlyThatKey() {
+		store.tryAcquire("patientAuth:a_b", TWO_PER_MINUTE);
+		store.tryAcquire("patientAuth:a_b", TWO_PER_MINUTE);
+		store.tryAcquire("patientAuth:axb", TWO_PER_MINUTE);
+
+		store.reset("patientAuth:a_b");
+
+		assertThat(repository.count()).isEqualTo(1L);
+		assertThat(store.tryAcquire("patientAuth:a_b", TWO_PER_MINUTE)).isTrue();
+	}
+
+	@Test
+	void longKeysAreHashedToFitTheColumn() {
+		final String key = "patientMessages:" + "x".repeat(400);
+
+		assertThat(store.tryAcquire(key, TWO_PER_MINUTE)).isTrue();
+		assertThat(JdbcRateLimitStore.bucketKey(key, 120_000L)).hasSizeLessThanOrEqualTo(255).startsWith("sha256:");
+	}
+
+}
@@ -37,7 +37,6 @@ import com.nutriconsultas.paciente.PacienteDietaRepository;
 import com.nutriconsultas.paciente.PacienteDietaStatus;
 import com.nutriconsultas.paciente.PacienteService;
 import com.nutriconsultas.paciente.metrics.BodyMetricRecordRepository;
-import com.nutriconsultas.paciente.metrics.BodyMetricRecordService;
 import com.nutriconsultas.profile.NutritionistProfile;
 import com.nutriconsultas.profile.NutritionistProfileService;
 import com.nutriconsultas.subscription.Entitlement;
@@ -80,9 +79,6 @@ public class PatientReportServiceTest {
 	@Mock
 	private SubscriptionEntitlementService subscriptionEntitlementService;
 
-	@Mock
-	private BodyMetricRecordService bodyMetricRecordService;
-
 	@Mock
 	private BodyMetricRecordRepository bodyMetricRecordRepository;
 
@@ -330,7 +326,6 @@ public class PatientReportServiceTest {
 			.getVariable("progressCharts");
 		assertThat(charts).isNotNull();
 		assertThat(charts).hasSize(8);
-		verify(bodyMetricRecordService).ensureBackfilled(1L);
 	}
 
 	@Test
@@ -32,6 +32,13 @@ class PlanEntitlementsTest {
 		assertThat(consultorio.getRoleSlug()).isEqualTo("director-consultorio");
 	}
 
+	@ParameterizedTest
+	@EnumSource(PlanTier.class)
+	void aiTokenBudgetOnlyForPlansWithAiAssistant(final PlanTier tier) {
+		final PlanEntitlements plan = PlanEntitlements.forTier(tier);
+		assertThat(plan.getAiMonthlyTokenBudget() > 0).isEqualTo(plan.hasEntitlement(Entitlement.AI_ASSISTANT));
+	}
+
 	@ParameterizedTest
 	@MethodSource("planTierEntitlementMatrix")
 	void fullPlanTierEntitlementMatrix(final PlanTier tier, final Entitlement entitlement, final boolean expected) {
@@ -82,6 +82,23 @@ class SubscriptionEntitlementServiceTest {
 		assertThat(service.getEffectivePlanTier(NUTRITIONIST_ID)).isEmpty();
 	}
 
+	@Test
+	void getEffectivePlanReturnsTierAndClinicForActiveMember() {
+		when(clinicMemberRepository.findByUserIdWithClinicAndSubscription(NUTRITIONIST_ID))
+			.thenReturn(Optional.of(activeMember(NUTRITIONIST_ID, PlanTier.CONSULTORIO)));
+
+		assertThat(service.getEffectivePlan(NUTRITIONIST_ID)).contains(new EffectivePlan(PlanTier.CONSULTORIO, 1L));
+	}
+
+	@Test
+	void getEffectivePlanEmptyWhenSubscriptionDoesNotGrantEntitlements() {
+		final ClinicMember member = activeMember(SOLO_ID, PlanTier.PLUS);
+		member.getClinic().getSubscription().setStatus(SubscriptionStatus.SUSPENDED);
+		when(clinicMemberRepository.findByUserIdWithClinicAndSubscription(SOLO_ID)).thenReturn(Optional.of(member));
+
+		assertThat(service.getEffectivePlan(SOLO_ID)).isEmpty();
+	}
+
 	@Test
 	void hasEntitlementTrueForActiveSubscriptionEntitlement() {
 		when(clinicMemberRepository.findByUserIdWithClinicAndSubscription(SOLO_ID))
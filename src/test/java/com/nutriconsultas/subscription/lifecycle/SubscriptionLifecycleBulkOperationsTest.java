@@ -0,0 +1,108 @@
+package com.nutriconsultas.subscription.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.nutriconsultas.subscription.PlanTier;
+import com.nutriconsultas.subscription.Subscription;
+import com.nutriconsultas.subscription.SubscriptionStatus;
+import com.nutriconsultas.subscription.lifecycle.SubscriptionLifecycleBulkOperations.LifecycleChunk;
+
+@DataJpaTest
+class SubscriptionLifecycleBulkOperationsTest {
+
+	private static final Instant NOW = Instant.parse("2026-06-17T12:00:00Z");
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private SubscriptionLifecycleBulkOperations bulkOperations;
+
+	@BeforeEach
+	void setUp() {
+		bulkOperations = new SubscriptionLifecycleBulkOperations(new NamedParameterJdbcTemplate(jdbcTemplate));
+	}
+
+	@Test
+	void enterGraceTransitionsExpiredActiveChunkAndWritesAudit() {
+		final Subscription first = persist(SubscriptionStatus.ACTIVE, NOW.minus(1, ChronoUnit.DAYS), 7);
+		final Subscription second = persist(SubscriptionStatus.ACTIVE, NOW.minus(2, ChronoUnit.DAYS), 7);
+		persist(SubscriptionStatus.ACTIVE, NOW.plus(5, ChronoUnit.DAYS), 7);
+
+		final LifecycleChunk chunk = bulkOperations.enterGrace(NOW, 0L, 1);
+		final LifecycleChunk next = bulkOperations.enterGrace(NOW, chunk.lastId(), 1);
+		final LifecycleChunk done = bulkOperations.enterGrace(NOW, next.lastId(), 1);
+
+		assertThat(chunk.transitionedIds()).containsExactly(first.getId());
+		assertThat(next.transitionedIds()).containsExactly(second.getId());
+		assertThat(done.isEmpty()).isTrue();
+		assertThat(statusOf(first)).isEqualTo("GRACE");
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM subscription_audit_event WHERE subscription_id IN (?, ?) "
+						+ "AND previous_status = 'ACTIVE' AND new_status = 'GRACE' AND reason_code = 'SCHEDULED_JOB'",
+				Long.class, first.getId(), second.getId()))
+			.isEqualTo(2L);
+	}
+
+	@Test
+	void suspendExpiredGraceHonoursEachRowsGraceDays() {
+		final Subscription expired = persist(SubscriptionStatus.GRACE, NOW.minus(10, ChronoUnit.DAYS), 7);
+		final Subscription stillInGrace = persist(SubscriptionStatus.GRACE, NOW.minus(10, ChronoUnit.DAYS), 14);
+
+		final LifecycleChunk chunk = bulkOperations.suspendExpiredGrace(NOW, 0L, 10);
+
+		assertThat(chunk.scanned()).isEqualTo(2);
+		assertThat(chunk.lastId()).isEqualTo(stillInGrace.getId());
+		assertThat(chunk.transitionedIds()).containsExactly(expired.getId());
+		assertThat(statusOf(expired)).isEqualTo("SUSPENDED");
+		assertThat(statusOf(stillInGrace)).isEqualTo("GRACE");
+	}
+
+	@Test
+	void findUnnotifiedExcludesSubscriptionsAlreadyLoggedForTheirPeriodEnd() {
+		final Instant periodEnd = NOW.plus(3, ChronoUnit.DAYS);
+		final Subscription notified = persist(SubscriptionStatus.ACTIVE, periodEnd, 7);
+		final Subscription pending = persist(SubscriptionStatus.ACTIVE, periodEnd, 7);
+		bulkOperations.recordNotificationsSent(List.of(notified), SubscriptionNotificationType.EXPIRY_REMINDER_3_DAYS,
+				NOW);
+
+		final List<Long> candidates = bulkOperations.findExpiringBetween(SubscriptionStatus.ACTIVE,
+				periodEnd.minus(1, ChronoUnit.HOURS), periodEnd.plus(1, ChronoUnit.HOURS), 0L, 10);
+
+		assertThat(candidates).containsExactly(notified.getId(), pending.getId());
+		assertThat(bulkOperations.findUnnotified(candidates, SubscriptionNotificationType.EXPIRY_REMINDER_3_DAYS))
+			.containsExactly(pending.getId());
+		assertThat(bulkOperations.findUnnotified(candidates, SubscriptionNotificationType.EXPIRY_REMINDER_1_DAY))
+			.containsExactly(notified.getId(), pending.getId());
+	}
+
+	private Subscription persist(final SubscriptionStatus status, final Instant periodEnd, final int graceDays) {
+		final Subscription subscription = new Subscription();
+		subscription.setPlanTier(PlanTier.BASICO);
+		subscription.setStatus(status);
+		subscription.setPeriodEnd(periodEnd);
+		subscription.setGracePeriodDays(graceDays);
+		entityManager.persistAndFlush(subscription);
+		return subscription;
+	}
+
+	private String statusOf(final Subscription subscription) {
+		return jdbcTemplate.queryForObject("SELECT status FROM subscription WHERE id = ?", String.class,
+				subscription.getId());
+	}
+
+}
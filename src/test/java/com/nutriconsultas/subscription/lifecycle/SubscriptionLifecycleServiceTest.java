@@ -2,6 +2,7 @@ package com.nutriconsultas.subscription.lifecycle;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -18,6 +19,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.nutriconsultas.subscription.PlanTier;
 import com.nutriconsultas.subscription.Subscription;
@@ -27,6 +30,7 @@ import com.nutriconsultas.subscription.SubscriptionAuditEventType;
 import com.nutriconsultas.subscription.SubscriptionProperties;
 import com.nutriconsultas.subscription.SubscriptionRepository;
 import com.nutriconsultas.subscription.SubscriptionStatus;
+import com.nutriconsultas.subscription.lifecycle.SubscriptionLifecycleBulkOperations.LifecycleChunk;
 
 @ExtendWith(MockitoExtension.class)
 class SubscriptionLifecycleServiceTest {
@@ -40,6 +44,12 @@ class SubscriptionLifecycleServiceTest {
 	@Mock
 	private SubscriptionNotificationService notificationService;
 
+	@Mock
+	private SubscriptionLifecycleBulkOperations bulkOperations;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
 	private SubscriptionProperties subscriptionProperties;
 
 	private SubscriptionLifecycleService service;
@@ -48,39 +58,65 @@ class SubscriptionLifecycleServiceTest {
 	void setUp() {
 		subscriptionProperties = new SubscriptionProperties();
 		service = new SubscriptionLifecycleService(subscriptionRepository, auditEventRepository, notificationService,
-				subscriptionProperties);
+				subscriptionProperties, bulkOperations, new TransactionTemplate(transactionManager));
 	}
 
 	@Test
-	void runDailyLifecycleTransitionsActiveToGrace() {
+	void runDailyLifecycleTransitionsActiveToGraceInChunksAndNotifies() {
 		final Instant now = Instant.parse("2026-06-17T12:00:00Z");
-		final Subscription subscription = activeSubscription(now.minus(1, ChronoUnit.DAYS));
-		when(subscriptionRepository.findByStatusAndPeriodEndBefore(SubscriptionStatus.ACTIVE, now))
-			.thenReturn(List.of(subscription));
-		when(subscriptionRepository.findByStatus(SubscriptionStatus.GRACE)).thenReturn(List.of());
-		when(subscriptionRepository.save(subscription)).thenReturn(subscription);
+		subscriptionProperties.setLifecycleChunkSize(2);
+		subscriptionProperties.setExpiryReminderDays(List.of());
+		when(bulkOperations.enterGrace(now, 0L, 2)).thenReturn(new LifecycleChunk(2, 5L, List.of(3L, 5L)));
+		when(bulkOperations.enterGrace(now, 5L, 2)).thenReturn(new LifecycleChunk(1, 9L, List.of(9L)));
+		when(bulkOperations.enterGrace(now, 9L, 2)).thenReturn(new LifecycleChunk(0, 0L, List.of()));
+		when(bulkOperations.suspendExpiredGrace(now, 0L, 2)).thenReturn(new LifecycleChunk(0, 0L, List.of()));
+		when(notificationService.sendPending(any(), eq(SubscriptionNotificationType.GRACE_PERIOD_ENTERED), eq(now)))
+			.thenReturn(2, 1);
 
 		final LifecycleRunResult result = service.runDailyLifecycle(now);
 
-		assertThat(result.graceTransitions()).isEqualTo(1);
-		assertThat(subscription.getStatus()).isEqualTo(SubscriptionStatus.GRACE);
-		verify(notificationService).sendIfNotAlreadySent(subscription,
-				SubscriptionNotificationType.GRACE_PERIOD_ENTERED, subscription.getPeriodEnd());
+		assertThat(result.graceTransitions()).isEqualTo(3);
+		assertThat(result.subscriptionsScanned()).isEqualTo(3);
+		assertThat(result.duration()).isNotNull();
+		verify(notificationService).sendPending(List.of(3L, 5L), SubscriptionNotificationType.GRACE_PERIOD_ENTERED,
+				now);
+		verify(notificationService).sendPending(List.of(9L), SubscriptionNotificationType.GRACE_PERIOD_ENTERED, now);
 	}
 
 	@Test
-	void runDailyLifecycleTransitionsGraceToSuspended() {
+	void runDailyLifecycleSuspendsExpiredGraceAcrossScannedChunks() {
 		final Instant now = Instant.parse("2026-06-17T12:00:00Z");
-		final Subscription subscription = graceSubscription(now.minus(10, ChronoUnit.DAYS), 7);
-		when(subscriptionRepository.findByStatusAndPeriodEndBefore(SubscriptionStatus.ACTIVE, now))
-			.thenReturn(List.of());
-		when(subscriptionRepository.findByStatus(SubscriptionStatus.GRACE)).thenReturn(List.of(subscription));
-		when(subscriptionRepository.save(subscription)).thenReturn(subscription);
+		subscriptionProperties.setExpiryReminderDays(List.of());
+		when(bulkOperations.enterGrace(eq(now), eq(0L), anyInt())).thenReturn(new LifecycleChunk(0, 0L, List.of()));
+		when(bulkOperations.suspendExpiredGrace(eq(now), eq(0L), anyInt()))
+			.thenReturn(new LifecycleChunk(200, 400L, List.of(12L)));
+		when(bulkOperations.suspendExpiredGrace(eq(now), eq(400L), anyInt()))
+			.thenReturn(new LifecycleChunk(0, 0L, List.of()));
 
 		final LifecycleRunResult result = service.runDailyLifecycle(now);
 
 		assertThat(result.suspendedTransitions()).isEqualTo(1);
-		assertThat(subscription.getStatus()).isEqualTo(SubscriptionStatus.SUSPENDED);
+		assertThat(result.subscriptionsScanned()).isEqualTo(200);
+		verify(notificationService, never()).sendPending(any(), any(), any());
+	}
+
+	@Test
+	void runDailyLifecycleSendsRemindersForExpiringWindow() {
+		final Instant now = Instant.parse("2026-06-17T12:00:00Z");
+		subscriptionProperties.setExpiryReminderDays(List.of(3));
+		when(bulkOperations.enterGrace(eq(now), eq(0L), anyInt())).thenReturn(new LifecycleChunk(0, 0L, List.of()));
+		when(bulkOperations.suspendExpiredGrace(eq(now), eq(0L), anyInt()))
+			.thenReturn(new LifecycleChunk(0, 0L, List.of()));
+		when(bulkOperations.findExpiringBetween(SubscriptionStatus.ACTIVE, Instant.parse("2026-06-20T00:00:00Z"),
+				Instant.parse("2026-06-21T00:00:00Z"), 0L, 200))
+			.thenReturn(List.of(4L, 8L));
+		when(notificationService.sendPending(List.of(4L, 8L), SubscriptionNotificationType.EXPIRY_REMINDER_3_DAYS, now))
+			.thenReturn(1);
+
+		final LifecycleRunResult result = service.runDailyLifecycle(now);
+
+		assertThat(result.remindersSent()).isEqualTo(1);
+		assertThat(result.subscriptionsScanned()).isEqualTo(2);
 	}
 
 	@Test
@@ -131,11 +167,4 @@ class SubscriptionLifecycleServiceTest {
 		return subscription;
 	}
 
-	private static Subscription graceSubscription(final Instant periodEnd, final int graceDays) {
-		final Subscription subscription = activeSubscription(periodEnd);
-		subscription.setStatus(SubscriptionStatus.GRACE);
-		subscription.setGracePeriodDays(graceDays);
-		return subscription;
-	}
-
 }
@@ -0,0 +1,104 @@
+package com.nutriconsultas.subscription.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nutriconsultas.subscription.NutritionistInvitation;
+import com.nutriconsultas.subscription.NutritionistInvitationRepository;
+import com.nutriconsultas.subscription.PlanTier;
+import com.nutriconsultas.subscription.Subscription;
+import com.nutriconsultas.subscription.SubscriptionRepository;
+import com.nutriconsultas.subscription.SubscriptionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriptionNotificationServiceTest {
+
+	private static final Instant NOW = Instant.parse("2026-06-17T12:00:00Z");
+
+	private static final SubscriptionNotificationType TYPE = SubscriptionNotificationType.EXPIRY_REMINDER_7_DAYS;
+
+	@Mock
+	private SubscriptionLifecycleBulkOperations bulkOperations;
+
+	@Mock
+	private SubscriptionRepository subscriptionRepository;
+
+	@Mock
+	private SubscriptionNotificationEmailSender emailSender;
+
+	@Mock
+	private NutritionistInvitationRepository invitationRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private SubscriptionNotificationService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new SubscriptionNotificationService(bulkOperations, subscriptionRepository, emailSender,
+				invitationRepository, new TransactionTemplate(transactionManager), Runnable::run);
+	}
+
+	@Test
+	void sendPendingLogsOnlySubscriptionsWhoseEmailsSucceeded() {
+		final Subscription delivered = subscription(1L);
+		final Subscription failing = subscription(2L);
+		when(bulkOperations.findUnnotified(List.of(1L, 2L, 3L), TYPE)).thenReturn(List.of(1L, 2L));
+		when(invitationRepository.findBySubscriptionIdIn(List.of(1L, 2L)))
+			.thenReturn(List.of(invitation(delivered, "a@example.com"), invitation(failing, "b@example.com")));
+		when(subscriptionRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(delivered, failing));
+		lenient().doThrow(new IllegalStateException("smtp down"))
+			.when(emailSender)
+			.sendNotification(eq("b@example.com"), eq(failing), eq(TYPE));
+
+		final int sent = service.sendPending(List.of(1L, 2L, 3L), TYPE, NOW);
+
+		assertThat(sent).isEqualTo(1);
+		verify(emailSender).sendNotification("a@example.com", delivered, TYPE);
+		verify(bulkOperations).recordNotificationsSent(List.of(delivered), TYPE, NOW);
+	}
+
+	@Test
+	void sendPendingSkipsWhenEveryCandidateWasAlreadyNotified() {
+		when(bulkOperations.findUnnotified(List.of(1L), TYPE)).thenReturn(List.of());
+
+		assertThat(service.sendPending(List.of(1L), TYPE, NOW)).isZero();
+
+		verify(emailSender, never()).sendNotification(any(), any(), any());
+		verify(bulkOperations, never()).recordNotificationsSent(any(), any(), any());
+	}
+
+	private static Subscription subscription(final Long id) {
+		final Subscription subscription = new Subscription();
+		subscription.setId(id);
+		subscription.setPlanTier(PlanTier.BASICO);
+		subscription.setStatus(SubscriptionStatus.ACTIVE);
+		subscription.setPeriodEnd(NOW.plusSeconds(7 * 24 * 3600L));
+		return subscription;
+	}
+
+	private static NutritionistInvitation invitation(final Subscription subscription, final String email) {
+		final NutritionistInvitation invitation = new NutritionistInvitation();
+		invitation.setSubscription(subscription);
+		invitation.setEmail(email);
+		return invitation;
+	}
+
+}
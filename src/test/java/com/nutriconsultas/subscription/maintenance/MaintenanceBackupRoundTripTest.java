@@ -0,0 +1,227 @@
+package com.nutriconsultas.subscription.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nutriconsultas.alimentos.Alimento;
+import com.nutriconsultas.clinical.exam.AnthropometricMeasurement;
+import com.nutriconsultas.clinical.exam.ClinicalExam;
+import com.nutriconsultas.clinical.exam.anthropometric.BodyMass;
+import com.nutriconsultas.dieta.AlimentoIngesta;
+import com.nutriconsultas.dieta.Dieta;
+import com.nutriconsultas.dieta.Ingesta;
+import com.nutriconsultas.paciente.Paciente;
+import com.nutriconsultas.paciente.PacienteDieta;
+import com.nutriconsultas.platillos.Ingrediente;
+import com.nutriconsultas.platillos.Platillo;
+import com.nutriconsultas.subscription.maintenance.MaintenanceBackupRestorer.RestoreSummary;
+import com.nutriconsultas.subscription.maintenance.RevokedNutritionistEligibilityService.EligibleRevokedNutritionist;
+import com.nutriconsultas.subscription.maintenance.TenantBackupTables.TenantTable;
+
+/**
+ * A backup written for a tenant restores every row the purge removed, column for column.
+ */
+@DataJpaTest
+class MaintenanceBackupRoundTripTest {
+
+	private static final String TENANT = "auth0|backed-up-nutritionist";
+
+	private static final String OTHER = "auth0|other-nutritionist";
+
+	private static final EligibleRevokedNutritionist ELIGIBLE = new EligibleRevokedNutritionist(TENANT, 5L,
+			Instant.parse("2026-01-01T00:00:00Z"));
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private NamedParameterJdbcTemplate namedJdbc;
+
+	private MaintenanceBackupWriter writer;
+
+	private MaintenanceBackupRestorer restorer;
+
+	@BeforeEach
+	void setUp() {
+		namedJdbc = new NamedParameterJdbcTemplate(jdbcTemplate);
+		writer = new MaintenanceBackupWriter(dataSource, transactionManager);
+		restorer = new MaintenanceBackupRestorer(jdbcTemplate, new TransactionTemplate(transactionManager));
+	}
+
+	@Test
+	void purgedTenantIsRestoredFromStreamedBackup() throws IOException {
+		final Paciente paciente = persistPatient(TENANT);
+		persistPatient(OTHER);
+		persistPlatillo(TENANT);
+		entityManager.flush();
+		entityManager.clear();
+		final Map<String, List<Map<String, Object>>> before = snapshotTenantRows();
+		assertThat(before.get("paciente")).hasSize(1);
+		assertThat(before.get("body_mass")).hasSize(1);
+		assertThat(before.get("alimento_ingesta")).hasSize(1);
+		assertThat(before.get("ingrediente")).hasSize(1);
+
+		final ByteArrayOutputStream backup = new ByteArrayOutputStream();
+		writer.write(backup, "run-1", Instant.parse("2026-06-01T00:00:00Z"), List.of(ELIGIBLE));
+		purgeCatalog();
+		assertThat(snapshotTenantRows().values()).allMatch(List::isEmpty);
+
+		final RestoreSummary summary = restorer.restore(new ByteArrayInputStream(backup.toByteArray()), null);
+
+		assertThat(summary.getTenants()).containsExactly(TENANT);
+		assertThat(summary.getRows()).isEqualTo(before.values().stream().mapToLong(List::size).sum());
+		assertThat(snapshotTenantRows()).isEqualTo(before);
+		assertThat(
+				jdbcTemplate.queryForObject("SELECT name FROM paciente WHERE id = ?", String.class, paciente.getId()))
+			.isEqualTo("Backup " + TENANT);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM paciente WHERE user_id = ?", Long.class, OTHER))
+			.isEqualTo(1L);
+	}
+
+	@Test
+	void restoreSkipsTenantsOutsideFilterAndRejectsExistingRows() throws IOException {
+		persistPatient(TENANT);
+		entityManager.flush();
+		entityManager.clear();
+		final ByteArrayOutputStream backup = new ByteArrayOutputStream();
+		writer.write(backup, "run-2", Instant.parse("2026-06-01T00:00:00Z"), List.of(ELIGIBLE));
+
+		final RestoreSummary skipped = restorer.restore(new ByteArrayInputStream(backup.toByteArray()), OTHER);
+		final RestoreSummary conflicting = restorer.restore(new ByteArrayInputStream(backup.toByteArray()), TENANT);
+
+		assertThat(skipped.getTenants()).isEmpty();
+		assertThat(conflicting.getTenants()).isEmpty();
+		assertThat(conflicting.getFailedTenants()).containsExactly(TENANT);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM paciente WHERE user_id = ?", Long.class, TENANT))
+			.isEqualTo(1L);
+	}
+
+	@Test
+	void conflictingTenantIsReportedAndTheRestoreMovesOnToTheNext() throws IOException {
+		persistPatient(TENANT);
+		entityManager.flush();
+		entityManager.clear();
+		final ByteArrayOutputStream backup = new ByteArrayOutputStream();
+		writer.write(backup, "run-3", Instant.parse("2026-06-01T00:00:00Z"),
+				List.of(ELIGIBLE, new EligibleRevokedNutritionist(OTHER, 6L, Instant.parse("2026-01-01T00:00:00Z"))));
+
+		final RestoreSummary summary = restorer.restore(new ByteArrayInputStream(backup.toByteArray()), null);
+
+		assertThat(summary.getFailedTenants()).containsExactly(TENANT);
+		assertThat(summary.getTenants()).containsExactly(OTHER);
+		assertThat(summary.getRows()).isZero();
+	}
+
+	private void purgeCatalog() {
+		final NutritionistTenantBulkDelete bulkDelete = new NutritionistTenantBulkDelete(namedJdbc);
+		for (final TenantPurgePhase phase : List.of(TenantPurgePhase.PATIENTS, TenantPurgePhase.DIETAS,
+				TenantPurgePhase.PLATILLOS)) {
+			long cursor = 0L;
+			TenantPurgeChunk chunk;
+			while (!(chunk = bulkDelete.deleteChunk(phase, TENANT, cursor, 10)).isEmpty()) {
+				cursor = chunk.lastId();
+			}
+		}
+	}
+
+	private Map<String, List<Map<String, Object>>> snapshotTenantRows() {
+		final Map<String, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+		for (final TenantTable table : TenantBackupTables.ORDERED) {
+			rows.put(table.name(), namedJdbc.queryForList(table.selectSql() + " ORDER BY id",
+					new MapSqlParameterSource("userId", TENANT)));
+		}
+		return rows;
+	}
+
+	private Paciente persistPatient(final String userId) {
+		final Paciente paciente = new Paciente();
+		paciente.setName("Backup " + userId);
+		paciente.setUserId(userId);
+		paciente.setDob(Date.from(LocalDate.of(1990, 5, 17).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+		paciente.setGender("F");
+		entityManager.persist(paciente);
+
+		final ClinicalExam exam = new ClinicalExam();
+		exam.setPaciente(paciente);
+		exam.setExamDateTime(new Date());
+		exam.setTitle("Examen");
+		exam.setPeso(70.5);
+		entityManager.persist(exam);
+
+		final AnthropometricMeasurement measurement = new AnthropometricMeasurement();
+		measurement.setPaciente(paciente);
+		measurement.setMeasurementDateTime(new Date());
+		measurement.setBodyMass(new BodyMass());
+		entityManager.persist(measurement);
+
+		final Dieta dieta = new Dieta();
+		dieta.setNombre("Plan " + userId);
+		dieta.setUserId(userId);
+		dieta.setPacienteId(paciente.getId());
+		final Ingesta ingesta = new Ingesta("Desayuno");
+		ingesta.setDieta(dieta);
+		dieta.getIngestas().add(ingesta);
+		final AlimentoIngesta alimento = new AlimentoIngesta();
+		alimento.setName("Manzana");
+		alimento.setIngesta(ingesta);
+		ingesta.getAlimentos().add(alimento);
+		entityManager.persist(dieta);
+
+		final PacienteDieta assignment = new PacienteDieta();
+		assignment.setPaciente(paciente);
+		assignment.setDieta(dieta);
+		assignment.setStartDate(new Date());
+		entityManager.persist(assignment);
+		return paciente;
+	}
+
+	private void persistPlatillo(final String userId) {
+		final Alimento alimento = new Alimento();
+		alimento.setNombreAlimento("Avena backup");
+		alimento.setClasificacion("TEST");
+		alimento.setUnidad("g");
+		alimento.setCantSugerida(1.0);
+		entityManager.persist(alimento);
+		final Platillo platillo = new Platillo();
+		platillo.setName("Avena con leche");
+		platillo.setUserId(userId);
+		final Ingrediente ingrediente = new Ingrediente();
+		ingrediente.setPlatillo(platillo);
+		ingrediente.setAlimento(alimento);
+		platillo.getIngredientes().add(ingrediente);
+		entityManager.persist(platillo);
+	}
+
+}
@@ -21,7 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.nutriconsultas.platform.PlatformAdminAuditService;
-import com.nutriconsultas.subscription.maintenance.MaintenanceBackupSerializer.NutritionistTenantSnapshot;
+import com.nutriconsultas.subscription.maintenance.MaintenanceBackupRestorer.RestoreSummary;
 import com.nutriconsultas.subscription.maintenance.RevokedNutritionistEligibilityService.EligibleRevokedNutritionist;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,7 +37,10 @@ class MaintenanceRetentionServiceTest {
 	private NutritionistTenantPurgeService tenantPurgeService;
 
 	@Mock
-	private MaintenanceBackupSerializer backupSerializer;
+	private MaintenanceBackupWriter backupWriter;
+
+	@Mock
+	private MaintenanceBackupRestorer backupRestorer;
 
 	@Mock
 	private MaintenanceBackupStorageService backupStorageService;
@@ -54,7 +57,8 @@ class MaintenanceRetentionServiceTest {
 		properties = new MaintenanceRetentionProperties();
 		properties.setS3Prefix("maintenance/revoked-nutritionist-backups");
 		maintenanceRetentionService = new MaintenanceRetentionService(maintenanceRunRepository, eligibilityService,
-				tenantPurgeService, backupSerializer, backupStorageService, properties, platformAdminAuditService);
+				tenantPurgeService, backupWriter, backupRestorer, backupStorageService, properties,
+				platformAdminAuditService);
 	}
 
 	@Test
@@ -67,8 +71,8 @@ class MaintenanceRetentionServiceTest {
 		assertThat(run.getStatus()).isEqualTo(MaintenanceRunStatus.COMPLETED);
 		assertThat(run.getEligibleCount()).isZero();
 		assertThat(run.getPurgedUserCount()).isZero();
-		verify(backupStorageService, never()).uploadBackup(anyString(), any());
-		verify(tenantPurgeService, never()).purgeTenant(any());
+		verify(backupStorageService, never()).writeBackup(anyString(), any());
+		verify(tenantPurgeService, never()).purgeTenant(any(), any());
 	}
 
 	@Test
@@ -83,15 +87,12 @@ class MaintenanceRetentionServiceTest {
 			}
 			return run;
 		});
-		when(tenantPurgeService.buildSnapshot(eligible))
-			.thenReturn(NutritionistTenantSnapshot.empty("auth0|user", 5L, eligible.revokedAt()));
-		when(backupSerializer.toGzippedJson(anyString(), any(), any())).thenReturn(new byte[] { 1, 2, 3 });
 		doThrow(new MaintenanceBackupException("upload failed", new RuntimeException("s3"))).when(backupStorageService)
-			.uploadBackup(anyString(), any());
+			.writeBackup(anyString(), any());
 
 		assertThatThrownBy(() -> maintenanceRetentionService.executeCleanup("auth0|admin"))
 			.isInstanceOf(MaintenanceBackupException.class);
-		verify(tenantPurgeService, never()).purgeTenant(any());
+		verify(tenantPurgeService, never()).purgeTenant(any(), any());
 	}
 
 	@Test
@@ -106,9 +107,6 @@ class MaintenanceRetentionServiceTest {
 			}
 			return run;
 		});
-		when(tenantPurgeService.buildSnapshot(eligible))
-			.thenReturn(NutritionistTenantSnapshot.empty("auth0|user", 5L, eligible.revokedAt()));
-		when(backupSerializer.toGzippedJson(anyString(), any(), any())).thenReturn(new byte[] { 9, 8, 7 });
 
 		final MaintenanceRun run = maintenanceRetentionService.executeCleanup("auth0|admin");
 
@@ -117,8 +115,8 @@ class MaintenanceRetentionServiceTest {
 		assertThat(run.getPurgedUserCount()).isEqualTo(1);
 		assertThat(run.getS3BackupKey()).contains("run-test-2");
 		verify(backupStorageService)
-			.uploadBackup(eq("maintenance/revoked-nutritionist-backups/run-test-2/backup.json.gz"), any());
-		verify(tenantPurgeService).purgeTenant(eligible);
+			.writeBackup(eq("maintenance/revoked-nutritionist-backups/run-test-2/backup.json.gz"), any());
+		verify(tenantPurgeService).purgeTenant(eligible, run);
 		verify(platformAdminAuditService).recordAction(eq("auth0|admin"), anyString());
 	}
 
@@ -139,4 +137,47 @@ class MaintenanceRetentionServiceTest {
 				eq("action=retention.backup.delete,runId=run-delete"));
 	}
 
+	@Test
+	void restoreBackup_streamsBackupIntoRestorerAndAudits() {
+		final MaintenanceRun run = new MaintenanceRun();
+		run.setRunId("run-restore");
+		final String backupKey = "maintenance/revoked-nutritionist-backups/run-restore/backup.json.gz";
+		run.setS3BackupKey(backupKey);
+		when(maintenanceRunRepository.findById("run-restore")).thenReturn(Optional.of(run));
+		when(backupStorageService.<RestoreSummary>readBackup(eq(backupKey), any())).thenReturn(new RestoreSummary());
+
+		final RestoreSummary summary = maintenanceRetentionService.restoreBackup("run-restore", " ", "auth0|admin");
+
+		assertThat(summary.getRows()).isZero();
+		verify(platformAdminAuditService).recordAction(eq("auth0|admin"),
+				eq("action=retention.restore,runId=run-restore,tenantCount=0,failedTenantCount=0,rowCount=0"));
+	}
+
+	@Test
+	void restoreBackup_whenAborted_auditsTenantsAlreadyRestored() {
+		final MaintenanceRun run = new MaintenanceRun();
+		run.setRunId("run-abort");
+		final String backupKey = "maintenance/revoked-nutritionist-backups/run-abort/backup.json.gz";
+		run.setS3BackupKey(backupKey);
+		when(maintenanceRunRepository.findById("run-abort")).thenReturn(Optional.of(run));
+		when(backupStorageService.<RestoreSummary>readBackup(eq(backupKey), any()))
+			.thenThrow(new IllegalArgumentException("Malformed backup"));
+
+		assertThatThrownBy(() -> maintenanceRetentionService.restoreBackup("run-abort", null, "auth0|admin"))
+			.isInstanceOf(RuntimeException.class);
+		verify(platformAdminAuditService).recordAction(eq("auth0|admin"), eq(
+				"action=retention.restore,runId=run-abort,tenantCount=0,failedTenantCount=0,rowCount=0,aborted=true"));
+	}
+
+	@Test
+	void restoreBackup_whenRunHasNoBackup_rejects() {
+		final MaintenanceRun run = new MaintenanceRun();
+		run.setRunId("run-empty");
+		when(maintenanceRunRepository.findById("run-empty")).thenReturn(Optional.of(run));
+
+		assertThatThrownBy(() -> maintenanceRetentionService.restoreBackup("run-empty", null, "auth0|admin"))
+			.isInstanceOf(IllegalArgumentException.class);
+		verify(backupStorageService, never()).readBackup(anyString(), any());
+	}
+
 }
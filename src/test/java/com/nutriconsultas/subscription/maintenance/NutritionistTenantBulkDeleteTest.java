@@ -0,0 +1,197 @@
+package com.nutriconsultas.subscription.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.nutriconsultas.alimentos.Alimento;
+import com.nutriconsultas.calendar.CalendarEvent;
+import com.nutriconsultas.clinical.exam.AnthropometricMeasurement;
+import com.nutriconsultas.clinical.exam.ClinicalExam;
+import com.nutriconsultas.clinical.exam.anthropometric.BodyMass;
+import com.nutriconsultas.dieta.AlimentoIngesta;
+import com.nutriconsultas.dieta.Dieta;
+import com.nutriconsultas.dieta.Ingesta;
+import com.nutriconsultas.dieta.PlatilloIngesta;
+import com.nutriconsultas.paciente.Paciente;
+import com.nutriconsultas.paciente.PacienteDieta;
+import com.nutriconsultas.platillos.Ingrediente;
+import com.nutriconsultas.platillos.Platillo;
+
+/**
+ * Chunks delete a tenant's rows and every dependent row with set-based statements,
+ * leaving other tenants untouched.
+ */
+@DataJpaTest
+class NutritionistTenantBulkDeleteTest {
+
+	private static final String TENANT = "auth0|purged-nutritionist";
+
+	private static final String OTHER = "auth0|other-nutritionist";
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private NutritionistTenantBulkDelete bulkDelete;
+
+	@BeforeEach
+	void setUp() {
+		bulkDelete = new NutritionistTenantBulkDelete(new NamedParameterJdbcTemplate(jdbcTemplate));
+	}
+
+	@Test
+	void patientChunkRemovesHistoryAssignmentsAndDietCopies() {
+		final Paciente first = persistPatientWithHistory(TENANT, "png");
+		final Paciente second = persistPatientWithHistory(TENANT, null);
+		final Paciente kept = persistPatientWithHistory(OTHER, null);
+		entityManager.flush();
+		entityManager.clear();
+
+		final TenantPurgeChunk chunk = bulkDelete.deleteChunk(TenantPurgePhase.PATIENTS, TENANT, 0L, 1);
+
+		assertThat(chunk.lastId()).isEqualTo(first.getId());
+		assertThat(chunk.deletedCount()).isEqualTo(1);
+		assertThat(chunk.mediaKeys()).containsExactly("patients/" + first.getId() + "/photo.png");
+		assertThat(chunk.patientAuthSubs()).containsExactly("mobile|" + first.getId());
+		assertThat(count("paciente", first.getId())).isZero();
+		assertThat(count("paciente", second.getId())).isEqualTo(1);
+
+		final TenantPurgeChunk next = bulkDelete.deleteChunk(TenantPurgePhase.PATIENTS, TENANT, chunk.lastId(), 1);
+		assertThat(next.lastId()).isEqualTo(second.getId());
+		assertThat(bulkDelete.deleteChunk(TenantPurgePhase.PATIENTS, TENANT, next.lastId(), 1).isEmpty()).isTrue();
+
+		assertThat(rows("SELECT COUNT(*) FROM paciente WHERE user_id = ?", TENANT)).isZero();
+		assertThat(rows("SELECT COUNT(*) FROM dieta WHERE user_id = ?", TENANT)).isZero();
+		assertThat(rows("SELECT COUNT(*) FROM calendar_event")).isEqualTo(1);
+		assertThat(rows("SELECT COUNT(*) FROM clinical_exam")).isEqualTo(1);
+		assertThat(rows("SELECT COUNT(*) FROM vital_signs")).isEqualTo(1);
+		assertThat(rows("SELECT COUNT(*) FROM anthropometric_measurement")).isEqualTo(1);
+		assertThat(rows("SELECT COUNT(*) FROM body_mass")).isEqualTo(1);
+		assertThat(rows("SELECT COUNT(*) FROM paciente_dieta")).isEqualTo(1);
+		assertThat(rows("SELECT COUNT(*) FROM ingesta")).isEqualTo(1);
+		assertThat(count("paciente", kept.getId())).isEqualTo(1);
+	}
+
+	@Test
+	void dietaAndPlatilloChunksRemoveTreesAndReportMedia() {
+		final Dieta template = persistDieta(TENANT, null);
+		final Dieta otherTemplate = persistDieta(OTHER, null);
+		final Alimento alimento = persistAlimento();
+		final Platillo platillo = persistPlatillo(TENANT, alimento);
+		entityManager.flush();
+		entityManager.clear();
+
+		final TenantPurgeChunk dietas = bulkDelete.deleteChunk(TenantPurgePhase.DIETAS, TENANT, 0L, 10);
+		final TenantPurgeChunk platillos = bulkDelete.deleteChunk(TenantPurgePhase.PLATILLOS, TENANT, 0L, 10);
+
+		assertThat(dietas.lastId()).isEqualTo(template.getId());
+		assertThat(count("dieta", template.getId())).isZero();
+		assertThat(count("dieta", otherTemplate.getId())).isEqualTo(1);
+		assertThat(rows("SELECT COUNT(*) FROM ingesta")).isEqualTo(1);
+		assertThat(rows("SELECT COUNT(*) FROM alimento_ingesta")).isEqualTo(1);
+		assertThat(platillos.mediaKeys()).containsExactly("platillo/" + platillo.getId() + "/picture.jpg");
+		assertThat(count("platillo", platillo.getId())).isZero();
+		assertThat(rows("SELECT COUNT(*) FROM ingrediente WHERE platillo_id = ?", platillo.getId())).isZero();
+	}
+
+	private Paciente persistPatientWithHistory(final String userId, final String photoExtension) {
+		final Paciente paciente = new Paciente();
+		paciente.setName("Purge " + userId);
+		paciente.setUserId(userId);
+		paciente.setDob(Date.from(LocalDate.now().minusYears(30).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+		paciente.setGender("F");
+		paciente.setPhotoExtension(photoExtension);
+		entityManager.persist(paciente);
+		paciente.setPatientAuthSub("mobile|" + paciente.getId());
+
+		final CalendarEvent event = new CalendarEvent();
+		event.setPaciente(paciente);
+		event.setTitle("Consulta");
+		event.setEventDateTime(new Date());
+		event.setDurationMinutes(60);
+		entityManager.persist(event);
+
+		final ClinicalExam exam = new ClinicalExam();
+		exam.setPaciente(paciente);
+		exam.setExamDateTime(new Date());
+		exam.setTitle("Examen");
+		exam.setPeso(70.0);
+		entityManager.persist(exam);
+
+		final AnthropometricMeasurement measurement = new AnthropometricMeasurement();
+		measurement.setPaciente(paciente);
+		measurement.setMeasurementDateTime(new Date());
+		measurement.setBodyMass(new BodyMass());
+		entityManager.persist(measurement);
+
+		final PacienteDieta assignment = new PacienteDieta();
+		assignment.setPaciente(paciente);
+		assignment.setDieta(persistDieta(userId, paciente.getId()));
+		assignment.setStartDate(new Date());
+		entityManager.persist(assignment);
+		return paciente;
+	}
+
+	private Dieta persistDieta(final String userId, final Long pacienteId) {
+		final Dieta dieta = new Dieta();
+		dieta.setNombre("Plan " + userId);
+		dieta.setUserId(userId);
+		dieta.setPacienteId(pacienteId);
+		final Ingesta ingesta = new Ingesta("Desayuno");
+		ingesta.setDieta(dieta);
+		dieta.getIngestas().add(ingesta);
+		final PlatilloIngesta platillo = new PlatilloIngesta();
+		platillo.setName("Avena");
+		platillo.setIngesta(ingesta);
+		ingesta.getPlatillos().add(platillo);
+		final AlimentoIngesta alimento = new AlimentoIngesta();
+		alimento.setName("Manzana");
+		alimento.setIngesta(ingesta);
+		ingesta.getAlimentos().add(alimento);
+		return entityManager.persist(dieta);
+	}
+
+	private Alimento persistAlimento() {
+		final Alimento alimento = new Alimento();
+		alimento.setNombreAlimento("Avena purge");
+		alimento.setClasificacion("TEST");
+		alimento.setUnidad("g");
+		alimento.setCantSugerida(1.0);
+		return entityManager.persist(alimento);
+	}
+
+	private Platillo persistPlatillo(final String userId, final Alimento alimento) {
+		final Platillo platillo = new Platillo();
+		platillo.setName("Avena con leche");
+		platillo.setUserId(userId);
+		final Ingrediente ingrediente = new Ingrediente();
+		ingrediente.setPlatillo(platillo);
+		ingrediente.setAlimento(alimento);
+		platillo.getIngredientes().add(ingrediente);
+		entityManager.persist(platillo);
+		platillo.setImageUrl("platillo/" + platillo.getId() + "/picture.jpg");
+		return platillo;
+	}
+
+	private long count(final String table, final Long id) {
+		return rows("SELECT COUNT(*) FROM " + table + " WHERE id = ?", id);
+	}
+
+	private long rows(final String sql, final Object... args) {
+		return jdbcTemplate.queryForObject(sql, Long.class, args);
+	}
+
+}
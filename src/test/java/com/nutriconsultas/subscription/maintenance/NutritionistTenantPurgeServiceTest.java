@@ -0,0 +1,185 @@
+package com.nutriconsultas.subscription.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nutriconsultas.booking.NutritionistAvailabilityBlockRepository;
+import com.nutriconsultas.booking.NutritionistAvailabilitySettingsRepository;
+import com.nutriconsultas.booking.NutritionistWorkingHoursIntervalRepository;
+import com.nutriconsultas.mobile.PatientAuthViewCache;
+import com.nutriconsultas.profile.NutritionistProfileRepository;
+import com.nutriconsultas.subscription.ClinicMemberRepository;
+import com.nutriconsultas.subscription.ClinicRepository;
+import com.nutriconsultas.subscription.SubscriptionRepository;
+import com.nutriconsultas.subscription.maintenance.RevokedNutritionistEligibilityService.EligibleRevokedNutritionist;
+
+/**
+ * Purges run phase by phase in committed chunks, checkpointing each one so a failed run
+ * can be resumed by the next.
+ */
+@ExtendWith(MockitoExtension.class)
+class NutritionistTenantPurgeServiceTest {
+
+	private static final String USER_ID = "auth0|revoked";
+
+	private static final EligibleRevokedNutritionist ELIGIBLE = new EligibleRevokedNutritionist(USER_ID, 5L,
+			Instant.parse("2026-01-01T00:00:00Z"));
+
+	@Mock
+	private NutritionistTenantBulkDelete bulkDelete;
+
+	@Mock
+	private TenantMediaStorageService mediaStorage;
+
+	@Mock
+	private PatientAuthViewCache authViewCache;
+
+	@Mock
+	private NutritionistProfileRepository profiles;
+
+	@Mock
+	private NutritionistAvailabilitySettingsRepository availabilitySettings;
+
+	@Mock
+	private NutritionistWorkingHoursIntervalRepository workingHoursIntervals;
+
+	@Mock
+	private NutritionistAvailabilityBlockRepository availabilityBlocks;
+
+	@Mock
+	private ClinicRepository clinics;
+
+	@Mock
+	private ClinicMemberRepository clinicMembers;
+
+	@Mock
+	private SubscriptionRepository subscriptions;
+
+	@Mock
+	private MaintenanceRunRepository maintenanceRunRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private MaintenanceRun run;
+
+	private NutritionistTenantPurgeService service;
+
+	@BeforeEach
+	void setUp() {
+		final MaintenanceRetentionProperties properties = new MaintenanceRetentionProperties();
+		properties.setPurgeChunkSize(2);
+		final NutritionistTenantCatalogDependencies catalog = new NutritionistTenantCatalogDependencies(bulkDelete,
+				mediaStorage, authViewCache);
+		final NutritionistTenantAccountDependencies account = new NutritionistTenantAccountDependencies(profiles,
+				availabilitySettings, workingHoursIntervals, availabilityBlocks, clinics, clinicMembers, subscriptions);
+		service = new NutritionistTenantPurgeService(catalog, account, maintenanceRunRepository,
+				new TransactionTemplate(transactionManager), properties);
+		run = new MaintenanceRun();
+		run.setRunId("run-current");
+	}
+
+	@Test
+	void purgeTenantDeletesEachPhaseInCheckpointedChunks() {
+		stubAccountLookups();
+		when(maintenanceRunRepository.findFirstByPurgeUserIdAndStatusOrderByStartedAtDesc(USER_ID,
+				MaintenanceRunStatus.FAILED))
+			.thenReturn(Optional.empty());
+		when(bulkDelete.deleteChunk(TenantPurgePhase.PATIENTS, USER_ID, 0L, 2))
+			.thenReturn(new TenantPurgeChunk(11L, 2, List.of("patients/11/photo.png"), List.of("mobile|11")));
+		when(bulkDelete.deleteChunk(TenantPurgePhase.PATIENTS, USER_ID, 11L, 2))
+			.thenReturn(new TenantPurgeChunk(12L, 1, List.of(), List.of()));
+		when(bulkDelete.deleteChunk(TenantPurgePhase.PATIENTS, USER_ID, 12L, 2)).thenReturn(TenantPurgeChunk.empty());
+		when(bulkDelete.deleteChunk(TenantPurgePhase.DIETAS, USER_ID, 0L, 2)).thenReturn(TenantPurgeChunk.empty());
+		when(bulkDelete.deleteChunk(TenantPurgePhase.PLATILLOS, USER_ID, 0L, 2))
+			.thenReturn(new TenantPurgeChunk(30L, 1, List.of("platillo/30/picture.jpg"), List.of()));
+		when(bulkDelete.deleteChunk(TenantPurgePhase.PLATILLOS, USER_ID, 30L, 2)).thenReturn(TenantPurgeChunk.empty());
+
+		service.purgeTenant(ELIGIBLE, run);
+
+		final InOrder order = inOrder(maintenanceRunRepository, mediaStorage);
+		order.verify(maintenanceRunRepository)
+			.updatePurgeCheckpoint("run-current", USER_ID, TenantPurgePhase.PATIENTS, 11L);
+		order.verify(mediaStorage).deleteObjects(List.of("patients/11/photo.png"));
+		order.verify(maintenanceRunRepository)
+			.updatePurgeCheckpoint("run-current", USER_ID, TenantPurgePhase.PATIENTS, 12L);
+		order.verify(maintenanceRunRepository)
+			.updatePurgeCheckpoint("run-current", USER_ID, TenantPurgePhase.PLATILLOS, 30L);
+		order.verify(mediaStorage).deleteObjects(List.of("platillo/30/picture.jpg"));
+		order.verify(maintenanceRunRepository)
+			.updatePurgeCheckpoint("run-current", USER_ID, TenantPurgePhase.ACCOUNT, 0L);
+		verify(authViewCache).invalidate("mobile|11");
+		verify(workingHoursIntervals).deleteByUserId(USER_ID);
+		verify(transactionManager, times(7)).commit(any());
+		assertThat(run.getPurgePhase()).isEqualTo(TenantPurgePhase.ACCOUNT);
+	}
+
+	@Test
+	void purgeTenantResumesAfterFailedRunCheckpoint() {
+		stubAccountLookups();
+		final MaintenanceRun failed = new MaintenanceRun();
+		failed.setRunId("run-failed");
+		failed.setPurgeUserId(USER_ID);
+		failed.setPurgePhase(TenantPurgePhase.DIETAS);
+		failed.setPurgeCursor(40L);
+		when(maintenanceRunRepository.findFirstByPurgeUserIdAndStatusOrderByStartedAtDesc(USER_ID,
+				MaintenanceRunStatus.FAILED))
+			.thenReturn(Optional.of(failed));
+		when(bulkDelete.deleteChunk(TenantPurgePhase.DIETAS, USER_ID, 40L, 2)).thenReturn(TenantPurgeChunk.empty());
+		when(bulkDelete.deleteChunk(TenantPurgePhase.PLATILLOS, USER_ID, 0L, 2)).thenReturn(TenantPurgeChunk.empty());
+
+		service.purgeTenant(ELIGIBLE, run);
+
+		verify(bulkDelete, never()).deleteChunk(eq(TenantPurgePhase.PATIENTS), any(), anyLong(), eq(2));
+		verify(bulkDelete).deleteChunk(TenantPurgePhase.DIETAS, USER_ID, 40L, 2);
+	}
+
+	@Test
+	void failedChunkKeepsLastCommittedCheckpoint() {
+		when(maintenanceRunRepository.findFirstByPurgeUserIdAndStatusOrderByStartedAtDesc(USER_ID,
+				MaintenanceRunStatus.FAILED))
+			.thenReturn(Optional.empty());
+		when(bulkDelete.deleteChunk(TenantPurgePhase.PATIENTS, USER_ID, 0L, 2))
+			.thenReturn(new TenantPurgeChunk(11L, 2, List.of(), List.of()));
+		when(bulkDelete.deleteChunk(TenantPurgePhase.PATIENTS, USER_ID, 11L, 2))
+			.thenThrow(new IllegalStateException("lock timeout"));
+
+		assertThatThrownBy(() -> service.purgeTenant(ELIGIBLE, run)).isInstanceOf(IllegalStateException.class);
+
+		assertThat(run.getPurgePhase()).isEqualTo(TenantPurgePhase.PATIENTS);
+		assertThat(run.getPurgeCursor()).isEqualTo(11L);
+		verify(transactionManager).rollback(any());
+		verify(subscriptions, never()).findById(any());
+	}
+
+	private void stubAccountLookups() {
+		when(availabilitySettings.findByUserId(USER_ID)).thenReturn(Optional.empty());
+		when(availabilityBlocks.findByUserId(USER_ID)).thenReturn(List.of());
+		when(profiles.findByUserId(USER_ID)).thenReturn(Optional.empty());
+		when(clinics.findByDirectorUserId(USER_ID)).thenReturn(Optional.empty());
+		when(clinicMembers.findByUserIdWithClinicAndSubscription(USER_ID)).thenReturn(Optional.empty());
+		when(subscriptions.findById(5L)).thenReturn(Optional.empty());
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.nutriconsultas.subscription.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * The stream buffers one part at a time and only switches to a multipart upload once a
+ * part fills up.
+ */
+@ExtendWith(MockitoExtension.class)
+class S3MultipartOutputStreamTest {
+
+	private static final String KEY = "maintenance/run-1/backup.json.gz";
+
+	@Mock
+	private S3Client client;
+
+	@Test
+	void smallPayloadIsUploadedWithSinglePut() throws IOException {
+		final S3MultipartOutputStream out = new S3MultipartOutputStream(client, "bucket", KEY, "application/gzip", 8);
+
+		out.write(new byte[] { 1, 2, 3 });
+		out.close();
+
+		final ArgumentCaptor<RequestBody> body = ArgumentCaptor.forClass(RequestBody.class);
+		verify(client).putObject(any(PutObjectRequest.class), body.capture());
+		assertThat(body.getValue().optionalContentLength()).contains(3L);
+		verify(client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+	}
+
+	@Test
+	void fullPartsAreUploadedAsTheyFillAndCompletedOnClose() throws IOException {
+		stubMultipart();
+		final S3MultipartOutputStream out = new S3MultipartOutputStream(client, "bucket", KEY, "application/gzip", 4);
+
+		out.write(new byte[10]);
+		out.close();
+
+		final ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+		verify(client, times(3)).uploadPart(parts.capture(), any(RequestBody.class));
+		assertThat(parts.getAllValues()).extracting(UploadPartRequest::partNumber).containsExactly(1, 2, 3);
+		assertThat(parts.getAllValues()).extracting(UploadPartRequest::contentLength).containsExactly(4L, 4L, 2L);
+		final ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor
+			.forClass(CompleteMultipartUploadRequest.class);
+		verify(client).completeMultipartUpload(complete.capture());
+		assertThat(complete.getValue().multipartUpload().parts()).hasSize(3);
+		verify(client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+	}
+
+	@Test
+	void abortDiscardsStartedUploadWithoutCompleting() throws IOException {
+		stubMultipart();
+		final S3MultipartOutputStream out = new S3MultipartOutputStream(client, "bucket", KEY, "application/gzip", 4);
+
+		out.write(new byte[6]);
+		out.abort();
+
+		verify(client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+		verify(client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+	}
+
+	private void stubMultipart() {
+		when(client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+		when(client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.thenReturn(UploadPartResponse.builder().eTag("etag").build());
+	}
+
+}
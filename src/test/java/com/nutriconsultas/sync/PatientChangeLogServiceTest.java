@@ -0,0 +1,96 @@
+package com.nutriconsultas.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PatientChangeLogServiceTest {
+
+	private static final Instant NOW = Instant.parse("2026-10-01T12:00:00Z");
+
+	@Mock
+	private PatientChangeRepository changeRepository;
+
+	private PatientChangeLogServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+		service = new PatientChangeLogServiceImpl(changeRepository, 30, Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	void recordStampsChangeWithClock() {
+		service.record(5L, PatientChangeType.VISIT, 8L, PatientChangeOperation.DELETE);
+
+		final ArgumentCaptor<PatientChange> captor = ArgumentCaptor.forClass(PatientChange.class);
+		verify(changeRepository).save(captor.capture());
+		assertThat(captor.getValue().getPacienteId()).isEqualTo(5L);
+		assertThat(captor.getValue().getEntityType()).isEqualTo(PatientChangeType.VISIT);
+		assertThat(captor.getValue().getEntityId()).isEqualTo(8L);
+		assertThat(captor.getValue().getOperation()).isEqualTo(PatientChangeOperation.DELETE);
+		assertThat(captor.getValue().getChangedAt()).isEqualTo(NOW);
+	}
+
+	@Test
+	void recordSkipsChangesWithoutPatient() {
+		service.record(null, PatientChangeType.VISIT, 8L, PatientChangeOperation.UPSERT);
+
+		verify(changeRepository, never()).save(any());
+	}
+
+	@Test
+	void dietaChangeIsRecordedForEveryAssignmentShowingIt() {
+		when(changeRepository.findAssignmentsShowingDieta(3L))
+			.thenReturn(List.of(assignmentRef(11L, 5L), assignmentRef(12L, 6L)));
+
+		service.recordDietaChanged(3L);
+
+		final ArgumentCaptor<PatientChange> captor = ArgumentCaptor.forClass(PatientChange.class);
+		verify(changeRepository, times(2)).save(captor.capture());
+		assertThat(captor.getAllValues()).extracting(PatientChange::getEntityId).containsExactly(11L, 12L);
+		assertThat(captor.getAllValues()).extracting(PatientChange::getPacienteId).containsExactly(5L, 6L);
+		assertThat(captor.getAllValues()).extracting(PatientChange::getEntityType)
+			.containsOnly(PatientChangeType.DIET_PLAN);
+	}
+
+	@Test
+	void purgeUsesRetentionCutoff() {
+		when(changeRepository.deleteOlderThan(NOW.minus(30, ChronoUnit.DAYS))).thenReturn(4);
+
+		assertThat(service.purgeExpired()).isEqualTo(4);
+	}
+
+	private static PatientChangeRepository.AssignmentRef assignmentRef(final Long assignmentId, final Long pacienteId) {
+		return new PatientChangeRepository.AssignmentRef() {
+
+			@Override
+			public Long getAssignmentId() {
+				return assignmentId;
+			}
+
+			@Override
+			public Long getPacienteId() {
+				return pacienteId;
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,128 @@
+package com.nutriconsultas.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import com.nutriconsultas.dieta.Dieta;
+import com.nutriconsultas.paciente.Paciente;
+import com.nutriconsultas.paciente.PacienteDieta;
+import com.nutriconsultas.paciente.PacienteDietaAssignmentType;
+import com.nutriconsultas.paciente.PacienteDietaWeekday;
+
+/**
+ * The change log is read per patient above a cursor and purged without losing the newest
+ * row.
+ */
+@DataJpaTest
+class PatientChangeRepositoryTest {
+
+	private static final Instant NOW = Instant.parse("2026-10-01T12:00:00Z");
+
+	@Autowired
+	private PatientChangeRepository repository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void readsPatientChangesAboveCursorInIdOrder() {
+		final PatientChange first = persist(1L, PatientChangeType.VISIT, 10L, NOW.minusSeconds(60));
+		persist(2L, PatientChangeType.VISIT, 11L, NOW.minusSeconds(50));
+		final PatientChange third = persist(1L, PatientChangeType.MESSAGE, 12L, NOW.minusSeconds(40));
+		final PatientChange fourth = persist(1L, PatientChangeType.PROGRESS, 1L, NOW);
+
+		final List<PatientChange> changes = repository.findByPacienteIdAndIdGreaterThanOrderByIdAsc(1L, first.getId(),
+				PageRequest.of(0, 10));
+
+		assertThat(changes).extracting(PatientChange::getId).containsExactly(third.getId(), fourth.getId());
+		assertThat(repository.findLatestIdByPacienteIdBefore(1L, NOW)).isEqualTo(third.getId());
+		assertThat(repository.findLatestIdByPacienteIdBefore(3L, NOW)).isZero();
+		assertThat(repository.findOldestId()).isEqualTo(first.getId());
+	}
+
+	@Test
+	void purgeKeepsNewestRowEvenWhenExpired() {
+		persist(1L, PatientChangeType.VISIT, 10L, NOW.minusSeconds(300));
+		final PatientChange newest = persist(2L, PatientChangeType.VISIT, 11L, NOW.minusSeconds(200));
+
+		assertThat(repository.deleteOlderThan(NOW)).isEqualTo(1);
+		entityManager.clear();
+
+		assertThat(repository.findAll()).extracting(PatientChange::getId).containsExactly(newest.getId());
+		assertThat(repository.findOldestId()).isEqualTo(newest.getId());
+	}
+
+	@Test
+	void findsAssignmentsShowingDietaDirectlyOrByWeekday() {
+		final Paciente paciente = persistPaciente();
+		final Dieta shared = persistDieta("Compartida");
+		final Dieta other = persistDieta("Otra");
+		final PacienteDieta direct = persistAssignment(paciente, shared, PacienteDietaAssignmentType.DATE_RANGE);
+		final PacienteDieta weekly = persistAssignment(paciente, null, PacienteDietaAssignmentType.WEEKLY);
+		addWeekday(weekly, 1, shared);
+		addWeekday(weekly, 2, shared);
+		addWeekday(weekly, 3, other);
+		persistAssignment(paciente, other, PacienteDietaAssignmentType.DATE_RANGE);
+		entityManager.flush();
+
+		final List<PatientChangeRepository.AssignmentRef> refs = repository.findAssignmentsShowingDieta(shared.getId());
+
+		assertThat(refs).extracting(PatientChangeRepository.AssignmentRef::getAssignmentId)
+			.containsExactlyInAnyOrder(direct.getId(), weekly.getId());
+		assertThat(refs).extracting(PatientChangeRepository.AssignmentRef::getPacienteId)
+			.containsOnly(paciente.getId());
+	}
+
+	private PatientChange persist(final Long pacienteId, final PatientChangeType type, final Long entityId,
+			final Instant changedAt) {
+		return entityManager.persistAndFlush(
+				new PatientChange(null, pacienteId, type, entityId, PatientChangeOperation.UPSERT, changedAt));
+	}
+
+	private Paciente persistPaciente() {
+		final Paciente paciente = new Paciente();
+		paciente.setName("Sync Patient");
+		paciente.setUserId("nutritionist-sub");
+		paciente.setDob(Date.from(LocalDate.now().minusYears(30).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+		paciente.setGender("F");
+		return entityManager.persist(paciente);
+	}
+
+	private Dieta persistDieta(final String nombre) {
+		final Dieta dieta = new Dieta();
+		dieta.setNombre(nombre);
+		dieta.setUserId("nutritionist-sub");
+		return entityManager.persist(dieta);
+	}
+
+	private PacienteDieta persistAssignment(final Paciente paciente, final Dieta dieta,
+			final PacienteDietaAssignmentType type) {
+		final PacienteDieta assignment = new PacienteDieta();
+		assignment.setPaciente(paciente);
+		assignment.setDieta(dieta);
+		assignment.setAssignmentType(type);
+		assignment.setStartDate(new Date());
+		return entityManager.persist(assignment);
+	}
+
+	private void addWeekday(final PacienteDieta assignment, final int dayOfWeek, final Dieta dieta) {
+		final PacienteDietaWeekday slot = new PacienteDietaWeekday();
+		slot.setPacienteDieta(assignment);
+		slot.setDayOfWeek(dayOfWeek);
+		slot.setDieta(dieta);
+		assignment.getWeekdaySlots().add(slot);
+		entityManager.persist(slot);
+	}
+
+}
@@ -0,0 +1,24 @@
+package com.nutriconsultas.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class IfNoneMatchTest {
+
+	private static final String ETAG = "\"cal-f1-abc\"";
+
+	@Test
+	void missingHeaderNeverMatches() {
+		assertThat(IfNoneMatch.matches(null, ETAG)).isFalse();
+		assertThat(IfNoneMatch.matches(" ", ETAG)).isFalse();
+	}
+
+	@Test
+	void matchesAnyListedTagUsingWeakComparison() {
+		assertThat(IfNoneMatch.matches("\"other\", W/\"cal-f1-abc\"", ETAG)).isTrue();
+		assertThat(IfNoneMatch.matches("*", ETAG)).isTrue();
+		assertThat(IfNoneMatch.matches("\"other\"", ETAG)).isFalse();
+	}
+
+}
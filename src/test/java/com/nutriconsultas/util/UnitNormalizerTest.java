@@ -0,0 +1,30 @@
+package com.nutriconsultas.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class UnitNormalizerTest {
+
+	@Test
+	void normalize_mapsCaseSpacingAndPluralsToOneSpelling() {
+		assertThat(UnitNormalizer.normalize(" Tazas ")).isEqualTo("taza");
+		assertThat(UnitNormalizer.normalize("G")).isEqualTo("g");
+		assertThat(UnitNormalizer.normalize("gramos")).isEqualTo("g");
+		assertThat(UnitNormalizer.normalize("pzas.")).isEqualTo("pieza");
+		assertThat(UnitNormalizer.normalize("cuchrada")).isEqualTo("cucharada");
+	}
+
+	@Test
+	void normalize_keepsDescriptiveWordsAfterTheUnit() {
+		assertThat(UnitNormalizer.normalize("Piezas  mediana")).isEqualTo("pieza mediana");
+		assertThat(UnitNormalizer.normalize("rebanada delgada")).isEqualTo("rebanada delgada");
+	}
+
+	@Test
+	void normalize_returnsNullForMissingUnit() {
+		assertThat(UnitNormalizer.normalize(null)).isNull();
+		assertThat(UnitNormalizer.normalize("  ")).isNull();
+	}
+
+}